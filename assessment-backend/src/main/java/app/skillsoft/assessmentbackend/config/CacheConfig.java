@@ -15,7 +15,7 @@ import java.time.Duration;
  *
  * Provides caching for expensive external service calls:
  * - O*NET profiles: Static occupation data with 24-hour TTL
- * - Team profiles: Team saturation data with 15-minute TTL
+ * - Team profiles: Team saturation data with 2-minute TTL
  * - Passport scores: Candidate competency data with 1-hour TTL
  *
  * Cache statistics are recorded for monitoring via Spring Actuator.
@@ -48,11 +48,12 @@ public class CacheConfig {
                 .recordStats()
                 .build());
 
-        // Team profiles - changes more frequently with team composition
-        // 15-minute TTL, max 200 entries (active teams)
+        // Team profiles - L1 over materialized snapshots, evicted on every team change;
+        // the TTL only bounds how long another node serves a profile changed elsewhere
+        // 2-minute TTL, max 200 entries (active teams)
         manager.registerCustomCache(TEAM_PROFILES_CACHE,
             Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofMinutes(15))
+                .expireAfterWrite(Duration.ofMinutes(2))
                 .maximumSize(200)
                 .recordStats()
                 .build());
@@ -11,6 +11,10 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * - Share link expiration
  * - Other periodic maintenance tasks
  *
+ * The scheduler pool is sized by spring.task.scheduling.pool.size. With Spring's default
+ * single thread, one long job (nightly audit, cleanup, index rebuilds) would hold up the
+ * second-scale loops: scoring job dispatch, session deadlines and hot-state write-behind.
+ *
  * Can be disabled via property: skillsoft.scheduling.enabled=false
  */
 @Configuration
@@ -15,6 +15,7 @@ import org.springframework.context.annotation.Configuration;
  * skillsoft.session.cleanup.cron=0 0 3 * * ?
  * skillsoft.session.cleanup.stale-hours=24
  * skillsoft.session.cleanup.delete-empty-after-days=7
+ * skillsoft.session.cleanup.chunk-size=500
  * </pre>
  */
 @Configuration
@@ -49,6 +50,12 @@ public class SessionCleanupProperties {
      */
     private int deleteEmptyAfterDays = 7;
 
+    /**
+     * Maximum sessions updated or deleted per statement (and transaction).
+     * Default: 500
+     */
+    private int chunkSize = 500;
+
     // Getters and setters
 
     public boolean isEnabled() {
@@ -82,4 +89,12 @@ public class SessionCleanupProperties {
     public void setDeleteEmptyAfterDays(int deleteEmptyAfterDays) {
         this.deleteEmptyAfterDays = deleteEmptyAfterDays;
     }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
 }
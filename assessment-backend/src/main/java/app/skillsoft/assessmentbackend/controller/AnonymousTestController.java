@@ -4,22 +4,29 @@ import app.skillsoft.assessmentbackend.domain.dto.AnonymousResultDetailDto;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousSessionRequest;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousSessionResponse;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousTakerInfoRequest;
+import app.skillsoft.assessmentbackend.domain.dto.AnswerSubmissionResult;
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
 import app.skillsoft.assessmentbackend.domain.dto.TestAnswerDto;
-import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
 import app.skillsoft.assessmentbackend.services.AnonymousTestService;
 import app.skillsoft.assessmentbackend.services.TestSessionService;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobNotifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -61,9 +68,12 @@ public class AnonymousTestController {
     private static final String SESSION_TOKEN_HEADER = "X-Session-Token";
 
     private final AnonymousTestService anonymousTestService;
+    private final ScoringJobNotifier scoringJobNotifier;
 
-    public AnonymousTestController(AnonymousTestService anonymousTestService) {
+    public AnonymousTestController(AnonymousTestService anonymousTestService,
+                                   ScoringJobNotifier scoringJobNotifier) {
         this.anonymousTestService = anonymousTestService;
+        this.scoringJobNotifier = scoringJobNotifier;
     }
 
     // ==================== SESSION LIFECYCLE ====================
@@ -139,11 +149,13 @@ public class AnonymousTestController {
      *
      * @param sessionId Session UUID
      * @param sessionToken Session access token from header
+     * @param lookahead Number of following questions to include (0-10, default 0)
      * @return Current question with navigation context (200 OK)
      */
     @Operation(
             summary = "Get current question",
-            description = "Get the current question in the test session."
+            description = "Get the current question in the test session. With lookahead=N the " +
+                    "following N questions and their previous answers are included for prefetching."
     )
     @ApiResponse(responseCode = "200", description = "Question retrieved successfully")
     @ApiResponse(responseCode = "401", description = "Invalid or missing session token")
@@ -151,12 +163,14 @@ public class AnonymousTestController {
     @GetMapping("/sessions/{sessionId}/current-question")
     public ResponseEntity<TestSessionService.CurrentQuestionDto> getCurrentQuestion(
             @PathVariable UUID sessionId,
-            @RequestHeader(SESSION_TOKEN_HEADER) String sessionToken) {
+            @RequestHeader(SESSION_TOKEN_HEADER) String sessionToken,
+            @Parameter(description = "Number of following questions to include (0-10)")
+            @RequestParam(defaultValue = "0") int lookahead) {
 
-        log.debug("GET /api/v1/anonymous/sessions/{}/current-question", sessionId);
+        log.debug("GET /api/v1/anonymous/sessions/{}/current-question - lookahead: {}", sessionId, lookahead);
 
         TestSessionService.CurrentQuestionDto question =
-                anonymousTestService.getCurrentQuestion(sessionId, sessionToken);
+                anonymousTestService.getCurrentQuestion(sessionId, sessionToken, lookahead);
 
         return ResponseEntity.ok(question);
     }
@@ -195,6 +209,39 @@ public class AnonymousTestController {
         return ResponseEntity.ok(answer);
     }
 
+    /**
+     * Submit several answers at once.
+     *
+     * @param sessionId Session UUID
+     * @param sessionToken Session access token from header
+     * @param request Answers to submit
+     * @return One result per answer, in request order (200 OK)
+     */
+    @Operation(
+            summary = "Submit answers in batch",
+            description = "Submit several answers in one request. Each answer is validated individually; " +
+                    "rejected answers are reported in the result without failing the others."
+    )
+    @ApiResponse(responseCode = "200", description = "Batch processed; see per-answer results")
+    @ApiResponse(responseCode = "401", description = "Invalid or missing session token")
+    @ApiResponse(responseCode = "400", description = "Empty or oversized batch, or session not in progress")
+    @PostMapping("/sessions/{sessionId}/answers/batch")
+    public ResponseEntity<List<AnswerSubmissionResult>> submitAnswers(
+            @PathVariable UUID sessionId,
+            @RequestHeader(SESSION_TOKEN_HEADER) String sessionToken,
+            @Valid @RequestBody BatchAnswerSubmissionRequest request) {
+
+        log.debug("POST /api/v1/anonymous/sessions/{}/answers/batch - {} answers",
+                sessionId, request.answers().size());
+
+        List<AnonymousTestService.AnswerSelection> selections = request.answers().stream()
+                .map(answer -> new AnonymousTestService.AnswerSelection(
+                        answer.questionId(), answer.selectedOptionIndex()))
+                .toList();
+
+        return ResponseEntity.ok(anonymousTestService.submitAnswers(sessionId, sessionToken, selections));
+    }
+
     /**
      * Navigate to a specific question.
      *
@@ -259,23 +306,23 @@ public class AnonymousTestController {
     /**
      * Complete the test session with taker information.
      *
-     * <p>Collects optional taker information, calculates results, and
-     * marks the session as completed. Results are returned immediately.</p>
+     * <p>Collects optional taker information, marks the session as completed and
+     * queues it for scoring. Results are delivered by the scoring status endpoints.</p>
      *
      * @param sessionId Session UUID
      * @param sessionToken Session access token from header
      * @param takerInfo Anonymous taker information (name, optional email/notes)
-     * @return Test results (200 OK)
+     * @return Scoring job handle (202 Accepted)
      */
     @Operation(
             summary = "Complete test session",
-            description = "Submit taker information and complete the test. Returns results."
+            description = "Submit taker information and complete the test. Returns a scoring job handle."
     )
-    @ApiResponse(responseCode = "200", description = "Test completed successfully")
+    @ApiResponse(responseCode = "202", description = "Test completed, scoring queued")
     @ApiResponse(responseCode = "401", description = "Invalid or missing session token")
     @ApiResponse(responseCode = "400", description = "Invalid taker information")
     @PostMapping("/sessions/{sessionId}/complete")
-    public ResponseEntity<TestResultDto> completeSession(
+    public ResponseEntity<ScoringJobDto> completeSession(
             @PathVariable UUID sessionId,
             @RequestHeader(SESSION_TOKEN_HEADER) String sessionToken,
             @Valid @RequestBody AnonymousTakerInfoRequest takerInfo) {
@@ -283,14 +330,61 @@ public class AnonymousTestController {
         log.debug("POST /api/v1/anonymous/sessions/{}/complete - taker: {} {}",
                 sessionId, takerInfo.firstName(), takerInfo.lastName());
 
-        TestResultDto result = anonymousTestService.completeSession(
+        ScoringJobDto job = anonymousTestService.completeSession(
                 sessionId, sessionToken, takerInfo
         );
 
-        log.info("Anonymous session {} completed with score: {}%",
-                sessionId, result.overallPercentage());
+        log.info("Anonymous session {} completed, scoring job {} {}",
+                sessionId, job.jobId(), job.status());
 
-        return ResponseEntity.ok(result);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Get the scoring status of a finished session.
+     *
+     * @param sessionId Session UUID
+     * @param sessionToken Session access token from header
+     * @return Scoring job status, with the test result once COMPLETED (200 OK)
+     */
+    @Operation(
+            summary = "Get scoring status",
+            description = "Poll the scoring job of a finished session. Contains the result once COMPLETED."
+    )
+    @ApiResponse(responseCode = "200", description = "Scoring status retrieved successfully")
+    @ApiResponse(responseCode = "401", description = "Invalid or missing session token")
+    @ApiResponse(responseCode = "404", description = "Session was never queued for scoring")
+    @GetMapping("/sessions/{sessionId}/scoring")
+    public ResponseEntity<ScoringJobDto> getScoringStatus(
+            @PathVariable UUID sessionId,
+            @RequestHeader(SESSION_TOKEN_HEADER) String sessionToken) {
+
+        log.debug("GET /api/v1/anonymous/sessions/{}/scoring", sessionId);
+
+        return ResponseEntity.ok(anonymousTestService.getScoringStatus(sessionId, sessionToken));
+    }
+
+    /**
+     * Stream the scoring status of a finished session as Server-Sent Events.
+     *
+     * @param sessionId Session UUID
+     * @param sessionToken Session access token from header
+     * @return Event stream that ends once the job is COMPLETED or FAILED
+     */
+    @Operation(
+            summary = "Stream scoring status",
+            description = "Server-Sent Events stream of the scoring job, ending with the result or the failure."
+    )
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    @ApiResponse(responseCode = "401", description = "Invalid or missing session token")
+    @GetMapping(value = "/sessions/{sessionId}/scoring/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScoringStatus(
+            @PathVariable UUID sessionId,
+            @RequestHeader(SESSION_TOKEN_HEADER) String sessionToken) {
+
+        log.debug("GET /api/v1/anonymous/sessions/{}/scoring/stream", sessionId);
+
+        return scoringJobNotifier.subscribe(anonymousTestService.getScoringStatus(sessionId, sessionToken));
     }
 
     /**
@@ -357,4 +451,13 @@ public class AnonymousTestController {
             UUID questionId,
             int selectedOptionIndex
     ) {}
+
+    /**
+     * Request body for submitting several answers at once.
+     *
+     * @param answers The answers to submit (at most 500)
+     */
+    public record BatchAnswerSubmissionRequest(
+            @NotEmpty @Size(max = 500) List<AnswerSubmissionRequest> answers
+    ) {}
 }
@@ -7,6 +7,7 @@ import app.skillsoft.assessmentbackend.repository.CompetencyReliabilityRepositor
 import app.skillsoft.assessmentbackend.repository.ItemStatisticsRepository;
 import app.skillsoft.assessmentbackend.services.psychometrics.PsychometricAnalysisService;
 import app.skillsoft.assessmentbackend.services.psychometrics.PsychometricAuditJob;
+import app.skillsoft.assessmentbackend.services.psychometrics.PsychometricHealthSnapshot;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +47,7 @@ public class PsychometricController {
 
     private final PsychometricAnalysisService analysisService;
     private final PsychometricAuditJob auditJob;
+    private final PsychometricHealthSnapshot healthSnapshot;
     private final ItemStatisticsRepository itemStatsRepository;
     private final CompetencyReliabilityRepository competencyReliabilityRepository;
     private final BigFiveReliabilityRepository bigFiveReliabilityRepository;
@@ -53,11 +55,13 @@ public class PsychometricController {
     public PsychometricController(
             PsychometricAnalysisService analysisService,
             PsychometricAuditJob auditJob,
+            PsychometricHealthSnapshot healthSnapshot,
             ItemStatisticsRepository itemStatsRepository,
             CompetencyReliabilityRepository competencyReliabilityRepository,
             BigFiveReliabilityRepository bigFiveReliabilityRepository) {
         this.analysisService = analysisService;
         this.auditJob = auditJob;
+        this.healthSnapshot = healthSnapshot;
         this.itemStatsRepository = itemStatsRepository;
         this.competencyReliabilityRepository = competencyReliabilityRepository;
         this.bigFiveReliabilityRepository = bigFiveReliabilityRepository;
@@ -73,6 +77,9 @@ public class PsychometricController {
      * - Competency reliability distribution
      * - Top flagged items
      * - Big Five reliability summary
+     * <p>
+     * Served from a snapshot refreshed by the audit job and after status changes,
+     * not regenerated per request.
      *
      * @return PsychometricHealthReport with aggregated metrics
      */
@@ -80,7 +87,7 @@ public class PsychometricController {
     public ResponseEntity<PsychometricHealthReport> getDashboard() {
         logger.info("GET /api/v1/psychometrics/dashboard - Getting health report");
 
-        PsychometricHealthReport report = analysisService.generateHealthReport();
+        PsychometricHealthReport report = healthSnapshot.current();
         logger.info("Generated health report: {} items, {} competencies",
                 report.totalItems(), report.totalCompetencies());
 
@@ -203,12 +210,8 @@ public class PsychometricController {
                             return ResponseEntity.badRequest().<ItemStatisticsDetailDto>build();
                         }
                     } else {
-                        // For other status changes, update directly with audit trail
-                        ItemValidityStatus oldStatus = stats.getValidityStatus();
-                        stats.setValidityStatus(request.newStatus());
-                        stats.addStatusChange(oldStatus, request.newStatus(),
-                                java.time.LocalDateTime.now(), request.reason());
-                        itemStatsRepository.save(stats);
+                        // Other status changes go through the service for audit trail and events
+                        analysisService.overrideItemStatus(questionId, request.newStatus(), request.reason());
                     }
 
                     // Reload and return updated stats
@@ -359,6 +362,21 @@ public class PsychometricController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Get the progress of the current or most recent audit run.
+     *
+     * @return Audit run progress, or 404 if no audit has run yet
+     */
+    @GetMapping("/audit/status")
+    public ResponseEntity<PsychometricAuditRunDto> getAuditStatus() {
+        logger.info("GET /api/v1/psychometrics/audit/status");
+
+        return auditJob.latestAuditRun()
+                .map(PsychometricAuditRunDto::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // ==================== MAPPING METHODS ====================
 
     private ItemStatisticsDto mapToItemStatisticsDto(ItemStatistics stats) {
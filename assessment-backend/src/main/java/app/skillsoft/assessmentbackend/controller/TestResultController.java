@@ -4,7 +4,9 @@ import app.skillsoft.assessmentbackend.domain.dto.QuestionScoreDto;
 import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
 import app.skillsoft.assessmentbackend.domain.dto.TestResultSummaryDto;
 import app.skillsoft.assessmentbackend.services.TestResultService;
+import app.skillsoft.assessmentbackend.services.scoring.PercentileRerankJob;
 import app.skillsoft.assessmentbackend.services.scoring.QuestionScoreService;
+import app.skillsoft.assessmentbackend.services.scoring.ResultRescoreJob;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -12,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -36,11 +39,17 @@ public class TestResultController {
 
     private final TestResultService testResultService;
     private final QuestionScoreService questionScoreService;
+    private final PercentileRerankJob percentileRerankJob;
+    private final ResultRescoreJob resultRescoreJob;
 
     public TestResultController(TestResultService testResultService,
-                                QuestionScoreService questionScoreService) {
+                                QuestionScoreService questionScoreService,
+                                PercentileRerankJob percentileRerankJob,
+                                ResultRescoreJob resultRescoreJob) {
         this.testResultService = testResultService;
         this.questionScoreService = questionScoreService;
+        this.percentileRerankJob = percentileRerankJob;
+        this.resultRescoreJob = resultRescoreJob;
     }
 
     // ==================== RESULT RETRIEVAL ====================
@@ -327,4 +336,73 @@ public class TestResultController {
         
         return ResponseEntity.ok(results);
     }
+
+    /**
+     * Re-rank stored percentiles in the background, over whole template histories.
+     *
+     * @param templateId Template to re-rank (all templates with scored results if omitted)
+     * @return 202 with the started run, or 409 with the run already in progress
+     */
+    @PostMapping("/percentiles/rerank")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PercentileRerankJob.RerankStatus> rerankPercentiles(
+            @RequestParam(required = false) UUID templateId) {
+        logger.info("POST /api/v1/tests/results/percentiles/rerank?templateId={}", templateId);
+
+        return percentileRerankJob.start(templateId)
+                .map(started -> ResponseEntity.status(HttpStatus.ACCEPTED).body(started))
+                .orElseGet(() -> {
+                    logger.warn("Percentile re-rank already in progress");
+                    return ResponseEntity.status(HttpStatus.CONFLICT).body(percentileRerankJob.status());
+                });
+    }
+
+    /**
+     * Get the progress of the current or last percentile re-rank.
+     *
+     * @return Re-rank status
+     */
+    @GetMapping("/percentiles/rerank")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PercentileRerankJob.RerankStatus> getRerankStatus() {
+        logger.info("GET /api/v1/tests/results/percentiles/rerank");
+
+        return ResponseEntity.ok(percentileRerankJob.status());
+    }
+
+    /**
+     * Re-score the completed results of a template in the background, with the current
+     * scoring configuration and question pool.
+     *
+     * @param templateId Template whose results are re-scored
+     * @param dryRun     Report the changes without writing them
+     * @return 202 with the started run, or 409 with the run already in progress
+     */
+    @PostMapping("/rescore")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResultRescoreJob.RescoreStatus> rescoreResults(
+            @RequestParam UUID templateId,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        logger.info("POST /api/v1/tests/results/rescore?templateId={}&dryRun={}", templateId, dryRun);
+
+        return resultRescoreJob.start(templateId, dryRun)
+                .map(started -> ResponseEntity.status(HttpStatus.ACCEPTED).body(started))
+                .orElseGet(() -> {
+                    logger.warn("Result re-scoring already in progress");
+                    return ResponseEntity.status(HttpStatus.CONFLICT).body(resultRescoreJob.status());
+                });
+    }
+
+    /**
+     * Get the progress, changes and throughput of the current or last re-scoring run.
+     *
+     * @return Re-scoring status
+     */
+    @GetMapping("/rescore")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResultRescoreJob.RescoreStatus> getRescoreStatus() {
+        logger.info("GET /api/v1/tests/results/rescore");
+
+        return ResponseEntity.ok(resultRescoreJob.status());
+    }
 }
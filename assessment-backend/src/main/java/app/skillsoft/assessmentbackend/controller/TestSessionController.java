@@ -10,6 +10,7 @@ import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.repository.TestTemplateRepository;
 import app.skillsoft.assessmentbackend.services.TestSessionService;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobNotifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
@@ -20,9 +21,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
 
@@ -48,18 +51,21 @@ public class TestSessionController {
     private final CompetencyRepository competencyRepository;
     private final BehavioralIndicatorRepository indicatorRepository;
     private final AssessmentQuestionRepository questionRepository;
+    private final ScoringJobNotifier scoringJobNotifier;
 
     public TestSessionController(
             TestSessionService testSessionService,
             TestTemplateRepository templateRepository,
             CompetencyRepository competencyRepository,
             BehavioralIndicatorRepository indicatorRepository,
-            AssessmentQuestionRepository questionRepository) {
+            AssessmentQuestionRepository questionRepository,
+            ScoringJobNotifier scoringJobNotifier) {
         this.testSessionService = testSessionService;
         this.templateRepository = templateRepository;
         this.competencyRepository = competencyRepository;
         this.indicatorRepository = indicatorRepository;
         this.questionRepository = questionRepository;
+        this.scoringJobNotifier = scoringJobNotifier;
     }
 
     // ==================== SESSION LIFECYCLE ====================
@@ -165,21 +171,50 @@ public class TestSessionController {
     /**
      * Complete a test session.
      *
-     * Calculates scores and generates the test result.
-     * Session must be in IN_PROGRESS status.
+     * Marks the session as completed and queues it for scoring; responds without
+     * waiting for the result. Session must be in IN_PROGRESS status.
      *
      * @param sessionId Session UUID to complete
-     * @return Test result with scores
+     * @return 202 with the scoring job handle
      */
     @PostMapping("/{sessionId}/complete")
     @PreAuthorize("@sessionSecurity.isSessionOwner(#sessionId)")
-    public ResponseEntity<TestResultDto> completeSession(@PathVariable UUID sessionId) {
+    public ResponseEntity<ScoringJobDto> completeSession(@PathVariable UUID sessionId) {
         logger.debug("POST /api/v1/tests/sessions/{}/complete", sessionId);
 
         // Let GlobalExceptionHandler handle exceptions
-        TestResultDto result = testSessionService.completeSession(sessionId);
-        logger.info("Completed session {}, score: {}%", sessionId, result.overallPercentage());
-        return ResponseEntity.ok(result);
+        ScoringJobDto job = testSessionService.completeSession(sessionId);
+        logger.info("Completed session {}, scoring job {} {}", sessionId, job.jobId(), job.status());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Get the scoring status of a finished session.
+     *
+     * @param sessionId Session UUID
+     * @return Scoring job status, with the test result once COMPLETED
+     */
+    @GetMapping("/{sessionId}/scoring")
+    @PreAuthorize("@sessionSecurity.isSessionOwner(#sessionId)")
+    public ResponseEntity<ScoringJobDto> getScoringStatus(@PathVariable UUID sessionId) {
+        logger.debug("GET /api/v1/tests/sessions/{}/scoring", sessionId);
+
+        return ResponseEntity.ok(testSessionService.getScoringStatus(sessionId));
+    }
+
+    /**
+     * Stream the scoring status of a finished session as Server-Sent Events.
+     * The stream ends once the job is COMPLETED (with the result) or FAILED.
+     *
+     * @param sessionId Session UUID
+     * @return Event stream of scoring job statuses
+     */
+    @GetMapping(value = "/{sessionId}/scoring/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@sessionSecurity.isSessionOwner(#sessionId)")
+    public SseEmitter streamScoringStatus(@PathVariable UUID sessionId) {
+        logger.debug("GET /api/v1/tests/sessions/{}/scoring/stream", sessionId);
+
+        return scoringJobNotifier.subscribe(testSessionService.getScoringStatus(sessionId));
     }
 
     /**
@@ -233,6 +268,32 @@ public class TestSessionController {
         return ResponseEntity.ok(answer);
     }
 
+    /**
+     * Submit several answers in one request.
+     *
+     * Each answer is validated individually; rejected answers are reported in the
+     * result list without failing the others.
+     *
+     * @param sessionId Session UUID
+     * @param request Answers to submit (at most 500)
+     * @return One result per answer, in request order
+     */
+    @PostMapping("/{sessionId}/answers/batch")
+    @PreAuthorize("@sessionSecurity.isSessionOwner(#sessionId)")
+    public ResponseEntity<List<AnswerSubmissionResult>> submitAnswers(
+            @PathVariable UUID sessionId,
+            @Valid @RequestBody SubmitAnswersRequest request) {
+        logger.debug("POST /api/v1/tests/sessions/{}/answers/batch - {} answers",
+                sessionId, request.answers().size());
+
+        List<SubmitAnswerRequest> answers = request.answers().stream()
+                .map(answer -> answer.toRequest(sessionId))
+                .toList();
+
+        List<AnswerSubmissionResult> results = testSessionService.submitAnswers(sessionId, answers);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Get all answers for a session.
      *
@@ -262,16 +323,22 @@ public class TestSessionController {
      * - ResourceNotFoundException -> 404 Not Found
      * - IllegalStateException -> 400 Bad Request
      *
+     * With lookahead=N the following N questions (and their previous answers) are
+     * included so the client can prefetch them.
+     *
      * @param sessionId Session UUID
+     * @param lookahead Number of following questions to include (0-10, default 0)
      * @return Current question details
      */
     @GetMapping("/{sessionId}/current-question")
     @PreAuthorize("@sessionSecurity.isSessionOwner(#sessionId)")
-    public ResponseEntity<TestSessionService.CurrentQuestionDto> getCurrentQuestion(@PathVariable UUID sessionId) {
-        logger.debug("GET /api/v1/tests/sessions/{}/current-question", sessionId);
+    public ResponseEntity<TestSessionService.CurrentQuestionDto> getCurrentQuestion(
+            @PathVariable UUID sessionId,
+            @RequestParam(defaultValue = "0") int lookahead) {
+        logger.debug("GET /api/v1/tests/sessions/{}/current-question - lookahead: {}", sessionId, lookahead);
 
         // Let GlobalExceptionHandler handle ResourceNotFoundException and IllegalStateException
-        TestSessionService.CurrentQuestionDto question = testSessionService.getCurrentQuestion(sessionId);
+        TestSessionService.CurrentQuestionDto question = testSessionService.getCurrentQuestion(sessionId, lookahead);
 
         logger.debug("Current question {}/{} for session {}",
                 question.questionIndex() + 1, question.totalQuestions(), sessionId);
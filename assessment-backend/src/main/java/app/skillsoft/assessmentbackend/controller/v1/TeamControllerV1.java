@@ -6,6 +6,8 @@ import app.skillsoft.assessmentbackend.repository.UserRepository;
 import app.skillsoft.assessmentbackend.security.SessionSecurityService;
 import app.skillsoft.assessmentbackend.services.external.TeamService;
 import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
+import app.skillsoft.assessmentbackend.services.team.TeamFitRankingService;
+import app.skillsoft.assessmentbackend.services.team.TeamFitRankingService.Candidate;
 import app.skillsoft.assessmentbackend.services.team.TeamMapper;
 import app.skillsoft.assessmentbackend.services.team.TeamOrchestrationService;
 import app.skillsoft.assessmentbackend.services.team.TeamQueryService;
@@ -52,6 +54,7 @@ public class TeamControllerV1 {
     private final TeamMapper teamMapper;
     private final UserRepository userRepository;
     private final SessionSecurityService sessionSecurity;
+    private final TeamFitRankingService fitRankingService;
 
     public TeamControllerV1(
             TeamQueryService queryService,
@@ -59,13 +62,15 @@ public class TeamControllerV1 {
             TeamService teamService,
             TeamMapper teamMapper,
             UserRepository userRepository,
-            SessionSecurityService sessionSecurity) {
+            SessionSecurityService sessionSecurity,
+            TeamFitRankingService fitRankingService) {
         this.queryService = queryService;
         this.orchestrationService = orchestrationService;
         this.teamService = teamService;
         this.teamMapper = teamMapper;
         this.userRepository = userRepository;
         this.sessionSecurity = sessionSecurity;
+        this.fitRankingService = fitRankingService;
     }
 
     // ==================== Team CRUD ====================
@@ -301,6 +306,34 @@ public class TeamControllerV1 {
         return ResponseEntity.ok(Map.of("fitScore", fitScore));
     }
 
+    /**
+     * Rank a shortlist of candidates by fit against team gaps, best first.
+     * Candidates given by clerk ID are scored on their latest completed results.
+     */
+    @PostMapping("/{teamId}/fit-ranking")
+    public ResponseEntity<TeamFitRankingDto> rankCandidates(
+            @PathVariable UUID teamId,
+            @Valid @RequestBody RankCandidatesRequest request) {
+        int candidateCount = (request.candidates() != null ? request.candidates().size() : 0)
+                + (request.clerkUserIds() != null ? request.clerkUserIds().size() : 0);
+        logger.info("POST /api/v1/teams/{}/fit-ranking - {} candidates", teamId, candidateCount);
+
+        if (!teamService.isValidTeam(teamId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<Candidate> candidates = request.candidates() == null ? List.of() : request.candidates().stream()
+                .map(c -> new Candidate(c.candidateId(), c.competencyScores()))
+                .toList();
+
+        return fitRankingService.rankCandidates(teamId, candidates, request.clerkUserIds())
+                .map(ranking -> ResponseEntity.ok(mapFitRanking(ranking)))
+                .orElseGet(() -> {
+                    logger.warn("Team profile not available for ranking on team {}", teamId);
+                    return ResponseEntity.notFound().build();
+                });
+    }
+
     // ==================== Current User's Teams ====================
 
     /**
@@ -355,6 +388,21 @@ public class TeamControllerV1 {
                         "User not found for Clerk ID: " + clerkId));
     }
 
+    private TeamFitRankingDto mapFitRanking(TeamFitRankingService.Ranking ranking) {
+        List<RankedCandidateDto> candidates = ranking.candidates().stream()
+                .map(c -> new RankedCandidateDto(
+                        c.rank(),
+                        c.candidateId(),
+                        c.fitScore(),
+                        c.contributions().stream()
+                                .map(g -> new GapContributionDto(g.competencyId(), g.candidateScore(), g.contribution()))
+                                .toList()
+                ))
+                .toList();
+
+        return new TeamFitRankingDto(ranking.teamId(), ranking.skillGaps(), candidates);
+    }
+
     private TeamProfileDto mapTeamProfile(TeamProfile profile) {
         List<TeamMemberSummaryDto> members = profile.members().stream()
                 .map(m -> new TeamMemberSummaryDto(
@@ -0,0 +1,28 @@
+package app.skillsoft.assessmentbackend.domain.dto;
+
+import java.util.UUID;
+
+/**
+ * Per-item outcome of a batch answer submission.
+ * Rejected items carry the reason; accepted items carry the stored answer.
+ */
+public record AnswerSubmissionResult(
+        UUID questionId,
+        boolean accepted,
+        TestAnswerDto answer,
+        String error
+) {
+    /**
+     * Factory method for an answer that was stored.
+     */
+    public static AnswerSubmissionResult accepted(UUID questionId, TestAnswerDto answer) {
+        return new AnswerSubmissionResult(questionId, true, answer, null);
+    }
+
+    /**
+     * Factory method for an answer that was not stored.
+     */
+    public static AnswerSubmissionResult rejected(UUID questionId, String error) {
+        return new AnswerSubmissionResult(questionId, false, null, error);
+    }
+}
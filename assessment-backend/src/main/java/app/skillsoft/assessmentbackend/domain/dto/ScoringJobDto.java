@@ -0,0 +1,65 @@
+package app.skillsoft.assessmentbackend.domain.dto;
+
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJob;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Handle of an asynchronous scoring job, returned when a session is completed and by
+ * the scoring status endpoints.
+ *
+ * @param jobId       Scoring job ID (null for sessions scored before jobs existed)
+ * @param sessionId   The scored session
+ * @param status      Job status; COMPLETED and FAILED are final
+ * @param attempts    Attempts started so far
+ * @param queuedAt    When the job was queued
+ * @param completedAt When the job reached a final status
+ * @param error       Error of the last failed attempt, if any
+ * @param result      The scored result once the job is COMPLETED, otherwise null
+ */
+public record ScoringJobDto(
+        UUID jobId,
+        UUID sessionId,
+        ScoringJobStatus status,
+        int attempts,
+        LocalDateTime queuedAt,
+        LocalDateTime completedAt,
+        String error,
+        TestResultDto result
+) {
+
+    public static ScoringJobDto from(ScoringJob job, TestResultDto result) {
+        return new ScoringJobDto(
+                job.getId(),
+                job.getSessionId(),
+                job.getStatus(),
+                job.getAttempts(),
+                job.getCreatedAt(),
+                job.getCompletedAt(),
+                job.getLastError(),
+                result
+        );
+    }
+
+    /**
+     * Status of a session that was scored synchronously, before scoring jobs existed.
+     */
+    public static ScoringJobDto scored(TestResultDto result) {
+        return new ScoringJobDto(
+                null,
+                result.sessionId(),
+                ScoringJobStatus.COMPLETED,
+                1,
+                null,
+                result.completedAt(),
+                null,
+                result
+        );
+    }
+
+    public boolean isFinished() {
+        return status.isTerminal();
+    }
+}
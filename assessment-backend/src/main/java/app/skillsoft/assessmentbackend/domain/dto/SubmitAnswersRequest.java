@@ -0,0 +1,49 @@
+package app.skillsoft.assessmentbackend.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for submitting several answers of one session in a single call.
+ * Used by clients that buffer answers (e.g. while offline) and flush them together.
+ * The session is taken from the request path, so the items do not repeat it.
+ */
+public record SubmitAnswersRequest(
+        @NotEmpty(message = "At least one answer is required")
+        @Size(max = 500, message = "At most 500 answers can be submitted at once")
+        List<@Valid Answer> answers
+) {
+
+    /**
+     * One answer of the batch; the fields mirror {@link SubmitAnswerRequest} without the session ID.
+     */
+    public record Answer(
+            @NotNull(message = "Question ID is required")
+            UUID questionId,
+
+            List<String> selectedOptionIds,
+
+            Integer likertValue,
+
+            List<String> rankingOrder,
+
+            String textResponse,
+
+            Integer timeSpentSeconds,
+
+            Boolean skip
+    ) {
+        /**
+         * Convert to a single-answer request for the given session.
+         */
+        public SubmitAnswerRequest toRequest(UUID sessionId) {
+            return new SubmitAnswerRequest(sessionId, questionId, selectedOptionIds, likertValue,
+                    rankingOrder, textResponse, timeSpentSeconds, skip);
+        }
+    }
+}
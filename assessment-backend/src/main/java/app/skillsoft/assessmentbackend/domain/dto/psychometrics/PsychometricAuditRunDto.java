@@ -0,0 +1,57 @@
+package app.skillsoft.assessmentbackend.domain.dto.psychometrics;
+
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRun;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRunStatus;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditStep;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for the progress of a psychometric audit run.
+ *
+ * @param runId                    UUID of the audit run
+ * @param status                   RUNNING, INTERRUPTED (resumed by the next audit) or COMPLETED
+ * @param currentStep              step being processed, null once completed
+ * @param itemsRecalculated        items whose statistics were recalculated
+ * @param competenciesRecalculated competencies whose reliability was recalculated
+ * @param traitsRecalculated       Big Five traits whose reliability was recalculated
+ * @param statusesUpdated          item validity statuses updated
+ * @param failedUnits              units of any step that failed
+ * @param startedAt                start of the run
+ * @param heartbeatAt              last time the run saved progress
+ * @param finishedAt               end of the run, null until completed
+ * @param lastError                error that interrupted the run, if any
+ */
+public record PsychometricAuditRunDto(
+        UUID runId,
+        PsychometricAuditRunStatus status,
+        PsychometricAuditStep currentStep,
+        int itemsRecalculated,
+        int competenciesRecalculated,
+        int traitsRecalculated,
+        int statusesUpdated,
+        int failedUnits,
+        LocalDateTime startedAt,
+        LocalDateTime heartbeatAt,
+        LocalDateTime finishedAt,
+        String lastError
+) {
+
+    public static PsychometricAuditRunDto from(PsychometricAuditRun run) {
+        return new PsychometricAuditRunDto(
+                run.getId(),
+                run.getStatus(),
+                run.getCurrentStep(),
+                run.getItemsRecalculated(),
+                run.getCompetenciesRecalculated(),
+                run.getTraitsRecalculated(),
+                run.getStatusesUpdated(),
+                run.getFailedUnits(),
+                run.getStartedAt(),
+                run.getHeartbeatAt(),
+                run.getFinishedAt(),
+                run.getLastError()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package app.skillsoft.assessmentbackend.domain.dto.team;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO for a candidate with known competency scores (1-5 scale).
+ */
+public record CandidateScoresDto(
+        @NotBlank(message = "Candidate ID is required")
+        String candidateId,
+        @NotNull(message = "Competency scores are required")
+        Map<UUID, Double> competencyScores
+) {}
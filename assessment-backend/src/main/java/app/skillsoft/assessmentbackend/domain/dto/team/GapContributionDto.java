@@ -0,0 +1,12 @@
+package app.skillsoft.assessmentbackend.domain.dto.team;
+
+import java.util.UUID;
+
+/**
+ * DTO for the contribution of one team skill gap to a candidate's fit score.
+ */
+public record GapContributionDto(
+        UUID competencyId,
+        Double candidateScore,
+        double contribution
+) {}
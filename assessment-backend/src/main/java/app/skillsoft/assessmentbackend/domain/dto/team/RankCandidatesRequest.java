@@ -0,0 +1,15 @@
+package app.skillsoft.assessmentbackend.domain.dto.team;
+
+import jakarta.validation.Valid;
+
+import java.util.List;
+
+/**
+ * Request DTO for ranking a shortlist of candidates by team fit.
+ * Candidates are given with their competency scores, by clerk ID, or both.
+ */
+public record RankCandidatesRequest(
+        @Valid
+        List<CandidateScoresDto> candidates,
+        List<String> clerkUserIds
+) {}
@@ -0,0 +1,13 @@
+package app.skillsoft.assessmentbackend.domain.dto.team;
+
+import java.util.List;
+
+/**
+ * DTO for one candidate of a team fit ranking.
+ */
+public record RankedCandidateDto(
+        int rank,
+        String candidateId,
+        double fitScore,
+        List<GapContributionDto> contributions
+) {}
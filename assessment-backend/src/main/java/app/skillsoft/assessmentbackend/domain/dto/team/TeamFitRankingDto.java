@@ -0,0 +1,13 @@
+package app.skillsoft.assessmentbackend.domain.dto.team;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for candidates ranked by fit against a team's skill gaps, best first.
+ */
+public record TeamFitRankingDto(
+        UUID teamId,
+        List<UUID> skillGaps,
+        List<RankedCandidateDto> candidates
+) {}
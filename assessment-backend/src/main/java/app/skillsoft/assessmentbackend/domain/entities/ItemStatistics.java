@@ -133,6 +133,46 @@ public class ItemStatistics {
     @JdbcTypeCode(SqlTypes.JSON)
     private List<StatusChangeRecord> statusChangeHistory;
 
+    /**
+     * Running sufficient statistics of (item score, session total) pairs, where the item
+     * score is the normalized answer score and the total is the overall percentage / 100.
+     * Updated Welford-style for each scored session (see ItemStatisticsRepository#applyScoredSession)
+     * and re-seeded from the answers by a full recalculation.
+     */
+    @Column(name = "running_count", nullable = false)
+    private long runningCount = 0;
+
+    @Column(name = "item_score_mean", nullable = false)
+    private double itemScoreMean = 0;
+
+    /**
+     * Sum of squared deviations of item scores from their mean.
+     */
+    @Column(name = "item_score_m2", nullable = false)
+    private double itemScoreM2 = 0;
+
+    @Column(name = "total_score_mean", nullable = false)
+    private double totalScoreMean = 0;
+
+    /**
+     * Sum of squared deviations of session totals from their mean.
+     */
+    @Column(name = "total_score_m2", nullable = false)
+    private double totalScoreM2 = 0;
+
+    /**
+     * Sum of products of item and total deviations from their means.
+     */
+    @Column(name = "item_total_co_moment", nullable = false)
+    private double itemTotalCoMoment = 0;
+
+    /**
+     * When the running statistics were last seeded from the answers.
+     * Null until the first full recalculation; unseeded rows receive no incremental updates.
+     */
+    @Column(name = "running_seeded_at")
+    private LocalDateTime runningSeededAt;
+
     // Constructors
     public ItemStatistics() {
         this.statusChangeHistory = new ArrayList<>();
@@ -187,6 +227,79 @@ public class ItemStatistics {
         return false;
     }
 
+    /**
+     * Reset the running statistics before seeding them from the answers.
+     */
+    public void resetRunningStatistics() {
+        this.runningCount = 0;
+        this.itemScoreMean = 0;
+        this.itemScoreM2 = 0;
+        this.totalScoreMean = 0;
+        this.totalScoreM2 = 0;
+        this.itemTotalCoMoment = 0;
+        this.runningSeededAt = LocalDateTime.now();
+    }
+
+    /**
+     * Seed the running statistics from aggregates computed over all (item score,
+     * session total) pairs, e.g. REGR_COUNT/REGR_AVGX/REGR_SXX/... in SQL.
+     */
+    public void seedRunningStatistics(long count, double itemMean, double itemM2,
+                                      double totalMean, double totalM2, double coMoment) {
+        this.runningCount = count;
+        this.itemScoreMean = itemMean;
+        this.itemScoreM2 = itemM2;
+        this.totalScoreMean = totalMean;
+        this.totalScoreM2 = totalM2;
+        this.itemTotalCoMoment = coMoment;
+        this.runningSeededAt = LocalDateTime.now();
+    }
+
+    /**
+     * Add one (item score, session total) pair to the running statistics (Welford update).
+     */
+    public void addObservation(double itemScore, double totalScore) {
+        runningCount++;
+        double itemDelta = itemScore - itemScoreMean;
+        itemScoreMean += itemDelta / runningCount;
+        itemScoreM2 += itemDelta * (itemScore - itemScoreMean);
+        double totalDelta = totalScore - totalScoreMean;
+        totalScoreMean += totalDelta / runningCount;
+        totalScoreM2 += totalDelta * (totalScore - totalScoreMean);
+        itemTotalCoMoment += itemDelta * (totalScore - totalScoreMean);
+    }
+
+    /**
+     * Check if the running statistics have been seeded and are kept current.
+     */
+    @Transient
+    public boolean hasRunningStatistics() {
+        return runningSeededAt != null;
+    }
+
+    /**
+     * Current difficulty index (mean item score) from the running statistics.
+     * @return Mean item score, or null without observations
+     */
+    @Transient
+    public Double getRunningDifficulty() {
+        return runningCount > 0 ? itemScoreMean : null;
+    }
+
+    /**
+     * Current point-biserial discrimination (item-total Pearson correlation)
+     * from the running statistics.
+     * @return Correlation, or null with fewer than 2 observations or zero variance
+     */
+    @Transient
+    public Double getRunningDiscrimination() {
+        double denominator = Math.sqrt(itemScoreM2 * totalScoreM2);
+        if (runningCount < 2 || denominator == 0) {
+            return null;
+        }
+        return itemTotalCoMoment / denominator;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -289,6 +402,34 @@ public class ItemStatistics {
         this.statusChangeHistory = statusChangeHistory;
     }
 
+    public long getRunningCount() {
+        return runningCount;
+    }
+
+    public double getItemScoreMean() {
+        return itemScoreMean;
+    }
+
+    public double getItemScoreM2() {
+        return itemScoreM2;
+    }
+
+    public double getTotalScoreMean() {
+        return totalScoreMean;
+    }
+
+    public double getTotalScoreM2() {
+        return totalScoreM2;
+    }
+
+    public double getItemTotalCoMoment() {
+        return itemTotalCoMoment;
+    }
+
+    public LocalDateTime getRunningSeededAt() {
+        return runningSeededAt;
+    }
+
     /**
      * Record for tracking status change history.
      */
@@ -0,0 +1,213 @@
+package app.skillsoft.assessmentbackend.domain.entities;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of one nightly psychometric audit run.
+ *
+ * The audit processes the work units of each {@link PsychometricAuditStep} in key order,
+ * one page at a time. After every page the step, the key of the last processed unit
+ * (cursor) and the counters are saved with a heartbeat, so an INTERRUPTED run, or a
+ * RUNNING run whose heartbeat went stale, resumes after the last saved page.
+ *
+ * At most one RUNNING or INTERRUPTED run exists (partial unique index); the version
+ * guards against two nodes resuming the same run.
+ */
+@Entity
+@Table(name = "psychometric_audit_runs", indexes = {
+    @Index(name = "idx_psychometric_audit_run_status_started", columnList = "status, started_at")
+})
+public class PsychometricAuditRun {
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PsychometricAuditRunStatus status;
+
+    /**
+     * Step being processed, null once the run is completed.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "current_step", length = 20)
+    private PsychometricAuditStep currentStep;
+
+    /**
+     * Key of the last processed unit of the current step, null before its first page.
+     */
+    @Column(name = "step_cursor", length = 100)
+    private String stepCursor;
+
+    @Column(name = "items_recalculated", nullable = false)
+    private int itemsRecalculated;
+
+    @Column(name = "competencies_recalculated", nullable = false)
+    private int competenciesRecalculated;
+
+    @Column(name = "traits_recalculated", nullable = false)
+    private int traitsRecalculated;
+
+    @Column(name = "statuses_updated", nullable = false)
+    private int statusesUpdated;
+
+    /**
+     * Units of any step whose recalculation failed; they are not retried within the run.
+     */
+    @Column(name = "failed_units", nullable = false)
+    private int failedUnits;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * Last time the run saved progress.
+     */
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * Optimistic locking version.
+     */
+    @Version
+    private Long version;
+
+    public PsychometricAuditRun() {
+        // Default constructor required by JPA
+    }
+
+    /**
+     * New run at the first step.
+     */
+    public static PsychometricAuditRun start(LocalDateTime now) {
+        PsychometricAuditRun run = new PsychometricAuditRun();
+        run.id = UUID.randomUUID();
+        run.status = PsychometricAuditRunStatus.RUNNING;
+        run.currentStep = PsychometricAuditStep.values()[0];
+        run.startedAt = now;
+        run.heartbeatAt = now;
+        return run;
+    }
+
+    /**
+     * Take over an interrupted or crashed run; progress is kept.
+     */
+    public void resume(LocalDateTime now) {
+        this.status = PsychometricAuditRunStatus.RUNNING;
+        this.heartbeatAt = now;
+    }
+
+    /**
+     * Whether the run is RUNNING and saved progress after the given time.
+     */
+    public boolean isAliveSince(LocalDateTime time) {
+        return status == PsychometricAuditRunStatus.RUNNING && heartbeatAt.isAfter(time);
+    }
+
+    /**
+     * Count a processed page of the current step and move the cursor past it.
+     *
+     * @param succeeded Units recalculated
+     * @param failed    Units that failed
+     * @param cursor    Key of the last unit of the page
+     * @param now       Heartbeat time
+     */
+    public void recordPage(int succeeded, int failed, String cursor, LocalDateTime now) {
+        switch (currentStep) {
+            case ITEMS -> itemsRecalculated += succeeded;
+            case COMPETENCIES -> competenciesRecalculated += succeeded;
+            case TRAITS -> traitsRecalculated += succeeded;
+            case STATUSES -> statusesUpdated += succeeded;
+        }
+        this.failedUnits += failed;
+        this.stepCursor = cursor;
+        this.heartbeatAt = now;
+    }
+
+    /**
+     * Move to the next step, or complete the run after the last one.
+     */
+    public void finishStep(LocalDateTime now) {
+        this.currentStep = currentStep.next();
+        this.stepCursor = null;
+        this.heartbeatAt = now;
+        if (currentStep == null) {
+            this.status = PsychometricAuditRunStatus.COMPLETED;
+            this.finishedAt = now;
+        }
+    }
+
+    /**
+     * Stop the run on an error; the next audit resumes it.
+     */
+    public void interrupt(String error, LocalDateTime now) {
+        this.status = PsychometricAuditRunStatus.INTERRUPTED;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.heartbeatAt = now;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public PsychometricAuditRunStatus getStatus() {
+        return status;
+    }
+
+    public PsychometricAuditStep getCurrentStep() {
+        return currentStep;
+    }
+
+    public String getStepCursor() {
+        return stepCursor;
+    }
+
+    public int getItemsRecalculated() {
+        return itemsRecalculated;
+    }
+
+    public int getCompetenciesRecalculated() {
+        return competenciesRecalculated;
+    }
+
+    public int getTraitsRecalculated() {
+        return traitsRecalculated;
+    }
+
+    public int getStatusesUpdated() {
+        return statusesUpdated;
+    }
+
+    public int getFailedUnits() {
+        return failedUnits;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
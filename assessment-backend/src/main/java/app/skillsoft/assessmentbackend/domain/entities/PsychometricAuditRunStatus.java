@@ -0,0 +1,14 @@
+package app.skillsoft.assessmentbackend.domain.entities;
+
+/**
+ * Status of a psychometric audit run.
+ *
+ * - RUNNING: steps are being processed; a run whose heartbeat went stale was stopped by a crash
+ * - INTERRUPTED: stopped by an error; the next audit resumes it
+ * - COMPLETED: all steps processed
+ */
+public enum PsychometricAuditRunStatus {
+    RUNNING,
+    INTERRUPTED,
+    COMPLETED
+}
@@ -0,0 +1,24 @@
+package app.skillsoft.assessmentbackend.domain.entities;
+
+/**
+ * Steps of the nightly psychometric audit, in execution order.
+ *
+ * - ITEMS: item statistics of questions with new responses
+ * - COMPETENCIES: Cronbach's alpha of every competency
+ * - TRAITS: Cronbach's alpha of every Big Five trait
+ * - STATUSES: validity status of every item with calculated statistics
+ */
+public enum PsychometricAuditStep {
+    ITEMS,
+    COMPETENCIES,
+    TRAITS,
+    STATUSES;
+
+    /**
+     * Step after this one, or null after the last step.
+     */
+    public PsychometricAuditStep next() {
+        PsychometricAuditStep[] steps = values();
+        return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : null;
+    }
+}
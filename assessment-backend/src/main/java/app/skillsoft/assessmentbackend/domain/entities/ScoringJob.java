@@ -0,0 +1,144 @@
+package app.skillsoft.assessmentbackend.domain.entities;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Durable scoring job of a finished test session.
+ *
+ * Session completion and timeouts enqueue a job in the same transaction as the status
+ * change; workers on any node claim queued jobs with FOR UPDATE SKIP LOCKED, score the
+ * session and record the outcome. A failed attempt is re-queued with exponential backoff
+ * until the attempt limit is reached.
+ *
+ * At most one QUEUED or RUNNING job exists per session (partial unique index).
+ */
+@Entity
+@Table(name = "scoring_jobs", indexes = {
+    @Index(name = "idx_scoring_job_session", columnList = "session_id"),
+    @Index(name = "idx_scoring_job_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class ScoringJob {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "session_id", nullable = false)
+    private UUID sessionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ScoringJobStatus status;
+
+    /**
+     * Attempts started so far, incremented when a worker claims the job.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * Earliest time a worker may claim the job.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "result_id")
+    private UUID resultId;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public ScoringJob() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(UUID sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public ScoringJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ScoringJobStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public UUID getResultId() {
+        return resultId;
+    }
+
+    public void setResultId(UUID resultId) {
+        this.resultId = resultId;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
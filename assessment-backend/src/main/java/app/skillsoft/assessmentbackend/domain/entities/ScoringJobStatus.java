@@ -0,0 +1,20 @@
+package app.skillsoft.assessmentbackend.domain.entities;
+
+/**
+ * Status of an asynchronous scoring job.
+ *
+ * - QUEUED: waiting for a worker (new, or retrying after a failed attempt)
+ * - RUNNING: claimed by a worker
+ * - COMPLETED: result scored and saved
+ * - FAILED: all attempts failed; the result stays FAILED until rescored manually
+ */
+public enum ScoringJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,78 @@
+package app.skillsoft.assessmentbackend.domain.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * Running per-indicator score totals of a test session, maintained as answers are submitted.
+ *
+ * One row per (session, indicator) holding the sum of normalized answer scores and the
+ * number of counted answers. Rows are only written through
+ * SessionScoreAggregateRepository#addToAggregate, an atomic delta upsert, so concurrent
+ * submissions and rolled-back transactions keep the totals consistent with test_answers.
+ *
+ * Completion scoring rolls these rows up instead of reloading every answer.
+ */
+@Entity
+@Table(name = "session_score_aggregates", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_session_score_aggregate", columnNames = {"session_id", "indicator_id"})
+})
+public class SessionScoreAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TestSession session;
+
+    @Column(name = "indicator_id", nullable = false)
+    private UUID indicatorId;
+
+    /**
+     * Sum of normalized (0-1) scores of the counted answers.
+     */
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+
+    /**
+     * Number of answered, non-skipped answers.
+     */
+    @Column(name = "answer_count", nullable = false)
+    private int answerCount;
+
+    public SessionScoreAggregate() {
+    }
+
+    public SessionScoreAggregate(TestSession session, UUID indicatorId, double scoreSum, int answerCount) {
+        this.session = session;
+        this.indicatorId = indicatorId;
+        this.scoreSum = scoreSum;
+        this.answerCount = answerCount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public TestSession getSession() {
+        return session;
+    }
+
+    public UUID getIndicatorId() {
+        return indicatorId;
+    }
+
+    public double getScoreSum() {
+        return scoreSum;
+    }
+
+    public int getAnswerCount() {
+        return answerCount;
+    }
+}
@@ -0,0 +1,230 @@
+package app.skillsoft.assessmentbackend.domain.entities;
+
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Materialized profile of one ACTIVE team.
+ *
+ * Holds the contribution of every active member (latest competency scores on the
+ * five-point scale and Big Five profile) and, per competency and per trait, the number of
+ * contributing members and the sum of their scores. Replacing or removing one member
+ * adjusts the sums by that member's old and new contribution only, so keeping the profile
+ * current never rescans the results of the other members.
+ *
+ * The JSON collections are replaced rather than mutated in place; the version guards
+ * against two concurrent updates of the same team.
+ */
+@Entity
+@Table(name = "team_profile_snapshots")
+public class TeamProfileSnapshot {
+
+    @Id
+    @Column(name = "team_id")
+    private UUID teamId;
+
+    @Column(name = "team_name", nullable = false, length = 200)
+    private String teamName;
+
+    @Column(name = "member_count", nullable = false)
+    private int memberCount;
+
+    @Type(JsonType.class)
+    @Column(name = "members", columnDefinition = "jsonb", nullable = false)
+    private List<Member> members = new ArrayList<>();
+
+    @Type(JsonType.class)
+    @Column(name = "competency_stats", columnDefinition = "jsonb", nullable = false)
+    private Map<UUID, Stat> competencyStats = new HashMap<>();
+
+    @Type(JsonType.class)
+    @Column(name = "trait_stats", columnDefinition = "jsonb", nullable = false)
+    private Map<String, Stat> traitStats = new HashMap<>();
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic locking version.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Contribution of one member to the team profile.
+     *
+     * @param userId            The member
+     * @param name              Display name of the member
+     * @param role              Display name of the member's team role
+     * @param competencyScores  Latest score per competency on the five-point scale
+     * @param personalityTraits Latest Big Five profile
+     */
+    public record Member(
+            UUID userId,
+            String name,
+            String role,
+            Map<UUID, Double> competencyScores,
+            Map<String, Double> personalityTraits
+    ) {
+    }
+
+    /**
+     * Number of members contributing to a competency or trait and the sum of their scores.
+     */
+    public record Stat(int memberCount, double sum) {
+
+        Stat plus(double value) {
+            return new Stat(memberCount + 1, sum + value);
+        }
+
+        Stat minus(double value) {
+            return new Stat(memberCount - 1, sum - value);
+        }
+
+        public double average() {
+            return memberCount > 0 ? sum / memberCount : 0.0;
+        }
+    }
+
+    public TeamProfileSnapshot() {
+        // Default constructor required by JPA
+    }
+
+    public TeamProfileSnapshot(UUID teamId) {
+        this.teamId = teamId;
+    }
+
+    /**
+     * Replace the whole profile, e.g. after a full recomputation.
+     */
+    public void reset(String teamName, List<Member> members) {
+        this.teamName = teamName;
+        this.members = new ArrayList<>();
+        this.competencyStats = new HashMap<>();
+        this.traitStats = new HashMap<>();
+        members.forEach(this::add);
+        this.memberCount = this.members.size();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Add a member, or replace the contribution of a member already in the profile.
+     */
+    public void putMember(Member member) {
+        this.members = new ArrayList<>(members);
+        this.competencyStats = new HashMap<>(competencyStats);
+        this.traitStats = new HashMap<>(traitStats);
+        subtract(member.userId());
+        add(member);
+        this.memberCount = members.size();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Remove the contribution of a member.
+     *
+     * @return Whether the member was part of the profile
+     */
+    public boolean removeMember(UUID userId) {
+        this.members = new ArrayList<>(members);
+        this.competencyStats = new HashMap<>(competencyStats);
+        this.traitStats = new HashMap<>(traitStats);
+        boolean removed = subtract(userId);
+        this.memberCount = members.size();
+        this.updatedAt = LocalDateTime.now();
+        return removed;
+    }
+
+    private void add(Member member) {
+        members.add(member);
+        if (member.competencyScores() != null) {
+            member.competencyScores().forEach((competencyId, score) -> {
+                if (competencyId != null && score != null) {
+                    competencyStats.merge(competencyId, new Stat(1, score), (stat, ignored) -> stat.plus(score));
+                }
+            });
+        }
+        if (member.personalityTraits() != null) {
+            member.personalityTraits().forEach((trait, score) -> {
+                if (trait != null && score != null) {
+                    traitStats.merge(trait, new Stat(1, score), (stat, ignored) -> stat.plus(score));
+                }
+            });
+        }
+    }
+
+    private boolean subtract(UUID userId) {
+        int index = -1;
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).userId().equals(userId)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return false;
+        }
+
+        Member member = members.remove(index);
+        if (member.competencyScores() != null) {
+            member.competencyScores().forEach((competencyId, score) -> {
+                if (competencyId != null && score != null) {
+                    // A stat with no members left is dropped rather than kept at zero
+                    competencyStats.computeIfPresent(competencyId, (id, stat) ->
+                            stat.memberCount() > 1 ? stat.minus(score) : null);
+                }
+            });
+        }
+        if (member.personalityTraits() != null) {
+            member.personalityTraits().forEach((trait, score) -> {
+                if (trait != null && score != null) {
+                    traitStats.computeIfPresent(trait, (key, stat) ->
+                            stat.memberCount() > 1 ? stat.minus(score) : null);
+                }
+            });
+        }
+        return true;
+    }
+
+    // Getters
+
+    public UUID getTeamId() {
+        return teamId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    public Map<UUID, Stat> getCompetencyStats() {
+        return competencyStats;
+    }
+
+    public Map<String, Stat> getTraitStats() {
+        return traitStats;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -6,6 +6,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.Type;
 import org.hibernate.type.SqlTypes;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,7 +22,8 @@ import java.util.UUID;
     @Index(name = "idx_test_session_clerk_user_id", columnList = "clerk_user_id"),
     @Index(name = "idx_test_session_status_last_activity", columnList = "status, last_activity_at"),
     @Index(name = "idx_test_session_access_token_hash", columnList = "session_access_token_hash"),
-    @Index(name = "idx_test_session_template_status", columnList = "template_id, status")
+    @Index(name = "idx_test_session_template_status", columnList = "template_id, status"),
+    @Index(name = "idx_test_session_status_deadline", columnList = "status, deadline_at")
 })
 public class TestSession {
 
@@ -56,6 +58,22 @@ public class TestSession {
     @Column(name = "time_remaining_seconds")
     private Integer timeRemainingSeconds;
 
+    /**
+     * Absolute time limit of a timed session, set when the session starts
+     * (startedAt + template time limit). Null for untimed and legacy sessions,
+     * whose remaining time is the client-reported timeRemainingSeconds.
+     */
+    @Column(name = "deadline_at")
+    private LocalDateTime deadlineAt;
+
+    /**
+     * Whether per-indicator score totals (session_score_aggregates) have been maintained
+     * since the session started. Set when the session starts; null for sessions started
+     * before incremental aggregation, which are scored from their answers.
+     */
+    @Column(name = "score_aggregates_tracked")
+    private Boolean scoreAggregatesTracked;
+
     @Column(name = "question_order", columnDefinition = "jsonb")
     @JdbcTypeCode(SqlTypes.JSON)
     private List<UUID> questionOrder = new ArrayList<>();
@@ -175,6 +193,10 @@ public class TestSession {
         this.status = SessionStatus.IN_PROGRESS;
         this.startedAt = LocalDateTime.now();
         this.lastActivityAt = LocalDateTime.now();
+        if (template != null && template.getTimeLimitMinutes() != null && template.getTimeLimitMinutes() > 0) {
+            this.deadlineAt = startedAt.plusMinutes(template.getTimeLimitMinutes());
+        }
+        this.scoreAggregatesTracked = true;
     }
 
     public void complete() {
@@ -199,6 +221,9 @@ public class TestSession {
         if (this.status != SessionStatus.IN_PROGRESS) {
             throw new IllegalStateException("Cannot timeout a session that is not in IN_PROGRESS status");
         }
+        if (this.deadlineAt != null) {
+            this.timeRemainingSeconds = 0;
+        }
         this.status = SessionStatus.TIMED_OUT;
         this.completedAt = LocalDateTime.now();
         this.lastActivityAt = LocalDateTime.now();
@@ -208,6 +233,24 @@ public class TestSession {
         this.lastActivityAt = LocalDateTime.now();
     }
 
+    /**
+     * Remaining time in seconds: computed from the deadline when the session has one,
+     * otherwise the last client-reported value.
+     */
+    public Integer getRemainingSeconds(LocalDateTime now) {
+        if (deadlineAt == null) {
+            return timeRemainingSeconds;
+        }
+        return (int) Math.max(0, Duration.between(now, deadlineAt).toSeconds());
+    }
+
+    /**
+     * Whether the session has a deadline and it has passed.
+     */
+    public boolean isPastDeadline(LocalDateTime now) {
+        return deadlineAt != null && !now.isBefore(deadlineAt);
+    }
+
     public void addAnswer(TestAnswer answer) {
         answers.add(answer);
         answer.setSession(this);
@@ -283,6 +326,22 @@ public class TestSession {
         this.timeRemainingSeconds = timeRemainingSeconds;
     }
 
+    public LocalDateTime getDeadlineAt() {
+        return deadlineAt;
+    }
+
+    public void setDeadlineAt(LocalDateTime deadlineAt) {
+        this.deadlineAt = deadlineAt;
+    }
+
+    public boolean isScoreAggregatesTracked() {
+        return Boolean.TRUE.equals(scoreAggregatesTracked);
+    }
+
+    public void setScoreAggregatesTracked(Boolean scoreAggregatesTracked) {
+        this.scoreAggregatesTracked = scoreAggregatesTracked;
+    }
+
     public List<UUID> getQuestionOrder() {
         return questionOrder;
     }
@@ -0,0 +1,40 @@
+package app.skillsoft.assessmentbackend.events.assembly;
+
+import java.util.UUID;
+
+/**
+ * Event published when the set of questions eligible for assembly may have changed.
+ * Consumed by QuestionPoolIndex to keep its in-memory snapshot current.
+ *
+ * @param indicatorId The behavioral indicator whose question pool changed,
+ *                    or null when the change spans indicators and requires a full rebuild
+ * @param questionId The question that changed (null for indicator-level changes)
+ * @param reason Short description of the change, used for logging
+ */
+public record QuestionPoolChangedEvent(
+        UUID indicatorId,
+        UUID questionId,
+        String reason
+) {
+    /**
+     * Factory method for a change to a single question within an indicator's pool.
+     */
+    public static QuestionPoolChangedEvent forQuestion(UUID indicatorId, UUID questionId, String reason) {
+        return new QuestionPoolChangedEvent(indicatorId, questionId, reason);
+    }
+
+    /**
+     * Factory method for a change that invalidates the whole pool
+     * (indicator activation, weight or competency changes).
+     */
+    public static QuestionPoolChangedEvent fullRebuild(String reason) {
+        return new QuestionPoolChangedEvent(null, null, reason);
+    }
+
+    /**
+     * Whether the index has to be rebuilt from scratch rather than patched per indicator.
+     */
+    public boolean requiresFullRebuild() {
+        return indicatorId == null;
+    }
+}
@@ -0,0 +1,30 @@
+package app.skillsoft.assessmentbackend.events.competency;
+
+import java.util.UUID;
+
+/**
+ * Event published when a competency is updated or deleted.
+ * Consumed by ScoringPlanCache to drop plans holding the competency's name,
+ * standard codes and weights.
+ *
+ * @param competencyId The competency that changed
+ * @param reason Short description of the change, used for logging
+ */
+public record CompetencyChangedEvent(
+        UUID competencyId,
+        String reason
+) {
+    /**
+     * Factory method for an updated competency.
+     */
+    public static CompetencyChangedEvent updated(UUID competencyId) {
+        return new CompetencyChangedEvent(competencyId, "competency updated");
+    }
+
+    /**
+     * Factory method for a deleted competency.
+     */
+    public static CompetencyChangedEvent deleted(UUID competencyId) {
+        return new CompetencyChangedEvent(competencyId, "competency deleted");
+    }
+}
@@ -0,0 +1,57 @@
+package app.skillsoft.assessmentbackend.events.listeners;
+
+import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
+import app.skillsoft.assessmentbackend.repository.ItemStatisticsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Asynchronous event listener keeping item running statistics current.
+ *
+ * When scoring completes, each answer of the session is folded into the running
+ * statistics of its item with one set-based UPDATE (see
+ * {@link ItemStatisticsRepository#applyScoredSession}), so item difficulty and
+ * discrimination follow new results without rescanning answers.
+ *
+ * Runs once the scoring transaction has committed, so the result is visible.
+ * A lost update is corrected by the weekly verification in PsychometricAuditJob.
+ */
+@Component
+@Slf4j
+public class ItemStatisticsUpdateListener {
+
+    private final ItemStatisticsRepository itemStatisticsRepository;
+    private final boolean psychometricsEnabled;
+
+    public ItemStatisticsUpdateListener(
+            ItemStatisticsRepository itemStatisticsRepository,
+            @Value("${skillsoft.psychometrics.enabled:true}") boolean psychometricsEnabled) {
+        this.itemStatisticsRepository = itemStatisticsRepository;
+        this.psychometricsEnabled = psychometricsEnabled;
+    }
+
+    /**
+     * Fold the answers of a scored session into the running item statistics.
+     *
+     * @param event The scoring completed event containing the session ID
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoringCompleted(ScoringCompletedEvent event) {
+        if (!psychometricsEnabled || event.sessionId() == null) {
+            return;
+        }
+
+        try {
+            int updated = itemStatisticsRepository.applyScoredSession(event.sessionId());
+            log.debug("Updated running statistics of {} items for session {}", updated, event.sessionId());
+        } catch (Exception ex) {
+            // Log but don't rethrow - item statistics are re-verified periodically
+            log.error("Failed to update item running statistics for session {}: {}",
+                    event.sessionId(), ex.getMessage(), ex);
+        }
+    }
+}
@@ -3,13 +3,15 @@ package app.skillsoft.assessmentbackend.events.listeners;
 import app.skillsoft.assessmentbackend.domain.entities.TestResult;
 import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
 import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.scoring.TemplateScoreIndex;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -22,7 +24,9 @@ import java.util.UUID;
  * test completions.
  *
  * The recalculation window is 5 minutes to capture results that may have been
- * scored concurrently and received stale percentile values.
+ * scored concurrently and received stale percentile values. Results are ranked
+ * against the in-memory {@link TemplateScoreIndex}, which already holds the new
+ * score when this listener runs (both react after the scoring transaction commits).
  *
  * This runs asynchronously to avoid blocking the main scoring thread.
  */
@@ -34,21 +38,24 @@ public class PercentileRecalculationListener {
     private static final int DEFAULT_PERCENTILE = 50;
 
     private final TestResultRepository resultRepository;
+    private final TemplateScoreIndex scoreIndex;
 
-    public PercentileRecalculationListener(TestResultRepository resultRepository) {
+    public PercentileRecalculationListener(TestResultRepository resultRepository,
+                                           TemplateScoreIndex scoreIndex) {
         this.resultRepository = resultRepository;
+        this.scoreIndex = scoreIndex;
     }
 
     /**
      * Handle scoring completion by recalculating percentiles for recent results.
      *
-     * Runs asynchronously to avoid blocking the main scoring thread.
-     * Uses a separate transaction to ensure data consistency.
+     * Runs asynchronously once the scoring transaction has committed, so the new
+     * result is visible. Uses a separate transaction to ensure data consistency.
      *
      * @param event The scoring completed event containing the result ID
      */
     @Async
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     @Transactional
     public void onScoringCompleted(ScoringCompletedEvent event) {
         if (event.resultId() == null) {
@@ -98,18 +105,20 @@ public class PercentileRecalculationListener {
             return;
         }
 
-        int updatedCount = 0;
+        List<TestResult> changed = new ArrayList<>();
         for (TestResult recent : recentResults) {
             int newPercentile = calculateAccuratePercentile(templateId, recent.getOverallPercentage());
             if (!Objects.equals(recent.getPercentile(), newPercentile)) {
                 recent.setPercentile(newPercentile);
-                resultRepository.save(recent);
-                updatedCount++;
+                changed.add(recent);
             }
         }
+        if (!changed.isEmpty()) {
+            resultRepository.saveAll(changed);
+        }
 
         log.info("Recalculated percentiles for {} of {} recent results on template {}",
-                updatedCount, recentResults.size(), templateId);
+                changed.size(), recentResults.size(), templateId);
     }
 
     /**
@@ -127,8 +136,9 @@ public class PercentileRecalculationListener {
             return DEFAULT_PERCENTILE;
         }
 
-        long belowCount = resultRepository.countResultsBelowScore(templateId, score);
-        long totalCount = resultRepository.countResultsByTemplateId(templateId);
+        TemplateScoreIndex.ScoreRank rank = scoreIndex.rank(templateId, score);
+        long belowCount = rank.below();
+        long totalCount = rank.total();
 
         if (totalCount <= 1) {
             // First result gets 50th percentile (median)
@@ -0,0 +1,157 @@
+package app.skillsoft.assessmentbackend.events.listeners;
+
+import app.skillsoft.assessmentbackend.domain.entities.TeamMember;
+import app.skillsoft.assessmentbackend.domain.entities.TestResult;
+import app.skillsoft.assessmentbackend.events.scoring.ResultsRescoredEvent;
+import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
+import app.skillsoft.assessmentbackend.events.team.TeamMembershipChangedEvent;
+import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.external.impl.TeamServiceImpl;
+import app.skillsoft.assessmentbackend.services.team.TeamProfileMaterializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Event listener keeping materialized team profiles current.
+ *
+ * - A scored result patches the contribution of its user in every active team of the user
+ *   (asynchronously, like the other scoring listeners)
+ * - A bulk re-scoring of a template rebuilds the profiles of all teams with members who
+ *   have results of that template
+ * - A membership change patches the contribution of that member; a team-wide change
+ *   (activation, archiving, renaming) rebuilds the team's profile
+ *
+ * Both run once the triggering transaction has committed. An update that loses a race
+ * with another update of the same team is retried as a full rebuild; if that fails too the
+ * snapshot is dropped, so the next read rebuilds it instead of serving a stale profile.
+ * The cached profile of the team is evicted afterwards in every case.
+ */
+@Component
+@Slf4j
+public class TeamProfileMaintenanceListener {
+
+    private final TestResultRepository resultRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamProfileMaterializer materializer;
+    private final TeamServiceImpl teamService;
+
+    public TeamProfileMaintenanceListener(
+            TestResultRepository resultRepository,
+            TeamMemberRepository teamMemberRepository,
+            TeamProfileMaterializer materializer,
+            TeamServiceImpl teamService) {
+        this.resultRepository = resultRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.materializer = materializer;
+        this.teamService = teamService;
+    }
+
+    /**
+     * Patch the profiles of the teams of the user whose result was scored.
+     *
+     * @param event The scoring completed event containing the result ID
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoringCompleted(ScoringCompletedEvent event) {
+        if (event.resultId() == null) {
+            return;
+        }
+
+        try {
+            String clerkUserId = resultRepository.findById(event.resultId())
+                    .map(TestResult::getClerkUserId)
+                    .orElse(null);
+            if (clerkUserId == null) {
+                log.debug("Skipping team profile update - no user for result {}", event.resultId());
+                return;
+            }
+
+            List<TeamMember> memberships = teamMemberRepository.findByUserClerkIdAndIsActiveTrue(clerkUserId);
+            for (TeamMember membership : memberships) {
+                UUID teamId = membership.getTeam().getId();
+                UUID userId = membership.getUser().getId();
+                update(teamId, () -> materializer.refreshMember(teamId, userId));
+            }
+        } catch (Exception ex) {
+            // Log but don't rethrow - scoring must not fail on team profile maintenance
+            log.error("Failed to update team profiles for result {}: {}",
+                    event.resultId(), ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Rebuild the profiles of the teams whose members' results of a template were re-scored.
+     * Runs on the re-scoring job's thread once the run has written its results.
+     *
+     * @param event The re-scoring event containing the template ID
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultsRescored(ResultsRescoredEvent event) {
+        try {
+            List<UUID> teamIds = teamMemberRepository.findTeamIdsWithCompletedResultsForTemplate(event.templateId());
+            log.info("Rebuilding {} team profiles after re-scoring template {}",
+                    teamIds.size(), event.templateId());
+            for (UUID teamId : teamIds) {
+                update(teamId, () -> materializer.rebuild(teamId));
+            }
+        } catch (Exception ex) {
+            // Log but don't rethrow - the re-scoring run itself has completed
+            log.error("Failed to rebuild team profiles after re-scoring template {}: {}",
+                    event.templateId(), ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Patch or rebuild the profile of a team whose composition or status changed.
+     *
+     * @param event The membership change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(TeamMembershipChangedEvent event) {
+        UUID teamId = event.teamId();
+        log.debug("Team {} changed ({}), updating its profile", teamId, event.reason());
+        if (event.requiresFullRebuild()) {
+            update(teamId, () -> materializer.rebuild(teamId));
+        } else {
+            update(teamId, () -> materializer.refreshMember(teamId, event.userId()));
+        }
+    }
+
+    private void update(UUID teamId, Supplier<?> update) {
+        try {
+            update.get();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            // Another update of the same team committed first; rebuild from the committed state
+            log.debug("Concurrent update of team profile {}, rebuilding: {}", teamId, e.getMessage());
+            try {
+                materializer.rebuild(teamId);
+            } catch (Exception rebuildFailure) {
+                discard(teamId, rebuildFailure);
+            }
+        } catch (Exception e) {
+            discard(teamId, e);
+        } finally {
+            teamService.invalidateTeamCache(teamId);
+        }
+    }
+
+    private void discard(UUID teamId, Exception cause) {
+        log.error("Failed to update team profile {}, dropping its snapshot: {}",
+                teamId, cause.getMessage(), cause);
+        try {
+            materializer.discard(teamId);
+        } catch (Exception e) {
+            log.error("Failed to drop team profile snapshot {}: {}", teamId, e.getMessage());
+        }
+    }
+}
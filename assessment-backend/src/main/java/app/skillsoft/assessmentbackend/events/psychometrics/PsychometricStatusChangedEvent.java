@@ -0,0 +1,53 @@
+package app.skillsoft.assessmentbackend.events.psychometrics;
+
+import app.skillsoft.assessmentbackend.domain.entities.BigFiveTrait;
+import app.skillsoft.assessmentbackend.domain.entities.ItemValidityStatus;
+import app.skillsoft.assessmentbackend.domain.entities.ReliabilityStatus;
+
+import java.util.UUID;
+
+/**
+ * Event published when the validity status of an item or the reliability status of a
+ * competency or Big Five trait changes.
+ * Consumed by PsychometricHealthSnapshot to mark the dashboard report stale.
+ *
+ * @param subject What changed, e.g. "item 3f2a...", used for logging
+ * @param previousStatus Status before the change (null for a first calculation)
+ * @param newStatus Status after the change
+ */
+public record PsychometricStatusChangedEvent(
+        String subject,
+        String previousStatus,
+        String newStatus
+) {
+    /**
+     * Factory method for an item validity status change.
+     */
+    public static PsychometricStatusChangedEvent forItem(UUID questionId,
+                                                         ItemValidityStatus previousStatus,
+                                                         ItemValidityStatus newStatus) {
+        return new PsychometricStatusChangedEvent("item " + questionId, name(previousStatus), name(newStatus));
+    }
+
+    /**
+     * Factory method for a competency reliability status change.
+     */
+    public static PsychometricStatusChangedEvent forCompetency(UUID competencyId,
+                                                               ReliabilityStatus previousStatus,
+                                                               ReliabilityStatus newStatus) {
+        return new PsychometricStatusChangedEvent("competency " + competencyId, name(previousStatus), name(newStatus));
+    }
+
+    /**
+     * Factory method for a Big Five trait reliability status change.
+     */
+    public static PsychometricStatusChangedEvent forTrait(BigFiveTrait trait,
+                                                          ReliabilityStatus previousStatus,
+                                                          ReliabilityStatus newStatus) {
+        return new PsychometricStatusChangedEvent("trait " + trait, name(previousStatus), name(newStatus));
+    }
+
+    private static String name(Enum<?> status) {
+        return status != null ? status.name() : null;
+    }
+}
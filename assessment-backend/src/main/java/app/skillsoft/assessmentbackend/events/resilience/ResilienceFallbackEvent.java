@@ -88,7 +88,7 @@ public record ResilienceFallbackEvent(
     }
 
     /**
-     * Factory method for scoring calculation fallback.
+     * Factory method for a scoring job given up after max-attempts.
      */
     public static ResilienceFallbackEvent forScoringFallback(
             UUID sessionId,
@@ -50,7 +50,7 @@ public record ResilienceRetryEvent(
     }
 
     /**
-     * Factory method for scoring calculation retries.
+     * Factory method for a scoring job re-queued after a failed attempt.
      */
     public static ResilienceRetryEvent forScoringRetry(
             UUID sessionId,
@@ -0,0 +1,26 @@
+package app.skillsoft.assessmentbackend.events.scoring;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Event published when a bulk re-scoring run has rewritten the stored results of a template.
+ * Individual results get no {@link ScoringCompletedEvent}, so listeners that keep derived
+ * data per result refresh it for the whole template.
+ *
+ * @param templateId The template whose results were re-scored
+ * @param resultsProcessed Number of results re-scored or failed in the run
+ * @param timestamp When the run finished writing
+ */
+public record ResultsRescoredEvent(
+        UUID templateId,
+        long resultsProcessed,
+        Instant timestamp
+) {
+    /**
+     * Factory method for creating an event with the current timestamp.
+     */
+    public static ResultsRescoredEvent now(UUID templateId, long resultsProcessed) {
+        return new ResultsRescoredEvent(templateId, resultsProcessed, Instant.now());
+    }
+}
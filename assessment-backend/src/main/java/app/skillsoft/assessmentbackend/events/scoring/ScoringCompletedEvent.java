@@ -12,8 +12,10 @@ import java.util.UUID;
  *
  * @param sessionId The test session that was scored
  * @param resultId The result entity ID
+ * @param templateId The template of the session (null when unknown)
  * @param goal The assessment goal that determined scoring strategy
  * @param overallScore The calculated overall score
+ * @param overallPercentage The calculated overall percentage used for ranking (null when unknown)
  * @param passed Whether the test was passed
  * @param duration How long the scoring calculation took
  * @param timestamp When scoring completed
@@ -21,8 +23,10 @@ import java.util.UUID;
 public record ScoringCompletedEvent(
         UUID sessionId,
         UUID resultId,
+        UUID templateId,
         AssessmentGoal goal,
         double overallScore,
+        Double overallPercentage,
         boolean passed,
         Duration duration,
         Instant timestamp
@@ -33,18 +37,19 @@ public record ScoringCompletedEvent(
     public static ScoringCompletedEvent now(UUID sessionId, UUID resultId,
                                              AssessmentGoal goal, double overallScore,
                                              boolean passed, Duration duration) {
-        return new ScoringCompletedEvent(sessionId, resultId, goal,
-                overallScore, passed, duration, Instant.now());
+        return new ScoringCompletedEvent(sessionId, resultId, null, goal,
+                overallScore, null, passed, duration, Instant.now());
     }
 
     /**
      * Factory method for creating an event calculated from a start time.
      */
-    public static ScoringCompletedEvent fromStart(UUID sessionId, UUID resultId,
+    public static ScoringCompletedEvent fromStart(UUID sessionId, UUID resultId, UUID templateId,
                                                    AssessmentGoal goal, double overallScore,
-                                                   boolean passed, Instant startTime) {
+                                                   Double overallPercentage, boolean passed,
+                                                   Instant startTime) {
         Duration duration = Duration.between(startTime, Instant.now());
-        return new ScoringCompletedEvent(sessionId, resultId, goal,
-                overallScore, passed, duration, Instant.now());
+        return new ScoringCompletedEvent(sessionId, resultId, templateId, goal,
+                overallScore, overallPercentage, passed, duration, Instant.now());
     }
 }
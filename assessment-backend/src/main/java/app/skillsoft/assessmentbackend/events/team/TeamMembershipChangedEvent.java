@@ -0,0 +1,53 @@
+package app.skillsoft.assessmentbackend.events.team;
+
+import java.util.UUID;
+
+/**
+ * Event published when the composition or status of a team changes.
+ * Consumed by TeamProfileMaintenanceListener to keep the materialized team profile current.
+ *
+ * @param teamId The team that changed
+ * @param userId The member whose membership or role changed,
+ *               or null when the change spans the team and requires a full rebuild
+ * @param reason Short description of the change, used for logging
+ */
+public record TeamMembershipChangedEvent(
+        UUID teamId,
+        UUID userId,
+        String reason
+) {
+    /**
+     * Factory method for a member who joined or rejoined the team.
+     */
+    public static TeamMembershipChangedEvent memberAdded(UUID teamId, UUID userId) {
+        return new TeamMembershipChangedEvent(teamId, userId, "member added");
+    }
+
+    /**
+     * Factory method for a member who left the team.
+     */
+    public static TeamMembershipChangedEvent memberRemoved(UUID teamId, UUID userId) {
+        return new TeamMembershipChangedEvent(teamId, userId, "member removed");
+    }
+
+    /**
+     * Factory method for a member promoted to or demoted from leader.
+     */
+    public static TeamMembershipChangedEvent roleChanged(UUID teamId, UUID userId) {
+        return new TeamMembershipChangedEvent(teamId, userId, "member role changed");
+    }
+
+    /**
+     * Factory method for a change of the whole team (activation, archiving, renaming).
+     */
+    public static TeamMembershipChangedEvent teamChanged(UUID teamId, String reason) {
+        return new TeamMembershipChangedEvent(teamId, null, reason);
+    }
+
+    /**
+     * Whether the profile has to be rebuilt from scratch rather than patched for one member.
+     */
+    public boolean requiresFullRebuild() {
+        return userId == null;
+    }
+}
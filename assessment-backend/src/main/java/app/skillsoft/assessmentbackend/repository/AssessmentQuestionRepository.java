@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +33,96 @@ public interface AssessmentQuestionRepository extends JpaRepository<AssessmentQu
             DifficultyLevel difficultyLevel
     );
 
+    /**
+     * Load the whole assembly pool in a single query: every active question with its
+     * indicator, difficulty and psychometric validity status (null when no statistics exist yet).
+     * Used by QuestionPoolIndex to build its in-memory snapshot.
+     *
+     * Returns Object[] with: [questionId (UUID), indicatorId (UUID), difficultyLevel (DifficultyLevel),
+     * validityStatus (ItemValidityStatus or null)]
+     */
+    @Query("""
+        SELECT q.id, q.behavioralIndicator.id, q.difficultyLevel, s.validityStatus
+        FROM AssessmentQuestion q
+        LEFT JOIN ItemStatistics s ON s.question = q
+        WHERE q.isActive = true
+        ORDER BY q.behavioralIndicator.id, q.orderIndex
+        """)
+    List<Object[]> findAssemblyPoolEntries();
+
+    /**
+     * Load the assembly pool entries of a single behavioral indicator.
+     * Used by QuestionPoolIndex to patch one indicator after a question mutation.
+     *
+     * Returns Object[] with the same layout as {@link #findAssemblyPoolEntries()}.
+     */
+    @Query("""
+        SELECT q.id, q.behavioralIndicator.id, q.difficultyLevel, s.validityStatus
+        FROM AssessmentQuestion q
+        LEFT JOIN ItemStatistics s ON s.question = q
+        WHERE q.behavioralIndicator.id = :indicatorId AND q.isActive = true
+        ORDER BY q.orderIndex
+        """)
+    List<Object[]> findAssemblyPoolEntriesByIndicatorId(@Param("indicatorId") UUID indicatorId);
+
+    /**
+     * Resolve the psychometric validity status of a batch of questions in a single query.
+     * Only active questions are returned; the status is null when no statistics exist yet.
+     * Used by PsychometricBlueprintValidator for set-based eligibility checks.
+     *
+     * Returns Object[] with: [questionId (UUID), validityStatus (ItemValidityStatus or null)]
+     */
+    @Query("""
+        SELECT q.id, s.validityStatus
+        FROM AssessmentQuestion q
+        LEFT JOIN ItemStatistics s ON s.question = q
+        WHERE q.id IN :questionIds AND q.isActive = true
+        """)
+    List<Object[]> findActiveValidityStatusesByIds(@Param("questionIds") Collection<UUID> questionIds);
+
+    /**
+     * Resolve the indicator and type of a batch of questions in a single query,
+     * regardless of their active flag (retired questions still score existing sessions).
+     * Used by ScoringPlanCache to compile scoring plans.
+     *
+     * Returns Object[] with: [questionId (UUID), indicatorId (UUID), questionType (QuestionType)]
+     */
+    @Query("""
+        SELECT q.id, q.behavioralIndicator.id, q.questionType
+        FROM AssessmentQuestion q
+        WHERE q.id IN :questionIds
+        """)
+    List<Object[]> findScoringEntriesByIds(@Param("questionIds") Collection<UUID> questionIds);
+
+    /**
+     * Count active questions per competency and psychometric validity status.
+     * Used by PsychometricBlueprintValidator to compute eligible counts for readiness checks.
+     *
+     * Returns Object[] with: [competencyId (UUID), validityStatus (ItemValidityStatus or null), count (Long)]
+     */
+    @Query("""
+        SELECT bi.competency.id, s.validityStatus, COUNT(q)
+        FROM AssessmentQuestion q
+        JOIN q.behavioralIndicator bi
+        LEFT JOIN ItemStatistics s ON s.question = q
+        WHERE bi.competency.id IN :competencyIds AND q.isActive = true
+        GROUP BY bi.competency.id, s.validityStatus
+        """)
+    List<Object[]> countActiveQuestionsByCompetencyAndValidityStatus(
+            @Param("competencyIds") Collection<UUID> competencyIds);
+
+    /**
+     * Find the distinct parent competencies of the given questions.
+     * Used by PsychometricAuditJob to recalculate each affected competency once.
+     */
+    @Query("""
+        SELECT DISTINCT bi.competency.id
+        FROM AssessmentQuestion q
+        JOIN q.behavioralIndicator bi
+        WHERE q.id IN :questionIds
+        """)
+    List<UUID> findCompetencyIdsByQuestionIds(@Param("questionIds") Collection<UUID> questionIds);
+
     /**
      * Count questions grouped by competency ID and difficulty level.
      * Efficient single-query for inventory heatmap generation.
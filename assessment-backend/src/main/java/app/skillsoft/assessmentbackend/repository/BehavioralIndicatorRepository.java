@@ -40,4 +40,19 @@ public interface BehavioralIndicatorRepository extends JpaRepository<BehavioralI
          * @return List of indicators matching the specified scope
          */
         public List<BehavioralIndicator> findByContextScope(ContextScope contextScope);
+
+        /**
+         * Load the competency mapping of every active indicator in a single query,
+         * ordered by weight (descending) so callers can prioritize indicators without re-sorting.
+         * Used by QuestionPoolIndex to build its competency -> indicators lookup.
+         *
+         * Returns Object[] with: [indicatorId (UUID), competencyId (UUID), weight (Float)]
+         */
+        @Query("""
+            SELECT bi.id, bi.competency.id, bi.weight
+            FROM BehavioralIndicator bi
+            WHERE bi.isActive = true
+            ORDER BY bi.weight DESC
+            """)
+        List<Object[]> findActiveIndicatorCompetencyMappings();
 }
\ No newline at end of file
@@ -100,4 +100,20 @@ public interface CompetencyReliabilityRepository extends JpaRepository<Competenc
         WHERE cr.cronbachAlpha IS NOT NULL
         """)
     Double calculateAverageAlpha();
+
+    /**
+     * Competency counts per reliability status and the average alpha in one scan.
+     * Returns a single row: [total, reliable, acceptable, unreliable, insufficientData, avgAlpha].
+     */
+    @Query(value = """
+        SELECT
+            COUNT(*),
+            COUNT(*) FILTER (WHERE reliability_status = 'RELIABLE'),
+            COUNT(*) FILTER (WHERE reliability_status = 'ACCEPTABLE'),
+            COUNT(*) FILTER (WHERE reliability_status = 'UNRELIABLE'),
+            COUNT(*) FILTER (WHERE reliability_status = 'INSUFFICIENT_DATA'),
+            AVG(cronbach_alpha)
+        FROM competency_reliability
+        """, nativeQuery = true)
+    List<Object[]> getHealthAggregates();
 }
@@ -2,10 +2,38 @@ package app.skillsoft.assessmentbackend.repository;
 
 import app.skillsoft.assessmentbackend.domain.entities.Competency;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CompetencyRepository extends JpaRepository<Competency, UUID> {
+
+    /**
+     * IDs of all competencies, without loading the entities.
+     */
+    @Query("SELECT c.id FROM Competency c")
+    List<UUID> findAllIds();
+
+    /**
+     * IDs of the competencies mapped to a Big Five trait via standard_codes.bigFiveRef.trait,
+     * accepting the same legacy keys as StandardCodesDto (globalCategory/global_category for
+     * the reference, bigFive for the trait), matched case-insensitively.
+     * The expression is backed by idx_competency_big_five_trait and must match it exactly.
+     */
+    @Query(value = """
+        SELECT c.id FROM competencies c
+        WHERE UPPER(COALESCE(
+            c.standard_codes #>> '{bigFiveRef,trait}',
+            c.standard_codes #>> '{bigFiveRef,bigFive}',
+            c.standard_codes #>> '{globalCategory,trait}',
+            c.standard_codes #>> '{globalCategory,bigFive}',
+            c.standard_codes #>> '{global_category,trait}',
+            c.standard_codes #>> '{global_category,bigFive}')) = :trait
+        ORDER BY c.id
+        """, nativeQuery = true)
+    List<UUID> findIdsByBigFiveTrait(@Param("trait") String trait);
 }
@@ -7,11 +7,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -50,6 +53,36 @@ public interface ItemStatisticsRepository extends JpaRepository<ItemStatistics,
     @Query("SELECT i FROM ItemStatistics i WHERE i.discriminationFlag = 'CRITICAL' OR i.discriminationFlag = 'NEGATIVE'")
     List<ItemStatistics> findProblematicItems();
 
+    /**
+     * Find items flagged for review or with critical/negative discrimination, with their
+     * question, indicator and competency fetched for the dashboard summaries.
+     */
+    @Query("""
+        SELECT i FROM ItemStatistics i
+        LEFT JOIN FETCH i.question q
+        LEFT JOIN FETCH q.behavioralIndicator bi
+        LEFT JOIN FETCH bi.competency
+        WHERE i.validityStatus = 'FLAGGED_FOR_REVIEW'
+        OR i.discriminationFlag = 'CRITICAL' OR i.discriminationFlag = 'NEGATIVE'
+        """)
+    List<ItemStatistics> findFlaggedItemsWithQuestion();
+
+    /**
+     * Item counts per validity status and the average discrimination index in one scan.
+     * Returns a single row: [total, active, probation, flagged, retired, avgDiscrimination].
+     */
+    @Query(value = """
+        SELECT
+            COUNT(*),
+            COUNT(*) FILTER (WHERE validity_status = 'ACTIVE'),
+            COUNT(*) FILTER (WHERE validity_status = 'PROBATION'),
+            COUNT(*) FILTER (WHERE validity_status = 'FLAGGED_FOR_REVIEW'),
+            COUNT(*) FILTER (WHERE validity_status = 'RETIRED'),
+            AVG(discrimination_index)
+        FROM item_statistics
+        """, nativeQuery = true)
+    List<Object[]> getHealthAggregates();
+
     /**
      * Find items by discrimination flag.
      */
@@ -73,6 +106,23 @@ public interface ItemStatisticsRepository extends JpaRepository<ItemStatistics,
             @Param("minResponses") int minResponses,
             @Param("threshold") LocalDateTime threshold);
 
+    /**
+     * Questions in the given validity status whose metrics have never been calculated.
+     */
+    @Query("SELECT i.question.id FROM ItemStatistics i WHERE i.validityStatus = :status AND i.lastCalculatedAt IS NULL")
+    List<UUID> findUncalculatedQuestionIds(@Param("status") ItemValidityStatus status);
+
+    /**
+     * Questions whose metrics have been calculated at least once.
+     */
+    @Query("SELECT i.question.id FROM ItemStatistics i WHERE i.lastCalculatedAt IS NOT NULL")
+    List<UUID> findCalculatedQuestionIds();
+
+    /**
+     * Find statistics of several questions at once, for bulk recalculation.
+     */
+    List<ItemStatistics> findByQuestion_IdIn(Collection<UUID> questionIds);
+
     /**
      * Find items for a specific competency (via behavioral indicator).
      */
@@ -129,4 +179,54 @@ public interface ItemStatisticsRepository extends JpaRepository<ItemStatistics,
      * Delete statistics for a question.
      */
     void deleteByQuestion_Id(UUID questionId);
+
+    /**
+     * Add the answers of a scored session to the running statistics of their items,
+     * one Welford step per item: with n prior observations, d = x - mean,
+     * mean += d / (n + 1) and M2 += d^2 * n / (n + 1); the co-moment uses the item and
+     * total deviations alike. Pairs match TestAnswerRepository#findItemTotalScorePairs.
+     * Row locks serialize concurrent sessions; items not yet seeded are skipped.
+     *
+     * @return Number of items updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE item_statistics s SET
+            running_count = s.running_count + 1,
+            item_score_mean = s.item_score_mean
+                + (v.item_score - s.item_score_mean) / (s.running_count + 1),
+            item_score_m2 = s.item_score_m2
+                + (v.item_score - s.item_score_mean) * (v.item_score - s.item_score_mean)
+                  * CAST(s.running_count AS DOUBLE PRECISION) / (s.running_count + 1),
+            total_score_mean = s.total_score_mean
+                + (v.total_score - s.total_score_mean) / (s.running_count + 1),
+            total_score_m2 = s.total_score_m2
+                + (v.total_score - s.total_score_mean) * (v.total_score - s.total_score_mean)
+                  * CAST(s.running_count AS DOUBLE PRECISION) / (s.running_count + 1),
+            item_total_co_moment = s.item_total_co_moment
+                + (v.item_score - s.item_score_mean) * (v.total_score - s.total_score_mean)
+                  * CAST(s.running_count AS DOUBLE PRECISION) / (s.running_count + 1)
+        FROM (
+            SELECT
+                a.question_id,
+                CAST(CASE WHEN a.max_score > 0 THEN a.score / a.max_score ELSE 0 END AS DOUBLE PRECISION) AS item_score,
+                CAST(r.overall_percentage / 100.0 AS DOUBLE PRECISION) AS total_score
+            FROM test_answers a
+            JOIN test_results r ON r.session_id = a.session_id
+            WHERE a.session_id = :sessionId
+            AND a.is_skipped = false
+            AND a.score IS NOT NULL
+            AND r.overall_percentage IS NOT NULL
+        ) v
+        WHERE s.question_id = v.question_id
+        AND s.running_seeded_at IS NOT NULL
+        """, nativeQuery = true)
+    int applyScoredSession(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Questions whose running statistics are seeded, for periodic verification.
+     */
+    @Query("SELECT i.question.id FROM ItemStatistics i WHERE i.runningSeededAt IS NOT NULL")
+    List<UUID> findQuestionIdsWithRunningStatistics();
 }
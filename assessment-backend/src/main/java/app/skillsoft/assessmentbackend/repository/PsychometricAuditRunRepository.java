@@ -0,0 +1,24 @@
+package app.skillsoft.assessmentbackend.repository;
+
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRun;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PsychometricAuditRunRepository extends JpaRepository<PsychometricAuditRun, UUID> {
+
+    /**
+     * Find the most recent run in one of the given statuses
+     */
+    Optional<PsychometricAuditRun> findFirstByStatusInOrderByStartedAtDesc(Collection<PsychometricAuditRunStatus> statuses);
+
+    /**
+     * Find the most recent run
+     */
+    Optional<PsychometricAuditRun> findFirstByOrderByStartedAtDesc();
+}
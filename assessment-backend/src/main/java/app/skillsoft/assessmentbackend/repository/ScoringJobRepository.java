@@ -0,0 +1,92 @@
+package app.skillsoft.assessmentbackend.repository;
+
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ScoringJobRepository extends JpaRepository<ScoringJob, UUID> {
+
+    /**
+     * Find the most recent scoring job of a session
+     */
+    Optional<ScoringJob> findFirstBySessionIdOrderByCreatedAtDesc(UUID sessionId);
+
+    /**
+     * Queue a scoring job unless the session already has a QUEUED or RUNNING one.
+     * Returns 1 when a job was inserted, 0 when an active job already existed.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO scoring_jobs (id, session_id, status, attempts, next_attempt_at, created_at)
+        VALUES (:id, :sessionId, 'QUEUED', 0, :now, :now)
+        ON CONFLICT (session_id) WHERE status IN ('QUEUED', 'RUNNING') DO NOTHING
+        """, nativeQuery = true)
+    int insertIfNoActiveJob(
+            @Param("id") UUID id,
+            @Param("sessionId") UUID sessionId,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Lock queued jobs that are due, oldest first. Rows locked by another node's
+     * claim are skipped, so concurrent workers never claim the same job.
+     * Must run in the transaction that marks them RUNNING.
+     */
+    @Query(value = """
+        SELECT id FROM scoring_jobs
+        WHERE status = 'QUEUED' AND next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<UUID> lockDueJobIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Mark claimed jobs RUNNING and count the attempt.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE ScoringJob j
+        SET j.status = app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus.RUNNING,
+            j.attempts = j.attempts + 1,
+            j.startedAt = :now
+        WHERE j.id IN :ids
+        """)
+    int markRunning(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Re-queue RUNNING jobs whose worker stopped before recording an outcome
+     * (node crash or redeploy).
+     */
+    @Modifying
+    @Query("""
+        UPDATE ScoringJob j
+        SET j.status = app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus.QUEUED,
+            j.nextAttemptAt = :now
+        WHERE j.status = app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus.RUNNING
+          AND j.startedAt < :cutoff
+        """)
+    int requeueStaleJobs(@Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    /**
+     * Sessions with a PENDING result and no scoring job: results left by synchronous
+     * scoring failures before jobs existed.
+     */
+    @Query(value = """
+        SELECT r.session_id FROM test_results r
+        WHERE r.status = 'PENDING'
+          AND NOT EXISTS (SELECT 1 FROM scoring_jobs j WHERE j.session_id = r.session_id)
+        ORDER BY r.completed_at
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<UUID> findSessionIdsWithUnqueuedPendingResults(@Param("limit") int limit);
+}
@@ -0,0 +1,39 @@
+package app.skillsoft.assessmentbackend.repository;
+
+import app.skillsoft.assessmentbackend.domain.entities.SessionScoreAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SessionScoreAggregateRepository extends JpaRepository<SessionScoreAggregate, UUID> {
+
+    /**
+     * Find the running per-indicator totals of a session.
+     */
+    List<SessionScoreAggregate> findBySession_Id(UUID sessionId);
+
+    /**
+     * Add a delta to the running totals of one indicator, creating the row on first use.
+     * Atomic in the database, so concurrent submissions for the same indicator never
+     * lose an update; the delta rolls back with the answer it belongs to.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO session_score_aggregates (id, session_id, indicator_id, score_sum, answer_count)
+        VALUES (gen_random_uuid(), :sessionId, :indicatorId, :scoreDelta, :countDelta)
+        ON CONFLICT (session_id, indicator_id) DO UPDATE
+        SET score_sum = session_score_aggregates.score_sum + EXCLUDED.score_sum,
+            answer_count = session_score_aggregates.answer_count + EXCLUDED.answer_count
+        """, nativeQuery = true)
+    int addToAggregate(
+            @Param("sessionId") UUID sessionId,
+            @Param("indicatorId") UUID indicatorId,
+            @Param("scoreDelta") double scoreDelta,
+            @Param("countDelta") int countDelta);
+}
@@ -61,6 +61,20 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, UUID> {
     @Query("SELECT tm.team.id FROM TeamMember tm JOIN tm.user u WHERE u.clerkId = :clerkId AND tm.isActive = true")
     List<UUID> findTeamIdsByUserClerkId(@Param("clerkId") String clerkId);
 
+    /**
+     * Find teams with an active member who has a completed result of the template.
+     * Used to rebuild team profiles after the template's results were re-scored.
+     */
+    @Query("""
+        SELECT DISTINCT tm.team.id FROM TeamMember tm JOIN tm.user u
+        WHERE tm.isActive = true
+          AND u.clerkId IN (
+            SELECT r.clerkUserId FROM TestResult r
+            WHERE r.session.template.id = :templateId
+              AND r.status = app.skillsoft.assessmentbackend.domain.entities.ResultStatus.COMPLETED)
+        """)
+    List<UUID> findTeamIdsWithCompletedResultsForTemplate(@Param("templateId") UUID templateId);
+
     /**
      * Find the leader of a team.
      */
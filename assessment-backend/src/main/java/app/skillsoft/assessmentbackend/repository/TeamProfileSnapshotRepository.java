@@ -0,0 +1,14 @@
+package app.skillsoft.assessmentbackend.repository;
+
+import app.skillsoft.assessmentbackend.domain.entities.TeamProfileSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository for materialized team profiles, keyed by team ID.
+ */
+@Repository
+public interface TeamProfileSnapshotRepository extends JpaRepository<TeamProfileSnapshot, UUID> {
+}
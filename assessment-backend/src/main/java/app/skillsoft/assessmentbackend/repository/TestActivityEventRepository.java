@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -76,6 +77,15 @@ public interface TestActivityEventRepository extends JpaRepository<TestActivityE
      */
     boolean existsBySessionIdAndEventType(UUID sessionId, ActivityEventType eventType);
 
+    /**
+     * Find which of the given sessions already have an event of the given type.
+     * Bulk variant of existsBySessionIdAndEventType for batch recording.
+     */
+    @Query("SELECT e.sessionId FROM TestActivityEvent e WHERE e.sessionId IN :sessionIds AND e.eventType = :eventType")
+    List<UUID> findSessionIdsWithEventType(
+            @Param("sessionIds") Collection<UUID> sessionIds,
+            @Param("eventType") ActivityEventType eventType);
+
     /**
      * Aggregate event counts by type for a template.
      * Returns [eventType, count] pairs.
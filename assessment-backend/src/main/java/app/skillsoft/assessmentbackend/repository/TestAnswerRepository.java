@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,12 +34,43 @@ public interface TestAnswerRepository extends JpaRepository<TestAnswer, UUID> {
      */
     boolean existsBySession_IdAndQuestion_Id(UUID sessionId, UUID questionId);
 
+    /**
+     * Find the answers of a session for several questions (batch submission upsert)
+     */
+    List<TestAnswer> findBySession_IdAndQuestion_IdIn(UUID sessionId, Collection<UUID> questionIds);
+
+    /**
+     * Find the answers of several sessions in one query (bulk re-scoring)
+     */
+    List<TestAnswer> findBySession_IdIn(Collection<UUID> sessionIds);
+
     /**
      * Count answered (not skipped) questions in a session
      */
     @Query("SELECT COUNT(a) FROM TestAnswer a WHERE a.session.id = :sessionId AND a.isSkipped = false AND a.answeredAt IS NOT NULL")
     long countAnsweredBySessionId(@Param("sessionId") UUID sessionId);
 
+    /**
+     * Result statistics of a session in one row, without loading the answers.
+     * Returns a single Object[] of numbers: [totalAnswers, answered, skipped, totalTimeSeconds].
+     */
+    @Query("""
+        SELECT COUNT(a),
+               COALESCE(SUM(CASE WHEN a.isSkipped = false AND a.answeredAt IS NOT NULL THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(CASE WHEN a.isSkipped = true THEN 1 ELSE 0 END), 0),
+               COALESCE(SUM(a.timeSpentSeconds), 0)
+        FROM TestAnswer a
+        WHERE a.session.id = :sessionId
+        """)
+    List<Object[]> findAnswerStatisticsBySessionId(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Answer flags of a session, used to build the hot-state answered bitmap.
+     * Returns a list of Object[] where each row is [questionId, isSkipped, answeredAt].
+     */
+    @Query("SELECT a.question.id, a.isSkipped, a.answeredAt FROM TestAnswer a WHERE a.session.id = :sessionId")
+    List<Object[]> findAnswerFlagsBySessionId(@Param("sessionId") UUID sessionId);
+
     /**
      * Batch count answered questions for multiple sessions.
      * Returns a list of Object[] where each row is [sessionId, count].
@@ -132,6 +164,20 @@ public interface TestAnswerRepository extends JpaRepository<TestAnswer, UUID> {
         """)
     long countByQuestion_Id(@Param("questionId") UUID questionId);
 
+    /**
+     * Batch variant of countByQuestion_Id for several questions.
+     * Returns a list of Object[] where each row is [questionId, count].
+     * Questions without scored responses are absent from the result.
+     */
+    @Query("""
+        SELECT a.question.id, COUNT(a) FROM TestAnswer a
+        WHERE a.question.id IN :questionIds
+        AND a.isSkipped = false
+        AND a.score IS NOT NULL
+        GROUP BY a.question.id
+        """)
+    List<Object[]> countByQuestionIds(@Param("questionIds") Collection<UUID> questionIds);
+
     /**
      * Find all answers for a specific question across all sessions.
      * Used for item-level psychometric analysis.
@@ -183,6 +229,64 @@ public interface TestAnswerRepository extends JpaRepository<TestAnswer, UUID> {
         """, nativeQuery = true)
     List<Object[]> getDistractorDistribution(@Param("questionId") UUID questionId);
 
+    /**
+     * Item statistics aggregates of every question with at least minResponses scored
+     * responses, in one grouped pass over the answers joined to their results.
+     * Returns a list of Object[] where each row is
+     * [questionId, responseCount, difficulty, pairCount, itemScoreMean, itemScoreM2,
+     *  totalScoreMean, totalScoreM2, itemTotalCoMoment].
+     *
+     * Difficulty averages the normalized scores of answers with a positive max score,
+     * as calculateDifficultyIndex does. The pair moments use the same (item score,
+     * overall percentage / 100) pairs as findItemTotalScorePairs: the REGR_* aggregates
+     * skip answers without a scored result, and the point-biserial discrimination is
+     * itemTotalCoMoment / sqrt(itemScoreM2 * totalScoreM2).
+     */
+    @Query(value = """
+        SELECT
+            question_id,
+            COUNT(*) AS response_count,
+            AVG(difficulty_score) AS difficulty,
+            REGR_COUNT(total_score, item_score) AS pair_count,
+            REGR_AVGX(total_score, item_score) AS item_score_mean,
+            REGR_SXX(total_score, item_score) AS item_score_m2,
+            REGR_AVGY(total_score, item_score) AS total_score_mean,
+            REGR_SYY(total_score, item_score) AS total_score_m2,
+            REGR_SXY(total_score, item_score) AS item_total_co_moment
+        FROM (
+            SELECT
+                a.question_id,
+                CAST(CASE WHEN a.max_score > 0 THEN a.score / a.max_score END AS DOUBLE PRECISION) AS difficulty_score,
+                CAST(CASE WHEN a.max_score > 0 THEN a.score / a.max_score ELSE 0 END AS DOUBLE PRECISION) AS item_score,
+                CAST(r.overall_percentage / 100.0 AS DOUBLE PRECISION) AS total_score
+            FROM test_answers a
+            LEFT JOIN test_results r ON r.session_id = a.session_id
+            WHERE a.is_skipped = false
+            AND a.score IS NOT NULL
+        ) scored
+        GROUP BY question_id
+        HAVING COUNT(*) >= :minResponses
+        """, nativeQuery = true)
+    List<Object[]> aggregateItemStatistics(@Param("minResponses") int minResponses);
+
+    /**
+     * Batch variant of getDistractorDistribution for several questions.
+     * Returns a list of Object[] where each row is [questionId, optionId, selectionCount].
+     */
+    @Query(value = """
+        SELECT
+            a.question_id,
+            option_id,
+            COUNT(*) as selection_count
+        FROM test_answers a,
+             LATERAL jsonb_array_elements_text(a.selected_option_ids) as option_id
+        WHERE a.question_id IN (:questionIds)
+        AND a.is_skipped = false
+        AND a.selected_option_ids IS NOT NULL
+        GROUP BY a.question_id, option_id
+        """, nativeQuery = true)
+    List<Object[]> getDistractorDistributions(@Param("questionIds") Collection<UUID> questionIds);
+
     /**
      * Find all answers for questions belonging to a competency (across all sessions).
      * Used for competency-level Cronbach's Alpha calculation.
@@ -226,6 +330,25 @@ public interface TestAnswerRepository extends JpaRepository<TestAnswer, UUID> {
         """, nativeQuery = true)
     List<Object[]> getScoreMatrixForCompetency(@Param("competencyId") UUID competencyId);
 
+    /**
+     * Combined score matrix of several competencies, e.g. all competencies of a Big Five
+     * trait, in one query. Rows as in getScoreMatrixForCompetency.
+     */
+    @Query(value = """
+        SELECT
+            a.session_id,
+            a.question_id,
+            CASE WHEN a.max_score > 0 THEN a.score / a.max_score ELSE 0 END as normalized_score
+        FROM test_answers a
+        JOIN assessment_questions q ON a.question_id = q.id
+        JOIN behavioral_indicators bi ON q.behavioral_indicator_id = bi.id
+        WHERE bi.competency_id IN (:competencyIds)
+        AND a.is_skipped = false
+        AND a.score IS NOT NULL
+        ORDER BY a.session_id, a.question_id
+        """, nativeQuery = true)
+    List<Object[]> getScoreMatrixForCompetencies(@Param("competencyIds") Collection<UUID> competencyIds);
+
     /**
      * Get answer scores for a specific session and competency.
      * Used in scoring strategies and reliability analysis.
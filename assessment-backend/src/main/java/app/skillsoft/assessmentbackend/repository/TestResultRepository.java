@@ -1,16 +1,20 @@
 package app.skillsoft.assessmentbackend.repository;
 
+import app.skillsoft.assessmentbackend.domain.entities.ResultStatus;
 import app.skillsoft.assessmentbackend.domain.entities.TestResult;
 import app.skillsoft.assessmentbackend.domain.projections.TemplateStatisticsProjection;
 import app.skillsoft.assessmentbackend.domain.projections.UserStatisticsProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -109,6 +113,18 @@ public interface TestResultRepository extends JpaRepository<TestResult, UUID> {
     @Query("SELECT COUNT(r) FROM TestResult r WHERE r.session.template.id = :templateId")
     long countResultsByTemplateId(@Param("templateId") UUID templateId);
 
+    /**
+     * Overall percentages of the scored results of a template (for the in-memory score index)
+     */
+    @Query("SELECT r.overallPercentage FROM TestResult r WHERE r.session.template.id = :templateId AND r.overallPercentage IS NOT NULL")
+    List<Double> findScoredPercentagesByTemplateId(@Param("templateId") UUID templateId);
+
+    /**
+     * Count scored results of a template (for score index reconciliation)
+     */
+    @Query("SELECT COUNT(r) FROM TestResult r WHERE r.session.template.id = :templateId AND r.overallPercentage IS NOT NULL")
+    long countScoredResultsByTemplateId(@Param("templateId") UUID templateId);
+
     /**
      * Find best result for a user across all templates
      */
@@ -347,4 +363,117 @@ public interface TestResultRepository extends JpaRepository<TestResult, UUID> {
      */
     @Query("SELECT (COUNT(CASE WHEN r.passed = true THEN 1 END) * 100.0 / NULLIF(COUNT(*), 0)) FROM TestResult r WHERE r.session.shareLink.id = :shareLinkId")
     Double calculatePassRateByShareLinkId(@Param("shareLinkId") UUID shareLinkId);
+
+    /**
+     * Change the status of a session's result if it still has the expected status.
+     * Used by the scoring job queue to mark PENDING results FAILED once retries are exhausted.
+     */
+    @Modifying
+    @Query("UPDATE TestResult r SET r.status = :status WHERE r.session.id = :sessionId AND r.status = :currentStatus")
+    int updateStatusIfCurrent(
+            @Param("sessionId") UUID sessionId,
+            @Param("currentStatus") ResultStatus currentStatus,
+            @Param("status") ResultStatus status);
+
+    /**
+     * Re-rank the percentiles of a template's whole history in one statement.
+     * Percentile = share of the template's scored results strictly below the result
+     * (rank - 1 over the total), 50 while the template has a single scored result.
+     * Only rows whose percentile changes are written; runs in its own transaction
+     * when called outside one.
+     *
+     * @return Number of updated results
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE test_results t
+        SET percentile = ranked.percentile
+        FROM (
+            SELECT r.id,
+                   CASE WHEN COUNT(*) OVER () <= 1 THEN 50
+                        ELSE CAST(ROUND(100.0 * (RANK() OVER (ORDER BY r.overall_percentage) - 1)
+                                        / COUNT(*) OVER ()) AS INTEGER)
+                   END AS percentile
+            FROM test_results r
+            JOIN test_sessions s ON s.id = r.session_id
+            WHERE s.template_id = :templateId
+              AND r.overall_percentage IS NOT NULL
+        ) ranked
+        WHERE t.id = ranked.id
+          AND t.percentile IS DISTINCT FROM ranked.percentile
+        """, nativeQuery = true)
+    int rerankPercentilesByTemplateId(@Param("templateId") UUID templateId);
+
+    /**
+     * Next page of templates with scored results, in ID order after the given ID.
+     * Pass the nil UUID to start from the beginning.
+     */
+    @Query(value = """
+        SELECT DISTINCT s.template_id
+        FROM test_results r
+        JOIN test_sessions s ON s.id = r.session_id
+        WHERE r.overall_percentage IS NOT NULL
+          AND s.template_id > :afterId
+        ORDER BY s.template_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<UUID> findScoredTemplateIdsAfter(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    // ============================================
+    // TEAM PROFILE QUERIES
+    // ============================================
+
+    /**
+     * Latest COMPLETED result per user and template for a set of users, so a team profile
+     * is built from one query instead of one per member. Retakes of a template are
+     * superseded by the newest attempt; results are ordered by user, newest first.
+     *
+     * @param clerkUserIds Clerk IDs of the team's members
+     * @return Relevant results of all given users
+     */
+    @Query("""
+        SELECT r FROM TestResult r
+        WHERE r.clerkUserId IN :clerkUserIds
+          AND r.status = app.skillsoft.assessmentbackend.domain.entities.ResultStatus.COMPLETED
+          AND NOT EXISTS (
+              SELECT 1 FROM TestResult newer
+              WHERE newer.clerkUserId = r.clerkUserId
+                AND newer.session.template = r.session.template
+                AND newer.status = app.skillsoft.assessmentbackend.domain.entities.ResultStatus.COMPLETED
+                AND newer.completedAt > r.completedAt
+          )
+        ORDER BY r.clerkUserId, r.completedAt DESC
+        """)
+    List<TestResult> findLatestCompletedByClerkUserIds(@Param("clerkUserIds") Collection<String> clerkUserIds);
+
+    // ============================================
+    // BULK RE-SCORING QUERIES
+    // ============================================
+
+    /**
+     * Next page of COMPLETED results of a template's completed sessions, in ID order after
+     * the given ID. Pass the nil UUID to start from the beginning.
+     */
+    @Query(value = """
+        SELECT r.id
+        FROM test_results r
+        JOIN test_sessions s ON s.id = r.session_id
+        WHERE s.template_id = :templateId
+          AND s.status = 'COMPLETED'
+          AND r.status = 'COMPLETED'
+          AND r.id > :afterId
+        ORDER BY r.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<UUID> findCompletedResultIdsByTemplateIdAfter(
+            @Param("templateId") UUID templateId,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    /**
+     * Find results by ID with session and template eagerly loaded (one query per re-scored chunk).
+     */
+    @Query("SELECT r FROM TestResult r JOIN FETCH r.session s JOIN FETCH s.template WHERE r.id IN :resultIds")
+    List<TestResult> findAllByIdWithSessionAndTemplate(@Param("resultIds") Collection<UUID> resultIds);
 }
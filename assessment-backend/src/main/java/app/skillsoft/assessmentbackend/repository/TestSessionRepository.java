@@ -11,8 +11,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -94,6 +96,183 @@ public interface TestSessionRepository extends JpaRepository<TestSession, UUID>
     @Query("UPDATE TestSession s SET s.lastActivityAt = :timestamp WHERE s.id = :sessionId")
     int updateLastActivityAt(@Param("sessionId") UUID sessionId, @Param("timestamp") LocalDateTime timestamp);
 
+    /**
+     * Record activity of a session that is still IN_PROGRESS before answers are written.
+     * The row lock taken by the update holds off a concurrent completion or timeout until
+     * the answers commit. Returns 0 if the session is no longer IN_PROGRESS.
+     */
+    @Modifying
+    @Query("UPDATE TestSession s SET s.lastActivityAt = :timestamp WHERE s.id = :sessionId AND s.status = 'IN_PROGRESS'")
+    int touchIfInProgress(@Param("sessionId") UUID sessionId, @Param("timestamp") LocalDateTime timestamp);
+
+    /**
+     * Write back cursor, timer and activity of an in-progress session (hot-state flush).
+     * Returns 0 if the session is no longer IN_PROGRESS.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE TestSession s
+        SET s.currentQuestionIndex = :currentQuestionIndex,
+            s.timeRemainingSeconds = :timeRemainingSeconds,
+            s.lastActivityAt = :lastActivityAt
+        WHERE s.id = :sessionId AND s.status = 'IN_PROGRESS'
+        """)
+    int updateHotState(
+            @Param("sessionId") UUID sessionId,
+            @Param("currentQuestionIndex") int currentQuestionIndex,
+            @Param("timeRemainingSeconds") Integer timeRemainingSeconds,
+            @Param("lastActivityAt") LocalDateTime lastActivityAt);
+
+    /**
+     * Find deadlines of in-progress sessions due before the horizon (deadline scheduler refill).
+     *
+     * @return List of [sessionId (UUID), deadlineAt (LocalDateTime)]
+     */
+    @Query("""
+        SELECT s.id, s.deadlineAt FROM TestSession s
+        WHERE s.status = 'IN_PROGRESS' AND s.deadlineAt IS NOT NULL AND s.deadlineAt <= :horizon
+        """)
+    List<Object[]> findDeadlinesDueBefore(@Param("horizon") LocalDateTime horizon);
+
+    /**
+     * Time out the given sessions whose deadline has passed, in one statement.
+     * Sessions no longer IN_PROGRESS (finished or expired elsewhere) or not yet due
+     * are left alone, so only one caller claims each expiry.
+     *
+     * @return IDs of the sessions actually timed out
+     */
+    @Query(value = """
+        UPDATE test_sessions
+        SET status = 'TIMED_OUT',
+            completed_at = :now,
+            last_activity_at = :now,
+            time_remaining_seconds = 0
+        WHERE id IN (:sessionIds) AND status = 'IN_PROGRESS'
+          AND deadline_at IS NOT NULL AND deadline_at <= :now
+        RETURNING id
+        """, nativeQuery = true)
+    List<UUID> markTimedOutPastDeadline(
+            @Param("sessionIds") Collection<UUID> sessionIds,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Lock the next chunk of IN_PROGRESS sessions inactive since before the cutoff,
+     * in ID order after the given ID (keyset paging for the stale-session sweep).
+     * Rows locked by a concurrent request or sweeper are skipped.
+     * Must run in the transaction that times them out.
+     */
+    @Query(value = """
+        SELECT id FROM test_sessions
+        WHERE status = 'IN_PROGRESS' AND last_activity_at < :cutoff AND id > :afterId
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<UUID> lockStaleSessionIdsAfter(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    /**
+     * Time out a chunk of stale sessions in one statement.
+     * Staleness is re-checked, so sessions that saw activity since they were locked
+     * (e.g. a hot-state flush) and sessions no longer IN_PROGRESS are left as is.
+     *
+     * @return IDs of the sessions actually timed out
+     */
+    @Query(value = """
+        UPDATE test_sessions
+        SET status = 'TIMED_OUT',
+            completed_at = :now,
+            last_activity_at = :now,
+            time_remaining_seconds = CASE WHEN deadline_at IS NOT NULL THEN 0 ELSE time_remaining_seconds END
+        WHERE id IN (:sessionIds) AND status = 'IN_PROGRESS' AND last_activity_at < :cutoff
+        RETURNING id
+        """, nativeQuery = true)
+    List<UUID> markTimedOut(
+            @Param("sessionIds") Collection<UUID> sessionIds,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Next chunk of IN_PROGRESS sessions inactive since before the cutoff, in ID order
+     * after the given ID (keyset paging for session cleanup).
+     */
+    @Query(value = """
+        SELECT id FROM test_sessions
+        WHERE status = 'IN_PROGRESS' AND last_activity_at < :cutoff AND id > :afterId
+        ORDER BY id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<UUID> findStaleInProgressSessionIdsAfter(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    /**
+     * Abandon a chunk of IN_PROGRESS sessions in one statement and its own transaction.
+     * Staleness is re-checked, so sessions that saw activity since they were selected are left as is.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE TestSession s
+        SET s.status = app.skillsoft.assessmentbackend.domain.entities.SessionStatus.ABANDONED,
+            s.completedAt = :now,
+            s.lastActivityAt = :now
+        WHERE s.id IN :sessionIds
+          AND s.status = app.skillsoft.assessmentbackend.domain.entities.SessionStatus.IN_PROGRESS
+          AND s.lastActivityAt < :cutoff
+        """)
+    int abandonStaleInProgressSessions(
+            @Param("sessionIds") Collection<UUID> sessionIds,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Abandon up to limit NOT_STARTED sessions created or touched before the cutoff,
+     * in one statement and its own transaction. Rows locked by a concurrent start are skipped.
+     * Abandoned rows leave the predicate, so callers repeat until fewer than limit are updated.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE test_sessions SET status = 'ABANDONED', completed_at = :now
+        WHERE id IN (
+            SELECT id FROM test_sessions
+            WHERE status = 'NOT_STARTED' AND last_activity_at < :cutoff
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """, nativeQuery = true)
+    int abandonStaleNotStartedSessions(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    /**
+     * Delete up to limit ABANDONED sessions inactive since before the cutoff that have
+     * no answers and no result, in one statement and its own transaction.
+     * Activity events, aggregates and scoring jobs go with them (ON DELETE CASCADE).
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM test_sessions
+        WHERE id IN (
+            SELECT s.id FROM test_sessions s
+            WHERE s.status = 'ABANDONED' AND s.last_activity_at < :cutoff
+              AND NOT EXISTS (SELECT 1 FROM test_answers a WHERE a.session_id = s.id)
+              AND NOT EXISTS (SELECT 1 FROM test_results r WHERE r.session_id = s.id)
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """, nativeQuery = true)
+    int deleteEmptyAbandonedSessions(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("limit") int limit);
+
     /**
      * Check if user has any completed sessions for a template
      */
@@ -6,6 +6,7 @@ import app.skillsoft.assessmentbackend.domain.dto.activity.TestActivityDto;
 import app.skillsoft.assessmentbackend.domain.entities.TestSession;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -75,4 +76,12 @@ public interface ActivityTrackingService {
      * @param session the test session that timed out
      */
     void recordSessionTimedOut(TestSession session);
+
+    /**
+     * Record session timed out events for a batch of sessions.
+     * Sessions that already have the event are skipped; the rest are written in one batch.
+     *
+     * @param sessions the test sessions that timed out
+     */
+    void recordSessionsTimedOut(Collection<TestSession> sessions);
 }
@@ -5,11 +5,13 @@ import app.skillsoft.assessmentbackend.domain.dto.AnonymousResultSummaryDto;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousSessionRequest;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousSessionResponse;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousTakerInfoRequest;
+import app.skillsoft.assessmentbackend.domain.dto.AnswerSubmissionResult;
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
 import app.skillsoft.assessmentbackend.domain.dto.TestAnswerDto;
-import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -82,7 +84,21 @@ public interface AnonymousTestService {
      * @throws app.skillsoft.assessmentbackend.exception.InvalidSessionTokenException if token is invalid
      * @throws app.skillsoft.assessmentbackend.exception.SessionExpiredException if session has expired
      */
-    TestSessionService.CurrentQuestionDto getCurrentQuestion(UUID sessionId, String sessionAccessToken);
+    default TestSessionService.CurrentQuestionDto getCurrentQuestion(UUID sessionId, String sessionAccessToken) {
+        return getCurrentQuestion(sessionId, sessionAccessToken, 0);
+    }
+
+    /**
+     * Get the current question for an anonymous session together with up to
+     * {@code lookahead} following questions.
+     *
+     * @param sessionId The session ID
+     * @param sessionAccessToken The session access token
+     * @param lookahead Number of following questions to include
+     *                  (clamped to 0..{@link TestSessionService#MAX_LOOKAHEAD})
+     * @return Current question with context and lookahead questions
+     */
+    TestSessionService.CurrentQuestionDto getCurrentQuestion(UUID sessionId, String sessionAccessToken, int lookahead);
 
     /**
      * Submit an answer for an anonymous session.
@@ -102,6 +118,23 @@ public interface AnonymousTestService {
             int selectedOptionIndex
     );
 
+    /**
+     * Submit several answers of an anonymous session in a single transaction.
+     * Items are validated individually: invalid items are rejected without failing the batch.
+     *
+     * @param sessionId The session ID
+     * @param sessionAccessToken The session access token
+     * @param selections The selected options, in client order
+     * @return One result per selection, in the same order
+     * @throws app.skillsoft.assessmentbackend.exception.InvalidSessionTokenException if token is invalid
+     * @throws app.skillsoft.assessmentbackend.exception.SessionExpiredException if session has expired
+     */
+    List<AnswerSubmissionResult> submitAnswers(
+            UUID sessionId,
+            String sessionAccessToken,
+            List<AnswerSelection> selections
+    );
+
     /**
      * Navigate to a specific question in an anonymous session.
      *
@@ -137,21 +170,33 @@ public interface AnonymousTestService {
      * Complete an anonymous session with taker info.
      *
      * <p>Collects the anonymous taker's information (name, optional email/notes),
-     * calculates the test result, and marks the session as completed.</p>
+     * marks the session as completed and queues it for scoring. The result is
+     * delivered by {@link #getScoringStatus(UUID, String)}.</p>
      *
      * @param sessionId The session ID
      * @param sessionAccessToken The session access token
      * @param takerInfo The anonymous taker's information
-     * @return The test result
+     * @return Handle of the queued scoring job
      * @throws app.skillsoft.assessmentbackend.exception.InvalidSessionTokenException if token is invalid
      * @throws app.skillsoft.assessmentbackend.exception.SessionExpiredException if session has expired
      */
-    TestResultDto completeSession(
+    ScoringJobDto completeSession(
             UUID sessionId,
             String sessionAccessToken,
             AnonymousTakerInfoRequest takerInfo
     );
 
+    /**
+     * Get the scoring status of a finished anonymous session, with the result once scored.
+     *
+     * @param sessionId The session ID
+     * @param sessionAccessToken The session access token
+     * @return The scoring job status
+     * @throws app.skillsoft.assessmentbackend.exception.InvalidSessionTokenException if token is invalid
+     * @throws app.skillsoft.assessmentbackend.exception.ResourceNotFoundException if the session was never queued for scoring
+     */
+    ScoringJobDto getScoringStatus(UUID sessionId, String sessionAccessToken);
+
     /**
      * Get the result for a completed anonymous session.
      *
@@ -268,4 +313,12 @@ public interface AnonymousTestService {
             return new ShareLinkResultStats(shareLinkId, 0, 0, null, null);
         }
     }
+
+    /**
+     * Selected option for one question of a batch submission.
+     */
+    record AnswerSelection(
+            UUID questionId,
+            int selectedOptionIndex
+    ) {}
 }
@@ -1,7 +1,9 @@
 package app.skillsoft.assessmentbackend.services;
 
 import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
+import app.skillsoft.assessmentbackend.services.scoring.ScoreChange;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -10,7 +12,7 @@ import java.util.UUID;
  * This service isolates scoring calculation from session completion to ensure:
  * 1. Session completion commits independently (session is marked COMPLETED first)
  * 2. Scoring failures don't roll back the session state
- * 3. Retry logic can be applied specifically to scoring operations
+ * 3. Failed attempts can be retried specifically for scoring (by the scoring job queue)
  *
  * Transaction Flow:
  * <pre>
@@ -21,11 +23,12 @@ import java.util.UUID;
  *   v
  *
  * calculateAndSaveResult() [REQUIRES_NEW]:
- *   TX #2: scoring logic -> COMMIT (or retry if fails)
+ *   TX #2: scoring logic -> COMMIT (or roll back if it fails)
  * </pre>
  *
- * If scoring fails after all retries, a PENDING result is created
- * that can be retried later by a scheduled job.
+ * If an attempt fails, a PENDING result is recorded and the scoring job queue
+ * retries it later with backoff. Scoring a session that already
+ * has a COMPLETED result returns that result unchanged, so retries are idempotent.
  */
 public interface ScoringOrchestrationService {
 
@@ -33,14 +36,41 @@ public interface ScoringOrchestrationService {
      * Calculate and save test result in a NEW transaction.
      * This ensures session completion is independent of scoring success.
      *
-     * Uses Resilience4j @Retry for transient failure handling:
-     * - Max 3 attempts with exponential backoff
-     * - Retries on DataAccessException, SQLException
-     * - Falls back to creating PENDING result if all retries fail
+     * Makes a single attempt: failures propagate to the caller (the scoring job worker),
+     * whose job queue retries with backoff up to max-attempts.
      *
      * @param sessionId The ID of the completed test session to score
-     * @return TestResultDto with the calculated results (or PENDING status if scoring failed)
+     * @return TestResultDto with the calculated results
      * @throws app.skillsoft.assessmentbackend.exception.ResourceNotFoundException if session not found
      */
     TestResultDto calculateAndSaveResult(UUID sessionId);
+
+    /**
+     * Record a failed scoring attempt in a NEW transaction: keeps a PENDING result with
+     * the session's answer statistics until a later attempt scores it.
+     * A COMPLETED result committed by a concurrent attempt is returned unchanged.
+     *
+     * @param sessionId The session whose scoring failed
+     * @param exception The failure of the attempt
+     * @return TestResultDto with PENDING status (or the COMPLETED result)
+     */
+    TestResultDto recordScoringFailure(UUID sessionId, Exception exception);
+
+    /**
+     * Recompute stored COMPLETED results from their sessions' answers in ONE transaction.
+     *
+     * Used by the bulk re-scoring job after scoring weights, thresholds or the question
+     * pool changed. Results are loaded with one query and answers with another; changed
+     * results are written by the flush at commit (batched by hibernate.jdbc.batch_size).
+     * Percentiles are left as stored (re-ranked once per template by the caller) and no
+     * scoring events are published, so item statistics do not count the sessions twice.
+     * Option-based answers (MCQ, SJT, capability, peer feedback) are graded again against
+     * the current answer options first, so an answer key fix is picked up; their new
+     * scores are written with the results.
+     *
+     * @param resultIds Results to re-score
+     * @param dryRun    Compute the changes without writing them
+     * @return One change per re-scored result; results that could not be scored are logged and omitted
+     */
+    List<ScoreChange> rescoreResults(List<UUID> resultIds, boolean dryRun);
 }
@@ -6,6 +6,8 @@ import app.skillsoft.assessmentbackend.events.assembly.AssemblyProgress;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +17,11 @@ import java.util.UUID;
  */
 public interface TestSessionService {
 
+    /**
+     * Upper bound for the number of questions returned ahead of the current one.
+     */
+    int MAX_LOOKAHEAD = 10;
+
     /**
      * Start a new test session for a user.
      */
@@ -46,10 +53,31 @@ public interface TestSessionService {
      */
     TestAnswerDto submitAnswer(SubmitAnswerRequest request);
 
+    /**
+     * Submit several answers of one session in a single transaction.
+     * Items are validated individually: invalid items are rejected without failing the batch.
+     *
+     * @param sessionId The session the answers belong to
+     * @param requests The answers, in client order
+     * @return One result per request, in the same order
+     */
+    List<AnswerSubmissionResult> submitAnswers(UUID sessionId, List<SubmitAnswerRequest> requests);
+
     /**
      * Get the current question for a session.
      */
-    CurrentQuestionDto getCurrentQuestion(UUID sessionId);
+    default CurrentQuestionDto getCurrentQuestion(UUID sessionId) {
+        return getCurrentQuestion(sessionId, 0);
+    }
+
+    /**
+     * Get the current question for a session together with up to {@code lookahead}
+     * following questions of the question order, so the client can prefetch them.
+     *
+     * @param sessionId The session UUID
+     * @param lookahead Number of following questions to include (clamped to 0..MAX_LOOKAHEAD)
+     */
+    CurrentQuestionDto getCurrentQuestion(UUID sessionId, int lookahead);
 
     /**
      * Navigate to a specific question in the session.
@@ -62,9 +90,19 @@ public interface TestSessionService {
     TestSessionDto updateTimeRemaining(UUID sessionId, int timeRemainingSeconds);
 
     /**
-     * Complete a test session and calculate results.
+     * Complete a test session and queue it for scoring.
+     * Returns immediately; the result is delivered by {@link #getScoringStatus(UUID)}.
+     *
+     * @return Handle of the queued scoring job
+     */
+    ScoringJobDto completeSession(UUID sessionId);
+
+    /**
+     * Scoring status of a finished session, with the result once it is scored.
+     *
+     * @throws app.skillsoft.assessmentbackend.exception.ResourceNotFoundException if the session was never queued for scoring
      */
-    TestResultDto completeSession(UUID sessionId);
+    ScoringJobDto getScoringStatus(UUID sessionId);
 
     /**
      * Abandon a test session.
@@ -77,9 +115,27 @@ public interface TestSessionService {
     List<TestAnswerDto> getSessionAnswers(UUID sessionId);
 
     /**
-     * Timeout stale sessions (batch job).
+     * Time out the next chunk of stale sessions (IN_PROGRESS without activity since the cutoff).
+     * Sessions are locked in ID order after the given ID and timed out with one bulk UPDATE
+     * that re-checks staleness; the sessions timed out are queued for scoring in the same
+     * transaction.
+     *
+     * @param cutoff  Sessions inactive since before this time are stale
+     * @param afterId Keyset cursor: the last session ID of the previous chunk
+     * @param limit   Maximum chunk size
+     * @return The chunk locked and the sessions timed out by this call
+     */
+    StaleSessionChunk timeoutStaleSessions(LocalDateTime cutoff, UUID afterId, int limit);
+
+    /**
+     * Time out sessions whose server-side deadline has passed.
+     * Sessions that are no longer in progress or not yet due are skipped.
+     * Timed out sessions are queued for scoring in the same transaction.
+     *
+     * @param sessionIds Candidate sessions, typically drained from the deadline queue
+     * @return The sessions that were timed out by this call
      */
-    int timeoutStaleSessions();
+    List<UUID> expireSessions(Collection<UUID> sessionIds);
 
     /**
      * Check if a template is ready to start a test session.
@@ -99,8 +155,23 @@ public interface TestSessionService {
      */
     Optional<AssemblyProgress> getAssemblyProgress(UUID templateId);
 
+    /**
+     * One chunk of the stale-session sweep.
+     *
+     * @param lastSessionId Last session ID locked (keyset cursor for the next chunk), null if none
+     * @param lockedCount   Sessions locked; fewer than the limit means no stale sessions are left
+     * @param timedOut      Sessions timed out; the others saw activity since they were locked
+     */
+    record StaleSessionChunk(UUID lastSessionId, int lockedCount, List<UUID> timedOut) {
+
+        public static StaleSessionChunk empty() {
+            return new StaleSessionChunk(null, 0, List.of());
+        }
+    }
+
     /**
      * DTO for current question with context.
+     * lookahead holds the following questions when requested, empty otherwise.
      */
     record CurrentQuestionDto(
             AssessmentQuestionDto question,
@@ -109,6 +180,28 @@ public interface TestSessionService {
             Integer timeRemainingSeconds,
             TestAnswerDto previousAnswer,
             Boolean allowBackNavigation,
-            Boolean allowSkip
+            Boolean allowSkip,
+            List<LookaheadQuestionDto> lookahead
+    ) {
+        public CurrentQuestionDto(
+                AssessmentQuestionDto question,
+                int questionIndex,
+                int totalQuestions,
+                Integer timeRemainingSeconds,
+                TestAnswerDto previousAnswer,
+                Boolean allowBackNavigation,
+                Boolean allowSkip) {
+            this(question, questionIndex, totalQuestions, timeRemainingSeconds,
+                    previousAnswer, allowBackNavigation, allowSkip, List.of());
+        }
+    }
+
+    /**
+     * DTO for a question following the current one, with its previous answer if any.
+     */
+    record LookaheadQuestionDto(
+            AssessmentQuestionDto question,
+            int questionIndex,
+            TestAnswerDto previousAnswer
     ) {}
 }
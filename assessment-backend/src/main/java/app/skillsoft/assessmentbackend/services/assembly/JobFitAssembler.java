@@ -3,10 +3,8 @@ package app.skillsoft.assessmentbackend.services.assembly;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.JobFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TestBlueprintDto;
 import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
-import app.skillsoft.assessmentbackend.domain.entities.BehavioralIndicator;
 import app.skillsoft.assessmentbackend.domain.entities.Competency;
 import app.skillsoft.assessmentbackend.domain.entities.DifficultyLevel;
-import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.services.external.OnetService;
 import app.skillsoft.assessmentbackend.services.external.PassportService;
@@ -40,7 +38,6 @@ public class JobFitAssembler implements TestAssembler {
     private final OnetService onetService;
     private final PassportService passportService;
     private final CompetencyRepository competencyRepository;
-    private final BehavioralIndicatorRepository indicatorRepository;
     private final QuestionSelectionService questionSelectionService;
 
     /**
@@ -269,11 +266,11 @@ public class JobFitAssembler implements TestAssembler {
             // Find competency and its indicators by name
             var indicatorsForGap = findIndicatorsForCompetencyName(gapInfo.competencyName());
 
-            for (var indicator : indicatorsForGap) {
+            for (var indicatorId : indicatorsForGap) {
                 // Weight = gap magnitude (0.0 - 1.0), minimum 0.1 to ensure at least some questions
                 double weight = Math.max(0.1, gapInfo.gap());
-                indicatorWeights.put(indicator.getId(), weight);
-                indicatorDifficulties.put(indicator.getId(), targetDifficulty);
+                indicatorWeights.put(indicatorId, weight);
+                indicatorDifficulties.put(indicatorId, targetDifficulty);
             }
         }
 
@@ -327,10 +324,11 @@ public class JobFitAssembler implements TestAssembler {
     }
 
     /**
-     * Find behavioral indicators matching a competency name.
-     * Matches by competency name or O*NET standard code mappings.
+     * Find active behavioral indicators matching a competency name.
+     * Matches by competency name or O*NET standard code mappings; indicators are
+     * resolved from the in-memory question pool.
      */
-    private List<BehavioralIndicator> findIndicatorsForCompetencyName(String competencyName) {
+    private List<UUID> findIndicatorsForCompetencyName(String competencyName) {
         // First try to find competency by name
         List<Competency> matchingCompetencies = competencyRepository.findAll().stream()
             .filter(c -> {
@@ -354,11 +352,9 @@ public class JobFitAssembler implements TestAssembler {
             return List.of();
         }
 
-        // Get indicators for matching competencies
+        // Get active indicators for matching competencies (sorted by weight within each competency)
         return matchingCompetencies.stream()
-            .flatMap(c -> indicatorRepository.findByCompetencyId(c.getId()).stream())
-            .filter(BehavioralIndicator::isActive)
-            .sorted(Comparator.comparing(BehavioralIndicator::getWeight).reversed())
+            .flatMap(c -> questionSelectionService.getActiveIndicatorIds(c.getId()).stream())
             .collect(Collectors.toList());
     }
 
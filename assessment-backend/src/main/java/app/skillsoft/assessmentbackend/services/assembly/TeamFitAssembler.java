@@ -3,9 +3,7 @@ package app.skillsoft.assessmentbackend.services.assembly;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TeamFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TestBlueprintDto;
 import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
-import app.skillsoft.assessmentbackend.domain.entities.BehavioralIndicator;
 import app.skillsoft.assessmentbackend.domain.entities.DifficultyLevel;
-import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.services.external.TeamService;
 import app.skillsoft.assessmentbackend.services.selection.QuestionSelectionService;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +32,6 @@ import java.util.*;
 public class TeamFitAssembler implements TestAssembler {
 
     private final TeamService teamService;
-    private final BehavioralIndicatorRepository indicatorRepository;
     private final QuestionSelectionService questionSelectionService;
 
     /**
@@ -136,12 +133,8 @@ public class TeamFitAssembler implements TestAssembler {
             .toList();
 
         for (var competencyId : sortedCompetencies) {
-            // Get indicators for this competency
-            var indicators = indicatorRepository.findByCompetencyId(competencyId)
-                .stream()
-                .filter(BehavioralIndicator::isActive)
-                .sorted(Comparator.comparing(BehavioralIndicator::getWeight).reversed())
-                .toList();
+            // Get active indicators for this competency (sorted by weight, served from the pool index)
+            var indicators = questionSelectionService.getActiveIndicatorIds(competencyId);
 
             if (indicators.isEmpty()) {
                 log.debug("No active indicators for competency {}", competencyId);
@@ -171,21 +164,21 @@ public class TeamFitAssembler implements TestAssembler {
      * Select questions across multiple indicators using priority-first distribution.
      */
     private List<UUID> selectQuestionsAcrossIndicators(
-            List<BehavioralIndicator> indicators,
+            List<UUID> indicators,
             int totalQuestions,
             Set<UUID> usedQuestions) {
 
         List<UUID> selected = new ArrayList<>();
         int questionsPerIndicator = Math.max(1, totalQuestions / indicators.size());
 
-        for (var indicator : indicators) {
+        for (var indicatorId : indicators) {
             if (selected.size() >= totalQuestions) break;
 
             int toSelect = Math.min(questionsPerIndicator, totalQuestions - selected.size());
 
             // Use QuestionSelectionService for psychometric validation and difficulty preference
             List<UUID> questions = questionSelectionService.selectQuestionsForIndicator(
-                indicator.getId(),
+                indicatorId,
                 toSelect,
                 DEFAULT_DIFFICULTY,
                 usedQuestions
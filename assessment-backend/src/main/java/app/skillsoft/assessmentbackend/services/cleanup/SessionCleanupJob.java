@@ -1,17 +1,20 @@
 package app.skillsoft.assessmentbackend.services.cleanup;
 
 import app.skillsoft.assessmentbackend.config.SessionCleanupProperties;
-import app.skillsoft.assessmentbackend.domain.entities.SessionStatus;
-import app.skillsoft.assessmentbackend.domain.entities.TestSession;
 import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
+import app.skillsoft.assessmentbackend.services.session.SessionHotStateCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.IntSupplier;
 
 /**
  * Scheduled job to cleanup stale and abandoned test sessions.
@@ -23,6 +26,11 @@ import java.util.List;
  *   <li>Delete empty ABANDONED sessions (no answers, no results) older than configured days</li>
  * </ol>
  *
+ * <p>Each phase runs as bulk UPDATE/DELETE statements of at most chunk-size sessions,
+ * each in its own short transaction, so no entities are loaded and no transaction holds
+ * row locks across the whole backlog. Rows and duration per phase are exported as
+ * {@code test.session.cleanup.rows} and {@code test.session.cleanup.duration}, tagged by phase.
+ *
  * <p>Configuration via {@code skillsoft.session.cleanup.*} properties.
  *
  * @see SessionCleanupProperties
@@ -32,14 +40,27 @@ public class SessionCleanupJob {
 
     private static final Logger log = LoggerFactory.getLogger(SessionCleanupJob.class);
 
+    private static final UUID FIRST_SESSION_ID = new UUID(0L, 0L);
+
     private final TestSessionRepository sessionRepository;
     private final SessionCleanupProperties config;
+    private final SessionHotStateCache hotStateCache;
+
+    private final PhaseMetrics inProgressMetrics;
+    private final PhaseMetrics notStartedMetrics;
+    private final PhaseMetrics emptyDeletedMetrics;
 
     public SessionCleanupJob(
             TestSessionRepository sessionRepository,
-            SessionCleanupProperties config) {
+            SessionCleanupProperties config,
+            SessionHotStateCache hotStateCache,
+            MeterRegistry registry) {
         this.sessionRepository = sessionRepository;
         this.config = config;
+        this.hotStateCache = hotStateCache;
+        this.inProgressMetrics = new PhaseMetrics(registry, "abandon-in-progress");
+        this.notStartedMetrics = new PhaseMetrics(registry, "abandon-not-started");
+        this.emptyDeletedMetrics = new PhaseMetrics(registry, "delete-empty");
     }
 
     /**
@@ -47,7 +68,6 @@ public class SessionCleanupJob {
      * Default: 3 AM daily
      */
     @Scheduled(cron = "${skillsoft.session.cleanup.cron:0 0 3 * * ?}")
-    @Transactional
     public void cleanupStaleSessions() {
         if (!config.isEnabled()) {
             log.debug("Session cleanup is disabled, skipping");
@@ -58,16 +78,7 @@ public class SessionCleanupJob {
         var startTime = System.currentTimeMillis();
 
         try {
-            CleanupResult result = new CleanupResult();
-
-            // Phase 1: Mark stale IN_PROGRESS sessions as ABANDONED
-            result.inProgressAbandoned = abandonStaleInProgressSessions();
-
-            // Phase 2: Mark old NOT_STARTED sessions as ABANDONED
-            result.notStartedAbandoned = abandonOldNotStartedSessions();
-
-            // Phase 3: Delete empty abandoned sessions (optional)
-            result.emptySessionsDeleted = deleteEmptyAbandonedSessions();
+            CleanupResult result = runCleanup();
 
             var duration = System.currentTimeMillis() - startTime;
             log.info("Session cleanup completed in {}ms: {} IN_PROGRESS abandoned, " +
@@ -80,57 +91,68 @@ public class SessionCleanupJob {
         }
     }
 
-    /**
-     * Find and abandon IN_PROGRESS sessions that have been inactive too long.
-     * Uses batch saveAll() instead of individual save() calls.
-     */
-    private int abandonStaleInProgressSessions() {
-        LocalDateTime cutoffTime = LocalDateTime.now().minusHours(config.getStaleHours());
+    private CleanupResult runCleanup() {
+        CleanupResult result = new CleanupResult();
 
-        List<TestSession> staleSessions = sessionRepository.findStaleSessions(
-                SessionStatus.IN_PROGRESS, cutoffTime);
+        // Phase 1: Mark stale IN_PROGRESS sessions as ABANDONED
+        result.inProgressAbandoned = inProgressMetrics.record(this::abandonStaleInProgressSessions);
 
-        if (staleSessions.isEmpty()) {
-            return 0;
-        }
+        // Phase 2: Mark old NOT_STARTED sessions as ABANDONED
+        result.notStartedAbandoned = notStartedMetrics.record(this::abandonOldNotStartedSessions);
 
-        for (TestSession session : staleSessions) {
-            session.abandon();
-        }
+        // Phase 3: Delete empty abandoned sessions (optional)
+        result.emptySessionsDeleted = emptyDeletedMetrics.record(this::deleteEmptyAbandonedSessions);
 
-        sessionRepository.saveAll(staleSessions);
-        log.debug("Batch-abandoned {} stale IN_PROGRESS sessions", staleSessions.size());
-        return staleSessions.size();
+        return result;
     }
 
     /**
-     * Find and abandon NOT_STARTED sessions that are too old.
-     * Uses batch saveAll() instead of individual save() calls.
+     * Abandon IN_PROGRESS sessions that have been inactive too long.
+     * Sessions are walked in ID order; each chunk is evicted from the hot-state cache
+     * (writing pending activity first) and abandoned with one bulk UPDATE.
      */
-    private int abandonOldNotStartedSessions() {
+    private int abandonStaleInProgressSessions() {
         LocalDateTime cutoffTime = LocalDateTime.now().minusHours(config.getStaleHours());
+        int chunkSize = chunkSize();
+
+        int total = 0;
+        UUID afterId = FIRST_SESSION_ID;
+        List<UUID> chunk;
+        do {
+            chunk = sessionRepository.findStaleInProgressSessionIdsAfter(cutoffTime, afterId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            chunk.forEach(hotStateCache::flushAndEvict);
+            total += sessionRepository.abandonStaleInProgressSessions(chunk, cutoffTime, LocalDateTime.now());
+            afterId = chunk.get(chunk.size() - 1);
+        } while (chunk.size() == chunkSize);
+
+        log.debug("Abandoned {} stale IN_PROGRESS sessions", total);
+        return total;
+    }
 
-        List<TestSession> oldSessions = sessionRepository.findStaleSessions(
-                SessionStatus.NOT_STARTED, cutoffTime);
-
-        if (oldSessions.isEmpty()) {
-            return 0;
-        }
+    /**
+     * Abandon NOT_STARTED sessions that are too old, chunk-size sessions per statement.
+     */
+    private int abandonOldNotStartedSessions() {
+        LocalDateTime cutoffTime = LocalDateTime.now().minusHours(config.getStaleHours());
+        int chunkSize = chunkSize();
 
-        LocalDateTime now = LocalDateTime.now();
-        for (TestSession session : oldSessions) {
-            session.setStatus(SessionStatus.ABANDONED);
-            session.setCompletedAt(now);
-        }
+        int total = 0;
+        int updated;
+        do {
+            updated = sessionRepository.abandonStaleNotStartedSessions(cutoffTime, LocalDateTime.now(), chunkSize);
+            total += updated;
+        } while (updated == chunkSize);
 
-        sessionRepository.saveAll(oldSessions);
-        log.debug("Batch-abandoned {} old NOT_STARTED sessions", oldSessions.size());
-        return oldSessions.size();
+        log.debug("Abandoned {} old NOT_STARTED sessions", total);
+        return total;
     }
 
     /**
-     * Delete abandoned sessions that have no answers and are old enough.
-     * Uses batch deleteAllInBatch() instead of individual delete() calls.
+     * Delete abandoned sessions that have no answers, no result and are old enough,
+     * chunk-size sessions per statement.
      */
     private int deleteEmptyAbandonedSessions() {
         if (config.getDeleteEmptyAfterDays() <= 0) {
@@ -138,39 +160,30 @@ public class SessionCleanupJob {
         }
 
         LocalDateTime cutoffTime = LocalDateTime.now().minusDays(config.getDeleteEmptyAfterDays());
+        int chunkSize = chunkSize();
 
-        List<TestSession> abandonedSessions = sessionRepository.findStaleSessions(
-                SessionStatus.ABANDONED, cutoffTime);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = sessionRepository.deleteEmptyAbandonedSessions(cutoffTime, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
 
-        // Filter to only empty sessions (no answers and no result)
-        List<TestSession> emptyToDelete = abandonedSessions.stream()
-                .filter(session -> (session.getAnswers() == null || session.getAnswers().isEmpty())
-                        && session.getResult() == null)
-                .toList();
-
-        if (emptyToDelete.isEmpty()) {
-            return 0;
-        }
+        log.debug("Deleted {} empty abandoned sessions", total);
+        return total;
+    }
 
-        sessionRepository.deleteAllInBatch(emptyToDelete);
-        log.debug("Batch-deleted {} empty abandoned sessions", emptyToDelete.size());
-        return emptyToDelete.size();
+    private int chunkSize() {
+        return Math.max(config.getChunkSize(), 1);
     }
 
     /**
      * Manual trigger for cleanup (can be called from admin API).
      * @return Result of the cleanup operation
      */
-    @Transactional
     public CleanupResult triggerManualCleanup() {
         log.info("Manual session cleanup triggered");
-
-        CleanupResult result = new CleanupResult();
-        result.inProgressAbandoned = abandonStaleInProgressSessions();
-        result.notStartedAbandoned = abandonOldNotStartedSessions();
-        result.emptySessionsDeleted = deleteEmptyAbandonedSessions();
-
-        return result;
+        return runCleanup();
     }
 
     /**
@@ -191,4 +204,34 @@ public class SessionCleanupJob {
                     inProgressAbandoned, notStartedAbandoned, emptySessionsDeleted, getTotalProcessed());
         }
     }
+
+    /**
+     * Row counter and duration timer of one cleanup phase.
+     */
+    private static final class PhaseMetrics {
+        private final Counter rows;
+        private final Timer duration;
+
+        PhaseMetrics(MeterRegistry registry, String phase) {
+            this.rows = Counter.builder("test.session.cleanup.rows")
+                    .description("Sessions abandoned or deleted by session cleanup")
+                    .tag("phase", phase)
+                    .register(registry);
+            this.duration = Timer.builder("test.session.cleanup.duration")
+                    .description("Time taken by one session cleanup phase")
+                    .tag("phase", phase)
+                    .register(registry);
+        }
+
+        int record(IntSupplier phase) {
+            Timer.Sample sample = Timer.start();
+            try {
+                int count = phase.getAsInt();
+                rows.increment(count);
+                return count;
+            } finally {
+                sample.stop(duration);
+            }
+        }
+    }
 }
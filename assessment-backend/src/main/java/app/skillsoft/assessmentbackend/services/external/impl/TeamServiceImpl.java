@@ -4,12 +4,16 @@ import app.skillsoft.assessmentbackend.config.CacheConfig;
 import app.skillsoft.assessmentbackend.domain.entities.TeamStatus;
 import app.skillsoft.assessmentbackend.repository.TeamRepository;
 import app.skillsoft.assessmentbackend.services.external.TeamService;
-import app.skillsoft.assessmentbackend.services.team.TeamProfileAggregationService;
+import app.skillsoft.assessmentbackend.services.team.TeamFitScorer;
+import app.skillsoft.assessmentbackend.services.team.TeamProfileMaterializer;
+import com.github.benmanes.caffeine.cache.Cache;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,38 +26,40 @@ import java.util.stream.Collectors;
  * Database-backed implementation of TeamService.
  *
  * Provides team profile data from the database for TEAM_FIT assessments.
- * Uses TeamProfileAggregationService to compute profiles from TestResult data.
+ * Profiles are read from the materialized snapshot kept current by TeamProfileMaterializer,
+ * so a read never recomputes the team from TestResult data.
  *
  * Resilience patterns applied:
  * - Circuit Breaker: Opens after 50% failure rate over 10 calls, stays open 60s
  * - Retry: Up to 3 attempts with 500ms wait for transient failures
- * - Caching: L1 cache with Caffeine for frequently accessed team profiles
+ * - Caching: L1 cache with Caffeine for frequently accessed team profiles; a miss is loaded
+ *   once per team (single flight) while concurrent readers of the same team wait for it
  */
 @Service
 @Slf4j
 public class TeamServiceImpl implements TeamService {
 
     private final TeamRepository teamRepository;
-    private final TeamProfileAggregationService aggregationService;
+    private final TeamProfileMaterializer materializer;
+    private final Cache<Object, Object> profileCache;
 
+    @SuppressWarnings("unchecked")
     public TeamServiceImpl(
             TeamRepository teamRepository,
-            TeamProfileAggregationService aggregationService) {
+            TeamProfileMaterializer materializer,
+            CacheManager cacheManager) {
         this.teamRepository = teamRepository;
-        this.aggregationService = aggregationService;
+        this.materializer = materializer;
+        // Native Caffeine cache: a null load is not stored, unlike Spring's Cache#get
+        this.profileCache = (Cache<Object, Object>) cacheManager.getCache(CacheConfig.TEAM_PROFILES_CACHE)
+                .getNativeCache();
     }
 
     @Override
     @CircuitBreaker(name = "teamService", fallbackMethod = "getTeamProfileFallback")
     @Retry(name = "externalServices")
-    @Cacheable(
-        value = CacheConfig.TEAM_PROFILES_CACHE,
-        key = "#teamId",
-        unless = "#result == null || !#result.isPresent()"
-    )
     public Optional<TeamProfile> getTeamProfile(UUID teamId) {
-        log.debug("Computing team profile for team: {} (cache miss)", teamId);
-        return aggregationService.computeTeamProfile(teamId);
+        return getTeamProfileInternal(teamId);
     }
 
     /**
@@ -119,35 +125,7 @@ public class TeamServiceImpl implements TeamService {
     @Retry(name = "externalServices")
     public double calculateTeamFitScore(UUID teamId, Map<UUID, Double> candidateCompetencies) {
         return getTeamProfileInternal(teamId)
-            .map(profile -> {
-                // Calculate fit score based on how well candidate fills gaps
-                var gaps = profile.skillGaps();
-                if (gaps.isEmpty()) {
-                    return 50.0; // Neutral score if no gaps
-                }
-
-                double totalGapFill = 0.0;
-                int matchingGaps = 0;
-
-                for (UUID gapCompetencyId : gaps) {
-                    Double candidateScore = candidateCompetencies.get(gapCompetencyId);
-                    if (candidateScore != null && candidateScore >= 3.0) {
-                        // Candidate has decent proficiency in this gap area
-                        totalGapFill += (candidateScore / 5.0) * 100;
-                        matchingGaps++;
-                    }
-                }
-
-                if (matchingGaps == 0) {
-                    return 25.0; // Low score if candidate doesn't fill any gaps
-                }
-
-                // Weight by percentage of gaps filled
-                double gapCoverage = (double) matchingGaps / gaps.size();
-                double avgGapFill = totalGapFill / matchingGaps;
-
-                return (avgGapFill * 0.6) + (gapCoverage * 40);
-            })
+            .map(profile -> TeamFitScorer.forProfile(profile).score(candidateCompetencies))
             .orElse(0.0);
     }
 
@@ -179,9 +157,24 @@ public class TeamServiceImpl implements TeamService {
     /**
      * Internal team profile lookup without circuit breaker (to avoid double-wrapping).
      * Used by other methods that already have circuit breaker protection.
+     *
+     * The cache computes a missing entry atomically per key, so concurrent readers of a
+     * team share one snapshot load. Teams without a profile are not cached, so a team
+     * activated on another node is found on the next read.
      */
     private Optional<TeamProfile> getTeamProfileInternal(UUID teamId) {
-        return aggregationService.computeTeamProfile(teamId);
+        return Optional.ofNullable((TeamProfile) profileCache.get(teamId, key -> loadTeamProfile(teamId)));
+    }
+
+    private TeamProfile loadTeamProfile(UUID teamId) {
+        log.debug("Loading team profile for team: {} (cache miss)", teamId);
+        try {
+            return materializer.load(teamId).orElse(null);
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            // Another node built the snapshot at the same time; read the one it committed
+            log.debug("Concurrent build of team profile {}, reloading: {}", teamId, e.getMessage());
+            return materializer.load(teamId).orElse(null);
+        }
     }
 
 }
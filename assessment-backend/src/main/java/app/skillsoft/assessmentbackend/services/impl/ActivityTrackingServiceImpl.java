@@ -250,6 +250,25 @@ public class ActivityTrackingServiceImpl implements ActivityTrackingService {
         logger.info("Recorded SESSION_TIMED_OUT event for session {}", session.getId());
     }
 
+    @Override
+    @Transactional
+    public void recordSessionsTimedOut(Collection<TestSession> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        List<UUID> sessionIds = sessions.stream().map(TestSession::getId).toList();
+        Set<UUID> recorded = new HashSet<>(
+                eventRepository.findSessionIdsWithEventType(sessionIds, ActivityEventType.SESSION_TIMED_OUT));
+
+        List<TestActivityEvent> events = sessions.stream()
+                .filter(session -> !recorded.contains(session.getId()))
+                .map(TestActivityEvent::sessionTimedOut)
+                .toList();
+        eventRepository.saveAll(events);
+        logger.info("Recorded {} SESSION_TIMED_OUT events ({} already recorded)", events.size(), recorded.size());
+    }
+
     // ============================================
     // Private Helper Methods
     // ============================================
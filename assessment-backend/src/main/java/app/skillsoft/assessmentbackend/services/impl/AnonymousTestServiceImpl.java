@@ -5,9 +5,9 @@ import app.skillsoft.assessmentbackend.domain.dto.AnonymousResultSummaryDto;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousSessionRequest;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousSessionResponse;
 import app.skillsoft.assessmentbackend.domain.dto.AnonymousTakerInfoRequest;
-import app.skillsoft.assessmentbackend.domain.dto.AssessmentQuestionDto;
+import app.skillsoft.assessmentbackend.domain.dto.AnswerSubmissionResult;
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
 import app.skillsoft.assessmentbackend.domain.dto.TestAnswerDto;
-import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
 import app.skillsoft.assessmentbackend.domain.dto.sharing.LinkValidationResult;
 import app.skillsoft.assessmentbackend.domain.entities.*;
 import app.skillsoft.assessmentbackend.exception.*;
@@ -15,6 +15,12 @@ import app.skillsoft.assessmentbackend.repository.*;
 import app.skillsoft.assessmentbackend.services.*;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssembler;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssemblerFactory;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobQueue;
+import app.skillsoft.assessmentbackend.services.scoring.SessionScoreAggregator;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestion;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestionCache;
+import app.skillsoft.assessmentbackend.services.session.SessionDeadlineQueue;
 import app.skillsoft.assessmentbackend.services.sharing.TemplateShareLinkService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,10 +30,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Implementation of AnonymousTestService.
@@ -56,6 +59,16 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
      */
     private static final int SESSION_EXPIRY_HOURS = 24;
 
+    /**
+     * Seconds after the deadline during which submitted answers are still accepted.
+     */
+    private static final int DEADLINE_GRACE_SECONDS = 5;
+
+    /**
+     * Minimum interval between activity writes caused by timer heartbeats.
+     */
+    private static final int HEARTBEAT_ACTIVITY_INTERVAL_SECONDS = 60;
+
     private final TemplateShareLinkService shareLinkService;
     private final SessionTokenService sessionTokenService;
     private final RateLimitService rateLimitService;
@@ -65,9 +78,12 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
     private final TestAnswerRepository answerRepository;
     private final AssessmentQuestionRepository questionRepository;
     private final TestResultRepository resultRepository;
-    private final ScoringOrchestrationService scoringOrchestrationService;
+    private final ScoringJobQueue scoringJobQueue;
     private final TestAssemblerFactory assemblerFactory;
     private final BlueprintConversionService blueprintConversionService;
+    private final CompiledQuestionCache compiledQuestionCache;
+    private final SessionDeadlineQueue deadlineQueue;
+    private final SessionScoreAggregator scoreAggregator;
 
     public AnonymousTestServiceImpl(
             TemplateShareLinkService shareLinkService,
@@ -79,9 +95,12 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
             TestAnswerRepository answerRepository,
             AssessmentQuestionRepository questionRepository,
             TestResultRepository resultRepository,
-            ScoringOrchestrationService scoringOrchestrationService,
+            ScoringJobQueue scoringJobQueue,
             TestAssemblerFactory assemblerFactory,
-            BlueprintConversionService blueprintConversionService) {
+            BlueprintConversionService blueprintConversionService,
+            CompiledQuestionCache compiledQuestionCache,
+            SessionDeadlineQueue deadlineQueue,
+            SessionScoreAggregator scoreAggregator) {
         this.shareLinkService = shareLinkService;
         this.sessionTokenService = sessionTokenService;
         this.rateLimitService = rateLimitService;
@@ -91,9 +110,12 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
         this.answerRepository = answerRepository;
         this.questionRepository = questionRepository;
         this.resultRepository = resultRepository;
-        this.scoringOrchestrationService = scoringOrchestrationService;
+        this.scoringJobQueue = scoringJobQueue;
         this.assemblerFactory = assemblerFactory;
         this.blueprintConversionService = blueprintConversionService;
+        this.compiledQuestionCache = compiledQuestionCache;
+        this.deadlineQueue = deadlineQueue;
+        this.scoreAggregator = scoreAggregator;
     }
 
     @Override
@@ -169,6 +191,7 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
         session.start();
 
         TestSession saved = sessionRepository.save(session);
+        deadlineQueue.register(saved.getId(), saved.getDeadlineAt());
 
         // Step 10: Record share link usage
         shareLinkService.recordUsage(request.shareToken());
@@ -201,7 +224,10 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
 
     @Override
     @Transactional(readOnly = true)
-    public TestSessionService.CurrentQuestionDto getCurrentQuestion(UUID sessionId, String sessionAccessToken) {
+    public TestSessionService.CurrentQuestionDto getCurrentQuestion(
+            UUID sessionId,
+            String sessionAccessToken,
+            int lookahead) {
         TestSession session = validateAndGetSession(sessionId, sessionAccessToken);
 
         // Validate session state
@@ -213,26 +239,46 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
             throw new IllegalStateException("No more questions in this session");
         }
 
-        UUID questionId = session.getQuestionOrder().get(currentIndex);
-        AssessmentQuestion question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Question", questionId));
-
-        // Get previous answer if exists
-        TestAnswerDto previousAnswer = answerRepository
-                .findBySession_IdAndQuestion_Id(sessionId, questionId)
-                .map(this::toAnswerDto)
-                .orElse(null);
+        List<UUID> questionOrder = session.getQuestionOrder();
+        UUID questionId = questionOrder.get(currentIndex);
+        CompiledQuestion question = compiledQuestionCache.get(questionId);
+
+        // Questions served in this response: current one plus the lookahead window
+        int lastIndex = Math.min(
+                currentIndex + Math.clamp(lookahead, 0, TestSessionService.MAX_LOOKAHEAD),
+                questionOrder.size() - 1);
+
+        // Get previous answers if they exist
+        Map<UUID, TestAnswer> previousAnswers = findPreviousAnswers(sessionId,
+                questionOrder.subList(currentIndex, lastIndex + 1).stream().distinct().toList());
+
+        List<TestSessionService.LookaheadQuestionDto> lookaheadQuestions = new ArrayList<>(lastIndex - currentIndex);
+        for (int index = currentIndex + 1; index <= lastIndex; index++) {
+            UUID nextId = questionOrder.get(index);
+            CompiledQuestion next;
+            try {
+                next = compiledQuestionCache.get(nextId);
+            } catch (ResourceNotFoundException e) {
+                // Keep the window contiguous; the client fetches the rest on navigation
+                log.warn("Lookahead question {} from session {} not found, truncating lookahead at index {}",
+                        nextId, sessionId, index);
+                break;
+            }
+            lookaheadQuestions.add(new TestSessionService.LookaheadQuestionDto(
+                    next.anonymousQuestionDto(), index, toPreviousAnswerDto(previousAnswers, next)));
+        }
 
         TestTemplate template = session.getTemplate();
 
         return new TestSessionService.CurrentQuestionDto(
-                toQuestionDto(question),
+                question.anonymousQuestionDto(),
                 currentIndex,
-                session.getQuestionOrder().size(),
-                session.getTimeRemainingSeconds(),
-                previousAnswer,
+                questionOrder.size(),
+                session.getRemainingSeconds(LocalDateTime.now()),
+                toPreviousAnswerDto(previousAnswers, question),
                 template.getAllowBackNavigation(),
-                template.getAllowSkip()
+                template.getAllowSkip(),
+                lookaheadQuestions
         );
     }
 
@@ -245,6 +291,7 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
 
         TestSession session = validateAndGetSession(sessionId, sessionAccessToken);
         validateSessionState(session);
+        requireWithinDeadline(session);
 
         AssessmentQuestion question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Question", questionId));
@@ -253,6 +300,11 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
         Optional<TestAnswer> existingAnswer = answerRepository
                 .findBySession_IdAndQuestion_Id(sessionId, questionId);
 
+        UUID indicatorId = question.getBehavioralIndicatorId();
+        IndicatorTally before = existingAnswer
+                .map(a -> scoreAggregator.tallyOf(a, indicatorId, question.getQuestionType()))
+                .orElse(null);
+
         TestAnswer answer;
         if (existingAnswer.isPresent()) {
             answer = existingAnswer.get();
@@ -267,6 +319,8 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
         sessionRepository.save(session);
 
         TestAnswer saved = answerRepository.save(answer);
+        scoreAggregator.record(sessionId, before,
+                scoreAggregator.tallyOf(saved, indicatorId, question.getQuestionType()));
 
         log.debug("Anonymous session {} answered question {} with option {}",
                 sessionId, questionId, selectedOptionIndex);
@@ -274,6 +328,102 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
         return toAnswerDto(saved);
     }
 
+    @Override
+    public List<AnswerSubmissionResult> submitAnswers(
+            UUID sessionId,
+            String sessionAccessToken,
+            List<AnswerSelection> selections) {
+
+        TestSession session = validateAndGetSession(sessionId, sessionAccessToken);
+        validateSessionState(session);
+        requireWithinDeadline(session);
+
+        Set<UUID> sessionQuestionIds = new HashSet<>(session.getQuestionOrder());
+        AnswerSubmissionResult[] results = new AnswerSubmissionResult[selections.size()];
+        CompiledQuestion[] questions = new CompiledQuestion[selections.size()];
+        Set<UUID> acceptedQuestionIds = new HashSet<>();
+
+        // Validate items and resolve their compiled questions
+        for (int i = 0; i < selections.size(); i++) {
+            AnswerSelection selection = selections.get(i);
+            UUID questionId = selection.questionId();
+
+            if (!sessionQuestionIds.contains(questionId)) {
+                results[i] = AnswerSubmissionResult.rejected(questionId, "Question is not part of this session");
+                continue;
+            }
+            try {
+                CompiledQuestion question = compiledQuestionCache.get(questionId);
+                int optionIndex = selection.selectedOptionIndex();
+                if (optionIndex < 0 || optionIndex >= question.optionIds().size()) {
+                    results[i] = AnswerSubmissionResult.rejected(questionId, "Invalid option index: " + optionIndex);
+                    continue;
+                }
+                questions[i] = question;
+                acceptedQuestionIds.add(questionId);
+            } catch (ResourceNotFoundException e) {
+                results[i] = AnswerSubmissionResult.rejected(questionId, "Question not found");
+            }
+        }
+
+        if (acceptedQuestionIds.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // Load previously stored answers with one query and upsert in memory
+        Map<UUID, TestAnswer> answersByQuestion = new LinkedHashMap<>();
+        for (TestAnswer existing : answerRepository.findBySession_IdAndQuestion_IdIn(sessionId, acceptedQuestionIds)) {
+            answersByQuestion.put(existing.getQuestionId(), existing);
+        }
+
+        // Score contribution of the stored answers before they change
+        Map<UUID, CompiledQuestion> compiledByQuestion = new HashMap<>();
+        for (CompiledQuestion question : questions) {
+            if (question != null) {
+                compiledByQuestion.put(question.id(), question);
+            }
+        }
+        List<IndicatorTally> tallyBefore = new ArrayList<>(answersByQuestion.size());
+        answersByQuestion.forEach((questionId, existing) ->
+                tallyBefore.add(scoreAggregator.tallyOf(existing, compiledByQuestion.get(questionId))));
+
+        for (int i = 0; i < selections.size(); i++) {
+            CompiledQuestion question = questions[i];
+            if (question == null) {
+                continue;
+            }
+            TestAnswer answer = answersByQuestion.computeIfAbsent(question.id(),
+                    id -> new TestAnswer(session, questionRepository.getReferenceById(id)));
+            applySelection(answer, selections.get(i).selectedOptionIndex());
+        }
+
+        // Update session activity
+        session.updateActivity();
+        sessionRepository.save(session);
+
+        // Write all answers at once (JDBC batched)
+        answerRepository.saveAll(answersByQuestion.values());
+
+        // One aggregate write per affected indicator
+        List<IndicatorTally> tallyAfter = new ArrayList<>(answersByQuestion.size());
+        answersByQuestion.forEach((questionId, answer) ->
+                tallyAfter.add(scoreAggregator.tallyOf(answer, compiledByQuestion.get(questionId))));
+        scoreAggregator.record(sessionId, tallyBefore, tallyAfter);
+
+        for (int i = 0; i < selections.size(); i++) {
+            if (results[i] == null) {
+                CompiledQuestion question = questions[i];
+                results[i] = AnswerSubmissionResult.accepted(question.id(),
+                        toAnswerDto(answersByQuestion.get(question.id()), question.questionText()));
+            }
+        }
+
+        log.debug("Anonymous session {} batch-submitted {} of {} answers",
+                sessionId, answersByQuestion.size(), selections.size());
+
+        return Arrays.asList(results);
+    }
+
     @Override
     public AnonymousSessionResponse navigateToQuestion(
             UUID sessionId,
@@ -312,22 +462,40 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
             throw new IllegalStateException("Cannot update time for a session that is not in progress");
         }
 
-        session.setTimeRemainingSeconds(timeRemainingSeconds);
+        LocalDateTime now = LocalDateTime.now();
+        boolean timeUp;
+        if (session.getDeadlineAt() != null) {
+            // Server-authoritative timer: the client value is ignored. Heartbeats only
+            // refresh last activity, at most once per interval; unchanged sessions are not written.
+            timeUp = session.isPastDeadline(now);
+            if (!timeUp) {
+                LocalDateTime lastActivity = session.getLastActivityAt();
+                if (lastActivity == null
+                        || lastActivity.isBefore(now.minusSeconds(HEARTBEAT_ACTIVITY_INTERVAL_SECONDS))) {
+                    session.updateActivity();
+                }
+                return buildSessionResponse(session, null);
+            }
+        } else {
+            session.setTimeRemainingSeconds(timeRemainingSeconds);
+            timeUp = timeRemainingSeconds <= 0;
+        }
         session.updateActivity();
 
         // Check if time has run out
-        if (timeRemainingSeconds <= 0) {
+        if (timeUp) {
             session.timeout();
-            sessionRepository.save(session);
-            scoringOrchestrationService.calculateAndSaveResult(sessionId);
         }
 
         TestSession saved = sessionRepository.save(session);
+        if (timeUp) {
+            scoringJobQueue.enqueue(sessionId);
+        }
         return buildSessionResponse(saved, null);
     }
 
     @Override
-    public TestResultDto completeSession(
+    public ScoringJobDto completeSession(
             UUID sessionId,
             String sessionAccessToken,
             AnonymousTakerInfoRequest takerInfo) {
@@ -355,15 +523,21 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
         session.complete();
         sessionRepository.save(session);
 
-        log.info("Session {} marked as COMPLETED, calculating results", sessionId);
+        // Scored by the job workers once the completion commits
+        ScoringJobDto job = scoringJobQueue.enqueue(sessionId);
 
-        // Calculate and save results
-        TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
+        log.info("Anonymous session {} marked as COMPLETED, queued scoring job {}", sessionId, job.jobId());
 
-        log.info("Anonymous session {} completed with score: {}%",
-                sessionId, result.overallPercentage());
+        return job;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ScoringJobDto getScoringStatus(UUID sessionId, String sessionAccessToken) {
+        validateAndGetSession(sessionId, sessionAccessToken);
 
-        return result;
+        return scoringJobQueue.findStatus(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Scoring job for session", sessionId));
     }
 
     @Override
@@ -508,6 +682,15 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
         return LocalDateTime.now().isAfter(createdAt.plusHours(SESSION_EXPIRY_HOURS));
     }
 
+    /**
+     * Reject answers once the session deadline (plus a short grace period) has passed.
+     */
+    private void requireWithinDeadline(TestSession session) {
+        if (session.isPastDeadline(LocalDateTime.now().minusSeconds(DEADLINE_GRACE_SECONDS))) {
+            throw new IllegalStateException("Time limit for this session has expired");
+        }
+    }
+
     /**
      * Validate session is in a valid state for operations.
      */
@@ -644,7 +827,7 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
 
     /**
      * Update answer with selected option.
-     * Uses index-based option IDs consistent with transformAnswerOptions.
+     * Uses index-based option IDs consistent with the compiled question options.
      */
     private void updateAnswerWithSelection(TestAnswer answer, AssessmentQuestion question, int optionIndex) {
         List<Map<String, Object>> options = question.getAnswerOptions();
@@ -652,7 +835,38 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
             throw new IllegalArgumentException("Invalid option index: " + optionIndex);
         }
 
-        // Use index-based ID consistent with transformAnswerOptions
+        applySelection(answer, optionIndex);
+    }
+
+    /**
+     * Load the stored answers of the given questions: a single lookup for one question,
+     * one IN query for several.
+     */
+    private Map<UUID, TestAnswer> findPreviousAnswers(UUID sessionId, List<UUID> questionIds) {
+        if (questionIds.size() == 1) {
+            UUID questionId = questionIds.get(0);
+            return answerRepository.findBySession_IdAndQuestion_Id(sessionId, questionId)
+                    .map(answer -> Map.of(questionId, answer))
+                    .orElse(Map.of());
+        }
+
+        Map<UUID, TestAnswer> answers = new HashMap<>();
+        for (TestAnswer answer : answerRepository.findBySession_IdAndQuestion_IdIn(sessionId, questionIds)) {
+            answers.put(answer.getQuestionId(), answer);
+        }
+        return answers;
+    }
+
+    private TestAnswerDto toPreviousAnswerDto(Map<UUID, TestAnswer> previousAnswers, CompiledQuestion question) {
+        TestAnswer answer = previousAnswers.get(question.id());
+        return answer != null ? toAnswerDto(answer, question.questionText()) : null;
+    }
+
+    /**
+     * Store an already validated option index on the answer.
+     */
+    private void applySelection(TestAnswer answer, int optionIndex) {
+        // Use index-based ID consistent with the compiled question options
         String optionId = "option-" + optionIndex;
         answer.setSelectedOptionIds(List.of(optionId));
         answer.setAnsweredAt(LocalDateTime.now());
@@ -672,11 +886,18 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
      * Convert TestAnswer to DTO.
      */
     private TestAnswerDto toAnswerDto(TestAnswer answer) {
+        return toAnswerDto(answer, answer.getQuestion() != null ? answer.getQuestion().getQuestionText() : null);
+    }
+
+    /**
+     * Convert TestAnswer to DTO when the question text is already known.
+     */
+    private TestAnswerDto toAnswerDto(TestAnswer answer, String questionText) {
         return new TestAnswerDto(
                 answer.getId(),
                 answer.getSessionId(),
                 answer.getQuestionId(),
-                answer.getQuestion() != null ? answer.getQuestion().getQuestionText() : null,
+                questionText,
                 answer.getSelectedOptionIds(),
                 answer.getLikertValue(),
                 answer.getRankingOrder(),
@@ -688,73 +909,4 @@ public class AnonymousTestServiceImpl implements AnonymousTestService {
                 answer.getMaxScore()
         );
     }
-
-    /**
-     * Convert AssessmentQuestion to DTO.
-     * Transforms answer options to match frontend expectations.
-     */
-    private AssessmentQuestionDto toQuestionDto(AssessmentQuestion question) {
-        List<Map<String, Object>> transformedOptions = transformAnswerOptions(
-                question.getAnswerOptions(),
-                question.getQuestionType()
-        );
-
-        return new AssessmentQuestionDto(
-                question.getId(),
-                question.getBehavioralIndicatorId(),
-                question.getQuestionText(),
-                question.getQuestionType(),
-                transformedOptions,
-                question.getScoringRubric(),
-                question.getTimeLimit(),
-                question.getDifficultyLevel(),
-                question.getMetadata(),
-                question.isActive(),
-                question.getOrderIndex()
-        );
-    }
-
-    /**
-     * Transform answer options to match frontend expectations.
-     * Adds deterministic IDs and normalizes field names.
-     */
-    private List<Map<String, Object>> transformAnswerOptions(
-            List<Map<String, Object>> options,
-            QuestionType questionType) {
-
-        if (options == null || options.isEmpty()) {
-            return options;
-        }
-
-        List<Map<String, Object>> transformedList = new java.util.ArrayList<>();
-        for (int i = 0; i < options.size(); i++) {
-            Map<String, Object> option = options.get(i);
-            Map<String, Object> transformed = new java.util.HashMap<>();
-
-            // Generate deterministic ID based on index
-            transformed.put("id", "option-" + i);
-
-            // Map text field
-            if (option.containsKey("action")) {
-                transformed.put("text", option.get("action"));
-            } else if (option.containsKey("text")) {
-                transformed.put("text", option.get("text"));
-            }
-
-            // Preserve score/effectiveness
-            if (option.containsKey("effectiveness")) {
-                transformed.put("score", option.get("effectiveness"));
-            } else if (option.containsKey("score")) {
-                transformed.put("score", option.get("score"));
-            }
-
-            // Preserve explanation
-            if (option.containsKey("explanation")) {
-                transformed.put("explanation", option.get("explanation"));
-            }
-
-            transformedList.add(transformed);
-        }
-        return transformedList;
-    }
 }
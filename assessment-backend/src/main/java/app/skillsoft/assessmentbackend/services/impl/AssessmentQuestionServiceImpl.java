@@ -3,11 +3,13 @@ package app.skillsoft.assessmentbackend.services.impl;
 import app.skillsoft.assessmentbackend.config.CacheConfig;
 import app.skillsoft.assessmentbackend.domain.entities.AssessmentQuestion;
 import app.skillsoft.assessmentbackend.domain.entities.BehavioralIndicator;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
 import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
 import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.services.AssessmentQuestionService;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,11 +22,14 @@ public class AssessmentQuestionServiceImpl implements AssessmentQuestionService
 
     private final AssessmentQuestionRepository assessmentQuestionRepository;
     private final BehavioralIndicatorRepository behavioralIndicatorRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AssessmentQuestionServiceImpl(AssessmentQuestionRepository assessmentQuestionRepository,
-                                        BehavioralIndicatorRepository behavioralIndicatorRepository) {
+                                        BehavioralIndicatorRepository behavioralIndicatorRepository,
+                                        ApplicationEventPublisher eventPublisher) {
         this.assessmentQuestionRepository = assessmentQuestionRepository;
         this.behavioralIndicatorRepository = behavioralIndicatorRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -74,7 +79,10 @@ public class AssessmentQuestionServiceImpl implements AssessmentQuestionService
             }
         }
         
-        return assessmentQuestionRepository.save(assessmentQuestion);
+        AssessmentQuestion saved = assessmentQuestionRepository.save(assessmentQuestion);
+        eventPublisher.publishEvent(QuestionPoolChangedEvent.forQuestion(
+                behavioralIndicatorId, saved.getId(), "question created"));
+        return saved;
     }
 
     @Override
@@ -134,7 +142,10 @@ public class AssessmentQuestionServiceImpl implements AssessmentQuestionService
                 
                 existingQuestion.setOrderIndex(finalOrderIndex);
                 
-                return assessmentQuestionRepository.save(existingQuestion);
+                AssessmentQuestion saved = assessmentQuestionRepository.save(existingQuestion);
+                eventPublisher.publishEvent(QuestionPoolChangedEvent.forQuestion(
+                        behavioralIndicatorId, currentQuestionId, "question updated"));
+                return saved;
             })
             .orElse(null);
     }
@@ -143,6 +154,11 @@ public class AssessmentQuestionServiceImpl implements AssessmentQuestionService
     @CacheEvict(value = CacheConfig.QUESTION_POOL_COUNTS_CACHE, allEntries = true)
     public void deleteAssesmentQuestion( UUID assessmentQuestionId) {
         findAssesmentQuestionById(assessmentQuestionId)
-            .ifPresent(assessmentQuestionRepository::delete);
+            .ifPresent(question -> {
+                UUID behavioralIndicatorId = question.getBehavioralIndicatorId();
+                assessmentQuestionRepository.delete(question);
+                eventPublisher.publishEvent(QuestionPoolChangedEvent.forQuestion(
+                        behavioralIndicatorId, assessmentQuestionId, "question deleted"));
+            });
     }
 }
@@ -3,9 +3,11 @@ package app.skillsoft.assessmentbackend.services.impl;
 
 import app.skillsoft.assessmentbackend.domain.entities.BehavioralIndicator;
 import app.skillsoft.assessmentbackend.domain.entities.Competency;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
 import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.services.BehavioralIndicatorService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +21,14 @@ public class BehavioralIndicatorServiceImpl implements BehavioralIndicatorServic
 
     private final BehavioralIndicatorRepository behavioralIndicatorRepository;
     private final CompetencyRepository competencyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BehavioralIndicatorServiceImpl(BehavioralIndicatorRepository behavioralIndicatorRepository,
-                                        CompetencyRepository competencyRepository) {
+                                        CompetencyRepository competencyRepository,
+                                        ApplicationEventPublisher eventPublisher) {
         this.behavioralIndicatorRepository = behavioralIndicatorRepository;
         this.competencyRepository = competencyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -83,7 +88,9 @@ public class BehavioralIndicatorServiceImpl implements BehavioralIndicatorServic
         // Set timestamps
         LocalDateTime now = LocalDateTime.now();
 
-        return behavioralIndicatorRepository.save(behavioralIndicator);
+        BehavioralIndicator saved = behavioralIndicatorRepository.save(behavioralIndicator);
+        eventPublisher.publishEvent(QuestionPoolChangedEvent.fullRebuild("indicator created"));
+        return saved;
     }
 
     @Override
@@ -146,7 +153,9 @@ public class BehavioralIndicatorServiceImpl implements BehavioralIndicatorServic
                     
                     existingIndicator.setOrderIndex(finalOrderIndex);
 
-                    return behavioralIndicatorRepository.save(existingIndicator);
+                    BehavioralIndicator saved = behavioralIndicatorRepository.save(existingIndicator);
+                    eventPublisher.publishEvent(QuestionPoolChangedEvent.fullRebuild("indicator updated"));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Behavioral indicator not found with id: " + behavioralIndicatorId ));
     }
@@ -185,7 +194,10 @@ public class BehavioralIndicatorServiceImpl implements BehavioralIndicatorServic
                     existingIndicator.setActive(behavioralIndicatorDetails.isActive());
                     existingIndicator.setApprovalStatus(behavioralIndicatorDetails.getApprovalStatus());
                     existingIndicator.setOrderIndex(behavioralIndicatorDetails.getOrderIndex());
-                    existingIndicator.setContextScope(behavioralIndicatorDetails.getContextScope());        return behavioralIndicatorRepository.save(existingIndicator);
+                    existingIndicator.setContextScope(behavioralIndicatorDetails.getContextScope());
+        BehavioralIndicator saved = behavioralIndicatorRepository.save(existingIndicator);
+        eventPublisher.publishEvent(QuestionPoolChangedEvent.fullRebuild("indicator moved to another competency"));
+        return saved;
     }
 
     @Override
@@ -195,5 +207,6 @@ public class BehavioralIndicatorServiceImpl implements BehavioralIndicatorServic
                 .orElseThrow(() -> new RuntimeException("Behavioral indicator not found with id: " + behavioralIndicatorId));
 
         behavioralIndicatorRepository.delete(indicator);
+        eventPublisher.publishEvent(QuestionPoolChangedEvent.fullRebuild("indicator deleted"));
     }
 }
@@ -2,6 +2,7 @@ package app.skillsoft.assessmentbackend.services.impl;
 
 import app.skillsoft.assessmentbackend.config.CacheConfig;
 import app.skillsoft.assessmentbackend.domain.entities.Competency;
+import app.skillsoft.assessmentbackend.events.competency.CompetencyChangedEvent;
 import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.services.CompetencyService;
 import org.slf4j.Logger;
@@ -9,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,10 +25,13 @@ public class CompetencyServiceImpl implements CompetencyService {
     private static final Logger logger = LoggerFactory.getLogger(CompetencyServiceImpl.class);
 
     private final CompetencyRepository competencyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CompetencyServiceImpl(CompetencyRepository competencyRepository) {
+    public CompetencyServiceImpl(CompetencyRepository competencyRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.competencyRepository = competencyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -104,7 +109,8 @@ public class CompetencyServiceImpl implements CompetencyService {
                     
                     logger.debug("Saved competency {}, standardCodes after save: {}", 
                         saved.getId(), saved.getStandardCodes());
-                    
+
+                    eventPublisher.publishEvent(CompetencyChangedEvent.updated(saved.getId()));
                     return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Competency not found with id: " + id));
@@ -116,6 +122,7 @@ public class CompetencyServiceImpl implements CompetencyService {
     public boolean deleteCompetency(UUID id) {
         if (competencyRepository.existsById(id)) {
             competencyRepository.deleteById(id);
+            eventPublisher.publishEvent(CompetencyChangedEvent.deleted(id));
             return true;
         }
         return false;
@@ -3,7 +3,6 @@ package app.skillsoft.assessmentbackend.services.impl;
 import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
 import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
 import app.skillsoft.assessmentbackend.domain.entities.*;
-import app.skillsoft.assessmentbackend.events.resilience.ResilienceFallbackEvent;
 import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
 import app.skillsoft.assessmentbackend.events.scoring.ScoringFailedEvent;
 import app.skillsoft.assessmentbackend.events.scoring.ScoringStartedEvent;
@@ -12,12 +11,18 @@ import app.skillsoft.assessmentbackend.repository.TestAnswerRepository;
 import app.skillsoft.assessmentbackend.repository.TestResultRepository;
 import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
 import app.skillsoft.assessmentbackend.services.ScoringOrchestrationService;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
+import app.skillsoft.assessmentbackend.services.scoring.ScoreChange;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringResult;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringStrategy;
+import app.skillsoft.assessmentbackend.services.scoring.SessionScoreAggregator;
+import app.skillsoft.assessmentbackend.services.scoring.TemplateScoreIndex;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestion;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestionCache;
 import app.skillsoft.assessmentbackend.util.LoggingContext;
-import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -32,44 +37,70 @@ import java.util.*;
  *
  * Key Design Decisions:
  * - Uses REQUIRES_NEW propagation to ensure scoring is independent of session completion
- * - Uses Resilience4j @Retry for transient failure handling (DB timeouts, network issues)
- * - Falls back to creating PENDING result if all retry attempts fail
+ * - Makes one attempt per call; the scoring job queue retries failed attempts with backoff
+ * - Records a PENDING result for a failed attempt ({@link #recordScoringFailure})
  * - Publishes observability events for monitoring and alerting
+ * - Scores tracked sessions from per-indicator totals kept at answer time (no answer reload)
+ * - Ranks results against the in-memory score distribution of the template (no COUNT queries)
  *
  * Transaction Isolation:
  * When completeSession() calls calculateAndSaveResult(), a new transaction is started.
  * If scoring fails:
  * - The session remains COMPLETED (outer transaction already committed)
- * - A PENDING result is created for later retry
- * - The fallback method handles graceful degradation
+ * - A PENDING result is recorded and the scoring job is retried later
  */
 @Service
 public class ScoringOrchestrationServiceImpl implements ScoringOrchestrationService {
 
     private static final Logger log = LoggerFactory.getLogger(ScoringOrchestrationServiceImpl.class);
 
+    /**
+     * Allowed difference between incremental and recomputed overall percentage (floating-point drift).
+     */
+    private static final double VERIFY_TOLERANCE_PERCENT = 0.01;
+
     private final TestSessionRepository sessionRepository;
     private final TestAnswerRepository answerRepository;
     private final TestResultRepository resultRepository;
     private final List<ScoringStrategy> scoringStrategies;
     private final ApplicationEventPublisher eventPublisher;
+    private final SessionScoreAggregator scoreAggregator;
+    private final TemplateScoreIndex scoreIndex;
+    private final CompiledQuestionCache compiledQuestionCache;
+
+    /**
+     * Score tracked sessions from the per-indicator totals maintained at answer time.
+     */
+    @Value("${skillsoft.scoring.incremental.enabled:true}")
+    private boolean incrementalScoringEnabled;
+
+    /**
+     * Also recompute incremental results from the stored answers and log any divergence.
+     */
+    @Value("${skillsoft.scoring.incremental.verify:false}")
+    private boolean verifyIncrementalScoring;
 
     public ScoringOrchestrationServiceImpl(
             TestSessionRepository sessionRepository,
             TestAnswerRepository answerRepository,
             TestResultRepository resultRepository,
             List<ScoringStrategy> scoringStrategies,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            SessionScoreAggregator scoreAggregator,
+            TemplateScoreIndex scoreIndex,
+            CompiledQuestionCache compiledQuestionCache) {
         this.sessionRepository = sessionRepository;
         this.answerRepository = answerRepository;
         this.resultRepository = resultRepository;
         this.scoringStrategies = scoringStrategies;
         this.eventPublisher = eventPublisher;
+        this.scoreAggregator = scoreAggregator;
+        this.scoreIndex = scoreIndex;
+        this.compiledQuestionCache = compiledQuestionCache;
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @Retry(name = "scoringCalculation", fallbackMethod = "scoringFallback")
     public TestResultDto calculateAndSaveResult(UUID sessionId) {
         // Set operation context for scoring
         LoggingContext.setSessionId(sessionId);
@@ -86,71 +117,89 @@ public class ScoringOrchestrationServiceImpl implements ScoringOrchestrationServ
         LoggingContext.setUserId(session.getClerkUserId());
         LoggingContext.setTemplateId(session.getTemplate().getId());
 
+        // Scoring jobs can be retried after a commit was lost: keep a COMPLETED result as is
+        Optional<TestResult> existing = resultRepository.findBySession_Id(sessionId);
+        if (existing.isPresent() && existing.get().getStatus() == ResultStatus.COMPLETED) {
+            log.info("Session={} already scored, returning result={}", sessionId, existing.get().getId());
+            return toResultDto(existing.get(), session);
+        }
+
         log.info("Calculating results for session={} goal={} user={}",
                 session.getId(), session.getTemplate().getGoal(), session.getClerkUserId());
 
-        List<TestAnswer> answers = answerRepository.findBySession_Id(session.getId());
-
         // Get template goal for strategy selection
         AssessmentGoal goal = session.getTemplate().getGoal();
 
-        // Publish scoring started event
-        eventPublisher.publishEvent(ScoringStartedEvent.beforeResult(
-                session.getId(),
-                goal,
-                answers.size()
-        ));
-
-        // Calculate statistics
-        long answered = answers.stream().filter(a -> !a.getIsSkipped() && a.getAnsweredAt() != null).count();
-        long skipped = answers.stream().filter(TestAnswer::getIsSkipped).count();
-        int totalTime = answers.stream()
-                .mapToInt(a -> a.getTimeSpentSeconds() != null ? a.getTimeSpentSeconds() : 0)
-                .sum();
-
-        log.debug("Session statistics: answered={} skipped={} totalTimeSeconds={}",
-                answered, skipped, totalTime);
-
         // Find appropriate scoring strategy
-        ScoringStrategy strategy = scoringStrategies.stream()
-                .filter(s -> s.getSupportedGoal() == goal)
-                .findFirst()
-                .orElse(null);
+        ScoringStrategy strategy = findStrategy(goal);
 
+        long answered;
+        long skipped;
+        int totalTime;
         ScoringResult scoringResult;
-        if (strategy != null) {
-            log.info("Using scoring strategy={} for goal={}",
-                    strategy.getClass().getSimpleName(), goal);
-            scoringResult = strategy.calculate(session, answers);
+
+        if (strategy != null && incrementalScoringEnabled && session.isScoreAggregatesTracked()) {
+            // Roll up the per-indicator totals maintained at answer time instead of reloading answers
+            Object[] statistics = firstRow(answerRepository.findAnswerStatisticsBySessionId(session.getId()));
+            long totalAnswers = numberAt(statistics, 0);
+            answered = numberAt(statistics, 1);
+            skipped = numberAt(statistics, 2);
+            totalTime = (int) numberAt(statistics, 3);
+
+            eventPublisher.publishEvent(ScoringStartedEvent.beforeResult(
+                    session.getId(),
+                    goal,
+                    (int) totalAnswers
+            ));
+
+            List<IndicatorTally> tallies = scoreAggregator.load(session.getId());
+            log.info("Using scoring strategy={} for goal={} from {} indicator tallies",
+                    strategy.getClass().getSimpleName(), goal, tallies.size());
+            scoringResult = strategy.calculateFromTallies(session, tallies);
+
+            if (verifyIncrementalScoring) {
+                scoringResult = verifyAgainstFullRecompute(session, strategy, scoringResult);
+            }
         } else {
-            log.warn("No scoring strategy found for goal={}, using legacy calculation", goal);
-            // Fallback to legacy scoring
-            scoringResult = calculateLegacyScore(session, answers);
+            List<TestAnswer> answers = answerRepository.findBySession_Id(session.getId());
+
+            // Publish scoring started event
+            eventPublisher.publishEvent(ScoringStartedEvent.beforeResult(
+                    session.getId(),
+                    goal,
+                    answers.size()
+            ));
+
+            // Calculate statistics
+            answered = answers.stream().filter(a -> !a.getIsSkipped() && a.getAnsweredAt() != null).count();
+            skipped = answers.stream().filter(TestAnswer::getIsSkipped).count();
+            totalTime = answers.stream()
+                    .mapToInt(a -> a.getTimeSpentSeconds() != null ? a.getTimeSpentSeconds() : 0)
+                    .sum();
+
+            if (strategy != null) {
+                log.info("Using scoring strategy={} for goal={}",
+                        strategy.getClass().getSimpleName(), goal);
+                scoringResult = strategy.calculate(session, answers);
+            } else {
+                log.warn("No scoring strategy found for goal={}, using legacy calculation", goal);
+                // Fallback to legacy scoring
+                scoringResult = calculateLegacyScore(session, answers);
+            }
         }
 
-        // Create result entity
-        TestResult result = new TestResult(session, session.getClerkUserId());
-        result.setOverallScore(scoringResult.getOverallScore());
-        result.setOverallPercentage(scoringResult.getOverallPercentage());
-        result.setCompetencyScores(scoringResult.getCompetencyScores());
+        log.debug("Session statistics: answered={} skipped={} totalTimeSeconds={}",
+                answered, skipped, totalTime);
+
+        // Create result entity, or complete the PENDING/FAILED one of an earlier attempt
+        TestResult result = existing.orElseGet(() -> new TestResult(session, session.getClerkUserId()));
+        applyScoringResult(result, scoringResult, session.getTemplate().getPassingScore());
         result.setQuestionsAnswered((int) answered);
         result.setQuestionsSkipped((int) skipped);
         result.setTotalTimeSeconds(totalTime);
         result.setCompletedAt(LocalDateTime.now());
         result.setStatus(ResultStatus.COMPLETED);
 
-        // Set Big Five profile (only populated for TEAM_FIT goal)
-        result.setBigFiveProfile(scoringResult.getBigFiveProfile());
-
-        // Set extended metrics (e.g., TeamFitMetrics for TEAM_FIT goal)
-        if (scoringResult.getTeamFitMetrics() != null) {
-            Map<String, Object> extendedMetrics = convertTeamFitMetricsToMap(scoringResult.getTeamFitMetrics());
-            result.setExtendedMetrics(extendedMetrics);
-        }
-
-        // Calculate passed/failed
-        result.calculatePassed(session.getTemplate().getPassingScore());
-
         // Calculate percentile based on historical results for this template
         Integer percentile = calculatePercentile(session.getTemplate().getId(), result.getOverallPercentage());
         result.setPercentile(percentile);
@@ -161,8 +210,10 @@ public class ScoringOrchestrationServiceImpl implements ScoringOrchestrationServ
         eventPublisher.publishEvent(ScoringCompletedEvent.fromStart(
                 session.getId(),
                 saved.getId(),
+                session.getTemplate().getId(),
                 goal,
                 saved.getOverallScore(),
+                saved.getOverallPercentage(),
                 Boolean.TRUE.equals(saved.getPassed()),
                 scoringStartTime
         ));
@@ -173,39 +224,168 @@ public class ScoringOrchestrationServiceImpl implements ScoringOrchestrationServ
         return toResultDto(saved, session);
     }
 
+    @Override
+    @Transactional
+    public List<ScoreChange> rescoreResults(List<UUID> resultIds, boolean dryRun) {
+        if (resultIds.isEmpty()) {
+            return List.of();
+        }
+        List<TestResult> results = resultRepository.findAllByIdWithSessionAndTemplate(resultIds);
+
+        // One answer query for the whole chunk instead of one per session
+        Map<UUID, List<TestAnswer>> answersBySession = new HashMap<>();
+        List<UUID> sessionIds = results.stream().map(TestResult::getSessionId).toList();
+        for (TestAnswer answer : answerRepository.findBySession_IdIn(sessionIds)) {
+            answersBySession.computeIfAbsent(answer.getSession().getId(), id -> new ArrayList<>()).add(answer);
+        }
+
+        List<ScoreChange> changes = new ArrayList<>(results.size());
+        for (TestResult result : results) {
+            TestSession session = result.getSession();
+            ScoringStrategy strategy = findStrategy(session.getTemplate().getGoal());
+            if (strategy == null) {
+                log.warn("No scoring strategy found for goal={}, result={} not re-scored",
+                        session.getTemplate().getGoal(), result.getId());
+                continue;
+            }
+
+            List<TestAnswer> answers = answersBySession.getOrDefault(session.getId(), List.of());
+            Map<TestAnswer, Double> storedScores = regradeSelectedOptions(answers);
+            try {
+                ScoringResult scoringResult = strategy.calculate(session, answers);
+                Double passingScore = session.getTemplate().getPassingScore();
+                Double percentage = scoringResult.getOverallPercentage();
+                changes.add(new ScoreChange(
+                        result.getId(),
+                        session.getId(),
+                        result.getOverallPercentage(),
+                        percentage,
+                        result.getPassed(),
+                        percentage != null && percentage >= passingScore
+                ));
+                if (!dryRun) {
+                    applyScoringResult(result, scoringResult, passingScore);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Re-scoring failed for result={} session={}: {}",
+                        result.getId(), session.getId(), e.getMessage());
+            } finally {
+                if (dryRun) {
+                    // Put the stored scores back so the flush at commit writes nothing
+                    storedScores.forEach(TestAnswer::setScore);
+                }
+            }
+        }
+
+        log.debug("Re-scored {} of {} results (dryRun={})", changes.size(), resultIds.size(), dryRun);
+        return changes;
+    }
+
     /**
-     * Fallback method for scoring calculation when all retry attempts fail.
+     * Grade option-based answers again against the current answer options, so a fixed
+     * answer key or option score is picked up. Changed answer scores are written by the
+     * flush at commit.
      *
-     * This method is called by Resilience4j when the scoring calculation fails after
-     * all configured retry attempts. It creates a PENDING TestResult that can be
-     * retried later by a scheduled job or manual intervention.
+     * @return The stored score of every answer whose score changed
+     */
+    private Map<TestAnswer, Double> regradeSelectedOptions(List<TestAnswer> answers) {
+        Map<TestAnswer, Double> storedScores = new IdentityHashMap<>();
+        for (TestAnswer answer : answers) {
+            if (Boolean.TRUE.equals(answer.getIsSkipped()) || answer.getSelectedOptionIds() == null
+                    || answer.getSelectedOptionIds().isEmpty() || answer.getQuestion() == null) {
+                continue;
+            }
+            CompiledQuestion question;
+            try {
+                question = compiledQuestionCache.get(answer.getQuestion().getId());
+            } catch (ResourceNotFoundException e) {
+                // Question deleted since: keep the stored score
+                continue;
+            }
+            if (!question.isOptionScored()) {
+                continue;
+            }
+            Double score = question.scoreSelection(answer.getSelectedOptionIds());
+            if (!Objects.equals(score, answer.getScore())) {
+                storedScores.put(answer, answer.getScore());
+                answer.setScore(score);
+            }
+        }
+        return storedScores;
+    }
+
+    private ScoringStrategy findStrategy(AssessmentGoal goal) {
+        return scoringStrategies.stream()
+                .filter(s -> s.getSupportedGoal() == goal)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Copy the scores of a scoring result onto a result entity and decide passed/failed.
+     */
+    private void applyScoringResult(TestResult result, ScoringResult scoringResult, Double passingScore) {
+        result.setOverallScore(scoringResult.getOverallScore());
+        result.setOverallPercentage(scoringResult.getOverallPercentage());
+        result.setCompetencyScores(scoringResult.getCompetencyScores());
+
+        // Set Big Five profile (only populated for TEAM_FIT goal)
+        result.setBigFiveProfile(scoringResult.getBigFiveProfile());
+
+        // Set extended metrics (e.g., TeamFitMetrics for TEAM_FIT goal)
+        if (scoringResult.getTeamFitMetrics() != null) {
+            Map<String, Object> extendedMetrics = convertTeamFitMetricsToMap(scoringResult.getTeamFitMetrics());
+            result.setExtendedMetrics(extendedMetrics);
+        }
+
+        // Calculate passed/failed
+        result.calculatePassed(passingScore);
+    }
+
+    /**
+     * Recompute a result from the stored answers and compare it with the incremental one.
+     * Divergence means the running totals missed an answer change; the recomputed result wins.
+     */
+    private ScoringResult verifyAgainstFullRecompute(TestSession session, ScoringStrategy strategy,
+                                                     ScoringResult incremental) {
+        List<TestAnswer> answers = answerRepository.findBySession_Id(session.getId());
+        ScoringResult recomputed = strategy.calculate(session, answers);
+
+        double incrementalPercentage = incremental.getOverallPercentage() != null ? incremental.getOverallPercentage() : 0.0;
+        double recomputedPercentage = recomputed.getOverallPercentage() != null ? recomputed.getOverallPercentage() : 0.0;
+        if (Math.abs(incrementalPercentage - recomputedPercentage) > VERIFY_TOLERANCE_PERCENT) {
+            log.warn("Incremental score diverged for session={}: incremental={}% recomputed={}% - using recomputed result",
+                    session.getId(), incrementalPercentage, recomputedPercentage);
+            return recomputed;
+        }
+        log.debug("Incremental score verified for session={}: {}%", session.getId(), incrementalPercentage);
+        return incremental;
+    }
+
+    private static Object[] firstRow(List<Object[]> rows) {
+        return rows.isEmpty() ? new Object[0] : rows.get(0);
+    }
+
+    private static long numberAt(Object[] row, int index) {
+        return index < row.length && row[index] instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * Record a failed scoring attempt of the scoring job worker.
      *
      * Implementation notes:
-     * - Logs the error with full context for debugging
      * - Publishes ScoringFailedEvent for observability/alerting
-     * - Publishes ResilienceFallbackEvent for resilience metrics
-     * - Creates a PENDING TestResult with basic session metadata
-     * - Returns the pending result DTO so the user knows their test was received
-     *
-     * @param sessionId The session ID that failed scoring
-     * @param exception The exception that caused the final failure
-     * @return TestResultDto with PENDING status for later retry
+     * - Creates (or keeps) a PENDING TestResult with basic session metadata
+     * - The scoring job queue retries the session with backoff and marks the
+     *   PENDING result FAILED once it gives up
      */
+    @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public TestResultDto scoringFallback(UUID sessionId, Exception exception) {
+    public TestResultDto recordScoringFailure(UUID sessionId, Exception exception) {
         Instant failureTime = Instant.now();
 
-        log.error("Scoring calculation exhausted all retry attempts for session={}. " +
-                  "Creating PENDING result for later retry. Error: {}",
-                sessionId, exception.getMessage(), exception);
-
-        // Publish resilience fallback event for metrics
-        // Note: max-attempts is 3 from application.properties, total attempts = initial + retries
-        eventPublisher.publishEvent(ResilienceFallbackEvent.forScoringFallback(
-                sessionId,
-                3, // Total attempts (configured in application.properties)
-                exception
-        ));
+        log.warn("Scoring attempt failed for session={}, keeping PENDING result for retry. Error: {}",
+                sessionId, exception.getMessage());
 
         // Fetch session for creating pending result
         TestSession session = sessionRepository.findByIdWithTemplate(sessionId)
@@ -221,6 +401,12 @@ public class ScoringOrchestrationServiceImpl implements ScoringOrchestrationServ
                 failureTime
         ));
 
+        // A result committed by a concurrent attempt wins; a PENDING/FAILED one is reused
+        Optional<TestResult> existing = resultRepository.findBySession_Id(sessionId);
+        if (existing.isPresent() && existing.get().getStatus() == ResultStatus.COMPLETED) {
+            return toResultDto(existing.get(), session);
+        }
+
         // Fetch answers to capture basic statistics even for pending result
         List<TestAnswer> answers = answerRepository.findBySession_Id(session.getId());
         long answered = answers.stream()
@@ -234,7 +420,7 @@ public class ScoringOrchestrationServiceImpl implements ScoringOrchestrationServ
                 .sum();
 
         // Create a PENDING result for later retry
-        TestResult pendingResult = new TestResult(session, session.getClerkUserId());
+        TestResult pendingResult = existing.orElseGet(() -> new TestResult(session, session.getClerkUserId()));
         pendingResult.setStatus(ResultStatus.PENDING);
         pendingResult.setQuestionsAnswered((int) answered);
         pendingResult.setQuestionsSkipped((int) skipped);
@@ -270,29 +456,21 @@ public class ScoringOrchestrationServiceImpl implements ScoringOrchestrationServ
         }
 
         try {
-            // Get count of results below this score
-            long belowCount = resultRepository.countResultsBelowScore(templateId, score);
-
-            // Get total count of results for this template
-            long totalCount = resultRepository.countResultsByTemplateId(templateId);
+            // Rank against the scored results of the template; the current result is
+            // not scored yet, so it is not part of the distribution
+            TemplateScoreIndex.ScoreRank rank = scoreIndex.rank(templateId, score);
+            long belowCount = rank.below();
+            long totalCount = rank.total();
 
-            // Handle edge cases
+            // Handle edge case
             if (totalCount == 0) {
                 // First result for this template - default to 50th percentile
                 log.debug("First result for template {}, defaulting to 50th percentile", templateId);
                 return 50;
             }
 
-            if (totalCount == 1) {
-                // Only one result (the current one being saved)
-                // Return 50 as baseline
-                log.debug("Only one result for template {}, defaulting to 50th percentile", templateId);
-                return 50;
-            }
-
-            // Calculate percentile: (count below / total) * 100
-            // Using (totalCount - 1) to exclude the current result from denominator
-            double percentile = ((double) belowCount / (totalCount - 1)) * 100;
+            // Calculate percentile: (count below / other results) * 100
+            double percentile = ((double) belowCount / totalCount) * 100;
 
             // Round and clamp to 0-100 range
             int result = (int) Math.round(percentile);
@@ -6,6 +6,7 @@ import app.skillsoft.assessmentbackend.domain.entities.*;
 import app.skillsoft.assessmentbackend.exception.ResourceNotFoundException;
 import app.skillsoft.assessmentbackend.repository.*;
 import app.skillsoft.assessmentbackend.services.TemplateDeletionService;
+import app.skillsoft.assessmentbackend.services.session.SessionHotStateCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -31,6 +32,7 @@ public class TemplateDeletionServiceImpl implements TemplateDeletionService {
     private final TemplateShareRepository shareRepository;
     private final TemplateShareLinkRepository shareLinkRepository;
     private final TestActivityEventRepository activityEventRepository;
+    private final SessionHotStateCache hotStateCache;
 
     public TemplateDeletionServiceImpl(
             TestTemplateRepository templateRepository,
@@ -38,13 +40,15 @@ public class TemplateDeletionServiceImpl implements TemplateDeletionService {
             TestResultRepository resultRepository,
             TemplateShareRepository shareRepository,
             TemplateShareLinkRepository shareLinkRepository,
-            TestActivityEventRepository activityEventRepository) {
+            TestActivityEventRepository activityEventRepository,
+            SessionHotStateCache hotStateCache) {
         this.templateRepository = templateRepository;
         this.sessionRepository = sessionRepository;
         this.resultRepository = resultRepository;
         this.shareRepository = shareRepository;
         this.shareLinkRepository = shareLinkRepository;
         this.activityEventRepository = activityEventRepository;
+        this.hotStateCache = hotStateCache;
     }
 
     @Override
@@ -194,6 +198,7 @@ public class TemplateDeletionServiceImpl implements TemplateDeletionService {
             // Mark as abandoned first
             if (session.getStatus() == SessionStatus.IN_PROGRESS) {
                 session.abandon();
+                hotStateCache.invalidate(session.getId());
             } else {
                 session.setStatus(SessionStatus.ABANDONED);
                 session.setCompletedAt(LocalDateTime.now());
@@ -10,19 +10,27 @@ import app.skillsoft.assessmentbackend.exception.DuplicateSessionException;
 import app.skillsoft.assessmentbackend.exception.ResourceNotFoundException;
 import app.skillsoft.assessmentbackend.exception.TestNotReadyException;
 import app.skillsoft.assessmentbackend.services.validation.InventoryHeatmapService;
+import app.skillsoft.assessmentbackend.services.validation.PsychometricBlueprintValidator;
 import app.skillsoft.assessmentbackend.services.psychometrics.PsychometricAuditJob;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssembler;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssemblerFactory;
 import app.skillsoft.assessmentbackend.repository.*;
 import app.skillsoft.assessmentbackend.services.ActivityTrackingService;
 import app.skillsoft.assessmentbackend.services.BlueprintConversionService;
-import app.skillsoft.assessmentbackend.services.ScoringOrchestrationService;
 import app.skillsoft.assessmentbackend.services.TestSessionService;
 import app.skillsoft.assessmentbackend.events.assembly.AssemblyCompletedEvent;
 import app.skillsoft.assessmentbackend.events.assembly.AssemblyFailedEvent;
 import app.skillsoft.assessmentbackend.events.assembly.AssemblyProgress;
 import app.skillsoft.assessmentbackend.events.assembly.AssemblyStartedEvent;
 import app.skillsoft.assessmentbackend.services.assembly.AssemblyProgressTracker;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobQueue;
+import app.skillsoft.assessmentbackend.services.scoring.SessionScoreAggregator;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestion;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestionCache;
+import app.skillsoft.assessmentbackend.services.session.SessionDeadlineQueue;
+import app.skillsoft.assessmentbackend.services.session.SessionHotState;
+import app.skillsoft.assessmentbackend.services.session.SessionHotStateCache;
 import app.skillsoft.assessmentbackend.util.LoggingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +49,12 @@ public class TestSessionServiceImpl implements TestSessionService {
 
     private static final Logger log = LoggerFactory.getLogger(TestSessionServiceImpl.class);
 
+    /**
+     * Answers arriving this many seconds after the deadline are still accepted,
+     * absorbing network latency of a submission made just before time ran out.
+     */
+    private static final int DEADLINE_GRACE_SECONDS = 5;
+
     private final TestSessionRepository sessionRepository;
     private final TestTemplateRepository templateRepository;
     private final TestAnswerRepository answerRepository;
@@ -52,9 +66,14 @@ public class TestSessionServiceImpl implements TestSessionService {
     private final TestAssemblerFactory assemblerFactory;
     private final ApplicationEventPublisher eventPublisher;
     private final AssemblyProgressTracker assemblyProgressTracker;
-    private final ScoringOrchestrationService scoringOrchestrationService;
+    private final ScoringJobQueue scoringJobQueue;
     private final ActivityTrackingService activityTrackingService;
     private final BlueprintConversionService blueprintConversionService;
+    private final PsychometricBlueprintValidator psychometricValidator;
+    private final SessionHotStateCache hotStateCache;
+    private final CompiledQuestionCache compiledQuestionCache;
+    private final SessionDeadlineQueue deadlineQueue;
+    private final SessionScoreAggregator scoreAggregator;
 
     public TestSessionServiceImpl(
             TestSessionRepository sessionRepository,
@@ -68,9 +87,14 @@ public class TestSessionServiceImpl implements TestSessionService {
             TestAssemblerFactory assemblerFactory,
             ApplicationEventPublisher eventPublisher,
             AssemblyProgressTracker assemblyProgressTracker,
-            ScoringOrchestrationService scoringOrchestrationService,
+            ScoringJobQueue scoringJobQueue,
             ActivityTrackingService activityTrackingService,
-            BlueprintConversionService blueprintConversionService) {
+            BlueprintConversionService blueprintConversionService,
+            PsychometricBlueprintValidator psychometricValidator,
+            SessionHotStateCache hotStateCache,
+            CompiledQuestionCache compiledQuestionCache,
+            SessionDeadlineQueue deadlineQueue,
+            SessionScoreAggregator scoreAggregator) {
         this.sessionRepository = sessionRepository;
         this.templateRepository = templateRepository;
         this.answerRepository = answerRepository;
@@ -82,9 +106,14 @@ public class TestSessionServiceImpl implements TestSessionService {
         this.assemblerFactory = assemblerFactory;
         this.eventPublisher = eventPublisher;
         this.assemblyProgressTracker = assemblyProgressTracker;
-        this.scoringOrchestrationService = scoringOrchestrationService;
+        this.scoringJobQueue = scoringJobQueue;
         this.activityTrackingService = activityTrackingService;
         this.blueprintConversionService = blueprintConversionService;
+        this.psychometricValidator = psychometricValidator;
+        this.hotStateCache = hotStateCache;
+        this.compiledQuestionCache = compiledQuestionCache;
+        this.deadlineQueue = deadlineQueue;
+        this.scoreAggregator = scoreAggregator;
     }
 
     @Override
@@ -169,6 +198,7 @@ public class TestSessionServiceImpl implements TestSessionService {
         session.start();
 
         TestSession saved = sessionRepository.save(session);
+        deadlineQueue.register(saved.getId(), saved.getDeadlineAt());
 
         // Record activity event for audit trail
         activityTrackingService.recordSessionStarted(saved);
@@ -179,6 +209,10 @@ public class TestSessionServiceImpl implements TestSessionService {
     @Override
     @Transactional(readOnly = true)
     public Optional<TestSessionDto> findById(UUID sessionId) {
+        Optional<SessionHotState> hotState = hotStateCache.peek(sessionId);
+        if (hotState.isPresent()) {
+            return hotState.map(this::toDto);
+        }
         return sessionRepository.findByIdWithTemplate(sessionId)
                 .map(this::toDto);
     }
@@ -243,27 +277,31 @@ public class TestSessionServiceImpl implements TestSessionService {
     public Optional<TestSessionDto> findInProgressSession(String clerkUserId, UUID templateId) {
         return sessionRepository.findByClerkUserIdAndTemplate_IdAndStatus(
                 clerkUserId, templateId, SessionStatus.IN_PROGRESS)
-                .map(this::toDto);
+                .map(session -> hotStateCache.peek(session.getId())
+                        .map(this::toDto)
+                        .orElseGet(() -> toDto(session)));
     }
 
     @Override
     @Transactional
     public TestAnswerDto submitAnswer(SubmitAnswerRequest request) {
-        TestSession session = sessionRepository.findById(request.sessionId())
-                .orElseThrow(() -> new ResourceNotFoundException("Session", request.sessionId()));
+        SessionHotState state = hotStateCache.get(request.sessionId());
 
-        if (session.getStatus() != SessionStatus.IN_PROGRESS) {
+        if (state.getStatus() != SessionStatus.IN_PROGRESS) {
             throw new IllegalStateException("Cannot submit answer for a session that is not in progress");
         }
+        requireWithinDeadline(state);
 
-        AssessmentQuestion question = questionRepository.findById(request.questionId())
-                .orElseThrow(() -> new ResourceNotFoundException("Question", request.questionId()));
+        CompiledQuestion question = compiledQuestionCache.get(request.questionId());
+        requireInProgressForWrite(state);
 
-        // Check if answer already exists
-        Optional<TestAnswer> existingAnswer = answerRepository
-                .findBySession_IdAndQuestion_Id(session.getId(), question.getId());
+        // Check if answer already exists (the answer may have been written through another node)
+        Optional<TestAnswer> existingAnswer =
+                answerRepository.findBySession_IdAndQuestion_Id(state.getSessionId(), question.id());
 
         TestAnswer answer;
+        boolean wasCounted = existingAnswer.map(this::isCountedResponse).orElse(false);
+        IndicatorTally before = existingAnswer.map(a -> scoreAggregator.tallyOf(a, question)).orElse(null);
         if (existingAnswer.isPresent()) {
             answer = existingAnswer.get();
             // Update existing answer
@@ -274,7 +312,9 @@ public class TestSessionServiceImpl implements TestSessionService {
             }
         } else {
             // Create new answer
-            answer = new TestAnswer(session, question);
+            answer = new TestAnswer(
+                    sessionRepository.getReferenceById(state.getSessionId()),
+                    questionRepository.getReferenceById(question.id()));
             if (request.skip()) {
                 answer.skip();
             } else {
@@ -282,27 +322,143 @@ public class TestSessionServiceImpl implements TestSessionService {
             }
         }
 
-        // Update session activity
-        session.updateActivity();
-        sessionRepository.save(session);
+        // Update session activity (written behind by the hot-state cache)
+        state.touch();
 
         TestAnswer saved = answerRepository.save(answer);
+        state.recordAnswer(question.id(),
+                Boolean.TRUE.equals(saved.getIsSkipped()), saved.getAnsweredAt() != null);
+        scoreAggregator.record(state.getSessionId(), before, scoreAggregator.tallyOf(saved, question));
+
+        // Count the response for psychometric milestones (50, 100, 150, etc.);
+        // recalculation happens asynchronously, outside this request
+        if (!wasCounted && isCountedResponse(saved)) {
+            psychometricAuditJob.onAnswerSubmitted(question.id());
+        }
+
+        return toAnswerDto(saved, question.questionText());
+    }
+
+    @Override
+    @Transactional
+    public List<AnswerSubmissionResult> submitAnswers(UUID sessionId, List<SubmitAnswerRequest> requests) {
+        SessionHotState state = hotStateCache.get(sessionId);
+
+        if (state.getStatus() != SessionStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Cannot submit answers for a session that is not in progress");
+        }
+        requireWithinDeadline(state);
+
+        // Pass 1: validate items and resolve their compiled questions
+        AnswerSubmissionResult[] results = new AnswerSubmissionResult[requests.size()];
+        CompiledQuestion[] questions = new CompiledQuestion[requests.size()];
+        Set<UUID> validQuestionIds = new HashSet<>();
 
-        // Trigger psychometric analysis on answer submission
-        // This will recalculate item statistics if the question reaches a response threshold (50, 100, 150, etc.)
-        psychometricAuditJob.onAnswerSubmitted(question.getId());
+        for (int i = 0; i < requests.size(); i++) {
+            SubmitAnswerRequest request = requests.get(i);
+            UUID questionId = request.questionId();
 
-        return toAnswerDto(saved);
+            if (request.sessionId() != null && !sessionId.equals(request.sessionId())) {
+                results[i] = AnswerSubmissionResult.rejected(questionId, "Answer belongs to a different session");
+            } else if (!state.containsQuestion(questionId)) {
+                results[i] = AnswerSubmissionResult.rejected(questionId, "Question is not part of this session");
+            } else {
+                try {
+                    questions[i] = compiledQuestionCache.get(questionId);
+                    validQuestionIds.add(questionId);
+                } catch (ResourceNotFoundException e) {
+                    results[i] = AnswerSubmissionResult.rejected(questionId, "Question not found");
+                }
+            }
+        }
+
+        if (validQuestionIds.isEmpty()) {
+            return Arrays.asList(results);
+        }
+        requireInProgressForWrite(state);
+
+        // Pass 2: load previously stored answers with one query and upsert in memory
+        // (always queried: answers may have been written through another node)
+        Map<UUID, TestAnswer> answersByQuestion = new LinkedHashMap<>();
+        Set<UUID> previouslyCounted = new HashSet<>();
+        for (TestAnswer existing : answerRepository.findBySession_IdAndQuestion_IdIn(sessionId, validQuestionIds)) {
+            answersByQuestion.put(existing.getQuestionId(), existing);
+            if (isCountedResponse(existing)) {
+                previouslyCounted.add(existing.getQuestionId());
+            }
+        }
+
+        // Score contribution of the stored answers before they change
+        Map<UUID, CompiledQuestion> compiledByQuestion = new HashMap<>();
+        for (CompiledQuestion question : questions) {
+            if (question != null) {
+                compiledByQuestion.put(question.id(), question);
+            }
+        }
+        List<IndicatorTally> tallyBefore = new ArrayList<>(answersByQuestion.size());
+        answersByQuestion.forEach((questionId, existing) ->
+                tallyBefore.add(scoreAggregator.tallyOf(existing, compiledByQuestion.get(questionId))));
+
+        TestSession sessionRef = sessionRepository.getReferenceById(sessionId);
+        for (int i = 0; i < requests.size(); i++) {
+            CompiledQuestion question = questions[i];
+            if (question == null) {
+                continue;
+            }
+            SubmitAnswerRequest request = requests.get(i);
+            TestAnswer answer = answersByQuestion.computeIfAbsent(question.id(),
+                    id -> new TestAnswer(sessionRef, questionRepository.getReferenceById(id)));
+            if (request.skip()) {
+                answer.skip();
+            } else {
+                updateAnswer(answer, request, question);
+            }
+        }
+
+        // Pass 3: write all answers at once (JDBC batched)
+        answerRepository.saveAll(answersByQuestion.values());
+
+        // Update session activity (written behind by the hot-state cache)
+        state.touch();
+        answersByQuestion.forEach((questionId, answer) -> state.recordAnswer(questionId,
+                Boolean.TRUE.equals(answer.getIsSkipped()), answer.getAnsweredAt() != null));
+
+        // One aggregate write per affected indicator
+        List<IndicatorTally> tallyAfter = new ArrayList<>(answersByQuestion.size());
+        answersByQuestion.forEach((questionId, answer) ->
+                tallyAfter.add(scoreAggregator.tallyOf(answer, compiledByQuestion.get(questionId))));
+        scoreAggregator.record(sessionId, tallyBefore, tallyAfter);
+
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] == null) {
+                CompiledQuestion question = questions[i];
+                results[i] = AnswerSubmissionResult.accepted(question.id(),
+                        toAnswerDto(answersByQuestion.get(question.id()), question.questionText()));
+            }
+        }
+
+        log.debug("Batch submission for session {}: {} of {} answers accepted",
+                sessionId, answersByQuestion.size(), requests.size());
+
+        // Count new responses for psychometric milestones; recalculation happens asynchronously
+        List<UUID> newlyCounted = answersByQuestion.entrySet().stream()
+                .filter(entry -> !previouslyCounted.contains(entry.getKey()) && isCountedResponse(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!newlyCounted.isEmpty()) {
+            psychometricAuditJob.onAnswersSubmitted(newlyCounted);
+        }
+
+        return Arrays.asList(results);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public CurrentQuestionDto getCurrentQuestion(UUID sessionId) {
+    public CurrentQuestionDto getCurrentQuestion(UUID sessionId, int lookahead) {
         // ===== 5-LAYER VALIDATION FOR GETCURRENTQUESTION =====
 
         // Layer 1: Session Exists Validation → 404 if not found
-        TestSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session", sessionId));
+        SessionHotState session = hotStateCache.get(sessionId);
 
         // Layer 2: Session Status Validation → 400 if COMPLETED/ABANDONED
         if (session.getStatus() == SessionStatus.COMPLETED) {
@@ -316,7 +472,7 @@ public class TestSessionServiceImpl implements TestSessionService {
         }
 
         // Layer 3: QuestionOrder Not Null/Empty Validation → 400 if empty
-        if (session.getQuestionOrder() == null || session.getQuestionOrder().isEmpty()) {
+        if (session.getQuestionOrder().isEmpty()) {
             log.error("Session {} has no questions in questionOrder. This indicates a question generation failure.",
                     sessionId);
             throw new IllegalStateException("Session has no questions. Please contact support.");
@@ -336,117 +492,170 @@ public class TestSessionServiceImpl implements TestSessionService {
 
         // Layer 5: Question Exists in Database → 404 if missing
         UUID questionId = session.getQuestionOrder().get(currentIndex);
-        AssessmentQuestion question = questionRepository.findById(questionId)
-                .orElseThrow(() -> {
-                    log.error("Question {} from session {} questionOrder not found in database",
-                            questionId, sessionId);
-                    return new ResourceNotFoundException("Question", questionId);
-                });
-
-        // Get previous answer if exists
-        TestAnswerDto previousAnswer = answerRepository
-                .findBySession_IdAndQuestion_Id(sessionId, questionId)
-                .map(this::toAnswerDto)
-                .orElse(null);
+        CompiledQuestion question;
+        try {
+            question = compiledQuestionCache.get(questionId);
+        } catch (ResourceNotFoundException e) {
+            log.error("Question {} from session {} questionOrder not found in database",
+                    questionId, sessionId);
+            throw e;
+        }
 
-        // Get template settings for navigation controls
-        TestTemplate template = session.getTemplate();
+        // Questions served in this response: current one plus the lookahead window
+        int lastIndex = Math.min(
+                currentIndex + Math.clamp(lookahead, 0, MAX_LOOKAHEAD),
+                session.getTotalQuestions() - 1);
+        List<UUID> windowIds = session.getQuestionOrder().subList(currentIndex, lastIndex + 1);
+
+        // Get previous answers of the whole window: the answered bitmap only knows the
+        // answers written on this node, so answers written through another node would be missed
+        Map<UUID, TestAnswer> previousAnswers = findPreviousAnswers(sessionId,
+                windowIds.stream().distinct().toList());
+        previousAnswers.forEach((answeredId, answer) -> session.recordAnswer(answeredId,
+                Boolean.TRUE.equals(answer.getIsSkipped()), answer.getAnsweredAt() != null));
+
+        List<LookaheadQuestionDto> lookaheadQuestions = new ArrayList<>(lastIndex - currentIndex);
+        for (int index = currentIndex + 1; index <= lastIndex; index++) {
+            UUID nextId = session.getQuestionOrder().get(index);
+            CompiledQuestion next;
+            try {
+                next = compiledQuestionCache.get(nextId);
+            } catch (ResourceNotFoundException e) {
+                // Keep the window contiguous; the client fetches the rest on navigation
+                log.warn("Lookahead question {} from session {} not found, truncating lookahead at index {}",
+                        nextId, sessionId, index);
+                break;
+            }
+            lookaheadQuestions.add(new LookaheadQuestionDto(
+                    next.questionDto(), index, toPreviousAnswerDto(previousAnswers, next)));
+        }
 
         return new CurrentQuestionDto(
-                toQuestionDto(question),
+                question.questionDto(),
                 currentIndex,
-                session.getQuestionOrder().size(),
+                session.getTotalQuestions(),
                 session.getTimeRemainingSeconds(),
-                previousAnswer,
-                template.getAllowBackNavigation(),
-                template.getAllowSkip()
+                toPreviousAnswerDto(previousAnswers, question),
+                session.isAllowBackNavigation(),
+                session.isAllowSkip(),
+                lookaheadQuestions
         );
     }
 
+    /**
+     * Load the stored answers of the given questions: a single lookup for one question,
+     * one IN query for several.
+     */
+    private Map<UUID, TestAnswer> findPreviousAnswers(UUID sessionId, List<UUID> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Map.of();
+        }
+        if (questionIds.size() == 1) {
+            UUID questionId = questionIds.get(0);
+            return answerRepository.findBySession_IdAndQuestion_Id(sessionId, questionId)
+                    .map(answer -> Map.of(questionId, answer))
+                    .orElse(Map.of());
+        }
+
+        Map<UUID, TestAnswer> answers = new HashMap<>();
+        for (TestAnswer answer : answerRepository.findBySession_IdAndQuestion_IdIn(sessionId, questionIds)) {
+            answers.put(answer.getQuestionId(), answer);
+        }
+        return answers;
+    }
+
+    private TestAnswerDto toPreviousAnswerDto(Map<UUID, TestAnswer> previousAnswers, CompiledQuestion question) {
+        TestAnswer answer = previousAnswers.get(question.id());
+        return answer != null ? toAnswerDto(answer, question.questionText()) : null;
+    }
+
     @Override
     @Transactional
     public TestSessionDto navigateToQuestion(UUID sessionId, int questionIndex) {
-        TestSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session", sessionId));
+        SessionHotState session = hotStateCache.get(sessionId);
 
         if (session.getStatus() != SessionStatus.IN_PROGRESS) {
             throw new IllegalStateException("Cannot navigate in a session that is not in progress");
         }
 
         // Check if back navigation is allowed
-        if (questionIndex < session.getCurrentQuestionIndex() && 
-                !session.getTemplate().getAllowBackNavigation()) {
+        if (questionIndex < session.getCurrentQuestionIndex() &&
+                !session.isAllowBackNavigation()) {
             throw new IllegalStateException("Back navigation is not allowed for this test");
         }
 
-        if (questionIndex < 0 || questionIndex >= session.getQuestionOrder().size()) {
+        if (questionIndex < 0 || questionIndex >= session.getTotalQuestions()) {
             throw new IllegalArgumentException("Invalid question index: " + questionIndex);
         }
 
-        session.setCurrentQuestionIndex(questionIndex);
-        session.updateActivity();
-        
-        TestSession saved = sessionRepository.save(session);
-        return toDto(saved);
+        // Cursor is written behind by the hot-state cache
+        session.moveTo(questionIndex);
+
+        return toDto(session);
     }
 
     @Override
     @Transactional
     public TestSessionDto updateTimeRemaining(UUID sessionId, int timeRemainingSeconds) {
-        TestSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session", sessionId));
+        SessionHotState state = hotStateCache.get(sessionId);
 
-        if (session.getStatus() != SessionStatus.IN_PROGRESS) {
+        if (state.getStatus() != SessionStatus.IN_PROGRESS) {
             throw new IllegalStateException("Cannot update time for a session that is not in progress");
         }
 
-        session.setTimeRemainingSeconds(timeRemainingSeconds);
-        session.updateActivity();
+        if (state.hasDeadline()) {
+            // Server-authoritative timer: the client value is ignored and the heartbeat
+            // only records activity, coalesced into the next write-behind flush
+            if (!state.isPastDeadline(LocalDateTime.now())) {
+                state.touch();
+                return toDto(state);
+            }
+        } else if (timeRemainingSeconds > 0) {
+            // Sessions without deadline: ticks only update the hot state; the timer is written behind
+            state.updateTimeRemaining(timeRemainingSeconds);
+            return toDto(state);
+        }
 
-        // Check if time has run out
-        if (timeRemainingSeconds <= 0) {
-            session.timeout();
-            sessionRepository.save(session);
+        // Time has run out: persist the final state together with the timeout
+        TestSession session = loadForTerminalTransition(sessionId);
+        if (session.getDeadlineAt() == null) {
+            session.setTimeRemainingSeconds(timeRemainingSeconds);
+        }
+        session.updateActivity();
+        session.timeout();
+        TestSession saved = sessionRepository.save(session);
 
-            // Record activity event for audit trail
-            activityTrackingService.recordSessionTimedOut(session);
+        // Record activity event for audit trail
+        activityTrackingService.recordSessionTimedOut(saved);
 
-            // Calculate results in a separate transaction for isolation
-            // This ensures the timeout status is committed first
-            scoringOrchestrationService.calculateAndSaveResult(sessionId);
-        }
+        // Scored by the job workers once the timeout commits
+        scoringJobQueue.enqueue(sessionId);
 
-        TestSession saved = sessionRepository.save(session);
         return toDto(saved);
     }
 
     /**
-     * Complete a test session and calculate results.
+     * Complete a test session and queue it for scoring.
      *
      * TRANSACTION BOUNDARY:
-     * This method runs in its own transaction (TX #1) to mark the session as COMPLETED.
-     * Once the session is saved, scoring is delegated to ScoringOrchestrationService
-     * which runs in a NEW transaction (TX #2 with REQUIRES_NEW propagation).
-     *
-     * This separation ensures:
-     * 1. Session completion is committed independently
-     * 2. If scoring fails, session stays COMPLETED (not rolled back to IN_PROGRESS)
-     * 3. Retry logic applies only to scoring operations
+     * The COMPLETED status and the scoring job commit together in this transaction.
+     * A scoring worker then scores the session in its own transaction, retrying with
+     * backoff, so the request does not wait for scoring and a failure never leaves the
+     * session without a job.
      *
      * @param sessionId The ID of the session to complete
-     * @return TestResultDto with scoring results (or PENDING status if scoring failed)
+     * @return Handle of the queued scoring job
      */
     @Override
     @Transactional
-    public TestResultDto completeSession(UUID sessionId) {
+    public ScoringJobDto completeSession(UUID sessionId) {
         // Set logging context for session completion
         LoggingContext.setSessionId(sessionId);
         LoggingContext.setOperation("completeSession");
 
         log.info("Completing test session sessionId={}", sessionId);
 
-        TestSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session", sessionId));
+        TestSession session = loadForTerminalTransition(sessionId);
 
         // Enrich logging context with session details
         LoggingContext.setUserId(session.getClerkUserId());
@@ -458,27 +667,27 @@ public class TestSessionServiceImpl implements TestSessionService {
             throw new IllegalStateException("Cannot complete a session that is not in progress");
         }
 
-        // Mark session as COMPLETED and commit (TX #1)
+        // Mark session as COMPLETED; the completion activity is recorded once it is scored
         session.complete();
         sessionRepository.save(session);
 
-        log.info("Session marked as COMPLETED (TX #1 committed), delegating to scoring orchestration sessionId={}", sessionId);
-
-        // Calculate and save results in a NEW transaction (TX #2)
-        // If scoring fails, session remains COMPLETED and a PENDING result is created
-        TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
+        ScoringJobDto job = scoringJobQueue.enqueue(sessionId);
+        log.info("Session marked as COMPLETED, queued scoring job={} sessionId={}", job.jobId(), sessionId);
 
-        // Record activity event for audit trail
-        activityTrackingService.recordSessionCompleted(session, result.overallPercentage(), result.passed());
+        return job;
+    }
 
-        return result;
+    @Override
+    @Transactional(readOnly = true)
+    public ScoringJobDto getScoringStatus(UUID sessionId) {
+        return scoringJobQueue.findStatus(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Scoring job for session", sessionId));
     }
 
     @Override
     @Transactional
     public TestSessionDto abandonSession(UUID sessionId) {
-        TestSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session", sessionId));
+        TestSession session = loadForTerminalTransition(sessionId);
 
         session.abandon();
         TestSession saved = sessionRepository.save(session);
@@ -499,30 +708,93 @@ public class TestSessionServiceImpl implements TestSessionService {
 
     @Override
     @Transactional
-    public int timeoutStaleSessions() {
-        // Find sessions that are in progress but haven't had activity for over 30 minutes
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(30);
-        List<TestSession> staleSessions = sessionRepository.findStaleSessions(SessionStatus.IN_PROGRESS, cutoffTime);
-
-        int count = 0;
-        for (TestSession session : staleSessions) {
-            session.timeout();
-            sessionRepository.save(session);
-
-            // Record activity event for audit trail
-            activityTrackingService.recordSessionTimedOut(session);
-
-            // Scoring runs in a separate transaction for isolation
-            // If scoring fails, session stays TIMED_OUT and a PENDING result is created
-            scoringOrchestrationService.calculateAndSaveResult(session.getId());
-            count++;
+    public StaleSessionChunk timeoutStaleSessions(LocalDateTime cutoff, UUID afterId, int limit) {
+        List<UUID> stale = sessionRepository.lockStaleSessionIdsAfter(cutoff, afterId, limit);
+        if (stale.isEmpty()) {
+            return StaleSessionChunk.empty();
+        }
+
+        for (UUID sessionId : stale) {
+            // Write the cached cursor while the session is still IN_PROGRESS
+            hotStateCache.flushAndEvict(sessionId);
+        }
+
+        // The flush may have written fresh activity: only sessions still stale time out
+        List<UUID> timedOut = sessionRepository.markTimedOut(stale, cutoff, LocalDateTime.now());
+        if (!timedOut.isEmpty()) {
+            // Record activity events for audit trail
+            activityTrackingService.recordSessionsTimedOut(sessionRepository.findAllById(timedOut));
+
+            // Scored by the job workers once the timeouts commit
+            scoringJobQueue.enqueueAll(timedOut);
+        }
+
+        return new StaleSessionChunk(stale.get(stale.size() - 1), stale.size(), timedOut);
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> expireSessions(Collection<UUID> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
+        }
+
+        for (UUID sessionId : sessionIds) {
+            // Write the cached cursor while the session is still IN_PROGRESS
+            // (a database write only for sessions with pending changes on this node)
+            hotStateCache.flushAndEvict(sessionId);
         }
 
-        return count;
+        // One conditional UPDATE: exactly one node claims each expiry
+        List<UUID> expired = sessionRepository.markTimedOutPastDeadline(sessionIds, LocalDateTime.now());
+
+        if (!expired.isEmpty()) {
+            // Record activity events for audit trail
+            activityTrackingService.recordSessionsTimedOut(sessionRepository.findAllById(expired));
+
+            // Scored by the job workers once the timeouts commit
+            scoringJobQueue.enqueueAll(expired);
+            log.info("Timed out {} of {} sessions past their deadline", expired.size(), sessionIds.size());
+        }
+
+        return expired;
     }
 
     // Helper methods
 
+    /**
+     * Reject answers once the session deadline (plus a short grace period) has passed.
+     * The deadline job times the session out shortly after.
+     */
+    private void requireWithinDeadline(SessionHotState state) {
+        if (state.isPastDeadline(LocalDateTime.now().minusSeconds(DEADLINE_GRACE_SECONDS))) {
+            throw new IllegalStateException("Time limit for this session has expired");
+        }
+    }
+
+    /**
+     * Re-check in the database that the session is still in progress before answers are
+     * written. The status held by the hot state is a snapshot taken at load; the session
+     * may since have been finished on another node or by a background job.
+     */
+    private void requireInProgressForWrite(SessionHotState state) {
+        if (sessionRepository.touchIfInProgress(state.getSessionId(), LocalDateTime.now()) == 0) {
+            hotStateCache.invalidate(state.getSessionId());
+            throw new IllegalStateException("Cannot submit answers for a session that is not in progress");
+        }
+    }
+
+    /**
+     * Load a session that is about to leave IN_PROGRESS, taking it out of the hot-state
+     * cache and applying any cursor/timer values not yet written behind.
+     */
+    private TestSession loadForTerminalTransition(UUID sessionId) {
+        TestSession session = sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Session", sessionId));
+        hotStateCache.detach(sessionId).ifPresent(state -> state.applyTo(session));
+        return session;
+    }
+
     /**
      * Generate question order for a test session.
      *
@@ -682,20 +954,28 @@ public class TestSessionServiceImpl implements TestSessionService {
         return enrichedBlueprint;
     }
 
-    private void updateAnswer(TestAnswer answer, SubmitAnswerRequest request, AssessmentQuestion question) {
+    /**
+     * Whether the answer counts as a response for psychometric analysis
+     * (matches TestAnswerRepository#countByQuestion_Id).
+     */
+    private boolean isCountedResponse(TestAnswer answer) {
+        return !Boolean.TRUE.equals(answer.getIsSkipped()) && answer.getScore() != null;
+    }
+
+    private void updateAnswer(TestAnswer answer, SubmitAnswerRequest request, CompiledQuestion question) {
         answer.setTimeSpentSeconds(request.timeSpentSeconds());
         answer.setAnsweredAt(LocalDateTime.now());
         answer.setIsSkipped(false);
 
         // Set the appropriate answer field based on question type
-        switch (question.getQuestionType()) {
+        switch (question.questionType()) {
             case MCQ:
             case MULTIPLE_CHOICE:
             case SJT:
             case SITUATIONAL_JUDGMENT:
                 answer.setSelectedOptionIds(request.selectedOptionIds());
                 // Calculate score from selected option
-                Double optionScore = extractScoreFromSelectedOption(question, request.selectedOptionIds());
+                Double optionScore = question.scoreSelection(request.selectedOptionIds());
                 answer.setScore(optionScore);
                 break;
             case LIKERT:
@@ -714,7 +994,7 @@ public class TestSessionServiceImpl implements TestSessionService {
                 // These may require specific handling
                 if (request.selectedOptionIds() != null) {
                     answer.setSelectedOptionIds(request.selectedOptionIds());
-                    Double capScore = extractScoreFromSelectedOption(question, request.selectedOptionIds());
+                    Double capScore = question.scoreSelection(request.selectedOptionIds());
                     answer.setScore(capScore);
                 } else if (request.textResponse() != null) {
                     answer.setTextResponse(request.textResponse());
@@ -723,7 +1003,7 @@ public class TestSessionServiceImpl implements TestSessionService {
             default:
                 // Handle unknown or future question types gracefully
                 log.warn("Unhandled question type '{}' for question {}. Storing raw response data.",
-                        question.getQuestionType(), question.getId());
+                        question.questionType(), question.id());
                 // Store any available response data
                 if (request.selectedOptionIds() != null && !request.selectedOptionIds().isEmpty()) {
                     answer.setSelectedOptionIds(request.selectedOptionIds());
@@ -738,123 +1018,6 @@ public class TestSessionServiceImpl implements TestSessionService {
         answer.setMaxScore(1.0); // Default max score (normalized)
     }
 
-    /**
-     * Extract score from the selected option in a question's answer options.
-     *
-     * Handles both SJT and MCQ question types where options have a "score" field.
-     * For SJT: score represents effectiveness (0-1 scale, or integer 0-4)
-     * For MCQ: score typically 1 for correct, 0 for incorrect
-     *
-     * @param question The assessment question with answer options
-     * @param selectedOptionIds The list of selected option IDs (typically one element)
-     * @return The score value from the matched option, or 0.0 if not found
-     */
-    private Double extractScoreFromSelectedOption(AssessmentQuestion question, List<String> selectedOptionIds) {
-        if (selectedOptionIds == null || selectedOptionIds.isEmpty()) {
-            log.debug("No selected option IDs provided for question {}", question.getId());
-            return 0.0;
-        }
-
-        List<Map<String, Object>> answerOptions = question.getAnswerOptions();
-        if (answerOptions == null || answerOptions.isEmpty()) {
-            log.debug("No answer options available for question {}", question.getId());
-            return 0.0;
-        }
-
-        // Get the first selected option ID (most questions are single-select)
-        String selectedId = selectedOptionIds.get(0);
-
-        // Search for matching option by ID
-        for (int i = 0; i < answerOptions.size(); i++) {
-            Map<String, Object> option = answerOptions.get(i);
-
-            // Check for matching ID (options may have "id" field or use index-based ID)
-            String optionId = null;
-            if (option.containsKey("id")) {
-                optionId = String.valueOf(option.get("id"));
-            } else {
-                // Fallback to index-based ID (consistent with transformAnswerOptions)
-                optionId = "option-" + i;
-            }
-
-            if (selectedId.equals(optionId)) {
-                // Extract score from option
-                // SJT uses "effectiveness" field, MCQ uses "score" field
-                Object scoreValue = null;
-                if (option.containsKey("effectiveness")) {
-                    scoreValue = option.get("effectiveness");
-                } else if (option.containsKey("score")) {
-                    scoreValue = option.get("score");
-                }
-
-                if (scoreValue != null) {
-                    try {
-                        double score = ((Number) scoreValue).doubleValue();
-                        // Normalize score to 0-1 range if it's on a scale greater than 1
-                        if (score > 1.0) {
-                            // Detect the max score from answer options
-                            double maxOptionScore = findMaxScoreInOptions(answerOptions);
-                            if (maxOptionScore > 1.0) {
-                                score = score / maxOptionScore;
-                            }
-                        }
-                        log.debug("Extracted score {} for option {} in question {}",
-                            score, selectedId, question.getId());
-                        return score;
-                    } catch (ClassCastException | NullPointerException e) {
-                        log.warn("Could not parse score value '{}' for option {} in question {}",
-                            scoreValue, selectedId, question.getId());
-                        return 0.0;
-                    }
-                } else {
-                    log.debug("No score field found for option {} in question {}",
-                        selectedId, question.getId());
-                    return 0.0;
-                }
-            }
-        }
-
-        log.warn("Selected option {} not found in question {} options", selectedId, question.getId());
-        return 0.0;
-    }
-
-    /**
-     * Find the maximum score value among all answer options.
-     * Used to dynamically determine the scale for score normalization.
-     *
-     * @param answerOptions The list of answer options to scan
-     * @return The maximum score found, or 1.0 if no scores are found
-     */
-    private double findMaxScoreInOptions(List<Map<String, Object>> answerOptions) {
-        if (answerOptions == null || answerOptions.isEmpty()) {
-            return 1.0;
-        }
-
-        double maxScore = 0.0;
-        for (Map<String, Object> option : answerOptions) {
-            Object scoreValue = null;
-            if (option.containsKey("effectiveness")) {
-                scoreValue = option.get("effectiveness");
-            } else if (option.containsKey("score")) {
-                scoreValue = option.get("score");
-            }
-
-            if (scoreValue != null) {
-                try {
-                    double score = ((Number) scoreValue).doubleValue();
-                    if (score > maxScore) {
-                        maxScore = score;
-                    }
-                } catch (ClassCastException | NullPointerException e) {
-                    // Ignore invalid values
-                }
-            }
-        }
-
-        // Return at least 1.0 to avoid division by zero
-        return maxScore > 0 ? maxScore : 1.0;
-    }
-
     // Mapping methods
     private TestSessionDto toDto(TestSession session) {
         long answered = answerRepository.countAnsweredBySessionId(session.getId());
@@ -867,7 +1030,7 @@ public class TestSessionServiceImpl implements TestSessionService {
                 session.getStartedAt(),
                 session.getCompletedAt(),
                 session.getCurrentQuestionIndex(),
-                session.getTimeRemainingSeconds(),
+                session.getRemainingSeconds(LocalDateTime.now()),
                 session.getQuestionOrder(),
                 session.getQuestionOrder() != null ? session.getQuestionOrder().size() : 0,
                 (int) answered,
@@ -876,6 +1039,28 @@ public class TestSessionServiceImpl implements TestSessionService {
         );
     }
 
+    /**
+     * Map cached hot state without touching the database.
+     */
+    private TestSessionDto toDto(SessionHotState state) {
+        return new TestSessionDto(
+                state.getSessionId(),
+                state.getTemplateId(),
+                state.getTemplateName(),
+                state.getClerkUserId(),
+                state.getStatus(),
+                state.getStartedAt(),
+                state.getCompletedAt(),
+                state.getCurrentQuestionIndex(),
+                state.getTimeRemainingSeconds(),
+                state.getQuestionOrder(),
+                state.getTotalQuestions(),
+                state.getAnsweredCount(),
+                state.getLastActivityAt(),
+                state.getCreatedAt()
+        );
+    }
+
     private TestSessionSummaryDto toSummaryDto(TestSession session) {
         long answered = 0;
         if (session.getQuestionOrder() != null && !session.getQuestionOrder().isEmpty()) {
@@ -900,7 +1085,7 @@ public class TestSessionServiceImpl implements TestSessionService {
                 session.getTemplate().getName(),
                 session.getStatus(),
                 progress,
-                session.getTimeRemainingSeconds(),
+                session.getRemainingSeconds(LocalDateTime.now()),
                 session.getStartedAt(),
                 session.getCompletedAt(),
                 session.getCreatedAt()
@@ -908,11 +1093,18 @@ public class TestSessionServiceImpl implements TestSessionService {
     }
 
     private TestAnswerDto toAnswerDto(TestAnswer answer) {
+        return toAnswerDto(answer, answer.getQuestion() != null ? answer.getQuestion().getQuestionText() : null);
+    }
+
+    /**
+     * Map an answer whose question text is already known, without initializing the question.
+     */
+    private TestAnswerDto toAnswerDto(TestAnswer answer, String questionText) {
         return new TestAnswerDto(
                 answer.getId(),
                 answer.getSessionId(),
                 answer.getQuestionId(),
-                answer.getQuestion() != null ? answer.getQuestion().getQuestionText() : null,
+                questionText,
                 answer.getSelectedOptionIds(),
                 answer.getLikertValue(),
                 answer.getRankingOrder(),
@@ -925,109 +1117,6 @@ public class TestSessionServiceImpl implements TestSessionService {
         );
     }
 
-    private AssessmentQuestionDto toQuestionDto(AssessmentQuestion question) {
-        // Transform answer options based on question type
-        List<Map<String, Object>> transformedOptions = transformAnswerOptions(
-                question.getAnswerOptions(),
-                question.getQuestionType()
-        );
-
-        return new AssessmentQuestionDto(
-                question.getId(),
-                question.getBehavioralIndicatorId(),
-                question.getQuestionText(),
-                question.getQuestionType(),
-                transformedOptions,
-                question.getScoringRubric(),
-                question.getTimeLimit(),
-                question.getDifficultyLevel(),
-                question.getMetadata(),
-                question.isActive(),
-                question.getOrderIndex()
-        );
-    }
-
-    /**
-     * Transform answer options based on question type to match frontend expectations.
-     * For SJT questions, maps backend storage format to frontend format:
-     * - "action" field → "text" field (the option text)
-     * - Generates deterministic "id" for each option based on index
-     * - Preserves "effectiveness" as "score"
-     * - Preserves "explanation" field
-     *
-     * @param options The raw answer options from database
-     * @param questionType The type of question
-     * @return Transformed options suitable for frontend consumption
-     */
-    private List<Map<String, Object>> transformAnswerOptions(
-            List<Map<String, Object>> options,
-            QuestionType questionType
-    ) {
-        if (options == null || options.isEmpty()) {
-            return options;
-        }
-
-        // Transform SJT questions to match frontend expectations
-        if (questionType == QuestionType.SJT || questionType == QuestionType.SITUATIONAL_JUDGMENT) {
-            List<Map<String, Object>> transformedList = new ArrayList<>();
-            for (int i = 0; i < options.size(); i++) {
-                Map<String, Object> option = options.get(i);
-                Map<String, Object> transformed = new HashMap<>();
-
-                // Generate deterministic ID based on index (stable across fetches)
-                // Use index-based ID to ensure consistency when user navigates back/forth
-                transformed.put("id", "option-" + i);
-
-                // Map "action" field to "text" field (frontend expects "text")
-                // Also preserve "text" field if already present (for backwards compatibility)
-                if (option.containsKey("action")) {
-                    transformed.put("text", option.get("action"));
-                } else if (option.containsKey("text")) {
-                    transformed.put("text", option.get("text"));
-                }
-
-                // Preserve effectiveness as score
-                // Also preserve "score" field if already present (for backwards compatibility)
-                if (option.containsKey("effectiveness")) {
-                    transformed.put("score", option.get("effectiveness"));
-                } else if (option.containsKey("score")) {
-                    transformed.put("score", option.get("score"));
-                }
-
-                // Preserve explanation for feedback
-                if (option.containsKey("explanation")) {
-                    transformed.put("explanation", option.get("explanation"));
-                }
-
-                // Map option letter to "label" field (frontend expects "label")
-                // V5 data uses "label" field, V6 data uses "option" field
-                if (option.containsKey("label")) {
-                    transformed.put("label", option.get("label"));
-                } else if (option.containsKey("option")) {
-                    transformed.put("label", option.get("option"));
-                }
-
-                transformedList.add(transformed);
-            }
-            return transformedList;
-        }
-
-        // For other question types, ensure each option has an ID
-        List<Map<String, Object>> result = new ArrayList<>();
-        for (int i = 0; i < options.size(); i++) {
-            Map<String, Object> option = options.get(i);
-            if (!option.containsKey("id")) {
-                Map<String, Object> withId = new HashMap<>(option);
-                // Use deterministic index-based ID for consistency
-                withId.put("id", "option-" + i);
-                result.add(withId);
-            } else {
-                result.add(option);
-            }
-        }
-        return result;
-    }
-
     @Override
     @Transactional(readOnly = true)
     public TemplateReadinessResponse checkTemplateReadiness(UUID templateId) {
@@ -1049,9 +1138,10 @@ public class TestSessionServiceImpl implements TestSessionService {
             );
         }
 
-        // Use InventoryHeatmapService to check sufficiency
+        // Health status from the heatmap; availability counts only assembly-eligible
+        // (active, non-RETIRED) questions, resolved for all competencies in one query
         var heatmap = inventoryHeatmapService.generateHeatmapFor(competencyIds);
-        var sufficiency = inventoryHeatmapService.checkSufficiency(competencyIds, questionsPerIndicator);
+        Map<UUID, Integer> eligibleCounts = psychometricValidator.getEligibleCountsByCompetency(competencyIds);
 
         // Build per-competency readiness info
         List<CompetencyReadiness> competencyReadiness = new ArrayList<>();
@@ -1068,16 +1158,11 @@ public class TestSessionServiceImpl implements TestSessionService {
             // Get health status from heatmap
             HealthStatus health = heatmap.competencyHealth().getOrDefault(compId, HealthStatus.CRITICAL);
 
-            // Get available questions count from heatmap
-            int available = (int) heatmap.detailedCounts().entrySet().stream()
-                    .filter(e -> e.getKey().startsWith(compId.toString()))
-                    .mapToLong(Map.Entry::getValue)
-                    .sum();
+            int available = eligibleCounts.getOrDefault(compId, 0);
 
             totalQuestionsAvailable += available;
 
-            // Get shortage from sufficiency check
-            int shortage = sufficiency.getOrDefault(compId, 0);
+            int shortage = Math.max(0, questionsPerIndicator - available);
 
             // Build issues list
             List<String> issues = new ArrayList<>();
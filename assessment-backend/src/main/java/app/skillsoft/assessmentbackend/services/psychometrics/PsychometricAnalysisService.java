@@ -5,6 +5,7 @@ import app.skillsoft.assessmentbackend.domain.entities.BigFiveReliability;
 import app.skillsoft.assessmentbackend.domain.entities.BigFiveTrait;
 import app.skillsoft.assessmentbackend.domain.entities.CompetencyReliability;
 import app.skillsoft.assessmentbackend.domain.entities.ItemStatistics;
+import app.skillsoft.assessmentbackend.domain.entities.ItemValidityStatus;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -50,6 +51,10 @@ public interface PsychometricAnalysisService {
      *   <li>Validity status determination</li>
      *   <li>Flag assignment based on thresholds</li>
      * </ul>
+     * <p>
+     * Difficulty and discrimination come from the item's running statistics, which
+     * are updated as results are scored; items without seeded running statistics are
+     * recalculated from their answers, which seeds them.
      *
      * @param questionId the UUID of the assessment question
      * @return updated ItemStatistics entity with calculated metrics
@@ -57,6 +62,19 @@ public interface PsychometricAnalysisService {
      */
     ItemStatistics calculateItemStatistics(UUID questionId);
 
+    /**
+     * Recalculate all statistics for a question from its answers and re-seed the
+     * running statistics, logging drift from the incrementally maintained values.
+     * <p>
+     * Occasional verification task; {@link #calculateItemStatistics(UUID)} serves
+     * regular recalculations without reloading answers.
+     *
+     * @param questionId the UUID of the assessment question
+     * @return updated ItemStatistics entity with recalculated metrics
+     * @throws IllegalArgumentException if question not found
+     */
+    ItemStatistics verifyItemStatistics(UUID questionId);
+
     /**
      * Calculate the difficulty index (p-value) for a question.
      * <p>
@@ -195,7 +213,9 @@ public interface PsychometricAnalysisService {
     /**
      * Recalculate statistics for items meeting a minimum response threshold.
      * <p>
-     * Used for targeted recalculation with configurable thresholds.
+     * Used for targeted recalculation with configurable thresholds. Counts, difficulty,
+     * discrimination and distractor distributions of all eligible items are computed
+     * with a few grouped queries and saved in batches, not item by item.
      *
      * @param minResponses minimum number of responses required
      * @return list of updated ItemStatistics entities
@@ -268,6 +288,20 @@ public interface PsychometricAnalysisService {
      */
     void activateItem(UUID questionId);
 
+    /**
+     * Manually set an item's validity status without activation criteria.
+     * <p>
+     * Records the change in audit history and notifies listeners like
+     * {@link #retireItem} and {@link #activateItem} do.
+     *
+     * @param questionId the UUID of the assessment question
+     * @param newStatus  the status to set
+     * @param reason     human-readable reason for the change
+     * @return the updated statistics
+     * @throws IllegalArgumentException if the item has no statistics
+     */
+    ItemStatistics overrideItemStatus(UUID questionId, ItemValidityStatus newStatus, String reason);
+
     // ============================================
     // HEALTH REPORTING
     // ============================================
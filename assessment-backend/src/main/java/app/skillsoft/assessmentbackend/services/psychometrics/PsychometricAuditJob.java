@@ -2,9 +2,7 @@ package app.skillsoft.assessmentbackend.services.psychometrics;
 
 import app.skillsoft.assessmentbackend.domain.entities.*;
 import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
-import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.repository.ItemStatisticsRepository;
-import app.skillsoft.assessmentbackend.repository.TestAnswerRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,22 +10,33 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Scheduled service for psychometric analysis audit jobs.
  *
  * Per the Test Validation Mechanic architecture:
- * - Nightly batch job recalculates all items with new responses
- * - Real-time triggers when questions reach response thresholds (50, 100, 150...)
+ * - Nightly batch job recalculates all items with new responses, run by
+ *   {@link PsychometricAuditPipeline} in parallel units with resumable progress
+ * - Real-time triggers when questions reach response thresholds (50, 100, 150...),
+ *   detected from in-memory counters and recalculated off the answer path
+ * - Weekly verification recalculates items from their answers, re-seeding the
+ *   running statistics that scored results keep current
  * - Updates item validity statuses and competency reliability
+ * - Refreshes the dashboard health report after each audit run
  *
  * Configuration properties:
  * - skillsoft.psychometrics.enabled: Enable/disable psychometric features
  * - skillsoft.psychometrics.min-responses: Minimum responses for analysis (default: 50)
  * - skillsoft.psychometrics.nightly-cron: Cron expression for nightly job
+ * - skillsoft.psychometrics.audit.*: Parallelism, chunk size and staleness of nightly audit runs
+ * - skillsoft.psychometrics.milestone-interval-ms: Milestone check/recalculation interval
+ * - skillsoft.psychometrics.counter-reconcile-interval-ms: Counter reconciliation interval
+ * - skillsoft.psychometrics.verification-cron: Cron expression for running statistics verification
  */
 @Service
 public class PsychometricAuditJob {
@@ -36,9 +45,11 @@ public class PsychometricAuditJob {
 
     private final PsychometricAnalysisService analysisService;
     private final ItemStatisticsRepository itemStatsRepository;
-    private final TestAnswerRepository answerRepository;
     private final AssessmentQuestionRepository questionRepository;
-    private final CompetencyRepository competencyRepository;
+    private final QuestionResponseCounters responseCounters;
+    private final PsychometricRecalculationQueue recalculationQueue;
+    private final PsychometricAuditPipeline auditPipeline;
+    private final PsychometricHealthSnapshot healthSnapshot;
 
     @Value("${skillsoft.psychometrics.enabled:true}")
     private boolean psychometricsEnabled;
@@ -49,25 +60,32 @@ public class PsychometricAuditJob {
     @Value("${skillsoft.psychometrics.recalculation-threshold:10}")
     private int recalculationThreshold;
 
+    @Value("${skillsoft.psychometrics.recalculation-batch-size:20}")
+    private int recalculationBatchSize;
+
     public PsychometricAuditJob(
             PsychometricAnalysisService analysisService,
             ItemStatisticsRepository itemStatsRepository,
-            TestAnswerRepository answerRepository,
             AssessmentQuestionRepository questionRepository,
-            CompetencyRepository competencyRepository) {
+            QuestionResponseCounters responseCounters,
+            PsychometricRecalculationQueue recalculationQueue,
+            PsychometricAuditPipeline auditPipeline,
+            PsychometricHealthSnapshot healthSnapshot) {
         this.analysisService = analysisService;
         this.itemStatsRepository = itemStatsRepository;
-        this.answerRepository = answerRepository;
         this.questionRepository = questionRepository;
-        this.competencyRepository = competencyRepository;
+        this.responseCounters = responseCounters;
+        this.recalculationQueue = recalculationQueue;
+        this.auditPipeline = auditPipeline;
+        this.healthSnapshot = healthSnapshot;
     }
 
     /**
      * Nightly batch job - runs at 2 AM daily.
-     * Recalculates psychometric metrics for all items with new responses.
+     * Recalculates psychometric metrics for all items with new responses, resuming
+     * the previous run first if it was interrupted.
      */
     @Scheduled(cron = "${skillsoft.psychometrics.nightly-cron:0 0 2 * * ?}")
-    @Transactional
     public void runNightlyAudit() {
         if (!psychometricsEnabled) {
             log.debug("Psychometric analysis is disabled, skipping nightly audit");
@@ -75,194 +93,201 @@ public class PsychometricAuditJob {
         }
 
         log.info("Starting nightly psychometric audit");
-        var startTime = System.currentTimeMillis();
-
         try {
-            // Step 1: Recalculate items with new responses
-            int itemsRecalculated = recalculateItemsWithNewResponses();
-
-            // Step 2: Recalculate competency reliability
-            int competenciesRecalculated = recalculateCompetencyReliability();
-
-            // Step 3: Recalculate Big Five trait reliability
-            int traitsRecalculated = recalculateBigFiveReliability();
-
-            // Step 4: Update validity statuses for all items
-            int statusesUpdated = updateAllValidityStatuses();
-
-            var duration = System.currentTimeMillis() - startTime;
-
-            log.info("Nightly psychometric audit completed in {}ms: {} items, {} competencies, {} traits, {} status updates",
-                    duration, itemsRecalculated, competenciesRecalculated, traitsRecalculated, statusesUpdated);
-
+            log.info(runAudit().message());
         } catch (Exception e) {
             log.error("Nightly psychometric audit failed", e);
         }
     }
 
     /**
-     * Real-time trigger called after each answer submission.
-     * Only recalculates if the question has reached a response threshold.
+     * Real-time trigger called when an answer becomes a counted response
+     * (scored and not skipped). Only bumps an in-memory counter; milestones are
+     * detected and recalculated by {@link #processMilestones()}.
      *
-     * @param questionId The question that received a new answer
+     * @param questionId The question that received a new response
      */
     public void onAnswerSubmitted(UUID questionId) {
         if (!psychometricsEnabled) {
             return;
         }
-
-        try {
-            long responseCount = answerRepository.countByQuestion_Id(questionId);
-
-            // Check if this is a threshold milestone (50, 100, 150, etc.)
-            if (responseCount >= minResponses && responseCount % minResponses == 0) {
-                log.info("Question {} reached {} responses, triggering psychometric recalculation",
-                        questionId, responseCount);
-
-                // Recalculate item statistics
-                analysisService.calculateItemStatistics(questionId);
-
-                // Update validity status
-                analysisService.updateItemValidityStatus(questionId);
-
-                // Also recalculate the parent competency's reliability
-                questionRepository.findById(questionId).ifPresent(question -> {
-                    UUID competencyId = question.getBehavioralIndicator().getCompetency().getId();
-                    try {
-                        analysisService.calculateCompetencyReliability(competencyId);
-                    } catch (Exception e) {
-                        log.warn("Failed to recalculate competency {} reliability after question {} update: {}",
-                                competencyId, questionId, e.getMessage());
-                    }
-                });
-            }
-        } catch (Exception e) {
-            log.warn("Failed to process answer submission for question {}: {}", questionId, e.getMessage());
-        }
+        responseCounters.increment(questionId);
     }
 
     /**
-     * Manual trigger for a full audit.
-     * Can be called from the admin API endpoint.
+     * Batch variant of {@link #onAnswerSubmitted(UUID)} for answers submitted together.
      *
-     * @return Summary of the audit results
+     * @param questionIds The questions that received new responses
      */
-    @Transactional
-    public AuditResult triggerManualAudit() {
+    public void onAnswersSubmitted(Collection<UUID> questionIds) {
         if (!psychometricsEnabled) {
-            return new AuditResult(0, 0, 0, 0, "Psychometric analysis is disabled");
+            return;
         }
+        questionIds.forEach(responseCounters::increment);
+    }
 
-        log.info("Manual psychometric audit triggered");
-        var startTime = System.currentTimeMillis();
-
-        int itemsRecalculated = recalculateItemsWithNewResponses();
-        int competenciesRecalculated = recalculateCompetencyReliability();
-        int traitsRecalculated = recalculateBigFiveReliability();
-        int statusesUpdated = updateAllValidityStatuses();
-
-        var duration = System.currentTimeMillis() - startTime;
-
-        String message = String.format("Audit completed in %dms", duration);
-        log.info(message);
-
-        return new AuditResult(itemsRecalculated, competenciesRecalculated, traitsRecalculated, statusesUpdated, message);
+    /**
+     * Periodic milestone processing, off the answer path.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.psychometrics.milestone-interval-ms:5000}")
+    public void scheduledProcessMilestones() {
+        processMilestones();
     }
 
     /**
-     * Recalculate psychometric metrics for items with new responses.
+     * Queue questions that reached a response milestone (50, 100, 150, etc.) and
+     * recalculate one batch of queued questions: item statistics and validity status
+     * per question, then reliability once per affected competency.
+     *
+     * @return Number of questions recalculated
      */
-    private int recalculateItemsWithNewResponses() {
-        // Find items that need recalculation (have responses since last calculation)
-        LocalDateTime threshold = LocalDateTime.now().minusDays(1);
-        List<UUID> questionIds = itemStatsRepository.findQuestionsNeedingRecalculation(minResponses, threshold);
+    public int processMilestones() {
+        if (!psychometricsEnabled) {
+            return 0;
+        }
+
+        try {
+            for (QuestionResponseCounters.Milestone milestone : responseCounters.collectMilestones(minResponses)) {
+                log.info("Question {} reached {} responses, queueing psychometric recalculation",
+                        milestone.questionId(), milestone.responseCount());
+                recalculationQueue.offer(milestone.questionId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to collect psychometric milestones: {}", e.getMessage());
+        }
+
+        List<UUID> questionIds = recalculationQueue.drain(recalculationBatchSize);
+        if (questionIds.isEmpty()) {
+            return 0;
+        }
 
         int count = 0;
         for (UUID questionId : questionIds) {
             try {
                 analysisService.calculateItemStatistics(questionId);
+                analysisService.updateItemValidityStatus(questionId);
                 count++;
             } catch (Exception e) {
-                log.warn("Failed to recalculate item {}: {}", questionId, e.getMessage());
+                log.warn("Failed to recalculate item {} after milestone: {}", questionId, e.getMessage());
             }
         }
 
-        // Also check for items that have never been calculated but now have sufficient responses
-        List<ItemStatistics> probationItems = itemStatsRepository.findByValidityStatus(ItemValidityStatus.PROBATION);
-        for (ItemStatistics stats : probationItems) {
-            if (stats.getLastCalculatedAt() == null) {
-                long responseCount = answerRepository.countByQuestion_Id(stats.getQuestionId());
-                if (responseCount >= minResponses) {
-                    try {
-                        analysisService.calculateItemStatistics(stats.getQuestionId());
-                        count++;
-                    } catch (Exception e) {
-                        log.warn("Failed to calculate initial stats for item {}: {}", stats.getQuestionId(), e.getMessage());
-                    }
-                }
+        // Each competency is recalculated once, however many of its questions hit a milestone
+        List<UUID> competencyIds;
+        try {
+            competencyIds = questionRepository.findCompetencyIdsByQuestionIds(questionIds);
+        } catch (Exception e) {
+            log.warn("Failed to resolve competencies of {} recalculated questions: {}",
+                    questionIds.size(), e.getMessage());
+            return count;
+        }
+        for (UUID competencyId : competencyIds) {
+            try {
+                analysisService.calculateCompetencyReliability(competencyId);
+            } catch (Exception e) {
+                log.warn("Failed to recalculate competency {} reliability after milestone: {}",
+                        competencyId, e.getMessage());
             }
         }
 
+        log.debug("Milestone recalculation: {} questions, {} competencies, {} still queued",
+                count, competencyIds.size(), recalculationQueue.size());
         return count;
     }
 
     /**
-     * Recalculate reliability for all competencies.
+     * Periodic reconciliation of the in-memory response counters with the database.
      */
-    private int recalculateCompetencyReliability() {
-        List<Competency> competencies = competencyRepository.findAll();
-        int count = 0;
-
-        for (Competency competency : competencies) {
-            try {
-                analysisService.calculateCompetencyReliability(competency.getId());
-                count++;
-            } catch (Exception e) {
-                log.warn("Failed to recalculate reliability for competency {}: {}", competency.getId(), e.getMessage());
-            }
+    @Scheduled(fixedDelayString = "${skillsoft.psychometrics.counter-reconcile-interval-ms:300000}")
+    public void reconcileResponseCounters() {
+        if (!psychometricsEnabled) {
+            return;
+        }
+        try {
+            responseCounters.reconcile();
+        } catch (Exception e) {
+            log.warn("Failed to reconcile response counters: {}", e.getMessage());
         }
+    }
 
-        return count;
+    /**
+     * Weekly verification of the running item statistics - runs Sunday 4 AM.
+     */
+    @Scheduled(cron = "${skillsoft.psychometrics.verification-cron:0 0 4 * * SUN}")
+    public void scheduledVerifyRunningStatistics() {
+        if (!psychometricsEnabled) {
+            return;
+        }
+        try {
+            verifyRunningStatistics();
+        } catch (Exception e) {
+            log.error("Running statistics verification failed", e);
+        }
     }
 
     /**
-     * Recalculate reliability for all Big Five traits.
+     * Recalculate every item with running statistics from its answers, one item per
+     * transaction, correcting drift from missed or rolled-back incremental updates.
+     *
+     * @return Number of items verified
      */
-    private int recalculateBigFiveReliability() {
-        int count = 0;
+    public int verifyRunningStatistics() {
+        var startTime = System.currentTimeMillis();
+        List<UUID> questionIds = itemStatsRepository.findQuestionIdsWithRunningStatistics();
 
-        for (BigFiveTrait trait : BigFiveTrait.values()) {
+        int count = 0;
+        for (UUID questionId : questionIds) {
             try {
-                analysisService.calculateBigFiveReliability(trait);
+                analysisService.verifyItemStatistics(questionId);
                 count++;
             } catch (Exception e) {
-                log.warn("Failed to recalculate reliability for trait {}: {}", trait, e.getMessage());
+                log.warn("Failed to verify running statistics of item {}: {}", questionId, e.getMessage());
             }
         }
 
+        log.info("Verified running statistics of {} of {} items in {}ms",
+                count, questionIds.size(), System.currentTimeMillis() - startTime);
         return count;
     }
 
     /**
-     * Update validity statuses for all items with calculated metrics.
+     * Manual trigger for a full audit.
+     * Can be called from the admin API endpoint.
+     *
+     * @return Summary of the audit results
      */
-    private int updateAllValidityStatuses() {
-        List<ItemStatistics> allStats = itemStatsRepository.findAll();
-        int count = 0;
+    public AuditResult triggerManualAudit() {
+        if (!psychometricsEnabled) {
+            return new AuditResult(0, 0, 0, 0, "Psychometric analysis is disabled");
+        }
 
-        for (ItemStatistics stats : allStats) {
-            // Only update items that have been calculated
-            if (stats.getLastCalculatedAt() != null) {
-                try {
-                    analysisService.updateItemValidityStatus(stats.getQuestionId());
-                    count++;
-                } catch (Exception e) {
-                    log.warn("Failed to update status for item {}: {}", stats.getQuestionId(), e.getMessage());
-                }
+        log.info("Manual psychometric audit triggered");
+        AuditResult result = runAudit();
+        log.info(result.message());
+        return result;
+    }
+
+    /**
+     * Run the audit pipeline and refresh the dashboard health report with its results.
+     * The report is refreshed for interrupted runs too, as their finished pages are saved.
+     */
+    private AuditResult runAudit() {
+        Optional<PsychometricAuditRun> run = auditPipeline.run();
+        if (run.isPresent()) {
+            try {
+                healthSnapshot.refresh();
+            } catch (Exception e) {
+                log.error("Failed to refresh health report after audit: {}", e.getMessage(), e);
             }
         }
+        return AuditResult.of(run);
+    }
 
-        return count;
+    /**
+     * The current or most recent audit run.
+     */
+    public Optional<PsychometricAuditRun> latestAuditRun() {
+        return auditPipeline.latestRun();
     }
 
     /**
@@ -298,5 +323,23 @@ public class PsychometricAuditJob {
             int traitsRecalculated,
             int statusesUpdated,
             String message
-    ) {}
+    ) {
+
+        /**
+         * Summary of a pipeline run; empty when another run was in progress.
+         */
+        static AuditResult of(Optional<PsychometricAuditRun> run) {
+            if (run.isEmpty()) {
+                return new AuditResult(0, 0, 0, 0, "Audit already in progress");
+            }
+            PsychometricAuditRun r = run.get();
+            String message = r.getStatus() == PsychometricAuditRunStatus.COMPLETED
+                    ? String.format("Audit completed in %dms (%d failed units)",
+                            Duration.between(r.getStartedAt(), r.getFinishedAt()).toMillis(), r.getFailedUnits())
+                    : String.format("Audit interrupted at step %s, resumed by the next audit: %s",
+                            r.getCurrentStep(), r.getLastError());
+            return new AuditResult(r.getItemsRecalculated(), r.getCompetenciesRecalculated(),
+                    r.getTraitsRecalculated(), r.getStatusesUpdated(), message);
+        }
+    }
 }
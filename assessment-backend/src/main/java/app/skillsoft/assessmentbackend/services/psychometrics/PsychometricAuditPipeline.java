@@ -0,0 +1,337 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import app.skillsoft.assessmentbackend.domain.entities.BigFiveTrait;
+import app.skillsoft.assessmentbackend.domain.entities.ItemValidityStatus;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRun;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRunStatus;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditStep;
+import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
+import app.skillsoft.assessmentbackend.repository.ItemStatisticsRepository;
+import app.skillsoft.assessmentbackend.repository.PsychometricAuditRunRepository;
+import app.skillsoft.assessmentbackend.repository.TestAnswerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the nightly psychometric audit as a pipeline of partitioned work units.
+ *
+ * - Units: each {@link PsychometricAuditStep} is split into units (an item, a competency
+ *   or a trait), processed in key order; every unit is one call to
+ *   {@link PsychometricAnalysisService} and so one short transaction of its own
+ * - Pages: units are taken in pages of parallelism x chunk-size, split into chunks that run
+ *   on a bounded pool of parallelism threads, so database connections stay bounded too
+ * - Progress: after each page the run is saved with its cursor and a heartbeat
+ *   ({@link PsychometricAuditRun}); a failed unit is counted and skipped
+ * - Resume: an INTERRUPTED run, or a RUNNING run whose heartbeat is older than
+ *   stale-after-minutes, is resumed after its last saved page instead of starting over
+ * - Metrics: duration per step (test.psychometrics.audit.step.duration) and units per step and
+ *   outcome (test.psychometrics.audit.units)
+ */
+@Component
+public class PsychometricAuditPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(PsychometricAuditPipeline.class);
+
+    private static final List<PsychometricAuditRunStatus> UNFINISHED =
+            List.of(PsychometricAuditRunStatus.RUNNING, PsychometricAuditRunStatus.INTERRUPTED);
+
+    // Questions per response-count query when selecting never-calculated items
+    private static final int COUNT_CHUNK_SIZE = 500;
+
+    private final PsychometricAnalysisService analysisService;
+    private final ItemStatisticsRepository itemStatsRepository;
+    private final TestAnswerRepository answerRepository;
+    private final CompetencyRepository competencyRepository;
+    private final PsychometricAuditRunRepository runRepository;
+    private final TaskExecutor executor;
+    private final int parallelism;
+    private final int chunkSize;
+    private final long staleAfterMinutes;
+    private final int minResponses;
+    private final Map<PsychometricAuditStep, StepMetrics> metrics = new EnumMap<>(PsychometricAuditStep.class);
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public PsychometricAuditPipeline(
+            PsychometricAnalysisService analysisService,
+            ItemStatisticsRepository itemStatsRepository,
+            TestAnswerRepository answerRepository,
+            CompetencyRepository competencyRepository,
+            PsychometricAuditRunRepository runRepository,
+            MeterRegistry meterRegistry,
+            @Value("${skillsoft.psychometrics.audit.parallelism:4}") int parallelism,
+            @Value("${skillsoft.psychometrics.audit.chunk-size:25}") int chunkSize,
+            @Value("${skillsoft.psychometrics.audit.stale-after-minutes:30}") long staleAfterMinutes,
+            @Value("${skillsoft.psychometrics.min-responses:50}") int minResponses) {
+        this(analysisService, itemStatsRepository, answerRepository, competencyRepository, runRepository,
+                meterRegistry, createExecutor(parallelism), parallelism, chunkSize, staleAfterMinutes, minResponses);
+    }
+
+    PsychometricAuditPipeline(
+            PsychometricAnalysisService analysisService,
+            ItemStatisticsRepository itemStatsRepository,
+            TestAnswerRepository answerRepository,
+            CompetencyRepository competencyRepository,
+            PsychometricAuditRunRepository runRepository,
+            MeterRegistry meterRegistry,
+            TaskExecutor executor,
+            int parallelism,
+            int chunkSize,
+            long staleAfterMinutes,
+            int minResponses) {
+        this.analysisService = analysisService;
+        this.itemStatsRepository = itemStatsRepository;
+        this.answerRepository = answerRepository;
+        this.competencyRepository = competencyRepository;
+        this.runRepository = runRepository;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.staleAfterMinutes = staleAfterMinutes;
+        this.minResponses = minResponses;
+        for (PsychometricAuditStep step : PsychometricAuditStep.values()) {
+            metrics.put(step, new StepMetrics(meterRegistry, step));
+        }
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // Never more chunks than threads are submitted
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("psychometric-audit-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Run the audit to the end, resuming an unfinished run if there is one.
+     *
+     * @return The completed or interrupted run, or empty if a run is in progress
+     *         on this or another node
+     */
+    public Optional<PsychometricAuditRun> run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Psychometric audit already running on this node");
+            return Optional.empty();
+        }
+        try {
+            return claimRun().map(this::execute);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * The current or most recent run.
+     */
+    public Optional<PsychometricAuditRun> latestRun() {
+        return runRepository.findFirstByOrderByStartedAtDesc();
+    }
+
+    private Optional<PsychometricAuditRun> claimRun() {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<PsychometricAuditRun> unfinished = runRepository.findFirstByStatusInOrderByStartedAtDesc(UNFINISHED);
+
+        PsychometricAuditRun run;
+        if (unfinished.isPresent()) {
+            run = unfinished.get();
+            if (run.isAliveSince(now.minusMinutes(staleAfterMinutes))) {
+                log.info("Psychometric audit run {} is in progress elsewhere (heartbeat {})",
+                        run.getId(), run.getHeartbeatAt());
+                return Optional.empty();
+            }
+            log.info("Resuming {} psychometric audit run {} at step {} after '{}'",
+                    run.getStatus(), run.getId(), run.getCurrentStep(), run.getStepCursor());
+            run.resume(now);
+        } else {
+            run = PsychometricAuditRun.start(now);
+        }
+
+        try {
+            return Optional.of(runRepository.save(run));
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            log.info("Psychometric audit run was claimed by another node: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private PsychometricAuditRun execute(PsychometricAuditRun run) {
+        try {
+            while (run.getCurrentStep() != null) {
+                PsychometricAuditStep step = run.getCurrentStep();
+                Timer.Sample sample = Timer.start();
+                try {
+                    List<String> units = pendingUnits(step, run.getStepCursor());
+                    log.debug("Audit step {}: {} units", step, units.size());
+
+                    int pageSize = parallelism * chunkSize;
+                    for (int from = 0; from < units.size(); from += pageSize) {
+                        List<String> page = units.subList(from, Math.min(from + pageSize, units.size()));
+                        int[] outcome = processPage(step, page);
+                        run.recordPage(outcome[0], outcome[1], page.get(page.size() - 1), LocalDateTime.now());
+                        run = runRepository.save(run);
+                    }
+                    run.finishStep(LocalDateTime.now());
+                    run = runRepository.save(run);
+                } finally {
+                    sample.stop(metrics.get(step).duration);
+                }
+            }
+            log.info("Psychometric audit run {} completed: {} items, {} competencies, {} traits, {} statuses, {} failed",
+                    run.getId(), run.getItemsRecalculated(), run.getCompetenciesRecalculated(),
+                    run.getTraitsRecalculated(), run.getStatusesUpdated(), run.getFailedUnits());
+        } catch (RuntimeException e) {
+            log.error("Psychometric audit run {} interrupted at step {}", run.getId(), run.getCurrentStep(), e);
+            run.interrupt(e.getMessage(), LocalDateTime.now());
+            try {
+                run = runRepository.save(run);
+            } catch (RuntimeException saveError) {
+                // The heartbeat goes stale, so the run is resumed anyway
+                log.warn("Failed to save interrupted audit run {}: {}", run.getId(), saveError.getMessage());
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Units of the step after the cursor, sorted by key.
+     */
+    private List<String> pendingUnits(PsychometricAuditStep step, String cursor) {
+        Collection<String> keys = switch (step) {
+            case ITEMS -> keys(itemsWithNewResponses());
+            case COMPETENCIES -> keys(competencyRepository.findAllIds());
+            case TRAITS -> Arrays.stream(BigFiveTrait.values()).map(Enum::name).toList();
+            case STATUSES -> keys(itemStatsRepository.findCalculatedQuestionIds());
+        };
+        return keys.stream()
+                .filter(key -> cursor == null || key.compareTo(cursor) > 0)
+                .sorted()
+                .toList();
+    }
+
+    private static List<String> keys(Collection<UUID> ids) {
+        return ids.stream().map(UUID::toString).toList();
+    }
+
+    /**
+     * Items with responses since their last calculation, and never-calculated items
+     * that now have enough responses.
+     */
+    private Set<UUID> itemsWithNewResponses() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(1);
+        Set<UUID> questionIds = new HashSet<>(itemStatsRepository.findQuestionsNeedingRecalculation(minResponses, threshold));
+
+        List<UUID> uncalculated = itemStatsRepository.findUncalculatedQuestionIds(ItemValidityStatus.PROBATION);
+        for (int from = 0; from < uncalculated.size(); from += COUNT_CHUNK_SIZE) {
+            List<UUID> chunk = uncalculated.subList(from, Math.min(from + COUNT_CHUNK_SIZE, uncalculated.size()));
+            for (Object[] row : answerRepository.countByQuestionIds(chunk)) {
+                if ((Long) row[1] >= minResponses) {
+                    questionIds.add((UUID) row[0]);
+                }
+            }
+        }
+        return questionIds;
+    }
+
+    /**
+     * Process a page in parallel chunks and wait for all of them.
+     *
+     * @return [units recalculated, units failed]
+     */
+    private int[] processPage(PsychometricAuditStep step, List<String> page) {
+        List<CompletableFuture<int[]>> chunks = new ArrayList<>();
+        for (int from = 0; from < page.size(); from += chunkSize) {
+            List<String> chunk = page.subList(from, Math.min(from + chunkSize, page.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> processChunk(step, chunk), executor));
+        }
+
+        int[] outcome = new int[2];
+        for (CompletableFuture<int[]> chunk : chunks) {
+            int[] chunkOutcome = chunk.join();
+            outcome[0] += chunkOutcome[0];
+            outcome[1] += chunkOutcome[1];
+        }
+        return outcome;
+    }
+
+    private int[] processChunk(PsychometricAuditStep step, List<String> chunk) {
+        StepMetrics stepMetrics = metrics.get(step);
+        int[] outcome = new int[2];
+        for (String key : chunk) {
+            try {
+                processUnit(step, key);
+                stepMetrics.recalculated.increment();
+                outcome[0]++;
+            } catch (RuntimeException e) {
+                log.warn("Audit step {} failed for {}: {}", step, key, e.getMessage());
+                stepMetrics.failed.increment();
+                outcome[1]++;
+            }
+        }
+        return outcome;
+    }
+
+    private void processUnit(PsychometricAuditStep step, String key) {
+        switch (step) {
+            case ITEMS -> analysisService.calculateItemStatistics(UUID.fromString(key));
+            case COMPETENCIES -> analysisService.calculateCompetencyReliability(UUID.fromString(key));
+            case TRAITS -> analysisService.calculateBigFiveReliability(BigFiveTrait.valueOf(key));
+            case STATUSES -> analysisService.updateItemValidityStatus(UUID.fromString(key));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Unit counters and duration timer of one audit step.
+     */
+    private static final class StepMetrics {
+        private final Counter recalculated;
+        private final Counter failed;
+        private final Timer duration;
+
+        StepMetrics(MeterRegistry registry, PsychometricAuditStep step) {
+            String tag = step.name().toLowerCase(Locale.ROOT);
+            this.recalculated = Counter.builder("test.psychometrics.audit.units")
+                    .description("Work units processed by the psychometric audit")
+                    .tag("step", tag)
+                    .tag("outcome", "recalculated")
+                    .register(registry);
+            this.failed = Counter.builder("test.psychometrics.audit.units")
+                    .description("Work units processed by the psychometric audit")
+                    .tag("step", tag)
+                    .tag("outcome", "failed")
+                    .register(registry);
+            this.duration = Timer.builder("test.psychometrics.audit.step.duration")
+                    .description("Time taken by one psychometric audit step")
+                    .tag("step", tag)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import app.skillsoft.assessmentbackend.domain.dto.psychometrics.PsychometricHealthReport;
+import app.skillsoft.assessmentbackend.events.psychometrics.PsychometricStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Snapshot of the psychometric health report served by the dashboard.
+ *
+ * Dashboard reads return the held report instead of aggregating item and competency
+ * statistics per request, so auto-refreshing dashboards put no load on the database.
+ *
+ * Maintenance:
+ * - Built lazily on first read
+ * - Refreshed by PsychometricAuditJob after each audit run
+ * - Marked stale on PsychometricStatusChangedEvent once the changing transaction commits;
+ *   a stale snapshot is refreshed by the next scheduled check, so a batch of status
+ *   changes costs one refresh
+ * - Refreshed once older than max-age-ms, so changes made on other nodes are picked up
+ */
+@Component
+public class PsychometricHealthSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(PsychometricHealthSnapshot.class);
+
+    private final PsychometricAnalysisService analysisService;
+    private final long maxAgeMs;
+
+    private final Object refreshLock = new Object();
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+
+    public PsychometricHealthSnapshot(
+            PsychometricAnalysisService analysisService,
+            @Value("${skillsoft.psychometrics.dashboard.max-age-ms:900000}") long maxAgeMs) {
+        this.analysisService = analysisService;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * Get the current health report, building it on first use.
+     */
+    public PsychometricHealthReport current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.report();
+        }
+        synchronized (refreshLock) {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot.report();
+        }
+    }
+
+    /**
+     * Regenerate the report from the database and swap it in.
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            // Cleared first, so status changes committed while generating mark it stale again
+            stale.set(false);
+            long startTime = System.currentTimeMillis();
+            PsychometricHealthReport report = analysisService.generateHealthReport();
+            snapshot = new Snapshot(report, System.currentTimeMillis());
+            log.debug("Refreshed psychometric health report in {}ms", System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Mark the report stale once the transaction that changed a status has committed.
+     * Falls back to immediate execution when published outside a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(PsychometricStatusChangedEvent event) {
+        log.trace("Psychometric status of {} changed {} -> {}, health report is stale",
+                event.subject(), event.previousStatus(), event.newStatus());
+        stale.set(true);
+    }
+
+    /**
+     * Refresh a stale or expired report.
+     * Skipped until the report has been read on this node.
+     */
+    @Scheduled(
+            fixedDelayString = "${skillsoft.psychometrics.dashboard.refresh-interval-ms:60000}",
+            initialDelayString = "${skillsoft.psychometrics.dashboard.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        if (!stale.get() && System.currentTimeMillis() - current.generatedAt() < maxAgeMs) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            stale.set(true);
+            log.error("Health report refresh failed, keeping previous snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Whether a report is held and no status change has been seen since it was generated.
+     */
+    public boolean isCurrent() {
+        return snapshot != null && !stale.get();
+    }
+
+    private record Snapshot(PsychometricHealthReport report, long generatedAt) {
+    }
+}
@@ -0,0 +1,69 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Bounded queue of questions waiting for a milestone recalculation.
+ *
+ * A question is held at most once until it is drained. When the queue is full the
+ * milestone is dropped and left to the nightly audit, which recalculates every
+ * item with new responses.
+ */
+@Component
+public class PsychometricRecalculationQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(PsychometricRecalculationQueue.class);
+
+    private final BlockingQueue<UUID> queue;
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+    public PsychometricRecalculationQueue(
+            @Value("${skillsoft.psychometrics.recalculation-queue-capacity:1000}") int capacity) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Queue a question for recalculation.
+     *
+     * @return true if queued, false if already queued or the queue is full
+     */
+    public boolean offer(UUID questionId) {
+        if (!queued.add(questionId)) {
+            return false;
+        }
+        if (!queue.offer(questionId)) {
+            queued.remove(questionId);
+            log.warn("Psychometric recalculation queue full, question {} left to the nightly audit", questionId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remove and return up to maxItems queued questions.
+     */
+    public List<UUID> drain(int maxItems) {
+        List<UUID> questionIds = new ArrayList<>();
+        queue.drainTo(questionIds, maxItems);
+        questionIds.forEach(queued::remove);
+        return questionIds;
+    }
+
+    /**
+     * Number of questions waiting for recalculation.
+     */
+    public int size() {
+        return queue.size();
+    }
+}
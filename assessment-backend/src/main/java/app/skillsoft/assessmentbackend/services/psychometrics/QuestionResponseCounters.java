@@ -0,0 +1,148 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import app.skillsoft.assessmentbackend.repository.TestAnswerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory per-question response counters used to detect psychometric milestones
+ * without querying test_answers on the answer path.
+ *
+ * - Answer path: {@link #increment(UUID)} bumps a LongAdder (striped, contention-free)
+ * - Milestone check: {@link #collectMilestones(int)} folds the pending increments into
+ *   the known totals and reports questions that crossed a multiple of the step.
+ *   Totals of questions seen for the first time are seeded from the database.
+ * - Reconciliation: {@link #reconcile()} reloads the known totals from the database,
+ *   correcting drift from rolled-back submissions and answers written on other nodes.
+ *
+ * Counted responses match TestAnswerRepository#countByQuestion_Id (scored, not skipped).
+ */
+@Component
+public class QuestionResponseCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionResponseCounters.class);
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final TestAnswerRepository answerRepository;
+
+    private final ConcurrentHashMap<UUID, LongAdder> increments = new ConcurrentHashMap<>();
+
+    // Guarded by this; only touched by the milestone check and reconciliation
+    private final Map<UUID, Long> totals = new HashMap<>();
+
+    public QuestionResponseCounters(TestAnswerRepository answerRepository) {
+        this.answerRepository = answerRepository;
+    }
+
+    /**
+     * Record a new counted response for the question. Never touches the database.
+     */
+    public void increment(UUID questionId) {
+        increments.computeIfAbsent(questionId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Fold pending increments into the known totals.
+     *
+     * @param step Milestone step (e.g. 50 for 50, 100, 150...)
+     * @return Questions whose total crossed a multiple of the step, with their new total
+     */
+    public synchronized List<Milestone> collectMilestones(int step) {
+        Map<UUID, Long> drained = new HashMap<>();
+        increments.forEach((questionId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                drained.put(questionId, delta);
+            }
+        });
+        if (drained.isEmpty()) {
+            return List.of();
+        }
+
+        // First sighting: the database count already includes the drained responses
+        List<UUID> unseen = drained.keySet().stream()
+                .filter(questionId -> !totals.containsKey(questionId))
+                .toList();
+        Map<UUID, Long> seeded = loadCounts(unseen);
+
+        List<Milestone> milestones = new ArrayList<>();
+        drained.forEach((questionId, delta) -> {
+            long previous;
+            long current;
+            Long known = totals.get(questionId);
+            if (known != null) {
+                previous = known;
+                current = known + delta;
+            } else {
+                current = Math.max(seeded.getOrDefault(questionId, 0L), delta);
+                previous = current - delta;
+            }
+            totals.put(questionId, current);
+
+            if (current >= step && current / step > previous / step) {
+                milestones.add(new Milestone(questionId, current / step * step));
+            }
+        });
+        return milestones;
+    }
+
+    /**
+     * Replace the known totals with the database counts.
+     *
+     * @return Number of questions reconciled
+     */
+    public synchronized int reconcile() {
+        if (totals.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, Long> counts = loadCounts(new ArrayList<>(totals.keySet()));
+        int drifted = 0;
+        for (Map.Entry<UUID, Long> entry : totals.entrySet()) {
+            long actual = counts.getOrDefault(entry.getKey(), 0L);
+            if (entry.getValue() != actual) {
+                drifted++;
+                entry.setValue(actual);
+            }
+        }
+        if (drifted > 0) {
+            log.debug("Reconciled response counters: {} of {} questions drifted", drifted, totals.size());
+        }
+        return totals.size();
+    }
+
+    /**
+     * Known total for the question, excluding increments not yet collected.
+     */
+    public synchronized Optional<Long> getKnownTotal(UUID questionId) {
+        return Optional.ofNullable(totals.get(questionId));
+    }
+
+    private Map<UUID, Long> loadCounts(List<UUID> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Long> counts = HashMap.newHashMap(questionIds.size());
+        for (int from = 0; from < questionIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<UUID> chunk = questionIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, questionIds.size()));
+            for (Object[] row : answerRepository.countByQuestionIds(chunk)) {
+                counts.put((UUID) row[0], (Long) row[1]);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * A question that reached a response milestone.
+     *
+     * @param questionId    The question
+     * @param responseCount The milestone reached (a multiple of the step)
+     */
+    public record Milestone(UUID questionId, long responseCount) {
+    }
+}
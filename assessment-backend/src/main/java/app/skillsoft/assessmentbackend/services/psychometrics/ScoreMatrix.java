@@ -0,0 +1,325 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import java.util.*;
+
+/**
+ * Dense session x item matrix of normalized scores for reliability analysis.
+ *
+ * - Storage: one row-major double[] with an item index; unanswered cells are NaN
+ * - Statistics: item sums, sums of squares, total-score moments and item-total
+ *   cross-products are accumulated in a single O(n*k) pass over the complete rows
+ *   and shared by Cronbach's alpha and every alpha-if-item-deleted value
+ * - Alpha-if-deleted for item j also counts the sessions that miss only item j;
+ *   their sums are kept per item, so no alpha is recomputed from the raw scores
+ * - Trait-level alpha across competencies accepts partially answered sessions
+ *   (see {@link #cronbachAlpha(int, double)})
+ *
+ * Variances are population variances (divided by n), as in the rest of the
+ * psychometric analysis. Instances are not thread-safe.
+ */
+public final class ScoreMatrix {
+
+    // Total variance at or below this is treated as zero (alpha undefined)
+    private static final double ZERO_VARIANCE = 1e-12;
+
+    private final List<UUID> items;
+    private final int sessionCount;
+    private final int itemCount;
+    private final double[] scores;
+    private final int[] answered;
+
+    private Statistics statistics;
+
+    private ScoreMatrix(List<UUID> items, int sessionCount, double[] scores, int[] answered) {
+        this.items = items;
+        this.sessionCount = sessionCount;
+        this.itemCount = items.size();
+        this.scores = scores;
+        this.answered = answered;
+    }
+
+    /**
+     * Build a matrix from [sessionId, questionId, normalizedScore] rows,
+     * as returned by TestAnswerRepository#getScoreMatrixForCompetency.
+     */
+    public static ScoreMatrix of(List<Object[]> rows) {
+        Map<UUID, Integer> sessionIndex = new HashMap<>();
+        Map<UUID, Integer> itemIndex = new LinkedHashMap<>();
+        int[] rowOf = new int[rows.size()];
+        int[] columnOf = new int[rows.size()];
+        double[] values = new double[rows.size()];
+
+        for (int r = 0; r < rows.size(); r++) {
+            Object[] row = rows.get(r);
+            rowOf[r] = sessionIndex.computeIfAbsent((UUID) row[0], id -> sessionIndex.size());
+            columnOf[r] = itemIndex.computeIfAbsent((UUID) row[1], id -> itemIndex.size());
+            values[r] = ((Number) row[2]).doubleValue();
+        }
+
+        int k = itemIndex.size();
+        double[] scores = new double[sessionIndex.size() * k];
+        Arrays.fill(scores, Double.NaN);
+        int[] answered = new int[sessionIndex.size()];
+        for (int r = 0; r < values.length; r++) {
+            int cell = rowOf[r] * k + columnOf[r];
+            if (Double.isNaN(scores[cell])) {
+                answered[rowOf[r]]++;
+            }
+            scores[cell] = values[r];
+        }
+        return new ScoreMatrix(List.copyOf(itemIndex.keySet()), sessionIndex.size(), scores, answered);
+    }
+
+    public boolean isEmpty() {
+        return sessionCount == 0;
+    }
+
+    /**
+     * Number of sessions with at least one scored answer.
+     */
+    public int sessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Number of distinct items answered by any session.
+     */
+    public int itemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Items in column order.
+     */
+    public List<UUID> items() {
+        return items;
+    }
+
+    /**
+     * Cronbach's alpha over the sessions that answered every item:
+     * alpha = (k / (k-1)) * (1 - sum(var_i) / var_total).
+     *
+     * @param minResponses Minimum number of complete sessions
+     * @return Alpha, or empty with fewer than 2 items, too few complete sessions
+     *         or zero total variance
+     */
+    public OptionalDouble cronbachAlpha(int minResponses) {
+        if (itemCount < 2) {
+            return OptionalDouble.empty();
+        }
+        Statistics stats = statistics();
+        if (stats.completeCount < minResponses) {
+            return OptionalDouble.empty();
+        }
+
+        double n = stats.completeCount;
+        double sumItemVariances = 0;
+        for (int i = 0; i < itemCount; i++) {
+            sumItemVariances += variance(stats.itemSums[i], stats.itemSquares[i], n);
+        }
+        double totalVariance = variance(stats.totalSum, stats.totalSquares, n);
+        return alpha(itemCount, sumItemVariances, totalVariance);
+    }
+
+    /**
+     * Cronbach's alpha over the sessions that answered at least minCompletion of the
+     * items, for matrices spanning several competencies where few sessions answer every
+     * item. Item variances use the sessions that answered the item; unanswered items
+     * count as 0 in the session total.
+     *
+     * @param minResponses  Minimum number of qualifying sessions
+     * @param minCompletion Share of the items a session must have answered (0..1)
+     * @return Alpha, or empty with fewer than 2 items, too few qualifying sessions
+     *         or zero total variance
+     */
+    public OptionalDouble cronbachAlpha(int minResponses, double minCompletion) {
+        if (itemCount < 2) {
+            return OptionalDouble.empty();
+        }
+
+        double minAnswered = itemCount * minCompletion;
+        double[] sums = new double[itemCount];
+        double[] squares = new double[itemCount];
+        int[] counts = new int[itemCount];
+        double totalSum = 0;
+        double totalSquares = 0;
+        int n = 0;
+
+        for (int s = 0; s < sessionCount; s++) {
+            if (answered[s] < minAnswered) {
+                continue;
+            }
+            int offset = s * itemCount;
+            double total = 0;
+            for (int i = 0; i < itemCount; i++) {
+                double x = scores[offset + i];
+                if (!Double.isNaN(x)) {
+                    sums[i] += x;
+                    squares[i] += x * x;
+                    counts[i]++;
+                    total += x;
+                }
+            }
+            totalSum += total;
+            totalSquares += total * total;
+            n++;
+        }
+        if (n < minResponses) {
+            return OptionalDouble.empty();
+        }
+
+        double sumItemVariances = 0;
+        for (int i = 0; i < itemCount; i++) {
+            sumItemVariances += variance(sums[i], squares[i], counts[i]);
+        }
+        return alpha(itemCount, sumItemVariances, variance(totalSum, totalSquares, n));
+    }
+
+    /**
+     * Cronbach's alpha with each item removed in turn, over the sessions that
+     * answered every remaining item.
+     *
+     * @param minResponses Minimum number of sessions per reduced item set
+     * @return Alpha by removed item; items whose alpha is undefined are absent,
+     *         and the map is empty with fewer than 3 items
+     */
+    public Map<UUID, Double> alphaIfDeleted(int minResponses) {
+        Map<UUID, Double> result = new LinkedHashMap<>();
+        if (itemCount < 3) {
+            return result;
+        }
+        Statistics stats = statistics();
+
+        double[] completeVariances = new double[itemCount];
+        double completeVarianceSum = 0;
+        for (int i = 0; i < itemCount; i++) {
+            completeVariances[i] = variance(stats.itemSums[i], stats.itemSquares[i], stats.completeCount);
+            completeVarianceSum += completeVariances[i];
+        }
+
+        for (int j = 0; j < itemCount; j++) {
+            int missing = stats.missingOnlyCount[j];
+            double n = stats.completeCount + missing;
+            if (n < minResponses) {
+                continue;
+            }
+
+            // Totals of complete sessions without item j: sum(t - x_j) and sum((t - x_j)^2)
+            double totalSum = stats.totalSum - stats.itemSums[j];
+            double totalSquares = stats.totalSquares - 2 * stats.itemTotalProducts[j] + stats.itemSquares[j];
+
+            double sumItemVariances;
+            if (missing == 0) {
+                sumItemVariances = completeVarianceSum - completeVariances[j];
+            } else {
+                totalSum += stats.missingOnlyTotalSum[j];
+                totalSquares += stats.missingOnlyTotalSquares[j];
+                sumItemVariances = 0;
+                for (int i = 0; i < itemCount; i++) {
+                    if (i != j) {
+                        sumItemVariances += variance(
+                                stats.itemSums[i] + stats.missingOnlyItemSums[j][i],
+                                stats.itemSquares[i] + stats.missingOnlyItemSquares[j][i], n);
+                    }
+                }
+            }
+
+            OptionalDouble alpha = alpha(itemCount - 1, sumItemVariances, variance(totalSum, totalSquares, n));
+            if (alpha.isPresent()) {
+                result.put(items.get(j), alpha.getAsDouble());
+            }
+        }
+        return result;
+    }
+
+    private static OptionalDouble alpha(int k, double sumItemVariances, double totalVariance) {
+        if (totalVariance <= ZERO_VARIANCE) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) k / (k - 1) * (1 - sumItemVariances / totalVariance));
+    }
+
+    private static double variance(double sum, double squares, double n) {
+        if (n == 0) {
+            return 0;
+        }
+        double mean = sum / n;
+        return Math.max(squares / n - mean * mean, 0);
+    }
+
+    private Statistics statistics() {
+        if (statistics == null) {
+            statistics = new Statistics();
+        }
+        return statistics;
+    }
+
+    /**
+     * Sufficient statistics of the complete sessions, plus per-item sums of the
+     * sessions missing only that item.
+     */
+    private final class Statistics {
+        final double[] itemSums = new double[itemCount];
+        final double[] itemSquares = new double[itemCount];
+        final double[] itemTotalProducts = new double[itemCount];
+        double totalSum;
+        double totalSquares;
+        int completeCount;
+
+        final int[] missingOnlyCount = new int[itemCount];
+        final double[][] missingOnlyItemSums = new double[itemCount][];
+        final double[][] missingOnlyItemSquares = new double[itemCount][];
+        final double[] missingOnlyTotalSum = new double[itemCount];
+        final double[] missingOnlyTotalSquares = new double[itemCount];
+
+        Statistics() {
+            for (int s = 0; s < sessionCount; s++) {
+                int offset = s * itemCount;
+                if (answered[s] == itemCount) {
+                    addComplete(offset);
+                } else if (answered[s] == itemCount - 1) {
+                    addMissingOne(offset);
+                }
+            }
+        }
+
+        private void addComplete(int offset) {
+            double total = 0;
+            for (int i = 0; i < itemCount; i++) {
+                double x = scores[offset + i];
+                itemSums[i] += x;
+                itemSquares[i] += x * x;
+                total += x;
+            }
+            for (int i = 0; i < itemCount; i++) {
+                itemTotalProducts[i] += total * scores[offset + i];
+            }
+            totalSum += total;
+            totalSquares += total * total;
+            completeCount++;
+        }
+
+        private void addMissingOne(int offset) {
+            int missing = 0;
+            while (!Double.isNaN(scores[offset + missing])) {
+                missing++;
+            }
+            if (missingOnlyItemSums[missing] == null) {
+                missingOnlyItemSums[missing] = new double[itemCount];
+                missingOnlyItemSquares[missing] = new double[itemCount];
+            }
+            double total = 0;
+            for (int i = 0; i < itemCount; i++) {
+                if (i != missing) {
+                    double x = scores[offset + i];
+                    missingOnlyItemSums[missing][i] += x;
+                    missingOnlyItemSquares[missing][i] += x * x;
+                    total += x;
+                }
+            }
+            missingOnlyCount[missing]++;
+            missingOnlyTotalSum[missing] += total;
+            missingOnlyTotalSquares[missing] += total * total;
+        }
+    }
+}
@@ -3,10 +3,14 @@ package app.skillsoft.assessmentbackend.services.psychometrics.impl;
 import app.skillsoft.assessmentbackend.domain.dto.psychometrics.FlaggedItemSummary;
 import app.skillsoft.assessmentbackend.domain.dto.psychometrics.PsychometricHealthReport;
 import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
+import app.skillsoft.assessmentbackend.events.psychometrics.PsychometricStatusChangedEvent;
 import app.skillsoft.assessmentbackend.repository.*;
 import app.skillsoft.assessmentbackend.services.psychometrics.PsychometricAnalysisService;
+import app.skillsoft.assessmentbackend.services.psychometrics.ScoreMatrix;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,8 +32,8 @@ import java.util.stream.Collectors;
  *   <li>Alpha-if-Item-Deleted: Item contribution analysis</li>
  * </ul>
  * <p>
- * Uses precise BigDecimal arithmetic for all statistical calculations
- * to ensure accuracy in psychometric metrics.
+ * Uses precise BigDecimal arithmetic for item-level calculations. Reliability
+ * coefficients are computed on a primitive {@link ScoreMatrix} and stored as BigDecimal.
  */
 @Service
 @Transactional
@@ -47,17 +51,22 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
     private static final BigDecimal DISCRIMINATION_EXCELLENT = new BigDecimal("0.3");
     private static final BigDecimal ALPHA_RELIABLE = new BigDecimal("0.7");
     private static final BigDecimal ALPHA_ACCEPTABLE = new BigDecimal("0.6");
+    private static final double TRAIT_MIN_COMPLETION = 0.8;
 
     // Math context for precise calculations
     private static final MathContext MATH_CONTEXT = new MathContext(10, RoundingMode.HALF_UP);
     private static final int SCALE = 4;
 
+    // Questions per distractor query and per batch of saved statistics in bulk recalculation
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final ItemStatisticsRepository itemStatisticsRepository;
     private final CompetencyReliabilityRepository competencyReliabilityRepository;
     private final BigFiveReliabilityRepository bigFiveReliabilityRepository;
     private final TestAnswerRepository testAnswerRepository;
     private final AssessmentQuestionRepository assessmentQuestionRepository;
     private final CompetencyRepository competencyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PsychometricAnalysisServiceImpl(
             ItemStatisticsRepository itemStatisticsRepository,
@@ -65,13 +74,15 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
             BigFiveReliabilityRepository bigFiveReliabilityRepository,
             TestAnswerRepository testAnswerRepository,
             AssessmentQuestionRepository assessmentQuestionRepository,
-            CompetencyRepository competencyRepository) {
+            CompetencyRepository competencyRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.itemStatisticsRepository = itemStatisticsRepository;
         this.competencyReliabilityRepository = competencyReliabilityRepository;
         this.bigFiveReliabilityRepository = bigFiveReliabilityRepository;
         this.testAnswerRepository = testAnswerRepository;
         this.assessmentQuestionRepository = assessmentQuestionRepository;
         this.competencyRepository = competencyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     // ============================================
@@ -82,36 +93,144 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
     public ItemStatistics calculateItemStatistics(UUID questionId) {
         logger.debug("Calculating item statistics for question: {}", questionId);
 
+        ItemStatistics stats = findOrCreateItemStatistics(questionId);
+
+        if (stats.hasRunningStatistics()) {
+            // Running statistics are updated per scored session, so no answers are reloaded
+            return updateFromRunningStatistics(stats);
+        }
+        return recalculateFromAnswers(stats);
+    }
+
+    @Override
+    public ItemStatistics verifyItemStatistics(UUID questionId) {
+        ItemStatistics stats = findOrCreateItemStatistics(questionId);
+
+        boolean wasSeeded = stats.hasRunningStatistics();
+        long runningCount = stats.getRunningCount();
+        Double runningDiscrimination = stats.getRunningDiscrimination();
+
+        ItemStatistics verified = recalculateFromAnswers(stats);
+
+        if (wasSeeded && runningCount != verified.getRunningCount()) {
+            logger.info("Running statistics of question {} drifted: {} incremental vs {} rescanned responses " +
+                            "(rpb {} vs {}), re-seeded",
+                    questionId, runningCount, verified.getRunningCount(),
+                    runningDiscrimination, verified.getRunningDiscrimination());
+        }
+        return verified;
+    }
+
+    private ItemStatistics findOrCreateItemStatistics(UUID questionId) {
         AssessmentQuestion question = assessmentQuestionRepository.findById(questionId)
                 .orElseThrow(() -> new IllegalArgumentException("Question not found: " + questionId));
 
         // Get or create statistics record
-        ItemStatistics stats = itemStatisticsRepository.findByQuestion_Id(questionId)
+        return itemStatisticsRepository.findByQuestion_Id(questionId)
                 .orElseGet(() -> new ItemStatistics(question));
+    }
+
+    /**
+     * Derive difficulty and discrimination from the running statistics in O(1).
+     * Response count is the number of scored responses folded into them.
+     */
+    private ItemStatistics updateFromRunningStatistics(ItemStatistics stats) {
+        UUID questionId = stats.getQuestionId();
 
         // Store previous discrimination for trend analysis
         if (stats.getDiscriminationIndex() != null) {
             stats.setPreviousDiscriminationIndex(stats.getDiscriminationIndex());
         }
 
+        long responseCount = stats.getRunningCount();
+        stats.setResponseCount((int) responseCount);
+
+        if (responseCount < MIN_RESPONSES) {
+            return saveInsufficientResponses(stats, responseCount);
+        }
+
+        Double difficulty = stats.getRunningDifficulty();
+        Double discrimination = stats.getRunningDiscrimination();
+
+        return saveMetrics(stats,
+                difficulty != null ? BigDecimal.valueOf(difficulty).setScale(SCALE, RoundingMode.HALF_UP) : null,
+                discrimination != null ? BigDecimal.valueOf(discrimination).setScale(SCALE, RoundingMode.HALF_UP) : null,
+                analyzeDistractors(questionId));
+    }
+
+    /**
+     * Full recalculation from the answers. Also (re-)seeds the running statistics
+     * from the item-total score pairs, after which scored sessions keep them current.
+     */
+    private ItemStatistics recalculateFromAnswers(ItemStatistics stats) {
+        UUID questionId = stats.getQuestionId();
+
+        // Store previous discrimination for trend analysis
+        if (stats.getDiscriminationIndex() != null) {
+            stats.setPreviousDiscriminationIndex(stats.getDiscriminationIndex());
+        }
+
+        // Seed running statistics from the same pairs the discrimination index uses
+        List<Object[]> scorePairs = testAnswerRepository.findItemTotalScorePairs(questionId);
+        stats.resetRunningStatistics();
+        for (Object[] pair : scorePairs) {
+            if (pair[0] != null && pair[1] != null) {
+                stats.addObservation(((Number) pair[0]).doubleValue(), ((Number) pair[1]).doubleValue());
+            }
+        }
+
         // Count responses
         long responseCount = testAnswerRepository.countByQuestion_Id(questionId);
         stats.setResponseCount((int) responseCount);
 
         if (responseCount < MIN_RESPONSES) {
-            logger.info("Insufficient responses ({}) for question {}. Setting PROBATION status.",
-                    responseCount, questionId);
-            updateStatusWithHistory(stats, ItemValidityStatus.PROBATION,
-                    "Insufficient responses: " + responseCount + " < " + MIN_RESPONSES);
-            stats.setLastCalculatedAt(LocalDateTime.now());
-            return itemStatisticsRepository.save(stats);
+            return saveInsufficientResponses(stats, responseCount);
         }
 
         // Calculate metrics
-        BigDecimal difficultyIndex = calculateDifficultyIndex(questionId);
-        BigDecimal discriminationIndex = calculateDiscriminationIndex(questionId);
-        Map<String, Double> distractorEfficiency = analyzeDistractors(questionId);
+        return saveMetrics(stats,
+                calculateDifficultyIndex(questionId),
+                discriminationFromScorePairs(scorePairs),
+                analyzeDistractors(questionId));
+    }
 
+    private ItemStatistics saveInsufficientResponses(ItemStatistics stats, long responseCount) {
+        logger.info("Insufficient responses ({}) for question {}. Setting PROBATION status.",
+                responseCount, stats.getQuestionId());
+        applyInsufficientResponses(stats, responseCount);
+        return itemStatisticsRepository.save(stats);
+    }
+
+    private void applyInsufficientResponses(ItemStatistics stats, long responseCount) {
+        updateStatusWithHistory(stats, ItemValidityStatus.PROBATION,
+                "Insufficient responses: " + responseCount + " < " + MIN_RESPONSES);
+        stats.setLastCalculatedAt(LocalDateTime.now());
+    }
+
+    private ItemStatistics saveMetrics(ItemStatistics stats,
+                                       BigDecimal difficultyIndex,
+                                       BigDecimal discriminationIndex,
+                                       Map<String, Double> distractorEfficiency) {
+        ItemValidityStatus newStatus = applyMetrics(stats, difficultyIndex, discriminationIndex, distractorEfficiency);
+
+        logger.info("Item statistics calculated for question {}: p={}, rpb={}, status={}",
+                stats.getQuestionId(),
+                difficultyIndex != null ? difficultyIndex.setScale(3, RoundingMode.HALF_UP) : "null",
+                discriminationIndex != null ? discriminationIndex.setScale(3, RoundingMode.HALF_UP) : "null",
+                newStatus);
+
+        return itemStatisticsRepository.save(stats);
+    }
+
+    /**
+     * Set metrics, flags and validity status without saving.
+     *
+     * @return The new validity status
+     */
+    private ItemValidityStatus applyMetrics(ItemStatistics stats,
+                                            BigDecimal difficultyIndex,
+                                            BigDecimal discriminationIndex,
+                                            Map<String, Double> distractorEfficiency) {
         stats.setDifficultyIndex(difficultyIndex);
         stats.setDiscriminationIndex(discriminationIndex);
         stats.setDistractorEfficiency(distractorEfficiency);
@@ -127,14 +246,7 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
         updateStatusWithHistory(stats, newStatus, generateStatusReason(difficultyIndex, discriminationIndex));
 
         stats.setLastCalculatedAt(LocalDateTime.now());
-
-        logger.info("Item statistics calculated for question {}: p={}, rpb={}, status={}",
-                questionId,
-                difficultyIndex != null ? difficultyIndex.setScale(3, RoundingMode.HALF_UP) : "null",
-                discriminationIndex != null ? discriminationIndex.setScale(3, RoundingMode.HALF_UP) : "null",
-                newStatus);
-
-        return itemStatisticsRepository.save(stats);
+        return newStatus;
     }
 
     @Override
@@ -170,8 +282,10 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
     @Override
     public BigDecimal calculateDiscriminationIndex(UUID questionId) {
         // Get item score paired with total test score
-        List<Object[]> scorePairs = testAnswerRepository.findItemTotalScorePairs(questionId);
+        return discriminationFromScorePairs(testAnswerRepository.findItemTotalScorePairs(questionId));
+    }
 
+    private BigDecimal discriminationFromScorePairs(List<Object[]> scorePairs) {
         if (scorePairs.size() < MIN_RESPONSES) {
             logger.debug("Insufficient score pairs ({}) for discrimination calculation", scorePairs.size());
             return null;
@@ -202,8 +316,13 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
 
     @Override
     public Map<String, Double> analyzeDistractors(UUID questionId) {
-        List<Object[]> distribution = testAnswerRepository.getDistractorDistribution(questionId);
+        return distractorEfficiency(testAnswerRepository.getDistractorDistribution(questionId));
+    }
 
+    /**
+     * Selection share of each option from [optionId, selectionCount] rows.
+     */
+    private Map<String, Double> distractorEfficiency(List<Object[]> distribution) {
         if (distribution.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -244,27 +363,24 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
         CompetencyReliability reliability = competencyReliabilityRepository.findByCompetency_Id(competencyId)
                 .orElseGet(() -> new CompetencyReliability(competency));
 
-        // Calculate Cronbach's Alpha
-        BigDecimal alpha = calculateCronbachAlpha(competencyId);
-        Map<UUID, BigDecimal> alphaIfDeleted = calculateAlphaIfDeleted(competencyId);
-
-        // Get sample size and item count from score matrix
-        List<Object[]> scoreMatrix = testAnswerRepository.getScoreMatrixForCompetency(competencyId);
-        Set<UUID> sessions = new HashSet<>();
-        Set<UUID> items = new HashSet<>();
-
-        for (Object[] row : scoreMatrix) {
-            sessions.add((UUID) row[0]);
-            items.add((UUID) row[1]);
-        }
+        // Load the score matrix once for alpha, alpha-if-deleted and sample size
+        ScoreMatrix matrix = loadScoreMatrix(competencyId);
+        BigDecimal alpha = cronbachAlpha(matrix, competencyId);
+        Map<UUID, BigDecimal> alphaIfDeleted = alphaIfDeleted(matrix);
 
         reliability.setCronbachAlpha(alpha);
         reliability.setAlphaIfDeleted(alphaIfDeleted);
-        reliability.setSampleSize(sessions.size());
-        reliability.setItemCount(items.size());
-        reliability.setReliabilityStatus(determineReliabilityStatus(alpha, sessions.size(), items.size()));
+        reliability.setSampleSize(matrix.sessionCount());
+        reliability.setItemCount(matrix.itemCount());
+        ReliabilityStatus previousStatus = reliability.getReliabilityStatus();
+        reliability.setReliabilityStatus(determineReliabilityStatus(alpha, matrix.sessionCount(), matrix.itemCount()));
         reliability.setLastCalculatedAt(LocalDateTime.now());
 
+        if (previousStatus != reliability.getReliabilityStatus()) {
+            eventPublisher.publishEvent(PsychometricStatusChangedEvent.forCompetency(
+                    competencyId, previousStatus, reliability.getReliabilityStatus()));
+        }
+
         logger.info("Competency reliability calculated for {}: alpha={}, status={}",
                 competencyId,
                 alpha != null ? alpha.setScale(3, RoundingMode.HALF_UP) : "null",
@@ -275,234 +391,57 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
 
     @Override
     public BigDecimal calculateCronbachAlpha(UUID competencyId) {
-        // Get score matrix: [sessionId, questionId, normalizedScore]
-        List<Object[]> scoreMatrix = testAnswerRepository.getScoreMatrixForCompetency(competencyId);
-
-        if (scoreMatrix.isEmpty()) {
-            logger.debug("No score data available for competency {}", competencyId);
-            return null;
-        }
-
-        // Build score matrix structure
-        // Map: sessionId -> (questionId -> score)
-        Map<UUID, Map<UUID, BigDecimal>> sessionScores = new LinkedHashMap<>();
-        Set<UUID> allQuestions = new LinkedHashSet<>();
-
-        for (Object[] row : scoreMatrix) {
-            UUID sessionId = (UUID) row[0];
-            UUID questionId = (UUID) row[1];
-            BigDecimal score = BigDecimal.valueOf(((Number) row[2]).doubleValue());
-
-            sessionScores.computeIfAbsent(sessionId, k -> new HashMap<>())
-                    .put(questionId, score);
-            allQuestions.add(questionId);
-        }
-
-        int k = allQuestions.size(); // number of items
-        int n = sessionScores.size(); // number of respondents
-
-        if (k < 2 || n < MIN_RESPONSES) {
-            logger.debug("Insufficient data for alpha calculation: k={}, n={}", k, n);
-            return null;
-        }
-
-        // Convert to ordered list for consistent indexing
-        List<UUID> questionList = new ArrayList<>(allQuestions);
-
-        // Calculate item variances and total variance
-        // Only include sessions that have all items
-        List<Map<UUID, BigDecimal>> completeScores = sessionScores.values().stream()
-                .filter(scores -> scores.size() == k)
-                .collect(Collectors.toList());
-
-        if (completeScores.size() < MIN_RESPONSES) {
-            logger.debug("Insufficient complete responses for alpha: {}", completeScores.size());
-            return null;
-        }
-
-        // Calculate item means and variances
-        BigDecimal[] itemMeans = new BigDecimal[k];
-        BigDecimal[] itemVariances = new BigDecimal[k];
-        BigDecimal nDecimal = BigDecimal.valueOf(completeScores.size());
-
-        for (int i = 0; i < k; i++) {
-            UUID questionId = questionList.get(i);
-
-            // Calculate mean for this item
-            BigDecimal sum = BigDecimal.ZERO;
-            for (Map<UUID, BigDecimal> scores : completeScores) {
-                sum = sum.add(scores.getOrDefault(questionId, BigDecimal.ZERO));
-            }
-            itemMeans[i] = sum.divide(nDecimal, MATH_CONTEXT);
-
-            // Calculate variance for this item
-            BigDecimal sumSquaredDiff = BigDecimal.ZERO;
-            for (Map<UUID, BigDecimal> scores : completeScores) {
-                BigDecimal score = scores.getOrDefault(questionId, BigDecimal.ZERO);
-                BigDecimal diff = score.subtract(itemMeans[i]);
-                sumSquaredDiff = sumSquaredDiff.add(diff.multiply(diff));
-            }
-            itemVariances[i] = sumSquaredDiff.divide(nDecimal, MATH_CONTEXT);
-        }
-
-        // Calculate total score variance
-        BigDecimal totalMean = BigDecimal.ZERO;
-        List<BigDecimal> totalScores = new ArrayList<>();
-
-        for (Map<UUID, BigDecimal> scores : completeScores) {
-            BigDecimal total = scores.values().stream()
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            totalScores.add(total);
-            totalMean = totalMean.add(total);
-        }
-        totalMean = totalMean.divide(nDecimal, MATH_CONTEXT);
-
-        BigDecimal totalVariance = BigDecimal.ZERO;
-        for (BigDecimal total : totalScores) {
-            BigDecimal diff = total.subtract(totalMean);
-            totalVariance = totalVariance.add(diff.multiply(diff));
-        }
-        totalVariance = totalVariance.divide(nDecimal, MATH_CONTEXT);
-
-        if (totalVariance.compareTo(BigDecimal.ZERO) == 0) {
-            logger.debug("Total variance is zero, cannot calculate alpha");
-            return null;
-        }
-
-        // Sum of item variances
-        BigDecimal sumItemVariances = Arrays.stream(itemVariances)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Cronbach's Alpha formula: alpha = (k / (k-1)) * (1 - sum(var_i) / var_total)
-        BigDecimal kDecimal = BigDecimal.valueOf(k);
-        BigDecimal kMinus1 = BigDecimal.valueOf(k - 1);
-        BigDecimal factor = kDecimal.divide(kMinus1, MATH_CONTEXT);
-        BigDecimal varianceRatio = sumItemVariances.divide(totalVariance, MATH_CONTEXT);
-        BigDecimal alpha = factor.multiply(BigDecimal.ONE.subtract(varianceRatio));
-
-        return alpha.setScale(SCALE, RoundingMode.HALF_UP);
+        return cronbachAlpha(loadScoreMatrix(competencyId), competencyId);
     }
 
     @Override
     public Map<UUID, BigDecimal> calculateAlphaIfDeleted(UUID competencyId) {
-        Map<UUID, BigDecimal> alphaIfDeleted = new HashMap<>();
-
-        // Get score matrix
-        List<Object[]> scoreMatrix = testAnswerRepository.getScoreMatrixForCompetency(competencyId);
-
-        if (scoreMatrix.isEmpty()) {
-            return alphaIfDeleted;
-        }
-
-        // Build score matrix structure
-        Map<UUID, Map<UUID, BigDecimal>> sessionScores = new LinkedHashMap<>();
-        Set<UUID> allQuestions = new LinkedHashSet<>();
-
-        for (Object[] row : scoreMatrix) {
-            UUID sessionId = (UUID) row[0];
-            UUID questionId = (UUID) row[1];
-            BigDecimal score = BigDecimal.valueOf(((Number) row[2]).doubleValue());
-
-            sessionScores.computeIfAbsent(sessionId, k -> new HashMap<>())
-                    .put(questionId, score);
-            allQuestions.add(questionId);
-        }
-
-        int k = allQuestions.size();
-        if (k < 3) { // Need at least 3 items to calculate alpha-if-deleted meaningfully
-            return alphaIfDeleted;
-        }
-
-        // For each item, calculate alpha without it
-        for (UUID excludedQuestion : allQuestions) {
-            BigDecimal alphaWithout = calculateAlphaWithoutItem(sessionScores, allQuestions, excludedQuestion);
-            if (alphaWithout != null) {
-                alphaIfDeleted.put(excludedQuestion, alphaWithout.setScale(SCALE, RoundingMode.HALF_UP));
-            }
-        }
-
-        return alphaIfDeleted;
+        return alphaIfDeleted(loadScoreMatrix(competencyId));
     }
 
     /**
-     * Calculate Cronbach's Alpha excluding a specific item.
+     * Load the score matrix of a competency: [sessionId, questionId, normalizedScore] rows
+     * packed into a dense primitive matrix.
      */
-    private BigDecimal calculateAlphaWithoutItem(
-            Map<UUID, Map<UUID, BigDecimal>> sessionScores,
-            Set<UUID> allQuestions,
-            UUID excludedQuestion) {
-
-        Set<UUID> includedQuestions = new HashSet<>(allQuestions);
-        includedQuestions.remove(excludedQuestion);
+    private ScoreMatrix loadScoreMatrix(UUID competencyId) {
+        return ScoreMatrix.of(testAnswerRepository.getScoreMatrixForCompetency(competencyId));
+    }
 
-        int k = includedQuestions.size();
-        if (k < 2) {
+    /**
+     * Cronbach's Alpha over the sessions that answered every item of the matrix.
+     */
+    private BigDecimal cronbachAlpha(ScoreMatrix matrix, UUID competencyId) {
+        if (matrix.isEmpty()) {
+            logger.debug("No score data available for competency {}", competencyId);
             return null;
         }
 
-        List<UUID> questionList = new ArrayList<>(includedQuestions);
-
-        // Filter to complete responses
-        List<Map<UUID, BigDecimal>> completeScores = sessionScores.values().stream()
-                .filter(scores -> includedQuestions.stream().allMatch(scores::containsKey))
-                .collect(Collectors.toList());
+        int k = matrix.itemCount(); // number of items
+        int n = matrix.sessionCount(); // number of respondents
 
-        if (completeScores.size() < MIN_RESPONSES) {
+        if (k < 2 || n < MIN_RESPONSES) {
+            logger.debug("Insufficient data for alpha calculation: k={}, n={}", k, n);
             return null;
         }
 
-        BigDecimal nDecimal = BigDecimal.valueOf(completeScores.size());
-
-        // Calculate item variances
-        BigDecimal sumItemVariances = BigDecimal.ZERO;
-        for (UUID questionId : questionList) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (Map<UUID, BigDecimal> scores : completeScores) {
-                sum = sum.add(scores.getOrDefault(questionId, BigDecimal.ZERO));
-            }
-            BigDecimal mean = sum.divide(nDecimal, MATH_CONTEXT);
-
-            BigDecimal variance = BigDecimal.ZERO;
-            for (Map<UUID, BigDecimal> scores : completeScores) {
-                BigDecimal score = scores.getOrDefault(questionId, BigDecimal.ZERO);
-                BigDecimal diff = score.subtract(mean);
-                variance = variance.add(diff.multiply(diff));
-            }
-            variance = variance.divide(nDecimal, MATH_CONTEXT);
-            sumItemVariances = sumItemVariances.add(variance);
-        }
-
-        // Calculate total variance
-        BigDecimal totalMean = BigDecimal.ZERO;
-        List<BigDecimal> totalScores = new ArrayList<>();
-
-        for (Map<UUID, BigDecimal> scores : completeScores) {
-            BigDecimal total = questionList.stream()
-                    .map(q -> scores.getOrDefault(q, BigDecimal.ZERO))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            totalScores.add(total);
-            totalMean = totalMean.add(total);
-        }
-        totalMean = totalMean.divide(nDecimal, MATH_CONTEXT);
-
-        BigDecimal totalVariance = BigDecimal.ZERO;
-        for (BigDecimal total : totalScores) {
-            BigDecimal diff = total.subtract(totalMean);
-            totalVariance = totalVariance.add(diff.multiply(diff));
-        }
-        totalVariance = totalVariance.divide(nDecimal, MATH_CONTEXT);
-
-        if (totalVariance.compareTo(BigDecimal.ZERO) == 0) {
+        OptionalDouble alpha = matrix.cronbachAlpha(MIN_RESPONSES);
+        if (alpha.isEmpty()) {
+            logger.debug("Insufficient complete responses or zero total variance for competency {}", competencyId);
             return null;
         }
+        return BigDecimal.valueOf(alpha.getAsDouble()).setScale(SCALE, RoundingMode.HALF_UP);
+    }
 
-        // Calculate alpha
-        BigDecimal kDecimal = BigDecimal.valueOf(k);
-        BigDecimal kMinus1 = BigDecimal.valueOf(k - 1);
-        BigDecimal factor = kDecimal.divide(kMinus1, MATH_CONTEXT);
-        BigDecimal varianceRatio = sumItemVariances.divide(totalVariance, MATH_CONTEXT);
-
-        return factor.multiply(BigDecimal.ONE.subtract(varianceRatio));
+    /**
+     * Alpha-if-item-deleted for every item of the matrix, derived from the shared
+     * sufficient statistics instead of recomputing alpha per excluded item.
+     */
+    private Map<UUID, BigDecimal> alphaIfDeleted(ScoreMatrix matrix) {
+        Map<UUID, BigDecimal> alphaIfDeleted = new HashMap<>();
+        // Needs at least 3 items to calculate alpha-if-deleted meaningfully
+        matrix.alphaIfDeleted(MIN_RESPONSES).forEach((questionId, alpha) ->
+                alphaIfDeleted.put(questionId, BigDecimal.valueOf(alpha).setScale(SCALE, RoundingMode.HALF_UP)));
+        return alphaIfDeleted;
     }
 
     // ============================================
@@ -516,200 +455,150 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
         // Get or create reliability record
         BigFiveReliability reliability = bigFiveReliabilityRepository.findByTrait(trait)
                 .orElseGet(() -> new BigFiveReliability(trait));
+        ReliabilityStatus previousStatus = reliability.getReliabilityStatus();
 
-        // Find all competencies mapped to this Big Five trait
-        List<Competency> mappedCompetencies = findCompetenciesByBigFiveTrait(trait);
+        // Find all competencies mapped to this Big Five trait (expression-indexed lookup)
+        List<UUID> competencyIds = competencyRepository.findIdsByBigFiveTrait(trait.name());
 
-        if (mappedCompetencies.isEmpty()) {
+        if (competencyIds.isEmpty()) {
             logger.info("No competencies mapped to Big Five trait: {}", trait);
             reliability.setReliabilityStatus(ReliabilityStatus.INSUFFICIENT_DATA);
             reliability.setContributingCompetencies(0);
             reliability.setTotalItems(0);
             reliability.setSampleSize(0);
             reliability.setLastCalculatedAt(LocalDateTime.now());
+            publishTraitStatusChange(trait, previousStatus, reliability.getReliabilityStatus());
             return bigFiveReliabilityRepository.save(reliability);
         }
 
-        // Aggregate score matrix across all mapped competencies
-        Map<UUID, Map<UUID, BigDecimal>> aggregatedScores = new LinkedHashMap<>();
-        Set<UUID> allItems = new HashSet<>();
-
-        for (Competency competency : mappedCompetencies) {
-            List<Object[]> scoreMatrix = testAnswerRepository.getScoreMatrixForCompetency(competency.getId());
-
-            for (Object[] row : scoreMatrix) {
-                UUID sessionId = (UUID) row[0];
-                UUID questionId = (UUID) row[1];
-                BigDecimal score = BigDecimal.valueOf(((Number) row[2]).doubleValue());
-
-                aggregatedScores.computeIfAbsent(sessionId, k -> new HashMap<>())
-                        .put(questionId, score);
-                allItems.add(questionId);
-            }
-        }
+        // One score matrix across all mapped competencies
+        ScoreMatrix matrix = ScoreMatrix.of(testAnswerRepository.getScoreMatrixForCompetencies(competencyIds));
 
-        // Calculate alpha using aggregated data
-        BigDecimal alpha = calculateAlphaFromMatrix(aggregatedScores, allItems);
+        // Allow 80% completion for trait-level, as items span several competencies
+        OptionalDouble alphaValue = matrix.cronbachAlpha(MIN_RESPONSES, TRAIT_MIN_COMPLETION);
+        BigDecimal alpha = alphaValue.isPresent()
+                ? BigDecimal.valueOf(alphaValue.getAsDouble()).setScale(SCALE, RoundingMode.HALF_UP)
+                : null;
 
         // Set metrics
         reliability.setCronbachAlpha(alpha);
-        reliability.setContributingCompetencies(mappedCompetencies.size());
-        reliability.setTotalItems(allItems.size());
-        reliability.setSampleSize(aggregatedScores.size());
-        reliability.setReliabilityStatus(determineReliabilityStatus(alpha, aggregatedScores.size(), allItems.size()));
+        reliability.setContributingCompetencies(competencyIds.size());
+        reliability.setTotalItems(matrix.itemCount());
+        reliability.setSampleSize(matrix.sessionCount());
+        reliability.setReliabilityStatus(determineReliabilityStatus(alpha, matrix.sessionCount(), matrix.itemCount()));
         reliability.setLastCalculatedAt(LocalDateTime.now());
+        publishTraitStatusChange(trait, previousStatus, reliability.getReliabilityStatus());
 
         logger.info("Big Five reliability calculated for {}: alpha={}, competencies={}, items={}",
-                trait, alpha, mappedCompetencies.size(), allItems.size());
+                trait, alpha, competencyIds.size(), matrix.itemCount());
 
         return bigFiveReliabilityRepository.save(reliability);
     }
 
-    /**
-     * Find competencies mapped to a specific Big Five trait via standardCodes.
-     */
-    private List<Competency> findCompetenciesByBigFiveTrait(BigFiveTrait trait) {
-        return competencyRepository.findAll().stream()
-                .filter(c -> {
-                    if (c.getStandardCodes() == null || c.getStandardCodes().bigFiveRef() == null) {
-                        return false;
-                    }
-                    String competencyTrait = c.getStandardCodes().bigFiveRef().trait();
-                    return trait.name().equalsIgnoreCase(competencyTrait);
-                })
-                .collect(Collectors.toList());
+    private void publishTraitStatusChange(BigFiveTrait trait, ReliabilityStatus previousStatus,
+                                          ReliabilityStatus newStatus) {
+        if (previousStatus != newStatus) {
+            eventPublisher.publishEvent(PsychometricStatusChangedEvent.forTrait(trait, previousStatus, newStatus));
+        }
     }
 
-    /**
-     * Calculate Cronbach's Alpha from a pre-built score matrix.
-     */
-    private BigDecimal calculateAlphaFromMatrix(
-            Map<UUID, Map<UUID, BigDecimal>> sessionScores,
-            Set<UUID> allQuestions) {
+    // ============================================
+    // BATCH OPERATIONS
+    // ============================================
 
-        int k = allQuestions.size();
-        if (k < 2 || sessionScores.size() < MIN_RESPONSES) {
-            return null;
-        }
+    @Override
+    public List<ItemStatistics> recalculateAllItems() {
+        return recalculateItemsWithMinimumResponses(MIN_RESPONSES);
+    }
 
-        List<UUID> questionList = new ArrayList<>(allQuestions);
+    @Override
+    public List<ItemStatistics> recalculateItemsWithMinimumResponses(int minResponses) {
+        logger.info("Starting bulk recalculation for items with >= {} responses", minResponses);
+        var startTime = System.currentTimeMillis();
 
-        // Filter to complete responses
-        List<Map<UUID, BigDecimal>> completeScores = sessionScores.values().stream()
-                .filter(scores -> scores.size() >= k * 0.8) // Allow 80% completion for trait-level
-                .collect(Collectors.toList());
+        // Counts, difficulty and item-total moments of every eligible question in one pass
+        List<Object[]> aggregates = testAnswerRepository.aggregateItemStatistics(minResponses);
+        List<ItemStatistics> results = new ArrayList<>(aggregates.size());
 
-        if (completeScores.size() < MIN_RESPONSES) {
-            return null;
+        for (int from = 0; from < aggregates.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, aggregates.size());
+            results.addAll(recalculateFromAggregates(aggregates.subList(from, to)));
+            logger.info("Bulk progress: {}/{} questions recalculated", to, aggregates.size());
         }
 
-        BigDecimal nDecimal = BigDecimal.valueOf(completeScores.size());
-
-        // Calculate item variances
-        BigDecimal sumItemVariances = BigDecimal.ZERO;
-        for (UUID questionId : questionList) {
-            BigDecimal sum = BigDecimal.ZERO;
-            int validCount = 0;
-            for (Map<UUID, BigDecimal> scores : completeScores) {
-                BigDecimal score = scores.get(questionId);
-                if (score != null) {
-                    sum = sum.add(score);
-                    validCount++;
-                }
-            }
-
-            if (validCount == 0) continue;
+        logger.info("Bulk recalculation complete: {} questions in {}ms",
+                results.size(), System.currentTimeMillis() - startTime);
 
-            BigDecimal mean = sum.divide(BigDecimal.valueOf(validCount), MATH_CONTEXT);
-
-            BigDecimal variance = BigDecimal.ZERO;
-            for (Map<UUID, BigDecimal> scores : completeScores) {
-                BigDecimal score = scores.get(questionId);
-                if (score != null) {
-                    BigDecimal diff = score.subtract(mean);
-                    variance = variance.add(diff.multiply(diff));
-                }
-            }
-            variance = variance.divide(BigDecimal.valueOf(validCount), MATH_CONTEXT);
-            sumItemVariances = sumItemVariances.add(variance);
-        }
+        return results;
+    }
 
-        // Calculate total variance
-        BigDecimal totalMean = BigDecimal.ZERO;
-        List<BigDecimal> totalScores = new ArrayList<>();
+    /**
+     * Apply one chunk of aggregate rows: statistics and distractor distributions are
+     * loaded with one query each, and the chunk is saved in JDBC batches
+     * (hibernate.jdbc.batch_size), inserting statistics of new questions.
+     */
+    private List<ItemStatistics> recalculateFromAggregates(List<Object[]> aggregates) {
+        List<UUID> questionIds = aggregates.stream().map(row -> (UUID) row[0]).toList();
 
-        for (Map<UUID, BigDecimal> scores : completeScores) {
-            BigDecimal total = questionList.stream()
-                    .map(q -> scores.getOrDefault(q, BigDecimal.ZERO))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            totalScores.add(total);
-            totalMean = totalMean.add(total);
-        }
-        totalMean = totalMean.divide(nDecimal, MATH_CONTEXT);
+        Map<UUID, ItemStatistics> existing = itemStatisticsRepository.findByQuestion_IdIn(questionIds).stream()
+                .collect(Collectors.toMap(ItemStatistics::getQuestionId, stats -> stats));
 
-        BigDecimal totalVariance = BigDecimal.ZERO;
-        for (BigDecimal total : totalScores) {
-            BigDecimal diff = total.subtract(totalMean);
-            totalVariance = totalVariance.add(diff.multiply(diff));
+        Map<UUID, List<Object[]>> distributions = new HashMap<>();
+        for (Object[] row : testAnswerRepository.getDistractorDistributions(questionIds)) {
+            distributions.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add(new Object[]{row[1], row[2]});
         }
-        totalVariance = totalVariance.divide(nDecimal, MATH_CONTEXT);
 
-        if (totalVariance.compareTo(BigDecimal.ZERO) == 0) {
-            return null;
+        List<ItemStatistics> updated = new ArrayList<>(aggregates.size());
+        for (Object[] row : aggregates) {
+            UUID questionId = (UUID) row[0];
+            ItemStatistics stats = existing.get(questionId);
+            if (stats == null) {
+                stats = new ItemStatistics(assessmentQuestionRepository.getReferenceById(questionId));
+            }
+            applyAggregates(stats, row, distributions.getOrDefault(questionId, List.of()));
+            updated.add(stats);
         }
 
-        BigDecimal kDecimal = BigDecimal.valueOf(k);
-        BigDecimal kMinus1 = BigDecimal.valueOf(k - 1);
-        BigDecimal factor = kDecimal.divide(kMinus1, MATH_CONTEXT);
-        BigDecimal varianceRatio = sumItemVariances.divide(totalVariance, MATH_CONTEXT);
-
-        return factor.multiply(BigDecimal.ONE.subtract(varianceRatio)).setScale(SCALE, RoundingMode.HALF_UP);
+        return itemStatisticsRepository.saveAll(updated);
     }
 
-    // ============================================
-    // BATCH OPERATIONS
-    // ============================================
+    /**
+     * Equivalent of recalculateFromAnswers for a row of
+     * TestAnswerRepository#aggregateItemStatistics: the running statistics are seeded
+     * from the pair moments, from which discrimination follows.
+     */
+    private void applyAggregates(ItemStatistics stats, Object[] row, List<Object[]> distribution) {
+        // Store previous discrimination for trend analysis
+        if (stats.getDiscriminationIndex() != null) {
+            stats.setPreviousDiscriminationIndex(stats.getDiscriminationIndex());
+        }
 
-    @Override
-    public List<ItemStatistics> recalculateAllItems() {
-        return recalculateItemsWithMinimumResponses(MIN_RESPONSES);
-    }
+        long pairCount = ((Number) row[3]).longValue();
+        stats.seedRunningStatistics(pairCount,
+                doubleOrZero(row[4]), doubleOrZero(row[5]),
+                doubleOrZero(row[6]), doubleOrZero(row[7]), doubleOrZero(row[8]));
 
-    @Override
-    public List<ItemStatistics> recalculateItemsWithMinimumResponses(int minResponses) {
-        logger.info("Starting batch recalculation for items with >= {} responses", minResponses);
-
-        List<AssessmentQuestion> questions = assessmentQuestionRepository.findAll();
-        List<ItemStatistics> results = new ArrayList<>();
-
-        int processed = 0;
-        int updated = 0;
-
-        for (AssessmentQuestion question : questions) {
-            long responseCount = testAnswerRepository.countByQuestion_Id(question.getId());
-
-            if (responseCount >= minResponses) {
-                try {
-                    ItemStatistics stats = calculateItemStatistics(question.getId());
-                    results.add(stats);
-                    updated++;
-                } catch (Exception e) {
-                    logger.error("Error calculating statistics for question {}: {}",
-                            question.getId(), e.getMessage());
-                }
-            }
-            processed++;
+        long responseCount = ((Number) row[1]).longValue();
+        stats.setResponseCount((int) responseCount);
 
-            if (processed % 100 == 0) {
-                logger.info("Batch progress: {}/{} questions processed, {} updated",
-                        processed, questions.size(), updated);
-            }
+        if (responseCount < MIN_RESPONSES) {
+            applyInsufficientResponses(stats, responseCount);
+            return;
         }
 
-        logger.info("Batch recalculation complete: {} questions processed, {} updated",
-                processed, updated);
+        BigDecimal difficulty = row[2] != null
+                ? BigDecimal.valueOf(((Number) row[2]).doubleValue()).setScale(SCALE, RoundingMode.HALF_UP)
+                : null;
+        Double discrimination = pairCount >= MIN_RESPONSES ? stats.getRunningDiscrimination() : null;
 
-        return results;
+        applyMetrics(stats,
+                difficulty,
+                discrimination != null ? BigDecimal.valueOf(discrimination).setScale(SCALE, RoundingMode.HALF_UP) : null,
+                distractorEfficiency(distribution));
+    }
+
+    private static double doubleOrZero(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
     }
 
     @Override
@@ -841,6 +730,18 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
         logger.info("Item {} activated", questionId);
     }
 
+    @Override
+    public ItemStatistics overrideItemStatus(UUID questionId, ItemValidityStatus newStatus, String reason) {
+        ItemStatistics stats = itemStatisticsRepository.findByQuestion_Id(questionId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No statistics found for question: " + questionId));
+
+        updateStatusWithHistory(stats, newStatus, reason);
+
+        logger.info("Item {} status overridden to {}", questionId, newStatus);
+        return itemStatisticsRepository.save(stats);
+    }
+
     // ============================================
     // HEALTH REPORTING
     // ============================================
@@ -850,26 +751,23 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
     public PsychometricHealthReport generateHealthReport() {
         logger.debug("Generating psychometric health report");
 
-        // Item statistics counts
-        int totalItems = (int) itemStatisticsRepository.count();
-        int activeItems = (int) itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.ACTIVE);
-        int probationItems = (int) itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.PROBATION);
-        int flaggedItems = (int) itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.FLAGGED_FOR_REVIEW);
-        int retiredItems = (int) itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.RETIRED);
-
-        // Competency reliability counts
-        int totalCompetencies = (int) competencyReliabilityRepository.count();
-        int reliableCompetencies = (int) competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.RELIABLE);
-        int acceptableCompetencies = (int) competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.ACCEPTABLE);
-        int unreliableCompetencies = (int) competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.UNRELIABLE);
-        int insufficientDataCompetencies = (int) competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.INSUFFICIENT_DATA);
-
-        // Average metrics
-        Double avgAlpha = competencyReliabilityRepository.calculateAverageAlpha();
-        BigDecimal averageAlpha = avgAlpha != null ? BigDecimal.valueOf(avgAlpha).setScale(SCALE, RoundingMode.HALF_UP) : null;
-
-        // Calculate average discrimination from item statistics
-        BigDecimal averageDiscrimination = calculateAverageDiscrimination();
+        // Item status counts and average discrimination (one aggregate)
+        Object[] items = singleRow(itemStatisticsRepository.getHealthAggregates());
+        int totalItems = intOrZero(items[0]);
+        int activeItems = intOrZero(items[1]);
+        int probationItems = intOrZero(items[2]);
+        int flaggedItems = intOrZero(items[3]);
+        int retiredItems = intOrZero(items[4]);
+        BigDecimal averageDiscrimination = scaledOrNull(items[5]);
+
+        // Competency status counts and average alpha (one aggregate)
+        Object[] competencies = singleRow(competencyReliabilityRepository.getHealthAggregates());
+        int totalCompetencies = intOrZero(competencies[0]);
+        int reliableCompetencies = intOrZero(competencies[1]);
+        int acceptableCompetencies = intOrZero(competencies[2]);
+        int unreliableCompetencies = intOrZero(competencies[3]);
+        int insufficientDataCompetencies = intOrZero(competencies[4]);
+        BigDecimal averageAlpha = scaledOrNull(competencies[5]);
 
         // Top flagged items
         List<FlaggedItemSummary> topFlaggedItems = getTopFlaggedItems(10);
@@ -1078,6 +976,9 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
 
     /**
      * Update status with audit history tracking.
+     * Every transition marks the dashboard health report stale; transitions into or
+     * out of RETIRED also change assembly eligibility, so the question pool index is
+     * notified for those.
      */
     private void updateStatusWithHistory(ItemStatistics stats, ItemValidityStatus newStatus, String reason) {
         ItemValidityStatus oldStatus = stats.getValidityStatus();
@@ -1085,63 +986,43 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
         if (oldStatus != newStatus) {
             stats.addStatusChange(oldStatus, newStatus, LocalDateTime.now(), reason);
             stats.setValidityStatus(newStatus);
+            eventPublisher.publishEvent(PsychometricStatusChangedEvent.forItem(
+                    stats.getQuestionId(), oldStatus, newStatus));
+
+            if ((oldStatus == ItemValidityStatus.RETIRED || newStatus == ItemValidityStatus.RETIRED)
+                    && stats.getQuestion() != null) {
+                AssessmentQuestion question = stats.getQuestion();
+                eventPublisher.publishEvent(QuestionPoolChangedEvent.forQuestion(
+                        question.getBehavioralIndicatorId(), question.getId(),
+                        "validity status " + oldStatus + " -> " + newStatus));
+            }
         }
     }
 
     /**
-     * Calculate average discrimination index across all items.
+     * Single row of an aggregate query (an empty table still yields one row of zeros/nulls).
      */
-    private BigDecimal calculateAverageDiscrimination() {
-        List<ItemStatistics> allStats = itemStatisticsRepository.findAll();
-
-        if (allStats.isEmpty()) {
-            return null;
-        }
-
-        BigDecimal sum = BigDecimal.ZERO;
-        int count = 0;
-
-        for (ItemStatistics stats : allStats) {
-            if (stats.getDiscriminationIndex() != null) {
-                sum = sum.add(stats.getDiscriminationIndex());
-                count++;
-            }
-        }
+    private Object[] singleRow(List<Object[]> rows) {
+        return rows.isEmpty() ? new Object[6] : rows.get(0);
+    }
 
-        if (count == 0) {
-            return null;
-        }
+    private int intOrZero(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
 
-        return sum.divide(BigDecimal.valueOf(count), MATH_CONTEXT)
-                .setScale(SCALE, RoundingMode.HALF_UP);
+    private BigDecimal scaledOrNull(Object value) {
+        return value != null
+                ? BigDecimal.valueOf(((Number) value).doubleValue()).setScale(SCALE, RoundingMode.HALF_UP)
+                : null;
     }
 
     /**
      * Get top flagged items sorted by severity.
+     * Items flagged for review and items with critical or negative discrimination are
+     * loaded in one query together with their question, indicator and competency.
      */
     private List<FlaggedItemSummary> getTopFlaggedItems(int limit) {
-        List<ItemStatistics> flaggedItems = itemStatisticsRepository.findItemsRequiringReview();
-
-        // Also include problematic items
-        List<ItemStatistics> problematicItems = itemStatisticsRepository.findProblematicItems();
-
-        // Combine and deduplicate
-        Set<UUID> seenIds = new HashSet<>();
-        List<ItemStatistics> allFlagged = new ArrayList<>();
-
-        for (ItemStatistics item : flaggedItems) {
-            if (seenIds.add(item.getId())) {
-                allFlagged.add(item);
-            }
-        }
-        for (ItemStatistics item : problematicItems) {
-            if (seenIds.add(item.getId())) {
-                allFlagged.add(item);
-            }
-        }
-
-        // Convert to summaries and sort by severity
-        return allFlagged.stream()
+        return itemStatisticsRepository.findFlaggedItemsWithQuestion().stream()
                 .map(this::toFlaggedItemSummary)
                 .sorted((a, b) -> Integer.compare(b.getSeverityLevel(), a.getSeverityLevel()))
                 .limit(limit)
@@ -1173,6 +1054,8 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
 
     /**
      * Generate Big Five reliability summary.
+     * There is one row per trait, so averages and the lowest alpha are derived from the
+     * loaded rows rather than queried separately.
      */
     private PsychometricHealthReport.BigFiveReliabilitySummary generateBigFiveSummary() {
         List<BigFiveReliability> allTraits = bigFiveReliabilityRepository.findAll();
@@ -1188,13 +1071,18 @@ public class PsychometricAnalysisServiceImpl implements PsychometricAnalysisServ
                 .filter(t -> t.getReliabilityStatus() == ReliabilityStatus.INSUFFICIENT_DATA)
                 .count();
 
-        Double avgAlpha = bigFiveReliabilityRepository.calculateAverageAlpha();
-        BigDecimal averageAlpha = avgAlpha != null
-                ? BigDecimal.valueOf(avgAlpha).setScale(SCALE, RoundingMode.HALF_UP)
-                : null;
+        List<BigFiveReliability> withAlpha = allTraits.stream()
+                .filter(t -> t.getCronbachAlpha() != null)
+                .toList();
+
+        BigDecimal averageAlpha = withAlpha.isEmpty() ? null : scaledOrNull(withAlpha.stream()
+                .mapToDouble(t -> t.getCronbachAlpha().doubleValue())
+                .average()
+                .getAsDouble());
 
         // Find lowest alpha trait
-        Optional<BigFiveReliability> lowestTrait = bigFiveReliabilityRepository.findLowestAlphaTrait();
+        Optional<BigFiveReliability> lowestTrait = withAlpha.stream()
+                .min(Comparator.comparing(BigFiveReliability::getCronbachAlpha));
         String lowestAlphaTrait = lowestTrait.map(t -> t.getTrait().name()).orElse(null);
         BigDecimal lowestAlphaValue = lowestTrait.map(BigFiveReliability::getCronbachAlpha).orElse(null);
 
@@ -60,6 +60,20 @@ public class CompetencyBatchLoader {
         }
 
         log.debug("Batch loading {} competencies for {} answers", competencyIds.size(), answers.size());
+        return loadCompetencies(competencyIds);
+    }
+
+    /**
+     * Batch load competencies by ID.
+     * Used when scoring from per-indicator tallies, where no answers are loaded.
+     *
+     * @param competencyIds The competency IDs to load
+     * @return Map of competency ID to Competency entity for O(1) lookups
+     */
+    public Map<UUID, Competency> loadCompetencies(Set<UUID> competencyIds) {
+        if (competencyIds == null || competencyIds.isEmpty()) {
+            return Map.of();
+        }
 
         // Delegate to resilient loader with circuit breaker protection
         Map<UUID, Competency> competencyMap = resilientCompetencyLoader.loadCompetencies(competencyIds);
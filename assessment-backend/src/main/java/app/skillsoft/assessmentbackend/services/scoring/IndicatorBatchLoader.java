@@ -60,6 +60,20 @@ public class IndicatorBatchLoader {
         }
 
         log.debug("Batch loading {} indicators for {} answers", indicatorIds.size(), answers.size());
+        return loadIndicators(indicatorIds);
+    }
+
+    /**
+     * Batch load indicators by ID in a single query, with their competencies.
+     * Used when scoring from per-indicator tallies, where no answers are loaded.
+     *
+     * @param indicatorIds The indicator IDs to load
+     * @return Map of indicator ID to BehavioralIndicator entity for O(1) lookups
+     */
+    public Map<UUID, BehavioralIndicator> loadIndicators(Set<UUID> indicatorIds) {
+        if (indicatorIds == null || indicatorIds.isEmpty()) {
+            return Map.of();
+        }
 
         try {
             List<BehavioralIndicator> indicators = indicatorRepository.findAllByIdWithCompetency(indicatorIds);
@@ -84,6 +98,20 @@ public class IndicatorBatchLoader {
         }
     }
 
+    /**
+     * Collect the competency IDs of preloaded indicators.
+     *
+     * @param indicatorCache The preloaded indicator map
+     * @return IDs of the indicators' competencies
+     */
+    public Set<UUID> extractCompetencyIds(Map<UUID, BehavioralIndicator> indicatorCache) {
+        return indicatorCache.values().stream()
+                .map(BehavioralIndicator::getCompetency)
+                .filter(Objects::nonNull)
+                .map(Competency::getId)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Safely extract indicator ID from a test answer with full null checks.
      * Navigates the entity chain: TestAnswer -> AssessmentQuestion -> BehavioralIndicator
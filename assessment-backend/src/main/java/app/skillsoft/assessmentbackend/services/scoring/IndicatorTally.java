@@ -0,0 +1,35 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import java.util.UUID;
+
+/**
+ * Sum of normalized answer scores (0-1 each) and number of counted answers for one
+ * behavioral indicator of a session.
+ *
+ * This is the first aggregation level of every scoring strategy: the indicator's
+ * maximum score equals its answer count.
+ *
+ * @param indicatorId The behavioral indicator
+ * @param scoreSum    Sum of normalized scores of counted answers
+ * @param answerCount Number of counted (answered, not skipped) answers
+ */
+public record IndicatorTally(UUID indicatorId, double scoreSum, int answerCount) {
+
+    /**
+     * Tally of an answer that does not count towards the indicator.
+     */
+    public static IndicatorTally empty(UUID indicatorId) {
+        return new IndicatorTally(indicatorId, 0.0, 0);
+    }
+
+    /**
+     * Tally of a single counted answer.
+     */
+    public static IndicatorTally ofAnswer(UUID indicatorId, double normalizedScore) {
+        return new IndicatorTally(indicatorId, normalizedScore, 1);
+    }
+
+    public IndicatorTally plus(double scoreDelta, int countDelta) {
+        return new IndicatorTally(indicatorId, scoreSum + scoreDelta, answerCount + countDelta);
+    }
+}
@@ -0,0 +1,181 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Admin-triggered background job that re-ranks the percentiles of whole template histories.
+ *
+ * Each template is re-ranked by a single window-function UPDATE in its own transaction
+ * (see {@link TestResultRepository#rerankPercentilesByTemplateId}), writing only the rows
+ * whose percentile changed. A run covers one template, or every template with scored
+ * results, walked in ID-ordered chunks of rerank-batch-size templates.
+ *
+ * One run at a time per node; progress is exposed through {@link #status()}.
+ */
+@Component
+public class PercentileRerankJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PercentileRerankJob.class);
+
+    private static final UUID FIRST_TEMPLATE_ID = new UUID(0L, 0L);
+
+    private final TestResultRepository resultRepository;
+    private final TaskExecutor executor;
+    private final int templateBatchSize;
+
+    private final AtomicReference<RerankStatus> status = new AtomicReference<>(RerankStatus.idle());
+
+    @Autowired
+    public PercentileRerankJob(
+            TestResultRepository resultRepository,
+            @Value("${skillsoft.scoring.percentile.rerank-batch-size:100}") int templateBatchSize) {
+        this(resultRepository, createExecutor(), templateBatchSize);
+    }
+
+    PercentileRerankJob(TestResultRepository resultRepository, TaskExecutor executor, int templateBatchSize) {
+        this.resultRepository = resultRepository;
+        this.executor = executor;
+        this.templateBatchSize = templateBatchSize;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("percentile-rerank-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Progress of the current or last re-rank run.
+     *
+     * @param state              IDLE until the first run on this node
+     * @param templateId         Template being re-ranked, null for all templates
+     * @param templatesProcessed Templates re-ranked so far
+     * @param resultsUpdated     Results whose percentile changed
+     * @param startedAt          Start of the run
+     * @param finishedAt         End of the run, null while running
+     * @param error              Failure message of a FAILED run
+     */
+    public record RerankStatus(
+            State state,
+            UUID templateId,
+            int templatesProcessed,
+            long resultsUpdated,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String error
+    ) {
+        public enum State { IDLE, RUNNING, COMPLETED, FAILED }
+
+        static RerankStatus idle() {
+            return new RerankStatus(State.IDLE, null, 0, 0, null, null, null);
+        }
+
+        static RerankStatus started(UUID templateId) {
+            return new RerankStatus(State.RUNNING, templateId, 0, 0, LocalDateTime.now(), null, null);
+        }
+
+        RerankStatus progress(int templatesProcessed, long resultsUpdated) {
+            return new RerankStatus(state, templateId, templatesProcessed, resultsUpdated, startedAt, null, null);
+        }
+
+        RerankStatus finished(State state, String error) {
+            return new RerankStatus(state, templateId, templatesProcessed, resultsUpdated,
+                    startedAt, LocalDateTime.now(), error);
+        }
+
+        public boolean isRunning() {
+            return state == State.RUNNING;
+        }
+    }
+
+    /**
+     * Start re-ranking one template, or every template with scored results.
+     *
+     * @param templateId Template to re-rank, null for all templates
+     * @return Status of the started run, or empty if a run is already in progress
+     */
+    public Optional<RerankStatus> start(UUID templateId) {
+        RerankStatus current = status.get();
+        if (current.isRunning()) {
+            return Optional.empty();
+        }
+        RerankStatus started = RerankStatus.started(templateId);
+        if (!status.compareAndSet(current, started)) {
+            return Optional.empty();
+        }
+
+        log.info("Starting percentile re-rank of {}", templateId != null ? "template " + templateId : "all templates");
+        try {
+            executor.execute(() -> run(templateId));
+        } catch (RuntimeException e) {
+            status.set(started.finished(RerankStatus.State.FAILED, e.getMessage()));
+            throw e;
+        }
+        return Optional.of(started);
+    }
+
+    /**
+     * Status of the current or last run.
+     */
+    public RerankStatus status() {
+        return status.get();
+    }
+
+    void run(UUID templateId) {
+        try {
+            if (templateId != null) {
+                rerank(templateId);
+            } else {
+                UUID afterId = FIRST_TEMPLATE_ID;
+                List<UUID> chunk;
+                do {
+                    chunk = resultRepository.findScoredTemplateIdsAfter(afterId, templateBatchSize);
+                    for (UUID id : chunk) {
+                        rerank(id);
+                    }
+                    if (!chunk.isEmpty()) {
+                        afterId = chunk.get(chunk.size() - 1);
+                    }
+                } while (chunk.size() == templateBatchSize);
+            }
+            RerankStatus finished = status.updateAndGet(s -> s.finished(RerankStatus.State.COMPLETED, null));
+            log.info("Percentile re-rank completed: {} templates, {} results updated",
+                    finished.templatesProcessed(), finished.resultsUpdated());
+        } catch (RuntimeException e) {
+            log.error("Percentile re-rank failed", e);
+            status.updateAndGet(s -> s.finished(RerankStatus.State.FAILED, e.getMessage()));
+        }
+    }
+
+    private void rerank(UUID templateId) {
+        int updated = resultRepository.rerankPercentilesByTemplateId(templateId);
+        log.debug("Re-ranked template {}: {} percentiles changed", templateId, updated);
+        status.updateAndGet(s -> s.progress(s.templatesProcessed() + 1, s.resultsUpdated() + updated));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
+import app.skillsoft.assessmentbackend.domain.dto.IndicatorScoreDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indicator and competency totals of one session, accumulated by ScoringKernel
+ * over the slots of a ScoringPlan.
+ *
+ * Each normalized answer scores 0-1, so the maximum score of an indicator or
+ * competency equals its answer count.
+ */
+public final class PlanScores {
+
+    private final ScoringPlan plan;
+
+    private final double[] indicatorScore;
+    private final int[] indicatorAnswers;
+    private final double[] competencyScore;
+    private final int[] competencyAnswers;
+
+    private int[] scoredCompetencies;
+    private int scoredIndicatorCount;
+
+    PlanScores(ScoringPlan plan) {
+        this.plan = plan;
+        this.indicatorScore = new double[plan.indicatorCount()];
+        this.indicatorAnswers = new int[plan.indicatorCount()];
+        this.competencyScore = new double[plan.competencyCount()];
+        this.competencyAnswers = new int[plan.competencyCount()];
+    }
+
+    void addToIndicator(int indicatorSlot, double scoreSum, int answerCount) {
+        indicatorScore[indicatorSlot] += scoreSum;
+        indicatorAnswers[indicatorSlot] += answerCount;
+    }
+
+    /**
+     * Roll indicator totals up to their competencies. Called once, after accumulation.
+     */
+    void rollUp() {
+        int[] scored = new int[plan.competencyCount()];
+        int scoredCount = 0;
+        for (int i = 0; i < indicatorAnswers.length; i++) {
+            if (indicatorAnswers[i] == 0) {
+                continue;
+            }
+            scoredIndicatorCount++;
+            int competency = plan.competencyOfIndicator(i);
+            if (competency < 0) {
+                continue;
+            }
+            if (competencyAnswers[competency] == 0) {
+                scored[scoredCount++] = competency;
+            }
+            competencyScore[competency] += indicatorScore[i];
+            competencyAnswers[competency] += indicatorAnswers[i];
+        }
+        scoredCompetencies = Arrays.copyOf(scored, scoredCount);
+        Arrays.sort(scoredCompetencies);
+    }
+
+    public ScoringPlan plan() {
+        return plan;
+    }
+
+    /**
+     * Slots of the competencies with at least one counted answer, in plan order.
+     */
+    public int[] scoredCompetencies() {
+        return scoredCompetencies;
+    }
+
+    /**
+     * Number of indicators with at least one counted answer.
+     */
+    public int scoredIndicatorCount() {
+        return scoredIndicatorCount;
+    }
+
+    public double competencyScore(int competencySlot) {
+        return competencyScore[competencySlot];
+    }
+
+    public int competencyAnswers(int competencySlot) {
+        return competencyAnswers[competencySlot];
+    }
+
+    /**
+     * Mean normalized score of the competency (0-1).
+     */
+    public double competencyAverage(int competencySlot) {
+        int answers = competencyAnswers[competencySlot];
+        return answers > 0 ? competencyScore[competencySlot] / answers : 0.0;
+    }
+
+    public double competencyPercentage(int competencySlot) {
+        return competencyAverage(competencySlot) * 100.0;
+    }
+
+    /**
+     * Score breakdown of a competency with its scored indicators nested.
+     * Strategies add goal-specific fields such as questionsCorrect.
+     */
+    public CompetencyScoreDto toDto(int competencySlot) {
+        List<IndicatorScoreDto> indicatorScores = new ArrayList<>();
+        for (int p = plan.indicatorsStart(competencySlot); p < plan.indicatorsEnd(competencySlot); p++) {
+            int indicator = plan.indicatorAt(p);
+            if (indicatorAnswers[indicator] > 0) {
+                indicatorScores.add(indicatorDto(indicator));
+            }
+        }
+
+        CompetencyScoreDto dto = new CompetencyScoreDto();
+        dto.setCompetencyId(plan.competencyId(competencySlot));
+        dto.setCompetencyName(plan.competencyName(competencySlot));
+        dto.setScore(competencyScore[competencySlot]);
+        dto.setMaxScore((double) competencyAnswers[competencySlot]);
+        dto.setPercentage(competencyPercentage(competencySlot));
+        dto.setQuestionsAnswered(competencyAnswers[competencySlot]);
+        dto.setOnetCode(plan.onetCode(competencySlot));
+        dto.setIndicatorScores(indicatorScores);
+        return dto;
+    }
+
+    private IndicatorScoreDto indicatorDto(int indicatorSlot) {
+        int answers = indicatorAnswers[indicatorSlot];
+
+        IndicatorScoreDto dto = new IndicatorScoreDto();
+        dto.setIndicatorId(plan.indicatorId(indicatorSlot));
+        dto.setIndicatorTitle(plan.indicatorTitle(indicatorSlot));
+        dto.setWeight(plan.indicatorWeight(indicatorSlot));
+        dto.setScore(indicatorScore[indicatorSlot]);
+        dto.setMaxScore((double) answers);
+        dto.setPercentage(indicatorScore[indicatorSlot] / answers * 100.0);
+        dto.setQuestionsAnswered(answers);
+        return dto;
+    }
+}
@@ -0,0 +1,353 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.events.scoring.ResultsRescoredEvent;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.ScoringOrchestrationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Admin-triggered background job that recomputes the stored results of a template after
+ * scoring weights, thresholds or the question pool changed.
+ *
+ * - Keyset: the template's COMPLETED results are walked in ID order, one page of
+ *   parallelism x chunk-size result IDs at a time, so no offset scans and no full load
+ * - Chunks: each page is split into chunks that run on a bounded pool of parallelism
+ *   threads; a chunk is one call to {@link ScoringOrchestrationService#rescoreResults},
+ *   i.e. one transaction with one result query, one answer query and batched updates
+ * - Scoring: the same {@link ScoringStrategy} implementations as live scoring, sharing the
+ *   template's cached scoring plan across the whole run
+ * - Percentiles: re-ranked once at the end with a single statement
+ *   ({@link TestResultRepository#rerankPercentilesByTemplateId}), not per result
+ * - Derived data: one {@link ResultsRescoredEvent} at the end of a run (team profiles are
+ *   rebuilt from it), since re-scored results publish no per-result events
+ * - Dry run: changes are computed and reported without writing anything
+ * - Metrics: results per outcome (test.scoring.rescore.results) and chunk duration
+ *   (test.scoring.rescore.chunk.duration); progress and throughput through {@link #status()}
+ *
+ * One run at a time per node. A failed chunk is counted and skipped.
+ */
+@Component
+public class ResultRescoreJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultRescoreJob.class);
+
+    private static final UUID FIRST_RESULT_ID = new UUID(0L, 0L);
+
+    private final TestResultRepository resultRepository;
+    private final ScoringOrchestrationService scoringService;
+    private final TemplateScoreIndex scoreIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor coordinator;
+    private final TaskExecutor executor;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int sampleSize;
+    private final Counter changedResults;
+    private final Counter unchangedResults;
+    private final Counter failedResults;
+    private final Timer chunkDuration;
+
+    private final AtomicReference<RescoreStatus> status = new AtomicReference<>(RescoreStatus.idle());
+
+    @Autowired
+    public ResultRescoreJob(
+            TestResultRepository resultRepository,
+            ScoringOrchestrationService scoringService,
+            TemplateScoreIndex scoreIndex,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${skillsoft.scoring.rescore.parallelism:4}") int parallelism,
+            @Value("${skillsoft.scoring.rescore.chunk-size:100}") int chunkSize,
+            @Value("${skillsoft.scoring.rescore.sample-size:20}") int sampleSize) {
+        this(resultRepository, scoringService, scoreIndex, eventPublisher, meterRegistry, createCoordinator(),
+                createExecutor(parallelism), parallelism, chunkSize, sampleSize);
+    }
+
+    ResultRescoreJob(
+            TestResultRepository resultRepository,
+            ScoringOrchestrationService scoringService,
+            TemplateScoreIndex scoreIndex,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            TaskExecutor coordinator,
+            TaskExecutor executor,
+            int parallelism,
+            int chunkSize,
+            int sampleSize) {
+        this.resultRepository = resultRepository;
+        this.scoringService = scoringService;
+        this.scoreIndex = scoreIndex;
+        this.eventPublisher = eventPublisher;
+        this.coordinator = coordinator;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.sampleSize = sampleSize;
+        this.changedResults = resultCounter(meterRegistry, "changed");
+        this.unchangedResults = resultCounter(meterRegistry, "unchanged");
+        this.failedResults = resultCounter(meterRegistry, "failed");
+        this.chunkDuration = Timer.builder("test.scoring.rescore.chunk.duration")
+                .description("Time taken to re-score one chunk of results")
+                .register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("test.scoring.rescore.results")
+                .description("Results processed by bulk re-scoring")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static ThreadPoolTaskExecutor createCoordinator() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("result-rescore-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // Never more chunks than threads are submitted
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("result-rescore-chunk-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Progress of the current or last re-scoring run.
+     *
+     * @param state              IDLE until the first run on this node
+     * @param templateId         Template being re-scored
+     * @param dryRun             Whether changes are only reported
+     * @param resultsProcessed   Results re-scored or failed so far
+     * @param resultsChanged     Results whose overall percentage or pass/fail outcome changed
+     * @param resultsFailed      Results that could not be re-scored
+     * @param passFlips          Changed results whose pass/fail outcome flipped
+     * @param maxDelta           Largest change of an overall percentage, in percentage points
+     * @param percentilesUpdated Results whose percentile changed in the final re-rank
+     * @param resultsPerSecond   Throughput of the run so far
+     * @param largestChanges     Up to sample-size changes with the largest delta
+     * @param startedAt          Start of the run
+     * @param finishedAt         End of the run, null while running
+     * @param error              Failure message of a FAILED run
+     */
+    public record RescoreStatus(
+            State state,
+            UUID templateId,
+            boolean dryRun,
+            long resultsProcessed,
+            long resultsChanged,
+            long resultsFailed,
+            long passFlips,
+            double maxDelta,
+            long percentilesUpdated,
+            double resultsPerSecond,
+            List<ScoreChange> largestChanges,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String error
+    ) {
+        public enum State { IDLE, RUNNING, COMPLETED, FAILED }
+
+        static RescoreStatus idle() {
+            return new RescoreStatus(State.IDLE, null, false, 0, 0, 0, 0, 0.0, 0, 0.0, List.of(),
+                    null, null, null);
+        }
+
+        static RescoreStatus started(UUID templateId, boolean dryRun) {
+            return new RescoreStatus(State.RUNNING, templateId, dryRun, 0, 0, 0, 0, 0.0, 0, 0.0, List.of(),
+                    LocalDateTime.now(), null, null);
+        }
+
+        RescoreStatus progress(List<ScoreChange> changes, int failed, int sampleSize) {
+            long changed = 0;
+            long flips = 0;
+            double delta = maxDelta;
+            List<ScoreChange> sample = new ArrayList<>(largestChanges);
+            for (ScoreChange change : changes) {
+                if (change.isChanged()) {
+                    changed++;
+                    sample.add(change);
+                    if (change.isPassFlipped()) {
+                        flips++;
+                    }
+                }
+                delta = Math.max(delta, change.delta());
+            }
+            sample.sort(Comparator.comparingDouble(ScoreChange::delta).reversed());
+            long processed = resultsProcessed + changes.size() + failed;
+            return new RescoreStatus(state, templateId, dryRun, processed, resultsChanged + changed,
+                    resultsFailed + failed, passFlips + flips, delta, percentilesUpdated,
+                    throughput(processed), List.copyOf(sample.subList(0, Math.min(sampleSize, sample.size()))),
+                    startedAt, null, null);
+        }
+
+        RescoreStatus reranked(long percentilesUpdated) {
+            return new RescoreStatus(state, templateId, dryRun, resultsProcessed, resultsChanged, resultsFailed,
+                    passFlips, maxDelta, percentilesUpdated, resultsPerSecond, largestChanges,
+                    startedAt, null, null);
+        }
+
+        RescoreStatus finished(State state, String error) {
+            return new RescoreStatus(state, templateId, dryRun, resultsProcessed, resultsChanged, resultsFailed,
+                    passFlips, maxDelta, percentilesUpdated, throughput(resultsProcessed), largestChanges,
+                    startedAt, LocalDateTime.now(), error);
+        }
+
+        private double throughput(long processed) {
+            long millis = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+            return millis > 0 ? processed * 1000.0 / millis : 0.0;
+        }
+
+        public boolean isRunning() {
+            return state == State.RUNNING;
+        }
+    }
+
+    /**
+     * Start re-scoring the completed results of a template.
+     *
+     * @param templateId Template whose results are re-scored
+     * @param dryRun     Report the changes without writing them
+     * @return Status of the started run, or empty if a run is already in progress
+     */
+    public Optional<RescoreStatus> start(UUID templateId, boolean dryRun) {
+        RescoreStatus current = status.get();
+        if (current.isRunning()) {
+            return Optional.empty();
+        }
+        RescoreStatus started = RescoreStatus.started(templateId, dryRun);
+        if (!status.compareAndSet(current, started)) {
+            return Optional.empty();
+        }
+
+        log.info("Starting {}re-scoring of template {}", dryRun ? "dry-run " : "", templateId);
+        try {
+            coordinator.execute(() -> run(templateId, dryRun));
+        } catch (RuntimeException e) {
+            status.set(started.finished(RescoreStatus.State.FAILED, e.getMessage()));
+            throw e;
+        }
+        return Optional.of(started);
+    }
+
+    /**
+     * Status of the current or last run.
+     */
+    public RescoreStatus status() {
+        return status.get();
+    }
+
+    void run(UUID templateId, boolean dryRun) {
+        int pageSize = parallelism * chunkSize;
+        try {
+            UUID afterId = FIRST_RESULT_ID;
+            List<UUID> page;
+            do {
+                page = resultRepository.findCompletedResultIdsByTemplateIdAfter(templateId, afterId, pageSize);
+                if (!page.isEmpty()) {
+                    processPage(page, dryRun);
+                    afterId = page.get(page.size() - 1);
+                }
+            } while (page.size() == pageSize);
+
+            if (!dryRun) {
+                int updated = resultRepository.rerankPercentilesByTemplateId(templateId);
+                scoreIndex.invalidate(templateId);
+                RescoreStatus reranked = status.updateAndGet(s -> s.reranked(updated));
+                eventPublisher.publishEvent(ResultsRescoredEvent.now(templateId, reranked.resultsProcessed()));
+            }
+
+            RescoreStatus finished = status.updateAndGet(s -> s.finished(RescoreStatus.State.COMPLETED, null));
+            log.info("Re-scoring of template {} completed: {} results, {} changed, {} failed, {} percentiles updated ({} results/s)",
+                    templateId, finished.resultsProcessed(), finished.resultsChanged(), finished.resultsFailed(),
+                    finished.percentilesUpdated(), String.format("%.1f", finished.resultsPerSecond()));
+        } catch (RuntimeException e) {
+            log.error("Re-scoring of template {} failed", templateId, e);
+            status.updateAndGet(s -> s.finished(RescoreStatus.State.FAILED, e.getMessage()));
+        }
+    }
+
+    /**
+     * Re-score a page in parallel chunks, wait for all of them and record the outcome.
+     */
+    private void processPage(List<UUID> page, boolean dryRun) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        List<CompletableFuture<List<ScoreChange>>> futures = new ArrayList<>();
+        for (int from = 0; from < page.size(); from += chunkSize) {
+            List<UUID> chunk = page.subList(from, Math.min(from + chunkSize, page.size()));
+            chunks.add(chunk);
+            futures.add(CompletableFuture.supplyAsync(() -> processChunk(chunk, dryRun), executor));
+        }
+
+        List<ScoreChange> changes = new ArrayList<>(page.size());
+        int failed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            List<ScoreChange> chunkChanges = futures.get(i).join();
+            changes.addAll(chunkChanges);
+            failed += chunks.get(i).size() - chunkChanges.size();
+        }
+
+        int pageFailed = failed;
+        status.updateAndGet(s -> s.progress(changes, pageFailed, sampleSize));
+    }
+
+    private List<ScoreChange> processChunk(List<UUID> chunk, boolean dryRun) {
+        Timer.Sample sample = Timer.start();
+        try {
+            List<ScoreChange> changes = scoringService.rescoreResults(chunk, dryRun);
+            for (ScoreChange change : changes) {
+                (change.isChanged() ? changedResults : unchangedResults).increment();
+            }
+            failedResults.increment(chunk.size() - changes.size());
+            return changes;
+        } catch (RuntimeException e) {
+            // The chunk's transaction rolled back, none of its results were written
+            log.warn("Re-scoring chunk of {} results failed: {}", chunk.size(), e.getMessage());
+            failedResults.increment(chunk.size());
+            return List.of();
+        } finally {
+            sample.stop(chunkDuration);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (coordinator instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Stored and recomputed score of one re-scored result.
+ *
+ * @param resultId           The re-scored result
+ * @param sessionId          Session of the result
+ * @param previousPercentage Overall percentage stored before re-scoring
+ * @param percentage         Recomputed overall percentage
+ * @param previousPassed     Pass flag stored before re-scoring
+ * @param passed             Recomputed pass flag
+ */
+public record ScoreChange(
+        UUID resultId,
+        UUID sessionId,
+        Double previousPercentage,
+        Double percentage,
+        Boolean previousPassed,
+        Boolean passed
+) {
+
+    /**
+     * Differences up to this many percentage points are floating-point drift, not a change.
+     */
+    public static final double TOLERANCE_PERCENT = 0.01;
+
+    /**
+     * Absolute difference between the recomputed and the stored overall percentage.
+     */
+    public double delta() {
+        double before = previousPercentage != null ? previousPercentage : 0.0;
+        double after = percentage != null ? percentage : 0.0;
+        return Math.abs(after - before);
+    }
+
+    /**
+     * Whether the pass/fail outcome flipped.
+     */
+    public boolean isPassFlipped() {
+        return !Objects.equals(previousPassed, passed);
+    }
+
+    /**
+     * Whether re-scoring changed the overall percentage or the pass/fail outcome.
+     */
+    public boolean isChanged() {
+        return delta() > TOLERANCE_PERCENT
+                || (previousPercentage == null) != (percentage == null)
+                || isPassFlipped();
+    }
+}
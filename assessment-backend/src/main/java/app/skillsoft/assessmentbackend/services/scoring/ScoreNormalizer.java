@@ -38,7 +38,22 @@ public class ScoreNormalizer {
             return 0.0;
         }
 
-        QuestionType questionType = getQuestionTypeSafe(answer);
+        return normalize(answer, getQuestionTypeSafe(answer));
+    }
+
+    /**
+     * Normalize raw answer score to 0-1 scale when the question type is already known,
+     * without navigating to the answer's question (used at answer submission time).
+     *
+     * @param answer       The test answer to normalize
+     * @param questionType Type of the answered question
+     * @return Normalized score (0-1), or 0.0 if no score available
+     */
+    public double normalize(TestAnswer answer, QuestionType questionType) {
+        if (answer == null || Boolean.TRUE.equals(answer.getIsSkipped())) {
+            return 0.0;
+        }
+
         if (questionType == null) {
             log.warn("Cannot determine question type for answer {}", answer.getId());
             return getScoreFallback(answer);
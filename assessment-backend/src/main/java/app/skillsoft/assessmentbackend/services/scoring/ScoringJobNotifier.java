@@ -0,0 +1,117 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes scoring job status changes to clients over Server-Sent Events.
+ *
+ * Workers publish every status change of the jobs they run. Jobs can finish on another
+ * node, so the final status of subscribed sessions is also polled from the database.
+ * Each stream ends with the first COMPLETED or FAILED status.
+ */
+@Component
+public class ScoringJobNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringJobNotifier.class);
+
+    static final String EVENT_NAME = "scoring-status";
+
+    private final ScoringJobQueue jobQueue;
+    private final long streamTimeoutMs;
+
+    private final Map<UUID, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public ScoringJobNotifier(
+            ScoringJobQueue jobQueue,
+            @Value("${skillsoft.scoring.jobs.stream-timeout-ms:120000}") long streamTimeoutMs) {
+        this.jobQueue = jobQueue;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    /**
+     * Open a status stream for a session, starting with its current status.
+     * The stream is completed right away if scoring has already finished.
+     */
+    public SseEmitter subscribe(ScoringJobDto current) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        if (!send(emitter, current) || current.isFinished()) {
+            emitter.complete();
+            return emitter;
+        }
+
+        UUID sessionId = current.sessionId();
+        emitters.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(sessionId, emitter));
+        emitter.onTimeout(() -> remove(sessionId, emitter));
+        emitter.onError(error -> remove(sessionId, emitter));
+        return emitter;
+    }
+
+    /**
+     * Send a status change to the subscribers of its session.
+     */
+    public void publish(ScoringJobDto status) {
+        List<SseEmitter> subscribers = status.isFinished()
+                ? emitters.remove(status.sessionId())
+                : emitters.get(status.sessionId());
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            if (!send(emitter, status) || status.isFinished()) {
+                emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * Deliver the final status of jobs finished on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.scoring.jobs.stream-poll-interval-ms:2000}")
+    public void pollSubscribedSessions() {
+        for (UUID sessionId : List.copyOf(emitters.keySet())) {
+            try {
+                jobQueue.findStatus(sessionId)
+                        .filter(ScoringJobDto::isFinished)
+                        .ifPresent(this::publish);
+            } catch (RuntimeException e) {
+                log.warn("Failed to poll scoring status of session {}", sessionId, e);
+            }
+        }
+    }
+
+    int subscriberCount(UUID sessionId) {
+        List<SseEmitter> subscribers = emitters.get(sessionId);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    private boolean send(SseEmitter emitter, ScoringJobDto status) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Scoring status stream of session {} closed: {}", status.sessionId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void remove(UUID sessionId, SseEmitter emitter) {
+        emitters.computeIfPresent(sessionId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,244 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
+import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
+import app.skillsoft.assessmentbackend.domain.entities.ResultStatus;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJob;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus;
+import app.skillsoft.assessmentbackend.events.resilience.ResilienceFallbackEvent;
+import app.skillsoft.assessmentbackend.events.resilience.ResilienceRetryEvent;
+import app.skillsoft.assessmentbackend.repository.ScoringJobRepository;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.TestResultService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Durable queue of scoring jobs, backed by the scoring_jobs table.
+ *
+ * - enqueue: called in the transaction that finishes a session, so the job becomes
+ *   visible to workers exactly when the COMPLETED/TIMED_OUT status commits
+ * - claim: locks due jobs with SKIP LOCKED, so workers on several nodes share the queue
+ * - markFailed: re-queues with exponential backoff until max-attempts, then marks the
+ *   job and its PENDING result FAILED; publishes a ResilienceRetryEvent per re-queue and a
+ *   ResilienceFallbackEvent when giving up, counted under test.scoring.retry/fallback
+ * - recovery: re-queues jobs of crashed workers and queues PENDING results without a job
+ */
+@Service
+public class ScoringJobQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringJobQueue.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ScoringJobRepository jobRepository;
+    private final TestResultRepository resultRepository;
+    private final TestResultService resultService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int maxAttempts;
+    private final long retryBackoffSeconds;
+    private final long maxBackoffSeconds;
+
+    public ScoringJobQueue(
+            ScoringJobRepository jobRepository,
+            TestResultRepository resultRepository,
+            TestResultService resultService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${skillsoft.scoring.jobs.max-attempts:5}") int maxAttempts,
+            @Value("${skillsoft.scoring.jobs.retry-backoff-seconds:10}") long retryBackoffSeconds,
+            @Value("${skillsoft.scoring.jobs.max-backoff-seconds:600}") long maxBackoffSeconds) {
+        this.jobRepository = jobRepository;
+        this.resultRepository = resultRepository;
+        this.resultService = resultService;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+    }
+
+    /**
+     * Queue scoring of a finished session. Idempotent: returns the existing job if the
+     * session already has one queued or running.
+     */
+    @Transactional
+    public ScoringJobDto enqueue(UUID sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.insertIfNoActiveJob(UUID.randomUUID(), sessionId, now) == 1) {
+            log.debug("Queued scoring job for session {}", sessionId);
+        }
+        ScoringJob job = jobRepository.findFirstBySessionIdOrderByCreatedAtDesc(sessionId)
+                .orElseThrow(() -> new IllegalStateException("Scoring job was not created for session " + sessionId));
+        return ScoringJobDto.from(job, null);
+    }
+
+    /**
+     * Queue scoring of a batch of finished sessions, skipping sessions that already
+     * have a job queued or running.
+     *
+     * @return Number of queued jobs
+     */
+    @Transactional
+    public int enqueueAll(Collection<UUID> sessionIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int queued = 0;
+        for (UUID sessionId : sessionIds) {
+            queued += jobRepository.insertIfNoActiveJob(UUID.randomUUID(), sessionId, now);
+        }
+        log.debug("Queued {} scoring jobs for {} sessions", queued, sessionIds.size());
+        return queued;
+    }
+
+    /**
+     * Claim up to {@code max} due jobs for this worker, marking them RUNNING.
+     */
+    @Transactional
+    public List<ScoringJob> claim(int max) {
+        if (max <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = jobRepository.lockDueJobIds(now, max);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        jobRepository.markRunning(ids, now);
+        return jobRepository.findAllById(ids);
+    }
+
+    /**
+     * Put a claimed job that could not be started back in the queue, without counting
+     * the attempt.
+     */
+    @Transactional
+    public ScoringJobDto release(UUID jobId) {
+        ScoringJob job = getJob(jobId);
+        job.setStatus(ScoringJobStatus.QUEUED);
+        job.setAttempts(Math.max(0, job.getAttempts() - 1));
+        job.setNextAttemptAt(LocalDateTime.now());
+        return ScoringJobDto.from(jobRepository.save(job), null);
+    }
+
+    /**
+     * Record a successful attempt.
+     */
+    @Transactional
+    public ScoringJobDto markCompleted(UUID jobId, TestResultDto result) {
+        ScoringJob job = getJob(jobId);
+        job.setStatus(ScoringJobStatus.COMPLETED);
+        job.setResultId(result.id());
+        job.setCompletedAt(LocalDateTime.now());
+        job.setLastError(null);
+        return ScoringJobDto.from(jobRepository.save(job), result);
+    }
+
+    /**
+     * Record a failed attempt: re-queue with backoff, or give up after max-attempts.
+     */
+    @Transactional
+    public ScoringJobDto markFailed(UUID jobId, Throwable cause) {
+        ScoringJob job = getJob(jobId);
+        String error = cause.getMessage();
+        job.setLastError(truncate(error));
+
+        if (job.getAttempts() >= maxAttempts) {
+            job.setStatus(ScoringJobStatus.FAILED);
+            job.setCompletedAt(LocalDateTime.now());
+            resultRepository.updateStatusIfCurrent(job.getSessionId(), ResultStatus.PENDING, ResultStatus.FAILED);
+            log.error("Scoring job {} for session {} failed after {} attempts: {}",
+                    jobId, job.getSessionId(), job.getAttempts(), error);
+            eventPublisher.publishEvent(ResilienceFallbackEvent.forScoringFallback(
+                    job.getSessionId(), job.getAttempts(), cause));
+        } else {
+            job.setStatus(ScoringJobStatus.QUEUED);
+            job.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds(job.getAttempts())));
+            log.warn("Scoring job {} for session {} failed attempt {}/{}, retrying at {}: {}",
+                    jobId, job.getSessionId(), job.getAttempts(), maxAttempts, job.getNextAttemptAt(), error);
+            eventPublisher.publishEvent(ResilienceRetryEvent.forScoringRetry(
+                    job.getSessionId(), job.getAttempts(), maxAttempts, cause));
+        }
+        return ScoringJobDto.from(jobRepository.save(job), null);
+    }
+
+    /**
+     * Re-queue jobs left RUNNING for longer than the given time by a worker that stopped.
+     *
+     * @return Number of re-queued jobs
+     */
+    @Transactional
+    public int requeueStaleJobs(long staleAfterSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = jobRepository.requeueStaleJobs(now.minusSeconds(staleAfterSeconds), now);
+        if (requeued > 0) {
+            log.warn("Re-queued {} scoring jobs left running by a stopped worker", requeued);
+        }
+        return requeued;
+    }
+
+    /**
+     * Queue jobs for PENDING results that have none.
+     *
+     * @return Number of queued jobs
+     */
+    @Transactional
+    public int enqueueUnqueuedPendingResults(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        int queued = 0;
+        for (UUID sessionId : jobRepository.findSessionIdsWithUnqueuedPendingResults(limit)) {
+            queued += jobRepository.insertIfNoActiveJob(UUID.randomUUID(), sessionId, now);
+        }
+        if (queued > 0) {
+            log.info("Queued scoring jobs for {} PENDING results", queued);
+        }
+        return queued;
+    }
+
+    /**
+     * Scoring status of a session: its latest job, with the result once scored.
+     * Sessions scored before jobs existed are reported as COMPLETED.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ScoringJobDto> findStatus(UUID sessionId) {
+        Optional<ScoringJob> job = jobRepository.findFirstBySessionIdOrderByCreatedAtDesc(sessionId);
+        if (job.isPresent()) {
+            TestResultDto result = job.get().getStatus() == ScoringJobStatus.COMPLETED
+                    ? resultService.findBySessionId(sessionId).orElse(null)
+                    : null;
+            return Optional.of(ScoringJobDto.from(job.get(), result));
+        }
+        return resultService.findBySessionId(sessionId)
+                .filter(result -> result.status() == ResultStatus.COMPLETED)
+                .map(ScoringJobDto::scored);
+    }
+
+    /**
+     * Delay before retrying after the given number of failed attempts:
+     * retry-backoff-seconds doubled per attempt, capped at max-backoff-seconds.
+     */
+    long backoffSeconds(int attempts) {
+        int exponent = Math.max(0, Math.min(attempts - 1, 20));
+        return Math.min(maxBackoffSeconds, retryBackoffSeconds << exponent);
+    }
+
+    private ScoringJob getJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Scoring job not found: " + jobId));
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
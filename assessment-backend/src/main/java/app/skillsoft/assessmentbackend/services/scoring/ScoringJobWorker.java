@@ -0,0 +1,223 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
+import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
+import app.skillsoft.assessmentbackend.domain.entities.ResultStatus;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJob;
+import app.skillsoft.assessmentbackend.domain.entities.SessionStatus;
+import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
+import app.skillsoft.assessmentbackend.services.ActivityTrackingService;
+import app.skillsoft.assessmentbackend.services.ScoringOrchestrationService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the {@link ScoringJobQueue} with a bounded pool of scoring threads.
+ *
+ * - Dispatch: every poll, claims as many due jobs as there are idle threads, so a burst
+ *   of completions queues up in the database instead of in request threads
+ * - Attempt: scores the session through {@link ScoringOrchestrationService} (one attempt,
+ *   no in-thread retry); a PENDING result or an exception counts as a failed attempt and
+ *   is retried with backoff by the queue
+ * - Rejection: a claimed job the executor rejects (shutdown) is released back to the
+ *   queue and its thread slot freed
+ * - Recovery: periodically re-queues jobs of stopped workers and queues PENDING results
+ *   that have no job, so no result stays PENDING forever
+ */
+@Component
+public class ScoringJobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringJobWorker.class);
+
+    private final ScoringJobQueue jobQueue;
+    private final ScoringOrchestrationService scoringOrchestrationService;
+    private final ScoringJobNotifier notifier;
+    private final TestSessionRepository sessionRepository;
+    private final ActivityTrackingService activityTrackingService;
+    private final TaskExecutor executor;
+    private final int workerThreads;
+    private final long staleAfterSeconds;
+    private final int pendingBatchSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Autowired
+    public ScoringJobWorker(
+            ScoringJobQueue jobQueue,
+            ScoringOrchestrationService scoringOrchestrationService,
+            ScoringJobNotifier notifier,
+            TestSessionRepository sessionRepository,
+            ActivityTrackingService activityTrackingService,
+            @Value("${skillsoft.scoring.jobs.worker-threads:4}") int workerThreads,
+            @Value("${skillsoft.scoring.jobs.stale-after-seconds:300}") long staleAfterSeconds,
+            @Value("${skillsoft.scoring.jobs.pending-batch-size:100}") int pendingBatchSize) {
+        this(jobQueue, scoringOrchestrationService, notifier, sessionRepository, activityTrackingService,
+                createExecutor(workerThreads), workerThreads, staleAfterSeconds, pendingBatchSize);
+    }
+
+    ScoringJobWorker(
+            ScoringJobQueue jobQueue,
+            ScoringOrchestrationService scoringOrchestrationService,
+            ScoringJobNotifier notifier,
+            TestSessionRepository sessionRepository,
+            ActivityTrackingService activityTrackingService,
+            TaskExecutor executor,
+            int workerThreads,
+            long staleAfterSeconds,
+            int pendingBatchSize) {
+        this.jobQueue = jobQueue;
+        this.scoringOrchestrationService = scoringOrchestrationService;
+        this.notifier = notifier;
+        this.sessionRepository = sessionRepository;
+        this.activityTrackingService = activityTrackingService;
+        this.executor = executor;
+        this.workerThreads = workerThreads;
+        this.staleAfterSeconds = staleAfterSeconds;
+        this.pendingBatchSize = pendingBatchSize;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // Never more tasks than idle threads are submitted
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("scoring-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Periodic dispatch of due jobs.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.scoring.jobs.poll-interval-ms:500}")
+    public void scheduledDispatch() {
+        try {
+            dispatchJobs();
+        } catch (RuntimeException e) {
+            log.error("Failed to dispatch scoring jobs", e);
+        }
+    }
+
+    /**
+     * Claim due jobs for the idle scoring threads and start them.
+     *
+     * @return Number of jobs started
+     */
+    public int dispatchJobs() {
+        int idle = workerThreads - inFlight.get();
+        if (idle <= 0) {
+            return 0;
+        }
+
+        List<ScoringJob> jobs = jobQueue.claim(idle);
+        int started = 0;
+        for (ScoringJob job : jobs) {
+            inFlight.incrementAndGet();
+            notifier.publish(ScoringJobDto.from(job, null));
+            try {
+                executor.execute(() -> runJob(job));
+                started++;
+            } catch (RejectedExecutionException e) {
+                inFlight.decrementAndGet();
+                release(job, e);
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Return a claimed job the executor rejected to the queue, so it is not left RUNNING
+     * until stale recovery.
+     */
+    private void release(ScoringJob job, RejectedExecutionException cause) {
+        log.warn("Scoring executor rejected job {}, releasing it: {}", job.getId(), cause.getMessage());
+        try {
+            notifier.publish(jobQueue.release(job.getId()));
+        } catch (RuntimeException e) {
+            // Left RUNNING; re-queued by recovery once stale
+            log.error("Failed to release rejected scoring job {}", job.getId(), e);
+        }
+    }
+
+    /**
+     * Run one scoring attempt of a claimed job.
+     */
+    void runJob(ScoringJob job) {
+        try {
+            TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(job.getSessionId());
+            if (result.status() == ResultStatus.COMPLETED) {
+                ScoringJobDto completed = jobQueue.markCompleted(job.getId(), result);
+                recordCompletion(result);
+                notifier.publish(completed);
+            } else {
+                notifier.publish(jobQueue.markFailed(job.getId(),
+                        new IllegalStateException("Scoring left the result " + result.status())));
+            }
+        } catch (RuntimeException e) {
+            log.error("Scoring attempt failed for session {}", job.getSessionId(), e);
+            try {
+                // Keep a PENDING result until a later attempt scores it
+                scoringOrchestrationService.recordScoringFailure(job.getSessionId(), e);
+            } catch (RuntimeException recordError) {
+                log.warn("Failed to record PENDING result for session {}", job.getSessionId(), recordError);
+            }
+            try {
+                notifier.publish(jobQueue.markFailed(job.getId(), e));
+            } catch (RuntimeException markError) {
+                // Left RUNNING; re-queued by recovery once stale
+                log.error("Failed to record failed scoring attempt of job {}", job.getId(), markError);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Record the SESSION_COMPLETED activity event of an authenticated session, once it is scored.
+     */
+    private void recordCompletion(TestResultDto result) {
+        try {
+            sessionRepository.findByIdWithTemplate(result.sessionId())
+                    .filter(session -> session.getStatus() == SessionStatus.COMPLETED)
+                    .filter(session -> session.getClerkUserId() != null)
+                    .ifPresent(session -> activityTrackingService.recordSessionCompleted(
+                            session, result.overallPercentage(), result.passed()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record completion activity for session {}", result.sessionId(), e);
+        }
+    }
+
+    /**
+     * Periodic recovery of jobs left by stopped workers and PENDING results without a job.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.scoring.jobs.recovery-interval-ms:60000}")
+    public void recover() {
+        try {
+            jobQueue.requeueStaleJobs(staleAfterSeconds);
+            jobQueue.enqueueUnqueuedPendingResults(pendingBatchSize);
+        } catch (RuntimeException e) {
+            log.error("Scoring job recovery failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+}
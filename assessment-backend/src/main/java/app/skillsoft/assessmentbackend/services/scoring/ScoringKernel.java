@@ -0,0 +1,92 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.entities.TestAnswer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Shared first and second aggregation level of all scoring strategies.
+ *
+ * Accumulates a session into the indicator slots of a ScoringPlan and rolls them up to
+ * competency slots. Answers are resolved through the plan by question ID, so scoring
+ * never initializes the answer's question, indicator or competency.
+ *
+ * Strategies apply their goal-specific overall score on top of the returned PlanScores.
+ */
+@Component
+public class ScoringKernel {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringKernel.class);
+
+    private final ScoreNormalizer scoreNormalizer;
+
+    public ScoringKernel(ScoreNormalizer scoreNormalizer) {
+        this.scoreNormalizer = scoreNormalizer;
+    }
+
+    /**
+     * Whether an answer counts towards its indicator (answered and not skipped).
+     */
+    public static boolean isCounted(TestAnswer answer) {
+        return answer != null && !Boolean.TRUE.equals(answer.getIsSkipped()) && answer.getAnsweredAt() != null;
+    }
+
+    /**
+     * Score a session from its answers.
+     *
+     * @param plan    Plan covering the questions of the counted answers
+     * @param answers The session's answers
+     * @return Indicator and competency totals
+     */
+    public PlanScores score(ScoringPlan plan, List<TestAnswer> answers) {
+        PlanScores scores = new PlanScores(plan);
+        for (TestAnswer answer : answers) {
+            if (!isCounted(answer)) {
+                continue;
+            }
+            int question = plan.questionSlot(answer.getQuestionId());
+            if (question < 0) {
+                log.warn("Skipping answer {} - question {} has no indicator in the scoring plan",
+                        answer.getId(), answer.getQuestionId());
+                continue;
+            }
+            double normalizedScore = scoreNormalizer.normalize(answer, plan.questionType(question));
+            scores.addToIndicator(plan.indicatorOfQuestion(question), normalizedScore, 1);
+        }
+        return rollUp(scores);
+    }
+
+    /**
+     * Score a session from per-indicator tallies maintained during the session.
+     *
+     * @param plan    Plan covering the tallied indicators
+     * @param tallies The session's indicator tallies
+     * @return Indicator and competency totals
+     */
+    public PlanScores score(ScoringPlan plan, Collection<IndicatorTally> tallies) {
+        PlanScores scores = new PlanScores(plan);
+        for (IndicatorTally tally : tallies) {
+            if (tally.answerCount() <= 0) {
+                continue;
+            }
+            int indicator = plan.indicatorSlot(tally.indicatorId());
+            if (indicator < 0) {
+                log.warn("Skipping indicator {} - not found in the scoring plan", tally.indicatorId());
+                continue;
+            }
+            scores.addToIndicator(indicator, tally.scoreSum(), tally.answerCount());
+        }
+        return rollUp(scores);
+    }
+
+    private PlanScores rollUp(PlanScores scores) {
+        scores.rollUp();
+        log.debug("Aggregated {} indicators into {} competencies",
+                scores.scoredIndicatorCount(), scores.scoredCompetencies().length);
+        return scores;
+    }
+}
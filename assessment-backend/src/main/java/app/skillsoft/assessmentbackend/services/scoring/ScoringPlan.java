@@ -0,0 +1,337 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
+import app.skillsoft.assessmentbackend.domain.entities.Competency;
+import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+
+import java.util.*;
+
+/**
+ * Immutable scoring layout of a template's question set, compiled by ScoringPlanCache.
+ *
+ * Questions, indicators and competencies are assigned dense slots, so ScoringKernel
+ * accumulates a session over primitive arrays without touching the entity graph:
+ * question slot -> indicator slot -> competency slot.
+ *
+ * Per competency the plan holds the details copied into score DTOs and the goal-specific
+ * weights of the overall weighted mean (from ScoringConfiguration):
+ * - competency weight: multiplies the competency percentage in the numerator
+ * - normalization weight: added to the denominator
+ *
+ * A plan is complete when every referenced question, indicator and competency was loaded;
+ * incomplete plans still score their session but are never cached.
+ */
+public final class ScoringPlan {
+
+    static final String UNKNOWN_COMPETENCY = "Unknown Competency";
+
+    private final AssessmentGoal goal;
+    private final boolean complete;
+
+    private final Map<UUID, Integer> questionSlots;
+    private final int[] questionIndicator;
+    private final QuestionType[] questionTypes;
+
+    private final Map<UUID, Integer> indicatorSlots;
+    private final UUID[] indicatorIds;
+    private final String[] indicatorTitles;
+    private final double[] indicatorWeights;
+    private final int[] indicatorCompetency;
+
+    private final UUID[] competencyIds;
+    private final String[] competencyNames;
+    private final String[] onetCodes;
+    private final String[] escoUris;
+    private final String[] bigFiveCategories;
+    private final String[] traitCategories;
+    private final double[] competencyWeights;
+    private final double[] normalizationWeights;
+
+    // Indicators of competency c are competencyIndicators[competencyIndicatorStart[c] .. competencyIndicatorStart[c + 1])
+    private final int[] competencyIndicatorStart;
+    private final int[] competencyIndicators;
+
+    private ScoringPlan(Builder builder, boolean complete) {
+        this.goal = builder.goal;
+        this.complete = complete;
+
+        this.questionSlots = Map.copyOf(builder.questionSlots);
+        this.questionIndicator = toIntArray(builder.questionIndicator);
+        this.questionTypes = builder.questionTypes.toArray(new QuestionType[0]);
+
+        this.indicatorSlots = Map.copyOf(builder.indicatorSlots);
+        this.indicatorIds = builder.indicatorIds.toArray(new UUID[0]);
+        this.indicatorTitles = builder.indicatorTitles.toArray(new String[0]);
+        this.indicatorWeights = toDoubleArray(builder.indicatorWeights);
+        this.indicatorCompetency = toIntArray(builder.indicatorCompetency);
+
+        this.competencyIds = builder.competencyIds.toArray(new UUID[0]);
+        this.competencyNames = builder.competencyNames.toArray(new String[0]);
+        this.onetCodes = builder.onetCodes.toArray(new String[0]);
+        this.escoUris = builder.escoUris.toArray(new String[0]);
+        this.bigFiveCategories = builder.bigFiveCategories.toArray(new String[0]);
+        this.traitCategories = builder.traitCategories.toArray(new String[0]);
+        this.competencyWeights = toDoubleArray(builder.competencyWeights);
+        this.normalizationWeights = toDoubleArray(builder.normalizationWeights);
+
+        int competencyCount = competencyIds.length;
+        this.competencyIndicatorStart = new int[competencyCount + 1];
+        for (int competency : indicatorCompetency) {
+            if (competency >= 0) {
+                competencyIndicatorStart[competency + 1]++;
+            }
+        }
+        for (int c = 0; c < competencyCount; c++) {
+            competencyIndicatorStart[c + 1] += competencyIndicatorStart[c];
+        }
+        this.competencyIndicators = new int[competencyIndicatorStart[competencyCount]];
+        int[] next = Arrays.copyOf(competencyIndicatorStart, competencyCount);
+        for (int i = 0; i < indicatorCompetency.length; i++) {
+            if (indicatorCompetency[i] >= 0) {
+                competencyIndicators[next[indicatorCompetency[i]]++] = i;
+            }
+        }
+    }
+
+    static Builder builder(AssessmentGoal goal) {
+        return new Builder(goal);
+    }
+
+    /**
+     * Plan without questions or indicators, for sessions with nothing to score.
+     */
+    static ScoringPlan empty(AssessmentGoal goal) {
+        return builder(goal).build(true);
+    }
+
+    public AssessmentGoal getGoal() {
+        return goal;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Whether every given question and indicator has a slot in this plan.
+     */
+    public boolean covers(Collection<UUID> questionIds, Collection<UUID> indicatorIds) {
+        return questionSlots.keySet().containsAll(questionIds)
+                && indicatorSlots.keySet().containsAll(indicatorIds);
+    }
+
+    public Set<UUID> questionIds() {
+        return questionSlots.keySet();
+    }
+
+    public Set<UUID> indicatorIds() {
+        return indicatorSlots.keySet();
+    }
+
+    // --- Questions ---
+
+    /**
+     * @return The question's slot, or -1 when the question is not part of the plan
+     */
+    public int questionSlot(UUID questionId) {
+        Integer slot = questionId != null ? questionSlots.get(questionId) : null;
+        return slot != null ? slot : -1;
+    }
+
+    public int indicatorOfQuestion(int questionSlot) {
+        return questionIndicator[questionSlot];
+    }
+
+    public QuestionType questionType(int questionSlot) {
+        return questionTypes[questionSlot];
+    }
+
+    // --- Indicators ---
+
+    public int indicatorCount() {
+        return indicatorIds.length;
+    }
+
+    /**
+     * @return The indicator's slot, or -1 when the indicator is not part of the plan
+     */
+    public int indicatorSlot(UUID indicatorId) {
+        Integer slot = indicatorId != null ? indicatorSlots.get(indicatorId) : null;
+        return slot != null ? slot : -1;
+    }
+
+    public UUID indicatorId(int indicatorSlot) {
+        return indicatorIds[indicatorSlot];
+    }
+
+    public String indicatorTitle(int indicatorSlot) {
+        return indicatorTitles[indicatorSlot];
+    }
+
+    public double indicatorWeight(int indicatorSlot) {
+        return indicatorWeights[indicatorSlot];
+    }
+
+    /**
+     * @return The competency slot of the indicator, or -1 when the indicator has no competency
+     */
+    public int competencyOfIndicator(int indicatorSlot) {
+        return indicatorCompetency[indicatorSlot];
+    }
+
+    // --- Competencies ---
+
+    public int competencyCount() {
+        return competencyIds.length;
+    }
+
+    public UUID competencyId(int competencySlot) {
+        return competencyIds[competencySlot];
+    }
+
+    public String competencyName(int competencySlot) {
+        return competencyNames[competencySlot];
+    }
+
+    public String onetCode(int competencySlot) {
+        return onetCodes[competencySlot];
+    }
+
+    public String escoUri(int competencySlot) {
+        return escoUris[competencySlot];
+    }
+
+    public String bigFiveCategory(int competencySlot) {
+        return bigFiveCategories[competencySlot];
+    }
+
+    /**
+     * Big Five category of the competency as referenced by its indicators,
+     * available even when the competency itself could not be loaded.
+     */
+    public String traitCategory(int competencySlot) {
+        return traitCategories[competencySlot];
+    }
+
+    public double competencyWeight(int competencySlot) {
+        return competencyWeights[competencySlot];
+    }
+
+    public double normalizationWeight(int competencySlot) {
+        return normalizationWeights[competencySlot];
+    }
+
+    int indicatorsStart(int competencySlot) {
+        return competencyIndicatorStart[competencySlot];
+    }
+
+    int indicatorsEnd(int competencySlot) {
+        return competencyIndicatorStart[competencySlot + 1];
+    }
+
+    int indicatorAt(int position) {
+        return competencyIndicators[position];
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static double[] toDoubleArray(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Assigns slots in insertion order while a plan is compiled.
+     */
+    static final class Builder {
+
+        private final AssessmentGoal goal;
+
+        private final Map<UUID, Integer> questionSlots = new HashMap<>();
+        private final List<Integer> questionIndicator = new ArrayList<>();
+        private final List<QuestionType> questionTypes = new ArrayList<>();
+
+        private final Map<UUID, Integer> indicatorSlots = new HashMap<>();
+        private final List<UUID> indicatorIds = new ArrayList<>();
+        private final List<String> indicatorTitles = new ArrayList<>();
+        private final List<Double> indicatorWeights = new ArrayList<>();
+        private final List<Integer> indicatorCompetency = new ArrayList<>();
+
+        private final Map<UUID, Integer> competencySlots = new HashMap<>();
+        private final List<UUID> competencyIds = new ArrayList<>();
+        private final List<String> competencyNames = new ArrayList<>();
+        private final List<String> onetCodes = new ArrayList<>();
+        private final List<String> escoUris = new ArrayList<>();
+        private final List<String> bigFiveCategories = new ArrayList<>();
+        private final List<String> traitCategories = new ArrayList<>();
+        private final List<Double> competencyWeights = new ArrayList<>();
+        private final List<Double> normalizationWeights = new ArrayList<>();
+
+        private Builder(AssessmentGoal goal) {
+            this.goal = goal;
+        }
+
+        /**
+         * @return The slot of an already added competency, or -1
+         */
+        int competencySlot(UUID competencyId) {
+            return competencySlots.getOrDefault(competencyId, -1);
+        }
+
+        /**
+         * Add a competency.
+         *
+         * @param competencyId        The competency ID as referenced by its indicators
+         * @param competency          The loaded competency, or null when it could not be loaded
+         * @param traitCategory       Big Five category of the competency referenced by the indicators
+         * @param weight              Goal-specific weight of the competency percentage
+         * @param normalizationWeight Goal-specific weight added to the denominator
+         * @return The competency slot
+         */
+        int addCompetency(UUID competencyId, Competency competency, String traitCategory,
+                          double weight, double normalizationWeight) {
+            int slot = competencyIds.size();
+            competencySlots.put(competencyId, slot);
+            competencyIds.add(competencyId);
+            competencyNames.add(competency != null ? competency.getName() : UNKNOWN_COMPETENCY);
+            onetCodes.add(competency != null ? competency.getOnetCode() : null);
+            escoUris.add(competency != null ? competency.getEscoUri() : null);
+            bigFiveCategories.add(competency != null ? competency.getBigFiveCategory() : null);
+            traitCategories.add(traitCategory);
+            competencyWeights.add(weight);
+            normalizationWeights.add(normalizationWeight);
+            return slot;
+        }
+
+        boolean hasIndicator(UUID indicatorId) {
+            return indicatorSlots.containsKey(indicatorId);
+        }
+
+        /**
+         * Add an indicator.
+         *
+         * @param competencySlot Slot of the indicator's competency, or -1 when it has none
+         */
+        void addIndicator(UUID indicatorId, String title, double weight, int competencySlot) {
+            indicatorSlots.put(indicatorId, indicatorIds.size());
+            indicatorIds.add(indicatorId);
+            indicatorTitles.add(title);
+            indicatorWeights.add(weight);
+            indicatorCompetency.add(competencySlot);
+        }
+
+        /**
+         * Add a question of an already added indicator.
+         */
+        void addQuestion(UUID questionId, UUID indicatorId, QuestionType questionType) {
+            questionSlots.put(questionId, questionIndicator.size());
+            questionIndicator.add(indicatorSlots.get(indicatorId));
+            questionTypes.add(questionType);
+        }
+
+        ScoringPlan build(boolean complete) {
+            return new ScoringPlan(this, complete);
+        }
+    }
+}
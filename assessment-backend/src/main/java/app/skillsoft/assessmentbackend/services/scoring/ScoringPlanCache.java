@@ -0,0 +1,282 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.config.ScoringConfiguration;
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
+import app.skillsoft.assessmentbackend.domain.entities.BehavioralIndicator;
+import app.skillsoft.assessmentbackend.domain.entities.Competency;
+import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+import app.skillsoft.assessmentbackend.domain.entities.TestAnswer;
+import app.skillsoft.assessmentbackend.domain.entities.TestTemplate;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
+import app.skillsoft.assessmentbackend.events.competency.CompetencyChangedEvent;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@link ScoringPlan}s, one per template and assessment goal.
+ *
+ * Sessions of a template draw from the same question pool, so the question -> indicator
+ * -> competency resolution and the goal weights are compiled once and shared instead of
+ * being loaded per scored session.
+ *
+ * Growth:
+ * - A plan covers the questions and indicators of the sessions scored so far
+ * - A session referencing anything the plan does not cover recompiles the plan over the
+ *   union, so plans converge on the template's pool after a few sessions
+ * - Plans of sessions without a template and incomplete plans (missing indicators or
+ *   competencies) are used once and never stored
+ *
+ * Versioning (as CompiledQuestionCache):
+ * - Every invalidation bumps a global version
+ * - A plan compiled from a read that started before an invalidation is returned to its
+ *   caller but never stored
+ *
+ * Invalidated on QuestionPoolChangedEvent (question and indicator edits) and
+ * CompetencyChangedEvent once the mutating transaction commits.
+ */
+@Component
+public class ScoringPlanCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringPlanCache.class);
+
+    private final AssessmentQuestionRepository questionRepository;
+    private final IndicatorBatchLoader indicatorBatchLoader;
+    private final CompetencyBatchLoader competencyBatchLoader;
+    private final ScoringConfiguration scoringConfig;
+    private final Cache<PlanKey, ScoringPlan> cache;
+    private final AtomicLong version = new AtomicLong();
+
+    public ScoringPlanCache(
+            AssessmentQuestionRepository questionRepository,
+            IndicatorBatchLoader indicatorBatchLoader,
+            CompetencyBatchLoader competencyBatchLoader,
+            ScoringConfiguration scoringConfig,
+            @Value("${skillsoft.scoring.plan-cache.max-size:500}") long maxSize) {
+        this.questionRepository = questionRepository;
+        this.indicatorBatchLoader = indicatorBatchLoader;
+        this.competencyBatchLoader = competencyBatchLoader;
+        this.scoringConfig = scoringConfig;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get a plan covering the counted answers of a session.
+     *
+     * @param template The session's template (null compiles an uncached plan)
+     * @param goal     Goal whose weights the plan carries
+     * @param answers  The session's answers
+     */
+    public ScoringPlan planForAnswers(TestTemplate template, AssessmentGoal goal, List<TestAnswer> answers) {
+        Set<UUID> questionIds = new LinkedHashSet<>();
+        for (TestAnswer answer : answers) {
+            if (ScoringKernel.isCounted(answer) && answer.getQuestionId() != null) {
+                questionIds.add(answer.getQuestionId());
+            }
+        }
+        return plan(template, goal, questionIds, Set.of());
+    }
+
+    /**
+     * Get a plan covering the tallied indicators of a session.
+     *
+     * @param template The session's template (null compiles an uncached plan)
+     * @param goal     Goal whose weights the plan carries
+     * @param tallies  The session's indicator tallies
+     */
+    public ScoringPlan planForTallies(TestTemplate template, AssessmentGoal goal, Collection<IndicatorTally> tallies) {
+        Set<UUID> indicatorIds = new LinkedHashSet<>();
+        for (IndicatorTally tally : tallies) {
+            if (tally.answerCount() > 0 && tally.indicatorId() != null) {
+                indicatorIds.add(tally.indicatorId());
+            }
+        }
+        return plan(template, goal, Set.of(), indicatorIds);
+    }
+
+    private ScoringPlan plan(TestTemplate template, AssessmentGoal goal,
+                             Set<UUID> questionIds, Set<UUID> indicatorIds) {
+        if (questionIds.isEmpty() && indicatorIds.isEmpty()) {
+            return ScoringPlan.empty(goal);
+        }
+
+        UUID templateId = template != null ? template.getId() : null;
+        if (templateId == null) {
+            return compile(goal, questionIds, indicatorIds);
+        }
+
+        PlanKey key = new PlanKey(templateId, goal);
+        ScoringPlan cached = cache.getIfPresent(key);
+        if (cached != null && cached.covers(questionIds, indicatorIds)) {
+            return cached;
+        }
+
+        long readVersion = version.get();
+        Set<UUID> planQuestions = new LinkedHashSet<>(questionIds);
+        Set<UUID> planIndicators = new LinkedHashSet<>(indicatorIds);
+        if (cached != null) {
+            planQuestions.addAll(cached.questionIds());
+            planIndicators.addAll(cached.indicatorIds());
+        }
+        ScoringPlan compiled = compile(goal, planQuestions, planIndicators);
+
+        if (compiled.isComplete() && version.get() == readVersion) {
+            cache.put(key, compiled);
+            log.debug("Cached scoring plan for template {} ({}): {} questions, {} indicators, {} competencies",
+                    templateId, goal, compiled.questionIds().size(), compiled.indicatorCount(),
+                    compiled.competencyCount());
+        }
+        return compiled;
+    }
+
+    /**
+     * Compile a plan with one query per level: questions, indicators (with their
+     * competency reference) and competencies.
+     */
+    ScoringPlan compile(AssessmentGoal goal, Set<UUID> questionIds, Set<UUID> indicatorIds) {
+        boolean complete = true;
+
+        List<Object[]> questionRows = questionIds.isEmpty()
+                ? List.of()
+                : questionRepository.findScoringEntriesByIds(questionIds);
+        if (questionRows.size() < questionIds.size()) {
+            log.warn("Scoring plan: {} of {} questions not found", questionIds.size() - questionRows.size(),
+                    questionIds.size());
+            complete = false;
+        }
+
+        Set<UUID> allIndicatorIds = new LinkedHashSet<>();
+        for (Object[] row : questionRows) {
+            if (row[1] != null) {
+                allIndicatorIds.add((UUID) row[1]);
+            }
+        }
+        allIndicatorIds.addAll(indicatorIds);
+
+        Map<UUID, BehavioralIndicator> indicators = indicatorBatchLoader.loadIndicators(allIndicatorIds);
+        Set<UUID> competencyIds = new HashSet<>();
+        for (BehavioralIndicator indicator : indicators.values()) {
+            if (indicator.getCompetency() != null) {
+                competencyIds.add(indicator.getCompetency().getId());
+            }
+        }
+        Map<UUID, Competency> competencies = competencyBatchLoader.loadCompetencies(competencyIds);
+
+        ScoringPlan.Builder plan = ScoringPlan.builder(goal);
+        for (UUID indicatorId : allIndicatorIds) {
+            BehavioralIndicator indicator = indicators.get(indicatorId);
+            if (indicator == null) {
+                complete = false;
+                continue;
+            }
+
+            int competencySlot = -1;
+            Competency owner = indicator.getCompetency();
+            if (owner == null) {
+                log.warn("Indicator {} has no competency, its answers are not scored", indicatorId);
+            } else {
+                competencySlot = plan.competencySlot(owner.getId());
+                if (competencySlot < 0) {
+                    Competency competency = competencies.get(owner.getId());
+                    if (competency == null) {
+                        log.warn("Competency {} not found, scoring it as unknown", owner.getId());
+                        complete = false;
+                    }
+                    competencySlot = plan.addCompetency(owner.getId(), competency, owner.getBigFiveCategory(),
+                            competencyWeight(goal, competency), normalizationWeight(goal, competency));
+                }
+            }
+            plan.addIndicator(indicatorId, indicator.getTitle(), indicator.getWeight(), competencySlot);
+        }
+
+        for (Object[] row : questionRows) {
+            UUID indicatorId = (UUID) row[1];
+            if (indicatorId == null || !plan.hasIndicator(indicatorId)) {
+                complete = false;
+                continue;
+            }
+            plan.addQuestion((UUID) row[0], indicatorId, (QuestionType) row[2]);
+        }
+
+        return plan.build(complete);
+    }
+
+    /**
+     * Weight of a competency's percentage in the goal's overall weighted mean.
+     */
+    private double competencyWeight(AssessmentGoal goal, Competency competency) {
+        if (competency == null) {
+            return 1.0;
+        }
+        ScoringConfiguration.Weights weights = scoringConfig.getWeights();
+        return switch (goal) {
+            // Competencies aligned with the O*NET occupation profile are prioritized
+            case JOB_FIT -> hasText(competency.getOnetCode()) ? weights.getOnetBoost() : 1.0;
+            // ESCO-normalized skills and Big Five mapped competencies are prioritized
+            case TEAM_FIT -> (hasText(competency.getEscoUri()) ? weights.getEscoBoost() : 1.0)
+                    * (competency.getBigFiveCategory() != null ? weights.getBigFiveBoost() : 1.0);
+            default -> 1.0;
+        };
+    }
+
+    /**
+     * Weight a competency adds to the denominator of the goal's overall weighted mean.
+     */
+    private double normalizationWeight(AssessmentGoal goal, Competency competency) {
+        if (competency == null) {
+            return 1.0;
+        }
+        ScoringConfiguration.Weights weights = scoringConfig.getWeights();
+        return switch (goal) {
+            case JOB_FIT -> hasText(competency.getOnetCode()) ? weights.getOnetBoost() : 1.0;
+            // Team Fit normalizes by the ESCO boost of competencies with an O*NET code
+            case TEAM_FIT -> hasText(competency.getOnetCode()) ? weights.getEscoBoost() : 1.0;
+            default -> 1.0;
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    /**
+     * Drop all plans.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Number of plans currently held.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionPoolChanged(QuestionPoolChangedEvent event) {
+        log.debug("Invalidating scoring plans ({})", event.reason());
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompetencyChanged(CompetencyChangedEvent event) {
+        log.debug("Invalidating scoring plans ({} {})", event.reason(), event.competencyId());
+        invalidateAll();
+    }
+
+    private record PlanKey(UUID templateId, AssessmentGoal goal) {
+    }
+}
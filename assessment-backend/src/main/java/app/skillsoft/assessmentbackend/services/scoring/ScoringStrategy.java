@@ -4,6 +4,7 @@ import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
 import app.skillsoft.assessmentbackend.domain.entities.TestAnswer;
 import app.skillsoft.assessmentbackend.domain.entities.TestSession;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -26,6 +27,17 @@ public interface ScoringStrategy {
      * @return ScoringResult with overall score and per-competency breakdown
      */
     ScoringResult calculate(TestSession session, List<TestAnswer> answers);
+
+    /**
+     * Calculate the final result score from the per-indicator totals maintained while the
+     * session was taken. Produces the same result as {@link #calculate(TestSession, List)}
+     * on the session's answers, without loading them.
+     *
+     * @param session The completed test session
+     * @param tallies Running totals per indicator (see SessionScoreAggregator)
+     * @return ScoringResult with overall score and per-competency breakdown
+     */
+    ScoringResult calculateFromTallies(TestSession session, Collection<IndicatorTally> tallies);
     
     /**
      * Get the assessment goal this strategy supports.
@@ -0,0 +1,117 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+import app.skillsoft.assessmentbackend.domain.entities.SessionScoreAggregate;
+import app.skillsoft.assessmentbackend.domain.entities.TestAnswer;
+import app.skillsoft.assessmentbackend.repository.SessionScoreAggregateRepository;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Maintains the running per-indicator score totals of a session as answers are submitted.
+ *
+ * Answer services take the tally of an answer before and after it changes; the difference
+ * is added to the session's {@link SessionScoreAggregate} rows in the same transaction.
+ * Completion scoring then rolls up O(indicators) rows instead of reloading every answer.
+ *
+ * Counting and normalization match the scoring strategies exactly: an answer counts when it
+ * is answered and not skipped, and contributes {@link ScoreNormalizer#normalize} to its
+ * indicator with a maximum of 1.0.
+ */
+@Component
+public class SessionScoreAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionScoreAggregator.class);
+
+    private static final double SCORE_EPSILON = 1e-12;
+
+    private final ScoreNormalizer scoreNormalizer;
+    private final SessionScoreAggregateRepository aggregateRepository;
+
+    public SessionScoreAggregator(ScoreNormalizer scoreNormalizer,
+                                  SessionScoreAggregateRepository aggregateRepository) {
+        this.scoreNormalizer = scoreNormalizer;
+        this.aggregateRepository = aggregateRepository;
+    }
+
+    /**
+     * Current contribution of an answer to its indicator.
+     */
+    public IndicatorTally tallyOf(TestAnswer answer, CompiledQuestion question) {
+        return tallyOf(answer, question.indicatorId(), question.questionType());
+    }
+
+    /**
+     * Current contribution of an answer to its indicator.
+     *
+     * @param answer       The answer (not necessarily saved yet)
+     * @param indicatorId  Behavioral indicator of the answered question
+     * @param questionType Type of the answered question
+     */
+    public IndicatorTally tallyOf(TestAnswer answer, UUID indicatorId, QuestionType questionType) {
+        if (Boolean.TRUE.equals(answer.getIsSkipped()) || answer.getAnsweredAt() == null) {
+            return IndicatorTally.empty(indicatorId);
+        }
+        return IndicatorTally.ofAnswer(indicatorId, scoreNormalizer.normalize(answer, questionType));
+    }
+
+    /**
+     * Apply the change of a single answer to the session totals.
+     *
+     * @param sessionId The session
+     * @param before    Tally before the change, or null for a new answer
+     * @param after     Tally after the change
+     */
+    public void record(UUID sessionId, IndicatorTally before, IndicatorTally after) {
+        record(sessionId, before != null ? List.of(before) : List.of(), List.of(after));
+    }
+
+    /**
+     * Apply the changes of several answers to the session totals, with one write per
+     * affected indicator.
+     *
+     * @param sessionId The session
+     * @param before    Tallies of the changed answers before the change (none for new answers)
+     * @param after     Tallies of the changed answers after the change
+     */
+    public void record(UUID sessionId, Collection<IndicatorTally> before, Collection<IndicatorTally> after) {
+        Map<UUID, IndicatorTally> deltas = new LinkedHashMap<>();
+        after.forEach(tally -> accumulate(deltas, tally.indicatorId(), tally.scoreSum(), tally.answerCount()));
+        before.forEach(tally -> accumulate(deltas, tally.indicatorId(), -tally.scoreSum(), -tally.answerCount()));
+
+        for (IndicatorTally delta : deltas.values()) {
+            if (delta.answerCount() != 0 || Math.abs(delta.scoreSum()) > SCORE_EPSILON) {
+                aggregateRepository.addToAggregate(sessionId, delta.indicatorId(),
+                        delta.scoreSum(), delta.answerCount());
+            }
+        }
+    }
+
+    private static void accumulate(Map<UUID, IndicatorTally> deltas, UUID indicatorId,
+                                   double scoreDelta, int countDelta) {
+        if (indicatorId == null) {
+            return;
+        }
+        deltas.merge(indicatorId, new IndicatorTally(indicatorId, scoreDelta, countDelta),
+                (sum, next) -> sum.plus(next.scoreSum(), next.answerCount()));
+    }
+
+    /**
+     * Running totals of a session, one per indicator with at least one counted answer.
+     */
+    public List<IndicatorTally> load(UUID sessionId) {
+        List<IndicatorTally> tallies = new ArrayList<>();
+        for (SessionScoreAggregate aggregate : aggregateRepository.findBySession_Id(sessionId)) {
+            if (aggregate.getAnswerCount() > 0) {
+                tallies.add(new IndicatorTally(aggregate.getIndicatorId(),
+                        aggregate.getScoreSum(), aggregate.getAnswerCount()));
+            }
+        }
+        log.debug("Loaded {} indicator tallies for session {}", tallies.size(), sessionId);
+        return tallies;
+    }
+}
@@ -0,0 +1,315 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory score distribution of every template, used for percentile ranking.
+ *
+ * Each template keeps an exact histogram of its scored results (overall percentage,
+ * bucketed at 0.01 over 0-100) stored as a Fenwick tree, so recording a score and
+ * counting the scores below a value are both O(log buckets). Percentile queries no
+ * longer issue COUNT queries over test_results.
+ *
+ * Maintenance:
+ * - Loaded lazily per template on first use (one query)
+ * - Updated on ScoringCompletedEvent once the scoring transaction commits; templates not
+ *   loaded yet are skipped, their first read loads the committed score
+ * - Reconciled periodically: a template whose scored-result count differs from the
+ *   database (results scored on other nodes, deleted results) is reloaded
+ *
+ * A load only replaces the held distribution if no result of the template was committing
+ * or recorded on this node while its query ran. Such a result may or may not be part of
+ * the loaded snapshot, so recording it on top could count it twice (or, recorded before
+ * the snapshot was held, not at all); the snapshot then serves the read that loaded it
+ * and the next read loads again.
+ */
+@Component
+public class TemplateScoreIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateScoreIndex.class);
+
+    /**
+     * Scores are bucketed at this resolution; scores in the same bucket rank as ties.
+     */
+    static final int BUCKETS_PER_POINT = 100;
+    static final int BUCKET_COUNT = 100 * BUCKETS_PER_POINT + 1;
+
+    private final TestResultRepository resultRepository;
+
+    private final Map<UUID, Distribution> distributions = new ConcurrentHashMap<>();
+    private final Map<UUID, Writes> writes = new ConcurrentHashMap<>();
+
+    public TemplateScoreIndex(TestResultRepository resultRepository) {
+        this.resultRepository = resultRepository;
+    }
+
+    /**
+     * Rank of a score among the scored results of a template.
+     *
+     * @param below Number of scored results strictly below the score
+     * @param total Number of scored results of the template
+     */
+    public record ScoreRank(long below, long total) {
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Rank a score within the scored results of a template, loading the template on first use.
+     */
+    public ScoreRank rank(UUID templateId, double score) {
+        Distribution distribution = distribution(templateId);
+        return distribution.rank(bucketOf(score));
+    }
+
+    /**
+     * Number of templates currently held in memory.
+     */
+    public int loadedTemplateCount() {
+        return distributions.size();
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Note a scored result whose transaction is about to commit; loads of its template
+     * are not held until it has been recorded.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onScoringCommitting(ScoringCompletedEvent event) {
+        if (event.templateId() == null || event.overallPercentage() == null) {
+            return;
+        }
+        Writes templateWrites = writes(event.templateId());
+        synchronized (templateWrites) {
+            templateWrites.committing.add(event.resultId());
+        }
+    }
+
+    /**
+     * Add a newly scored result once its transaction has committed.
+     * Runs before the other after-commit listeners so they rank against the new score.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoringCompleted(ScoringCompletedEvent event) {
+        if (event.templateId() == null || event.overallPercentage() == null) {
+            return;
+        }
+        try {
+            record(event.templateId(), event.overallPercentage());
+        } catch (Exception e) {
+            // Never fail the caller; the next read reloads the template
+            log.error("Failed to record score of result {} in template index: {}",
+                    event.resultId(), e.getMessage(), e);
+            invalidate(event.templateId());
+        }
+    }
+
+    /**
+     * Forget a result noted by {@link #onScoringCommitting} once its transaction has
+     * completed either way. Ordered after {@link #onScoringCompleted}, so a committed
+     * result is recorded before loads of its template may be held again.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onScoringTransactionCompleted(ScoringCompletedEvent event) {
+        if (event.templateId() == null || event.overallPercentage() == null) {
+            return;
+        }
+        Writes templateWrites = writes(event.templateId());
+        synchronized (templateWrites) {
+            templateWrites.committing.remove(event.resultId());
+        }
+    }
+
+    /**
+     * Add a score to a loaded template. No-op if the template has not been loaded yet.
+     */
+    public void record(UUID templateId, double score) {
+        Writes templateWrites = writes(templateId);
+        synchronized (templateWrites) {
+            templateWrites.version++;
+            Distribution distribution = distributions.get(templateId);
+            if (distribution != null) {
+                distribution.add(bucketOf(score));
+            }
+        }
+    }
+
+    /**
+     * Drop a template; the next read reloads it.
+     */
+    public void invalidate(UUID templateId) {
+        Writes templateWrites = writes(templateId);
+        synchronized (templateWrites) {
+            templateWrites.version++;
+            distributions.remove(templateId);
+        }
+    }
+
+    /**
+     * Periodic reconciliation of the loaded templates with the database.
+     */
+    @Scheduled(
+            fixedDelayString = "${skillsoft.scoring.percentile.reconcile-interval-ms:300000}",
+            initialDelayString = "${skillsoft.scoring.percentile.reconcile-interval-ms:300000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Score index reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reload every loaded template whose scored-result count no longer matches the database.
+     *
+     * @return Number of reloaded templates
+     */
+    public int reconcile() {
+        int reloaded = 0;
+        for (UUID templateId : List.copyOf(distributions.keySet())) {
+            long expected = resultRepository.countScoredResultsByTemplateId(templateId);
+            Distribution current = distributions.get(templateId);
+            if (current != null && current.total() != expected) {
+                log.info("Score index of template {} drifted ({} in memory, {} in database), reloading",
+                        templateId, current.total(), expected);
+                loadAndHold(templateId, true);
+                reloaded++;
+            }
+        }
+        return reloaded;
+    }
+
+    private Distribution distribution(UUID templateId) {
+        Distribution distribution = distributions.get(templateId);
+        if (distribution != null) {
+            return distribution;
+        }
+        return loadAndHold(templateId, false);
+    }
+
+    /**
+     * Load a template and hold it unless a result of the template committed or was
+     * recorded during the query.
+     *
+     * @param replace Replace a held distribution; otherwise a concurrent loader of the
+     *                same template wins
+     */
+    private Distribution loadAndHold(UUID templateId, boolean replace) {
+        Writes templateWrites = writes(templateId);
+        long version;
+        synchronized (templateWrites) {
+            version = templateWrites.version;
+        }
+
+        // Loaded outside the lock, so recording is not blocked by the query
+        Distribution loaded = load(templateId);
+        synchronized (templateWrites) {
+            if (!templateWrites.committing.isEmpty() || templateWrites.version != version) {
+                log.debug("Score distribution of template {} changed while loading, not holding it", templateId);
+                if (replace) {
+                    distributions.remove(templateId);
+                }
+                return loaded;
+            }
+            if (replace) {
+                distributions.put(templateId, loaded);
+                return loaded;
+            }
+            Distribution existing = distributions.putIfAbsent(templateId, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private Writes writes(UUID templateId) {
+        return writes.computeIfAbsent(templateId, id -> new Writes());
+    }
+
+    private Distribution load(UUID templateId) {
+        long[] counts = new long[BUCKET_COUNT];
+        List<Double> scores = resultRepository.findScoredPercentagesByTemplateId(templateId);
+        for (Double score : scores) {
+            counts[bucketOf(score)]++;
+        }
+        log.debug("Loaded score distribution of template {} ({} scored results)", templateId, scores.size());
+        return new Distribution(counts, scores.size());
+    }
+
+    static int bucketOf(double score) {
+        long bucket = Math.round(score * BUCKETS_PER_POINT);
+        return (int) Math.max(0, Math.min(BUCKET_COUNT - 1, bucket));
+    }
+
+    /**
+     * Writes to one template on this node, guarded by the instance lock: results whose
+     * transaction is committing, and a version bumped by every record and invalidation.
+     */
+    private static final class Writes {
+
+        private final Set<UUID> committing = new HashSet<>();
+        private long version;
+    }
+
+    /**
+     * Fenwick tree over the score buckets of one template.
+     * tree[i] (1-based) holds the count of buckets (i - lowbit(i), i].
+     */
+    private static final class Distribution {
+
+        private final long[] tree = new long[BUCKET_COUNT + 1];
+        private long total;
+
+        Distribution(long[] counts, long total) {
+            // Linear-time construction from bucket counts
+            for (int i = 1; i <= BUCKET_COUNT; i++) {
+                tree[i] += counts[i - 1];
+                int parent = i + (i & -i);
+                if (parent <= BUCKET_COUNT) {
+                    tree[parent] += tree[i];
+                }
+            }
+            this.total = total;
+        }
+
+        synchronized void add(int bucket) {
+            for (int i = bucket + 1; i <= BUCKET_COUNT; i += i & -i) {
+                tree[i]++;
+            }
+            total++;
+        }
+
+        /**
+         * Scores in buckets below the given one, with the total, read atomically.
+         */
+        synchronized ScoreRank rank(int bucket) {
+            long below = 0;
+            for (int i = bucket; i > 0; i -= i & -i) {
+                below += tree[i];
+            }
+            return new ScoreRank(below, total);
+        }
+
+        synchronized long total() {
+            return total;
+        }
+    }
+}
@@ -2,13 +2,14 @@ package app.skillsoft.assessmentbackend.services.scoring.impl;
 
 import app.skillsoft.assessmentbackend.config.ScoringConfiguration;
 import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
-import app.skillsoft.assessmentbackend.domain.dto.IndicatorScoreDto;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.JobFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TestBlueprintDto;
 import app.skillsoft.assessmentbackend.domain.entities.*;
-import app.skillsoft.assessmentbackend.services.scoring.CompetencyBatchLoader;
-import app.skillsoft.assessmentbackend.services.scoring.IndicatorBatchLoader;
-import app.skillsoft.assessmentbackend.services.scoring.ScoreNormalizer;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
+import app.skillsoft.assessmentbackend.services.scoring.PlanScores;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringKernel;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlan;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlanCache;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringResult;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringStrategy;
 import org.slf4j.Logger;
@@ -29,6 +30,9 @@ import java.util.*;
  * 5. Apply strictness level to determine pass/fail thresholds
  * 6. Calculate overall job fit percentage using weighted cosine similarity
  *
+ * Steps 1-3 run in ScoringKernel over the template's cached ScoringPlan, which also
+ * carries the goal's competency weights.
+ *
  * Per ROADMAP.md Section 1.2 - Targeted Fit Strategy:
  * - Uses O*NET SOC code to load benchmark requirements
  * - Implements Delta Testing - reuses Competency Passport data if available
@@ -40,82 +44,42 @@ public class JobFitScoringStrategy implements ScoringStrategy {
 
     private static final Logger log = LoggerFactory.getLogger(JobFitScoringStrategy.class);
 
-    private final CompetencyBatchLoader competencyBatchLoader;
-    private final IndicatorBatchLoader indicatorBatchLoader;
+    private final ScoringPlanCache planCache;
+    private final ScoringKernel scoringKernel;
     private final ScoringConfiguration scoringConfig;
-    private final ScoreNormalizer scoreNormalizer;
 
     public JobFitScoringStrategy(
-            CompetencyBatchLoader competencyBatchLoader,
-            IndicatorBatchLoader indicatorBatchLoader,
-            ScoringConfiguration scoringConfig,
-            ScoreNormalizer scoreNormalizer) {
-        this.competencyBatchLoader = competencyBatchLoader;
-        this.indicatorBatchLoader = indicatorBatchLoader;
+            ScoringPlanCache planCache,
+            ScoringKernel scoringKernel,
+            ScoringConfiguration scoringConfig) {
+        this.planCache = planCache;
+        this.scoringKernel = scoringKernel;
         this.scoringConfig = scoringConfig;
-        this.scoreNormalizer = scoreNormalizer;
     }
 
-    /**
-     * Internal helper class to aggregate scores at the indicator level.
-     */
-    private static class IndicatorAggregation {
-        UUID indicatorId;
-        double totalScore = 0;
-        double totalMaxScore = 0;
-        int questionCount = 0;
-
-        IndicatorAggregation(UUID indicatorId) {
-            this.indicatorId = indicatorId;
-        }
-
-        void addAnswer(double normalizedScore) {
-            totalScore += normalizedScore;
-            totalMaxScore += 1.0;
-            questionCount++;
-        }
+    @Override
+    public ScoringResult calculate(TestSession session, List<TestAnswer> answers) {
+        log.info("Calculating Scenario B (Job Fit) score with indicator breakdown for session: {}", session.getId());
 
-        IndicatorScoreDto toDto(BehavioralIndicator indicator) {
-            double percentage = totalMaxScore > 0 ? (totalScore / totalMaxScore) * 100.0 : 0.0;
-
-            IndicatorScoreDto dto = new IndicatorScoreDto();
-            dto.setIndicatorId(indicatorId);
-            dto.setIndicatorTitle(indicator != null ? indicator.getTitle() : "Unknown Indicator");
-            dto.setWeight(indicator != null ? indicator.getWeight() : 1.0);
-            dto.setScore(totalScore);
-            dto.setMaxScore(totalMaxScore);
-            dto.setPercentage(percentage);
-            dto.setQuestionsAnswered(questionCount);
-            return dto;
-        }
+        // Step 1: Normalize & Aggregate Scores by Indicator over the template's compiled plan
+        ScoringPlan plan = planCache.planForAnswers(session.getTemplate(), AssessmentGoal.JOB_FIT, answers);
+        return rollUp(session, scoringKernel.score(plan, answers));
     }
 
-    /**
-     * Internal helper class to aggregate indicator scores at the competency level.
-     */
-    private static class CompetencyAggregation {
-        UUID competencyId;
-        double totalScore = 0;
-        double totalMaxScore = 0;
-        int questionCount = 0;
-        List<IndicatorScoreDto> indicatorScores = new ArrayList<>();
-
-        CompetencyAggregation(UUID competencyId) {
-            this.competencyId = competencyId;
-        }
+    @Override
+    public ScoringResult calculateFromTallies(TestSession session, Collection<IndicatorTally> tallies) {
+        log.info("Calculating Scenario B (Job Fit) score from {} indicator tallies for session: {}",
+                tallies.size(), session.getId());
 
-        void addIndicator(IndicatorScoreDto indicatorDto, IndicatorAggregation agg) {
-            totalScore += agg.totalScore;
-            totalMaxScore += agg.totalMaxScore;
-            questionCount += agg.questionCount;
-            indicatorScores.add(indicatorDto);
-        }
+        // Step 1: Indicator aggregates were maintained as answers were submitted
+        ScoringPlan plan = planCache.planForTallies(session.getTemplate(), AssessmentGoal.JOB_FIT, tallies);
+        return rollUp(session, scoringKernel.score(plan, tallies));
     }
 
-    @Override
-    public ScoringResult calculate(TestSession session, List<TestAnswer> answers) {
-        log.info("Calculating Scenario B (Job Fit) score with indicator breakdown for session: {}", session.getId());
-
+    /**
+     * Compare the kernel's competency totals against the job requirements (steps 2-5).
+     */
+    private ScoringResult rollUp(TestSession session, PlanScores scores) {
         TestTemplate template = session.getTemplate();
         JobFitBlueprint blueprint = extractJobFitBlueprint(template);
 
@@ -124,57 +88,14 @@ public class JobFitScoringStrategy implements ScoringStrategy {
 
         log.debug("Job Fit parameters - O*NET SOC: {}, Strictness: {}", onetSocCode, strictnessLevel);
 
-        // Batch load all competencies and indicators upfront to prevent N+1 queries
-        Map<UUID, Competency> competencyCache = competencyBatchLoader.loadCompetenciesForAnswers(answers);
-        Map<UUID, BehavioralIndicator> indicatorCache = indicatorBatchLoader.loadIndicatorsForAnswers(answers);
-
-        // Step 1: Normalize & Aggregate Scores by Indicator (first level)
-        Map<UUID, IndicatorAggregation> indicatorAggs = new HashMap<>();
-
-        for (TestAnswer answer : answers) {
-            // Skip unanswered or skipped questions
-            if (answer.getIsSkipped() || answer.getAnsweredAt() == null) {
-                continue;
-            }
-
-            Optional<UUID> indicatorIdOpt = indicatorBatchLoader.extractIndicatorIdSafe(answer);
-            if (indicatorIdOpt.isEmpty()) {
-                log.warn("Skipping answer {} - unable to extract indicator ID", answer.getId());
-                continue;
-            }
-            UUID indicatorId = indicatorIdOpt.get();
-
-            double normalizedScore = scoreNormalizer.normalize(answer);
-
-            indicatorAggs.computeIfAbsent(indicatorId, IndicatorAggregation::new)
-                    .addAnswer(normalizedScore);
-        }
-
-        log.debug("Aggregated {} indicators from {} answers", indicatorAggs.size(), answers.size());
-
-        // Step 2: Roll up indicators to competencies (second level)
-        Map<UUID, CompetencyAggregation> competencyAggs = new HashMap<>();
-
-        for (var entry : indicatorAggs.entrySet()) {
-            UUID indicatorId = entry.getKey();
-            IndicatorAggregation indAgg = entry.getValue();
-
-            BehavioralIndicator indicator = indicatorBatchLoader.getFromCache(indicatorCache, indicatorId);
-            if (indicator == null || indicator.getCompetency() == null) {
-                log.warn("Skipping indicator {} - competency not found", indicatorId);
-                continue;
-            }
-
-            UUID competencyId = indicator.getCompetency().getId();
-            IndicatorScoreDto indicatorDto = indAgg.toDto(indicator);
-
-            competencyAggs.computeIfAbsent(competencyId, CompetencyAggregation::new)
-                    .addIndicator(indicatorDto, indAgg);
-        }
+        // Step 2: Indicators were rolled up to competencies by the kernel
+        ScoringPlan plan = scores.plan();
 
         // Step 3: Create Score DTOs with Job Fit Analysis
         List<CompetencyScoreDto> finalScores = new ArrayList<>();
         double totalWeightedScore = 0.0;
+        double totalWeight = 0.0;
+        double totalScore = 0.0;
 
         // Get threshold configuration
         ScoringConfiguration.Thresholds.JobFit jobFitConfig = scoringConfig.getThresholds().getJobFit();
@@ -184,69 +105,42 @@ public class JobFitScoringStrategy implements ScoringStrategy {
         double strictnessAdjustment = (strictnessLevel / 100.0) * jobFitConfig.getStrictnessMaxAdjustment();
         double effectiveThreshold = baseThreshold + strictnessAdjustment;
 
-        for (var entry : competencyAggs.entrySet()) {
-            UUID competencyId = entry.getKey();
-            CompetencyAggregation compAgg = entry.getValue();
-
-            // Get competency details from preloaded cache
-            Competency competency = competencyBatchLoader.getFromCache(competencyCache, competencyId);
-            String competencyName = competency != null ? competency.getName() : "Unknown Competency";
-            String onetCode = competency != null ? competency.getOnetCode() : null;
-
-            double percentage = compAgg.totalMaxScore > 0
-                    ? (compAgg.totalScore / compAgg.totalMaxScore) * 100.0 : 0.0;
+        for (int competency : scores.scoredCompetencies()) {
+            CompetencyScoreDto scoreDto = scores.toDto(competency);
+            double percentage = scoreDto.getPercentage();
 
             // For Job Fit, we track how well the score meets the threshold
-            int questionsCorrect = (int) Math.round((compAgg.totalScore / compAgg.totalMaxScore) * compAgg.questionCount);
-
-            CompetencyScoreDto scoreDto = new CompetencyScoreDto();
-            scoreDto.setCompetencyId(competencyId);
-            scoreDto.setCompetencyName(competencyName);
-            scoreDto.setScore(compAgg.totalScore);
-            scoreDto.setMaxScore(compAgg.totalMaxScore);
-            scoreDto.setPercentage(percentage);
-            scoreDto.setQuestionsAnswered(compAgg.questionCount);
+            int questionsCorrect = (int) Math.round(scores.competencyAverage(competency) * scoreDto.getQuestionsAnswered());
             scoreDto.setQuestionsCorrect(questionsCorrect);
-            scoreDto.setOnetCode(onetCode);
-            scoreDto.setIndicatorScores(compAgg.indicatorScores);
 
             finalScores.add(scoreDto);
+            totalScore += scoreDto.getScore();
 
             // Weight the score based on O*NET alignment (competencies with O*NET codes are prioritized)
-            double onetBoost = scoringConfig.getWeights().getOnetBoost();
-            double weight = (onetCode != null && !onetCode.isEmpty()) ? onetBoost : 1.0;
-            totalWeightedScore += (percentage * weight);
+            totalWeightedScore += (percentage * plan.competencyWeight(competency));
+            totalWeight += plan.normalizationWeight(competency);
 
             log.debug("Competency {} (O*NET: {}): {} indicators, {} questions, score {}/{} ({}%), threshold met: {}",
-                    competencyName, onetCode, compAgg.indicatorScores.size(), compAgg.questionCount,
-                    compAgg.totalScore, compAgg.totalMaxScore, String.format("%.2f", percentage),
-                    (percentage / 100.0) >= effectiveThreshold);
+                    scoreDto.getCompetencyName(), scoreDto.getOnetCode(), scoreDto.getIndicatorScores().size(),
+                    scoreDto.getQuestionsAnswered(), scoreDto.getScore(), scoreDto.getMaxScore(),
+                    String.format("%.2f", percentage), (percentage / 100.0) >= effectiveThreshold);
         }
 
         // Step 4: Calculate Overall Job Fit Score
         int competencyCount = finalScores.size();
-        double onetBoostForWeighting = scoringConfig.getWeights().getOnetBoost();
-        double totalWeight = competencyCount > 0
-                ? finalScores.stream()
-                .mapToDouble(s -> (s.getOnetCode() != null && !s.getOnetCode().isEmpty()) ? onetBoostForWeighting : 1.0)
-                .sum()
-                : 1.0;
-
         double overallPercentage = competencyCount > 0
                 ? totalWeightedScore / totalWeight
                 : 0.0;
 
         double overallScore = competencyCount > 0
-                ? finalScores.stream()
-                .mapToDouble(CompetencyScoreDto::getScore)
-                .sum() / competencyCount
+                ? totalScore / competencyCount
                 : 0.0;
 
         log.info("Job Fit score calculated: {} ({}%), threshold: {}%, indicators: {}",
                 String.format("%.2f", overallScore),
                 String.format("%.2f", overallPercentage),
                 String.format("%.2f", effectiveThreshold * 100),
-                indicatorAggs.size());
+                scores.scoredIndicatorCount());
 
         // Step 5: Create Result
         ScoringResult result = new ScoringResult();
@@ -1,11 +1,12 @@
 package app.skillsoft.assessmentbackend.services.scoring.impl;
 
 import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
-import app.skillsoft.assessmentbackend.domain.dto.IndicatorScoreDto;
 import app.skillsoft.assessmentbackend.domain.entities.*;
-import app.skillsoft.assessmentbackend.services.scoring.CompetencyBatchLoader;
-import app.skillsoft.assessmentbackend.services.scoring.IndicatorBatchLoader;
-import app.skillsoft.assessmentbackend.services.scoring.ScoreNormalizer;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
+import app.skillsoft.assessmentbackend.services.scoring.PlanScores;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringKernel;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlan;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlanCache;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringResult;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringStrategy;
 import app.skillsoft.assessmentbackend.util.LoggingContext;
@@ -26,6 +27,9 @@ import java.util.*;
  * 4. Calculate percentages at both indicator and competency levels
  * 5. Generate nested score breakdown (Competency → Indicators)
  *
+ * Steps 1-3 run in ScoringKernel over the template's cached ScoringPlan, which also
+ * carries the goal's competency weights.
+ *
  * Note: Big Five personality projection is handled on the frontend using
  * O*NET → Big Five mapping. This preserves server security while allowing
  * real-time recalibration on the client.
@@ -38,89 +42,15 @@ public class OverviewScoringStrategy implements ScoringStrategy {
 
     private static final Logger log = LoggerFactory.getLogger(OverviewScoringStrategy.class);
 
-    private final CompetencyBatchLoader competencyBatchLoader;
-    private final IndicatorBatchLoader indicatorBatchLoader;
-    private final ScoreNormalizer scoreNormalizer;
-
-    public OverviewScoringStrategy(CompetencyBatchLoader competencyBatchLoader,
-                                   IndicatorBatchLoader indicatorBatchLoader,
-                                   ScoreNormalizer scoreNormalizer) {
-        this.competencyBatchLoader = competencyBatchLoader;
-        this.indicatorBatchLoader = indicatorBatchLoader;
-        this.scoreNormalizer = scoreNormalizer;
-    }
-
-    /**
-     * Internal helper class to aggregate scores at the indicator level.
-     */
-    private static class IndicatorAggregation {
-        UUID indicatorId;
-        double totalScore = 0;
-        double totalMaxScore = 0;
-        int questionCount = 0;
-
-        IndicatorAggregation(UUID indicatorId) {
-            this.indicatorId = indicatorId;
-        }
-
-        void addAnswer(double normalizedScore) {
-            totalScore += normalizedScore;
-            totalMaxScore += 1.0; // Each normalized answer has max 1.0
-            questionCount++;
-        }
+    private final ScoringPlanCache planCache;
+    private final ScoringKernel scoringKernel;
 
-        IndicatorScoreDto toDto(BehavioralIndicator indicator) {
-            double percentage = totalMaxScore > 0 ? (totalScore / totalMaxScore) * 100.0 : 0.0;
-
-            IndicatorScoreDto dto = new IndicatorScoreDto();
-            dto.setIndicatorId(indicatorId);
-            dto.setIndicatorTitle(indicator != null ? indicator.getTitle() : "Unknown Indicator");
-            dto.setWeight(indicator != null ? indicator.getWeight() : 1.0);
-            dto.setScore(totalScore);
-            dto.setMaxScore(totalMaxScore);
-            dto.setPercentage(percentage);
-            dto.setQuestionsAnswered(questionCount);
-            return dto;
-        }
+    public OverviewScoringStrategy(ScoringPlanCache planCache,
+                                   ScoringKernel scoringKernel) {
+        this.planCache = planCache;
+        this.scoringKernel = scoringKernel;
     }
 
-    /**
-     * Internal helper class to aggregate indicator scores at the competency level.
-     */
-    private static class CompetencyAggregation {
-        UUID competencyId;
-        double totalScore = 0;
-        double totalMaxScore = 0;
-        int questionCount = 0;
-        List<IndicatorScoreDto> indicatorScores = new ArrayList<>();
-
-        CompetencyAggregation(UUID competencyId) {
-            this.competencyId = competencyId;
-        }
-
-        void addIndicator(IndicatorScoreDto indicatorDto, IndicatorAggregation agg) {
-            totalScore += agg.totalScore;
-            totalMaxScore += agg.totalMaxScore;
-            questionCount += agg.questionCount;
-            indicatorScores.add(indicatorDto);
-        }
-
-        CompetencyScoreDto toDto(Competency competency) {
-            double percentage = totalMaxScore > 0 ? (totalScore / totalMaxScore) * 100.0 : 0.0;
-
-            CompetencyScoreDto dto = new CompetencyScoreDto();
-            dto.setCompetencyId(competencyId);
-            dto.setCompetencyName(competency != null ? competency.getName() : "Unknown Competency");
-            dto.setScore(totalScore);
-            dto.setMaxScore(totalMaxScore);
-            dto.setPercentage(percentage);
-            dto.setQuestionsAnswered(questionCount);
-            dto.setOnetCode(competency != null ? competency.getOnetCode() : null);
-            dto.setIndicatorScores(indicatorScores);
-            return dto;
-        }
-    }
-    
     @Override
     public ScoringResult calculate(TestSession session, List<TestAnswer> answers) {
         // Set session context for all scoring log messages
@@ -130,71 +60,39 @@ public class OverviewScoringStrategy implements ScoringStrategy {
         log.info("Calculating Scenario A (Overview) score with indicator breakdown: session={} answers={} user={}",
                 session.getId(), answers.size(), session.getClerkUserId());
 
-        // Batch load all competencies and indicators upfront to prevent N+1 queries
-        Map<UUID, Competency> competencyCache = competencyBatchLoader.loadCompetenciesForAnswers(answers);
-        Map<UUID, BehavioralIndicator> indicatorCache = indicatorBatchLoader.loadIndicatorsForAnswers(answers);
-
-        // Step 1: Normalize & Aggregate Scores by Indicator (first level)
-        Map<UUID, IndicatorAggregation> indicatorAggs = new HashMap<>();
-
-        for (TestAnswer answer : answers) {
-            // Skip unanswered or skipped questions
-            if (answer.getIsSkipped() || answer.getAnsweredAt() == null) {
-                continue;
-            }
-
-            Optional<UUID> indicatorIdOpt = indicatorBatchLoader.extractIndicatorIdSafe(answer);
-            if (indicatorIdOpt.isEmpty()) {
-                log.warn("Skipping answer {} - unable to extract indicator ID", answer.getId());
-                continue;
-            }
-            UUID indicatorId = indicatorIdOpt.get();
-
-            double normalizedScore = scoreNormalizer.normalize(answer);
-
-            indicatorAggs.computeIfAbsent(indicatorId, IndicatorAggregation::new)
-                    .addAnswer(normalizedScore);
-        }
-
-        log.debug("Aggregated {} indicators from {} answers", indicatorAggs.size(), answers.size());
-
-        // Step 2: Roll up indicators to competencies (second level)
-        Map<UUID, CompetencyAggregation> competencyAggs = new HashMap<>();
-
-        for (var entry : indicatorAggs.entrySet()) {
-            UUID indicatorId = entry.getKey();
-            IndicatorAggregation indAgg = entry.getValue();
-
-            BehavioralIndicator indicator = indicatorBatchLoader.getFromCache(indicatorCache, indicatorId);
-            if (indicator == null || indicator.getCompetency() == null) {
-                log.warn("Skipping indicator {} - competency not found", indicatorId);
-                continue;
-            }
+        // Step 1: Normalize & Aggregate Scores by Indicator over the template's compiled plan
+        ScoringPlan plan = planCache.planForAnswers(session.getTemplate(), AssessmentGoal.OVERVIEW, answers);
+        return rollUp(scoringKernel.score(plan, answers));
+    }
 
-            UUID competencyId = indicator.getCompetency().getId();
-            IndicatorScoreDto indicatorDto = indAgg.toDto(indicator);
+    @Override
+    public ScoringResult calculateFromTallies(TestSession session, Collection<IndicatorTally> tallies) {
+        LoggingContext.setSessionId(session.getId());
+        LoggingContext.setOperation("overview-scoring");
 
-            competencyAggs.computeIfAbsent(competencyId, CompetencyAggregation::new)
-                    .addIndicator(indicatorDto, indAgg);
+        log.info("Calculating Scenario A (Overview) score from indicator tallies: session={} indicators={} user={}",
+                session.getId(), tallies.size(), session.getClerkUserId());
 
-            log.debug("Indicator {}: {} questions, score {}/{} ({}%)",
-                    indicator.getTitle(), indAgg.questionCount, indAgg.totalScore,
-                    indAgg.totalMaxScore, String.format("%.2f", indicatorDto.getPercentage()));
-        }
+        // Step 1: Indicator aggregates were maintained as answers were submitted
+        ScoringPlan plan = planCache.planForTallies(session.getTemplate(), AssessmentGoal.OVERVIEW, tallies);
+        return rollUp(scoringKernel.score(plan, tallies));
+    }
 
-        // Step 3: Create final CompetencyScoreDto list with nested indicators
+    /**
+     * Build competency scores and the overall score from the kernel's totals (steps 2-5).
+     */
+    private ScoringResult rollUp(PlanScores scores) {
+        // Steps 2-3: Competency scores with nested indicators, rolled up by the kernel
         List<CompetencyScoreDto> finalScores = new ArrayList<>();
         double totalPercentage = 0.0;
+        double totalScore = 0.0;
 
-        for (var entry : competencyAggs.entrySet()) {
-            UUID competencyId = entry.getKey();
-            CompetencyAggregation compAgg = entry.getValue();
-
-            Competency competency = competencyBatchLoader.getFromCache(competencyCache, competencyId);
-            CompetencyScoreDto scoreDto = compAgg.toDto(competency);
+        for (int competency : scores.scoredCompetencies()) {
+            CompetencyScoreDto scoreDto = scores.toDto(competency);
 
             finalScores.add(scoreDto);
             totalPercentage += scoreDto.getPercentage();
+            totalScore += scoreDto.getScore();
 
             log.debug("Competency {}: {} indicators, {} questions, score {}/{} ({}%)",
                     scoreDto.getCompetencyName(), scoreDto.getIndicatorScores().size(),
@@ -209,14 +107,12 @@ public class OverviewScoringStrategy implements ScoringStrategy {
                 : 0.0;
 
         double overallScore = competencyCount > 0
-                ? finalScores.stream()
-                .mapToDouble(CompetencyScoreDto::getScore)
-                .sum() / competencyCount
+                ? totalScore / competencyCount
                 : 0.0;
 
         log.info("Overall score calculated: {} ({}/100) with {} competencies, {} indicators",
                 String.format("%.2f", overallScore), String.format("%.2f", overallPercentage),
-                competencyCount, indicatorAggs.size());
+                competencyCount, scores.scoredIndicatorCount());
 
         // Step 5: Create Result
         ScoringResult result = new ScoringResult();
@@ -2,13 +2,14 @@ package app.skillsoft.assessmentbackend.services.scoring.impl;
 
 import app.skillsoft.assessmentbackend.config.ScoringConfiguration;
 import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
-import app.skillsoft.assessmentbackend.domain.dto.IndicatorScoreDto;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TeamFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TestBlueprintDto;
 import app.skillsoft.assessmentbackend.domain.entities.*;
-import app.skillsoft.assessmentbackend.services.scoring.CompetencyBatchLoader;
-import app.skillsoft.assessmentbackend.services.scoring.IndicatorBatchLoader;
-import app.skillsoft.assessmentbackend.services.scoring.ScoreNormalizer;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
+import app.skillsoft.assessmentbackend.services.scoring.PlanScores;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringKernel;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlan;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlanCache;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringResult;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringStrategy;
 import org.slf4j.Logger;
@@ -29,6 +30,9 @@ import java.util.*;
  * 5. Analyze personality compatibility using Big Five mappings
  * 6. Implement Role Saturation scoring to identify team gaps
  *
+ * Steps 1-3 run in ScoringKernel over the template's cached ScoringPlan, which also
+ * carries the goal's competency weights.
+ *
  * Per ROADMAP.md Section 1.2 - Dynamic Gap Analysis Strategy:
  * - Uses ESCO URIs for skill normalization across team members
  * - Analyzes personality compatibility using Big Five from Competency Passport
@@ -40,82 +44,43 @@ public class TeamFitScoringStrategy implements ScoringStrategy {
 
     private static final Logger log = LoggerFactory.getLogger(TeamFitScoringStrategy.class);
 
-    private final CompetencyBatchLoader competencyBatchLoader;
-    private final IndicatorBatchLoader indicatorBatchLoader;
+    private final ScoringPlanCache planCache;
+    private final ScoringKernel scoringKernel;
     private final ScoringConfiguration scoringConfig;
-    private final ScoreNormalizer scoreNormalizer;
 
     public TeamFitScoringStrategy(
-            CompetencyBatchLoader competencyBatchLoader,
-            IndicatorBatchLoader indicatorBatchLoader,
-            ScoringConfiguration scoringConfig,
-            ScoreNormalizer scoreNormalizer) {
-        this.competencyBatchLoader = competencyBatchLoader;
-        this.indicatorBatchLoader = indicatorBatchLoader;
+            ScoringPlanCache planCache,
+            ScoringKernel scoringKernel,
+            ScoringConfiguration scoringConfig) {
+        this.planCache = planCache;
+        this.scoringKernel = scoringKernel;
         this.scoringConfig = scoringConfig;
-        this.scoreNormalizer = scoreNormalizer;
     }
 
-    /**
-     * Internal helper class to aggregate scores at the indicator level.
-     */
-    private static class IndicatorAggregation {
-        UUID indicatorId;
-        double totalScore = 0;
-        double totalMaxScore = 0;
-        int questionCount = 0;
-
-        IndicatorAggregation(UUID indicatorId) {
-            this.indicatorId = indicatorId;
-        }
-
-        void addAnswer(double normalizedScore) {
-            totalScore += normalizedScore;
-            totalMaxScore += 1.0;
-            questionCount++;
-        }
+    @Override
+    public ScoringResult calculate(TestSession session, List<TestAnswer> answers) {
+        log.info("Calculating Scenario C (Team Fit) score with indicator breakdown for session: {}", session.getId());
 
-        IndicatorScoreDto toDto(BehavioralIndicator indicator) {
-            double percentage = totalMaxScore > 0 ? (totalScore / totalMaxScore) * 100.0 : 0.0;
-
-            IndicatorScoreDto dto = new IndicatorScoreDto();
-            dto.setIndicatorId(indicatorId);
-            dto.setIndicatorTitle(indicator != null ? indicator.getTitle() : "Unknown Indicator");
-            dto.setWeight(indicator != null ? indicator.getWeight() : 1.0);
-            dto.setScore(totalScore);
-            dto.setMaxScore(totalMaxScore);
-            dto.setPercentage(percentage);
-            dto.setQuestionsAnswered(questionCount);
-            return dto;
-        }
+        // Step 1: Normalize & Aggregate Scores by Indicator over the template's compiled plan
+        ScoringPlan plan = planCache.planForAnswers(session.getTemplate(), AssessmentGoal.TEAM_FIT, answers);
+        return rollUp(session, scoringKernel.score(plan, answers));
     }
 
-    /**
-     * Internal helper class to aggregate indicator scores at the competency level.
-     */
-    private static class CompetencyAggregation {
-        UUID competencyId;
-        double totalScore = 0;
-        double totalMaxScore = 0;
-        int questionCount = 0;
-        List<IndicatorScoreDto> indicatorScores = new ArrayList<>();
-
-        CompetencyAggregation(UUID competencyId) {
-            this.competencyId = competencyId;
-        }
+    @Override
+    public ScoringResult calculateFromTallies(TestSession session, Collection<IndicatorTally> tallies) {
+        log.info("Calculating Scenario C (Team Fit) score from {} indicator tallies for session: {}",
+                tallies.size(), session.getId());
 
-        void addIndicator(IndicatorScoreDto indicatorDto, IndicatorAggregation agg) {
-            totalScore += agg.totalScore;
-            totalMaxScore += agg.totalMaxScore;
-            questionCount += agg.questionCount;
-            indicatorScores.add(indicatorDto);
-        }
+        // Step 1: Indicator aggregates were maintained as answers were submitted
+        ScoringPlan plan = planCache.planForTallies(session.getTemplate(), AssessmentGoal.TEAM_FIT, tallies);
+        return rollUp(session, scoringKernel.score(plan, tallies));
     }
 
-    @Override
-    public ScoringResult calculate(TestSession session, List<TestAnswer> answers) {
-        log.info("Calculating Scenario C (Team Fit) score with indicator breakdown for session: {}", session.getId());
-
+    /**
+     * Analyze the kernel's competency totals for the Big Five profile and the team
+     * diversity/saturation balance (steps 2-6).
+     */
+    private ScoringResult rollUp(TestSession session, PlanScores scores) {
         TestTemplate template = session.getTemplate();
         TeamFitBlueprint blueprint = extractTeamFitBlueprint(template);
 
@@ -123,150 +88,66 @@ public class TeamFitScoringStrategy implements ScoringStrategy {
 
         // Get Team Fit configuration
         ScoringConfiguration.Thresholds.TeamFit teamFitConfig = scoringConfig.getThresholds().getTeamFit();
-        ScoringConfiguration.Weights weights = scoringConfig.getWeights();
 
         // Saturation threshold can be overridden by blueprint, otherwise use config default
         double saturationThreshold = blueprint != null
                 ? blueprint.getSaturationThreshold()
                 : teamFitConfig.getSaturationThreshold();
+        double diversityThreshold = teamFitConfig.getDiversityThreshold();
 
         log.debug("Team Fit parameters - Team ID: {}, Saturation Threshold: {}", teamId, saturationThreshold);
 
-        // Batch load all competencies and indicators upfront to prevent N+1 queries
-        Map<UUID, Competency> competencyCache = competencyBatchLoader.loadCompetenciesForAnswers(answers);
-        Map<UUID, BehavioralIndicator> indicatorCache = indicatorBatchLoader.loadIndicatorsForAnswers(answers);
-
-        // Step 1: Normalize & Aggregate Scores by Indicator (first level)
-        Map<UUID, IndicatorAggregation> indicatorAggs = new HashMap<>();
+        // Step 2: Indicators were rolled up to competencies by the kernel
+        ScoringPlan plan = scores.plan();
 
-        // Track Big Five and ESCO mappings for team compatibility analysis
+        // Track Big Five mappings for team compatibility analysis
+        // (each competency contributes the sum and count of its normalized answer scores)
         Map<String, Double> bigFiveScores = new HashMap<>();
         Map<String, Integer> bigFiveCounts = new HashMap<>();
-        Map<String, Double> escoScores = new HashMap<>();
-        Map<String, Integer> escoCounts = new HashMap<>();
-
-        for (TestAnswer answer : answers) {
-            // Skip unanswered or skipped questions
-            if (answer.getIsSkipped() || answer.getAnsweredAt() == null) {
-                continue;
-            }
-
-            Optional<UUID> indicatorIdOpt = indicatorBatchLoader.extractIndicatorIdSafe(answer);
-            if (indicatorIdOpt.isEmpty()) {
-                log.warn("Skipping answer {} - unable to extract indicator ID", answer.getId());
-                continue;
-            }
-            UUID indicatorId = indicatorIdOpt.get();
-
-            double normalizedScore = scoreNormalizer.normalize(answer);
-
-            indicatorAggs.computeIfAbsent(indicatorId, IndicatorAggregation::new)
-                    .addAnswer(normalizedScore);
-
-            // Get competency from indicator for Big Five and ESCO tracking
-            BehavioralIndicator indicator = indicatorBatchLoader.getFromCache(indicatorCache, indicatorId);
-            Competency competency = (indicator != null) ? indicator.getCompetency() : null;
-
-            if (competency != null) {
-                // Aggregate Big Five scores for personality compatibility
-                String bigFiveCategory = competency.getBigFiveCategory();
-                if (bigFiveCategory != null) {
-                    bigFiveScores.merge(bigFiveCategory, normalizedScore, Double::sum);
-                    bigFiveCounts.merge(bigFiveCategory, 1, Integer::sum);
-                }
-
-                // Aggregate ESCO scores for skill normalization
-                String escoUri = competency.getEscoUri();
-                if (escoUri != null) {
-                    escoScores.merge(escoUri, normalizedScore, Double::sum);
-                    escoCounts.merge(escoUri, 1, Integer::sum);
-                }
-            }
-        }
-
-        log.debug("Aggregated {} indicators from {} answers", indicatorAggs.size(), answers.size());
-
-        // Step 2: Roll up indicators to competencies (second level)
-        Map<UUID, CompetencyAggregation> competencyAggs = new HashMap<>();
-
-        for (var entry : indicatorAggs.entrySet()) {
-            UUID indicatorId = entry.getKey();
-            IndicatorAggregation indAgg = entry.getValue();
-
-            BehavioralIndicator indicator = indicatorBatchLoader.getFromCache(indicatorCache, indicatorId);
-            if (indicator == null || indicator.getCompetency() == null) {
-                log.warn("Skipping indicator {} - competency not found", indicatorId);
-                continue;
-            }
-
-            UUID competencyId = indicator.getCompetency().getId();
-            IndicatorScoreDto indicatorDto = indAgg.toDto(indicator);
-
-            competencyAggs.computeIfAbsent(competencyId, CompetencyAggregation::new)
-                    .addIndicator(indicatorDto, indAgg);
-        }
 
         // Step 3: Create Score DTOs with Team Fit Analysis
         List<CompetencyScoreDto> finalScores = new ArrayList<>();
         double totalWeightedScore = 0.0;
+        double totalWeight = 0.0;
+        double totalScore = 0.0;
 
         // Track competencies that contribute to team diversity vs saturation
         int diversityContributors = 0;
         int saturationContributors = 0;
 
-        for (var entry : competencyAggs.entrySet()) {
-            UUID competencyId = entry.getKey();
-            CompetencyAggregation compAgg = entry.getValue();
-
-            // Get competency details from preloaded cache
-            Competency competency = competencyBatchLoader.getFromCache(competencyCache, competencyId);
-            String competencyName = competency != null ? competency.getName() : "Unknown Competency";
-            String onetCode = competency != null ? competency.getOnetCode() : null;
-            String escoUri = competency != null ? competency.getEscoUri() : null;
-
-            double percentage = compAgg.totalMaxScore > 0
-                    ? (compAgg.totalScore / compAgg.totalMaxScore) * 100.0 : 0.0;
-            double average = compAgg.totalMaxScore > 0
-                    ? compAgg.totalScore / compAgg.totalMaxScore : 0.0;
+        for (int competency : scores.scoredCompetencies()) {
+            CompetencyScoreDto scoreDto = scores.toDto(competency);
+            double percentage = scoreDto.getPercentage();
+            double average = scores.competencyAverage(competency);
 
             // For Team Fit, track questions that demonstrate competency
-            int questionsCorrect = (int) Math.round(average * compAgg.questionCount);
-
-            CompetencyScoreDto scoreDto = new CompetencyScoreDto();
-            scoreDto.setCompetencyId(competencyId);
-            scoreDto.setCompetencyName(competencyName);
-            scoreDto.setScore(compAgg.totalScore);
-            scoreDto.setMaxScore(compAgg.totalMaxScore);
-            scoreDto.setPercentage(percentage);
-            scoreDto.setQuestionsAnswered(compAgg.questionCount);
+            int questionsCorrect = (int) Math.round(average * scoreDto.getQuestionsAnswered());
             scoreDto.setQuestionsCorrect(questionsCorrect);
-            scoreDto.setOnetCode(onetCode);
-            scoreDto.setIndicatorScores(compAgg.indicatorScores);
 
             finalScores.add(scoreDto);
+            totalScore += scoreDto.getScore();
+
+            // Aggregate Big Five scores for personality compatibility
+            String traitCategory = plan.traitCategory(competency);
+            if (traitCategory != null) {
+                bigFiveScores.merge(traitCategory, scoreDto.getScore(), Double::sum);
+                bigFiveCounts.merge(traitCategory, scoreDto.getQuestionsAnswered(), Integer::sum);
+            }
 
             // Determine if this competency contributes to team diversity or saturation
-            double diversityThreshold = teamFitConfig.getDiversityThreshold();
             if (average >= saturationThreshold) {
                 saturationContributors++;
             } else if (average >= diversityThreshold) {
                 diversityContributors++;
             }
 
-            // Weight based on ESCO mapping
-            double weight = (escoUri != null && !escoUri.isEmpty()) ? weights.getEscoBoost() : 1.0;
-
-            // Additional weight for competencies with Big Five mapping
-            String bigFive = competency != null ? competency.getBigFiveCategory() : null;
-            if (bigFive != null) {
-                weight *= weights.getBigFiveBoost();
-            }
-
-            totalWeightedScore += (percentage * weight);
+            // Weight based on ESCO and Big Five mapping
+            totalWeightedScore += (percentage * plan.competencyWeight(competency));
+            totalWeight += plan.normalizationWeight(competency);
 
             log.debug("Competency {} (ESCO: {}, Big Five: {}): {} indicators, score {}%, contribution: {}",
-                    competencyName, escoUri, bigFive, compAgg.indicatorScores.size(),
-                    String.format("%.2f", percentage),
+                    scoreDto.getCompetencyName(), plan.escoUri(competency), plan.bigFiveCategory(competency),
+                    scoreDto.getIndicatorScores().size(), String.format("%.2f", percentage),
                     average >= saturationThreshold ? "SATURATION" : (average >= diversityThreshold ? "DIVERSITY" : "GAP"));
         }
 
@@ -285,25 +166,12 @@ public class TeamFitScoringStrategy implements ScoringStrategy {
         int gapContributors = competencyCount - diversityContributors - saturationContributors;
 
         // Step 5: Calculate Overall Team Fit Score
-        double escoBoostForWeighting = weights.getEscoBoost();
-        double totalWeight = competencyCount > 0
-                ? finalScores.stream()
-                .mapToDouble(s -> {
-                    double w = 1.0;
-                    if (s.getOnetCode() != null && !s.getOnetCode().isEmpty()) w *= escoBoostForWeighting;
-                    return w;
-                })
-                .sum()
-                : 1.0;
-
         double overallPercentage = competencyCount > 0
                 ? totalWeightedScore / totalWeight
                 : 0.0;
 
         double overallScore = competencyCount > 0
-                ? finalScores.stream()
-                .mapToDouble(CompetencyScoreDto::getScore)
-                .sum() / competencyCount
+                ? totalScore / competencyCount
                 : 0.0;
 
         // Calculate team compatibility factor
@@ -335,7 +203,7 @@ public class TeamFitScoringStrategy implements ScoringStrategy {
                 String.format("%.2f", adjustedPercentage),
                 String.format("%.2f", diversityRatio * 100),
                 String.format("%.2f", saturationRatio * 100),
-                indicatorAggs.size());
+                scores.scoredIndicatorCount());
 
         // Step 6: Create Result
         ScoringResult result = new ScoringResult();
@@ -0,0 +1,392 @@
+package app.skillsoft.assessmentbackend.services.selection;
+
+import app.skillsoft.assessmentbackend.domain.entities.DifficultyLevel;
+import app.skillsoft.assessmentbackend.domain.entities.ItemValidityStatus;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
+import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * In-memory index of the questions eligible for test assembly.
+ *
+ * Holds every active, non-RETIRED question ID keyed by behavioral indicator and
+ * difficulty, plus the active indicators of each competency ordered by weight.
+ * Selection reads an immutable snapshot, so assembling a test issues no
+ * per-question eligibility lookups against the database.
+ *
+ * Per-indicator layout (see {@link IndicatorPool}):
+ * - questionIds: all eligible IDs of the indicator, grouped by difficulty ordinal
+ *   (orderIndex order within a difficulty); questions without a difficulty form an
+ *   extra bucket after the last ordinal
+ * - difficultyOffsets: start offset of each difficulty bucket, so a bucket is the
+ *   slice [offsets[d], offsets[d + 1])
+ *
+ * Maintenance:
+ * - Built lazily on first use (two queries)
+ * - Patched per indicator on QuestionPoolChangedEvent once the mutating transaction commits
+ * - Rebuilt fully on indicator-level changes and periodically, so writes made on other
+ *   nodes are picked up
+ */
+@Component
+public class QuestionPoolIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionPoolIndex.class);
+
+    private static final DifficultyLevel[] DIFFICULTIES = DifficultyLevel.values();
+
+    /** Bucket of questions without a difficulty level. */
+    private static final int NO_DIFFICULTY = DIFFICULTIES.length;
+
+    private final AssessmentQuestionRepository questionRepository;
+    private final BehavioralIndicatorRepository indicatorRepository;
+
+    @Value("${skillsoft.psychometrics.enabled:true}")
+    private boolean psychometricsEnabled = true;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public QuestionPoolIndex(
+            AssessmentQuestionRepository questionRepository,
+            BehavioralIndicatorRepository indicatorRepository) {
+        this.questionRepository = questionRepository;
+        this.indicatorRepository = indicatorRepository;
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Get the eligible questions of an indicator ordered by difficulty preference.
+     *
+     * With a preferred difficulty, buckets are concatenated by ordinal distance from the
+     * preference (exact match first, then adjacent levels, ...), followed by the questions
+     * without a difficulty level. Without a preference the whole pool is shuffled.
+     *
+     * @param indicatorId         The behavioral indicator UUID
+     * @param preferredDifficulty Preferred difficulty (null for random order)
+     * @return Mutable list of eligible question IDs (empty if the indicator has none)
+     */
+    public List<UUID> eligibleQuestions(UUID indicatorId, DifficultyLevel preferredDifficulty) {
+        IndicatorPool pool = snapshot().pools().get(indicatorId);
+        if (pool == null) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> result = new ArrayList<>(pool.size());
+
+        if (preferredDifficulty == null) {
+            Collections.addAll(result, pool.questionIds());
+            Collections.shuffle(result);
+            return result;
+        }
+
+        int preferred = preferredDifficulty.ordinal();
+        int maxDistance = Math.max(preferred, DIFFICULTIES.length - 1 - preferred);
+
+        for (int distance = 0; distance <= maxDistance; distance++) {
+            int lower = preferred - distance;
+            int upper = preferred + distance;
+            if (lower >= 0) {
+                pool.appendBucket(lower, result);
+            }
+            if (distance > 0 && upper < DIFFICULTIES.length) {
+                pool.appendBucket(upper, result);
+            }
+        }
+        pool.appendBucket(NO_DIFFICULTY, result);
+
+        return result;
+    }
+
+    /**
+     * Check whether a question is active and not RETIRED.
+     */
+    public boolean isEligible(UUID questionId) {
+        return questionId != null && snapshot().eligibleIds().contains(questionId);
+    }
+
+    /**
+     * Count eligible questions for an indicator.
+     */
+    public int eligibleCount(UUID indicatorId) {
+        IndicatorPool pool = snapshot().pools().get(indicatorId);
+        return pool != null ? pool.size() : 0;
+    }
+
+    /**
+     * Count eligible questions for an indicator at a specific difficulty.
+     */
+    public int eligibleCount(UUID indicatorId, DifficultyLevel difficulty) {
+        IndicatorPool pool = snapshot().pools().get(indicatorId);
+        return pool != null ? pool.bucketSize(difficulty.ordinal()) : 0;
+    }
+
+    /**
+     * Get the active indicators of a competency, ordered by weight (descending).
+     */
+    public List<UUID> activeIndicatorIds(UUID competencyId) {
+        CompetencyIndicators indicators = snapshot().indicatorsByCompetency().get(competencyId);
+        return indicators != null ? List.of(indicators.indicatorIds()) : List.of();
+    }
+
+    /**
+     * Get the active indicators of several competencies merged into one list ordered by
+     * weight (descending). Ties keep the order of the given competencies.
+     */
+    public List<UUID> activeIndicatorIdsByWeight(Collection<UUID> competencyIds) {
+        Map<UUID, CompetencyIndicators> byCompetency = snapshot().indicatorsByCompetency();
+
+        List<UUID> ids = new ArrayList<>();
+        List<Float> weights = new ArrayList<>();
+        for (UUID competencyId : competencyIds) {
+            CompetencyIndicators indicators = byCompetency.get(competencyId);
+            if (indicators == null) {
+                continue;
+            }
+            for (int i = 0; i < indicators.indicatorIds().length; i++) {
+                ids.add(indicators.indicatorIds()[i]);
+                weights.add(indicators.weights()[i]);
+            }
+        }
+
+        Integer[] order = new Integer[ids.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Arrays.sort on objects is stable, so equal weights keep competency order
+        Arrays.sort(order, (a, b) -> Float.compare(weights.get(b), weights.get(a)));
+
+        List<UUID> result = new ArrayList<>(order.length);
+        for (Integer index : order) {
+            result.add(ids.get(index));
+        }
+        return result;
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Apply a pool change once the transaction that caused it has committed.
+     * Falls back to immediate execution when published outside a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionPoolChanged(QuestionPoolChangedEvent event) {
+        try {
+            if (event.requiresFullRebuild()) {
+                log.debug("Question pool changed ({}), rebuilding index", event.reason());
+                invalidate();
+            } else {
+                log.debug("Question pool changed for indicator {} ({}), patching index",
+                        event.indicatorId(), event.reason());
+                refreshIndicator(event.indicatorId());
+            }
+        } catch (Exception e) {
+            // Never fail the caller; drop the snapshot so the next read rebuilds it
+            log.error("Failed to apply question pool change ({}): {}", event.reason(), e.getMessage(), e);
+            invalidate();
+        }
+    }
+
+    /**
+     * Periodic full rebuild to pick up changes made by other application nodes.
+     * Skipped until the index has been used on this node.
+     */
+    @Scheduled(
+            fixedDelayString = "${skillsoft.question-pool.refresh-interval-ms:300000}",
+            initialDelayString = "${skillsoft.question-pool.refresh-interval-ms:300000}")
+    public void scheduledRebuild() {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Scheduled question pool rebuild failed, keeping previous snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the database.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            snapshot = load();
+        }
+    }
+
+    /**
+     * Drop the current snapshot; the next read rebuilds it.
+     */
+    public void invalidate() {
+        synchronized (rebuildLock) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Reload the pool of a single indicator and swap it into a new snapshot.
+     * No-op if the index has not been built yet (the first read loads everything).
+     */
+    public void refreshIndicator(UUID indicatorId) {
+        synchronized (rebuildLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+
+            List<Object[]> rows = questionRepository.findAssemblyPoolEntriesByIndicatorId(indicatorId);
+            IndicatorPool refreshed = buildPool(rows);
+
+            Map<UUID, IndicatorPool> pools = new HashMap<>(current.pools());
+            Set<UUID> eligibleIds = new HashSet<>(current.eligibleIds());
+
+            IndicatorPool previous = pools.remove(indicatorId);
+            if (previous != null) {
+                eligibleIds.removeAll(Arrays.asList(previous.questionIds()));
+            }
+            if (refreshed.size() > 0) {
+                pools.put(indicatorId, refreshed);
+                Collections.addAll(eligibleIds, refreshed.questionIds());
+            }
+
+            snapshot = new Snapshot(pools, current.indicatorsByCompetency(), eligibleIds);
+            log.debug("Patched question pool for indicator {}: {} eligible questions",
+                    indicatorId, refreshed.size());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (rebuildLock) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.nanoTime();
+
+        // Questions: grouped per indicator (query is ordered by indicator, then orderIndex)
+        Map<UUID, List<Object[]>> rowsByIndicator = new LinkedHashMap<>();
+        for (Object[] row : questionRepository.findAssemblyPoolEntries()) {
+            rowsByIndicator.computeIfAbsent((UUID) row[1], k -> new ArrayList<>()).add(row);
+        }
+
+        Map<UUID, IndicatorPool> pools = new HashMap<>(rowsByIndicator.size() * 2);
+        Set<UUID> eligibleIds = new HashSet<>();
+        for (Map.Entry<UUID, List<Object[]>> entry : rowsByIndicator.entrySet()) {
+            IndicatorPool pool = buildPool(entry.getValue());
+            if (pool.size() > 0) {
+                pools.put(entry.getKey(), pool);
+                Collections.addAll(eligibleIds, pool.questionIds());
+            }
+        }
+
+        // Indicators: grouped per competency (query is ordered by weight descending)
+        Map<UUID, List<Object[]>> indicatorRows = new HashMap<>();
+        for (Object[] row : indicatorRepository.findActiveIndicatorCompetencyMappings()) {
+            indicatorRows.computeIfAbsent((UUID) row[1], k -> new ArrayList<>()).add(row);
+        }
+        Map<UUID, CompetencyIndicators> indicatorsByCompetency = new HashMap<>(indicatorRows.size() * 2);
+        indicatorRows.forEach((competencyId, rows) -> {
+            UUID[] ids = new UUID[rows.size()];
+            float[] weights = new float[rows.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = (UUID) rows.get(i)[0];
+                weights[i] = ((Number) rows.get(i)[2]).floatValue();
+            }
+            indicatorsByCompetency.put(competencyId, new CompetencyIndicators(ids, weights));
+        });
+
+        log.info("Built question pool index: {} eligible questions across {} indicators, {} competencies in {} ms",
+                eligibleIds.size(), pools.size(), indicatorsByCompetency.size(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        return new Snapshot(pools, indicatorsByCompetency, eligibleIds);
+    }
+
+    /**
+     * Build an indicator pool from [questionId, indicatorId, difficulty, validityStatus] rows,
+     * dropping RETIRED items (unless psychometrics are disabled).
+     * Counting sort by difficulty keeps the incoming orderIndex order within each bucket.
+     */
+    private IndicatorPool buildPool(List<Object[]> rows) {
+        int[] offsets = new int[NO_DIFFICULTY + 2];
+        List<Object[]> eligible = new ArrayList<>(rows.size());
+
+        for (Object[] row : rows) {
+            ItemValidityStatus status = (ItemValidityStatus) row[3];
+            if (psychometricsEnabled && status == ItemValidityStatus.RETIRED) {
+                continue;
+            }
+            eligible.add(row);
+            offsets[difficultyOrdinal(row) + 1]++;
+        }
+
+        for (int d = 0; d <= NO_DIFFICULTY; d++) {
+            offsets[d + 1] += offsets[d];
+        }
+
+        UUID[] questionIds = new UUID[eligible.size()];
+        int[] cursor = Arrays.copyOf(offsets, NO_DIFFICULTY + 1);
+        for (Object[] row : eligible) {
+            questionIds[cursor[difficultyOrdinal(row)]++] = (UUID) row[0];
+        }
+
+        return new IndicatorPool(questionIds, offsets);
+    }
+
+    private static int difficultyOrdinal(Object[] row) {
+        DifficultyLevel difficulty = (DifficultyLevel) row[2];
+        return difficulty != null ? difficulty.ordinal() : NO_DIFFICULTY;
+    }
+
+    /**
+     * Immutable view of the pool; replaced wholesale on every rebuild or patch.
+     */
+    private record Snapshot(
+            Map<UUID, IndicatorPool> pools,
+            Map<UUID, CompetencyIndicators> indicatorsByCompetency,
+            Set<UUID> eligibleIds
+    ) {}
+
+    /**
+     * Active indicators of one competency with their weights, ordered by weight (descending).
+     */
+    private record CompetencyIndicators(UUID[] indicatorIds, float[] weights) {}
+
+    /**
+     * Eligible questions of one indicator, bucketed by difficulty ordinal (plus the
+     * NO_DIFFICULTY bucket).
+     */
+    record IndicatorPool(UUID[] questionIds, int[] difficultyOffsets) {
+
+        int size() {
+            return questionIds.length;
+        }
+
+        int bucketSize(int difficulty) {
+            return difficultyOffsets[difficulty + 1] - difficultyOffsets[difficulty];
+        }
+
+        void appendBucket(int difficulty, List<UUID> target) {
+            for (int i = difficultyOffsets[difficulty]; i < difficultyOffsets[difficulty + 1]; i++) {
+                target.add(questionIds[i]);
+            }
+        }
+    }
+}
@@ -159,7 +159,7 @@ public interface QuestionSelectionService {
     /**
      * Filter questions by psychometric validity status.
      *
-     * Uses PsychometricBlueprintValidator to check each question's status.
+     * Checks the whole list with one batch eligibility query.
      * By default, excludes RETIRED items.
      *
      * @param questions       List of questions to filter
@@ -240,4 +240,15 @@ public interface QuestionSelectionService {
      * @return Count of eligible questions
      */
     int getEligibleQuestionCountForCompetency(UUID competencyId);
+
+    /**
+     * Get the active behavioral indicators of a competency, sorted by weight (descending).
+     *
+     * Served from the in-memory question pool, so assemblers can resolve
+     * competencies to indicators without database round trips.
+     *
+     * @param competencyId The competency UUID
+     * @return Active indicator UUIDs (empty if none)
+     */
+    List<UUID> getActiveIndicatorIds(UUID competencyId);
 }
@@ -1,11 +1,8 @@
 package app.skillsoft.assessmentbackend.services.selection;
 
 import app.skillsoft.assessmentbackend.domain.entities.AssessmentQuestion;
-import app.skillsoft.assessmentbackend.domain.entities.BehavioralIndicator;
 import app.skillsoft.assessmentbackend.domain.entities.DifficultyLevel;
 import app.skillsoft.assessmentbackend.domain.entities.ItemValidityStatus;
-import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
-import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.services.validation.PsychometricBlueprintValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +26,10 @@ import java.util.stream.Collectors;
  * - Consistent difficulty fallback logic
  * - Reusable distribution strategies
  * - Proper logging and metrics
+ *
+ * All pools are served from {@link QuestionPoolIndex}, so selection performs
+ * no per-question eligibility lookups against the database. Ad-hoc question lists
+ * are checked with a single batch query via {@link PsychometricBlueprintValidator#eligibleSubset}.
  */
 @Service
 @Transactional(readOnly = true)
@@ -36,16 +37,13 @@ public class QuestionSelectionServiceImpl implements QuestionSelectionService {
 
     private static final Logger log = LoggerFactory.getLogger(QuestionSelectionServiceImpl.class);
 
-    private final AssessmentQuestionRepository questionRepository;
-    private final BehavioralIndicatorRepository indicatorRepository;
+    private final QuestionPoolIndex poolIndex;
     private final PsychometricBlueprintValidator psychometricValidator;
 
     public QuestionSelectionServiceImpl(
-            AssessmentQuestionRepository questionRepository,
-            BehavioralIndicatorRepository indicatorRepository,
+            QuestionPoolIndex poolIndex,
             PsychometricBlueprintValidator psychometricValidator) {
-        this.questionRepository = questionRepository;
-        this.indicatorRepository = indicatorRepository;
+        this.poolIndex = poolIndex;
         this.psychometricValidator = psychometricValidator;
     }
 
@@ -61,37 +59,19 @@ public class QuestionSelectionServiceImpl implements QuestionSelectionService {
         log.debug("Selecting up to {} questions for indicator {} (difficulty: {}, excluding: {})",
                 maxQuestions, indicatorId, preferredDifficulty, excludeQuestionIds.size());
 
-        // Fetch all active questions for the indicator
-        List<AssessmentQuestion> candidates = questionRepository
-                .findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId);
+        // Active, non-RETIRED questions ordered by difficulty preference
+        // (shuffled when there is no preference)
+        List<UUID> eligible = getEligibleQuestionPool(indicatorId, preferredDifficulty);
 
-        if (candidates.isEmpty()) {
-            log.warn("No active questions found for indicator {}", indicatorId);
+        if (eligible.isEmpty()) {
+            log.warn("No eligible questions found for indicator {}", indicatorId);
             return List.of();
         }
 
-        // Apply psychometric filtering (exclude RETIRED items)
-        List<AssessmentQuestion> eligible = filterByValidity(candidates);
-
-        // Exclude already-selected questions
-        if (!excludeQuestionIds.isEmpty()) {
-            eligible = eligible.stream()
-                    .filter(q -> !excludeQuestionIds.contains(q.getId()))
-                    .collect(Collectors.toList());
-        }
-
-        // Apply difficulty preference
-        if (preferredDifficulty != null) {
-            eligible = applyDifficultyPreference(eligible, preferredDifficulty);
-        } else {
-            // Shuffle if no difficulty preference (random selection)
-            Collections.shuffle(eligible);
-        }
-
-        // Select up to maxQuestions
+        // Exclude already-selected questions and select up to maxQuestions
         List<UUID> selected = eligible.stream()
+                .filter(id -> !excludeQuestionIds.contains(id))
                 .limit(maxQuestions)
-                .map(AssessmentQuestion::getId)
                 .collect(Collectors.toList());
 
         log.debug("Selected {} questions for indicator {} (requested: {})",
@@ -302,21 +282,13 @@ public class QuestionSelectionServiceImpl implements QuestionSelectionService {
             DifficultyLevel preferredDifficulty) {
 
         // Get all active indicators for this competency, sorted by weight
-        List<BehavioralIndicator> indicators = indicatorRepository.findByCompetencyId(competencyId)
-                .stream()
-                .filter(BehavioralIndicator::isActive)
-                .sorted(Comparator.comparing(BehavioralIndicator::getWeight).reversed())
-                .toList();
+        List<UUID> indicatorIds = poolIndex.activeIndicatorIds(competencyId);
 
-        if (indicators.isEmpty()) {
+        if (indicatorIds.isEmpty()) {
             log.warn("No active behavioral indicators found for competency {}", competencyId);
             return List.of();
         }
 
-        List<UUID> indicatorIds = indicators.stream()
-                .map(BehavioralIndicator::getId)
-                .toList();
-
         return selectQuestionsWithDistribution(
                 indicatorIds,
                 totalQuestions,
@@ -341,22 +313,14 @@ public class QuestionSelectionServiceImpl implements QuestionSelectionService {
         log.info("Selecting questions for {} competencies ({} per indicator, difficulty: {})",
                 competencyIds.size(), questionsPerIndicator, preferredDifficulty);
 
-        // Gather all indicators from all competencies, sorted by weight
-        List<BehavioralIndicator> allIndicators = competencyIds.stream()
-                .flatMap(compId -> indicatorRepository.findByCompetencyId(compId).stream())
-                .filter(BehavioralIndicator::isActive)
-                .sorted(Comparator.comparing(BehavioralIndicator::getWeight).reversed())
-                .toList();
+        // Gather all active indicators from all competencies, sorted by weight
+        List<UUID> indicatorIds = poolIndex.activeIndicatorIdsByWeight(competencyIds);
 
-        if (allIndicators.isEmpty()) {
+        if (indicatorIds.isEmpty()) {
             log.warn("No active behavioral indicators found for competencies: {}", competencyIds);
             return List.of();
         }
 
-        List<UUID> indicatorIds = allIndicators.stream()
-                .map(BehavioralIndicator::getId)
-                .toList();
-
         // Calculate total questions: indicators * questionsPerIndicator
         int totalQuestions = indicatorIds.size() * questionsPerIndicator;
 
@@ -390,12 +354,12 @@ public class QuestionSelectionServiceImpl implements QuestionSelectionService {
             return List.of();
         }
 
+        // One joined query for the whole batch (active and not RETIRED)
+        Set<UUID> eligible = psychometricValidator.eligibleSubset(
+                questions.stream().map(AssessmentQuestion::getId).toList());
+
         return questions.stream()
-                .filter(q -> {
-                    // Use psychometric validator to check eligibility
-                    // This respects RETIRED status exclusion
-                    return psychometricValidator.isEligibleForAssembly(q.getId());
-                })
+                .filter(q -> eligible.contains(q.getId()))
                 .collect(Collectors.toList());
     }
 
@@ -455,50 +419,32 @@ public class QuestionSelectionServiceImpl implements QuestionSelectionService {
 
     @Override
     public boolean isEligibleForAssembly(UUID questionId) {
-        return psychometricValidator.isEligibleForAssembly(questionId);
+        return poolIndex.isEligible(questionId);
     }
 
     @Override
     public int getEligibleQuestionCount(UUID indicatorId) {
-        List<AssessmentQuestion> questions = questionRepository
-                .findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId);
-
-        return (int) questions.stream()
-                .filter(q -> psychometricValidator.isEligibleForAssembly(q.getId()))
-                .count();
+        return poolIndex.eligibleCount(indicatorId);
     }
 
     @Override
     public int getEligibleQuestionCountForCompetency(UUID competencyId) {
-        List<BehavioralIndicator> indicators = indicatorRepository.findByCompetencyId(competencyId);
-
-        return indicators.stream()
-                .filter(BehavioralIndicator::isActive)
-                .mapToInt(ind -> getEligibleQuestionCount(ind.getId()))
+        return poolIndex.activeIndicatorIds(competencyId).stream()
+                .mapToInt(poolIndex::eligibleCount)
                 .sum();
     }
 
+    @Override
+    public List<UUID> getActiveIndicatorIds(UUID competencyId) {
+        return poolIndex.activeIndicatorIds(competencyId);
+    }
+
     // ========== HELPER METHODS ==========
 
     /**
      * Get a pool of eligible question IDs for an indicator, sorted by difficulty preference.
      */
     private List<UUID> getEligibleQuestionPool(UUID indicatorId, DifficultyLevel preferredDifficulty) {
-        List<AssessmentQuestion> candidates = questionRepository
-                .findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId);
-
-        // Filter by validity
-        List<AssessmentQuestion> eligible = filterByValidity(candidates);
-
-        // Apply difficulty preference
-        if (preferredDifficulty != null) {
-            eligible = applyDifficultyPreference(eligible, preferredDifficulty);
-        } else {
-            Collections.shuffle(eligible);
-        }
-
-        return eligible.stream()
-                .map(AssessmentQuestion::getId)
-                .collect(Collectors.toList());
+        return poolIndex.eligibleQuestions(indicatorId, preferredDifficulty);
     }
 }
@@ -0,0 +1,268 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.domain.dto.AssessmentQuestionDto;
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentQuestion;
+import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Immutable, pre-transformed snapshot of an assessment question for the test-taking path.
+ *
+ * Built once per question version by {@link CompiledQuestionCache}:
+ * - questionDto: DTO with answer options already mapped to the frontend format
+ *   (authenticated sessions)
+ * - anonymousQuestionDto: same DTO with options reduced to id/text/score/explanation
+ *   (anonymous sessions)
+ * - optionIds / optionScores: scoring lookup by option ID, with the raw score value of each
+ *   option ("effectiveness" preferred over "score")
+ * - maxOptionScore: scale used to normalize option scores greater than 1
+ * - scoreSelection: grades selected options against this snapshot, at answer time and
+ *   when stored answers are re-scored after an answer key fix
+ *
+ * @param version           Cache version the snapshot was compiled at
+ * @param questionDto       Question DTO for authenticated sessions
+ * @param anonymousQuestionDto Question DTO for anonymous sessions
+ * @param optionIds         Option IDs used for scoring: the stored "id" or "option-{index}"
+ * @param optionScores      Raw score value per option (null when the option has none)
+ * @param maxOptionScore    Highest numeric option score, or 1.0 if there is none
+ */
+public record CompiledQuestion(
+        long version,
+        AssessmentQuestionDto questionDto,
+        AssessmentQuestionDto anonymousQuestionDto,
+        List<String> optionIds,
+        List<Object> optionScores,
+        double maxOptionScore
+) {
+
+    private static final Logger log = LoggerFactory.getLogger(CompiledQuestion.class);
+
+    public UUID id() {
+        return questionDto.id();
+    }
+
+    public UUID indicatorId() {
+        return questionDto.behavioralIndicatorId();
+    }
+
+    public QuestionType questionType() {
+        return questionDto.questionType();
+    }
+
+    public String questionText() {
+        return questionDto.questionText();
+    }
+
+    /**
+     * Index of the option with the given scoring ID, or -1 if there is none.
+     */
+    public int indexOfOption(String optionId) {
+        return optionIds.indexOf(optionId);
+    }
+
+    /**
+     * Whether answers to this question are graded from their selected options.
+     */
+    public boolean isOptionScored() {
+        if (questionType() == null) {
+            return false;
+        }
+        return switch (questionType()) {
+            case MCQ, MULTIPLE_CHOICE, SJT, SITUATIONAL_JUDGMENT, CAPABILITY_ASSESSMENT, PEER_FEEDBACK -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Score of the selected option among this question's answer options.
+     *
+     * Handles both SJT and MCQ question types where options have a "score" field.
+     * For SJT: score represents effectiveness (0-1 scale, or integer 0-4)
+     * For MCQ: score typically 1 for correct, 0 for incorrect
+     * Scores above 1 are normalized by the precomputed maximum option score.
+     *
+     * @param selectedOptionIds The list of selected option IDs (typically one element)
+     * @return The score value from the matched option, or 0.0 if not found
+     */
+    public Double scoreSelection(List<String> selectedOptionIds) {
+        if (selectedOptionIds == null || selectedOptionIds.isEmpty()) {
+            log.debug("No selected option IDs provided for question {}", id());
+            return 0.0;
+        }
+
+        if (optionIds.isEmpty()) {
+            log.debug("No answer options available for question {}", id());
+            return 0.0;
+        }
+
+        // Get the first selected option ID (most questions are single-select)
+        String selectedId = selectedOptionIds.get(0);
+
+        int optionIndex = indexOfOption(selectedId);
+        if (optionIndex < 0) {
+            log.warn("Selected option {} not found in question {} options", selectedId, id());
+            return 0.0;
+        }
+
+        Object scoreValue = optionScores.get(optionIndex);
+        if (scoreValue == null) {
+            log.debug("No score field found for option {} in question {}", selectedId, id());
+            return 0.0;
+        }
+        if (!(scoreValue instanceof Number number)) {
+            log.warn("Could not parse score value '{}' for option {} in question {}",
+                scoreValue, selectedId, id());
+            return 0.0;
+        }
+
+        double score = number.doubleValue();
+        // Normalize score to 0-1 range if it's on a scale greater than 1
+        if (score > 1.0 && maxOptionScore > 1.0) {
+            score = score / maxOptionScore;
+        }
+        log.debug("Extracted score {} for option {} in question {}", score, selectedId, id());
+        return score;
+    }
+
+    /**
+     * Compile a question entity into an immutable snapshot.
+     */
+    public static CompiledQuestion compile(AssessmentQuestion question, long version) {
+        List<Map<String, Object>> options = question.getAnswerOptions();
+
+        List<String> optionIds = new ArrayList<>();
+        List<Object> optionScores = new ArrayList<>();
+        double maxScore = 0.0;
+        if (options != null) {
+            for (int i = 0; i < options.size(); i++) {
+                Map<String, Object> option = options.get(i);
+                optionIds.add(option.containsKey("id") ? String.valueOf(option.get("id")) : "option-" + i);
+
+                Object scoreValue = scoreValue(option);
+                optionScores.add(scoreValue);
+                if (scoreValue instanceof Number number && number.doubleValue() > maxScore) {
+                    maxScore = number.doubleValue();
+                }
+            }
+        }
+
+        return new CompiledQuestion(
+                version,
+                toDto(question, transformAnswerOptions(options, question.getQuestionType())),
+                toDto(question, normalizeAnswerOptions(options)),
+                Collections.unmodifiableList(optionIds),
+                Collections.unmodifiableList(optionScores),
+                // At least 1.0 to avoid division by zero
+                maxScore > 0 ? maxScore : 1.0
+        );
+    }
+
+    private static AssessmentQuestionDto toDto(AssessmentQuestion question, List<Map<String, Object>> answerOptions) {
+        return new AssessmentQuestionDto(
+                question.getId(),
+                question.getBehavioralIndicatorId(),
+                question.getQuestionText(),
+                question.getQuestionType(),
+                answerOptions,
+                question.getScoringRubric(),
+                question.getTimeLimit(),
+                question.getDifficultyLevel(),
+                question.getMetadata() != null ? Collections.unmodifiableMap(question.getMetadata()) : null,
+                question.isActive(),
+                question.getOrderIndex()
+        );
+    }
+
+    /**
+     * Transform answer options based on question type to match frontend expectations.
+     * For SJT questions, maps backend storage format to frontend format:
+     * - "action" field → "text" field (the option text)
+     * - Generates deterministic "id" for each option based on index
+     * - Preserves "effectiveness" as "score"
+     * - Preserves "explanation" field
+     * - Maps "option" letter → "label" field
+     * Other question types keep their fields and get an index-based "id" when missing.
+     */
+    private static List<Map<String, Object>> transformAnswerOptions(
+            List<Map<String, Object>> options,
+            QuestionType questionType
+    ) {
+        if (options == null || options.isEmpty()) {
+            return options;
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(options.size());
+
+        if (questionType == QuestionType.SJT || questionType == QuestionType.SITUATIONAL_JUDGMENT) {
+            for (int i = 0; i < options.size(); i++) {
+                Map<String, Object> option = options.get(i);
+                Map<String, Object> transformed = new LinkedHashMap<>();
+
+                // Index-based ID stays stable when the user navigates back and forth
+                transformed.put("id", "option-" + i);
+                copyFirstPresent(option, transformed, "text", "action", "text");
+                copyFirstPresent(option, transformed, "score", "effectiveness", "score");
+                copyFirstPresent(option, transformed, "explanation", "explanation");
+                // V5 data uses "label" field, V6 data uses "option" field
+                copyFirstPresent(option, transformed, "label", "label", "option");
+
+                result.add(Collections.unmodifiableMap(transformed));
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        for (int i = 0; i < options.size(); i++) {
+            Map<String, Object> option = new LinkedHashMap<>(options.get(i));
+            option.putIfAbsent("id", "option-" + i);
+            result.add(Collections.unmodifiableMap(option));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Reduce answer options to id/text/score/explanation with index-based IDs,
+     * the format served to anonymous takers for every question type.
+     */
+    private static List<Map<String, Object>> normalizeAnswerOptions(List<Map<String, Object>> options) {
+        if (options == null || options.isEmpty()) {
+            return options;
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(options.size());
+        for (int i = 0; i < options.size(); i++) {
+            Map<String, Object> option = options.get(i);
+            Map<String, Object> normalized = new LinkedHashMap<>();
+
+            normalized.put("id", "option-" + i);
+            copyFirstPresent(option, normalized, "text", "action", "text");
+            copyFirstPresent(option, normalized, "score", "effectiveness", "score");
+            copyFirstPresent(option, normalized, "explanation", "explanation");
+
+            result.add(Collections.unmodifiableMap(normalized));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * SJT options store their score as "effectiveness", MCQ options as "score".
+     */
+    private static Object scoreValue(Map<String, Object> option) {
+        if (option.containsKey("effectiveness")) {
+            return option.get("effectiveness");
+        }
+        return option.get("score");
+    }
+
+    private static void copyFirstPresent(Map<String, Object> source, Map<String, Object> target,
+                                         String targetKey, String... sourceKeys) {
+        for (String sourceKey : sourceKeys) {
+            if (source.containsKey(sourceKey)) {
+                target.put(targetKey, source.get(sourceKey));
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
+import app.skillsoft.assessmentbackend.exception.ResourceNotFoundException;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@link CompiledQuestion} snapshots served to test takers.
+ *
+ * Candidates fetch the same few hundred questions over and over; compiling each
+ * question once removes the per-request option transformation and score scan.
+ *
+ * Versioning:
+ * - Every invalidation bumps a global version
+ * - A snapshot compiled from a read that started before an invalidation is returned
+ *   to its caller but never stored, so a concurrent update cannot be overwritten
+ *   by stale data
+ *
+ * Invalidated on QuestionPoolChangedEvent (question create/update/delete, status changes)
+ * once the mutating transaction commits.
+ */
+@Component
+public class CompiledQuestionCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CompiledQuestionCache.class);
+
+    private final AssessmentQuestionRepository questionRepository;
+    private final Cache<UUID, CompiledQuestion> cache;
+    private final AtomicLong version = new AtomicLong();
+
+    public CompiledQuestionCache(
+            AssessmentQuestionRepository questionRepository,
+            @Value("${skillsoft.question-cache.max-size:5000}") long maxSize) {
+        this.questionRepository = questionRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get the compiled snapshot of a question, compiling it on a miss.
+     *
+     * @param questionId The question UUID
+     * @return The compiled question
+     * @throws ResourceNotFoundException if the question does not exist
+     */
+    public CompiledQuestion get(UUID questionId) {
+        CompiledQuestion cached = cache.getIfPresent(questionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long readVersion = version.get();
+        CompiledQuestion compiled = questionRepository.findById(questionId)
+                .map(question -> CompiledQuestion.compile(question, readVersion))
+                .orElseThrow(() -> new ResourceNotFoundException("Question", questionId));
+
+        if (version.get() == readVersion) {
+            cache.put(questionId, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Drop the snapshot of a single question.
+     */
+    public void invalidate(UUID questionId) {
+        version.incrementAndGet();
+        cache.invalidate(questionId);
+    }
+
+    /**
+     * Drop all snapshots.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Number of compiled questions currently held.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionPoolChanged(QuestionPoolChangedEvent event) {
+        if (event.questionId() != null) {
+            log.debug("Invalidating compiled question {} ({})", event.questionId(), event.reason());
+            invalidate(event.questionId());
+        } else {
+            log.debug("Invalidating all compiled questions ({})", event.reason());
+            invalidateAll();
+        }
+    }
+}
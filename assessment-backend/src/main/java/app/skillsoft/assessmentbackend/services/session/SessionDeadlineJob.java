@@ -0,0 +1,91 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
+import app.skillsoft.assessmentbackend.services.TestSessionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Enforces server-side session deadlines.
+ *
+ * - Expiry: every poll, sessions whose deadline has passed are drained from the
+ *   {@link SessionDeadlineQueue} and timed out as one batch, which also queues them
+ *   for scoring
+ * - Refill: periodically loads deadlines of in-progress sessions due within the
+ *   horizon, so deadlines survive restarts and sessions started on other nodes
+ *   are covered. The horizon must exceed the refill interval.
+ *
+ * Replaces timing out sessions when the client reports zero remaining time: a
+ * closed tab or a tampered client can no longer keep a timed session open.
+ */
+@Component
+public class SessionDeadlineJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionDeadlineJob.class);
+
+    private final TestSessionRepository sessionRepository;
+    private final TestSessionService testSessionService;
+    private final SessionDeadlineQueue deadlineQueue;
+    private final long refillHorizonSeconds;
+
+    public SessionDeadlineJob(
+            TestSessionRepository sessionRepository,
+            TestSessionService testSessionService,
+            SessionDeadlineQueue deadlineQueue,
+            @Value("${skillsoft.session.deadline.refill-horizon-seconds:180}") long refillHorizonSeconds) {
+        this.sessionRepository = sessionRepository;
+        this.testSessionService = testSessionService;
+        this.deadlineQueue = deadlineQueue;
+        this.refillHorizonSeconds = refillHorizonSeconds;
+    }
+
+    /**
+     * Periodic expiry of sessions past their deadline.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.session.deadline.poll-interval-ms:1000}")
+    public void scheduledExpire() {
+        expireDueSessions();
+    }
+
+    /**
+     * Time out all sessions whose deadline has passed.
+     *
+     * @return Number of sessions timed out by this node
+     */
+    public int expireDueSessions() {
+        List<UUID> due = deadlineQueue.drainExpired();
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return testSessionService.expireSessions(due).size();
+        } catch (RuntimeException e) {
+            // Requeued by the next refill, which still sees them IN_PROGRESS
+            log.error("Failed to expire {} sessions past their deadline", due.size(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * Queue deadlines of in-progress sessions that are due within the horizon.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.session.deadline.refill-interval-ms:60000}")
+    public void refill() {
+        LocalDateTime horizon = LocalDateTime.now().plusSeconds(refillHorizonSeconds);
+        List<Object[]> rows = sessionRepository.findDeadlinesDueBefore(horizon);
+        for (Object[] row : rows) {
+            deadlineQueue.register((UUID) row[0], (LocalDateTime) row[1]);
+        }
+        if (!rows.isEmpty()) {
+            log.debug("Deadline refill queued {} sessions due before {}", rows.size(), horizon);
+        }
+    }
+}
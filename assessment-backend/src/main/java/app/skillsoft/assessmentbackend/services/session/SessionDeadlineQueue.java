@@ -0,0 +1,83 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory queue of upcoming session deadlines on this node.
+ *
+ * Sessions are registered when they start on this node and by the periodic
+ * refill of {@link SessionDeadlineJob}, which loads deadlines due soon from the
+ * database (covering restarts and sessions started on other nodes).
+ * A session is held at most once until its deadline is drained.
+ *
+ * The queue only decides when to look at a session; the database status and
+ * deadline remain authoritative when the session is actually timed out.
+ */
+@Component
+public class SessionDeadlineQueue {
+
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Set<UUID> registered = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Schedule a session for expiry at its deadline. Ignored if the session is
+     * already queued or has no deadline.
+     */
+    public void register(UUID sessionId, LocalDateTime deadlineAt) {
+        if (sessionId == null || deadlineAt == null) {
+            return;
+        }
+        if (registered.add(sessionId)) {
+            queue.put(new Deadline(sessionId, deadlineAt));
+        }
+    }
+
+    /**
+     * Remove and return all sessions whose deadline has passed.
+     */
+    public List<UUID> drainExpired() {
+        List<Deadline> expired = new ArrayList<>();
+        queue.drainTo(expired);
+
+        List<UUID> sessionIds = new ArrayList<>(expired.size());
+        for (Deadline deadline : expired) {
+            registered.remove(deadline.sessionId());
+            sessionIds.add(deadline.sessionId());
+        }
+        return sessionIds;
+    }
+
+    /**
+     * Number of sessions currently waiting for their deadline.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private record Deadline(UUID sessionId, LocalDateTime deadlineAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), deadlineAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Deadline deadline) {
+                return deadlineAt.compareTo(deadline.deadlineAt);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
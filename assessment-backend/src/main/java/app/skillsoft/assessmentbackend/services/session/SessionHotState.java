@@ -0,0 +1,273 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.domain.entities.SessionStatus;
+import app.skillsoft.assessmentbackend.domain.entities.TestSession;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Mutable in-memory state of a test session used by the test-taking hot path.
+ *
+ * Immutable part (captured once when the session is loaded):
+ * - identity, template metadata and navigation flags
+ * - status at load time; answer writes re-check it in the database, since the session
+ *   may be finished on another node or by a background job
+ * - deadline of timed sessions; their remaining time is computed from it on read
+ * - question order, plus a questionId -> position map for bitmap lookups
+ *
+ * Mutable part (guarded by the instance monitor):
+ * - cursor, timer (sessions without deadline only) and last activity, written behind
+ *   by {@link SessionHotStateCache}
+ * - answered / skipped bitmaps indexed by question position, kept in sync with
+ *   the TestAnswer rows written on this node (and those seen by question reads). They
+ *   only serve the progress count; answer writes and previous-answer reads always look
+ *   up the stored rows.
+ */
+public class SessionHotState {
+
+    private final UUID sessionId;
+    private final UUID templateId;
+    private final String templateName;
+    private final String clerkUserId;
+    private final SessionStatus status;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime completedAt;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime deadlineAt;
+    private final boolean allowBackNavigation;
+    private final boolean allowSkip;
+    private final List<UUID> questionOrder;
+    private final Map<UUID, Integer> positions;
+
+    private final BitSet answered;
+    private final BitSet skipped;
+
+    private int currentQuestionIndex;
+    private Integer timeRemainingSeconds;
+    private LocalDateTime lastActivityAt;
+    private boolean dirty;
+
+    SessionHotState(TestSession session) {
+        this.sessionId = session.getId();
+        this.templateId = session.getTemplate().getId();
+        this.templateName = session.getTemplate().getName();
+        this.clerkUserId = session.getClerkUserId();
+        this.status = session.getStatus();
+        this.startedAt = session.getStartedAt();
+        this.completedAt = session.getCompletedAt();
+        this.createdAt = session.getCreatedAt();
+        this.deadlineAt = session.getDeadlineAt();
+        this.allowBackNavigation = Boolean.TRUE.equals(session.getTemplate().getAllowBackNavigation());
+        this.allowSkip = Boolean.TRUE.equals(session.getTemplate().getAllowSkip());
+        this.questionOrder = session.getQuestionOrder() != null
+                ? List.copyOf(session.getQuestionOrder())
+                : List.of();
+
+        this.positions = HashMap.newHashMap(questionOrder.size());
+        for (int i = 0; i < questionOrder.size(); i++) {
+            positions.putIfAbsent(questionOrder.get(i), i);
+        }
+
+        this.answered = new BitSet(questionOrder.size());
+        this.skipped = new BitSet(questionOrder.size());
+        this.currentQuestionIndex = session.getCurrentQuestionIndex() != null
+                ? session.getCurrentQuestionIndex()
+                : 0;
+        this.timeRemainingSeconds = session.getTimeRemainingSeconds();
+        this.lastActivityAt = session.getLastActivityAt();
+    }
+
+    // ========== IMMUTABLE VIEW ==========
+
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public UUID getTemplateId() {
+        return templateId;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public String getClerkUserId() {
+        return clerkUserId;
+    }
+
+    public SessionStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getDeadlineAt() {
+        return deadlineAt;
+    }
+
+    /**
+     * Whether the remaining time is server-authoritative (computed from the deadline).
+     */
+    public boolean hasDeadline() {
+        return deadlineAt != null;
+    }
+
+    /**
+     * Whether the session has a deadline and it has passed.
+     */
+    public boolean isPastDeadline(LocalDateTime now) {
+        return deadlineAt != null && !now.isBefore(deadlineAt);
+    }
+
+    public boolean isAllowBackNavigation() {
+        return allowBackNavigation;
+    }
+
+    public boolean isAllowSkip() {
+        return allowSkip;
+    }
+
+    public List<UUID> getQuestionOrder() {
+        return questionOrder;
+    }
+
+    public int getTotalQuestions() {
+        return questionOrder.size();
+    }
+
+    /**
+     * Whether the question is part of this session's question order.
+     */
+    public boolean containsQuestion(UUID questionId) {
+        return positions.containsKey(questionId);
+    }
+
+    // ========== CURSOR / TIMER ==========
+
+    public synchronized int getCurrentQuestionIndex() {
+        return currentQuestionIndex;
+    }
+
+    /**
+     * Remaining time: computed from the deadline when there is one, otherwise the
+     * last client-reported value.
+     */
+    public synchronized Integer getTimeRemainingSeconds() {
+        if (deadlineAt != null) {
+            return (int) Math.max(0, Duration.between(LocalDateTime.now(), deadlineAt).toSeconds());
+        }
+        return timeRemainingSeconds;
+    }
+
+    public synchronized LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    /**
+     * Move the cursor and record activity. The change is flushed asynchronously.
+     */
+    public synchronized void moveTo(int questionIndex) {
+        this.currentQuestionIndex = questionIndex;
+        touch();
+    }
+
+    /**
+     * Update the timer and record activity. The change is flushed asynchronously.
+     * Only meaningful for sessions without deadline.
+     */
+    public synchronized void updateTimeRemaining(int seconds) {
+        this.timeRemainingSeconds = seconds;
+        touch();
+    }
+
+    /**
+     * Record activity without changing cursor or timer.
+     */
+    public synchronized void touch() {
+        this.lastActivityAt = LocalDateTime.now();
+        this.dirty = true;
+    }
+
+    // ========== ANSWER BITMAP ==========
+
+    /**
+     * Record the outcome of an answer submission for the question.
+     */
+    public synchronized void recordAnswer(UUID questionId, boolean isSkipped, boolean isAnswered) {
+        Integer position = positions.get(questionId);
+        if (position == null) {
+            return;
+        }
+        answered.set(position, isAnswered && !isSkipped);
+        skipped.set(position, isSkipped);
+    }
+
+    /**
+     * Number of answered (not skipped) questions, matching
+     * TestAnswerRepository#countAnsweredBySessionId.
+     */
+    public synchronized int getAnsweredCount() {
+        return answered.cardinality();
+    }
+
+    // ========== WRITE-BEHIND ==========
+
+    synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Take the pending cursor/timer values and clear the dirty flag.
+     *
+     * @return The values to write, or null if nothing changed since the last flush
+     */
+    synchronized PendingWrite drainPendingWrite() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        return new PendingWrite(sessionId, currentQuestionIndex, getTimeRemainingSeconds(), lastActivityAt);
+    }
+
+    /**
+     * Re-mark the state as dirty after a failed flush. The current values are
+     * retried on the next flush.
+     */
+    synchronized void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Copy cursor, timer and last activity onto the entity so that a terminal
+     * status transition persists them in the same transaction.
+     */
+    public synchronized void applyTo(TestSession session) {
+        session.setCurrentQuestionIndex(currentQuestionIndex);
+        session.setTimeRemainingSeconds(getTimeRemainingSeconds());
+        session.setLastActivityAt(lastActivityAt);
+        dirty = false;
+    }
+
+    /**
+     * Cursor/timer values pending a database write.
+     */
+    record PendingWrite(
+            UUID sessionId,
+            int currentQuestionIndex,
+            Integer timeRemainingSeconds,
+            LocalDateTime lastActivityAt
+    ) {
+    }
+}
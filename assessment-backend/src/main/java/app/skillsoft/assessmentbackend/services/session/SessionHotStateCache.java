@@ -0,0 +1,237 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.domain.entities.SessionStatus;
+import app.skillsoft.assessmentbackend.domain.entities.TestSession;
+import app.skillsoft.assessmentbackend.exception.ResourceNotFoundException;
+import app.skillsoft.assessmentbackend.repository.TestAnswerRepository;
+import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded per-node cache of {@link SessionHotState} for IN_PROGRESS sessions.
+ *
+ * Serves the test-taking loop (current question, answer submission, navigation,
+ * timer ticks) from memory so that each call no longer reloads the session row
+ * and its question_order JSONB.
+ *
+ * Write-behind:
+ * - Cursor, timer and last-activity changes only mark the state dirty
+ * - Dirty states are flushed periodically with one UPDATE per session, guarded by
+ *   status = IN_PROGRESS so a late flush never touches a finished session
+ * - Evicted dirty states are flushed by the removal listener
+ * - All dirty states are flushed on shutdown
+ * - Terminal transitions (complete, abandon, timeout) {@link #detach} the state and
+ *   apply it to the entity, so the final values commit with the status change
+ *
+ * Answers themselves are always written synchronously; only the answered bitmap
+ * lives here. Code that ends a session outside TestSessionServiceImpl must call
+ * {@link #invalidate} so this node stops serving it.
+ */
+@Component
+public class SessionHotStateCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionHotStateCache.class);
+
+    private final TestSessionRepository sessionRepository;
+    private final TestAnswerRepository answerRepository;
+    private final Cache<UUID, SessionHotState> cache;
+
+    public SessionHotStateCache(
+            TestSessionRepository sessionRepository,
+            TestAnswerRepository answerRepository,
+            @Value("${skillsoft.session.hot-state.max-sessions:10000}") long maxSessions,
+            @Value("${skillsoft.session.hot-state.idle-expiry-minutes:60}") long idleExpiryMinutes) {
+        this.sessionRepository = sessionRepository;
+        this.answerRepository = answerRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofMinutes(idleExpiryMinutes))
+                .removalListener((UUID sessionId, SessionHotState state, RemovalCause cause) -> {
+                    if (state != null && cause.wasEvicted()) {
+                        flush(state);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get the hot state of a session, loading it from the database on a miss.
+     *
+     * Only IN_PROGRESS sessions are cached. For other statuses a one-off snapshot
+     * is returned so callers can apply their usual status checks.
+     *
+     * @param sessionId The session UUID
+     * @return The session hot state
+     * @throws ResourceNotFoundException if the session does not exist
+     */
+    public SessionHotState get(UUID sessionId) {
+        SessionHotState cached = cache.getIfPresent(sessionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        TestSession session = sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Session", sessionId));
+
+        SessionHotState state = new SessionHotState(session);
+        if (!isTerminal(session.getStatus())) {
+            loadAnswerFlags(state);
+        }
+
+        if (session.getStatus() != SessionStatus.IN_PROGRESS) {
+            return state;
+        }
+
+        // Another request may have loaded the session concurrently; keep the first one
+        SessionHotState existing = cache.asMap().putIfAbsent(sessionId, state);
+        return existing != null ? existing : state;
+    }
+
+    /**
+     * Get the hot state of a session only if it is already cached.
+     * Used by read paths that must see cursor/timer values not yet written behind.
+     */
+    public Optional<SessionHotState> peek(UUID sessionId) {
+        return Optional.ofNullable(cache.getIfPresent(sessionId));
+    }
+
+    /**
+     * Remove a session from the cache without flushing it, returning the state so
+     * the caller can apply it to the entity it is about to save.
+     */
+    public Optional<SessionHotState> detach(UUID sessionId) {
+        return Optional.ofNullable(cache.asMap().remove(sessionId));
+    }
+
+    /**
+     * Drop a session whose status was changed outside the hot path.
+     * Pending cursor/timer writes are discarded.
+     */
+    public void invalidate(UUID sessionId) {
+        cache.asMap().remove(sessionId);
+    }
+
+    /**
+     * Remove a session from the cache and write its pending cursor/timer values
+     * while it is still IN_PROGRESS. Used before a status change made with a bulk
+     * UPDATE instead of a loaded entity.
+     */
+    public void flushAndEvict(UUID sessionId) {
+        SessionHotState state = cache.asMap().remove(sessionId);
+        if (state != null) {
+            flush(state);
+        }
+    }
+
+    /**
+     * Number of sessions currently held.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // ========== WRITE-BEHIND ==========
+
+    /**
+     * Periodic write-behind of cursor/timer changes.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.session.hot-state.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flushDirty();
+    }
+
+    /**
+     * Flush cursor/timer changes of all dirty sessions.
+     *
+     * @return Number of sessions written
+     */
+    public int flushDirty() {
+        List<SessionHotState> dirty = new ArrayList<>();
+        for (SessionHotState state : cache.asMap().values()) {
+            if (state.isDirty()) {
+                dirty.add(state);
+            }
+        }
+
+        int written = 0;
+        for (SessionHotState state : dirty) {
+            if (flush(state)) {
+                written++;
+            }
+        }
+
+        if (written > 0) {
+            log.debug("Flushed hot state of {} sessions", written);
+        }
+        return written;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int written = flushDirty();
+        log.info("Flushed hot state of {} sessions on shutdown", written);
+        cache.invalidateAll();
+    }
+
+    /**
+     * Write one session's pending cursor/timer values.
+     *
+     * @return true if a row was updated
+     */
+    private boolean flush(SessionHotState state) {
+        SessionHotState.PendingWrite pending = state.drainPendingWrite();
+        if (pending == null) {
+            return false;
+        }
+
+        try {
+            int updated = sessionRepository.updateHotState(
+                    pending.sessionId(),
+                    pending.currentQuestionIndex(),
+                    pending.timeRemainingSeconds(),
+                    pending.lastActivityAt());
+
+            if (updated == 0) {
+                // The session was finished elsewhere (cleanup job, other node)
+                log.debug("Session {} is no longer in progress, dropping hot state", pending.sessionId());
+                cache.asMap().remove(pending.sessionId(), state);
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush hot state of session {}: {}", pending.sessionId(), e.getMessage());
+            state.markDirty();
+            return false;
+        }
+    }
+
+    private void loadAnswerFlags(SessionHotState state) {
+        for (Object[] row : answerRepository.findAnswerFlagsBySessionId(state.getSessionId())) {
+            UUID questionId = (UUID) row[0];
+            boolean isSkipped = Boolean.TRUE.equals(row[1]);
+            boolean isAnswered = row[2] != null;
+            state.recordAnswer(questionId, isSkipped, isAnswered);
+        }
+    }
+
+    private static boolean isTerminal(SessionStatus status) {
+        return status == SessionStatus.COMPLETED
+                || status == SessionStatus.ABANDONED
+                || status == SessionStatus.TIMED_OUT;
+    }
+}
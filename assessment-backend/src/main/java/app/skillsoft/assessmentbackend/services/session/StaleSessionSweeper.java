@@ -0,0 +1,125 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.services.TestSessionService;
+import app.skillsoft.assessmentbackend.services.TestSessionService.StaleSessionChunk;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times out IN_PROGRESS sessions without activity for inactivity-minutes.
+ *
+ * Disabled by default (skillsoft.session.stale-timeout.enabled): stale sessions are
+ * otherwise abandoned, unscored, by SessionCleanupJob after stale-hours. Enabling the
+ * sweeper scores idle sessions as TIMED_OUT instead, which is a product decision.
+ *
+ * - Chunks: stale sessions are walked in ID order (keyset paging), chunk-size at a
+ *   time; each chunk is locked, timed out with one bulk UPDATE and queued for
+ *   scoring in its own short transaction, so a sweep never holds a connection
+ *   across the whole backlog
+ * - Scoring: runs on the bounded scoring job workers, one job per session, so a
+ *   slow or failing session never stalls the sweep or other sessions
+ * - Metrics: test.session.timeout.sweep.sessions (counter) and
+ *   test.session.timeout.sweep.duration (timer); throughput is logged per sweep
+ */
+@Component
+public class StaleSessionSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(StaleSessionSweeper.class);
+
+    private static final UUID FIRST_SESSION_ID = new UUID(0L, 0L);
+
+    private final TestSessionService testSessionService;
+    private final SessionHotStateCache hotStateCache;
+    private final boolean enabled;
+    private final long inactivityMinutes;
+    private final int chunkSize;
+
+    private final Counter sweptSessions;
+    private final Timer sweepTimer;
+
+    public StaleSessionSweeper(
+            TestSessionService testSessionService,
+            SessionHotStateCache hotStateCache,
+            MeterRegistry registry,
+            @Value("${skillsoft.session.stale-timeout.enabled:false}") boolean enabled,
+            @Value("${skillsoft.session.stale-timeout.inactivity-minutes:30}") long inactivityMinutes,
+            @Value("${skillsoft.session.stale-timeout.chunk-size:200}") int chunkSize) {
+        this.testSessionService = testSessionService;
+        this.hotStateCache = hotStateCache;
+        this.enabled = enabled;
+        this.inactivityMinutes = inactivityMinutes;
+        this.chunkSize = chunkSize;
+        this.sweptSessions = Counter.builder("test.session.timeout.sweep.sessions")
+                .description("Stale sessions timed out by the inactivity sweep")
+                .register(registry);
+        this.sweepTimer = Timer.builder("test.session.timeout.sweep.duration")
+                .description("Time taken by one inactivity sweep")
+                .register(registry);
+    }
+
+    /**
+     * Periodic sweep of stale sessions.
+     */
+    @Scheduled(fixedDelayString = "${skillsoft.session.stale-timeout.interval-ms:300000}")
+    public void scheduledSweep() {
+        if (!enabled) {
+            log.debug("Stale session timeout is disabled, skipping");
+            return;
+        }
+
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.error("Stale session sweep failed", e);
+        }
+    }
+
+    /**
+     * Time out all sessions that are stale now, chunk by chunk.
+     * A failed chunk ends the sweep; its sessions are picked up by the next one.
+     *
+     * @return Number of sessions timed out
+     */
+    public int sweep() {
+        long start = System.nanoTime();
+
+        // Bring last activity up to date before judging staleness
+        hotStateCache.flushDirty();
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(inactivityMinutes);
+
+        int total = 0;
+        int chunks = 0;
+        UUID afterId = FIRST_SESSION_ID;
+        try {
+            StaleSessionChunk chunk;
+            do {
+                chunk = testSessionService.timeoutStaleSessions(cutoff, afterId, chunkSize);
+                if (chunk.lockedCount() > 0) {
+                    afterId = chunk.lastSessionId();
+                    total += chunk.timedOut().size();
+                    chunks++;
+                    sweptSessions.increment(chunk.timedOut().size());
+                }
+            } while (chunk.lockedCount() == chunkSize);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            sweepTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (total > 0) {
+                double seconds = Math.max(elapsedNanos / 1e9, 0.001);
+                log.info("Timed out {} stale sessions in {} chunks in {} ms ({} sessions/s)",
+                        total, chunks, elapsedNanos / 1_000_000, Math.round(total / seconds));
+            }
+        }
+        return total;
+    }
+}
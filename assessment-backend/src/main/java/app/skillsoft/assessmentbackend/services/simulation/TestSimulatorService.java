@@ -6,6 +6,7 @@ import app.skillsoft.assessmentbackend.domain.entities.AssessmentQuestion;
 import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssemblerFactory;
 import app.skillsoft.assessmentbackend.services.validation.InventoryHeatmapService;
+import app.skillsoft.assessmentbackend.services.validation.PsychometricBlueprintValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,6 +35,7 @@ public class TestSimulatorService {
     private final TestAssemblerFactory assemblerFactory;
     private final AssessmentQuestionRepository questionRepository;
     private final InventoryHeatmapService inventoryHeatmapService;
+    private final PsychometricBlueprintValidator psychometricValidator;
 
     /**
      * Default time per question in seconds (for estimation).
@@ -98,6 +100,15 @@ public class TestSimulatorService {
             ));
         }
 
+        // Step 2b: Verify psychometric eligibility of the assembled set (single batch query)
+        var eligibleIds = psychometricValidator.eligibleSubset(questionIds);
+        if (eligibleIds.size() < questionIds.size()) {
+            warnings.add(InventoryWarning.info(
+                String.format("%d of %d assembled questions are inactive or retired",
+                    questionIds.size() - eligibleIds.size(), questionIds.size())
+            ));
+        }
+
         // Step 3: Check inventory health for involved competencies
         var competencyIds = extractCompetencyIds(questions);
         checkInventoryHealth(competencyIds, warnings);
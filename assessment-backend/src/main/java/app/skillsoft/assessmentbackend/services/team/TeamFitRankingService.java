@@ -0,0 +1,148 @@
+package app.skillsoft.assessmentbackend.services.team;
+
+import app.skillsoft.assessmentbackend.services.external.TeamService;
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Ranks a shortlist of candidates by team fit against one team.
+ *
+ * The team profile is read once, candidates given by clerk ID get their latest competency
+ * scores from a single result query, and all candidates are scored together by
+ * {@link TeamFitScorer} over one candidates x gaps matrix. Scores are the same as
+ * {@link TeamService#calculateTeamFitScore} returns for each candidate on its own.
+ */
+@Service
+public class TeamFitRankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamFitRankingService.class);
+
+    private final TeamService teamService;
+    private final TeamProfileAggregationService aggregationService;
+    private final int maxCandidates;
+
+    public TeamFitRankingService(
+            TeamService teamService,
+            TeamProfileAggregationService aggregationService,
+            @Value("${skillsoft.team.fit-ranking.max-candidates:1000}") int maxCandidates) {
+        this.teamService = teamService;
+        this.aggregationService = aggregationService;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Candidate with known competency scores.
+     *
+     * @param candidateId      Caller-defined identifier, returned with the ranking
+     * @param competencyScores Score per competency on the five-point scale
+     */
+    public record Candidate(String candidateId, Map<UUID, Double> competencyScores) {
+    }
+
+    /**
+     * Contribution of one skill gap to a candidate's fit score.
+     *
+     * @param competencyId   The undersaturated competency
+     * @param candidateScore The candidate's score (five-point scale), null if unknown
+     * @param contribution   Fit score points earned on this gap
+     */
+    public record GapContribution(UUID competencyId, Double candidateScore, double contribution) {
+    }
+
+    /**
+     * One candidate of a ranking.
+     *
+     * @param rank          1-based rank; candidates with equal scores keep their request order
+     * @param candidateId   Identifier given in the request, or the clerk ID
+     * @param fitScore      Fit score (0-100)
+     * @param contributions Contribution of each skill gap, in the order of the team's gaps
+     */
+    public record RankedCandidate(int rank, String candidateId, double fitScore,
+                                  List<GapContribution> contributions) {
+    }
+
+    /**
+     * Candidates of a team ranked by fit score, best first.
+     */
+    public record Ranking(UUID teamId, List<UUID> skillGaps, List<RankedCandidate> candidates) {
+    }
+
+    /**
+     * Rank candidates by team fit.
+     *
+     * @param teamId       The team to rank against
+     * @param candidates   Candidates with known competency scores
+     * @param clerkUserIds Users ranked on the latest scores of their completed results;
+     *                     users without results are ranked with no scores
+     * @return The ranking, or empty if the team has no profile
+     * @throws IllegalArgumentException if more than max-candidates candidates are given
+     */
+    public Optional<Ranking> rankCandidates(UUID teamId, List<Candidate> candidates,
+                                            Collection<String> clerkUserIds) {
+        List<Candidate> given = candidates != null ? candidates : List.of();
+        Set<String> clerkIds = clerkUserIds != null ? new LinkedHashSet<>(clerkUserIds) : Set.of();
+        if (given.size() + clerkIds.size() > maxCandidates) {
+            throw new IllegalArgumentException("At most " + maxCandidates + " candidates can be ranked at once");
+        }
+
+        Optional<TeamProfile> profile = teamService.getTeamProfile(teamId);
+        if (profile.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Candidate> all = new ArrayList<>(given.size() + clerkIds.size());
+        all.addAll(given);
+        if (!clerkIds.isEmpty()) {
+            Map<String, Map<UUID, Double>> scoresByUser =
+                    aggregationService.latestCompetencyScoresByClerkUserId(clerkIds);
+            for (String clerkId : clerkIds) {
+                all.add(new Candidate(clerkId, scoresByUser.getOrDefault(clerkId, Map.of())));
+            }
+        }
+
+        TeamFitScorer scorer = TeamFitScorer.forProfile(profile.get());
+        List<Map<UUID, Double>> rows = new ArrayList<>(all.size());
+        for (Candidate candidate : all) {
+            rows.add(candidate.competencyScores());
+        }
+        double[] matrix = scorer.toMatrix(rows);
+        double[] contributions = new double[matrix.length];
+        double[] scores = scorer.scores(matrix, all.size(), contributions);
+
+        log.debug("Ranked {} candidates against {} gaps of team {}", all.size(), scorer.gaps().size(), teamId);
+        return Optional.of(new Ranking(teamId, scorer.gaps(),
+                toRanking(all, scorer.gaps(), matrix, scores, contributions)));
+    }
+
+    private static List<RankedCandidate> toRanking(List<Candidate> candidates, List<UUID> gaps,
+                                                   double[] matrix, double[] scores, double[] contributions) {
+        Integer[] order = new Integer[candidates.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Stable sort: equal scores keep their request order
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+        int width = gaps.size();
+        List<RankedCandidate> ranking = new ArrayList<>(order.length);
+        for (int position = 0; position < order.length; position++) {
+            int row = order[position];
+            List<GapContribution> gapContributions = new ArrayList<>(width);
+            for (int column = 0; column < width; column++) {
+                double value = matrix[row * width + column];
+                gapContributions.add(new GapContribution(
+                        gaps.get(column),
+                        Double.isNaN(value) ? null : value,
+                        contributions[row * width + column]));
+            }
+            ranking.add(new RankedCandidate(position + 1, candidates.get(row).candidateId(),
+                    scores[row], gapContributions));
+        }
+        return ranking;
+    }
+}
@@ -0,0 +1,135 @@
+package app.skillsoft.assessmentbackend.services.team;
+
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Team fit scoring of candidates against the skill gaps of one team profile.
+ *
+ * The gaps are fixed once per profile, and each candidate is reduced to one score per
+ * gap, so scoring a shortlist is a loop over a flat candidates x gaps matrix.
+ *
+ * Per candidate:
+ * - No gaps: neutral score of 50
+ * - No gap filled (score of at least 3 on the five-point scale): 25
+ * - Otherwise: average fill of the filled gaps (score / 5 * 100) * 0.6
+ *   + share of gaps filled * 40
+ *
+ * The score is split into per-gap contributions that add up to it: a filled gap
+ * contributes its fill * 0.6 / filled gaps + 40 / gaps; an unfilled gap contributes 0
+ * (and the flat score of 25 is not attributed to any gap).
+ */
+public final class TeamFitScorer {
+
+    static final double NEUTRAL_SCORE = 50.0;
+    static final double NO_GAP_FILLED_SCORE = 25.0;
+    static final double PROFICIENCY_THRESHOLD = 3.0;
+    private static final double MAX_SCALE_SCORE = TeamProfileAggregationService.MAX_SCALE_SCORE;
+    private static final double FILL_WEIGHT = 0.6;
+    private static final double COVERAGE_WEIGHT = 40.0;
+
+    private final List<UUID> gaps;
+
+    private TeamFitScorer(List<UUID> gaps) {
+        this.gaps = List.copyOf(gaps);
+    }
+
+    /**
+     * Scorer for the skill gaps of a team profile.
+     */
+    public static TeamFitScorer forProfile(TeamProfile profile) {
+        return new TeamFitScorer(profile.skillGaps());
+    }
+
+    /**
+     * Skill gaps in the column order of {@link #scores(double[], int)}.
+     */
+    public List<UUID> gaps() {
+        return gaps;
+    }
+
+    /**
+     * Score of one candidate.
+     *
+     * @param candidateCompetencies Candidate score per competency on the five-point scale
+     */
+    public double score(Map<UUID, Double> candidateCompetencies) {
+        return scores(toMatrix(Collections.singletonList(candidateCompetencies)), 1)[0];
+    }
+
+    /**
+     * Lay candidates out as rows of a flat matrix with one column per gap;
+     * a competency the candidate has no score for is NaN.
+     */
+    public double[] toMatrix(List<Map<UUID, Double>> candidates) {
+        int width = gaps.size();
+        double[] matrix = new double[candidates.size() * width];
+        for (int row = 0; row < candidates.size(); row++) {
+            Map<UUID, Double> competencies = candidates.get(row);
+            for (int column = 0; column < width; column++) {
+                Double value = competencies != null ? competencies.get(gaps.get(column)) : null;
+                matrix[row * width + column] = value != null ? value : Double.NaN;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Scores of all candidates of a matrix built by {@link #toMatrix(List)}.
+     */
+    public double[] scores(double[] matrix, int candidates) {
+        return scores(matrix, candidates, null);
+    }
+
+    /**
+     * Scores of all candidates, writing the per-gap contributions into a matrix of the
+     * same layout when one is given.
+     *
+     * @param matrix        Candidate scores, one row per candidate and one column per gap
+     * @param candidates    Number of rows
+     * @param contributions Output for the contribution of each gap to each score, or null
+     */
+    public double[] scores(double[] matrix, int candidates, double[] contributions) {
+        int width = gaps.size();
+        double[] scores = new double[candidates];
+        if (width == 0) {
+            Arrays.fill(scores, NEUTRAL_SCORE);
+            return scores;
+        }
+
+        double coverageShare = COVERAGE_WEIGHT / width;
+        for (int row = 0, offset = 0; row < candidates; row++, offset += width) {
+            double fillSum = 0.0;
+            int filled = 0;
+            for (int column = offset; column < offset + width; column++) {
+                // NaN (no score) fails the comparison
+                double value = matrix[column];
+                if (value >= PROFICIENCY_THRESHOLD) {
+                    fillSum += value / MAX_SCALE_SCORE * 100;
+                    filled++;
+                }
+            }
+
+            if (filled == 0) {
+                scores[row] = NO_GAP_FILLED_SCORE;
+                continue;
+            }
+
+            scores[row] = (fillSum / filled) * FILL_WEIGHT + ((double) filled / width) * COVERAGE_WEIGHT;
+            if (contributions != null) {
+                for (int column = offset; column < offset + width; column++) {
+                    double value = matrix[column];
+                    contributions[column] = value >= PROFICIENCY_THRESHOLD
+                            ? (value / MAX_SCALE_SCORE * 100) * FILL_WEIGHT / filled + coverageShare
+                            : 0.0;
+                }
+            }
+        }
+        return scores;
+    }
+}
@@ -2,12 +2,14 @@ package app.skillsoft.assessmentbackend.services.team;
 
 import app.skillsoft.assessmentbackend.domain.dto.team.*;
 import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.events.team.TeamMembershipChangedEvent;
 import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
 import app.skillsoft.assessmentbackend.repository.TeamRepository;
 import app.skillsoft.assessmentbackend.repository.UserRepository;
 import app.skillsoft.assessmentbackend.services.team.saga.SagaContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,9 @@ import java.util.UUID;
 /**
  * Implementation of TeamOrchestrationService with saga pattern.
  * Handles multi-step team operations with compensation on failure.
+ *
+ * Every change of membership, leadership or status publishes a TeamMembershipChangedEvent,
+ * which keeps the materialized team profile current once the change has committed.
  */
 @Service
 @Transactional
@@ -28,14 +33,17 @@ public class TeamOrchestrationServiceImpl implements TeamOrchestrationService {
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeamOrchestrationServiceImpl(
             TeamRepository teamRepository,
             TeamMemberRepository teamMemberRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -105,6 +113,7 @@ public class TeamOrchestrationServiceImpl implements TeamOrchestrationService {
             if (command.activateImmediately() && team.getActiveMemberCount() > 0) {
                 team.activate();
                 context.recordStep("TEAM_ACTIVATED");
+                eventPublisher.publishEvent(TeamMembershipChangedEvent.teamChanged(team.getId(), "team activated"));
             }
 
             // Save final state
@@ -159,6 +168,7 @@ public class TeamOrchestrationServiceImpl implements TeamOrchestrationService {
                 }
 
                 addedMembers.add(userId);
+                eventPublisher.publishEvent(TeamMembershipChangedEvent.memberAdded(teamId, userId));
             } catch (Exception e) {
                 failures.add("Failed to add user " + userId + ": " + e.getMessage());
             }
@@ -185,6 +195,7 @@ public class TeamOrchestrationServiceImpl implements TeamOrchestrationService {
                     .ifPresent(member -> {
                         member.demoteToMember();
                         teamMemberRepository.save(member);
+                        eventPublisher.publishEvent(TeamMembershipChangedEvent.roleChanged(teamId, previousLeaderId));
                     });
         }
 
@@ -203,6 +214,7 @@ public class TeamOrchestrationServiceImpl implements TeamOrchestrationService {
             team.setLeader(newLeader);
             leaderMember.promoteToLeader();
             teamMemberRepository.save(leaderMember);
+            eventPublisher.publishEvent(TeamMembershipChangedEvent.roleChanged(teamId, newLeaderId));
         } else {
             team.setLeader(null);
         }
@@ -225,6 +237,7 @@ public class TeamOrchestrationServiceImpl implements TeamOrchestrationService {
 
         team.activate();
         teamRepository.save(team);
+        eventPublisher.publishEvent(TeamMembershipChangedEvent.teamChanged(teamId, "team activated"));
 
         log.info("Activated team {}", teamId);
         return ActivationResult.success(team.getActivatedAt());
@@ -248,6 +261,7 @@ public class TeamOrchestrationServiceImpl implements TeamOrchestrationService {
                     member.remove();
                     teamMemberRepository.save(member);
                 });
+        eventPublisher.publishEvent(TeamMembershipChangedEvent.teamChanged(teamId, "team archived"));
 
         log.info("Archived team {}", teamId);
         return ArchiveResult.success(team.getArchivedAt());
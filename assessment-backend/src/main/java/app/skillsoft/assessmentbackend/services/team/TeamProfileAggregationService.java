@@ -1,8 +1,10 @@
 package app.skillsoft.assessmentbackend.services.team;
 
+import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
 import app.skillsoft.assessmentbackend.domain.entities.Team;
 import app.skillsoft.assessmentbackend.domain.entities.TeamMember;
 import app.skillsoft.assessmentbackend.domain.entities.TeamStatus;
+import app.skillsoft.assessmentbackend.domain.entities.TestResult;
 import app.skillsoft.assessmentbackend.domain.entities.User;
 import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
 import app.skillsoft.assessmentbackend.repository.TeamRepository;
@@ -15,18 +17,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service for computing team profiles from TestResult data.
  * Aggregates member competency scores and calculates saturation levels.
+ *
+ * The latest results of all active members are loaded with a single query
+ * (latest COMPLETED result per member and template), so profiling cost does not
+ * grow with one query per member.
  */
 @Service
 @Transactional(readOnly = true)
 public class TeamProfileAggregationService {
 
     private static final Logger log = LoggerFactory.getLogger(TeamProfileAggregationService.class);
-    private static final double DEFAULT_SATURATION_THRESHOLD = 0.3;
+    static final double DEFAULT_SATURATION_THRESHOLD = 0.3;
+    static final double MAX_SCALE_SCORE = 5.0;
 
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
@@ -97,94 +103,98 @@ public class TeamProfileAggregationService {
         ));
     }
 
-    private List<TeamMemberProfile> buildMemberProfiles(List<TeamMember> members) {
-        return members.stream()
-                .map(this::buildMemberProfile)
-                .filter(Objects::nonNull)
-                .toList();
+    /**
+     * Compute the profile of one member from their latest results.
+     * Used to patch a materialized team profile without recomputing the other members.
+     */
+    public TeamMemberProfile computeMemberProfile(TeamMember member) {
+        return buildMemberProfiles(List.of(member)).get(0);
     }
 
-    private TeamMemberProfile buildMemberProfile(TeamMember member) {
-        User user = member.getUser();
-        String clerkUserId = user.getClerkId();
+    /**
+     * Build the profiles of all members from one query over their latest results.
+     */
+    private List<TeamMemberProfile> buildMemberProfiles(List<TeamMember> members) {
+        Set<String> clerkUserIds = new LinkedHashSet<>();
+        for (TeamMember member : members) {
+            if (member.getUser().getClerkId() != null) {
+                clerkUserIds.add(member.getUser().getClerkId());
+            }
+        }
 
-        // Get latest test results for competency scores
-        var results = testResultRepository.findByClerkUserIdOrderByCompletedAtDesc(clerkUserId);
+        Map<String, List<TestResult>> resultsByUser = loadLatestResults(clerkUserIds);
 
-        if (results.isEmpty()) {
-            // Return profile with empty scores
-            return new TeamMemberProfile(
+        List<TeamMemberProfile> profiles = new ArrayList<>(members.size());
+        for (TeamMember member : members) {
+            User user = member.getUser();
+            List<TestResult> results = resultsByUser.getOrDefault(user.getClerkId(), List.of());
+            profiles.add(new TeamMemberProfile(
                     user.getId(),
                     user.getFullName(),
                     member.getRole().getDisplayName(),
-                    Map.of(),
-                    Map.of()
-            );
+                    latestCompetencyScores(results),
+                    latestPersonalityTraits(results)
+            ));
         }
+        return profiles;
+    }
 
-        // Aggregate competency scores from all test results
-        Map<UUID, Double> competencyScores = aggregateCompetencyScores(results);
-
-        // Get personality traits from results with Big Five profile
-        Map<String, Double> personalityTraits = extractPersonalityTraits(results);
+    /**
+     * Latest competency scores (five-point scale) of each user, loaded with one query.
+     * Used to rank candidates by clerk ID against a team; users without results are absent.
+     */
+    public Map<String, Map<UUID, Double>> latestCompetencyScoresByClerkUserId(Collection<String> clerkUserIds) {
+        Map<String, Map<UUID, Double>> scoresByUser = new HashMap<>();
+        loadLatestResults(new LinkedHashSet<>(clerkUserIds))
+                .forEach((clerkUserId, results) -> scoresByUser.put(clerkUserId, latestCompetencyScores(results)));
+        return scoresByUser;
+    }
 
-        return new TeamMemberProfile(
-                user.getId(),
-                user.getFullName(),
-                member.getRole().getDisplayName(),
-                competencyScores,
-                personalityTraits
-        );
+    /**
+     * Latest result per user and template, newest first within each user.
+     */
+    private Map<String, List<TestResult>> loadLatestResults(Set<String> clerkUserIds) {
+        Map<String, List<TestResult>> resultsByUser = new HashMap<>();
+        if (!clerkUserIds.isEmpty()) {
+            for (TestResult result : testResultRepository.findLatestCompletedByClerkUserIds(clerkUserIds)) {
+                resultsByUser.computeIfAbsent(result.getClerkUserId(), k -> new ArrayList<>()).add(result);
+            }
+        }
+        return resultsByUser;
     }
 
-    private Map<UUID, Double> aggregateCompetencyScores(List<?> results) {
-        Map<UUID, List<Double>> scoresByCompetency = new HashMap<>();
-
-        for (var result : results) {
-            // Use reflection or cast to access competency scores
-            // This is simplified - actual implementation would access getCompetencyScores()
-            try {
-                var method = result.getClass().getMethod("getCompetencyScores");
-                @SuppressWarnings("unchecked")
-                var scores = (List<Object>) method.invoke(result);
-                if (scores != null) {
-                    for (var score : scores) {
-                        var compIdMethod = score.getClass().getMethod("competencyId");
-                        var percentageMethod = score.getClass().getMethod("percentage");
-                        UUID compId = (UUID) compIdMethod.invoke(score);
-                        Double percentage = (Double) percentageMethod.invoke(score);
-                        if (compId != null && percentage != null) {
-                            scoresByCompetency
-                                    .computeIfAbsent(compId, k -> new ArrayList<>())
-                                    .add(percentage);
-                        }
-                    }
+    /**
+     * Latest score of each competency on the five-point scale.
+     *
+     * @param results Results of one member, newest first
+     */
+    private Map<UUID, Double> latestCompetencyScores(List<TestResult> results) {
+        Map<UUID, Double> scores = new HashMap<>();
+        for (TestResult result : results) {
+            List<CompetencyScoreDto> competencyScores = result.getCompetencyScores();
+            if (competencyScores == null) {
+                continue;
+            }
+            for (CompetencyScoreDto score : competencyScores) {
+                if (score != null && score.getCompetencyId() != null && score.getPercentage() != null) {
+                    // Convert percentage to 1-5 scale; an older result never overrides a newer one
+                    scores.putIfAbsent(score.getCompetencyId(), score.getPercentage() / 100.0 * MAX_SCALE_SCORE);
                 }
-            } catch (Exception e) {
-                log.debug("Could not extract competency scores: {}", e.getMessage());
             }
         }
-
-        // Use latest score for each competency (first in list since ordered by date desc)
-        return scoresByCompetency.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().isEmpty() ? 0.0 : e.getValue().get(0) / 100.0 * 5.0 // Convert percentage to 1-5 scale
-                ));
+        return scores;
     }
 
-    private Map<String, Double> extractPersonalityTraits(List<?> results) {
-        // Find first result with Big Five profile
-        for (var result : results) {
-            try {
-                var method = result.getClass().getMethod("getBigFiveProfile");
-                @SuppressWarnings("unchecked")
-                var profile = (Map<String, Double>) method.invoke(result);
-                if (profile != null && !profile.isEmpty()) {
-                    return profile;
-                }
-            } catch (Exception e) {
-                log.debug("Could not extract personality traits: {}", e.getMessage());
+    /**
+     * Big Five profile of the newest result that has one.
+     *
+     * @param results Results of one member, newest first
+     */
+    private Map<String, Double> latestPersonalityTraits(List<TestResult> results) {
+        for (TestResult result : results) {
+            Map<String, Double> profile = result.getBigFiveProfile();
+            if (profile != null && !profile.isEmpty()) {
+                return profile;
             }
         }
         return Map.of();
@@ -193,48 +203,76 @@ public class TeamProfileAggregationService {
     private Map<UUID, Double> calculateCompetencySaturation(
             List<TeamMemberProfile> members, int teamSize) {
 
-        Map<UUID, List<Double>> scoresByCompetency = new HashMap<>();
-
+        KeyedSums<UUID> sums = new KeyedSums<>();
         for (TeamMemberProfile member : members) {
             if (member.competencyScores() != null) {
-                member.competencyScores().forEach((compId, score) ->
-                        scoresByCompetency
-                                .computeIfAbsent(compId, k -> new ArrayList<>())
-                                .add(score)
-                );
+                member.competencyScores().forEach(sums::add);
             }
         }
 
         // Saturation = (count of members with skill / team size) * (avg score / max score)
-        return scoresByCompetency.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> {
-                            double coverage = (double) e.getValue().size() / teamSize;
-                            double avgScore = e.getValue().stream()
-                                    .mapToDouble(Double::doubleValue)
-                                    .average()
-                                    .orElse(0);
-                            return coverage * (avgScore / 5.0);
-                        }
-                ));
+        Map<UUID, Double> saturation = new HashMap<>();
+        for (int slot = 0; slot < sums.size(); slot++) {
+            double coverage = (double) sums.count(slot) / teamSize;
+            saturation.put(sums.key(slot), coverage * (sums.average(slot) / MAX_SCALE_SCORE));
+        }
+        return saturation;
     }
 
     private Map<String, Double> calculateAveragePersonality(List<TeamMemberProfile> members) {
-        Map<String, List<Double>> traitScores = new HashMap<>();
-
+        KeyedSums<String> sums = new KeyedSums<>();
         for (TeamMemberProfile member : members) {
             if (member.personalityTraits() != null) {
-                member.personalityTraits().forEach((trait, score) ->
-                        traitScores.computeIfAbsent(trait, k -> new ArrayList<>()).add(score)
-                );
+                member.personalityTraits().forEach(sums::add);
             }
         }
 
-        return traitScores.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().stream().mapToDouble(Double::doubleValue).average().orElse(0)
-                ));
+        Map<String, Double> averages = new HashMap<>();
+        for (int slot = 0; slot < sums.size(); slot++) {
+            averages.put(sums.key(slot), sums.average(slot));
+        }
+        return averages;
+    }
+
+    /**
+     * Running sum and count per key, held in primitive arrays indexed by a slot per key.
+     */
+    private static final class KeyedSums<K> {
+        private final Map<K, Integer> slots = new HashMap<>();
+        private final List<K> keys = new ArrayList<>();
+        private double[] sums = new double[16];
+        private int[] counts = new int[16];
+
+        void add(K key, Double value) {
+            if (key == null || value == null) {
+                return;
+            }
+            int slot = slots.computeIfAbsent(key, k -> {
+                keys.add(k);
+                return keys.size() - 1;
+            });
+            if (slot == sums.length) {
+                sums = Arrays.copyOf(sums, slot * 2);
+                counts = Arrays.copyOf(counts, slot * 2);
+            }
+            sums[slot] += value;
+            counts[slot]++;
+        }
+
+        int size() {
+            return keys.size();
+        }
+
+        K key(int slot) {
+            return keys.get(slot);
+        }
+
+        int count(int slot) {
+            return counts[slot];
+        }
+
+        double average(int slot) {
+            return counts[slot] > 0 ? sums[slot] / counts[slot] : 0.0;
+        }
     }
 }
@@ -0,0 +1,215 @@
+package app.skillsoft.assessmentbackend.services.team;
+
+import app.skillsoft.assessmentbackend.domain.entities.TeamMember;
+import app.skillsoft.assessmentbackend.domain.entities.TeamProfileSnapshot;
+import app.skillsoft.assessmentbackend.domain.entities.TeamProfileSnapshot.Member;
+import app.skillsoft.assessmentbackend.domain.entities.User;
+import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
+import app.skillsoft.assessmentbackend.repository.TeamProfileSnapshotRepository;
+import app.skillsoft.assessmentbackend.repository.UserRepository;
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamMemberProfile;
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps the materialized profile of each ACTIVE team ({@link TeamProfileSnapshot}) current.
+ *
+ * - Read: a team profile is derived from the stored member counts and sums, with no
+ *   result queries; a missing snapshot is built once by {@link TeamProfileAggregationService}
+ * - Member changes: a scored result, a new or removed member or a role change recomputes
+ *   that one member's contribution (one result query) and patches the sums
+ * - Team changes: activation, archiving or renaming rebuild the snapshot; teams that are
+ *   not ACTIVE have no snapshot
+ * - Member names: read from the users each time a profile is derived (one query), so a
+ *   rename shows up without a team event; the stored name is kept for deleted users
+ *
+ * Every method runs in a transaction of its own, so it can be called after the transaction
+ * that changed the team has committed. A concurrent update of the same team fails on the
+ * snapshot version and is left to the caller to retry with {@link #rebuild(UUID)}.
+ */
+@Service
+public class TeamProfileMaterializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamProfileMaterializer.class);
+
+    private final TeamProfileSnapshotRepository snapshotRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamProfileAggregationService aggregationService;
+    private final UserRepository userRepository;
+
+    public TeamProfileMaterializer(
+            TeamProfileSnapshotRepository snapshotRepository,
+            TeamMemberRepository teamMemberRepository,
+            TeamProfileAggregationService aggregationService,
+            UserRepository userRepository) {
+        this.snapshotRepository = snapshotRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.aggregationService = aggregationService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Current profile of a team, building its snapshot if there is none yet.
+     *
+     * @return The profile, or empty if the team does not exist or is not ACTIVE
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<TeamProfile> load(UUID teamId) {
+        Optional<TeamProfileSnapshot> snapshot = snapshotRepository.findById(teamId);
+        if (snapshot.isPresent()) {
+            return Optional.of(toProfile(snapshot.get()));
+        }
+        log.debug("No team profile snapshot for team {}, building it", teamId);
+        return rebuildSnapshot(teamId);
+    }
+
+    /**
+     * Recompute the snapshot of a team from the latest results of all its members.
+     * Removes the snapshot of a team that does not exist or is not ACTIVE.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<TeamProfile> rebuild(UUID teamId) {
+        return rebuildSnapshot(teamId);
+    }
+
+    /**
+     * Recompute the contribution of one member: replaced for an active member,
+     * removed for a member who left the team.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<TeamProfile> refreshMember(UUID teamId, UUID userId) {
+        Optional<TeamProfileSnapshot> existing = snapshotRepository.findById(teamId);
+        if (existing.isEmpty()) {
+            // The rebuild already includes the member's current contribution
+            return rebuildSnapshot(teamId);
+        }
+
+        TeamProfileSnapshot snapshot = existing.get();
+        Optional<TeamMember> member = teamMemberRepository.findByTeamIdAndUserId(teamId, userId)
+                .filter(TeamMember::isActive);
+        if (member.isPresent()) {
+            snapshot.putMember(toMember(aggregationService.computeMemberProfile(member.get())));
+        } else if (!snapshot.removeMember(userId)) {
+            return Optional.of(toProfile(snapshot));
+        }
+
+        log.debug("Updated team profile snapshot of team {} for member {}", teamId, userId);
+        return Optional.of(toProfile(snapshotRepository.save(snapshot)));
+    }
+
+    /**
+     * Drop the snapshot of a team, so the next read rebuilds it.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void discard(UUID teamId) {
+        snapshotRepository.deleteById(teamId);
+    }
+
+    private Optional<TeamProfile> rebuildSnapshot(UUID teamId) {
+        Optional<TeamProfile> computed = aggregationService.computeTeamProfile(teamId);
+        if (computed.isEmpty()) {
+            snapshotRepository.deleteById(teamId);
+            return Optional.empty();
+        }
+
+        TeamProfile profile = computed.get();
+        List<Member> members = new ArrayList<>(profile.members().size());
+        for (TeamMemberProfile memberProfile : profile.members()) {
+            members.add(toMember(memberProfile));
+        }
+
+        TeamProfileSnapshot snapshot = snapshotRepository.findById(teamId)
+                .orElseGet(() -> new TeamProfileSnapshot(teamId));
+        snapshot.reset(profile.teamName(), members);
+        snapshotRepository.save(snapshot);
+
+        log.debug("Rebuilt team profile snapshot of team {} ({} members)", teamId, members.size());
+        return Optional.of(toProfile(snapshot));
+    }
+
+    /**
+     * Derive the team profile from the stored sums.
+     *
+     * Saturation = (members with the competency / team size) * (average score / max score),
+     * which reduces to score sum / (team size * max score).
+     */
+    TeamProfile toProfile(TeamProfileSnapshot snapshot) {
+        int teamSize = snapshot.getMembers().size();
+
+        Map<UUID, Double> saturation = new HashMap<>();
+        List<UUID> skillGaps = new ArrayList<>();
+        if (teamSize > 0) {
+            double capacity = teamSize * TeamProfileAggregationService.MAX_SCALE_SCORE;
+            snapshot.getCompetencyStats().forEach((competencyId, stat) -> {
+                double value = stat.sum() / capacity;
+                saturation.put(competencyId, value);
+                if (value < TeamProfileAggregationService.DEFAULT_SATURATION_THRESHOLD) {
+                    skillGaps.add(competencyId);
+                }
+            });
+        }
+
+        Map<String, Double> averagePersonality = new HashMap<>();
+        snapshot.getTraitStats().forEach((trait, stat) -> averagePersonality.put(trait, stat.average()));
+
+        Map<UUID, String> currentNames = currentNames(snapshot.getMembers());
+        List<TeamMemberProfile> members = new ArrayList<>(teamSize);
+        for (Member member : snapshot.getMembers()) {
+            members.add(new TeamMemberProfile(
+                    member.userId(),
+                    currentNames.getOrDefault(member.userId(), member.name()),
+                    member.role(),
+                    member.competencyScores() != null ? member.competencyScores() : Map.of(),
+                    member.personalityTraits() != null ? member.personalityTraits() : Map.of()
+            ));
+        }
+
+        return new TeamProfile(
+                snapshot.getTeamId(),
+                snapshot.getTeamName(),
+                members,
+                saturation,
+                averagePersonality,
+                skillGaps
+        );
+    }
+
+    /**
+     * Current display name of each member, read with one query.
+     */
+    private Map<UUID, String> currentNames(List<Member> members) {
+        if (members.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> userIds = new ArrayList<>(members.size());
+        for (Member member : members) {
+            userIds.add(member.userId());
+        }
+        Map<UUID, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            names.put(user.getId(), user.getFullName());
+        }
+        return names;
+    }
+
+    private static Member toMember(TeamMemberProfile profile) {
+        return new Member(
+                profile.userId(),
+                profile.name(),
+                profile.role(),
+                profile.competencyScores(),
+                profile.personalityTraits()
+        );
+    }
+}
@@ -7,10 +7,12 @@ import app.skillsoft.assessmentbackend.domain.dto.team.UpdateTeamRequest;
 import app.skillsoft.assessmentbackend.domain.entities.Team;
 import app.skillsoft.assessmentbackend.domain.entities.TeamMember;
 import app.skillsoft.assessmentbackend.domain.entities.TeamStatus;
+import app.skillsoft.assessmentbackend.events.team.TeamMembershipChangedEvent;
 import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
 import app.skillsoft.assessmentbackend.repository.TeamRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,14 +34,17 @@ public class TeamQueryServiceImpl implements TeamQueryService {
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TeamMapper teamMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeamQueryServiceImpl(
             TeamRepository teamRepository,
             TeamMemberRepository teamMemberRepository,
-            TeamMapper teamMapper) {
+            TeamMapper teamMapper,
+            ApplicationEventPublisher eventPublisher) {
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.teamMapper = teamMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -96,8 +101,10 @@ public class TeamQueryServiceImpl implements TeamQueryService {
                         throw new IllegalStateException("Cannot update archived team");
                     }
 
-                    if (request.name() != null && !request.name().isBlank()) {
+                    if (request.name() != null && !request.name().isBlank()
+                            && !request.name().equals(team.getName())) {
                         team.setName(request.name());
+                        eventPublisher.publishEvent(TeamMembershipChangedEvent.teamChanged(teamId, "team renamed"));
                     }
                     if (request.description() != null) {
                         team.setDescription(request.description());
@@ -128,6 +135,7 @@ public class TeamQueryServiceImpl implements TeamQueryService {
 
         member.remove();
         teamMemberRepository.save(member);
+        eventPublisher.publishEvent(TeamMembershipChangedEvent.memberRemoved(teamId, userId));
 
         log.info("Removed member {} from team {}", userId, teamId);
         return true;
@@ -33,6 +33,11 @@ public class PsychometricBlueprintValidator {
 
     private static final Logger log = LoggerFactory.getLogger(PsychometricBlueprintValidator.class);
 
+    /**
+     * Upper bound for IN-clause parameters per batch query.
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final ItemStatisticsRepository itemStatsRepository;
     private final AssessmentQuestionRepository questionRepository;
 
@@ -194,6 +199,86 @@ public class PsychometricBlueprintValidator {
         return status != ItemValidityStatus.RETIRED;
     }
 
+    /**
+     * Resolve the validity status of a batch of questions with one joined query
+     * (chunked for very large inputs).
+     *
+     * Only active questions appear in the result; inactive and unknown IDs are omitted.
+     * Questions without statistics are reported as PROBATION, matching the per-question path.
+     *
+     * @param questionIds The questions to resolve
+     * @return Map of active question ID to validity status
+     */
+    public Map<UUID, ItemValidityStatus> getValidityStatuses(Collection<UUID> questionIds) {
+        if (questionIds == null || questionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> distinctIds = questionIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<UUID, ItemValidityStatus> result = new HashMap<>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += MAX_BATCH_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + MAX_BATCH_SIZE, distinctIds.size()));
+            for (Object[] row : questionRepository.findActiveValidityStatusesByIds(chunk)) {
+                ItemValidityStatus status = (ItemValidityStatus) row[1];
+                result.put((UUID) row[0], status != null ? status : ItemValidityStatus.PROBATION);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Set-based counterpart of {@link #isEligibleForAssembly(UUID)}.
+     *
+     * @param questionIds The questions to check
+     * @return The eligible questions, in the iteration order of the input
+     */
+    public Set<UUID> eligibleSubset(Collection<UUID> questionIds) {
+        Map<UUID, ItemValidityStatus> statuses = getValidityStatuses(questionIds);
+        if (statuses.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<UUID> eligible = new LinkedHashSet<>();
+        for (UUID questionId : questionIds) {
+            ItemValidityStatus status = statuses.get(questionId);
+            if (status != null && (!psychometricsEnabled || status != ItemValidityStatus.RETIRED)) {
+                eligible.add(questionId);
+            }
+        }
+        return eligible;
+    }
+
+    /**
+     * Count the questions eligible for assembly per competency with one grouped query.
+     * Competencies without eligible questions map to 0.
+     *
+     * @param competencyIds The competencies to count
+     * @return Map of competency ID to eligible question count
+     */
+    public Map<UUID, Integer> getEligibleCountsByCompetency(Collection<UUID> competencyIds) {
+        if (competencyIds == null || competencyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, Integer> counts = new HashMap<>();
+        competencyIds.forEach(id -> counts.put(id, 0));
+
+        for (Object[] row : questionRepository.countActiveQuestionsByCompetencyAndValidityStatus(competencyIds)) {
+            ItemValidityStatus status = (ItemValidityStatus) row[1];
+            if (psychometricsEnabled && status == ItemValidityStatus.RETIRED) {
+                continue;
+            }
+            counts.merge((UUID) row[0], ((Number) row[2]).intValue(), Integer::sum);
+        }
+
+        return counts;
+    }
+
     /**
      * Get a summary of question availability by validity status for an indicator.
      *
@@ -0,0 +1,16 @@
+-- V23__add_session_deadline.sql
+-- Adds a server-authoritative deadline to timed test sessions
+-- deadline_at = started_at + template time limit, set when a session starts.
+-- Remaining time is computed from it on read; client heartbeats no longer write the timer.
+
+ALTER TABLE test_sessions
+ADD COLUMN IF NOT EXISTS deadline_at TIMESTAMP NULL;
+
+-- Sessions already in progress are not backfilled: they keep the client-reported
+-- time_remaining_seconds and finish under the previous rules.
+
+-- Partial index for the deadline scheduler, which loads upcoming deadlines of
+-- in-progress sessions
+CREATE INDEX IF NOT EXISTS idx_test_session_status_deadline
+ON test_sessions(status, deadline_at)
+WHERE deadline_at IS NOT NULL;
@@ -0,0 +1,19 @@
+-- V24__create_session_score_aggregates.sql
+-- Running per-indicator score totals of test sessions, maintained as answers are submitted
+-- score_sum = sum of normalized (0-1) scores of answered, non-skipped answers of the indicator
+-- answer_count = number of those answers
+-- Completion scoring rolls these rows up instead of reloading every answer.
+
+CREATE TABLE IF NOT EXISTS session_score_aggregates (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    session_id UUID NOT NULL REFERENCES test_sessions(id) ON DELETE CASCADE,
+    indicator_id UUID NOT NULL,
+    score_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    answer_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT uk_session_score_aggregate UNIQUE (session_id, indicator_id)
+);
+
+-- Marks sessions whose totals have been maintained since they started.
+-- Sessions already in progress are not backfilled: they are scored from their answers.
+ALTER TABLE test_sessions
+ADD COLUMN IF NOT EXISTS score_aggregates_tracked BOOLEAN NULL;
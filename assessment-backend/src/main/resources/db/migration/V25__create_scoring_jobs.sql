@@ -0,0 +1,28 @@
+-- V25__create_scoring_jobs.sql
+-- Durable queue of asynchronous scoring jobs
+-- Session completion and timeouts enqueue a job; workers claim QUEUED jobs whose
+-- next_attempt_at has passed (FOR UPDATE SKIP LOCKED) and retry failures with backoff.
+
+CREATE TABLE IF NOT EXISTS scoring_jobs (
+    id UUID PRIMARY KEY,
+    session_id UUID NOT NULL REFERENCES test_sessions(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP NULL,
+    completed_at TIMESTAMP NULL,
+    result_id UUID NULL,
+    last_error VARCHAR(1000) NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_scoring_job_session
+ON scoring_jobs(session_id);
+
+CREATE INDEX IF NOT EXISTS idx_scoring_job_status_next_attempt
+ON scoring_jobs(status, next_attempt_at);
+
+-- At most one active job per session, so duplicate enqueues are no-ops
+CREATE UNIQUE INDEX IF NOT EXISTS uk_scoring_job_active_session
+ON scoring_jobs(session_id)
+WHERE status IN ('QUEUED', 'RUNNING');
@@ -0,0 +1,19 @@
+-- V26__add_item_running_statistics.sql
+-- Running sufficient statistics of each item, paired with the session total
+-- (normalized item score x, overall percentage / 100 y), updated Welford-style when a
+-- result is scored: count, means, M2 sums of squared deviations and the x-y co-moment.
+-- Difficulty (mean x) and point-biserial discrimination (C / sqrt(M2x * M2y)) follow
+-- from them without rescanning test_answers.
+
+ALTER TABLE item_statistics
+ADD COLUMN IF NOT EXISTS running_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS item_score_mean DOUBLE PRECISION NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS item_score_m2 DOUBLE PRECISION NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS total_score_mean DOUBLE PRECISION NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS total_score_m2 DOUBLE PRECISION NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS item_total_co_moment DOUBLE PRECISION NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS running_seeded_at TIMESTAMP NULL;
+
+-- Existing rows are not backfilled: running_seeded_at stays NULL until the next full
+-- recalculation of the item seeds the statistics from its answers. Only seeded rows
+-- receive incremental updates.
@@ -0,0 +1,30 @@
+-- V27__create_psychometric_audit_runs.sql
+-- Progress of nightly psychometric audit runs
+-- The audit walks its steps (items, competencies, traits, statuses) in pages of work
+-- units; after each page the step, the key of the last processed unit and the counters
+-- are saved with a heartbeat, so a run stopped by a crash or error resumes from there.
+
+CREATE TABLE IF NOT EXISTS psychometric_audit_runs (
+    id UUID PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    current_step VARCHAR(20) NULL,
+    step_cursor VARCHAR(100) NULL,
+    items_recalculated INTEGER NOT NULL DEFAULT 0,
+    competencies_recalculated INTEGER NOT NULL DEFAULT 0,
+    traits_recalculated INTEGER NOT NULL DEFAULT 0,
+    statuses_updated INTEGER NOT NULL DEFAULT 0,
+    failed_units INTEGER NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NULL,
+    last_error VARCHAR(1000) NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_psychometric_audit_run_status_started
+ON psychometric_audit_runs(status, started_at);
+
+-- At most one unfinished run, so nodes starting the audit together do not both run it
+CREATE UNIQUE INDEX IF NOT EXISTS uk_psychometric_audit_run_active
+ON psychometric_audit_runs((1))
+WHERE status IN ('RUNNING', 'INTERRUPTED');
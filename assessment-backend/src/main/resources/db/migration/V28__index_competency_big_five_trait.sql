@@ -0,0 +1,15 @@
+-- V28__index_competency_big_five_trait.sql
+-- Expression index for looking up the competencies of a Big Five trait
+-- (CompetencyRepository#findIdsByBigFiveTrait) instead of filtering every competency
+-- in memory. The expression must match the repository query exactly; it covers the
+-- legacy keys StandardCodesDto still accepts (globalCategory/global_category for
+-- bigFiveRef, bigFive for trait).
+
+CREATE INDEX IF NOT EXISTS idx_competency_big_five_trait
+ON competencies ((UPPER(COALESCE(
+    standard_codes #>> '{bigFiveRef,trait}',
+    standard_codes #>> '{bigFiveRef,bigFive}',
+    standard_codes #>> '{globalCategory,trait}',
+    standard_codes #>> '{globalCategory,bigFive}',
+    standard_codes #>> '{global_category,trait}',
+    standard_codes #>> '{global_category,bigFive}'))));
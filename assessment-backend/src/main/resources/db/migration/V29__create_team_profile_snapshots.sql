@@ -0,0 +1,18 @@
+-- V29__create_team_profile_snapshots.sql
+-- Materialized team profiles for TEAM_FIT assessments
+-- One row per ACTIVE team holding each member's contribution (latest competency scores
+-- on the five-point scale and Big Five profile) plus, per competency and per trait, the
+-- number of contributing members and the sum of their scores. A scored result or a
+-- membership change patches one member's contribution instead of recomputing the team;
+-- saturation and trait averages are derived from the sums on read.
+
+CREATE TABLE IF NOT EXISTS team_profile_snapshots (
+    team_id UUID PRIMARY KEY REFERENCES teams(id) ON DELETE CASCADE,
+    team_name VARCHAR(200) NOT NULL,
+    member_count INTEGER NOT NULL DEFAULT 0,
+    members JSONB NOT NULL DEFAULT '[]'::jsonb,
+    competency_stats JSONB NOT NULL DEFAULT '{}'::jsonb,
+    trait_stats JSONB NOT NULL DEFAULT '{}'::jsonb,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
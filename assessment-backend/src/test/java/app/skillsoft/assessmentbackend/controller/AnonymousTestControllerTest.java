@@ -4,12 +4,14 @@ import app.skillsoft.assessmentbackend.domain.dto.*;
 import app.skillsoft.assessmentbackend.domain.entities.DifficultyLevel;
 import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
 import app.skillsoft.assessmentbackend.domain.entities.ResultStatus;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus;
 import app.skillsoft.assessmentbackend.exception.GlobalExceptionHandler;
 import app.skillsoft.assessmentbackend.exception.InvalidSessionTokenException;
 import app.skillsoft.assessmentbackend.exception.RateLimitExceededException;
 import app.skillsoft.assessmentbackend.exception.ShareLinkException;
 import app.skillsoft.assessmentbackend.services.AnonymousTestService;
 import app.skillsoft.assessmentbackend.services.TestSessionService.CurrentQuestionDto;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobNotifier;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -77,6 +79,9 @@ class AnonymousTestControllerTest {
     @MockBean
     private AnonymousTestService anonymousTestService;
 
+    @MockBean
+    private ScoringJobNotifier scoringJobNotifier;
+
     // Test data
     private UUID sessionId;
     private UUID templateId;
@@ -91,6 +96,7 @@ class AnonymousTestControllerTest {
     private CurrentQuestionDto currentQuestionDto;
     private TestAnswerDto testAnswerDto;
     private TestResultDto testResultDto;
+    private ScoringJobDto queuedJob;
     private AnonymousResultDetailDto resultDetailDto;
 
     @BeforeEach
@@ -190,6 +196,10 @@ class AnonymousTestControllerTest {
                 null  // extendedMetrics
         );
 
+        // Scoring job handle returned on completion
+        queuedJob = new ScoringJobDto(UUID.randomUUID(), sessionId, ScoringJobStatus.QUEUED,
+                0, now, null, null, null);
+
         // Create AnonymousResultDetailDto
         AnonymousResultDetailDto.TakerInfoDto takerInfo = new AnonymousResultDetailDto.TakerInfoDto(
                 "John",
@@ -414,7 +424,7 @@ class AnonymousTestControllerTest {
         @DisplayName("Should return current question with valid session token")
         void shouldReturnCurrentQuestionWithValidToken() throws Exception {
             // Given
-            when(anonymousTestService.getCurrentQuestion(eq(sessionId), eq(validSessionToken)))
+            when(anonymousTestService.getCurrentQuestion(eq(sessionId), eq(validSessionToken), eq(0)))
                     .thenReturn(currentQuestionDto);
 
             // When & Then
@@ -428,7 +438,7 @@ class AnonymousTestControllerTest {
                     .andExpect(jsonPath("$.allowBackNavigation").value(true))
                     .andExpect(jsonPath("$.allowSkip").value(true));
 
-            verify(anonymousTestService).getCurrentQuestion(sessionId, validSessionToken);
+            verify(anonymousTestService).getCurrentQuestion(sessionId, validSessionToken, 0);
         }
 
         @Test
@@ -444,7 +454,7 @@ class AnonymousTestControllerTest {
         void shouldReturn401WhenTokenInvalid() throws Exception {
             // Given
             String invalidToken = "invalid_token";
-            when(anonymousTestService.getCurrentQuestion(eq(sessionId), eq(invalidToken)))
+            when(anonymousTestService.getCurrentQuestion(eq(sessionId), eq(invalidToken), eq(0)))
                     .thenThrow(new InvalidSessionTokenException());
 
             // When & Then
@@ -452,7 +462,7 @@ class AnonymousTestControllerTest {
                             .header(SESSION_TOKEN_HEADER, invalidToken))
                     .andExpect(status().isUnauthorized());
 
-            verify(anonymousTestService).getCurrentQuestion(sessionId, invalidToken);
+            verify(anonymousTestService).getCurrentQuestion(sessionId, invalidToken, 0);
         }
     }
 
@@ -589,7 +599,7 @@ class AnonymousTestControllerTest {
                     "Candidate for manager position"
             );
             when(anonymousTestService.completeSession(eq(sessionId), eq(validSessionToken), any(AnonymousTakerInfoRequest.class)))
-                    .thenReturn(testResultDto);
+                    .thenReturn(queuedJob);
 
             // When & Then
             mockMvc.perform(post(BASE_URL + "/sessions/{sessionId}/complete", sessionId)
@@ -597,11 +607,10 @@ class AnonymousTestControllerTest {
                             .header(SESSION_TOKEN_HEADER, validSessionToken)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(takerInfo)))
-                    .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.id").value(resultId.toString()))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.jobId").value(queuedJob.jobId().toString()))
                     .andExpect(jsonPath("$.sessionId").value(sessionId.toString()))
-                    .andExpect(jsonPath("$.overallPercentage").value(85.0))
-                    .andExpect(jsonPath("$.passed").value(true));
+                    .andExpect(jsonPath("$.status").value("QUEUED"));
 
             verify(anonymousTestService).completeSession(eq(sessionId), eq(validSessionToken), any(AnonymousTakerInfoRequest.class));
         }
@@ -617,7 +626,7 @@ class AnonymousTestControllerTest {
                     null  // notes optional
             );
             when(anonymousTestService.completeSession(eq(sessionId), eq(validSessionToken), any(AnonymousTakerInfoRequest.class)))
-                    .thenReturn(testResultDto);
+                    .thenReturn(queuedJob);
 
             // When & Then
             mockMvc.perform(post(BASE_URL + "/sessions/{sessionId}/complete", sessionId)
@@ -625,8 +634,8 @@ class AnonymousTestControllerTest {
                             .header(SESSION_TOKEN_HEADER, validSessionToken)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(takerInfo)))
-                    .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.passed").value(true));
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.status").value("QUEUED"));
 
             verify(anonymousTestService).completeSession(eq(sessionId), eq(validSessionToken), any(AnonymousTakerInfoRequest.class));
         }
@@ -751,6 +760,43 @@ class AnonymousTestControllerTest {
         }
     }
 
+    // ==================== GET /sessions/{sessionId}/scoring - Scoring Status Tests ====================
+
+    @Nested
+    @DisplayName("GET /api/v1/anonymous/sessions/{sessionId}/scoring - Scoring Status")
+    class ScoringStatusTests {
+
+        @Test
+        @DisplayName("Should return result once the scoring job is completed")
+        void shouldReturnCompletedScoringStatus() throws Exception {
+            // Given
+            when(anonymousTestService.getScoringStatus(sessionId, validSessionToken)).thenReturn(
+                    new ScoringJobDto(queuedJob.jobId(), sessionId, ScoringJobStatus.COMPLETED,
+                            1, now, now, null, testResultDto));
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "/sessions/{sessionId}/scoring", sessionId)
+                            .header(SESSION_TOKEN_HEADER, validSessionToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.result.id").value(resultId.toString()))
+                    .andExpect(jsonPath("$.result.overallPercentage").value(85.0));
+        }
+
+        @Test
+        @DisplayName("Should return 401 when session token is invalid")
+        void shouldReturn401WhenTokenInvalid() throws Exception {
+            // Given
+            when(anonymousTestService.getScoringStatus(sessionId, "invalid_token"))
+                    .thenThrow(new InvalidSessionTokenException());
+
+            // When & Then
+            mockMvc.perform(get(BASE_URL + "/sessions/{sessionId}/scoring", sessionId)
+                            .header(SESSION_TOKEN_HEADER, "invalid_token"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
     // ==================== GET /sessions/{sessionId}/result - Get Result Tests ====================
 
     @Nested
@@ -972,7 +1018,7 @@ class AnonymousTestControllerTest {
                     "Кандидат на должность менеджера"
             );
             when(anonymousTestService.completeSession(eq(sessionId), eq(validSessionToken), any(AnonymousTakerInfoRequest.class)))
-                    .thenReturn(testResultDto);
+                    .thenReturn(queuedJob);
 
             // When & Then
             mockMvc.perform(post(BASE_URL + "/sessions/{sessionId}/complete", sessionId)
@@ -981,7 +1027,7 @@ class AnonymousTestControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .characterEncoding("UTF-8")
                             .content(objectMapper.writeValueAsString(takerInfo)))
-                    .andExpect(status().isOk());
+                    .andExpect(status().isAccepted());
 
             verify(anonymousTestService).completeSession(eq(sessionId), eq(validSessionToken), any(AnonymousTakerInfoRequest.class));
         }
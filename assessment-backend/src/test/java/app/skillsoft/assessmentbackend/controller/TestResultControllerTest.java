@@ -2,7 +2,12 @@ package app.skillsoft.assessmentbackend.controller;
 
 import app.skillsoft.assessmentbackend.domain.dto.*;
 import app.skillsoft.assessmentbackend.services.TestResultService;
+import app.skillsoft.assessmentbackend.services.scoring.PercentileRerankJob;
+import app.skillsoft.assessmentbackend.services.scoring.PercentileRerankJob.RerankStatus;
 import app.skillsoft.assessmentbackend.services.scoring.QuestionScoreService;
+import app.skillsoft.assessmentbackend.services.scoring.ResultRescoreJob;
+import app.skillsoft.assessmentbackend.services.scoring.ResultRescoreJob.RescoreStatus;
+import app.skillsoft.assessmentbackend.services.scoring.ScoreChange;
 import app.skillsoft.assessmentbackend.services.TestResultService.UserTestStatistics;
 import app.skillsoft.assessmentbackend.services.TestResultService.TemplateTestStatistics;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,6 +32,7 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -38,6 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - User result queries
  * - Statistics endpoints
  * - Percentile calculation
+ * - Percentile re-rank job
+ * - Result re-scoring job
  */
 @WebMvcTest(TestResultController.class)
 @DisplayName("TestResult Controller Tests")
@@ -55,6 +63,12 @@ class TestResultControllerTest {
     @MockBean
     private QuestionScoreService questionScoreService;
 
+    @MockBean
+    private PercentileRerankJob percentileRerankJob;
+
+    @MockBean
+    private ResultRescoreJob resultRescoreJob;
+
     private UUID resultId;
     private UUID sessionId;
     private UUID templateId;
@@ -396,4 +410,128 @@ class TestResultControllerTest {
             verify(testResultService, never()).getTemplateStatistics(any());
         }
     }
+
+    @Nested
+    @DisplayName("/api/v1/tests/results/percentiles/rerank - Percentile Re-rank Tests")
+    class PercentileRerankTests {
+
+        private RerankStatus running() {
+            return new RerankStatus(RerankStatus.State.RUNNING, templateId, 0, 0, now, null, null);
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should start a re-rank and return 202")
+        void shouldStartRerank() throws Exception {
+            // Given
+            when(percentileRerankJob.start(templateId)).thenReturn(Optional.of(running()));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/tests/results/percentiles/rerank")
+                            .param("templateId", templateId.toString())
+                            .with(csrf()))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.state").value("RUNNING"))
+                    .andExpect(jsonPath("$.templateId").value(templateId.toString()));
+
+            verify(percentileRerankJob).start(templateId);
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return 409 with the running re-rank")
+        void shouldReturn409WhenRunning() throws Exception {
+            // Given
+            when(percentileRerankJob.start(null)).thenReturn(Optional.empty());
+            when(percentileRerankJob.status()).thenReturn(running());
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/tests/results/percentiles/rerank").with(csrf()))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.state").value("RUNNING"));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return re-rank status")
+        void shouldReturnStatus() throws Exception {
+            // Given
+            RerankStatus completed = new RerankStatus(RerankStatus.State.COMPLETED, null, 12, 340L,
+                    now.minusMinutes(1), now, null);
+            when(percentileRerankJob.status()).thenReturn(completed);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/tests/results/percentiles/rerank"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("COMPLETED"))
+                    .andExpect(jsonPath("$.templatesProcessed").value(12))
+                    .andExpect(jsonPath("$.resultsUpdated").value(340));
+        }
+    }
+
+    @Nested
+    @DisplayName("/api/v1/tests/results/rescore - Result Re-scoring Tests")
+    class ResultRescoreTests {
+
+        private RescoreStatus running(boolean dryRun) {
+            return new RescoreStatus(RescoreStatus.State.RUNNING, templateId, dryRun, 0, 0, 0, 0, 0.0, 0, 0.0,
+                    List.of(), now, null, null);
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should start a dry-run re-scoring and return 202")
+        void shouldStartDryRun() throws Exception {
+            // Given
+            when(resultRescoreJob.start(templateId, true)).thenReturn(Optional.of(running(true)));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/tests/results/rescore")
+                            .param("templateId", templateId.toString())
+                            .param("dryRun", "true")
+                            .with(csrf()))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.state").value("RUNNING"))
+                    .andExpect(jsonPath("$.dryRun").value(true));
+
+            verify(resultRescoreJob).start(templateId, true);
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return 409 with the running re-scoring")
+        void shouldReturn409WhenRunning() throws Exception {
+            // Given
+            when(resultRescoreJob.start(templateId, false)).thenReturn(Optional.empty());
+            when(resultRescoreJob.status()).thenReturn(running(false));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/tests/results/rescore")
+                            .param("templateId", templateId.toString())
+                            .with(csrf()))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.state").value("RUNNING"));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return re-scoring status with the largest changes")
+        void shouldReturnStatus() throws Exception {
+            // Given
+            ScoreChange change = new ScoreChange(resultId, sessionId, 68.0, 72.5, false, true);
+            RescoreStatus completed = new RescoreStatus(RescoreStatus.State.COMPLETED, templateId, true,
+                    1200, 85, 2, 9, 4.5, 0, 400.0, List.of(change), now.minusSeconds(3), now, null);
+            when(resultRescoreJob.status()).thenReturn(completed);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/tests/results/rescore"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.state").value("COMPLETED"))
+                    .andExpect(jsonPath("$.resultsProcessed").value(1200))
+                    .andExpect(jsonPath("$.resultsChanged").value(85))
+                    .andExpect(jsonPath("$.resultsPerSecond").value(400.0))
+                    .andExpect(jsonPath("$.largestChanges[0].resultId").value(resultId.toString()))
+                    .andExpect(jsonPath("$.largestChanges[0].percentage").value(72.5));
+        }
+    }
 }
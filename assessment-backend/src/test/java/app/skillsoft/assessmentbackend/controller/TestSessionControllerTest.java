@@ -3,6 +3,7 @@ package app.skillsoft.assessmentbackend.controller;
 import app.skillsoft.assessmentbackend.domain.dto.*;
 import app.skillsoft.assessmentbackend.domain.entities.DifficultyLevel;
 import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus;
 import app.skillsoft.assessmentbackend.domain.entities.SessionStatus;
 import app.skillsoft.assessmentbackend.exception.ResourceNotFoundException;
 import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
@@ -11,6 +12,7 @@ import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.repository.TestTemplateRepository;
 import app.skillsoft.assessmentbackend.services.TestSessionService;
 import app.skillsoft.assessmentbackend.services.TestSessionService.CurrentQuestionDto;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobNotifier;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -71,6 +73,9 @@ class TestSessionControllerTest {
     @MockBean
     private AssessmentQuestionRepository questionRepository;
 
+    @MockBean
+    private ScoringJobNotifier scoringJobNotifier;
+
     private UUID sessionId;
     private UUID templateId;
     private UUID questionId;
@@ -282,22 +287,41 @@ class TestSessionControllerTest {
 
         @Test
         @WithMockUser
-        @DisplayName("Should complete session and return result")
+        @DisplayName("Should complete session and return 202 with the scoring job")
         void shouldCompleteSession() throws Exception {
             // Given
-            when(testSessionService.completeSession(sessionId)).thenReturn(testResultDto);
+            UUID jobId = UUID.randomUUID();
+            when(testSessionService.completeSession(sessionId)).thenReturn(
+                    new ScoringJobDto(jobId, sessionId, ScoringJobStatus.QUEUED, 0, now, null, null, null));
 
             // When & Then
             mockMvc.perform(post("/api/v1/tests/sessions/{sessionId}/complete", sessionId)
                             .with(csrf()))
-                    .andExpect(status().isOk())
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.jobId").value(jobId.toString()))
                     .andExpect(jsonPath("$.sessionId").value(sessionId.toString()))
-                    .andExpect(jsonPath("$.overallPercentage").value(75.0))
-                    .andExpect(jsonPath("$.passed").value(true));
+                    .andExpect(jsonPath("$.status").value("QUEUED"));
 
             verify(testSessionService).completeSession(sessionId);
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("Should return scoring status with result once scored")
+        void shouldReturnScoringStatus() throws Exception {
+            // Given
+            when(testSessionService.getScoringStatus(sessionId)).thenReturn(
+                    new ScoringJobDto(UUID.randomUUID(), sessionId, ScoringJobStatus.COMPLETED, 1,
+                            now, now, null, testResultDto));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/tests/sessions/{sessionId}/scoring", sessionId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.result.overallPercentage").value(75.0))
+                    .andExpect(jsonPath("$.result.passed").value(true));
+        }
+
         @Test
         @WithMockUser
         @DisplayName("Should return 400 when session cannot be completed")
@@ -403,6 +427,29 @@ class TestSessionControllerTest {
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should submit a batch under the session from the path")
+        void shouldSubmitBatchUnderPathSession() throws Exception {
+            // Given - batch items carry no session ID
+            SubmitAnswersRequest request = new SubmitAnswersRequest(List.of(
+                    new SubmitAnswersRequest.Answer(questionId, List.of("option1"),
+                            null, null, null, 30, false)));
+            when(testSessionService.submitAnswers(eq(sessionId), anyList()))
+                    .thenReturn(List.of(AnswerSubmissionResult.accepted(questionId, testAnswerDto)));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/tests/sessions/{sessionId}/answers/batch", sessionId)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].questionId").value(questionId.toString()));
+
+            verify(testSessionService).submitAnswers(eq(sessionId), argThat(answers ->
+                    answers.size() == 1 && sessionId.equals(answers.get(0).sessionId())));
+        }
     }
 
     @Nested
@@ -439,7 +486,7 @@ class TestSessionControllerTest {
             CurrentQuestionDto currentQuestion = new CurrentQuestionDto(
                     assessmentQuestionDto, 0, 3, 3600, null, true, true
             );
-            when(testSessionService.getCurrentQuestion(sessionId)).thenReturn(currentQuestion);
+            when(testSessionService.getCurrentQuestion(sessionId, 0)).thenReturn(currentQuestion);
 
             // When & Then
             mockMvc.perform(get("/api/v1/tests/sessions/{sessionId}/current-question", sessionId))
@@ -448,7 +495,28 @@ class TestSessionControllerTest {
                     .andExpect(jsonPath("$.totalQuestions").value(3))
                     .andExpect(jsonPath("$.question.questionText").value("What is your leadership style?"));
 
-            verify(testSessionService).getCurrentQuestion(sessionId);
+            verify(testSessionService).getCurrentQuestion(sessionId, 0);
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should pass lookahead to the service and return lookahead questions")
+        void shouldReturnLookaheadQuestions() throws Exception {
+            // Given
+            CurrentQuestionDto currentQuestion = new CurrentQuestionDto(
+                    assessmentQuestionDto, 0, 3, 3600, null, true, true,
+                    List.of(new TestSessionService.LookaheadQuestionDto(assessmentQuestionDto, 1, null))
+            );
+            when(testSessionService.getCurrentQuestion(sessionId, 2)).thenReturn(currentQuestion);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/tests/sessions/{sessionId}/current-question", sessionId)
+                            .param("lookahead", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.lookahead.length()").value(1))
+                    .andExpect(jsonPath("$.lookahead[0].questionIndex").value(1));
+
+            verify(testSessionService).getCurrentQuestion(sessionId, 2);
         }
     }
 
@@ -0,0 +1,65 @@
+package app.skillsoft.assessmentbackend.events.listeners;
+
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
+import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
+import app.skillsoft.assessmentbackend.repository.ItemStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ItemStatisticsUpdateListener.
+ * Verifies that scored sessions are folded into the running item statistics.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ItemStatisticsUpdateListener Tests")
+class ItemStatisticsUpdateListenerTest {
+
+    @Mock
+    private ItemStatisticsRepository itemStatisticsRepository;
+
+    private ScoringCompletedEvent event(UUID sessionId) {
+        return new ScoringCompletedEvent(sessionId, UUID.randomUUID(), UUID.randomUUID(),
+                AssessmentGoal.OVERVIEW, 42.0, 42.0, true, Duration.ZERO, Instant.now());
+    }
+
+    @Test
+    @DisplayName("Should apply the scored session to the running statistics")
+    void shouldApplyScoredSession() {
+        UUID sessionId = UUID.randomUUID();
+        when(itemStatisticsRepository.applyScoredSession(sessionId)).thenReturn(12);
+
+        new ItemStatisticsUpdateListener(itemStatisticsRepository, true).onScoringCompleted(event(sessionId));
+
+        verify(itemStatisticsRepository).applyScoredSession(sessionId);
+    }
+
+    @Test
+    @DisplayName("Should skip updates when psychometrics are disabled")
+    void shouldSkipWhenDisabled() {
+        new ItemStatisticsUpdateListener(itemStatisticsRepository, false).onScoringCompleted(event(UUID.randomUUID()));
+
+        verifyNoInteractions(itemStatisticsRepository);
+    }
+
+    @Test
+    @DisplayName("Should not propagate update failures")
+    void shouldSwallowFailures() {
+        UUID sessionId = UUID.randomUUID();
+        when(itemStatisticsRepository.applyScoredSession(sessionId))
+                .thenThrow(new IllegalStateException("database down"));
+
+        ItemStatisticsUpdateListener listener = new ItemStatisticsUpdateListener(itemStatisticsRepository, true);
+
+        assertThatCode(() -> listener.onScoringCompleted(event(sessionId))).doesNotThrowAnyException();
+    }
+}
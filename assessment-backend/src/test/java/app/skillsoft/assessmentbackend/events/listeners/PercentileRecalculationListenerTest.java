@@ -6,6 +6,8 @@ import app.skillsoft.assessmentbackend.domain.entities.TestSession;
 import app.skillsoft.assessmentbackend.domain.entities.TestTemplate;
 import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
 import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.scoring.TemplateScoreIndex;
+import app.skillsoft.assessmentbackend.services.scoring.TemplateScoreIndex.ScoreRank;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -40,11 +42,14 @@ class PercentileRecalculationListenerTest {
     @Mock
     private TestResultRepository resultRepository;
 
+    @Mock
+    private TemplateScoreIndex scoreIndex;
+
     @InjectMocks
     private PercentileRecalculationListener listener;
 
     @Captor
-    private ArgumentCaptor<TestResult> resultCaptor;
+    private ArgumentCaptor<List<TestResult>> resultsCaptor;
 
     private UUID templateId;
     private UUID sessionId;
@@ -82,8 +87,8 @@ class PercentileRecalculationListenerTest {
         void shouldSkipWhenResultIdIsNull() {
             // Given
             ScoringCompletedEvent event = new ScoringCompletedEvent(
-                    sessionId, null, AssessmentGoal.OVERVIEW,
-                    75.0, true, Duration.ofMillis(100), java.time.Instant.now());
+                    sessionId, null, templateId, AssessmentGoal.OVERVIEW,
+                    75.0, 75.0, true, Duration.ofMillis(100), java.time.Instant.now());
 
             // When
             listener.onScoringCompleted(event);
@@ -142,19 +147,16 @@ class PercentileRecalculationListenerTest {
                     .thenReturn(Optional.of(result));
             when(resultRepository.findByTemplateIdAndCompletedAtAfter(eq(templateId), any()))
                     .thenReturn(List.of(result, anotherResult));
-            when(resultRepository.countResultsBelowScore(eq(templateId), eq(75.0)))
-                    .thenReturn(8L);
-            when(resultRepository.countResultsBelowScore(eq(templateId), eq(60.0)))
-                    .thenReturn(3L);
-            when(resultRepository.countResultsByTemplateId(templateId))
-                    .thenReturn(10L);
+            when(scoreIndex.rank(templateId, 75.0)).thenReturn(new ScoreRank(8, 10));
+            when(scoreIndex.rank(templateId, 60.0)).thenReturn(new ScoreRank(3, 10));
 
             // When
             listener.onScoringCompleted(event);
 
             // Then
-            verify(resultRepository, times(2)).save(resultCaptor.capture());
-            List<TestResult> savedResults = resultCaptor.getAllValues();
+            verify(resultRepository).saveAll(resultsCaptor.capture());
+            List<TestResult> savedResults = resultsCaptor.getValue();
+            assertThat(savedResults).hasSize(2);
 
             // 75.0 score: 8 below out of 10 = 80th percentile
             TestResult saved75 = savedResults.stream()
@@ -182,16 +184,13 @@ class PercentileRecalculationListenerTest {
                     .thenReturn(Optional.of(result));
             when(resultRepository.findByTemplateIdAndCompletedAtAfter(eq(templateId), any()))
                     .thenReturn(List.of(result));
-            when(resultRepository.countResultsBelowScore(eq(templateId), eq(75.0)))
-                    .thenReturn(8L);
-            when(resultRepository.countResultsByTemplateId(templateId))
-                    .thenReturn(10L);
+            when(scoreIndex.rank(templateId, 75.0)).thenReturn(new ScoreRank(8, 10));
 
             // When
             listener.onScoringCompleted(event);
 
             // Then
-            verify(resultRepository, never()).save(any());
+            verify(resultRepository, never()).saveAll(any());
         }
 
         @Test
@@ -210,8 +209,8 @@ class PercentileRecalculationListenerTest {
 
             // Then
             verify(resultRepository).findByTemplateIdAndCompletedAtAfter(eq(templateId), any());
-            verify(resultRepository, never()).countResultsBelowScore(any(), any());
-            verify(resultRepository, never()).save(any());
+            verifyNoInteractions(scoreIndex);
+            verify(resultRepository, never()).saveAll(any());
         }
     }
 
@@ -233,8 +232,7 @@ class PercentileRecalculationListenerTest {
         @DisplayName("should return 50 for first result")
         void shouldReturn50ForFirstResult() {
             // Given
-            when(resultRepository.countResultsBelowScore(templateId, 75.0)).thenReturn(0L);
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(1L);
+            when(scoreIndex.rank(templateId, 75.0)).thenReturn(new ScoreRank(0, 1));
 
             // When
             int percentile = listener.calculateAccuratePercentile(templateId, 75.0);
@@ -247,8 +245,7 @@ class PercentileRecalculationListenerTest {
         @DisplayName("should calculate correct percentile for median score")
         void shouldCalculateCorrectPercentileForMedian() {
             // Given - 5 out of 10 scores below
-            when(resultRepository.countResultsBelowScore(templateId, 50.0)).thenReturn(5L);
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(10L);
+            when(scoreIndex.rank(templateId, 50.0)).thenReturn(new ScoreRank(5, 10));
 
             // When
             int percentile = listener.calculateAccuratePercentile(templateId, 50.0);
@@ -261,8 +258,7 @@ class PercentileRecalculationListenerTest {
         @DisplayName("should calculate correct percentile for top score")
         void shouldCalculateCorrectPercentileForTopScore() {
             // Given - 99 out of 100 scores below
-            when(resultRepository.countResultsBelowScore(templateId, 100.0)).thenReturn(99L);
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(100L);
+            when(scoreIndex.rank(templateId, 100.0)).thenReturn(new ScoreRank(99, 100));
 
             // When
             int percentile = listener.calculateAccuratePercentile(templateId, 100.0);
@@ -275,8 +271,7 @@ class PercentileRecalculationListenerTest {
         @DisplayName("should calculate correct percentile for lowest score")
         void shouldCalculateCorrectPercentileForLowestScore() {
             // Given - 0 out of 100 scores below
-            when(resultRepository.countResultsBelowScore(templateId, 10.0)).thenReturn(0L);
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(100L);
+            when(scoreIndex.rank(templateId, 10.0)).thenReturn(new ScoreRank(0, 100));
 
             // When
             int percentile = listener.calculateAccuratePercentile(templateId, 10.0);
@@ -289,8 +284,7 @@ class PercentileRecalculationListenerTest {
         @DisplayName("should clamp percentile between 0 and 100")
         void shouldClampPercentile() {
             // This is mainly for edge cases with rounding
-            when(resultRepository.countResultsBelowScore(templateId, 100.0)).thenReturn(100L);
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(100L);
+            when(scoreIndex.rank(templateId, 100.0)).thenReturn(new ScoreRank(100, 100));
 
             // When
             int percentile = listener.calculateAccuratePercentile(templateId, 100.0);
@@ -325,7 +319,7 @@ class PercentileRecalculationListenerTest {
 
     private ScoringCompletedEvent createEvent(UUID resultId) {
         return new ScoringCompletedEvent(
-                sessionId, resultId, AssessmentGoal.OVERVIEW,
-                75.0, true, Duration.ofMillis(100), java.time.Instant.now());
+                sessionId, resultId, templateId, AssessmentGoal.OVERVIEW,
+                75.0, 75.0, true, Duration.ofMillis(100), java.time.Instant.now());
     }
 }
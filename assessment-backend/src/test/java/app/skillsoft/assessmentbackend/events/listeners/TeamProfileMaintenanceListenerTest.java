@@ -0,0 +1,157 @@
+package app.skillsoft.assessmentbackend.events.listeners;
+
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
+import app.skillsoft.assessmentbackend.domain.entities.Team;
+import app.skillsoft.assessmentbackend.domain.entities.TeamMember;
+import app.skillsoft.assessmentbackend.domain.entities.TestResult;
+import app.skillsoft.assessmentbackend.domain.entities.User;
+import app.skillsoft.assessmentbackend.events.scoring.ResultsRescoredEvent;
+import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
+import app.skillsoft.assessmentbackend.events.team.TeamMembershipChangedEvent;
+import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.external.impl.TeamServiceImpl;
+import app.skillsoft.assessmentbackend.services.team.TeamProfileMaterializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TeamProfileMaintenanceListener.
+ * Verifies that scored results, bulk re-scoring and membership changes keep the
+ * materialized team profiles current.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamProfileMaintenanceListener Tests")
+class TeamProfileMaintenanceListenerTest {
+
+    @Mock
+    private TestResultRepository resultRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private TeamProfileMaterializer materializer;
+
+    @Mock
+    private TeamServiceImpl teamService;
+
+    private TeamProfileMaintenanceListener listener;
+    private UUID teamId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        listener = new TeamProfileMaintenanceListener(resultRepository, teamMemberRepository, materializer, teamService);
+        teamId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    private ScoringCompletedEvent event(UUID resultId) {
+        return new ScoringCompletedEvent(UUID.randomUUID(), resultId, UUID.randomUUID(),
+                AssessmentGoal.OVERVIEW, 42.0, 42.0, true, Duration.ZERO, Instant.now());
+    }
+
+    private TeamMember membership(UUID teamId, UUID userId) {
+        Team team = new Team();
+        team.setId(teamId);
+        User user = new User();
+        user.setId(userId);
+        return new TeamMember(team, user);
+    }
+
+    @Test
+    @DisplayName("Should patch the member in every active team of the scored user")
+    void shouldPatchTeamsOfScoredUser() {
+        // Given
+        UUID resultId = UUID.randomUUID();
+        UUID otherTeamId = UUID.randomUUID();
+        TestResult result = new TestResult();
+        result.setClerkUserId("clerk_member_1");
+        when(resultRepository.findById(resultId)).thenReturn(Optional.of(result));
+        when(teamMemberRepository.findByUserClerkIdAndIsActiveTrue("clerk_member_1"))
+                .thenReturn(List.of(membership(teamId, userId), membership(otherTeamId, userId)));
+
+        // When
+        listener.onScoringCompleted(event(resultId));
+
+        // Then
+        verify(materializer).refreshMember(teamId, userId);
+        verify(materializer).refreshMember(otherTeamId, userId);
+        verify(teamService).invalidateTeamCache(teamId);
+        verify(teamService).invalidateTeamCache(otherTeamId);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the teams with results of a re-scored template")
+    void shouldRebuildTeamsAfterRescore() {
+        // Given
+        UUID templateId = UUID.randomUUID();
+        UUID otherTeamId = UUID.randomUUID();
+        when(teamMemberRepository.findTeamIdsWithCompletedResultsForTemplate(templateId))
+                .thenReturn(List.of(teamId, otherTeamId));
+
+        // When
+        listener.onResultsRescored(ResultsRescoredEvent.now(templateId, 120));
+
+        // Then
+        verify(materializer).rebuild(teamId);
+        verify(materializer).rebuild(otherTeamId);
+        verify(materializer, never()).refreshMember(any(), any());
+        verify(teamService).invalidateTeamCache(teamId);
+        verify(teamService).invalidateTeamCache(otherTeamId);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the profile on a team-wide change")
+    void shouldRebuildOnTeamChange() {
+        listener.onMembershipChanged(TeamMembershipChangedEvent.teamChanged(teamId, "team activated"));
+
+        verify(materializer).rebuild(teamId);
+        verify(materializer, never()).refreshMember(any(), any());
+        verify(teamService).invalidateTeamCache(teamId);
+    }
+
+    @Test
+    @DisplayName("Should rebuild after losing a race with another update of the team")
+    void shouldRebuildAfterConcurrentUpdate() {
+        // Given
+        when(materializer.refreshMember(teamId, userId))
+                .thenThrow(new OptimisticLockingFailureException("stale snapshot"));
+
+        // When
+        listener.onMembershipChanged(TeamMembershipChangedEvent.memberRemoved(teamId, userId));
+
+        // Then
+        verify(materializer).rebuild(teamId);
+        verify(materializer, never()).discard(any());
+        verify(teamService).invalidateTeamCache(teamId);
+    }
+
+    @Test
+    @DisplayName("Should drop the snapshot when the update fails")
+    void shouldDiscardSnapshotOnFailure() {
+        // Given
+        when(materializer.refreshMember(teamId, userId)).thenThrow(new IllegalStateException("database down"));
+
+        // When / Then
+        assertThatCode(() -> listener.onMembershipChanged(TeamMembershipChangedEvent.memberAdded(teamId, userId)))
+                .doesNotThrowAnyException();
+        verify(materializer).discard(teamId);
+        verify(teamService).invalidateTeamCache(teamId);
+    }
+}
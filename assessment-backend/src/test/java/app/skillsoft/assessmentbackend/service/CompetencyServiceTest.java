@@ -4,6 +4,7 @@ import app.skillsoft.assessmentbackend.domain.dto.StandardCodesDto;
 import app.skillsoft.assessmentbackend.domain.entities.ApprovalStatus;
 import app.skillsoft.assessmentbackend.domain.entities.Competency;
 import app.skillsoft.assessmentbackend.domain.entities.CompetencyCategory;
+import app.skillsoft.assessmentbackend.events.competency.CompetencyChangedEvent;
 import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.services.impl.CompetencyServiceImpl;
 import org.mockito.ArgumentCaptor;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -40,6 +42,9 @@ class CompetencyServiceTest {
     @Mock
     private CompetencyRepository competencyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CompetencyServiceImpl competencyService;
 
@@ -277,6 +282,7 @@ class CompetencyServiceTest {
 
             verify(competencyRepository).findById(competencyId);
             verify(competencyRepository).saveAndFlush(any(Competency.class));
+            verify(eventPublisher).publishEvent(any(CompetencyChangedEvent.class));
         }
 
         @Test
@@ -321,6 +327,7 @@ class CompetencyServiceTest {
             assertThat(result).isTrue();
             verify(competencyRepository).existsById(competencyId);
             verify(competencyRepository).deleteById(competencyId);
+            verify(eventPublisher).publishEvent(CompetencyChangedEvent.deleted(competencyId));
         }
 
         @Test
@@ -337,6 +344,7 @@ class CompetencyServiceTest {
             assertThat(result).isFalse();
             verify(competencyRepository).existsById(nonExistentId);
             verify(competencyRepository, never()).deleteById(any());
+            verifyNoInteractions(eventPublisher);
         }
     }
 
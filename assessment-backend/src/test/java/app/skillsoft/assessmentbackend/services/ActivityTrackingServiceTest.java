@@ -830,6 +830,32 @@ class ActivityTrackingServiceTest {
             assertThat(savedEvent.getMetadataValue("templateName"))
                     .isEqualTo("Leadership Assessment / Оценка лидерства");
         }
+
+        @Test
+        @DisplayName("Should record a batch in one write, skipping sessions already recorded")
+        void shouldRecordBatchSkippingExisting() {
+            // Given
+            TestSession recordedSession = createMockSession(UUID.randomUUID(), "user_2",
+                    SessionStatus.TIMED_OUT, LocalDateTime.now().minusHours(1), LocalDateTime.now());
+            when(eventRepository.findSessionIdsWithEventType(
+                    List.of(sessionId, recordedSession.getId()), ActivityEventType.SESSION_TIMED_OUT))
+                    .thenReturn(List.of(recordedSession.getId()));
+
+            // When
+            activityTrackingService.recordSessionsTimedOut(List.of(mockSession, recordedSession));
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<TestActivityEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(eventRepository).saveAll(eventsCaptor.capture());
+            assertThat(eventsCaptor.getValue())
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getSessionId()).isEqualTo(sessionId);
+                        assertThat(event.getEventType()).isEqualTo(ActivityEventType.SESSION_TIMED_OUT);
+                    });
+            verify(eventRepository, never()).existsBySessionIdAndEventType(any(), any());
+        }
     }
 
     // ============================================
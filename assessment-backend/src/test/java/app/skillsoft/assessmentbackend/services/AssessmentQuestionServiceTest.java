@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -41,6 +42,9 @@ class AssessmentQuestionServiceTest {
     @Mock
     private BehavioralIndicatorRepository behavioralIndicatorRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AssessmentQuestionServiceImpl assessmentQuestionService;
 
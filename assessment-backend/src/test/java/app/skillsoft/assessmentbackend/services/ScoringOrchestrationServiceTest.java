@@ -9,7 +9,13 @@ import app.skillsoft.assessmentbackend.repository.TestResultRepository;
 import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
 import app.skillsoft.assessmentbackend.services.impl.ScoringOrchestrationServiceImpl;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringResult;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
+import app.skillsoft.assessmentbackend.services.scoring.ScoreChange;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringStrategy;
+import app.skillsoft.assessmentbackend.services.scoring.SessionScoreAggregator;
+import app.skillsoft.assessmentbackend.services.scoring.TemplateScoreIndex;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestion;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestionCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -32,9 +39,9 @@ import static org.mockito.Mockito.*;
  *
  * Tests verify:
  * - Successful scoring calculation with different strategies
- * - Fallback behavior when scoring fails
  * - PENDING result creation on failure
  * - Event publishing for observability
+ * - Bulk re-scoring of stored results, re-grading option answers against the current key
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ScoringOrchestrationService Tests")
@@ -55,6 +62,12 @@ class ScoringOrchestrationServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private SessionScoreAggregator scoreAggregator;
+
+    @Mock
+    private CompiledQuestionCache compiledQuestionCache;
+
     private ScoringOrchestrationServiceImpl scoringOrchestrationService;
 
     private UUID sessionId;
@@ -72,7 +85,10 @@ class ScoringOrchestrationServiceTest {
                 answerRepository,
                 resultRepository,
                 strategies,
-                eventPublisher
+                eventPublisher,
+                scoreAggregator,
+                new TemplateScoreIndex(resultRepository),
+                compiledQuestionCache
         );
 
         sessionId = UUID.randomUUID();
@@ -122,9 +138,9 @@ class ScoringOrchestrationServiceTest {
                 return result;
             });
 
-            // Mock percentile calculation
-            when(resultRepository.countResultsBelowScore(eq(templateId), anyDouble())).thenReturn(5L);
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(10L);
+            // Mock score distribution: 5 of 10 earlier results below 85%
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId))
+                    .thenReturn(List.of(40.0, 50.0, 60.0, 70.0, 80.0, 85.0, 90.0, 92.0, 95.0, 99.0));
 
             // When
             TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
@@ -135,6 +151,7 @@ class ScoringOrchestrationServiceTest {
             assertThat(result.overallPercentage()).isEqualTo(85.0);
             assertThat(result.status()).isEqualTo(ResultStatus.COMPLETED);
             assertThat(result.passed()).isTrue();
+            assertThat(result.percentile()).isEqualTo(50);
 
             // Verify scoring strategy was used
             verify(overviewStrategy).calculate(eq(mockSession), any());
@@ -163,6 +180,54 @@ class ScoringOrchestrationServiceTest {
                     .hasMessageContaining("Session");
         }
 
+        @Test
+        @DisplayName("Should return existing COMPLETED result without rescoring")
+        void shouldReturnExistingCompletedResult() {
+            // Given - a retried job whose earlier attempt already committed
+            TestResult existing = new TestResult(mockSession, clerkUserId);
+            existing.setId(UUID.randomUUID());
+            existing.setStatus(ResultStatus.COMPLETED);
+            existing.setOverallPercentage(72.0);
+            when(sessionRepository.findByIdWithTemplate(sessionId)).thenReturn(Optional.of(mockSession));
+            when(resultRepository.findBySession_Id(sessionId)).thenReturn(Optional.of(existing));
+
+            // When
+            TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
+
+            // Then
+            assertThat(result.id()).isEqualTo(existing.getId());
+            assertThat(result.overallPercentage()).isEqualTo(72.0);
+            verify(resultRepository, never()).save(any());
+            verifyNoInteractions(answerRepository, overviewStrategy);
+        }
+
+        @Test
+        @DisplayName("Should complete the PENDING result of an earlier attempt")
+        void shouldReusePendingResult() {
+            // Given
+            TestResult pending = new TestResult(mockSession, clerkUserId);
+            pending.setId(UUID.randomUUID());
+            pending.setStatus(ResultStatus.PENDING);
+            when(sessionRepository.findByIdWithTemplate(sessionId)).thenReturn(Optional.of(mockSession));
+            when(resultRepository.findBySession_Id(sessionId)).thenReturn(Optional.of(pending));
+            when(answerRepository.findBySession_Id(sessionId)).thenReturn(createMockAnswers(3));
+            when(overviewStrategy.getSupportedGoal()).thenReturn(AssessmentGoal.OVERVIEW);
+            ScoringResult scoringResult = new ScoringResult();
+            scoringResult.setOverallScore(85.0);
+            scoringResult.setOverallPercentage(85.0);
+            scoringResult.setCompetencyScores(List.of());
+            when(overviewStrategy.calculate(any(), any())).thenReturn(scoringResult);
+            when(resultRepository.save(any(TestResult.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
+
+            // Then - same row, now COMPLETED
+            assertThat(result.id()).isEqualTo(pending.getId());
+            assertThat(result.status()).isEqualTo(ResultStatus.COMPLETED);
+            verify(resultRepository).save(pending);
+        }
+
         @Test
         @DisplayName("Should use legacy scoring when no strategy matches")
         void shouldUseLegacyScoringWhenNoStrategyMatches() {
@@ -182,7 +247,6 @@ class ScoringOrchestrationServiceTest {
                 return result;
             });
 
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(0L);
 
             // When
             TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
@@ -217,7 +281,6 @@ class ScoringOrchestrationServiceTest {
                 result.setId(UUID.randomUUID());
                 return result;
             });
-            when(resultRepository.countResultsByTemplateId(templateId)).thenReturn(0L);
 
             // When
             TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
@@ -228,12 +291,242 @@ class ScoringOrchestrationServiceTest {
     }
 
     @Nested
-    @DisplayName("Fallback Method Tests")
-    class FallbackMethodTests {
+    @DisplayName("Incremental Scoring Tests")
+    class IncrementalScoringTests {
+
+        private List<IndicatorTally> tallies;
+
+        @BeforeEach
+        void setUpTrackedSession() {
+            ReflectionTestUtils.setField(scoringOrchestrationService, "incrementalScoringEnabled", true);
+            mockSession.setScoreAggregatesTracked(true);
+            tallies = List.of(new IndicatorTally(UUID.randomUUID(), 2.5, 3));
+
+            when(sessionRepository.findByIdWithTemplate(sessionId)).thenReturn(Optional.of(mockSession));
+            when(overviewStrategy.getSupportedGoal()).thenReturn(AssessmentGoal.OVERVIEW);
+            when(answerRepository.findAnswerStatisticsBySessionId(sessionId))
+                    .thenReturn(List.<Object[]>of(new Object[]{4L, 3L, 1L, 120L}));
+            when(scoreAggregator.load(sessionId)).thenReturn(tallies);
+            when(resultRepository.save(any(TestResult.class))).thenAnswer(invocation -> {
+                TestResult result = invocation.getArgument(0);
+                result.setId(UUID.randomUUID());
+                return result;
+            });
+        }
+
+        @Test
+        @DisplayName("Should score tracked session from indicator tallies without reloading answers")
+        void shouldScoreFromTalliesWithoutReloadingAnswers() {
+            // Given
+            when(overviewStrategy.calculateFromTallies(mockSession, tallies)).thenReturn(scoringResult(83.3));
+
+            // When
+            TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
+
+            // Then
+            assertThat(result.overallPercentage()).isEqualTo(83.3);
+            assertThat(result.questionsAnswered()).isEqualTo(3);
+            assertThat(result.questionsSkipped()).isEqualTo(1);
+            assertThat(result.totalTimeSeconds()).isEqualTo(120);
+            verify(answerRepository, never()).findBySession_Id(any());
+            verify(overviewStrategy, never()).calculate(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should use recomputed result when verification finds a divergence")
+        void shouldUseRecomputedResultOnDivergence() {
+            // Given
+            ReflectionTestUtils.setField(scoringOrchestrationService, "verifyIncrementalScoring", true);
+            when(overviewStrategy.calculateFromTallies(mockSession, tallies)).thenReturn(scoringResult(83.3));
+            when(answerRepository.findBySession_Id(sessionId)).thenReturn(createMockAnswers(4));
+            when(overviewStrategy.calculate(eq(mockSession), any())).thenReturn(scoringResult(75.0));
+
+            // When
+            TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
+
+            // Then
+            assertThat(result.overallPercentage()).isEqualTo(75.0);
+        }
+
+        @Test
+        @DisplayName("Should keep incremental result when verification agrees")
+        void shouldKeepIncrementalResultWhenVerified() {
+            // Given
+            ReflectionTestUtils.setField(scoringOrchestrationService, "verifyIncrementalScoring", true);
+            ScoringResult incremental = scoringResult(83.3);
+            when(overviewStrategy.calculateFromTallies(mockSession, tallies)).thenReturn(incremental);
+            when(answerRepository.findBySession_Id(sessionId)).thenReturn(createMockAnswers(4));
+            when(overviewStrategy.calculate(eq(mockSession), any())).thenReturn(scoringResult(83.3));
+
+            // When
+            TestResultDto result = scoringOrchestrationService.calculateAndSaveResult(sessionId);
+
+            // Then
+            assertThat(result.overallPercentage()).isEqualTo(83.3);
+            verify(overviewStrategy).calculate(eq(mockSession), any());
+        }
+
+        private ScoringResult scoringResult(double percentage) {
+            ScoringResult scoringResult = new ScoringResult();
+            scoringResult.setOverallScore(percentage);
+            scoringResult.setOverallPercentage(percentage);
+            scoringResult.setGoal(AssessmentGoal.OVERVIEW);
+            scoringResult.setCompetencyScores(List.of());
+            return scoringResult;
+        }
+    }
+
+    @Nested
+    @DisplayName("Rescore Results Tests")
+    class RescoreResultsTests {
+
+        private TestResult storedResult;
+        private List<TestAnswer> answers;
+
+        @BeforeEach
+        void setUpStoredResult() {
+            storedResult = new TestResult(mockSession, clerkUserId);
+            storedResult.setId(UUID.randomUUID());
+            storedResult.setOverallScore(65.0);
+            storedResult.setOverallPercentage(65.0);
+            storedResult.setPercentile(40);
+            storedResult.calculatePassed(70.0);
+
+            List<UUID> resultIds = List.of(storedResult.getId());
+            when(resultRepository.findAllByIdWithSessionAndTemplate(resultIds)).thenReturn(List.of(storedResult));
+            answers = createMockAnswers(3);
+            when(answerRepository.findBySession_IdIn(List.of(sessionId))).thenReturn(answers);
+            when(overviewStrategy.getSupportedGoal()).thenReturn(AssessmentGoal.OVERVIEW);
+        }
+
+        /**
+         * First answer selected option-1 of an MCQ graded 0.0 under the old key; the
+         * current key makes option-1 the correct one.
+         */
+        private TestAnswer givenAnswerUnderFixedKey() {
+            AssessmentQuestion question = new AssessmentQuestion();
+            question.setId(UUID.randomUUID());
+            question.setQuestionType(QuestionType.MCQ);
+            question.setAnswerOptions(List.of(
+                    new HashMap<>(Map.of("text", "Wrong", "score", 0)),
+                    new HashMap<>(Map.of("text", "Right", "score", 1))));
+            when(compiledQuestionCache.get(question.getId())).thenReturn(CompiledQuestion.compile(question, 0));
+
+            TestAnswer answer = answers.get(0);
+            answer.setQuestion(question);
+            answer.setSelectedOptionIds(List.of("option-1"));
+            answer.setScore(0.0);
+            return answer;
+        }
+
+        private ScoringResult scoringResult(double percentage) {
+            ScoringResult scoringResult = new ScoringResult();
+            scoringResult.setOverallScore(percentage);
+            scoringResult.setOverallPercentage(percentage);
+            scoringResult.setGoal(AssessmentGoal.OVERVIEW);
+            scoringResult.setCompetencyScores(List.of());
+            return scoringResult;
+        }
+
+        @Test
+        @DisplayName("Should re-score results from one batch of answers and keep the percentile")
+        void shouldRescoreResults() {
+            // Given
+            when(overviewStrategy.calculate(eq(mockSession), argThat(answers -> answers.size() == 3)))
+                    .thenReturn(scoringResult(75.0));
+
+            // When
+            List<ScoreChange> changes = scoringOrchestrationService.rescoreResults(
+                    List.of(storedResult.getId()), false);
+
+            // Then
+            assertThat(changes).singleElement().satisfies(change -> {
+                assertThat(change.previousPercentage()).isEqualTo(65.0);
+                assertThat(change.percentage()).isEqualTo(75.0);
+                assertThat(change.isPassFlipped()).isTrue();
+                assertThat(change.isChanged()).isTrue();
+            });
+            assertThat(storedResult.getOverallPercentage()).isEqualTo(75.0);
+            assertThat(storedResult.getPassed()).isTrue();
+            assertThat(storedResult.getPercentile()).isEqualTo(40);
+            verify(answerRepository, never()).findBySession_Id(any());
+            verify(resultRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should report changes of a dry run without touching the result")
+        void shouldNotWriteOnDryRun() {
+            // Given
+            when(overviewStrategy.calculate(eq(mockSession), any())).thenReturn(scoringResult(75.0));
+
+            // When
+            List<ScoreChange> changes = scoringOrchestrationService.rescoreResults(
+                    List.of(storedResult.getId()), true);
+
+            // Then
+            assertThat(changes).singleElement().satisfies(change -> assertThat(change.passed()).isTrue());
+            assertThat(storedResult.getOverallPercentage()).isEqualTo(65.0);
+            assertThat(storedResult.getPassed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should re-grade option answers against the current answer key")
+        void shouldRegradeOptionAnswers() {
+            // Given
+            TestAnswer answer = givenAnswerUnderFixedKey();
+            when(overviewStrategy.calculate(eq(mockSession), argThat(scored -> scored.get(0).getScore() == 1.0)))
+                    .thenReturn(scoringResult(75.0));
+
+            // When
+            List<ScoreChange> changes = scoringOrchestrationService.rescoreResults(
+                    List.of(storedResult.getId()), false);
+
+            // Then - the new answer score is kept for the flush at commit
+            assertThat(changes).singleElement().satisfies(change -> assertThat(change.percentage()).isEqualTo(75.0));
+            assertThat(answer.getScore()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should put re-graded answer scores back on a dry run")
+        void shouldRestoreRegradedScoresOnDryRun() {
+            // Given
+            TestAnswer answer = givenAnswerUnderFixedKey();
+            when(overviewStrategy.calculate(eq(mockSession), argThat(scored -> scored.get(0).getScore() == 1.0)))
+                    .thenReturn(scoringResult(75.0));
+
+            // When
+            List<ScoreChange> changes = scoringOrchestrationService.rescoreResults(
+                    List.of(storedResult.getId()), true);
+
+            // Then
+            assertThat(changes).singleElement().satisfies(change -> assertThat(change.percentage()).isEqualTo(75.0));
+            assertThat(answer.getScore()).isEqualTo(0.0);
+        }
+
+        @Test
+        @DisplayName("Should omit a result whose scoring fails")
+        void shouldOmitFailedResult() {
+            // Given
+            when(overviewStrategy.calculate(eq(mockSession), any())).thenThrow(new IllegalStateException("boom"));
+
+            // When
+            List<ScoreChange> changes = scoringOrchestrationService.rescoreResults(
+                    List.of(storedResult.getId()), false);
+
+            // Then
+            assertThat(changes).isEmpty();
+            assertThat(storedResult.getOverallPercentage()).isEqualTo(65.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Record Scoring Failure Tests")
+    class RecordScoringFailureTests {
 
         @Test
-        @DisplayName("Should create PENDING result on fallback")
-        void shouldCreatePendingResultOnFallback() {
+        @DisplayName("Should create PENDING result for a failed attempt")
+        void shouldCreatePendingResultOnFailure() {
             // Given
             when(sessionRepository.findByIdWithTemplate(sessionId)).thenReturn(Optional.of(mockSession));
             when(answerRepository.findBySession_Id(sessionId)).thenReturn(createMockAnswers(3));
@@ -247,7 +540,7 @@ class ScoringOrchestrationServiceTest {
             Exception testException = new RuntimeException("Test scoring failure");
 
             // When
-            TestResultDto result = scoringOrchestrationService.scoringFallback(sessionId, testException);
+            TestResultDto result = scoringOrchestrationService.recordScoringFailure(sessionId, testException);
 
             // Then
             assertThat(result).isNotNull();
@@ -268,8 +561,8 @@ class ScoringOrchestrationServiceTest {
         }
 
         @Test
-        @DisplayName("Fallback should capture answer statistics even when scoring fails")
-        void fallbackShouldCaptureAnswerStatistics() {
+        @DisplayName("Should capture answer statistics even when scoring fails")
+        void shouldCaptureAnswerStatisticsOnFailure() {
             // Given
             List<TestAnswer> answers = createMockAnswersWithStats(5, 2, 150);
             when(sessionRepository.findByIdWithTemplate(sessionId)).thenReturn(Optional.of(mockSession));
@@ -284,7 +577,7 @@ class ScoringOrchestrationServiceTest {
             Exception testException = new RuntimeException("Database timeout");
 
             // When
-            TestResultDto result = scoringOrchestrationService.scoringFallback(sessionId, testException);
+            TestResultDto result = scoringOrchestrationService.recordScoringFailure(sessionId, testException);
 
             // Then
             assertThat(result.questionsAnswered()).isEqualTo(5);
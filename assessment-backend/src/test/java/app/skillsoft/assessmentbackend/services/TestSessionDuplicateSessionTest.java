@@ -21,6 +21,12 @@ import app.skillsoft.assessmentbackend.services.assembly.TestAssemblerFactory;
 import app.skillsoft.assessmentbackend.services.impl.TestSessionServiceImpl;
 import app.skillsoft.assessmentbackend.services.psychometrics.PsychometricAuditJob;
 import app.skillsoft.assessmentbackend.services.validation.InventoryHeatmapService;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobQueue;
+import app.skillsoft.assessmentbackend.services.scoring.SessionScoreAggregator;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestionCache;
+import app.skillsoft.assessmentbackend.services.session.SessionDeadlineQueue;
+import app.skillsoft.assessmentbackend.services.session.SessionHotStateCache;
+import app.skillsoft.assessmentbackend.services.validation.PsychometricBlueprintValidator;
 import app.skillsoft.assessmentbackend.services.ActivityTrackingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -80,7 +86,7 @@ class TestSessionDuplicateSessionTest {
     private AssemblyProgressTracker assemblyProgressTracker;
 
     @Mock
-    private ScoringOrchestrationService scoringOrchestrationService;
+    private ScoringJobQueue scoringJobQueue;
 
     @Mock
     private ActivityTrackingService activityTrackingService;
@@ -88,6 +94,18 @@ class TestSessionDuplicateSessionTest {
     @Mock
     private BlueprintConversionService blueprintConversionService;
 
+    @Mock
+    private PsychometricBlueprintValidator psychometricValidator;
+
+    @Mock
+    private SessionHotStateCache hotStateCache;
+
+    @Mock
+    private CompiledQuestionCache compiledQuestionCache;
+
+    @Mock
+    private SessionScoreAggregator scoreAggregator;
+
     private TestSessionService testSessionService;
 
     private UUID templateId;
@@ -111,9 +129,14 @@ class TestSessionDuplicateSessionTest {
                 assemblerFactory,
                 eventPublisher,
                 assemblyProgressTracker,
-                scoringOrchestrationService,
+                scoringJobQueue,
                 activityTrackingService,
-                blueprintConversionService
+                blueprintConversionService,
+                psychometricValidator,
+                hotStateCache,
+                compiledQuestionCache,
+                new SessionDeadlineQueue(),
+                scoreAggregator
         );
 
         // Initialize test data
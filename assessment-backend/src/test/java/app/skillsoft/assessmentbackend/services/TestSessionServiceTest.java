@@ -8,16 +8,24 @@ import app.skillsoft.assessmentbackend.domain.dto.simulation.HealthStatus;
 import app.skillsoft.assessmentbackend.domain.dto.simulation.InventoryHeatmapDto;
 import app.skillsoft.assessmentbackend.domain.dto.simulation.InventoryHeatmapDto.HeatmapSummary;
 import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.exception.ResourceNotFoundException;
 import app.skillsoft.assessmentbackend.exception.TestNotReadyException;
 import app.skillsoft.assessmentbackend.repository.*;
-import app.skillsoft.assessmentbackend.services.ScoringOrchestrationService;
 import app.skillsoft.assessmentbackend.services.ActivityTrackingService;
+import app.skillsoft.assessmentbackend.services.TestSessionService.StaleSessionChunk;
 import app.skillsoft.assessmentbackend.services.assembly.AssemblyProgressTracker;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssembler;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssemblerFactory;
 import app.skillsoft.assessmentbackend.services.impl.TestSessionServiceImpl;
 import app.skillsoft.assessmentbackend.services.psychometrics.PsychometricAuditJob;
+import app.skillsoft.assessmentbackend.services.scoring.ScoreNormalizer;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobQueue;
+import app.skillsoft.assessmentbackend.services.scoring.SessionScoreAggregator;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestionCache;
+import app.skillsoft.assessmentbackend.services.session.SessionDeadlineQueue;
+import app.skillsoft.assessmentbackend.services.session.SessionHotStateCache;
 import app.skillsoft.assessmentbackend.services.validation.InventoryHeatmapService;
+import app.skillsoft.assessmentbackend.services.validation.PsychometricBlueprintValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -90,7 +98,7 @@ class TestSessionServiceTest {
     private AssemblyProgressTracker assemblyProgressTracker;
 
     @Mock
-    private ScoringOrchestrationService scoringOrchestrationService;
+    private ScoringJobQueue scoringJobQueue;
 
     @Mock
     private ActivityTrackingService activityTrackingService;
@@ -98,6 +106,16 @@ class TestSessionServiceTest {
     @Mock
     private BlueprintConversionService blueprintConversionService;
 
+    @Mock
+    private PsychometricBlueprintValidator psychometricValidator;
+
+    @Mock
+    private SessionScoreAggregateRepository scoreAggregateRepository;
+
+    private SessionHotStateCache hotStateCache;
+
+    private SessionDeadlineQueue deadlineQueue;
+
     private TestSessionServiceImpl testSessionService;
 
     private UUID sessionId;
@@ -109,6 +127,10 @@ class TestSessionServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Real hot-state cache over the mocked repositories
+        hotStateCache = new SessionHotStateCache(sessionRepository, answerRepository, 100, 60);
+        deadlineQueue = new SessionDeadlineQueue();
+
         // Initialize service with all mocks
         testSessionService = new TestSessionServiceImpl(
                 sessionRepository,
@@ -122,9 +144,14 @@ class TestSessionServiceTest {
                 assemblerFactory,
                 eventPublisher,
                 assemblyProgressTracker,
-                scoringOrchestrationService,
+                scoringJobQueue,
                 activityTrackingService,
-                blueprintConversionService
+                blueprintConversionService,
+                psychometricValidator,
+                hotStateCache,
+                new CompiledQuestionCache(questionRepository, 100),
+                deadlineQueue,
+                new SessionScoreAggregator(new ScoreNormalizer(), scoreAggregateRepository)
         );
 
         sessionId = UUID.randomUUID();
@@ -310,6 +337,253 @@ class TestSessionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Submit Answers Batch Tests")
+    class SubmitAnswersBatchTests {
+
+        private AssessmentQuestion mcqQuestion() {
+            AssessmentQuestion question = new AssessmentQuestion();
+            question.setId(questionId);
+            question.setQuestionText("Pick one");
+            question.setQuestionType(QuestionType.MCQ);
+            question.setAnswerOptions(List.of(
+                    new HashMap<>(Map.of("text", "Yes", "score", 1)),
+                    new HashMap<>(Map.of("text", "No", "score", 0))
+            ));
+            return question;
+        }
+
+        private SubmitAnswerRequest answer(UUID forQuestion, String optionId) {
+            return new SubmitAnswerRequest(sessionId, forQuestion, List.of(optionId),
+                    null, null, null, 10, false);
+        }
+
+        @Test
+        @DisplayName("Should accept valid answers and save them in one batch")
+        void shouldAcceptAndSaveInOneBatch() {
+            // Given
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.touchIfInProgress(eq(sessionId), any(LocalDateTime.class))).thenReturn(1);
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(mcqQuestion()));
+
+            // When
+            List<AnswerSubmissionResult> results = testSessionService.submitAnswers(
+                    sessionId, List.of(answer(questionId, "option-0")));
+
+            // Then
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).accepted()).isTrue();
+            assertThat(results.get(0).answer().score()).isEqualTo(1.0);
+            verify(answerRepository).saveAll(argThat(answers -> answers.iterator().hasNext()));
+            verify(answerRepository, never()).save(any(TestAnswer.class));
+            verify(answerRepository).findBySession_IdAndQuestion_IdIn(sessionId, Set.of(questionId));
+            verify(psychometricAuditJob).onAnswersSubmitted(List.of(questionId));
+        }
+
+        @Test
+        @DisplayName("Should reject questions outside the session without failing the batch")
+        void shouldRejectQuestionOutsideSession() {
+            // Given
+            UUID foreignQuestionId = UUID.randomUUID();
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.touchIfInProgress(eq(sessionId), any(LocalDateTime.class))).thenReturn(1);
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(mcqQuestion()));
+
+            // When
+            List<AnswerSubmissionResult> results = testSessionService.submitAnswers(sessionId, List.of(
+                    answer(foreignQuestionId, "option-0"),
+                    answer(questionId, "option-1")));
+
+            // Then - results keep request order
+            assertThat(results).extracting(AnswerSubmissionResult::questionId)
+                    .containsExactly(foreignQuestionId, questionId);
+            assertThat(results).extracting(AnswerSubmissionResult::accepted)
+                    .containsExactly(false, true);
+            assertThat(results.get(0).error()).contains("not part of this session");
+            verify(questionRepository, never()).findById(foreignQuestionId);
+        }
+
+        @Test
+        @DisplayName("Should update previously stored answers loaded with one query")
+        void shouldUpdateExistingAnswers() {
+            // Given
+            TestAnswer existing = new TestAnswer(mockSession, mcqQuestion());
+            existing.setSelectedOptionIds(List.of("option-1"));
+            existing.setAnsweredAt(LocalDateTime.now());
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(answerRepository.findAnswerFlagsBySessionId(sessionId))
+                    .thenReturn(List.<Object[]>of(new Object[]{questionId, false, LocalDateTime.now()}));
+            when(sessionRepository.touchIfInProgress(eq(sessionId), any(LocalDateTime.class))).thenReturn(1);
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(mcqQuestion()));
+            when(answerRepository.findBySession_IdAndQuestion_IdIn(sessionId, Set.of(questionId)))
+                    .thenReturn(List.of(existing));
+
+            // When
+            List<AnswerSubmissionResult> results = testSessionService.submitAnswers(
+                    sessionId, List.of(answer(questionId, "option-0")));
+
+            // Then
+            assertThat(results.get(0).accepted()).isTrue();
+            assertThat(existing.getSelectedOptionIds()).containsExactly("option-0");
+            verify(answerRepository).saveAll(argThat(answers -> answers.iterator().next() == existing));
+        }
+
+        @Test
+        @DisplayName("Should not count a changed answer again for psychometric milestones")
+        void shouldNotRecountChangedAnswer() {
+            // Given
+            TestAnswer existing = new TestAnswer(mockSession, mcqQuestion());
+            existing.setSelectedOptionIds(List.of("option-1"));
+            existing.setScore(0.0);
+            existing.setAnsweredAt(LocalDateTime.now());
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(answerRepository.findAnswerFlagsBySessionId(sessionId))
+                    .thenReturn(List.<Object[]>of(new Object[]{questionId, false, LocalDateTime.now()}));
+            when(sessionRepository.touchIfInProgress(eq(sessionId), any(LocalDateTime.class))).thenReturn(1);
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(mcqQuestion()));
+            when(answerRepository.findBySession_IdAndQuestion_IdIn(sessionId, Set.of(questionId)))
+                    .thenReturn(List.of(existing));
+
+            // When
+            testSessionService.submitAnswers(sessionId, List.of(answer(questionId, "option-0")));
+
+            // Then
+            assertThat(existing.getScore()).isEqualTo(1.0);
+            verify(psychometricAuditJob, never()).onAnswersSubmitted(any());
+        }
+
+        @Test
+        @DisplayName("Should update an answer stored through another node")
+        void shouldUpdateAnswerStoredElsewhere() {
+            // Given - the answer bitmap of this node does not know the stored answer
+            TestAnswer existing = new TestAnswer(mockSession, mcqQuestion());
+            existing.setSelectedOptionIds(List.of("option-1"));
+            existing.setAnsweredAt(LocalDateTime.now());
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.touchIfInProgress(eq(sessionId), any(LocalDateTime.class))).thenReturn(1);
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(mcqQuestion()));
+            when(answerRepository.findBySession_IdAndQuestion_Id(sessionId, questionId))
+                    .thenReturn(Optional.of(existing));
+            when(answerRepository.save(existing)).thenReturn(existing);
+
+            // When
+            testSessionService.submitAnswer(answer(questionId, "option-0"));
+
+            // Then - the stored row is updated instead of inserting a duplicate
+            assertThat(existing.getSelectedOptionIds()).containsExactly("option-0");
+            verify(answerRepository).save(existing);
+        }
+
+        @Test
+        @DisplayName("Should reject answers for a session finished elsewhere")
+        void shouldRejectWhenFinishedElsewhere() {
+            // Given - cached as in progress, but completed on another node
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(mcqQuestion()));
+            when(sessionRepository.touchIfInProgress(eq(sessionId), any(LocalDateTime.class))).thenReturn(0);
+
+            // When & Then
+            assertThatThrownBy(() -> testSessionService.submitAnswers(
+                    sessionId, List.of(answer(questionId, "option-0"))))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(answerRepository, never()).saveAll(any());
+            assertThat(hotStateCache.peek(sessionId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should throw when session is not in progress")
+        void shouldThrowWhenSessionNotInProgress() {
+            // Given
+            mockSession.setStatus(SessionStatus.COMPLETED);
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+
+            // When & Then
+            assertThatThrownBy(() -> testSessionService.submitAnswers(
+                    sessionId, List.of(answer(questionId, "option-0"))))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(answerRepository, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Current Question Lookahead Tests")
+    class GetCurrentQuestionLookaheadTests {
+
+        private Optional<AssessmentQuestion> questionFor(UUID id) {
+            AssessmentQuestion question = new AssessmentQuestion();
+            question.setId(id);
+            question.setQuestionText("Question " + id);
+            question.setQuestionType(QuestionType.MCQ);
+            question.setAnswerOptions(List.of(new HashMap<>(Map.of("text", "Yes", "score", 1))));
+            return Optional.of(question);
+        }
+
+        @Test
+        @DisplayName("Should return following questions clamped to the end of the question order")
+        void shouldReturnLookaheadWindow() {
+            // Given
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(questionRepository.findById(any(UUID.class)))
+                    .thenAnswer(invocation -> questionFor(invocation.getArgument(0)));
+
+            // When
+            TestSessionService.CurrentQuestionDto result = testSessionService.getCurrentQuestion(sessionId, 5);
+
+            // Then
+            assertThat(result.questionIndex()).isZero();
+            assertThat(result.lookahead())
+                    .extracting(TestSessionService.LookaheadQuestionDto::questionIndex)
+                    .containsExactly(1, 2);
+            assertThat(result.lookahead().get(1).question().id())
+                    .isEqualTo(mockSession.getQuestionOrder().get(2));
+            // The whole window is looked up with one query
+            verify(answerRepository).findBySession_IdAndQuestion_IdIn(sessionId, mockSession.getQuestionOrder());
+        }
+
+        @Test
+        @DisplayName("Should load previous answers of the window with one query, including answers written elsewhere")
+        void shouldLoadPreviousAnswersWithOneQuery() {
+            // Given - answers stored through another node after this node loaded the session
+            UUID nextQuestionId = mockSession.getQuestionOrder().get(1);
+            TestAnswer currentAnswer = new TestAnswer(mockSession, questionFor(questionId).orElseThrow());
+            currentAnswer.setSelectedOptionIds(List.of("option-0"));
+            currentAnswer.setAnsweredAt(LocalDateTime.now());
+            TestAnswer nextAnswer = new TestAnswer(mockSession, questionFor(nextQuestionId).orElseThrow());
+            nextAnswer.setSelectedOptionIds(List.of("option-0"));
+            nextAnswer.setAnsweredAt(LocalDateTime.now());
+
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(questionRepository.findById(any(UUID.class)))
+                    .thenAnswer(invocation -> questionFor(invocation.getArgument(0)));
+            when(answerRepository.findBySession_IdAndQuestion_IdIn(sessionId, List.of(questionId, nextQuestionId)))
+                    .thenReturn(List.of(currentAnswer, nextAnswer));
+
+            // When
+            TestSessionService.CurrentQuestionDto result = testSessionService.getCurrentQuestion(sessionId, 1);
+
+            // Then
+            assertThat(result.previousAnswer()).isNotNull();
+            assertThat(result.lookahead()).hasSize(1);
+            assertThat(result.lookahead().get(0).previousAnswer().questionId()).isEqualTo(nextQuestionId);
+            assertThat(hotStateCache.peek(sessionId).orElseThrow().getAnsweredCount()).isEqualTo(2);
+            verify(answerRepository, never()).findBySession_IdAndQuestion_Id(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return no lookahead by default")
+        void shouldReturnNoLookaheadByDefault() {
+            // Given
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(questionRepository.findById(questionId)).thenReturn(questionFor(questionId));
+
+            // When
+            TestSessionService.CurrentQuestionDto result = testSessionService.getCurrentQuestion(sessionId);
+
+            // Then
+            assertThat(result.lookahead()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Navigate To Question Tests")
     class NavigateToQuestionTests {
@@ -319,15 +593,62 @@ class TestSessionServiceTest {
         void shouldNavigateToValidQuestion() {
             // Given
             when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
-            when(sessionRepository.save(any(TestSession.class))).thenReturn(mockSession);
 
             // When
             TestSessionDto result = testSessionService.navigateToQuestion(sessionId, 1);
 
-            // Then
+            // Then - cursor is served from the hot state and written behind
             assertThat(result).isNotNull();
-            verify(sessionRepository).save(argThat(session -> 
-                    session.getCurrentQuestionIndex() == 1));
+            assertThat(result.currentQuestionIndex()).isEqualTo(1);
+            verify(sessionRepository, never()).save(any(TestSession.class));
+        }
+
+        @Test
+        @DisplayName("Should serve repeated navigation from the hot-state cache")
+        void shouldServeRepeatedNavigationFromCache() {
+            // Given
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+
+            // When
+            testSessionService.navigateToQuestion(sessionId, 1);
+            TestSessionDto result = testSessionService.navigateToQuestion(sessionId, 2);
+
+            // Then
+            assertThat(result.currentQuestionIndex()).isEqualTo(2);
+            verify(sessionRepository, times(1)).findById(sessionId);
+        }
+
+        @Test
+        @DisplayName("Should write the latest cursor behind on flush")
+        void shouldWriteCursorBehindOnFlush() {
+            // Given
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.updateHotState(eq(sessionId), anyInt(), any(), any())).thenReturn(1);
+            testSessionService.navigateToQuestion(sessionId, 1);
+            testSessionService.navigateToQuestion(sessionId, 2);
+
+            // When
+            int written = hotStateCache.flushDirty();
+
+            // Then - both moves coalesce into a single write
+            assertThat(written).isEqualTo(1);
+            verify(sessionRepository).updateHotState(eq(sessionId), eq(2), eq(3600), any(LocalDateTime.class));
+            assertThat(hotStateCache.flushDirty()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should drop hot state when the session was finished elsewhere")
+        void shouldDropHotStateWhenSessionFinishedElsewhere() {
+            // Given
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.updateHotState(eq(sessionId), anyInt(), any(), any())).thenReturn(0);
+            testSessionService.navigateToQuestion(sessionId, 1);
+
+            // When
+            hotStateCache.flushDirty();
+
+            // Then
+            assertThat(hotStateCache.peek(sessionId)).isEmpty();
         }
 
         @Test
@@ -363,18 +684,180 @@ class TestSessionServiceTest {
         void shouldUpdateTimeRemaining() {
             // Given
             when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
-            when(sessionRepository.save(any(TestSession.class))).thenAnswer(invocation -> {
-                TestSession saved = invocation.getArgument(0);
-                return saved;
-            });
 
             // When
             TestSessionDto result = testSessionService.updateTimeRemaining(sessionId, 1800);
 
-            // Then
+            // Then - timer ticks are written behind
             assertThat(result).isNotNull();
-            verify(sessionRepository).save(argThat(session -> 
-                    session.getTimeRemainingSeconds() == 1800));
+            assertThat(result.timeRemainingSeconds()).isEqualTo(1800);
+            verify(sessionRepository, never()).save(any(TestSession.class));
+        }
+
+        @Test
+        @DisplayName("Should time out and persist cached cursor when time runs out")
+        void shouldTimeoutAndPersistCachedState() {
+            // Given
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.save(any(TestSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            testSessionService.navigateToQuestion(sessionId, 2);
+
+            // When
+            TestSessionDto result = testSessionService.updateTimeRemaining(sessionId, 0);
+
+            // Then
+            assertThat(result.status()).isEqualTo(SessionStatus.TIMED_OUT);
+            verify(sessionRepository, atLeastOnce()).save(argThat(session ->
+                    session.getStatus() == SessionStatus.TIMED_OUT
+                            && session.getCurrentQuestionIndex() == 2));
+            verify(activityTrackingService).recordSessionTimedOut(mockSession);
+            verify(scoringJobQueue).enqueue(sessionId);
+            assertThat(hotStateCache.peek(sessionId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should compute remaining time from the deadline and ignore the client value")
+        void shouldIgnoreClientTimerWhenSessionHasDeadline() {
+            // Given
+            mockSession.setDeadlineAt(LocalDateTime.now().plusMinutes(10));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+
+            // When
+            TestSessionDto result = testSessionService.updateTimeRemaining(sessionId, 5);
+
+            // Then - heartbeat only, nothing written synchronously
+            assertThat(result.timeRemainingSeconds()).isBetween(590, 600);
+            verify(sessionRepository, never()).save(any(TestSession.class));
+        }
+
+        @Test
+        @DisplayName("Should time out with a single save once the deadline has passed")
+        void shouldTimeoutOnceDeadlinePassed() {
+            // Given
+            mockSession.setDeadlineAt(LocalDateTime.now().minusSeconds(1));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.save(any(TestSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            TestSessionDto result = testSessionService.updateTimeRemaining(sessionId, 1800);
+
+            // Then
+            assertThat(result.status()).isEqualTo(SessionStatus.TIMED_OUT);
+            assertThat(result.timeRemainingSeconds()).isZero();
+            verify(sessionRepository, times(1)).save(mockSession);
+            verify(scoringJobQueue).enqueue(sessionId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Session Deadline Tests")
+    class SessionDeadlineTests {
+
+        @Test
+        @DisplayName("Should time out only the sessions claimed by the conditional update")
+        void shouldExpireClaimedSessions() {
+            // Given
+            UUID finishedSessionId = UUID.randomUUID();
+            List<UUID> due = List.of(sessionId, finishedSessionId);
+            when(sessionRepository.markTimedOutPastDeadline(eq(due), any(LocalDateTime.class)))
+                    .thenReturn(List.of(sessionId));
+            when(sessionRepository.findAllById(List.of(sessionId))).thenReturn(List.of(mockSession));
+
+            // When
+            List<UUID> expired = testSessionService.expireSessions(due);
+
+            // Then - one update for the batch, only the claimed session is queued for scoring
+            assertThat(expired).containsExactly(sessionId);
+            verify(sessionRepository, times(1)).markTimedOutPastDeadline(any(), any());
+            verify(activityTrackingService).recordSessionsTimedOut(List.of(mockSession));
+            verify(scoringJobQueue).enqueueAll(List.of(sessionId));
+        }
+
+        @Test
+        @DisplayName("Should skip the update when no session is due")
+        void shouldSkipEmptyDeadlineBatch() {
+            assertThat(testSessionService.expireSessions(List.of())).isEmpty();
+
+            verify(sessionRepository, never()).markTimedOutPastDeadline(any(), any());
+            verifyNoInteractions(scoringJobQueue);
+        }
+
+        @Test
+        @DisplayName("Should time out a locked chunk of stale sessions with one bulk update")
+        void shouldTimeOutStaleChunk() {
+            // Given
+            UUID otherSessionId = UUID.randomUUID();
+            List<UUID> stale = List.of(sessionId, otherSessionId);
+            LocalDateTime cutoff = LocalDateTime.now().minusMinutes(30);
+            UUID afterId = new UUID(0L, 0L);
+            when(sessionRepository.lockStaleSessionIdsAfter(cutoff, afterId, 100)).thenReturn(stale);
+            when(sessionRepository.markTimedOut(eq(stale), eq(cutoff), any(LocalDateTime.class))).thenReturn(stale);
+            when(sessionRepository.findAllById(stale)).thenReturn(List.of(mockSession));
+
+            // When
+            StaleSessionChunk chunk = testSessionService.timeoutStaleSessions(cutoff, afterId, 100);
+
+            // Then
+            assertThat(chunk.timedOut()).containsExactly(sessionId, otherSessionId);
+            assertThat(chunk.lastSessionId()).isEqualTo(otherSessionId);
+            assertThat(chunk.lockedCount()).isEqualTo(2);
+            verify(activityTrackingService).recordSessionsTimedOut(List.of(mockSession));
+            verify(scoringJobQueue).enqueueAll(stale);
+            verify(sessionRepository, never()).save(any(TestSession.class));
+        }
+
+        @Test
+        @DisplayName("Should only time out and score sessions still stale after the flush")
+        void shouldSkipSessionsActiveSinceLocked() {
+            // Given - the hot-state flush wrote fresh activity for the second session
+            UUID activeSessionId = UUID.randomUUID();
+            List<UUID> stale = List.of(sessionId, activeSessionId);
+            LocalDateTime cutoff = LocalDateTime.now().minusMinutes(30);
+            when(sessionRepository.lockStaleSessionIdsAfter(eq(cutoff), any(UUID.class), eq(100))).thenReturn(stale);
+            when(sessionRepository.markTimedOut(eq(stale), eq(cutoff), any(LocalDateTime.class)))
+                    .thenReturn(List.of(sessionId));
+            when(sessionRepository.findAllById(List.of(sessionId))).thenReturn(List.of(mockSession));
+
+            // When
+            StaleSessionChunk chunk = testSessionService.timeoutStaleSessions(cutoff, UUID.randomUUID(), 100);
+
+            // Then - the cursor still moves past the whole locked chunk
+            assertThat(chunk.timedOut()).containsExactly(sessionId);
+            assertThat(chunk.lastSessionId()).isEqualTo(activeSessionId);
+            verify(scoringJobQueue).enqueueAll(List.of(sessionId));
+        }
+
+        @Test
+        @DisplayName("Should do nothing when no stale sessions are left")
+        void shouldSkipEmptyStaleChunk() {
+            // Given
+            LocalDateTime cutoff = LocalDateTime.now().minusMinutes(30);
+            when(sessionRepository.lockStaleSessionIdsAfter(eq(cutoff), any(UUID.class), eq(100))).thenReturn(List.of());
+
+            // When
+            StaleSessionChunk chunk = testSessionService.timeoutStaleSessions(cutoff, UUID.randomUUID(), 100);
+
+            // Then
+            assertThat(chunk.lockedCount()).isZero();
+            assertThat(chunk.timedOut()).isEmpty();
+            verify(sessionRepository, never()).markTimedOut(any(), any(), any());
+            verifyNoInteractions(scoringJobQueue);
+        }
+
+        @Test
+        @DisplayName("Should reject answers after the deadline")
+        void shouldRejectAnswersAfterDeadline() {
+            // Given
+            mockSession.setDeadlineAt(LocalDateTime.now().minusMinutes(1));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            SubmitAnswerRequest request = new SubmitAnswerRequest(sessionId, questionId, List.of("option-0"),
+                    null, null, null, 10, false);
+
+            // When & Then
+            assertThatThrownBy(() -> testSessionService.submitAnswer(request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Time limit");
+            verify(answerRepository, never()).save(any(TestAnswer.class));
         }
     }
 
@@ -429,6 +912,42 @@ class TestSessionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Complete Session Tests")
+    class CompleteSessionTests {
+
+        @Test
+        @DisplayName("Should complete session and return the queued scoring job")
+        void shouldCompleteAndQueueScoring() {
+            // Given
+            ScoringJobDto queuedJob = new ScoringJobDto(UUID.randomUUID(), sessionId,
+                    ScoringJobStatus.QUEUED, 0, LocalDateTime.now(), null, null, null);
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(mockSession));
+            when(sessionRepository.save(any(TestSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(scoringJobQueue.enqueue(sessionId)).thenReturn(queuedJob);
+
+            // When
+            ScoringJobDto result = testSessionService.completeSession(sessionId);
+
+            // Then - completion activity is recorded by the worker once scored
+            assertThat(result).isEqualTo(queuedJob);
+            verify(sessionRepository).save(argThat(session ->
+                    session.getStatus() == SessionStatus.COMPLETED));
+            verify(activityTrackingService, never()).recordSessionCompleted(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when session has no scoring job")
+        void shouldThrowWhenScoringStatusMissing() {
+            // Given
+            when(scoringJobQueue.findStatus(sessionId)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> testSessionService.getScoringStatus(sessionId))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Abandon Session Tests")
     class AbandonSessionTests {
@@ -540,8 +1059,8 @@ class TestSessionServiceTest {
             // Mock heatmap service to return CRITICAL status for readiness check
             when(inventoryHeatmapService.generateHeatmapFor(anyList()))
                     .thenReturn(createMockHeatmap(Map.of(competencyId, HealthStatus.CRITICAL)));
-            when(inventoryHeatmapService.checkSufficiency(anyList(), anyInt()))
-                    .thenReturn(Map.of(competencyId, 3)); // shortage of 3
+            when(psychometricValidator.getEligibleCountsByCompetency(anyList()))
+                    .thenReturn(Map.of(competencyId, 0)); // no eligible questions
 
             // Mock indicator repository for readiness check
             when(indicatorRepository.findByCompetencyId(competencyId))
@@ -603,8 +1122,8 @@ class TestSessionServiceTest {
             // Mock heatmap service to return CRITICAL status
             when(inventoryHeatmapService.generateHeatmapFor(anyList()))
                     .thenReturn(createMockHeatmap(Map.of(competencyId, HealthStatus.CRITICAL)));
-            when(inventoryHeatmapService.checkSufficiency(anyList(), anyInt()))
-                    .thenReturn(Map.of(competencyId, 3));
+            when(psychometricValidator.getEligibleCountsByCompetency(anyList()))
+                    .thenReturn(Map.of(competencyId, 0));
 
             // Mock indicator and competency repositories for readiness check
             when(indicatorRepository.findByCompetencyId(competencyId))
@@ -681,6 +1200,10 @@ class TestSessionServiceTest {
             assertThat(result.status()).isEqualTo(SessionStatus.IN_PROGRESS);
             assertThat(result.totalQuestions()).isEqualTo(3);
 
+            // Timed template: the deadline is set at start and queued for expiry
+            assertThat(result.timeRemainingSeconds()).isBetween(3590, 3600);
+            assertThat(deadlineQueue.size()).isEqualTo(1);
+
             // Verify assembler was used
             verify(assemblerFactory).getAssembler(any(TestBlueprintDto.class));
             verify(mockAssembler).assemble(any());
@@ -4,7 +4,6 @@ import app.skillsoft.assessmentbackend.domain.dto.blueprint.JobFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.OverviewBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TeamFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.entities.*;
-import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
 import app.skillsoft.assessmentbackend.services.external.OnetService;
 import app.skillsoft.assessmentbackend.services.external.OnetService.OnetProfile;
@@ -54,8 +53,6 @@ class JobFitAssemblerTest {
     @Mock
     private CompetencyRepository competencyRepository;
 
-    @Mock
-    private BehavioralIndicatorRepository indicatorRepository;
 
     @Mock
     private QuestionSelectionService questionSelectionService;
@@ -74,7 +71,6 @@ class JobFitAssemblerTest {
     private UUID questionId2;
     private Competency competency1;
     private Competency competency2;
-    private BehavioralIndicator indicator1;
 
     @BeforeEach
     void setUp() {
@@ -86,7 +82,6 @@ class JobFitAssemblerTest {
 
         competency1 = createCompetency(competencyId1, "Problem Solving");
         competency2 = createCompetency(competencyId2, "Communication");
-        indicator1 = createIndicator(indicatorId1, "Critical Thinking", 1.0f, true);
     }
 
     @Nested
@@ -210,7 +205,7 @@ class JobFitAssemblerTest {
             OnetProfile profile = createOnetProfile(VALID_SOC_CODE, "Software Developer", benchmarks);
             when(onetService.getProfile(VALID_SOC_CODE)).thenReturn(Optional.of(profile));
             when(competencyRepository.findAll()).thenReturn(List.of(competency1));
-            when(indicatorRepository.findByCompetencyId(competencyId1)).thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1)).thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -241,7 +236,7 @@ class JobFitAssemblerTest {
             OnetProfile profile = createOnetProfile(VALID_SOC_CODE, "Software Developer", benchmarks);
             when(onetService.getProfile(VALID_SOC_CODE)).thenReturn(Optional.of(profile));
             when(competencyRepository.findAll()).thenReturn(List.of(competency1));
-            when(indicatorRepository.findByCompetencyId(competencyId1)).thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1)).thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -269,7 +264,7 @@ class JobFitAssemblerTest {
             when(onetService.getProfile(VALID_SOC_CODE)).thenReturn(Optional.of(profile));
             when(passportService.getPassportByClerkUserId(candidateId)).thenReturn(Optional.empty());
             when(competencyRepository.findAll()).thenReturn(List.of(competency1));
-            when(indicatorRepository.findByCompetencyId(competencyId1)).thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1)).thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -304,7 +299,7 @@ class JobFitAssemblerTest {
             when(passportService.getPassportByClerkUserId(candidateId)).thenReturn(Optional.of(passport));
             when(competencyRepository.findAll()).thenReturn(List.of(competency1));
             when(competencyRepository.findById(competencyId1)).thenReturn(Optional.of(competency1));
-            when(indicatorRepository.findByCompetencyId(competencyId1)).thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1)).thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -333,7 +328,7 @@ class JobFitAssemblerTest {
             OnetProfile profile = createOnetProfile(VALID_SOC_CODE, "Software Developer", benchmarks);
             when(onetService.getProfile(VALID_SOC_CODE)).thenReturn(Optional.of(profile));
             when(competencyRepository.findAll()).thenReturn(List.of(competency1));
-            when(indicatorRepository.findByCompetencyId(competencyId1)).thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1)).thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 eq(indicatorId1), anyInt(), any(DifficultyLevel.class), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -385,14 +380,6 @@ class JobFitAssemblerTest {
         return competency;
     }
 
-    private BehavioralIndicator createIndicator(UUID id, String title, float weight, boolean isActive) {
-        BehavioralIndicator indicator = new BehavioralIndicator();
-        indicator.setId(id);
-        indicator.setTitle(title);
-        indicator.setWeight(weight);
-        indicator.setActive(isActive);
-        return indicator;
-    }
 
     private OnetProfile createOnetProfile(String socCode, String title, Map<String, Double> benchmarks) {
         return new OnetProfile(
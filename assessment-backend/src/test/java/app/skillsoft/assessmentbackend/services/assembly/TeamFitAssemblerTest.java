@@ -4,9 +4,7 @@ import app.skillsoft.assessmentbackend.domain.dto.blueprint.JobFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.OverviewBlueprint;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TeamFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
-import app.skillsoft.assessmentbackend.domain.entities.BehavioralIndicator;
 import app.skillsoft.assessmentbackend.domain.entities.DifficultyLevel;
-import app.skillsoft.assessmentbackend.repository.BehavioralIndicatorRepository;
 import app.skillsoft.assessmentbackend.services.external.TeamService;
 import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
 import app.skillsoft.assessmentbackend.services.selection.QuestionSelectionService;
@@ -46,8 +44,6 @@ class TeamFitAssemblerTest {
     @Mock
     private TeamService teamService;
 
-    @Mock
-    private BehavioralIndicatorRepository indicatorRepository;
 
     @Mock
     private QuestionSelectionService questionSelectionService;
@@ -63,8 +59,6 @@ class TeamFitAssemblerTest {
     private UUID indicatorId2;
     private UUID questionId1;
     private UUID questionId2;
-    private BehavioralIndicator indicator1;
-    private BehavioralIndicator indicator2;
 
     @BeforeEach
     void setUp() {
@@ -76,8 +70,6 @@ class TeamFitAssemblerTest {
         questionId1 = UUID.randomUUID();
         questionId2 = UUID.randomUUID();
 
-        indicator1 = createIndicator(indicatorId1, "Indicator 1", 1.0f, true);
-        indicator2 = createIndicator(indicatorId2, "Indicator 2", 0.8f, true);
     }
 
     @Nested
@@ -191,8 +183,8 @@ class TeamFitAssemblerTest {
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(teamId, 0.3))
                 .thenReturn(List.of(competencyId1));
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                .thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1))
+                .thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -219,8 +211,8 @@ class TeamFitAssemblerTest {
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(teamId, 0.3))
                 .thenReturn(List.of());  // None undersaturated
-            when(indicatorRepository.findByCompetencyId(any()))
-                .thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(any()))
+                .thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -250,8 +242,8 @@ class TeamFitAssemblerTest {
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(teamId, 0.5))
                 .thenReturn(List.of(competencyId1));
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                .thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1))
+                .thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -276,8 +268,8 @@ class TeamFitAssemblerTest {
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(eq(teamId), anyDouble()))
                 .thenReturn(List.of(competencyId1));
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                .thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1))
+                .thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -302,8 +294,8 @@ class TeamFitAssemblerTest {
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(eq(teamId), anyDouble()))
                 .thenReturn(List.of(competencyId1));
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                .thenReturn(List.of(indicator1));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1))
+                .thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -333,8 +325,8 @@ class TeamFitAssemblerTest {
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(teamId, 0.3))
                 .thenReturn(List.of(competencyId1));
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                .thenReturn(List.of(indicator1, indicator2));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1))
+                .thenReturn(List.of(indicatorId1, indicatorId2));
             when(questionSelectionService.selectQuestionsForIndicator(
                 eq(indicatorId1), anyInt(), eq(DifficultyLevel.INTERMEDIATE), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -353,22 +345,20 @@ class TeamFitAssemblerTest {
         }
 
         @Test
-        @DisplayName("should skip inactive indicators")
+        @DisplayName("should only select from indicators reported active by selection service")
         void shouldFilterInactiveIndicators() {
-            // Given
+            // Given - inactive indicators are excluded by the pool index behind the service
             TeamFitBlueprint blueprint = createBlueprint(teamId, 0.3);
 
             Map<UUID, Double> saturation = new HashMap<>();
             saturation.put(competencyId1, 0.2);
 
-            BehavioralIndicator inactiveIndicator = createIndicator(indicatorId2, "Inactive", 0.5f, false);
-
             TeamProfile profile = createTeamProfile(teamId, saturation);
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(teamId, 0.3))
                 .thenReturn(List.of(competencyId1));
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                .thenReturn(List.of(indicator1, inactiveIndicator));
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1))
+                .thenReturn(List.of(indicatorId1));
             when(questionSelectionService.selectQuestionsForIndicator(
                 eq(indicatorId1), anyInt(), any(), anySet()))
                 .thenReturn(List.of(questionId1));
@@ -380,6 +370,9 @@ class TeamFitAssemblerTest {
             verify(questionSelectionService, times(1)).selectQuestionsForIndicator(
                 any(), anyInt(), any(), anySet()
             );
+            verify(questionSelectionService, never()).selectQuestionsForIndicator(
+                eq(indicatorId2), anyInt(), any(), anySet()
+            );
         }
 
         @Test
@@ -395,7 +388,7 @@ class TeamFitAssemblerTest {
             when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
             when(teamService.getUndersaturatedCompetencies(teamId, 0.3))
                 .thenReturn(List.of(competencyId1));
-            when(indicatorRepository.findByCompetencyId(competencyId1))
+            when(questionSelectionService.getActiveIndicatorIds(competencyId1))
                 .thenReturn(List.of());  // No indicators
 
             // When
@@ -403,7 +396,9 @@ class TeamFitAssemblerTest {
 
             // Then
             assertThat(result).isEmpty();
-            verifyNoInteractions(questionSelectionService);
+            verify(questionSelectionService, never()).selectQuestionsForIndicator(
+                any(), anyInt(), any(), anySet()
+            );
         }
     }
 
@@ -416,14 +411,6 @@ class TeamFitAssemblerTest {
         return blueprint;
     }
 
-    private BehavioralIndicator createIndicator(UUID id, String title, float weight, boolean isActive) {
-        BehavioralIndicator indicator = new BehavioralIndicator();
-        indicator.setId(id);
-        indicator.setTitle(title);
-        indicator.setWeight(weight);
-        indicator.setActive(isActive);
-        return indicator;
-    }
 
     private TeamProfile createTeamProfile(UUID teamId, Map<UUID, Double> saturation) {
         return new TeamProfile(
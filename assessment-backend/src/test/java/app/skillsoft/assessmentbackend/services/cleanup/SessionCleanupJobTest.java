@@ -0,0 +1,165 @@
+package app.skillsoft.assessmentbackend.services.cleanup;
+
+import app.skillsoft.assessmentbackend.config.SessionCleanupProperties;
+import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
+import app.skillsoft.assessmentbackend.services.cleanup.SessionCleanupJob.CleanupResult;
+import app.skillsoft.assessmentbackend.services.session.SessionHotStateCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SessionCleanupJob.
+ *
+ * Tests cover:
+ * - Chunked bulk abandon of IN_PROGRESS and NOT_STARTED sessions
+ * - Chunked bulk delete of empty abandoned sessions
+ * - Per-phase metrics and disabled cleanup
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionCleanupJob Tests")
+class SessionCleanupJobTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final UUID FIRST_SESSION_ID = new UUID(0L, 0L);
+
+    @Mock
+    private TestSessionRepository sessionRepository;
+
+    @Mock
+    private SessionHotStateCache hotStateCache;
+
+    private SessionCleanupProperties config;
+    private SimpleMeterRegistry registry;
+    private SessionCleanupJob job;
+
+    @BeforeEach
+    void setUp() {
+        config = new SessionCleanupProperties();
+        config.setChunkSize(CHUNK_SIZE);
+        registry = new SimpleMeterRegistry();
+        job = new SessionCleanupJob(sessionRepository, config, hotStateCache, registry);
+    }
+
+    private double rows(String phase) {
+        return registry.get("test.session.cleanup.rows").tag("phase", phase).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Cleanup Phase Tests")
+    class CleanupPhaseTests {
+
+        @Test
+        @DisplayName("Should abandon stale IN_PROGRESS sessions chunk by chunk after the last ID")
+        void shouldAbandonInProgressInChunks() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            when(sessionRepository.findStaleInProgressSessionIdsAfter(any(LocalDateTime.class), eq(FIRST_SESSION_ID), eq(CHUNK_SIZE)))
+                    .thenReturn(List.of(first, second));
+            when(sessionRepository.findStaleInProgressSessionIdsAfter(any(LocalDateTime.class), eq(second), eq(CHUNK_SIZE)))
+                    .thenReturn(List.of(third));
+            // One session saw activity between select and update
+            when(sessionRepository.abandonStaleInProgressSessions(eq(List.of(first, second)), any(), any())).thenReturn(1);
+            when(sessionRepository.abandonStaleInProgressSessions(eq(List.of(third)), any(), any())).thenReturn(1);
+
+            CleanupResult result = job.triggerManualCleanup();
+
+            assertThat(result.inProgressAbandoned).isEqualTo(2);
+            verify(hotStateCache).flushAndEvict(first);
+            verify(hotStateCache).flushAndEvict(second);
+            verify(hotStateCache).flushAndEvict(third);
+            assertThat(rows("abandon-in-progress")).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("Should repeat NOT_STARTED abandon and empty delete until a short chunk")
+        void shouldRepeatBulkStatementsUntilShortChunk() {
+            when(sessionRepository.findStaleInProgressSessionIdsAfter(any(), any(), anyInt())).thenReturn(List.of());
+            when(sessionRepository.abandonStaleNotStartedSessions(any(), any(), eq(CHUNK_SIZE))).thenReturn(2, 2, 1);
+            when(sessionRepository.deleteEmptyAbandonedSessions(any(), eq(CHUNK_SIZE))).thenReturn(2, 0);
+
+            CleanupResult result = job.triggerManualCleanup();
+
+            assertThat(result.notStartedAbandoned).isEqualTo(5);
+            assertThat(result.emptySessionsDeleted).isEqualTo(2);
+            assertThat(result.getTotalProcessed()).isEqualTo(7);
+            verify(sessionRepository, times(3)).abandonStaleNotStartedSessions(any(), any(), anyInt());
+            verify(sessionRepository, times(2)).deleteEmptyAbandonedSessions(any(), anyInt());
+            verifyNoInteractions(hotStateCache);
+        }
+
+        @Test
+        @DisplayName("Should delete only sessions abandoned before the configured days")
+        void shouldUseDeleteCutoff() {
+            when(sessionRepository.findStaleInProgressSessionIdsAfter(any(), any(), anyInt())).thenReturn(List.of());
+            when(sessionRepository.deleteEmptyAbandonedSessions(any(), anyInt())).thenReturn(0);
+
+            job.triggerManualCleanup();
+
+            verify(sessionRepository).deleteEmptyAbandonedSessions(
+                    argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusDays(6))), eq(CHUNK_SIZE));
+        }
+
+        @Test
+        @DisplayName("Should skip deletion when delete-empty-after-days is disabled")
+        void shouldSkipDeleteWhenDisabled() {
+            config.setDeleteEmptyAfterDays(0);
+            when(sessionRepository.findStaleInProgressSessionIdsAfter(any(), any(), anyInt())).thenReturn(List.of());
+
+            CleanupResult result = job.triggerManualCleanup();
+
+            assertThat(result.emptySessionsDeleted).isZero();
+            verify(sessionRepository, never()).deleteEmptyAbandonedSessions(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Scheduled Run Tests")
+    class ScheduledRunTests {
+
+        @Test
+        @DisplayName("Should record a duration per phase")
+        void shouldRecordPhaseDurations() {
+            when(sessionRepository.findStaleInProgressSessionIdsAfter(any(), any(), anyInt())).thenReturn(List.of());
+
+            job.cleanupStaleSessions();
+
+            assertThat(registry.get("test.session.cleanup.duration").timers()).hasSize(3)
+                    .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("Should not touch sessions when cleanup is disabled")
+        void shouldSkipWhenDisabled() {
+            config.setEnabled(false);
+
+            job.cleanupStaleSessions();
+
+            verifyNoInteractions(sessionRepository, hotStateCache);
+        }
+
+        @Test
+        @DisplayName("Should not propagate a failed phase")
+        void shouldSwallowFailure() {
+            when(sessionRepository.findStaleInProgressSessionIdsAfter(any(), any(), anyInt()))
+                    .thenThrow(new IllegalStateException("database down"));
+
+            assertThatCode(() -> job.cleanupStaleSessions()).doesNotThrowAnyException();
+            verify(sessionRepository, never()).abandonStaleNotStartedSessions(any(), any(), anyInt());
+        }
+    }
+}
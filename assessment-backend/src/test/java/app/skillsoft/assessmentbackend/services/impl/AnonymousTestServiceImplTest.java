@@ -10,6 +10,11 @@ import app.skillsoft.assessmentbackend.repository.*;
 import app.skillsoft.assessmentbackend.services.*;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssembler;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssemblerFactory;
+import app.skillsoft.assessmentbackend.services.scoring.ScoreNormalizer;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringJobQueue;
+import app.skillsoft.assessmentbackend.services.scoring.SessionScoreAggregator;
+import app.skillsoft.assessmentbackend.services.session.CompiledQuestionCache;
+import app.skillsoft.assessmentbackend.services.session.SessionDeadlineQueue;
 import app.skillsoft.assessmentbackend.services.sharing.TemplateShareLinkService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -76,7 +81,7 @@ class AnonymousTestServiceImplTest {
     private TestResultRepository resultRepository;
 
     @Mock
-    private ScoringOrchestrationService scoringOrchestrationService;
+    private ScoringJobQueue scoringJobQueue;
 
     @Mock
     private TestAssemblerFactory assemblerFactory;
@@ -84,6 +89,9 @@ class AnonymousTestServiceImplTest {
     @Mock
     private BlueprintConversionService blueprintConversionService;
 
+    @Mock
+    private SessionScoreAggregateRepository scoreAggregateRepository;
+
     private AnonymousTestServiceImpl anonymousTestService;
 
     // Test data
@@ -114,9 +122,12 @@ class AnonymousTestServiceImplTest {
                 answerRepository,
                 questionRepository,
                 resultRepository,
-                scoringOrchestrationService,
+                scoringJobQueue,
                 assemblerFactory,
-                blueprintConversionService
+                blueprintConversionService,
+                new CompiledQuestionCache(questionRepository, 100),
+                new SessionDeadlineQueue(),
+                new SessionScoreAggregator(new ScoreNormalizer(), scoreAggregateRepository)
         );
 
         // Initialize test data
@@ -827,6 +838,36 @@ class AnonymousTestServiceImplTest {
                     sessionId, sessionAccessToken, questionId, 0))
                     .isInstanceOf(IllegalStateException.class);
         }
+
+        @Test
+        @DisplayName("Should submit batch in one write and reject invalid items individually")
+        void submitAnswers_MixedBatch_ShouldReportPerItemResults() {
+            // Given
+            UUID foreignQuestionId = UUID.randomUUID();
+
+            when(sessionTokenService.hashToken(sessionAccessToken)).thenReturn(tokenHash);
+            when(sessionRepository.findByIdWithTemplateAndShareLink(sessionId))
+                    .thenReturn(Optional.of(mockSession));
+            when(questionRepository.findById(questionId))
+                    .thenReturn(Optional.of(mockQuestion));
+
+            // When
+            List<AnswerSubmissionResult> results = anonymousTestService.submitAnswers(
+                    sessionId, sessionAccessToken, List.of(
+                            new AnonymousTestService.AnswerSelection(questionId, 1),
+                            new AnonymousTestService.AnswerSelection(questionId, 99),
+                            new AnonymousTestService.AnswerSelection(foreignQuestionId, 0)));
+
+            // Then
+            assertThat(results).extracting(AnswerSubmissionResult::accepted)
+                    .containsExactly(true, false, false);
+            assertThat(results.get(0).answer().selectedOptionIds()).containsExactly("option-1");
+            assertThat(results.get(1).error()).contains("Invalid option index");
+
+            verify(answerRepository).saveAll(anyCollection());
+            verify(answerRepository, never()).save(any(TestAnswer.class));
+            verify(sessionRepository).save(mockSession);
+        }
     }
 
     // ========================================
@@ -848,39 +889,30 @@ class AnonymousTestServiceImplTest {
                     "Applied for senior position"
             );
 
-            TestResultDto mockResult = new TestResultDto(
+            ScoringJobDto queuedJob = new ScoringJobDto(
                     UUID.randomUUID(),
                     sessionId,
-                    templateId,
-                    "Leadership Assessment",
-                    null,
-                    85.0,
-                    85.0,
-                    75,
-                    true,
-                    Collections.emptyList(),
-                    1800,
-                    10,
+                    ScoringJobStatus.QUEUED,
                     0,
-                    10,
-                    LocalDateTime.now()
+                    LocalDateTime.now(),
+                    null,
+                    null,
+                    null
             );
 
             when(sessionTokenService.hashToken(sessionAccessToken)).thenReturn(tokenHash);
             when(sessionRepository.findByIdWithTemplateAndShareLink(sessionId))
                     .thenReturn(Optional.of(mockSession));
             when(sessionRepository.save(any(TestSession.class))).thenReturn(mockSession);
-            when(scoringOrchestrationService.calculateAndSaveResult(sessionId))
-                    .thenReturn(mockResult);
+            when(scoringJobQueue.enqueue(sessionId)).thenReturn(queuedJob);
 
             // When
-            TestResultDto result = anonymousTestService.completeSession(
+            ScoringJobDto result = anonymousTestService.completeSession(
                     sessionId, sessionAccessToken, takerInfo);
 
             // Then
-            assertThat(result).isNotNull();
-            assertThat(result.overallPercentage()).isEqualTo(85.0);
-            assertThat(result.passed()).isTrue();
+            assertThat(result).isEqualTo(queuedJob);
+            assertThat(mockSession.getStatus()).isEqualTo(SessionStatus.COMPLETED);
 
             verify(sessionRepository).save(argThat(session -> {
                 AnonymousTakerInfo info = session.getAnonymousTakerInfo();
@@ -889,7 +921,7 @@ class AnonymousTestServiceImplTest {
                         "Doe".equals(info.getLastName()) &&
                         "john.doe@example.com".equals(info.getEmail());
             }));
-            verify(scoringOrchestrationService).calculateAndSaveResult(sessionId);
+            verify(scoringJobQueue).enqueue(sessionId);
         }
 
         @Test
@@ -910,6 +942,35 @@ class AnonymousTestServiceImplTest {
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessageContaining("not in progress");
         }
+
+        @Test
+        @DisplayName("Should return scoring status for a valid token")
+        void getScoringStatus_WithValidToken_ShouldReturnStatus() {
+            // Given
+            ScoringJobDto status = new ScoringJobDto(UUID.randomUUID(), sessionId,
+                    ScoringJobStatus.RUNNING, 1, LocalDateTime.now(), null, null, null);
+            when(sessionTokenService.hashToken(sessionAccessToken)).thenReturn(tokenHash);
+            when(sessionRepository.findByIdWithTemplateAndShareLink(sessionId))
+                    .thenReturn(Optional.of(mockSession));
+            when(scoringJobQueue.findStatus(sessionId)).thenReturn(Optional.of(status));
+
+            // When & Then
+            assertThat(anonymousTestService.getScoringStatus(sessionId, sessionAccessToken)).isEqualTo(status);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when session was never queued")
+        void getScoringStatus_WithoutJob_ShouldThrowNotFound() {
+            // Given
+            when(sessionTokenService.hashToken(sessionAccessToken)).thenReturn(tokenHash);
+            when(sessionRepository.findByIdWithTemplateAndShareLink(sessionId))
+                    .thenReturn(Optional.of(mockSession));
+            when(scoringJobQueue.findStatus(sessionId)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> anonymousTestService.getScoringStatus(sessionId, sessionAccessToken))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
     }
 
     // ========================================
@@ -1149,7 +1210,7 @@ class AnonymousTestServiceImplTest {
             anonymousTestService.updateTimeRemaining(sessionId, sessionAccessToken, 0);
 
             // Then
-            verify(scoringOrchestrationService).calculateAndSaveResult(sessionId);
+            verify(scoringJobQueue).enqueue(sessionId);
             verify(sessionRepository, atLeast(1)).save(argThat(session ->
                     session.getStatus() == SessionStatus.TIMED_OUT));
         }
@@ -1,8 +1,11 @@
 package app.skillsoft.assessmentbackend.services.psychometrics;
 
+import app.skillsoft.assessmentbackend.domain.dto.psychometrics.FlaggedItemSummary;
 import app.skillsoft.assessmentbackend.domain.dto.psychometrics.PsychometricHealthReport;
 import app.skillsoft.assessmentbackend.domain.entities.*;
 import app.skillsoft.assessmentbackend.domain.entities.ReliabilityStatus;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
+import app.skillsoft.assessmentbackend.events.psychometrics.PsychometricStatusChangedEvent;
 import app.skillsoft.assessmentbackend.repository.*;
 import app.skillsoft.assessmentbackend.services.psychometrics.impl.PsychometricAnalysisServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -53,6 +58,9 @@ class PsychometricAnalysisServiceImplTest {
     @Mock
     private CompetencyRepository competencyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PsychometricAnalysisServiceImpl service;
 
     private UUID questionId;
@@ -70,7 +78,8 @@ class PsychometricAnalysisServiceImplTest {
             bigFiveReliabilityRepository,
             testAnswerRepository,
             assessmentQuestionRepository,
-            competencyRepository
+            competencyRepository,
+            eventPublisher
         );
 
         questionId = UUID.randomUUID();
@@ -283,6 +292,177 @@ class PsychometricAnalysisServiceImplTest {
             // Then
             assertThat(result.getValidityStatus()).isEqualTo(ItemValidityStatus.PROBATION);
         }
+
+        @Test
+        @DisplayName("should seed running statistics from the score pairs on a full recalculation")
+        void shouldSeedRunningStatisticsFromScorePairs() {
+            // Given - 60 pairs with the item score tracking the total
+            List<Object[]> scorePairs = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                scorePairs.add(new Object[]{(i % 5) / 4.0, 0.3 + (i % 5) * 0.1 + (i % 3) * 0.05});
+            }
+            when(assessmentQuestionRepository.findById(questionId)).thenReturn(Optional.of(mockQuestion));
+            when(itemStatisticsRepository.findByQuestion_Id(questionId)).thenReturn(Optional.empty());
+            when(testAnswerRepository.countByQuestion_Id(questionId)).thenReturn(60L);
+            when(testAnswerRepository.findAllByQuestionId(questionId))
+                .thenReturn(List.of(createMockAnswer(3.5, 5.0)));
+            when(testAnswerRepository.findItemTotalScorePairs(questionId)).thenReturn(scorePairs);
+            when(testAnswerRepository.getDistractorDistribution(questionId)).thenReturn(List.of());
+            when(itemStatisticsRepository.save(any(ItemStatistics.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            ItemStatistics result = service.calculateItemStatistics(questionId);
+
+            // Then - running correlation matches the two-pass Pearson correlation
+            assertThat(result.hasRunningStatistics()).isTrue();
+            assertThat(result.getRunningCount()).isEqualTo(60);
+            assertThat(result.getRunningDiscrimination()).isNotNull();
+            assertThat(BigDecimal.valueOf(result.getRunningDiscrimination()).setScale(4, RoundingMode.HALF_UP))
+                .isEqualByComparingTo(result.getDiscriminationIndex());
+            verify(testAnswerRepository, times(1)).findItemTotalScorePairs(questionId);
+        }
+
+        @Test
+        @DisplayName("should use running statistics without reloading answers")
+        void shouldUseRunningStatisticsWithoutReloadingAnswers() {
+            // Given - seeded statistics with item and total scores rising together
+            ItemStatistics stats = new ItemStatistics(mockQuestion);
+            stats.resetRunningStatistics();
+            for (int i = 0; i < 60; i++) {
+                double itemScore = (i % 4) / 3.0;
+                stats.addObservation(itemScore, 0.2 + itemScore * 0.6);
+            }
+            when(assessmentQuestionRepository.findById(questionId)).thenReturn(Optional.of(mockQuestion));
+            when(itemStatisticsRepository.findByQuestion_Id(questionId)).thenReturn(Optional.of(stats));
+            when(testAnswerRepository.getDistractorDistribution(questionId)).thenReturn(List.of());
+            when(itemStatisticsRepository.save(any(ItemStatistics.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            ItemStatistics result = service.calculateItemStatistics(questionId);
+
+            // Then
+            assertThat(result.getResponseCount()).isEqualTo(60);
+            assertThat(result.getDifficultyIndex()).isEqualByComparingTo("0.5000");
+            assertThat(result.getDiscriminationIndex()).isEqualByComparingTo("1.0000");
+            verify(testAnswerRepository, never()).findAllByQuestionId(any());
+            verify(testAnswerRepository, never()).findItemTotalScorePairs(any());
+            verify(testAnswerRepository, never()).countByQuestion_Id(any());
+        }
+
+        @Test
+        @DisplayName("should re-seed drifted running statistics on verification")
+        void shouldReseedRunningStatisticsOnVerification() {
+            // Given - running statistics that missed some scored sessions
+            ItemStatistics stats = new ItemStatistics(mockQuestion);
+            stats.resetRunningStatistics();
+            stats.addObservation(0.5, 0.5);
+            List<Object[]> scorePairs = List.of(
+                new Object[]{0.5, 0.5}, new Object[]{1.0, 0.9}, new Object[]{0.0, 0.2});
+            when(assessmentQuestionRepository.findById(questionId)).thenReturn(Optional.of(mockQuestion));
+            when(itemStatisticsRepository.findByQuestion_Id(questionId)).thenReturn(Optional.of(stats));
+            when(testAnswerRepository.findItemTotalScorePairs(questionId)).thenReturn(scorePairs);
+            when(testAnswerRepository.countByQuestion_Id(questionId)).thenReturn(3L);
+            when(itemStatisticsRepository.save(any(ItemStatistics.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            ItemStatistics result = service.verifyItemStatistics(questionId);
+
+            // Then
+            assertThat(result.getRunningCount()).isEqualTo(3);
+            assertThat(result.getRunningDifficulty()).isCloseTo(0.5, within(1e-9));
+            assertThat(result.getValidityStatus()).isEqualTo(ItemValidityStatus.PROBATION);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Item Recalculation Tests")
+    class BulkItemRecalculationTests {
+
+        /**
+         * Aggregate row: 60 responses, p = 0.6 and moments giving rpb = 1 / sqrt(1 * 4) = 0.5.
+         */
+        private Object[] aggregateRow(long pairCount) {
+            return new Object[]{questionId, 60L, 0.6, pairCount, 0.6, 1.0, 0.5, 4.0, 1.0};
+        }
+
+        private void givenSavedInBatch() {
+            when(itemStatisticsRepository.saveAll(anyIterable()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        }
+
+        @Test
+        @DisplayName("should recalculate items from grouped aggregates without per-item queries")
+        void shouldRecalculateFromAggregates() {
+            // Given
+            ItemStatistics existing = new ItemStatistics(mockQuestion);
+            when(testAnswerRepository.aggregateItemStatistics(50)).thenReturn(List.<Object[]>of(aggregateRow(60)));
+            when(itemStatisticsRepository.findByQuestion_IdIn(List.of(questionId))).thenReturn(List.of(existing));
+            when(testAnswerRepository.getDistractorDistributions(List.of(questionId))).thenReturn(List.of(
+                new Object[]{questionId, "option-a", 3L},
+                new Object[]{questionId, "option-b", 1L}
+            ));
+            givenSavedInBatch();
+
+            // When
+            List<ItemStatistics> results = service.recalculateAllItems();
+
+            // Then
+            assertThat(results).containsExactly(existing);
+            assertThat(existing.getResponseCount()).isEqualTo(60);
+            assertThat(existing.getDifficultyIndex()).isEqualByComparingTo("0.6");
+            assertThat(existing.getDiscriminationIndex()).isEqualByComparingTo("0.5");
+            assertThat(existing.getDistractorEfficiency())
+                .containsEntry("option-a", 0.75)
+                .containsEntry("option-b", 0.25);
+            assertThat(existing.getLastCalculatedAt()).isNotNull();
+            assertThat(existing.hasRunningStatistics()).isTrue();
+            assertThat(existing.getRunningCount()).isEqualTo(60);
+            assertThat(existing.getRunningDiscrimination()).isCloseTo(0.5, within(1e-12));
+            verify(testAnswerRepository, never()).countByQuestion_Id(any());
+            verify(testAnswerRepository, never()).findItemTotalScorePairs(any());
+            verify(itemStatisticsRepository, never()).save(any(ItemStatistics.class));
+        }
+
+        @Test
+        @DisplayName("should create statistics for questions without a record")
+        void shouldCreateMissingStatistics() {
+            // Given
+            when(testAnswerRepository.aggregateItemStatistics(50)).thenReturn(List.<Object[]>of(aggregateRow(60)));
+            when(itemStatisticsRepository.findByQuestion_IdIn(List.of(questionId))).thenReturn(List.of());
+            when(testAnswerRepository.getDistractorDistributions(List.of(questionId))).thenReturn(List.of());
+            when(assessmentQuestionRepository.getReferenceById(questionId)).thenReturn(mockQuestion);
+            givenSavedInBatch();
+
+            // When
+            List<ItemStatistics> results = service.recalculateAllItems();
+
+            // Then
+            assertThat(results).singleElement()
+                .satisfies(stats -> assertThat(stats.getQuestionId()).isEqualTo(questionId));
+            verify(assessmentQuestionRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("should leave discrimination empty with too few item-total pairs")
+        void shouldRequireMinimumPairs() {
+            // Given - 60 responses but only 10 of them in sessions with a result
+            ItemStatistics existing = new ItemStatistics(mockQuestion);
+            when(testAnswerRepository.aggregateItemStatistics(50)).thenReturn(List.<Object[]>of(aggregateRow(10)));
+            when(itemStatisticsRepository.findByQuestion_IdIn(List.of(questionId))).thenReturn(List.of(existing));
+            when(testAnswerRepository.getDistractorDistributions(List.of(questionId))).thenReturn(List.of());
+            givenSavedInBatch();
+
+            // When
+            service.recalculateAllItems();
+
+            // Then
+            assertThat(existing.getDifficultyIndex()).isEqualByComparingTo("0.6");
+            assertThat(existing.getDiscriminationIndex()).isNull();
+            assertThat(existing.getRunningCount()).isEqualTo(10);
+        }
     }
 
     @Nested
@@ -366,6 +546,29 @@ class PsychometricAnalysisServiceImplTest {
             // Then
             assertThat(stats.getValidityStatus()).isEqualTo(ItemValidityStatus.FLAGGED_FOR_REVIEW);
         }
+
+        @Test
+        @DisplayName("should publish a status change event only when the status changes")
+        void shouldPublishStatusChangeEventOnlyOnChange() {
+            // Given - excellent metrics on an item already ACTIVE
+            ItemStatistics stats = new ItemStatistics(mockQuestion);
+            stats.setResponseCount(100);
+            stats.setDiscriminationIndex(new BigDecimal("0.35"));
+            stats.setDifficultyIndex(new BigDecimal("0.65"));
+
+            when(itemStatisticsRepository.findByQuestion_Id(questionId)).thenReturn(Optional.of(stats));
+            when(itemStatisticsRepository.save(any(ItemStatistics.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            service.updateItemValidityStatus(questionId);
+            service.updateItemValidityStatus(questionId);
+
+            // Then - PROBATION -> ACTIVE once, the second update keeps ACTIVE
+            verify(eventPublisher).publishEvent(
+                PsychometricStatusChangedEvent.forItem(questionId, ItemValidityStatus.PROBATION, ItemValidityStatus.ACTIVE));
+            verify(eventPublisher, times(1)).publishEvent(any(PsychometricStatusChangedEvent.class));
+        }
     }
 
     @Nested
@@ -406,6 +609,64 @@ class PsychometricAnalysisServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Calculate Big Five Reliability Tests")
+    class CalculateBigFiveReliabilityTests {
+
+        @Test
+        @DisplayName("should report insufficient data when no competency is mapped to the trait")
+        void shouldReportInsufficientDataWithoutCompetencies() {
+            // Given
+            when(bigFiveReliabilityRepository.findByTrait(BigFiveTrait.OPENNESS)).thenReturn(Optional.empty());
+            when(competencyRepository.findIdsByBigFiveTrait("OPENNESS")).thenReturn(List.of());
+            when(bigFiveReliabilityRepository.save(any(BigFiveReliability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            BigFiveReliability result = service.calculateBigFiveReliability(BigFiveTrait.OPENNESS);
+
+            // Then
+            assertThat(result.getReliabilityStatus()).isEqualTo(ReliabilityStatus.INSUFFICIENT_DATA);
+            assertThat(result.getContributingCompetencies()).isZero();
+            verify(testAnswerRepository, never()).getScoreMatrixForCompetencies(any());
+        }
+
+        @Test
+        @DisplayName("should compute alpha from one combined score matrix of the mapped competencies")
+        void shouldUseCombinedScoreMatrix() {
+            // Given - 60 sessions answering 3 items that track each other
+            UUID otherCompetencyId = UUID.randomUUID();
+            List<UUID> questionIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+            List<Object[]> rows = new ArrayList<>();
+            for (int s = 0; s < 60; s++) {
+                UUID sessionId = UUID.randomUUID();
+                double ability = (s % 10) / 10.0;
+                for (int i = 0; i < questionIds.size(); i++) {
+                    rows.add(new Object[]{sessionId, questionIds.get(i), Math.min(1.0, ability + ((s + i) % 3) * 0.05)});
+                }
+            }
+            when(bigFiveReliabilityRepository.findByTrait(BigFiveTrait.OPENNESS)).thenReturn(Optional.empty());
+            when(competencyRepository.findIdsByBigFiveTrait("OPENNESS"))
+                .thenReturn(List.of(competencyId, otherCompetencyId));
+            when(testAnswerRepository.getScoreMatrixForCompetencies(List.of(competencyId, otherCompetencyId)))
+                .thenReturn(rows);
+            when(bigFiveReliabilityRepository.save(any(BigFiveReliability.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            BigFiveReliability result = service.calculateBigFiveReliability(BigFiveTrait.OPENNESS);
+
+            // Then
+            assertThat(result.getCronbachAlpha()).isNotNull();
+            assertThat(result.getCronbachAlpha()).isGreaterThan(new BigDecimal("0.9"));
+            assertThat(result.getContributingCompetencies()).isEqualTo(2);
+            assertThat(result.getTotalItems()).isEqualTo(3);
+            assertThat(result.getSampleSize()).isEqualTo(60);
+            verify(testAnswerRepository, never()).getScoreMatrixForCompetency(any());
+            verify(competencyRepository, never()).findAll();
+        }
+    }
+
     @Nested
     @DisplayName("Retire Item Tests")
     class RetireItemTests {
@@ -432,6 +693,34 @@ class PsychometricAnalysisServiceImplTest {
             assertThat(mockQuestion.isActive()).isFalse();
             verify(itemStatisticsRepository).save(stats);
             verify(assessmentQuestionRepository).save(mockQuestion);
+            verify(eventPublisher).publishEvent(any(QuestionPoolChangedEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Override Item Status Tests")
+    class OverrideItemStatusTests {
+
+        @Test
+        @DisplayName("should record the override and notify the pool index when leaving RETIRED")
+        void shouldRecordOverrideAndPublishEvents() {
+            // Given
+            ItemStatistics stats = new ItemStatistics(mockQuestion);
+            stats.setValidityStatus(ItemValidityStatus.RETIRED);
+
+            when(itemStatisticsRepository.findByQuestion_Id(questionId)).thenReturn(Optional.of(stats));
+            when(itemStatisticsRepository.save(any(ItemStatistics.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            service.overrideItemStatus(questionId, ItemValidityStatus.PROBATION, "Reworded by content team");
+
+            // Then
+            assertThat(stats.getValidityStatus()).isEqualTo(ItemValidityStatus.PROBATION);
+            verify(itemStatisticsRepository).save(stats);
+            verify(eventPublisher).publishEvent(PsychometricStatusChangedEvent.forItem(
+                questionId, ItemValidityStatus.RETIRED, ItemValidityStatus.PROBATION));
+            verify(eventPublisher).publishEvent(any(QuestionPoolChangedEvent.class));
         }
     }
 
@@ -488,25 +777,12 @@ class PsychometricAnalysisServiceImplTest {
         @Test
         @DisplayName("should generate report with item status counts")
         void shouldGenerateReportWithItemStatusCounts() {
-            // Given - mock all required repository calls
-            when(itemStatisticsRepository.count()).thenReturn(85L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.ACTIVE)).thenReturn(50L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.PROBATION)).thenReturn(20L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.FLAGGED_FOR_REVIEW)).thenReturn(5L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.RETIRED)).thenReturn(10L);
-
-            // Competency reliability mocks
-            when(competencyReliabilityRepository.count()).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.RELIABLE)).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.ACCEPTABLE)).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.UNRELIABLE)).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.INSUFFICIENT_DATA)).thenReturn(0L);
-            when(competencyReliabilityRepository.calculateAverageAlpha()).thenReturn(null);
-
-            // Helper method mocks
-            when(itemStatisticsRepository.findAll()).thenReturn(List.of());
-            when(itemStatisticsRepository.findItemsRequiringReview()).thenReturn(List.of());
-            when(itemStatisticsRepository.findProblematicItems()).thenReturn(List.of());
+            // Given - one aggregate row per table
+            when(itemStatisticsRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(85L, 50L, 20L, 5L, 10L, new BigDecimal("0.31")));
+            when(competencyReliabilityRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(0L, 0L, 0L, 0L, 0L, null));
+            when(itemStatisticsRepository.findFlaggedItemsWithQuestion()).thenReturn(List.of());
             when(bigFiveReliabilityRepository.findAll()).thenReturn(List.of());
 
             // When
@@ -518,30 +794,19 @@ class PsychometricAnalysisServiceImplTest {
             assertThat(report.probationItems()).isEqualTo(20);
             assertThat(report.flaggedItems()).isEqualTo(5);
             assertThat(report.retiredItems()).isEqualTo(10);
+            assertThat(report.averageDiscrimination()).isEqualByComparingTo("0.31");
+            assertThat(report.averageAlpha()).isNull();
         }
 
         @Test
         @DisplayName("should calculate total items correctly")
         void shouldCalculateTotalItemsCorrectly() {
-            // Given - totalItems comes from count(), not sum
-            when(itemStatisticsRepository.count()).thenReturn(100L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.ACTIVE)).thenReturn(40L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.PROBATION)).thenReturn(30L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.FLAGGED_FOR_REVIEW)).thenReturn(10L);
-            when(itemStatisticsRepository.countByValidityStatus(ItemValidityStatus.RETIRED)).thenReturn(20L);
-
-            // Competency reliability mocks
-            when(competencyReliabilityRepository.count()).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.RELIABLE)).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.ACCEPTABLE)).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.UNRELIABLE)).thenReturn(0L);
-            when(competencyReliabilityRepository.countByReliabilityStatus(ReliabilityStatus.INSUFFICIENT_DATA)).thenReturn(0L);
-            when(competencyReliabilityRepository.calculateAverageAlpha()).thenReturn(null);
-
-            // Helper method mocks
-            when(itemStatisticsRepository.findAll()).thenReturn(List.of());
-            when(itemStatisticsRepository.findItemsRequiringReview()).thenReturn(List.of());
-            when(itemStatisticsRepository.findProblematicItems()).thenReturn(List.of());
+            // Given - totalItems comes from COUNT(*), not the sum of the status counts
+            when(itemStatisticsRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(100L, 40L, 30L, 10L, 20L, null));
+            when(competencyReliabilityRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(12L, 6L, 3L, 2L, 1L, new BigDecimal("0.72345")));
+            when(itemStatisticsRepository.findFlaggedItemsWithQuestion()).thenReturn(List.of());
             when(bigFiveReliabilityRepository.findAll()).thenReturn(List.of());
 
             // When
@@ -549,6 +814,99 @@ class PsychometricAnalysisServiceImplTest {
 
             // Then
             assertThat(report.totalItems()).isEqualTo(100);
+            assertThat(report.totalCompetencies()).isEqualTo(12);
+            assertThat(report.reliableCompetencies()).isEqualTo(6);
+            assertThat(report.acceptableCompetencies()).isEqualTo(3);
+            assertThat(report.unreliableCompetencies()).isEqualTo(2);
+            assertThat(report.insufficientDataCompetencies()).isEqualTo(1);
+            assertThat(report.averageAlpha()).isEqualByComparingTo("0.7235");
+        }
+
+        @Test
+        @DisplayName("should not issue per-status count queries")
+        void shouldNotIssuePerStatusCountQueries() {
+            // Given
+            when(itemStatisticsRepository.getHealthAggregates()).thenReturn(List.of());
+            when(competencyReliabilityRepository.getHealthAggregates()).thenReturn(List.of());
+            when(itemStatisticsRepository.findFlaggedItemsWithQuestion()).thenReturn(List.of());
+            when(bigFiveReliabilityRepository.findAll()).thenReturn(List.of());
+
+            // When
+            PsychometricHealthReport report = service.generateHealthReport();
+
+            // Then
+            assertThat(report.totalItems()).isZero();
+            verify(itemStatisticsRepository, never()).countByValidityStatus(any());
+            verify(itemStatisticsRepository, never()).findAll();
+            verify(competencyReliabilityRepository, never()).countByReliabilityStatus(any());
+        }
+
+        @Test
+        @DisplayName("should order flagged items by severity")
+        void shouldOrderFlaggedItemsBySeverity() {
+            // Given
+            ItemStatistics warning = new ItemStatistics();
+            warning.setId(UUID.randomUUID());
+            warning.setDiscriminationFlag(DiscriminationFlag.WARNING);
+            warning.setValidityStatus(ItemValidityStatus.FLAGGED_FOR_REVIEW);
+            ItemStatistics toxic = new ItemStatistics();
+            toxic.setId(UUID.randomUUID());
+            toxic.setDiscriminationFlag(DiscriminationFlag.NEGATIVE);
+
+            when(itemStatisticsRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(2L, 0L, 1L, 1L, 0L, null));
+            when(competencyReliabilityRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(0L, 0L, 0L, 0L, 0L, null));
+            when(itemStatisticsRepository.findFlaggedItemsWithQuestion()).thenReturn(List.of(warning, toxic));
+            when(bigFiveReliabilityRepository.findAll()).thenReturn(List.of());
+
+            // When
+            PsychometricHealthReport report = service.generateHealthReport();
+
+            // Then
+            assertThat(report.topFlaggedItems()).extracting(FlaggedItemSummary::discriminationFlag)
+                .containsExactly(DiscriminationFlag.NEGATIVE, DiscriminationFlag.WARNING);
+            assertThat(report.requiresImmediateAction()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should summarize Big Five reliability from the trait rows")
+        void shouldSummarizeBigFiveFromTraitRows() {
+            // Given
+            BigFiveReliability openness = new BigFiveReliability(BigFiveTrait.OPENNESS);
+            openness.setCronbachAlpha(new BigDecimal("0.80"));
+            openness.setReliabilityStatus(ReliabilityStatus.RELIABLE);
+            BigFiveReliability stability = new BigFiveReliability(BigFiveTrait.EMOTIONAL_STABILITY);
+            stability.setCronbachAlpha(new BigDecimal("0.50"));
+            stability.setReliabilityStatus(ReliabilityStatus.UNRELIABLE);
+            BigFiveReliability agreeableness = new BigFiveReliability(BigFiveTrait.AGREEABLENESS);
+            agreeableness.setReliabilityStatus(ReliabilityStatus.INSUFFICIENT_DATA);
+
+            when(itemStatisticsRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(0L, 0L, 0L, 0L, 0L, null));
+            when(competencyReliabilityRepository.getHealthAggregates())
+                .thenReturn(aggregateRow(0L, 0L, 0L, 0L, 0L, null));
+            when(itemStatisticsRepository.findFlaggedItemsWithQuestion()).thenReturn(List.of());
+            when(bigFiveReliabilityRepository.findAll()).thenReturn(List.of(openness, stability, agreeableness));
+
+            // When
+            PsychometricHealthReport.BigFiveReliabilitySummary summary =
+                service.generateHealthReport().bigFiveReliabilitySummary();
+
+            // Then
+            assertThat(summary.totalTraits()).isEqualTo(3);
+            assertThat(summary.reliableTraits()).isEqualTo(1);
+            assertThat(summary.unreliableTraits()).isEqualTo(1);
+            assertThat(summary.insufficientDataTraits()).isEqualTo(1);
+            assertThat(summary.averageTraitAlpha()).isEqualByComparingTo("0.65");
+            assertThat(summary.lowestAlphaTrait()).isEqualTo("EMOTIONAL_STABILITY");
+            assertThat(summary.lowestAlphaValue()).isEqualByComparingTo("0.50");
+        }
+
+        private List<Object[]> aggregateRow(Object... values) {
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(values);
+            return rows;
         }
     }
 
@@ -0,0 +1,343 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRun;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRunStatus;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
+import app.skillsoft.assessmentbackend.repository.ItemStatisticsRepository;
+import app.skillsoft.assessmentbackend.repository.TestAnswerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the real-time milestone path of PsychometricAuditJob.
+ *
+ * Tests cover:
+ * - Answer submissions only bump in-memory counters
+ * - Milestone detection from seeded and known totals
+ * - Reconciliation of counters with the database
+ * - De-duplicated, bounded recalculation queue
+ * - One reliability recalculation per affected competency
+ * - Verification of running item statistics
+ * - Audit results of pipeline runs
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PsychometricAuditJob Tests")
+class PsychometricAuditJobTest {
+
+    private static final int MIN_RESPONSES = 50;
+
+    @Mock
+    private PsychometricAnalysisService analysisService;
+
+    @Mock
+    private ItemStatisticsRepository itemStatsRepository;
+
+    @Mock
+    private TestAnswerRepository answerRepository;
+
+    @Mock
+    private AssessmentQuestionRepository questionRepository;
+
+    @Mock
+    private PsychometricAuditPipeline auditPipeline;
+
+    @Mock
+    private PsychometricHealthSnapshot healthSnapshot;
+
+    private QuestionResponseCounters responseCounters;
+    private PsychometricRecalculationQueue recalculationQueue;
+    private PsychometricAuditJob job;
+
+    private UUID questionId;
+
+    @BeforeEach
+    void setUp() {
+        responseCounters = new QuestionResponseCounters(answerRepository);
+        recalculationQueue = new PsychometricRecalculationQueue(2);
+        job = new PsychometricAuditJob(analysisService, itemStatsRepository, questionRepository,
+                responseCounters, recalculationQueue, auditPipeline, healthSnapshot);
+        ReflectionTestUtils.setField(job, "psychometricsEnabled", true);
+        ReflectionTestUtils.setField(job, "minResponses", MIN_RESPONSES);
+        ReflectionTestUtils.setField(job, "recalculationBatchSize", 20);
+
+        questionId = UUID.randomUUID();
+    }
+
+    private List<Object[]> countRow(UUID id, long count) {
+        return List.<Object[]>of(new Object[]{id, count});
+    }
+
+    @Nested
+    @DisplayName("Answer Submission Tests")
+    class AnswerSubmissionTests {
+
+        @Test
+        @DisplayName("Should not touch the database when an answer is submitted")
+        void shouldOnlyIncrementCounter() {
+            // When
+            job.onAnswerSubmitted(questionId);
+            job.onAnswersSubmitted(List.of(questionId, UUID.randomUUID()));
+
+            // Then
+            verifyNoInteractions(answerRepository, analysisService, questionRepository);
+        }
+
+        @Test
+        @DisplayName("Should ignore submissions when psychometrics are disabled")
+        void shouldIgnoreWhenDisabled() {
+            // Given
+            ReflectionTestUtils.setField(job, "psychometricsEnabled", false);
+
+            // When
+            job.onAnswerSubmitted(questionId);
+            int recalculated = job.processMilestones();
+
+            // Then
+            assertThat(recalculated).isZero();
+            verifyNoInteractions(answerRepository, analysisService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Milestone Detection Tests")
+    class MilestoneDetectionTests {
+
+        @Test
+        @DisplayName("Should seed unknown totals from the database and detect a crossed milestone")
+        void shouldSeedAndDetectMilestone() {
+            // Given: the database already holds the two new responses
+            when(answerRepository.countByQuestionIds(anyCollection())).thenReturn(countRow(questionId, 51L));
+            responseCounters.increment(questionId);
+            responseCounters.increment(questionId);
+
+            // When
+            List<QuestionResponseCounters.Milestone> milestones = responseCounters.collectMilestones(MIN_RESPONSES);
+
+            // Then
+            assertThat(milestones).containsExactly(new QuestionResponseCounters.Milestone(questionId, 50L));
+            assertThat(responseCounters.getKnownTotal(questionId)).contains(51L);
+        }
+
+        @Test
+        @DisplayName("Should detect milestones from known totals without querying again")
+        void shouldUseKnownTotals() {
+            // Given
+            when(answerRepository.countByQuestionIds(anyCollection())).thenReturn(countRow(questionId, 40L));
+            responseCounters.increment(questionId);
+            assertThat(responseCounters.collectMilestones(MIN_RESPONSES)).isEmpty();
+
+            for (int i = 0; i < 10; i++) {
+                responseCounters.increment(questionId);
+            }
+
+            // When
+            List<QuestionResponseCounters.Milestone> milestones = responseCounters.collectMilestones(MIN_RESPONSES);
+
+            // Then
+            assertThat(milestones).extracting(QuestionResponseCounters.Milestone::responseCount).containsExactly(50L);
+            verify(answerRepository, times(1)).countByQuestionIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should report nothing when no responses were recorded")
+        void shouldReportNothingWithoutIncrements() {
+            assertThat(responseCounters.collectMilestones(MIN_RESPONSES)).isEmpty();
+            verifyNoInteractions(answerRepository);
+        }
+
+        @Test
+        @DisplayName("Should reload known totals from the database on reconcile")
+        void shouldReconcileWithDatabase() {
+            // Given
+            when(answerRepository.countByQuestionIds(anyCollection()))
+                    .thenReturn(countRow(questionId, 10L))
+                    .thenReturn(countRow(questionId, 25L));
+            responseCounters.increment(questionId);
+            responseCounters.collectMilestones(MIN_RESPONSES);
+
+            // When
+            int reconciled = responseCounters.reconcile();
+
+            // Then
+            assertThat(reconciled).isEqualTo(1);
+            assertThat(responseCounters.getKnownTotal(questionId)).contains(25L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Recalculation Tests")
+    class RecalculationTests {
+
+        @Test
+        @DisplayName("Should recalculate milestone questions and each competency once")
+        void shouldRecalculateQuestionsAndCompetencyOnce() {
+            // Given
+            UUID otherQuestionId = UUID.randomUUID();
+            UUID competencyId = UUID.randomUUID();
+            when(answerRepository.countByQuestionIds(anyCollection())).thenReturn(List.of(
+                    new Object[]{questionId, 50L}, new Object[]{otherQuestionId, 100L}));
+            when(questionRepository.findCompetencyIdsByQuestionIds(anyCollection()))
+                    .thenReturn(List.of(competencyId));
+            job.onAnswersSubmitted(List.of(questionId, otherQuestionId));
+
+            // When
+            int recalculated = job.processMilestones();
+
+            // Then
+            assertThat(recalculated).isEqualTo(2);
+            verify(analysisService).calculateItemStatistics(questionId);
+            verify(analysisService).updateItemValidityStatus(questionId);
+            verify(analysisService).calculateItemStatistics(otherQuestionId);
+            verify(analysisService).calculateCompetencyReliability(competencyId);
+            assertThat(recalculationQueue.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not recalculate below the milestone")
+        void shouldNotRecalculateBelowMilestone() {
+            // Given
+            when(answerRepository.countByQuestionIds(anyCollection())).thenReturn(countRow(questionId, 49L));
+            job.onAnswerSubmitted(questionId);
+
+            // When
+            int recalculated = job.processMilestones();
+
+            // Then
+            assertThat(recalculated).isZero();
+            verifyNoInteractions(analysisService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Running Statistics Verification Tests")
+    class VerificationTests {
+
+        @Test
+        @DisplayName("Should verify every seeded item and continue past failures")
+        void shouldVerifyEverySeededItem() {
+            // Given
+            UUID otherQuestionId = UUID.randomUUID();
+            when(itemStatsRepository.findQuestionIdsWithRunningStatistics())
+                    .thenReturn(List.of(questionId, otherQuestionId));
+            when(analysisService.verifyItemStatistics(questionId))
+                    .thenThrow(new IllegalStateException("database down"));
+
+            // When
+            int verified = job.verifyRunningStatistics();
+
+            // Then
+            assertThat(verified).isEqualTo(1);
+            verify(analysisService).verifyItemStatistics(otherQuestionId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Recalculation Queue Tests")
+    class RecalculationQueueTests {
+
+        @Test
+        @DisplayName("Should hold a question at most once until drained")
+        void shouldDeduplicateQuestions() {
+            assertThat(recalculationQueue.offer(questionId)).isTrue();
+            assertThat(recalculationQueue.offer(questionId)).isFalse();
+
+            assertThat(recalculationQueue.drain(10)).containsExactly(questionId);
+            assertThat(recalculationQueue.offer(questionId)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should drop milestones when the queue is full")
+        void shouldRejectWhenFull() {
+            assertThat(recalculationQueue.offer(UUID.randomUUID())).isTrue();
+            assertThat(recalculationQueue.offer(UUID.randomUUID())).isTrue();
+
+            assertThat(recalculationQueue.offer(questionId)).isFalse();
+            assertThat(recalculationQueue.size()).isEqualTo(2);
+
+            // A dropped question can be offered again once there is room
+            recalculationQueue.drain(1);
+            assertThat(recalculationQueue.offer(questionId)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Nightly Audit Tests")
+    class NightlyAuditTests {
+
+        @Test
+        @DisplayName("Should summarize a completed pipeline run")
+        void shouldSummarizeCompletedRun() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            PsychometricAuditRun run = PsychometricAuditRun.start(now);
+            run.recordPage(3, 1, "z", now);
+            run.finishStep(now);
+            run.recordPage(2, 0, "z", now);
+            while (run.getCurrentStep() != null) {
+                run.finishStep(now);
+            }
+            when(auditPipeline.run()).thenReturn(Optional.of(run));
+
+            // When
+            PsychometricAuditJob.AuditResult result = job.triggerManualAudit();
+
+            // Then
+            assertThat(run.getStatus()).isEqualTo(PsychometricAuditRunStatus.COMPLETED);
+            assertThat(result.itemsRecalculated()).isEqualTo(3);
+            assertThat(result.competenciesRecalculated()).isEqualTo(2);
+            assertThat(result.message()).startsWith("Audit completed").contains("1 failed units");
+            verify(healthSnapshot).refresh();
+        }
+
+        @Test
+        @DisplayName("Should keep the audit result when the health report refresh fails")
+        void shouldKeepResultWhenHealthRefreshFails() {
+            // Given
+            PsychometricAuditRun run = PsychometricAuditRun.start(LocalDateTime.now());
+            run.interrupt("boom", LocalDateTime.now());
+            when(auditPipeline.run()).thenReturn(Optional.of(run));
+            doThrow(new RuntimeException("db down")).when(healthSnapshot).refresh();
+
+            // When
+            PsychometricAuditJob.AuditResult result = job.triggerManualAudit();
+
+            // Then
+            assertThat(result.message()).startsWith("Audit interrupted");
+        }
+
+        @Test
+        @DisplayName("Should report a run in progress elsewhere")
+        void shouldReportRunInProgress() {
+            when(auditPipeline.run()).thenReturn(Optional.empty());
+
+            assertThat(job.triggerManualAudit().message()).isEqualTo("Audit already in progress");
+            verifyNoInteractions(healthSnapshot);
+        }
+
+        @Test
+        @DisplayName("Should not run the pipeline when psychometrics are disabled")
+        void shouldSkipWhenDisabled() {
+            ReflectionTestUtils.setField(job, "psychometricsEnabled", false);
+
+            job.runNightlyAudit();
+            job.triggerManualAudit();
+
+            verifyNoInteractions(auditPipeline);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import app.skillsoft.assessmentbackend.domain.entities.BigFiveTrait;
+import app.skillsoft.assessmentbackend.domain.entities.ItemValidityStatus;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRun;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditRunStatus;
+import app.skillsoft.assessmentbackend.domain.entities.PsychometricAuditStep;
+import app.skillsoft.assessmentbackend.repository.CompetencyRepository;
+import app.skillsoft.assessmentbackend.repository.ItemStatisticsRepository;
+import app.skillsoft.assessmentbackend.repository.PsychometricAuditRunRepository;
+import app.skillsoft.assessmentbackend.repository.TestAnswerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PsychometricAuditPipeline.
+ *
+ * Tests cover:
+ * - All steps processed in pages, with progress saved after each page
+ * - Resuming interrupted and crashed runs after their cursor
+ * - Skipping while another run is alive or claimed
+ * - Failed units and failed steps
+ * - Step timings and unit counters
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PsychometricAuditPipeline Tests")
+class PsychometricAuditPipelineTest {
+
+    private static final int MIN_RESPONSES = 50;
+
+    @Mock
+    private PsychometricAnalysisService analysisService;
+
+    @Mock
+    private ItemStatisticsRepository itemStatsRepository;
+
+    @Mock
+    private TestAnswerRepository answerRepository;
+
+    @Mock
+    private CompetencyRepository competencyRepository;
+
+    @Mock
+    private PsychometricAuditRunRepository runRepository;
+
+    private SimpleMeterRegistry registry;
+    private PsychometricAuditPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // Two chunks of one unit per page
+        pipeline = new PsychometricAuditPipeline(analysisService, itemStatsRepository, answerRepository,
+                competencyRepository, runRepository, registry, new SyncTaskExecutor(), 2, 1, 30, MIN_RESPONSES);
+    }
+
+    private void givenNoUnfinishedRun() {
+        when(runRepository.findFirstByStatusInOrderByStartedAtDesc(anyCollection())).thenReturn(Optional.empty());
+    }
+
+    private void givenUnfinishedRun(PsychometricAuditRun run) {
+        when(runRepository.findFirstByStatusInOrderByStartedAtDesc(anyCollection())).thenReturn(Optional.of(run));
+    }
+
+    private void givenSavesSucceed() {
+        when(runRepository.save(any(PsychometricAuditRun.class))).then(returnsFirstArg());
+    }
+
+    private void givenItems(List<UUID> needingRecalculation) {
+        when(itemStatsRepository.findQuestionsNeedingRecalculation(eq(MIN_RESPONSES), any(LocalDateTime.class)))
+                .thenReturn(needingRecalculation);
+        when(itemStatsRepository.findUncalculatedQuestionIds(ItemValidityStatus.PROBATION)).thenReturn(List.of());
+    }
+
+    private double units(PsychometricAuditStep step, String outcome) {
+        return registry.get("test.psychometrics.audit.units")
+                .tag("step", step.name().toLowerCase())
+                .tag("outcome", outcome)
+                .counter().count();
+    }
+
+    private long stepRuns(PsychometricAuditStep step) {
+        return registry.get("test.psychometrics.audit.step.duration")
+                .tag("step", step.name().toLowerCase())
+                .timer().count();
+    }
+
+    @Nested
+    @DisplayName("Full Run Tests")
+    class FullRunTests {
+
+        @Test
+        @DisplayName("Should process every step in pages and complete the run")
+        void shouldProcessAllSteps() {
+            // Given
+            UUID stale = UUID.randomUUID();
+            UUID uncalculated = UUID.randomUUID();
+            UUID tooFewResponses = UUID.randomUUID();
+            UUID competencyId = UUID.randomUUID();
+            givenNoUnfinishedRun();
+            givenSavesSucceed();
+            when(itemStatsRepository.findQuestionsNeedingRecalculation(eq(MIN_RESPONSES), any(LocalDateTime.class)))
+                    .thenReturn(List.of(stale));
+            when(itemStatsRepository.findUncalculatedQuestionIds(ItemValidityStatus.PROBATION))
+                    .thenReturn(List.of(uncalculated, tooFewResponses));
+            when(answerRepository.countByQuestionIds(anyCollection())).thenReturn(List.of(
+                    new Object[]{uncalculated, 60L}, new Object[]{tooFewResponses, 10L}));
+            when(competencyRepository.findAllIds()).thenReturn(List.of(competencyId));
+            when(itemStatsRepository.findCalculatedQuestionIds()).thenReturn(List.of(stale));
+
+            // When
+            Optional<PsychometricAuditRun> result = pipeline.run();
+
+            // Then
+            assertThat(result).isPresent();
+            PsychometricAuditRun run = result.get();
+            assertThat(run.getStatus()).isEqualTo(PsychometricAuditRunStatus.COMPLETED);
+            assertThat(run.getCurrentStep()).isNull();
+            assertThat(run.getFinishedAt()).isNotNull();
+            assertThat(run.getItemsRecalculated()).isEqualTo(2);
+            assertThat(run.getCompetenciesRecalculated()).isEqualTo(1);
+            assertThat(run.getTraitsRecalculated()).isEqualTo(BigFiveTrait.values().length);
+            assertThat(run.getStatusesUpdated()).isEqualTo(1);
+            assertThat(run.getFailedUnits()).isZero();
+
+            verify(analysisService).calculateItemStatistics(stale);
+            verify(analysisService).calculateItemStatistics(uncalculated);
+            verify(analysisService, never()).calculateItemStatistics(tooFewResponses);
+            verify(analysisService).calculateCompetencyReliability(competencyId);
+            for (BigFiveTrait trait : BigFiveTrait.values()) {
+                verify(analysisService).calculateBigFiveReliability(trait);
+            }
+            verify(analysisService).updateItemValidityStatus(stale);
+        }
+
+        @Test
+        @DisplayName("Should save progress after every page and every step")
+        void shouldSaveProgressPerPage() {
+            // Given: 5 items in pages of 2, the other steps empty except the 5 traits
+            givenNoUnfinishedRun();
+            givenSavesSucceed();
+            givenItems(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    UUID.randomUUID(), UUID.randomUUID()));
+            when(competencyRepository.findAllIds()).thenReturn(List.of());
+            when(itemStatsRepository.findCalculatedQuestionIds()).thenReturn(List.of());
+
+            // When
+            pipeline.run();
+
+            // Then: claim + 3 item pages + 3 trait pages + 4 step ends
+            verify(runRepository, times(11)).save(any(PsychometricAuditRun.class));
+        }
+
+        @Test
+        @DisplayName("Should record step durations and unit outcomes")
+        void shouldRecordMetrics() {
+            // Given
+            UUID failing = UUID.randomUUID();
+            givenNoUnfinishedRun();
+            givenSavesSucceed();
+            givenItems(List.of(failing, UUID.randomUUID()));
+            doThrow(new IllegalStateException("bad item")).when(analysisService).calculateItemStatistics(failing);
+            when(competencyRepository.findAllIds()).thenReturn(List.of());
+            when(itemStatsRepository.findCalculatedQuestionIds()).thenReturn(List.of());
+
+            // When
+            PsychometricAuditRun run = pipeline.run().orElseThrow();
+
+            // Then: a failed unit is counted and skipped
+            assertThat(run.getStatus()).isEqualTo(PsychometricAuditRunStatus.COMPLETED);
+            assertThat(run.getItemsRecalculated()).isEqualTo(1);
+            assertThat(run.getFailedUnits()).isEqualTo(1);
+            assertThat(units(PsychometricAuditStep.ITEMS, "recalculated")).isEqualTo(1.0);
+            assertThat(units(PsychometricAuditStep.ITEMS, "failed")).isEqualTo(1.0);
+            assertThat(units(PsychometricAuditStep.TRAITS, "recalculated")).isEqualTo(BigFiveTrait.values().length);
+            for (PsychometricAuditStep step : PsychometricAuditStep.values()) {
+                assertThat(stepRuns(step)).as("runs of step %s", step).isEqualTo(1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Resume Tests")
+    class ResumeTests {
+
+        @Test
+        @DisplayName("Should resume an interrupted run after its cursor")
+        void shouldResumeInterruptedRun() {
+            // Given: the items step and the first competency were done before the error
+            UUID first = new UUID(0L, 1L);
+            UUID second = new UUID(0L, 2L);
+            LocalDateTime earlier = LocalDateTime.now().minusMinutes(5);
+            PsychometricAuditRun interrupted = PsychometricAuditRun.start(earlier);
+            interrupted.recordPage(4, 0, UUID.randomUUID().toString(), earlier);
+            interrupted.finishStep(earlier);
+            interrupted.recordPage(1, 0, first.toString(), earlier);
+            interrupted.interrupt("connection reset", earlier);
+            givenUnfinishedRun(interrupted);
+            givenSavesSucceed();
+            when(competencyRepository.findAllIds()).thenReturn(List.of(second, first));
+            when(itemStatsRepository.findCalculatedQuestionIds()).thenReturn(List.of());
+
+            // When
+            PsychometricAuditRun run = pipeline.run().orElseThrow();
+
+            // Then
+            assertThat(run.getId()).isEqualTo(interrupted.getId());
+            assertThat(run.getStatus()).isEqualTo(PsychometricAuditRunStatus.COMPLETED);
+            assertThat(run.getItemsRecalculated()).isEqualTo(4);
+            assertThat(run.getCompetenciesRecalculated()).isEqualTo(2);
+            verify(analysisService).calculateCompetencyReliability(second);
+            verify(analysisService, never()).calculateCompetencyReliability(first);
+            verify(itemStatsRepository, never()).findQuestionsNeedingRecalculation(anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Should resume a running run whose heartbeat went stale")
+        void shouldResumeCrashedRun() {
+            // Given: the node running the audit stopped during the statuses step
+            PsychometricAuditRun crashed = PsychometricAuditRun.start(LocalDateTime.now().minusHours(2));
+            crashed.finishStep(crashed.getStartedAt());
+            crashed.finishStep(crashed.getStartedAt());
+            crashed.finishStep(crashed.getStartedAt());
+            givenUnfinishedRun(crashed);
+            givenSavesSucceed();
+            UUID questionId = UUID.randomUUID();
+            when(itemStatsRepository.findCalculatedQuestionIds()).thenReturn(List.of(questionId));
+
+            // When
+            PsychometricAuditRun run = pipeline.run().orElseThrow();
+
+            // Then
+            assertThat(run.getStatus()).isEqualTo(PsychometricAuditRunStatus.COMPLETED);
+            verify(analysisService).updateItemValidityStatus(questionId);
+            verify(analysisService, never()).calculateBigFiveReliability(any());
+        }
+
+        @Test
+        @DisplayName("Should not start while another run is alive")
+        void shouldSkipWhileRunAlive() {
+            // Given
+            givenUnfinishedRun(PsychometricAuditRun.start(LocalDateTime.now().minusMinutes(1)));
+
+            // When / Then
+            assertThat(pipeline.run()).isEmpty();
+            verify(runRepository, never()).save(any());
+            verifyNoInteractions(analysisService);
+        }
+
+        @Test
+        @DisplayName("Should not run when another node claimed the run first")
+        void shouldSkipWhenClaimLost() {
+            // Given
+            givenNoUnfinishedRun();
+            when(runRepository.save(any(PsychometricAuditRun.class)))
+                    .thenThrow(new OptimisticLockingFailureException("version changed"));
+
+            // When / Then
+            assertThat(pipeline.run()).isEmpty();
+            verifyNoInteractions(analysisService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should interrupt the run when a step cannot list its units")
+        void shouldInterruptOnStepFailure() {
+            // Given
+            givenNoUnfinishedRun();
+            givenSavesSucceed();
+            when(itemStatsRepository.findQuestionsNeedingRecalculation(eq(MIN_RESPONSES), any(LocalDateTime.class)))
+                    .thenThrow(new IllegalStateException("database down"));
+
+            // When
+            PsychometricAuditRun run = pipeline.run().orElseThrow();
+
+            // Then: the interrupted run is saved for the next audit
+            assertThat(run.getStatus()).isEqualTo(PsychometricAuditRunStatus.INTERRUPTED);
+            assertThat(run.getCurrentStep()).isEqualTo(PsychometricAuditStep.ITEMS);
+            assertThat(run.getLastError()).isEqualTo("database down");
+            assertThat(stepRuns(PsychometricAuditStep.ITEMS)).isEqualTo(1);
+            verify(runRepository, times(2)).save(run);
+            verifyNoInteractions(analysisService);
+        }
+    }
+}
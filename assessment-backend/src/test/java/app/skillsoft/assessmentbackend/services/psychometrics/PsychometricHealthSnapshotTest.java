@@ -0,0 +1,143 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import app.skillsoft.assessmentbackend.domain.dto.psychometrics.PsychometricHealthReport;
+import app.skillsoft.assessmentbackend.domain.entities.ItemValidityStatus;
+import app.skillsoft.assessmentbackend.events.psychometrics.PsychometricStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PsychometricHealthSnapshot.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PsychometricHealthSnapshot Tests")
+class PsychometricHealthSnapshotTest {
+
+    private static final long MAX_AGE_MS = 60_000;
+
+    @Mock
+    private PsychometricAnalysisService analysisService;
+
+    private PsychometricHealthSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new PsychometricHealthSnapshot(analysisService, MAX_AGE_MS);
+    }
+
+    @Test
+    @DisplayName("Should build the report on first read and serve it afterwards")
+    void shouldServeHeldReport() {
+        // Given
+        PsychometricHealthReport report = report(10);
+        when(analysisService.generateHealthReport()).thenReturn(report);
+
+        // When
+        PsychometricHealthReport first = snapshot.current();
+        PsychometricHealthReport second = snapshot.current();
+
+        // Then
+        assertThat(first).isSameAs(report);
+        assertThat(second).isSameAs(report);
+        verify(analysisService, times(1)).generateHealthReport();
+    }
+
+    @Test
+    @DisplayName("Should not refresh on schedule before the first read")
+    void shouldSkipScheduledRefreshBeforeFirstRead() {
+        snapshot.onStatusChanged(itemChange());
+
+        snapshot.scheduledRefresh();
+
+        verifyNoInteractions(analysisService);
+    }
+
+    @Test
+    @DisplayName("Should not refresh a current report on schedule")
+    void shouldNotRefreshCurrentReport() {
+        // Given
+        when(analysisService.generateHealthReport()).thenReturn(report(10));
+        snapshot.current();
+
+        // When
+        snapshot.scheduledRefresh();
+
+        // Then
+        assertThat(snapshot.isCurrent()).isTrue();
+        verify(analysisService, times(1)).generateHealthReport();
+    }
+
+    @Test
+    @DisplayName("Should coalesce status changes into one scheduled refresh")
+    void shouldCoalesceStatusChanges() {
+        // Given
+        when(analysisService.generateHealthReport()).thenReturn(report(10), report(11));
+        snapshot.current();
+
+        // When
+        snapshot.onStatusChanged(itemChange());
+        snapshot.onStatusChanged(itemChange());
+        snapshot.onStatusChanged(itemChange());
+        assertThat(snapshot.isCurrent()).isFalse();
+        snapshot.scheduledRefresh();
+        snapshot.scheduledRefresh();
+
+        // Then
+        assertThat(snapshot.current().totalItems()).isEqualTo(11);
+        assertThat(snapshot.isCurrent()).isTrue();
+        verify(analysisService, times(2)).generateHealthReport();
+    }
+
+    @Test
+    @DisplayName("Should refresh an expired report on schedule")
+    void shouldRefreshExpiredReport() {
+        // Given - any held report is expired
+        snapshot = new PsychometricHealthSnapshot(analysisService, -1);
+        when(analysisService.generateHealthReport()).thenReturn(report(10), report(12));
+        snapshot.current();
+
+        // When
+        snapshot.scheduledRefresh();
+
+        // Then
+        assertThat(snapshot.current().totalItems()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should keep the previous report when a refresh fails")
+    void shouldKeepPreviousReportOnFailure() {
+        // Given
+        when(analysisService.generateHealthReport())
+                .thenReturn(report(10))
+                .thenThrow(new RuntimeException("db down"));
+        snapshot.current();
+        snapshot.onStatusChanged(itemChange());
+
+        // When
+        snapshot.scheduledRefresh();
+
+        // Then - previous report served, still stale so the next check retries
+        assertThat(snapshot.current().totalItems()).isEqualTo(10);
+        assertThat(snapshot.isCurrent()).isFalse();
+    }
+
+    private PsychometricStatusChangedEvent itemChange() {
+        return PsychometricStatusChangedEvent.forItem(
+                UUID.randomUUID(), ItemValidityStatus.PROBATION, ItemValidityStatus.ACTIVE);
+    }
+
+    private PsychometricHealthReport report(int totalItems) {
+        return PsychometricHealthReport.builder()
+                .totalItems(totalItems)
+                .build();
+    }
+}
@@ -0,0 +1,245 @@
+package app.skillsoft.assessmentbackend.services.psychometrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ScoreMatrix.
+ *
+ * Tests cover:
+ * - Matrix construction from score rows
+ * - Cronbach's alpha against a direct computation
+ * - Alpha-if-item-deleted, including sessions missing only the deleted item
+ * - Trait-level alpha over partially answered sessions
+ * - Insufficient data and zero variance
+ */
+@DisplayName("ScoreMatrix Tests")
+class ScoreMatrixTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    private final List<UUID> items = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    /**
+     * Rows for a session; null scores are left unanswered.
+     */
+    private static void addSession(List<Object[]> rows, List<UUID> items, Double... scores) {
+        UUID sessionId = UUID.randomUUID();
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] != null) {
+                rows.add(new Object[]{sessionId, items.get(i), scores[i]});
+            }
+        }
+    }
+
+    private List<Object[]> randomRows(long seed, int sessions, double missingRate) {
+        Random random = new Random(seed);
+        List<Object[]> rows = new ArrayList<>();
+        for (int s = 0; s < sessions; s++) {
+            double ability = random.nextDouble();
+            Double[] scores = new Double[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                scores[i] = random.nextDouble() < missingRate
+                        ? null
+                        : Math.min(1.0, Math.max(0.0, ability + random.nextGaussian() * 0.2));
+            }
+            addSession(rows, items, scores);
+        }
+        return rows;
+    }
+
+    /**
+     * Direct computation: population variances over sessions that answered all of the given items.
+     */
+    private static Double directAlpha(List<Object[]> rows, List<UUID> included) {
+        Map<UUID, Map<UUID, Double>> bySession = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            bySession.computeIfAbsent((UUID) row[0], id -> new HashMap<>()).put((UUID) row[1], (Double) row[2]);
+        }
+        List<Map<UUID, Double>> complete = bySession.values().stream()
+                .filter(scores -> scores.keySet().containsAll(included))
+                .toList();
+        int n = complete.size();
+        double sumItemVariances = 0;
+        for (UUID item : included) {
+            double mean = complete.stream().mapToDouble(s -> s.get(item)).sum() / n;
+            sumItemVariances += complete.stream().mapToDouble(s -> Math.pow(s.get(item) - mean, 2)).sum() / n;
+        }
+        double[] totals = complete.stream()
+                .mapToDouble(s -> included.stream().mapToDouble(s::get).sum())
+                .toArray();
+        double totalMean = Arrays.stream(totals).sum() / n;
+        double totalVariance = Arrays.stream(totals).map(t -> Math.pow(t - totalMean, 2)).sum() / n;
+        int k = included.size();
+        return (double) k / (k - 1) * (1 - sumItemVariances / totalVariance);
+    }
+
+    /**
+     * Direct computation of the partial-completion alpha: sessions with at least
+     * minAnswered items, item variances over answering sessions, missing items as 0 in totals.
+     */
+    private static double directPartialAlpha(List<Object[]> rows, List<UUID> items, int minAnswered) {
+        Map<UUID, Map<UUID, Double>> bySession = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            bySession.computeIfAbsent((UUID) row[0], id -> new HashMap<>()).put((UUID) row[1], (Double) row[2]);
+        }
+        List<Map<UUID, Double>> qualifying = bySession.values().stream()
+                .filter(scores -> scores.size() >= minAnswered)
+                .toList();
+        double sumItemVariances = 0;
+        for (UUID item : items) {
+            double[] values = qualifying.stream().filter(s -> s.containsKey(item)).mapToDouble(s -> s.get(item)).toArray();
+            double mean = Arrays.stream(values).sum() / values.length;
+            sumItemVariances += Arrays.stream(values).map(v -> Math.pow(v - mean, 2)).sum() / values.length;
+        }
+        double[] totals = qualifying.stream()
+                .mapToDouble(s -> items.stream().mapToDouble(item -> s.getOrDefault(item, 0.0)).sum())
+                .toArray();
+        double totalMean = Arrays.stream(totals).sum() / totals.length;
+        double totalVariance = Arrays.stream(totals).map(t -> Math.pow(t - totalMean, 2)).sum() / totals.length;
+        int k = items.size();
+        return (double) k / (k - 1) * (1 - sumItemVariances / totalVariance);
+    }
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should count distinct sessions and items")
+        void shouldCountSessionsAndItems() {
+            List<Object[]> rows = new ArrayList<>();
+            addSession(rows, items, 0.5, 0.25, null, null);
+            addSession(rows, items, 1.0, null, 0.75, null);
+
+            ScoreMatrix matrix = ScoreMatrix.of(rows);
+
+            assertThat(matrix.sessionCount()).isEqualTo(2);
+            assertThat(matrix.itemCount()).isEqualTo(3);
+            assertThat(matrix.items()).containsExactly(items.get(0), items.get(1), items.get(2));
+        }
+
+        @Test
+        @DisplayName("Should be empty without rows")
+        void shouldBeEmptyWithoutRows() {
+            ScoreMatrix matrix = ScoreMatrix.of(List.of());
+
+            assertThat(matrix.isEmpty()).isTrue();
+            assertThat(matrix.cronbachAlpha(1)).isEmpty();
+            assertThat(matrix.alphaIfDeleted(1)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Alpha Tests")
+    class AlphaTests {
+
+        @Test
+        @DisplayName("Should match a direct computation over complete sessions")
+        void shouldMatchDirectAlpha() {
+            List<Object[]> rows = randomRows(42, 300, 0.05);
+
+            OptionalDouble alpha = ScoreMatrix.of(rows).cronbachAlpha(50);
+
+            assertThat(alpha).isPresent();
+            assertThat(alpha.getAsDouble()).isCloseTo(directAlpha(rows, items), within(TOLERANCE));
+        }
+
+        @Test
+        @DisplayName("Should return empty with too few complete sessions")
+        void shouldRequireMinimumCompleteSessions() {
+            List<Object[]> rows = randomRows(7, 60, 0.5);
+
+            assertThat(ScoreMatrix.of(rows).cronbachAlpha(50)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should return empty when total variance is zero")
+        void shouldReturnEmptyForZeroVariance() {
+            List<Object[]> rows = new ArrayList<>();
+            for (int s = 0; s < 5; s++) {
+                addSession(rows, items, 0.5, 0.5, 0.5, 0.5);
+            }
+
+            assertThat(ScoreMatrix.of(rows).cronbachAlpha(1)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Alpha If Deleted Tests")
+    class AlphaIfDeletedTests {
+
+        @Test
+        @DisplayName("Should match a direct computation for every deleted item")
+        void shouldMatchDirectAlphaIfDeleted() {
+            // Missing answers put sessions into the reduced sets of single items
+            List<Object[]> rows = randomRows(11, 400, 0.1);
+
+            Map<UUID, Double> alphaIfDeleted = ScoreMatrix.of(rows).alphaIfDeleted(50);
+
+            assertThat(alphaIfDeleted).hasSize(items.size());
+            for (UUID deleted : items) {
+                List<UUID> remaining = items.stream().filter(item -> !item.equals(deleted)).toList();
+                assertThat(alphaIfDeleted.get(deleted))
+                        .as("alpha without %s", deleted)
+                        .isCloseTo(directAlpha(rows, remaining), within(TOLERANCE));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return empty with fewer than 3 items")
+        void shouldRequireThreeItems() {
+            List<Object[]> rows = new ArrayList<>();
+            addSession(rows, items, 0.2, 0.4);
+            addSession(rows, items, 0.8, 0.6);
+
+            assertThat(ScoreMatrix.of(rows).alphaIfDeleted(1)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Partial Completion Alpha Tests")
+    class PartialCompletionAlphaTests {
+
+        @Test
+        @DisplayName("Should match a direct computation over sufficiently complete sessions")
+        void shouldMatchDirectPartialAlpha() {
+            List<Object[]> rows = randomRows(23, 300, 0.15);
+
+            OptionalDouble alpha = ScoreMatrix.of(rows).cronbachAlpha(50, 0.75);
+
+            assertThat(alpha).isPresent();
+            assertThat(alpha.getAsDouble()).isCloseTo(directPartialAlpha(rows, items, 3), within(TOLERANCE));
+        }
+
+        @Test
+        @DisplayName("Should equal the complete-session alpha at full completion")
+        void shouldEqualCompleteAlphaAtFullCompletion() {
+            List<Object[]> rows = randomRows(5, 200, 0.1);
+            ScoreMatrix matrix = ScoreMatrix.of(rows);
+
+            assertThat(matrix.cronbachAlpha(50, 1.0).getAsDouble())
+                    .isCloseTo(matrix.cronbachAlpha(50).getAsDouble(), within(TOLERANCE));
+        }
+
+        @Test
+        @DisplayName("Should return empty with too few qualifying sessions")
+        void shouldRequireMinimumQualifyingSessions() {
+            // 60 sessions answered half of the items, only 10 answered all of them
+            List<Object[]> rows = new ArrayList<>();
+            for (int s = 0; s < 60; s++) {
+                addSession(rows, items, 0.1 * (s % 10), null, null, 0.5);
+            }
+            for (int s = 0; s < 10; s++) {
+                addSession(rows, items, 0.1 * s, 0.2, 0.05 * s, 0.5);
+            }
+
+            assertThat(ScoreMatrix.of(rows).cronbachAlpha(50, 0.8)).isEmpty();
+        }
+    }
+}
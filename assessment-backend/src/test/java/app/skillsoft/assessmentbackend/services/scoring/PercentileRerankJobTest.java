@@ -0,0 +1,121 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.scoring.PercentileRerankJob.RerankStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PercentileRerankJob.
+ *
+ * Tests cover:
+ * - Re-ranking a single template
+ * - Walking all templates in ID-ordered chunks
+ * - Failure reporting and one run at a time
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PercentileRerankJob Tests")
+class PercentileRerankJobTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private TestResultRepository resultRepository;
+
+    private PercentileRerankJob job;
+
+    @BeforeEach
+    void setUp() {
+        // Runs execute on the calling thread
+        job = new PercentileRerankJob(resultRepository, new SyncTaskExecutor(), BATCH_SIZE);
+    }
+
+    @Nested
+    @DisplayName("Run Tests")
+    class RunTests {
+
+        @Test
+        @DisplayName("Should re-rank a single template with one statement")
+        void shouldRerankSingleTemplate() {
+            UUID templateId = UUID.randomUUID();
+            when(resultRepository.rerankPercentilesByTemplateId(templateId)).thenReturn(7);
+
+            Optional<RerankStatus> started = job.start(templateId);
+
+            assertThat(started).isPresent();
+            RerankStatus status = job.status();
+            assertThat(status.state()).isEqualTo(RerankStatus.State.COMPLETED);
+            assertThat(status.templatesProcessed()).isEqualTo(1);
+            assertThat(status.resultsUpdated()).isEqualTo(7);
+            verify(resultRepository, never()).findScoredTemplateIdsAfter(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should walk all templates in chunks until a short chunk")
+        void shouldRerankAllTemplatesInChunks() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            when(resultRepository.findScoredTemplateIdsAfter(new UUID(0L, 0L), BATCH_SIZE))
+                    .thenReturn(List.of(first, second));
+            when(resultRepository.findScoredTemplateIdsAfter(second, BATCH_SIZE)).thenReturn(List.of(third));
+            when(resultRepository.rerankPercentilesByTemplateId(any())).thenReturn(1, 0, 4);
+
+            job.start(null);
+
+            RerankStatus status = job.status();
+            assertThat(status.state()).isEqualTo(RerankStatus.State.COMPLETED);
+            assertThat(status.templateId()).isNull();
+            assertThat(status.templatesProcessed()).isEqualTo(3);
+            assertThat(status.resultsUpdated()).isEqualTo(5);
+            assertThat(status.finishedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should report a failed run and allow the next one")
+        void shouldReportFailure() {
+            UUID templateId = UUID.randomUUID();
+            when(resultRepository.rerankPercentilesByTemplateId(templateId))
+                    .thenThrow(new IllegalStateException("database down"))
+                    .thenReturn(0);
+
+            job.start(templateId);
+
+            assertThat(job.status().state()).isEqualTo(RerankStatus.State.FAILED);
+            assertThat(job.status().error()).isEqualTo("database down");
+            assertThat(job.start(templateId)).isPresent();
+            assertThat(job.status().state()).isEqualTo(RerankStatus.State.COMPLETED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should not start a second run while one is in progress")
+        void shouldRejectConcurrentRun() {
+            // Executor that never runs the task, leaving the run in progress
+            job = new PercentileRerankJob(resultRepository, task -> { }, BATCH_SIZE);
+
+            assertThat(job.start(null)).isPresent();
+            assertThat(job.status().isRunning()).isTrue();
+            assertThat(job.start(UUID.randomUUID())).isEmpty();
+            verifyNoInteractions(resultRepository);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.events.scoring.ResultsRescoredEvent;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.ScoringOrchestrationService;
+import app.skillsoft.assessmentbackend.services.scoring.ResultRescoreJob.RescoreStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResultRescoreJob.
+ *
+ * Tests cover:
+ * - Keyset paging and chunking of a template's results
+ * - A single percentile re-rank and re-scored event at the end of a run, none for a dry run
+ * - Change reporting, failed chunks and metrics
+ * - One run at a time
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultRescoreJob Tests")
+class ResultRescoreJobTest {
+
+    private static final int PARALLELISM = 2;
+    private static final int CHUNK_SIZE = 2;
+    private static final int SAMPLE_SIZE = 2;
+    private static final UUID FIRST_RESULT_ID = new UUID(0L, 0L);
+
+    @Mock
+    private TestResultRepository resultRepository;
+
+    @Mock
+    private ScoringOrchestrationService scoringService;
+
+    @Mock
+    private TemplateScoreIndex scoreIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResultRescoreJob job;
+    private UUID templateId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Runs and chunks execute on the calling thread
+        job = new ResultRescoreJob(resultRepository, scoringService, scoreIndex, eventPublisher, meterRegistry,
+                new SyncTaskExecutor(), new SyncTaskExecutor(), PARALLELISM, CHUNK_SIZE, SAMPLE_SIZE);
+        templateId = UUID.randomUUID();
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+
+    private static ScoreChange unchanged(UUID resultId) {
+        return new ScoreChange(resultId, UUID.randomUUID(), 70.0, 70.0, true, true);
+    }
+
+    private static ScoreChange changed(UUID resultId, double previous, double current) {
+        return new ScoreChange(resultId, UUID.randomUUID(), previous, current, previous >= 70.0, current >= 70.0);
+    }
+
+    private double resultCount(String outcome) {
+        return meterRegistry.get("test.scoring.rescore.results").tag("outcome", outcome).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Run Tests")
+    class RunTests {
+
+        @Test
+        @DisplayName("Should walk results in keyset pages of parallelism x chunk-size and re-rank once")
+        void shouldWalkPagesAndRerankOnce() {
+            // Given
+            List<UUID> firstPage = ids(4);
+            List<UUID> secondPage = ids(1);
+            when(resultRepository.findCompletedResultIdsByTemplateIdAfter(templateId, FIRST_RESULT_ID, 4))
+                    .thenReturn(firstPage);
+            when(resultRepository.findCompletedResultIdsByTemplateIdAfter(templateId, firstPage.get(3), 4))
+                    .thenReturn(secondPage);
+            when(scoringService.rescoreResults(anyList(), eq(false))).thenAnswer(invocation -> {
+                List<UUID> chunk = invocation.getArgument(0);
+                return chunk.stream().map(ResultRescoreJobTest::unchanged).toList();
+            });
+            when(resultRepository.rerankPercentilesByTemplateId(templateId)).thenReturn(3);
+
+            // When
+            assertThat(job.start(templateId, false)).isPresent();
+
+            // Then
+            RescoreStatus status = job.status();
+            assertThat(status.state()).isEqualTo(RescoreStatus.State.COMPLETED);
+            assertThat(status.resultsProcessed()).isEqualTo(5);
+            assertThat(status.resultsChanged()).isZero();
+            assertThat(status.percentilesUpdated()).isEqualTo(3);
+            assertThat(status.finishedAt()).isNotNull();
+            verify(scoringService).rescoreResults(firstPage.subList(0, 2), false);
+            verify(scoringService).rescoreResults(firstPage.subList(2, 4), false);
+            verify(scoringService).rescoreResults(secondPage, false);
+            verify(resultRepository, times(1)).rerankPercentilesByTemplateId(templateId);
+            verify(scoreIndex).invalidate(templateId);
+            verify(eventPublisher).publishEvent(argThat((ResultsRescoredEvent event) ->
+                    event.templateId().equals(templateId) && event.resultsProcessed() == 5));
+        }
+
+        @Test
+        @DisplayName("Should report the largest changes of a dry run without re-ranking")
+        void shouldReportDryRunChanges() {
+            // Given
+            List<UUID> page = ids(3);
+            when(resultRepository.findCompletedResultIdsByTemplateIdAfter(templateId, FIRST_RESULT_ID, 4))
+                    .thenReturn(page);
+            when(scoringService.rescoreResults(page.subList(0, 2), true)).thenReturn(List.of(
+                    changed(page.get(0), 68.0, 72.0), unchanged(page.get(1))));
+            when(scoringService.rescoreResults(page.subList(2, 3), true)).thenReturn(List.of(
+                    changed(page.get(2), 50.0, 58.5)));
+
+            // When
+            job.start(templateId, true);
+
+            // Then
+            RescoreStatus status = job.status();
+            assertThat(status.state()).isEqualTo(RescoreStatus.State.COMPLETED);
+            assertThat(status.dryRun()).isTrue();
+            assertThat(status.resultsProcessed()).isEqualTo(3);
+            assertThat(status.resultsChanged()).isEqualTo(2);
+            assertThat(status.passFlips()).isEqualTo(1);
+            assertThat(status.maxDelta()).isEqualTo(8.5);
+            assertThat(status.largestChanges()).extracting(ScoreChange::resultId)
+                    .containsExactly(page.get(2), page.get(0));
+            assertThat(resultCount("changed")).isEqualTo(2.0);
+            assertThat(resultCount("unchanged")).isEqualTo(1.0);
+            verify(resultRepository, never()).rerankPercentilesByTemplateId(any());
+            verifyNoInteractions(scoreIndex, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should count a failed chunk and omitted results as failed and keep going")
+        void shouldCountFailedResults() {
+            // Given
+            List<UUID> page = ids(3);
+            when(resultRepository.findCompletedResultIdsByTemplateIdAfter(templateId, FIRST_RESULT_ID, 4))
+                    .thenReturn(page);
+            when(scoringService.rescoreResults(page.subList(0, 2), false))
+                    .thenThrow(new IllegalStateException("deadlock"));
+            when(scoringService.rescoreResults(page.subList(2, 3), false)).thenReturn(List.of());
+
+            // When
+            job.start(templateId, false);
+
+            // Then
+            RescoreStatus status = job.status();
+            assertThat(status.state()).isEqualTo(RescoreStatus.State.COMPLETED);
+            assertThat(status.resultsProcessed()).isEqualTo(3);
+            assertThat(status.resultsFailed()).isEqualTo(3);
+            assertThat(resultCount("failed")).isEqualTo(3.0);
+            verify(resultRepository).rerankPercentilesByTemplateId(templateId);
+        }
+
+        @Test
+        @DisplayName("Should report a failed run and allow the next one")
+        void shouldReportFailure() {
+            // Given
+            when(resultRepository.findCompletedResultIdsByTemplateIdAfter(templateId, FIRST_RESULT_ID, 4))
+                    .thenThrow(new IllegalStateException("database down"))
+                    .thenReturn(List.of());
+
+            // When
+            job.start(templateId, false);
+
+            // Then
+            assertThat(job.status().state()).isEqualTo(RescoreStatus.State.FAILED);
+            assertThat(job.status().error()).isEqualTo("database down");
+            assertThat(job.start(templateId, false)).isPresent();
+            assertThat(job.status().state()).isEqualTo(RescoreStatus.State.COMPLETED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should not start a second run while one is in progress")
+        void shouldRejectConcurrentRun() {
+            // Coordinator that never runs the task, leaving the run in progress
+            job = new ResultRescoreJob(resultRepository, scoringService, scoreIndex, eventPublisher, meterRegistry,
+                    task -> { }, new SyncTaskExecutor(), PARALLELISM, CHUNK_SIZE, SAMPLE_SIZE);
+
+            assertThat(job.start(templateId, true)).isPresent();
+            assertThat(job.status().isRunning()).isTrue();
+            assertThat(job.start(UUID.randomUUID(), false)).isEmpty();
+            verifyNoInteractions(resultRepository, scoringService);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
+import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
+import app.skillsoft.assessmentbackend.domain.entities.ResultStatus;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJob;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus;
+import app.skillsoft.assessmentbackend.events.resilience.ResilienceFallbackEvent;
+import app.skillsoft.assessmentbackend.events.resilience.ResilienceFallbackEvent.FallbackReason;
+import app.skillsoft.assessmentbackend.events.resilience.ResilienceRetryEvent;
+import app.skillsoft.assessmentbackend.repository.ScoringJobRepository;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.TestResultService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScoringJobQueue.
+ *
+ * Tests cover:
+ * - Idempotent enqueue
+ * - Exponential retry backoff with cap
+ * - Giving up after max attempts, marking the PENDING result FAILED
+ * - Retry and fallback events for the resilience metrics
+ * - Releasing jobs that could not be started
+ * - Status of sessions scored before jobs existed
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoringJobQueue Tests")
+class ScoringJobQueueTest {
+
+    @Mock
+    private ScoringJobRepository jobRepository;
+
+    @Mock
+    private TestResultRepository resultRepository;
+
+    @Mock
+    private TestResultService resultService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ScoringJobQueue queue;
+
+    private UUID sessionId;
+    private ScoringJob job;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ScoringJobQueue(jobRepository, resultRepository, resultService, eventPublisher, 3, 10, 60);
+        sessionId = UUID.randomUUID();
+
+        job = new ScoringJob();
+        job.setId(UUID.randomUUID());
+        job.setSessionId(sessionId);
+        job.setStatus(ScoringJobStatus.RUNNING);
+        job.setCreatedAt(LocalDateTime.now());
+    }
+
+    private TestResultDto completedResult() {
+        return new TestResultDto(UUID.randomUUID(), sessionId, UUID.randomUUID(), "Template", null,
+                80.0, 80.0, 50, true, List.of(), 600, 10, 0, 10, LocalDateTime.now());
+    }
+
+    @Nested
+    @DisplayName("Enqueue Tests")
+    class EnqueueTests {
+
+        @Test
+        @DisplayName("Should return the active job when the session is already queued")
+        void shouldReturnExistingActiveJob() {
+            job.setStatus(ScoringJobStatus.QUEUED);
+            when(jobRepository.insertIfNoActiveJob(any(), eq(sessionId), any())).thenReturn(0);
+            when(jobRepository.findFirstBySessionIdOrderByCreatedAtDesc(sessionId)).thenReturn(Optional.of(job));
+
+            ScoringJobDto handle = queue.enqueue(sessionId);
+
+            assertThat(handle.jobId()).isEqualTo(job.getId());
+            assertThat(handle.status()).isEqualTo(ScoringJobStatus.QUEUED);
+            assertThat(handle.result()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should double the backoff per attempt up to the maximum")
+        void shouldBackOffExponentially() {
+            assertThat(queue.backoffSeconds(1)).isEqualTo(10);
+            assertThat(queue.backoffSeconds(2)).isEqualTo(20);
+            assertThat(queue.backoffSeconds(3)).isEqualTo(40);
+            assertThat(queue.backoffSeconds(4)).isEqualTo(60);
+            assertThat(queue.backoffSeconds(100)).isEqualTo(60);
+        }
+
+        @Test
+        @DisplayName("Should re-queue with backoff before max attempts")
+        void shouldRequeueFailedAttempt() {
+            job.setAttempts(1);
+            when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+            when(jobRepository.save(job)).thenReturn(job);
+
+            ScoringJobDto status = queue.markFailed(job.getId(), new IllegalStateException("timeout"));
+
+            assertThat(status.status()).isEqualTo(ScoringJobStatus.QUEUED);
+            assertThat(status.error()).isEqualTo("timeout");
+            assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(5));
+            verifyNoInteractions(resultRepository);
+
+            ArgumentCaptor<ResilienceRetryEvent> event = ArgumentCaptor.forClass(ResilienceRetryEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().sessionId()).isEqualTo(sessionId);
+            assertThat(event.getValue().attemptNumber()).isEqualTo(1);
+            assertThat(event.getValue().maxAttempts()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should fail the job and its PENDING result after max attempts")
+        void shouldFailAfterMaxAttempts() {
+            job.setAttempts(3);
+            when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+            when(jobRepository.save(job)).thenReturn(job);
+
+            ScoringJobDto status = queue.markFailed(job.getId(), new IllegalStateException("timeout"));
+
+            assertThat(status.status()).isEqualTo(ScoringJobStatus.FAILED);
+            assertThat(status.isFinished()).isTrue();
+            verify(resultRepository).updateStatusIfCurrent(sessionId, ResultStatus.PENDING, ResultStatus.FAILED);
+
+            ArgumentCaptor<ResilienceFallbackEvent> event = ArgumentCaptor.forClass(ResilienceFallbackEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().sessionId()).isEqualTo(sessionId);
+            assertThat(event.getValue().reason()).isEqualTo(FallbackReason.RETRY_EXHAUSTED);
+            assertThat(event.getValue().totalAttempts()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should release a job that never started without counting the attempt")
+        void shouldReleaseUnstartedJob() {
+            job.setAttempts(2);
+            when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+            when(jobRepository.save(job)).thenReturn(job);
+
+            ScoringJobDto status = queue.release(job.getId());
+
+            assertThat(status.status()).isEqualTo(ScoringJobStatus.QUEUED);
+            assertThat(job.getAttempts()).isEqualTo(1);
+            assertThat(job.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+        }
+    }
+
+    @Nested
+    @DisplayName("Completion Tests")
+    class CompletionTests {
+
+        @Test
+        @DisplayName("Should complete the job with the scored result")
+        void shouldCompleteJob() {
+            TestResultDto result = completedResult();
+            when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+            when(jobRepository.save(job)).thenReturn(job);
+
+            ScoringJobDto status = queue.markCompleted(job.getId(), result);
+
+            assertThat(status.status()).isEqualTo(ScoringJobStatus.COMPLETED);
+            assertThat(status.result()).isEqualTo(result);
+            assertThat(job.getResultId()).isEqualTo(result.id());
+        }
+    }
+
+    @Nested
+    @DisplayName("Status Tests")
+    class StatusTests {
+
+        @Test
+        @DisplayName("Should report sessions scored before jobs existed as COMPLETED")
+        void shouldReportLegacyScoredSession() {
+            TestResultDto result = completedResult();
+            when(jobRepository.findFirstBySessionIdOrderByCreatedAtDesc(sessionId)).thenReturn(Optional.empty());
+            when(resultService.findBySessionId(sessionId)).thenReturn(Optional.of(result));
+
+            Optional<ScoringJobDto> status = queue.findStatus(sessionId);
+
+            assertThat(status).isPresent();
+            assertThat(status.get().jobId()).isNull();
+            assertThat(status.get().status()).isEqualTo(ScoringJobStatus.COMPLETED);
+            assertThat(status.get().result()).isEqualTo(result);
+        }
+
+        @Test
+        @DisplayName("Should not load the result while the job is running")
+        void shouldNotLoadResultWhileRunning() {
+            when(jobRepository.findFirstBySessionIdOrderByCreatedAtDesc(sessionId)).thenReturn(Optional.of(job));
+
+            Optional<ScoringJobDto> status = queue.findStatus(sessionId);
+
+            assertThat(status).isPresent();
+            assertThat(status.get().status()).isEqualTo(ScoringJobStatus.RUNNING);
+            verifyNoInteractions(resultService);
+        }
+    }
+}
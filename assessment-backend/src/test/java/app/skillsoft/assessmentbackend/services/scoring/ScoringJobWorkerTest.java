@@ -0,0 +1,197 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.dto.ScoringJobDto;
+import app.skillsoft.assessmentbackend.domain.dto.TestResultDto;
+import app.skillsoft.assessmentbackend.domain.entities.ResultStatus;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJob;
+import app.skillsoft.assessmentbackend.domain.entities.ScoringJobStatus;
+import app.skillsoft.assessmentbackend.domain.entities.SessionStatus;
+import app.skillsoft.assessmentbackend.domain.entities.TestSession;
+import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
+import app.skillsoft.assessmentbackend.services.ActivityTrackingService;
+import app.skillsoft.assessmentbackend.services.ScoringOrchestrationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScoringJobWorker.
+ *
+ * Tests cover:
+ * - Claiming no more jobs than there are scoring threads
+ * - Completing a job, recording activity and notifying subscribers
+ * - Counting PENDING results and exceptions as failed attempts
+ * - Releasing jobs the executor rejects
+ * - Recovery of stale jobs and PENDING results
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoringJobWorker Tests")
+class ScoringJobWorkerTest {
+
+    private static final int WORKER_THREADS = 2;
+
+    @Mock
+    private ScoringJobQueue jobQueue;
+
+    @Mock
+    private ScoringOrchestrationService scoringOrchestrationService;
+
+    @Mock
+    private ScoringJobNotifier notifier;
+
+    @Mock
+    private TestSessionRepository sessionRepository;
+
+    @Mock
+    private ActivityTrackingService activityTrackingService;
+
+    private ScoringJobWorker worker;
+
+    private UUID sessionId;
+    private ScoringJob job;
+
+    @BeforeEach
+    void setUp() {
+        // Jobs run on the calling thread
+        worker = new ScoringJobWorker(jobQueue, scoringOrchestrationService, notifier,
+                sessionRepository, activityTrackingService, new SyncTaskExecutor(), WORKER_THREADS, 300, 100);
+        sessionId = UUID.randomUUID();
+
+        job = new ScoringJob();
+        job.setId(UUID.randomUUID());
+        job.setSessionId(sessionId);
+        job.setStatus(ScoringJobStatus.RUNNING);
+        job.setAttempts(1);
+        job.setCreatedAt(LocalDateTime.now());
+    }
+
+    private TestResultDto result(ResultStatus status) {
+        return new TestResultDto(UUID.randomUUID(), sessionId, UUID.randomUUID(), "Template", "user_1",
+                80.0, 80.0, 50, true, List.of(), 600, 10, 0, 10, LocalDateTime.now(), status, null, null);
+    }
+
+    private ScoringJobDto status(ScoringJobStatus status, TestResultDto result) {
+        return new ScoringJobDto(job.getId(), sessionId, status, job.getAttempts(),
+                job.getCreatedAt(), null, null, result);
+    }
+
+    @Nested
+    @DisplayName("Dispatch Tests")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("Should claim at most one job per scoring thread")
+        void shouldClaimUpToThreadCount() {
+            when(jobQueue.claim(WORKER_THREADS)).thenReturn(List.of());
+
+            assertThat(worker.dispatchJobs()).isZero();
+            verify(jobQueue).claim(WORKER_THREADS);
+        }
+
+        @Test
+        @DisplayName("Should complete job, record activity and notify subscribers")
+        void shouldCompleteJob() {
+            TestResultDto scored = result(ResultStatus.COMPLETED);
+            ScoringJobDto completed = status(ScoringJobStatus.COMPLETED, scored);
+            TestSession session = new TestSession();
+            session.setClerkUserId("user_1");
+            session.setStatus(SessionStatus.COMPLETED);
+            when(jobQueue.claim(WORKER_THREADS)).thenReturn(List.of(job));
+            when(scoringOrchestrationService.calculateAndSaveResult(sessionId)).thenReturn(scored);
+            when(jobQueue.markCompleted(job.getId(), scored)).thenReturn(completed);
+            when(sessionRepository.findByIdWithTemplate(sessionId)).thenReturn(Optional.of(session));
+
+            assertThat(worker.dispatchJobs()).isEqualTo(1);
+
+            verify(activityTrackingService).recordSessionCompleted(session, 80.0, true);
+            verify(notifier).publish(completed);
+            verify(jobQueue, never()).markFailed(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should release a rejected job and free its thread slot")
+        void shouldReleaseRejectedJob() {
+            // Given - an executor that is shutting down
+            worker = new ScoringJobWorker(jobQueue, scoringOrchestrationService, notifier,
+                    sessionRepository, activityTrackingService,
+                    task -> { throw new TaskRejectedException("executor shut down"); },
+                    WORKER_THREADS, 300, 100);
+            ScoringJobDto released = status(ScoringJobStatus.QUEUED, null);
+            when(jobQueue.claim(WORKER_THREADS)).thenReturn(List.of(job));
+            when(jobQueue.release(job.getId())).thenReturn(released);
+
+            // When
+            assertThat(worker.dispatchJobs()).isZero();
+
+            // Then - the slot is free again for the next dispatch
+            verify(notifier).publish(released);
+            verifyNoInteractions(scoringOrchestrationService);
+            when(jobQueue.claim(WORKER_THREADS)).thenReturn(List.of());
+            worker.dispatchJobs();
+            verify(jobQueue, times(2)).claim(WORKER_THREADS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should count a PENDING result as a failed attempt")
+        void shouldFailAttemptOnPendingResult() {
+            ScoringJobDto requeued = status(ScoringJobStatus.QUEUED, null);
+            when(scoringOrchestrationService.calculateAndSaveResult(sessionId))
+                    .thenReturn(result(ResultStatus.PENDING));
+            when(jobQueue.markFailed(eq(job.getId()), any(IllegalStateException.class))).thenReturn(requeued);
+
+            worker.runJob(job);
+
+            verify(jobQueue, never()).markCompleted(any(), any());
+            verify(notifier).publish(requeued);
+            verifyNoInteractions(activityTrackingService);
+        }
+
+        @Test
+        @DisplayName("Should count an exception as a failed attempt")
+        void shouldFailAttemptOnException() {
+            ScoringJobDto failed = status(ScoringJobStatus.FAILED, null);
+            IllegalStateException error = new IllegalStateException("database down");
+            when(scoringOrchestrationService.calculateAndSaveResult(sessionId)).thenThrow(error);
+            when(jobQueue.markFailed(job.getId(), error)).thenReturn(failed);
+
+            worker.runJob(job);
+
+            verify(scoringOrchestrationService).recordScoringFailure(eq(sessionId), any(IllegalStateException.class));
+            verify(notifier).publish(failed);
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Should re-queue stale jobs and queue PENDING results")
+        void shouldRecover() {
+            worker.recover();
+
+            verify(jobQueue).requeueStaleJobs(300);
+            verify(jobQueue).enqueueUnqueuedPendingResults(100);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentQuestion;
+import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+import app.skillsoft.assessmentbackend.domain.entities.TestAnswer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ScoringKernel.
+ *
+ * Tests cover:
+ * - Accumulation of answers over plan slots
+ * - Skipped, unanswered and out-of-plan answers
+ * - Equivalence of answer-based and tally-based scoring
+ * - Indicators without a competency
+ */
+@DisplayName("ScoringKernel Tests")
+class ScoringKernelTest {
+
+    private ScoringKernel kernel;
+    private ScoringPlan plan;
+
+    private final UUID leadershipId = UUID.randomUUID();
+    private final UUID communicationId = UUID.randomUUID();
+    private final UUID directionId = UUID.randomUUID();
+    private final UUID feedbackId = UUID.randomUUID();
+    private final UUID listeningId = UUID.randomUUID();
+    private final UUID orphanId = UUID.randomUUID();
+    private final UUID q1 = UUID.randomUUID();
+    private final UUID q2 = UUID.randomUUID();
+    private final UUID q3 = UUID.randomUUID();
+    private final UUID q4 = UUID.randomUUID();
+    private final UUID q5 = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        kernel = new ScoringKernel(new ScoreNormalizer());
+
+        ScoringPlan.Builder builder = ScoringPlan.builder(AssessmentGoal.OVERVIEW);
+        int leadership = builder.addCompetency(leadershipId, null, null, 1.0, 1.0);
+        int communication = builder.addCompetency(communicationId, null, null, 1.0, 1.0);
+        builder.addIndicator(directionId, "Sets direction", 1.0, leadership);
+        builder.addIndicator(listeningId, "Listens", 0.5, communication);
+        builder.addIndicator(feedbackId, "Gives feedback", 1.0, leadership);
+        builder.addIndicator(orphanId, "Orphan", 1.0, -1);
+        builder.addQuestion(q1, directionId, QuestionType.LIKERT);
+        builder.addQuestion(q2, directionId, QuestionType.LIKERT);
+        builder.addQuestion(q3, feedbackId, QuestionType.LIKERT);
+        builder.addQuestion(q4, listeningId, QuestionType.LIKERT);
+        builder.addQuestion(q5, orphanId, QuestionType.LIKERT);
+        plan = builder.build(true);
+    }
+
+    private TestAnswer answer(UUID questionId, int likertValue) {
+        AssessmentQuestion question = new AssessmentQuestion();
+        question.setId(questionId);
+
+        TestAnswer answer = new TestAnswer();
+        answer.setId(UUID.randomUUID());
+        answer.setQuestion(question);
+        answer.setLikertValue(likertValue);
+        answer.setIsSkipped(false);
+        answer.setAnsweredAt(LocalDateTime.now());
+        return answer;
+    }
+
+    @Test
+    @DisplayName("Should roll answers up through indicator and competency slots")
+    void shouldRollUpAnswers() {
+        // When
+        PlanScores scores = kernel.score(plan, List.of(
+                answer(q1, 5), answer(q2, 3), answer(q3, 1), answer(q4, 4)));
+
+        // Then
+        assertThat(scores.scoredCompetencies()).containsExactly(0, 1);
+        assertThat(scores.scoredIndicatorCount()).isEqualTo(3);
+        assertThat(scores.competencyScore(0)).isEqualTo(1.5);
+        assertThat(scores.competencyAnswers(0)).isEqualTo(3);
+        assertThat(scores.competencyPercentage(0)).isCloseTo(50.0, within(1e-9));
+
+        CompetencyScoreDto leadership = scores.toDto(0);
+        assertThat(leadership.getCompetencyId()).isEqualTo(leadershipId);
+        assertThat(leadership.getCompetencyName()).isEqualTo("Unknown Competency");
+        assertThat(leadership.getMaxScore()).isEqualTo(3.0);
+        assertThat(leadership.getIndicatorScores())
+                .extracting("indicatorId", "score", "questionsAnswered")
+                .containsExactly(tuple(directionId, 1.5, 2), tuple(feedbackId, 0.0, 1));
+
+        CompetencyScoreDto communication = scores.toDto(1);
+        assertThat(communication.getIndicatorScores()).singleElement()
+                .satisfies(indicator -> {
+                    assertThat(indicator.getWeight()).isEqualTo(0.5);
+                    assertThat(indicator.getPercentage()).isEqualTo(75.0);
+                });
+    }
+
+    @Test
+    @DisplayName("Should ignore skipped, unanswered and out-of-plan answers")
+    void shouldIgnoreUncountedAnswers() {
+        // Given
+        TestAnswer skipped = answer(q1, 5);
+        skipped.setIsSkipped(true);
+        TestAnswer unanswered = answer(q2, 5);
+        unanswered.setAnsweredAt(null);
+        TestAnswer outOfPlan = answer(UUID.randomUUID(), 5);
+
+        // When
+        PlanScores scores = kernel.score(plan, List.of(skipped, unanswered, outOfPlan, answer(q4, 5)));
+
+        // Then
+        assertThat(scores.scoredCompetencies()).containsExactly(1);
+        assertThat(scores.competencyScore(1)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not roll indicators without a competency up")
+    void shouldSkipIndicatorWithoutCompetency() {
+        PlanScores scores = kernel.score(plan, List.of(answer(q5, 5)));
+
+        assertThat(scores.scoredIndicatorCount()).isEqualTo(1);
+        assertThat(scores.scoredCompetencies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should produce the same totals from tallies as from answers")
+    void shouldMatchTallies() {
+        // Given
+        PlanScores fromAnswers = kernel.score(plan, List.of(answer(q1, 5), answer(q2, 3), answer(q4, 4)));
+
+        // When
+        PlanScores fromTallies = kernel.score(plan, List.of(
+                new IndicatorTally(directionId, 1.5, 2),
+                new IndicatorTally(listeningId, 0.75, 1),
+                IndicatorTally.empty(feedbackId),
+                new IndicatorTally(UUID.randomUUID(), 1.0, 1)));
+
+        // Then
+        assertThat(fromTallies.scoredCompetencies()).containsExactly(fromAnswers.scoredCompetencies());
+        for (int competency : fromAnswers.scoredCompetencies()) {
+            assertThat(fromTallies.competencyScore(competency)).isEqualTo(fromAnswers.competencyScore(competency));
+            assertThat(fromTallies.competencyAnswers(competency)).isEqualTo(fromAnswers.competencyAnswers(competency));
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.config.ScoringConfiguration;
+import app.skillsoft.assessmentbackend.domain.dto.StandardCodesDto;
+import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
+import app.skillsoft.assessmentbackend.events.competency.CompetencyChangedEvent;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScoringPlanCache.
+ *
+ * Tests cover:
+ * - Plan reuse across sessions of a template
+ * - Plan growth when a session answers questions not covered yet
+ * - Uncached plans (no template, missing competencies)
+ * - Invalidation on question pool and competency changes
+ * - Goal-specific competency weights
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoringPlanCache Tests")
+class ScoringPlanCacheTest {
+
+    @Mock
+    private AssessmentQuestionRepository questionRepository;
+
+    @Mock
+    private IndicatorBatchLoader indicatorBatchLoader;
+
+    @Mock
+    private CompetencyBatchLoader competencyBatchLoader;
+
+    private ScoringPlanCache planCache;
+    private TestTemplate template;
+
+    private final Map<UUID, AssessmentQuestion> questions = new HashMap<>();
+    private final Map<UUID, BehavioralIndicator> indicators = new HashMap<>();
+    private final Map<UUID, Competency> competencies = new HashMap<>();
+
+    private Competency competency;
+    private BehavioralIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        planCache = new ScoringPlanCache(questionRepository, indicatorBatchLoader, competencyBatchLoader,
+                new ScoringConfiguration(), 100);
+
+        template = new TestTemplate();
+        template.setId(UUID.randomUUID());
+
+        competency = competency(StandardCodesDto.builder()
+                .onetRef("2.B.1.a", "Leadership", "skill")
+                .escoRef("http://data.europa.eu/esco/skill/abc", "lead", "skill")
+                .bigFive("EXTRAVERSION")
+                .build());
+        indicator = indicator(competency);
+    }
+
+    private Competency competency(StandardCodesDto standardCodes) {
+        Competency created = new Competency();
+        created.setId(UUID.randomUUID());
+        created.setName("Leadership");
+        created.setStandardCodes(standardCodes);
+        competencies.put(created.getId(), created);
+        return created;
+    }
+
+    private BehavioralIndicator indicator(Competency owner) {
+        BehavioralIndicator created = new BehavioralIndicator();
+        created.setId(UUID.randomUUID());
+        created.setCompetency(owner);
+        created.setTitle("Sets direction");
+        created.setWeight(0.8f);
+        indicators.put(created.getId(), created);
+        return created;
+    }
+
+    private TestAnswer answer(BehavioralIndicator answeredIndicator) {
+        AssessmentQuestion question = new AssessmentQuestion();
+        question.setId(UUID.randomUUID());
+        question.setBehavioralIndicator(answeredIndicator);
+        question.setQuestionType(QuestionType.LIKERT);
+        questions.put(question.getId(), question);
+
+        TestAnswer answer = new TestAnswer();
+        answer.setId(UUID.randomUUID());
+        answer.setQuestion(question);
+        answer.setLikertValue(4);
+        answer.setIsSkipped(false);
+        answer.setAnsweredAt(LocalDateTime.now());
+        return answer;
+    }
+
+    private void stubLoaders() {
+        when(questionRepository.findScoringEntriesByIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<UUID> questionIds = invocation.getArgument(0);
+                    List<Object[]> rows = new ArrayList<>();
+                    for (UUID questionId : questionIds) {
+                        AssessmentQuestion question = questions.get(questionId);
+                        if (question != null) {
+                            rows.add(new Object[]{question.getId(),
+                                    question.getBehavioralIndicator().getId(), question.getQuestionType()});
+                        }
+                    }
+                    return rows;
+                });
+        when(indicatorBatchLoader.loadIndicators(anySet()))
+                .thenAnswer(invocation -> filter(indicators, invocation.getArgument(0)));
+        when(competencyBatchLoader.loadCompetencies(anySet()))
+                .thenAnswer(invocation -> filter(competencies, invocation.getArgument(0)));
+    }
+
+    private static <T> Map<UUID, T> filter(Map<UUID, T> source, Set<UUID> ids) {
+        Map<UUID, T> result = new HashMap<>();
+        for (UUID id : ids) {
+            if (source.containsKey(id)) {
+                result.put(id, source.get(id));
+            }
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Caching Tests")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should compile a template's plan once and reuse it for covered sessions")
+        void shouldReusePlanForCoveredSessions() {
+            // Given
+            stubLoaders();
+            TestAnswer answer = answer(indicator);
+
+            // When
+            ScoringPlan first = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+            ScoringPlan second = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+            ScoringPlan fromTallies = planCache.planForTallies(template, AssessmentGoal.OVERVIEW,
+                    List.of(new IndicatorTally(indicator.getId(), 0.75, 1)));
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(fromTallies).isSameAs(first);
+            assertThat(planCache.size()).isEqualTo(1);
+            verify(questionRepository, times(1)).findScoringEntriesByIds(anyCollection());
+            verify(indicatorBatchLoader, times(1)).loadIndicators(anySet());
+        }
+
+        @Test
+        @DisplayName("Should recompile over the union when a session answers uncovered questions")
+        void shouldGrowPlanToUnion() {
+            // Given
+            stubLoaders();
+            TestAnswer first = answer(indicator);
+            TestAnswer second = answer(indicator(competency));
+            planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(first));
+
+            // When
+            ScoringPlan grown = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(second));
+            ScoringPlan reused = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(first));
+
+            // Then
+            assertThat(grown.questionIds()).containsExactlyInAnyOrder(first.getQuestionId(), second.getQuestionId());
+            assertThat(grown.indicatorCount()).isEqualTo(2);
+            assertThat(grown.competencyCount()).isEqualTo(1);
+            assertThat(reused).isSameAs(grown);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<UUID>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(questionRepository, times(2)).findScoringEntriesByIds(captor.capture());
+            assertThat(captor.getAllValues().get(1))
+                    .containsExactlyInAnyOrder(first.getQuestionId(), second.getQuestionId());
+        }
+
+        @Test
+        @DisplayName("Should keep plans of different goals apart")
+        void shouldKeyPlansByGoal() {
+            // Given
+            stubLoaders();
+            TestAnswer answer = answer(indicator);
+
+            // When
+            ScoringPlan overview = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+            ScoringPlan jobFit = planCache.planForAnswers(template, AssessmentGoal.JOB_FIT, List.of(answer));
+
+            // Then
+            assertThat(jobFit).isNotSameAs(overview);
+            assertThat(jobFit.getGoal()).isEqualTo(AssessmentGoal.JOB_FIT);
+            assertThat(planCache.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should not cache plans of sessions without a template")
+        void shouldNotCacheWithoutTemplate() {
+            // Given
+            stubLoaders();
+            TestAnswer answer = answer(indicator);
+
+            // When
+            planCache.planForAnswers(null, AssessmentGoal.OVERVIEW, List.of(answer));
+            planCache.planForAnswers(null, AssessmentGoal.OVERVIEW, List.of(answer));
+
+            // Then
+            assertThat(planCache.size()).isZero();
+            verify(questionRepository, times(2)).findScoringEntriesByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should score a missing competency as unknown without caching the plan")
+        void shouldNotCacheIncompletePlan() {
+            // Given
+            stubLoaders();
+            TestAnswer answer = answer(indicator);
+            competencies.clear();
+
+            // When
+            ScoringPlan plan = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+
+            // Then
+            assertThat(plan.isComplete()).isFalse();
+            assertThat(plan.competencyName(0)).isEqualTo("Unknown Competency");
+            assertThat(plan.onetCode(0)).isNull();
+            assertThat(plan.traitCategory(0)).isEqualTo("BIG_FIVE_EXTRAVERSION");
+            assertThat(planCache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not query anything for sessions without counted answers")
+        void shouldNotQueryForEmptySession() {
+            // Given
+            TestAnswer skipped = answer(indicator);
+            skipped.setIsSkipped(true);
+
+            // When
+            ScoringPlan plan = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(skipped));
+
+            // Then
+            assertThat(plan.indicatorCount()).isZero();
+            verifyNoInteractions(questionRepository, indicatorBatchLoader, competencyBatchLoader);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should drop plans when the question pool changes")
+        void shouldInvalidateOnQuestionPoolChange() {
+            // Given
+            stubLoaders();
+            TestAnswer answer = answer(indicator);
+            ScoringPlan before = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+
+            // When
+            planCache.onQuestionPoolChanged(QuestionPoolChangedEvent.fullRebuild("indicator updated"));
+            ScoringPlan after = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+
+            // Then
+            assertThat(after).isNotSameAs(before);
+            verify(questionRepository, times(2)).findScoringEntriesByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should pick up competency edits after a competency change")
+        void shouldInvalidateOnCompetencyChange() {
+            // Given
+            stubLoaders();
+            TestAnswer answer = answer(indicator);
+            planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+            competency.setName("People Leadership");
+
+            // When
+            planCache.onCompetencyChanged(CompetencyChangedEvent.updated(competency.getId()));
+            ScoringPlan after = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer));
+
+            // Then
+            assertThat(after.competencyName(0)).isEqualTo("People Leadership");
+        }
+    }
+
+    @Nested
+    @DisplayName("Goal Weight Tests")
+    class GoalWeightTests {
+
+        @Test
+        @DisplayName("Should weight every competency equally for OVERVIEW")
+        void shouldUseEqualWeightsForOverview() {
+            stubLoaders();
+
+            ScoringPlan plan = planCache.planForAnswers(template, AssessmentGoal.OVERVIEW, List.of(answer(indicator)));
+
+            assertThat(plan.competencyWeight(0)).isEqualTo(1.0);
+            assertThat(plan.normalizationWeight(0)).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should apply the O*NET boost for JOB_FIT")
+        void shouldApplyOnetBoostForJobFit() {
+            stubLoaders();
+
+            ScoringPlan plan = planCache.planForAnswers(template, AssessmentGoal.JOB_FIT, List.of(answer(indicator)));
+
+            assertThat(plan.competencyWeight(0)).isEqualTo(1.2);
+            assertThat(plan.normalizationWeight(0)).isEqualTo(1.2);
+        }
+
+        @Test
+        @DisplayName("Should apply the ESCO and Big Five boosts for TEAM_FIT")
+        void shouldApplyEscoAndBigFiveBoostsForTeamFit() {
+            // Given - a second competency without standard codes
+            stubLoaders();
+            BehavioralIndicator basicIndicator = indicator(competency(null));
+
+            // When
+            ScoringPlan plan = planCache.planForAnswers(template, AssessmentGoal.TEAM_FIT,
+                    List.of(answer(indicator), answer(basicIndicator)));
+
+            // Then
+            int mapped = plan.competencyOfIndicator(plan.indicatorSlot(indicator.getId()));
+            int basic = plan.competencyOfIndicator(plan.indicatorSlot(basicIndicator.getId()));
+            assertThat(plan.competencyWeight(mapped)).isCloseTo(1.15 * 1.1, within(1e-9));
+            assertThat(plan.normalizationWeight(mapped)).isEqualTo(1.15);
+            assertThat(plan.competencyWeight(basic)).isEqualTo(1.0);
+            assertThat(plan.normalizationWeight(basic)).isEqualTo(1.0);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+import app.skillsoft.assessmentbackend.domain.entities.SessionScoreAggregate;
+import app.skillsoft.assessmentbackend.domain.entities.TestAnswer;
+import app.skillsoft.assessmentbackend.repository.SessionScoreAggregateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SessionScoreAggregator.
+ *
+ * Tests cover:
+ * - Tally of answered, skipped and unanswered answers
+ * - Delta writes when an answer is created, changed or skipped
+ * - One aggregate write per indicator for batch submissions
+ * - Loading running totals for completion scoring
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionScoreAggregator Tests")
+class SessionScoreAggregatorTest {
+
+    @Mock
+    private SessionScoreAggregateRepository aggregateRepository;
+
+    private SessionScoreAggregator aggregator;
+
+    private UUID sessionId;
+    private UUID indicatorId;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new SessionScoreAggregator(new ScoreNormalizer(), aggregateRepository);
+        sessionId = UUID.randomUUID();
+        indicatorId = UUID.randomUUID();
+    }
+
+    private TestAnswer likertAnswer(int value) {
+        TestAnswer answer = new TestAnswer();
+        answer.setLikertValue(value);
+        answer.setIsSkipped(false);
+        answer.setAnsweredAt(LocalDateTime.now());
+        return answer;
+    }
+
+    @Nested
+    @DisplayName("Tally Tests")
+    class TallyTests {
+
+        @Test
+        @DisplayName("Should count answered question with normalized score")
+        void shouldTallyAnsweredQuestion() {
+            IndicatorTally tally = aggregator.tallyOf(likertAnswer(4), indicatorId, QuestionType.LIKERT);
+
+            assertThat(tally.indicatorId()).isEqualTo(indicatorId);
+            assertThat(tally.scoreSum()).isEqualTo(0.75);
+            assertThat(tally.answerCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not count skipped answer")
+        void shouldNotCountSkippedAnswer() {
+            TestAnswer answer = likertAnswer(4);
+            answer.skip();
+
+            IndicatorTally tally = aggregator.tallyOf(answer, indicatorId, QuestionType.LIKERT);
+
+            assertThat(tally.scoreSum()).isZero();
+            assertThat(tally.answerCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not count answer without answer time")
+        void shouldNotCountUnansweredAnswer() {
+            TestAnswer answer = likertAnswer(4);
+            answer.setAnsweredAt(null);
+
+            assertThat(aggregator.tallyOf(answer, indicatorId, QuestionType.LIKERT).answerCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Record Tests")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Should add full tally for a new answer")
+        void shouldAddNewAnswer() {
+            aggregator.record(sessionId, null, IndicatorTally.ofAnswer(indicatorId, 0.5));
+
+            verify(aggregateRepository).addToAggregate(sessionId, indicatorId, 0.5, 1);
+        }
+
+        @Test
+        @DisplayName("Should add only the score difference for a changed answer")
+        void shouldAddScoreDifferenceForChangedAnswer() {
+            aggregator.record(sessionId,
+                    IndicatorTally.ofAnswer(indicatorId, 0.25),
+                    IndicatorTally.ofAnswer(indicatorId, 1.0));
+
+            verify(aggregateRepository).addToAggregate(sessionId, indicatorId, 0.75, 0);
+        }
+
+        @Test
+        @DisplayName("Should remove the answer from the totals when it is skipped")
+        void shouldRemoveSkippedAnswer() {
+            aggregator.record(sessionId,
+                    IndicatorTally.ofAnswer(indicatorId, 0.5),
+                    IndicatorTally.empty(indicatorId));
+
+            verify(aggregateRepository).addToAggregate(sessionId, indicatorId, -0.5, -1);
+        }
+
+        @Test
+        @DisplayName("Should not write when the answer is resubmitted unchanged")
+        void shouldNotWriteUnchangedAnswer() {
+            aggregator.record(sessionId,
+                    IndicatorTally.ofAnswer(indicatorId, 0.5),
+                    IndicatorTally.ofAnswer(indicatorId, 0.5));
+
+            verifyNoInteractions(aggregateRepository);
+        }
+
+        @Test
+        @DisplayName("Should write once per indicator for a batch")
+        void shouldWriteOncePerIndicator() {
+            UUID otherIndicatorId = UUID.randomUUID();
+
+            aggregator.record(sessionId,
+                    List.of(IndicatorTally.ofAnswer(indicatorId, 0.5)),
+                    List.of(
+                            IndicatorTally.ofAnswer(indicatorId, 1.0),
+                            IndicatorTally.ofAnswer(indicatorId, 0.25),
+                            IndicatorTally.ofAnswer(otherIndicatorId, 0.75)));
+
+            verify(aggregateRepository).addToAggregate(sessionId, indicatorId, 0.75, 1);
+            verify(aggregateRepository).addToAggregate(sessionId, otherIndicatorId, 0.75, 1);
+            verifyNoMoreInteractions(aggregateRepository);
+        }
+
+        @Test
+        @DisplayName("Should ignore answers without indicator")
+        void shouldIgnoreAnswersWithoutIndicator() {
+            aggregator.record(sessionId, null, IndicatorTally.ofAnswer(null, 1.0));
+
+            verify(aggregateRepository, never()).addToAggregate(any(), any(), anyDouble(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Tests")
+    class LoadTests {
+
+        @Test
+        @DisplayName("Should load tallies and drop indicators without counted answers")
+        void shouldLoadTallies() {
+            UUID emptyIndicatorId = UUID.randomUUID();
+            when(aggregateRepository.findBySession_Id(sessionId)).thenReturn(List.of(
+                    new SessionScoreAggregate(null, indicatorId, 1.75, 3),
+                    new SessionScoreAggregate(null, emptyIndicatorId, 0.0, 0)));
+
+            List<IndicatorTally> tallies = aggregator.load(sessionId);
+
+            assertThat(tallies).containsExactly(new IndicatorTally(indicatorId, 1.75, 3));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package app.skillsoft.assessmentbackend.services.scoring;
+
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentGoal;
+import app.skillsoft.assessmentbackend.events.scoring.ScoringCompletedEvent;
+import app.skillsoft.assessmentbackend.repository.TestResultRepository;
+import app.skillsoft.assessmentbackend.services.scoring.TemplateScoreIndex.ScoreRank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TemplateScoreIndex.
+ *
+ * Tests cover:
+ * - Lazy loading and ranking (strictly-below counts, ties, bounds)
+ * - Updates from ScoringCompletedEvent
+ * - Loads racing with committing results
+ * - Reconciliation with the database
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TemplateScoreIndex Tests")
+class TemplateScoreIndexTest {
+
+    @Mock
+    private TestResultRepository resultRepository;
+
+    private TemplateScoreIndex index;
+
+    private UUID templateId;
+
+    @BeforeEach
+    void setUp() {
+        index = new TemplateScoreIndex(resultRepository);
+        templateId = UUID.randomUUID();
+    }
+
+    private ScoringCompletedEvent event(UUID templateId, Double percentage) {
+        return new ScoringCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), templateId,
+                AssessmentGoal.OVERVIEW, 0.0, percentage, true, Duration.ZERO, Instant.now());
+    }
+
+    @Nested
+    @DisplayName("Rank Tests")
+    class RankTests {
+
+        @Test
+        @DisplayName("Should load a template once and count scores strictly below")
+        void shouldLoadOnceAndCountBelow() {
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId))
+                    .thenReturn(List.of(10.0, 55.5, 55.5, 72.25, 100.0));
+
+            assertThat(index.rank(templateId, 55.5)).isEqualTo(new ScoreRank(1, 5));
+            assertThat(index.rank(templateId, 72.26)).isEqualTo(new ScoreRank(4, 5));
+            assertThat(index.rank(templateId, 0.0)).isEqualTo(new ScoreRank(0, 5));
+            assertThat(index.rank(templateId, 100.0)).isEqualTo(new ScoreRank(4, 5));
+
+            verify(resultRepository, times(1)).findScoredPercentagesByTemplateId(templateId);
+        }
+
+        @Test
+        @DisplayName("Should clamp scores outside 0-100")
+        void shouldClampOutOfRangeScores() {
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId))
+                    .thenReturn(List.of(-5.0, 50.0, 120.0));
+
+            assertThat(index.rank(templateId, 0.01)).isEqualTo(new ScoreRank(1, 3));
+            assertThat(index.rank(templateId, 150.0)).isEqualTo(new ScoreRank(2, 3));
+        }
+
+        @Test
+        @DisplayName("Should report an empty distribution for a template without scored results")
+        void shouldHandleEmptyTemplate() {
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId)).thenReturn(List.of());
+
+            assertThat(index.rank(templateId, 50.0)).isEqualTo(new ScoreRank(0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should add scored results of loaded templates")
+        void shouldRecordScoreOfLoadedTemplate() {
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId)).thenReturn(List.of(40.0));
+            index.rank(templateId, 50.0);
+
+            index.onScoringCompleted(event(templateId, 45.0));
+
+            assertThat(index.rank(templateId, 50.0)).isEqualTo(new ScoreRank(2, 2));
+        }
+
+        @Test
+        @DisplayName("Should skip templates that are not loaded and events without a percentage")
+        void shouldSkipUnloadedTemplates() {
+            index.onScoringCompleted(event(templateId, 45.0));
+            index.onScoringCompleted(event(null, 45.0));
+            index.onScoringCompleted(event(templateId, null));
+
+            assertThat(index.loadedTemplateCount()).isZero();
+            verifyNoInteractions(resultRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent Load Tests")
+    class ConcurrentLoadTests {
+
+        @Test
+        @DisplayName("Should not hold a load taken while a result of the template commits")
+        void shouldNotHoldLoadDuringCommit() {
+            // Given - the result commits while the query runs and is part of its snapshot
+            ScoringCompletedEvent committing = event(templateId, 45.0);
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId))
+                    .thenAnswer(invocation -> {
+                        index.onScoringCommitting(committing);
+                        return List.of(40.0, 45.0);
+                    })
+                    .thenReturn(List.of(40.0, 45.0));
+
+            // When
+            ScoreRank first = index.rank(templateId, 50.0);
+            index.onScoringCompleted(committing);
+            index.onScoringTransactionCompleted(committing);
+
+            // Then - counted once, by the reload
+            assertThat(first).isEqualTo(new ScoreRank(2, 2));
+            assertThat(index.rank(templateId, 50.0)).isEqualTo(new ScoreRank(2, 2));
+            assertThat(index.rank(templateId, 50.0)).isEqualTo(new ScoreRank(2, 2));
+            verify(resultRepository, times(2)).findScoredPercentagesByTemplateId(templateId);
+        }
+
+        @Test
+        @DisplayName("Should not hold a load taken while a result of the template was recorded")
+        void shouldNotHoldLoadDuringRecord() {
+            // Given - the result is recorded while the query runs but missing from its snapshot
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId))
+                    .thenAnswer(invocation -> {
+                        index.onScoringCompleted(event(templateId, 45.0));
+                        return List.of(40.0);
+                    })
+                    .thenReturn(List.of(40.0, 45.0));
+
+            // When
+            index.rank(templateId, 50.0);
+
+            // Then
+            assertThat(index.rank(templateId, 50.0)).isEqualTo(new ScoreRank(2, 2));
+            verify(resultRepository, times(2)).findScoredPercentagesByTemplateId(templateId);
+        }
+
+        @Test
+        @DisplayName("Should hold loads again once the result's transaction completed")
+        void shouldHoldLoadAfterRollback() {
+            // Given
+            ScoringCompletedEvent rolledBack = event(templateId, 45.0);
+            index.onScoringCommitting(rolledBack);
+            index.onScoringTransactionCompleted(rolledBack);
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId)).thenReturn(List.of(40.0));
+
+            // When
+            index.rank(templateId, 50.0);
+            index.rank(templateId, 50.0);
+
+            // Then
+            assertThat(index.loadedTemplateCount()).isEqualTo(1);
+            verify(resultRepository, times(1)).findScoredPercentagesByTemplateId(templateId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliation Tests")
+    class ReconciliationTests {
+
+        @Test
+        @DisplayName("Should reload templates whose count drifted from the database")
+        void shouldReloadDriftedTemplate() {
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId))
+                    .thenReturn(List.of(40.0), List.of(40.0, 60.0, 80.0));
+            index.rank(templateId, 50.0);
+            when(resultRepository.countScoredResultsByTemplateId(templateId)).thenReturn(3L);
+
+            assertThat(index.reconcile()).isEqualTo(1);
+            assertThat(index.rank(templateId, 70.0)).isEqualTo(new ScoreRank(2, 3));
+        }
+
+        @Test
+        @DisplayName("Should keep templates that match the database")
+        void shouldKeepMatchingTemplate() {
+            when(resultRepository.findScoredPercentagesByTemplateId(templateId)).thenReturn(List.of(40.0));
+            index.rank(templateId, 50.0);
+            when(resultRepository.countScoredResultsByTemplateId(templateId)).thenReturn(1L);
+
+            assertThat(index.reconcile()).isZero();
+            verify(resultRepository, times(1)).findScoredPercentagesByTemplateId(templateId);
+        }
+    }
+}
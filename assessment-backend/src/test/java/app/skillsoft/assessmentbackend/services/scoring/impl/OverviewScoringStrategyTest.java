@@ -1,11 +1,16 @@
 package app.skillsoft.assessmentbackend.services.scoring.impl;
 
+import app.skillsoft.assessmentbackend.config.ScoringConfiguration;
 import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
 import app.skillsoft.assessmentbackend.domain.dto.StandardCodesDto;
 import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
 import app.skillsoft.assessmentbackend.services.scoring.CompetencyBatchLoader;
 import app.skillsoft.assessmentbackend.services.scoring.IndicatorBatchLoader;
+import app.skillsoft.assessmentbackend.services.scoring.IndicatorTally;
 import app.skillsoft.assessmentbackend.services.scoring.ScoreNormalizer;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringKernel;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlanCache;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,11 +41,15 @@ import static org.mockito.Mockito.*;
  * - Skipped/unanswered questions filtering
  * - Edge cases: single answer, all max scores, all min scores
  * - Overall percentage calculation
+ * - Rollup from incremental indicator tallies
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Overview Scoring Strategy Tests")
 class OverviewScoringStrategyTest {
 
+    @Mock
+    private AssessmentQuestionRepository questionRepository;
+
     @Mock
     private CompetencyBatchLoader competencyBatchLoader;
 
@@ -50,6 +59,9 @@ class OverviewScoringStrategyTest {
     private ScoreNormalizer scoreNormalizer;
     private OverviewScoringStrategy scoringStrategy;
 
+    private final Map<UUID, AssessmentQuestion> questions = new HashMap<>();
+    private final Map<UUID, BehavioralIndicator> indicators = new HashMap<>();
+
     private TestSession mockSession;
     private TestTemplate mockTemplate;
     private UUID competencyId1;
@@ -64,9 +76,9 @@ class OverviewScoringStrategyTest {
 
         // Create the strategy with all dependencies
         scoringStrategy = new OverviewScoringStrategy(
-                competencyBatchLoader,
-                indicatorBatchLoader,
-                scoreNormalizer
+                new ScoringPlanCache(questionRepository, indicatorBatchLoader, competencyBatchLoader,
+                        new ScoringConfiguration(), 100),
+                new ScoringKernel(scoreNormalizer)
         );
 
         // Set up UUIDs
@@ -117,6 +129,7 @@ class OverviewScoringStrategyTest {
         indicator.setWeight(1.0f);
         indicator.setActive(true);
         indicator.setApprovalStatus(ApprovalStatus.APPROVED);
+        indicators.put(id, indicator);
         return indicator;
     }
 
@@ -130,6 +143,7 @@ class OverviewScoringStrategyTest {
         question.setDifficultyLevel(DifficultyLevel.INTERMEDIATE);
         question.setActive(true);
         question.setOrderIndex(1);
+        questions.put(id, question);
         return question;
     }
 
@@ -147,103 +161,55 @@ class OverviewScoringStrategyTest {
     }
 
     /**
-     * Sets up the CompetencyBatchLoader, IndicatorBatchLoader mocks.
+     * Sets up the AssessmentQuestionRepository, IndicatorBatchLoader and CompetencyBatchLoader
+     * mocks behind the real ScoringPlanCache.
+     *
+     * The production code compiles a scoring plan per template:
+     * 1. questionRepository.findScoringEntriesByIds() - resolve question indicator and type
+     * 2. indicatorBatchLoader.loadIndicators() - batch load the plan's indicators
+     * 3. competencyBatchLoader.loadCompetencies() - batch load the indicators' competencies
      *
-     * The production code uses indicator-based aggregation:
-     * 1. indicatorBatchLoader.loadIndicatorsForAnswers() - batch load all indicators
-     * 2. indicatorBatchLoader.extractIndicatorIdSafe() - extract indicator ID from each answer
-     * 3. indicatorBatchLoader.getFromCache() - look up indicator in preloaded cache
-     * 4. competencyBatchLoader.loadCompetenciesForAnswers() - batch load all competencies
-     * 5. competencyBatchLoader.getFromCache() - look up competency in preloaded cache
+     * Questions and indicators are served from the ones created by the create* helpers.
      */
     private void setupBatchLoaderMock(Map<UUID, Competency> competencyMap) {
-        // --- CompetencyBatchLoader mocks (still used for competency-level rollup) ---
-        when(competencyBatchLoader.loadCompetenciesForAnswers(anyList()))
-            .thenReturn(competencyMap);
-
-        when(competencyBatchLoader.getFromCache(any(), any()))
-            .thenAnswer(invocation -> {
-                Map<UUID, Competency> cache = invocation.getArgument(0);
-                UUID competencyId = invocation.getArgument(1);
-                return cache != null ? cache.get(competencyId) : null;
-            });
-
-        // --- IndicatorBatchLoader mocks (used for indicator-based aggregation) ---
-        when(indicatorBatchLoader.loadIndicatorsForAnswers(anyList()))
+        when(questionRepository.findScoringEntriesByIds(anyCollection()))
             .thenAnswer(invocation -> {
-                List<TestAnswer> answers = invocation.getArgument(0);
-                Map<UUID, BehavioralIndicator> indicatorMap = new HashMap<>();
-                for (TestAnswer answer : answers) {
-                    if (answer != null && answer.getQuestion() != null
-                        && answer.getQuestion().getBehavioralIndicator() != null) {
-                        BehavioralIndicator ind = answer.getQuestion().getBehavioralIndicator();
-                        indicatorMap.put(ind.getId(), ind);
+                Collection<UUID> questionIds = invocation.getArgument(0);
+                List<Object[]> rows = new ArrayList<>();
+                for (UUID questionId : questionIds) {
+                    AssessmentQuestion question = questions.get(questionId);
+                    if (question != null) {
+                        BehavioralIndicator indicator = question.getBehavioralIndicator();
+                        rows.add(new Object[]{question.getId(),
+                                indicator != null ? indicator.getId() : null, question.getQuestionType()});
                     }
                 }
-                return indicatorMap;
+                return rows;
             });
 
-        when(indicatorBatchLoader.extractIndicatorIdSafe(any(TestAnswer.class)))
-            .thenAnswer(invocation -> {
-                TestAnswer answer = invocation.getArgument(0);
-                if (answer == null || answer.getQuestion() == null
-                    || answer.getQuestion().getBehavioralIndicator() == null) {
-                    return Optional.empty();
-                }
-                return Optional.of(answer.getQuestion().getBehavioralIndicator().getId());
-            });
+        when(indicatorBatchLoader.loadIndicators(anySet()))
+            .thenAnswer(invocation -> filter(indicators, invocation.getArgument(0)));
 
-        when(indicatorBatchLoader.getFromCache(any(), any()))
-            .thenAnswer(invocation -> {
-                Map<UUID, BehavioralIndicator> cache = invocation.getArgument(0);
-                UUID indicatorId = invocation.getArgument(1);
-                return cache != null ? cache.get(indicatorId) : null;
-            });
+        when(competencyBatchLoader.loadCompetencies(anySet()))
+            .thenAnswer(invocation -> filter(competencyMap, invocation.getArgument(0)));
     }
 
     /**
-     * Sets up the batch loader mock for tests where the competency is not found in the cache.
-     * Indicators still load correctly, but the competency cache is empty.
+     * Sets up the mocks for tests where the competency is not found.
+     * Indicators still load correctly, but no competency does.
      */
     private void setupBatchLoaderMockWithEmptyCache(UUID competencyId) {
-        // Competency cache is empty - simulates unknown/missing competency
-        when(competencyBatchLoader.loadCompetenciesForAnswers(anyList()))
-            .thenReturn(Map.of());
-
-        when(competencyBatchLoader.getFromCache(any(), any()))
-            .thenReturn(null);
-
-        // Indicator batch loader still works (indicators exist, but their competency is missing from competency cache)
-        when(indicatorBatchLoader.loadIndicatorsForAnswers(anyList()))
-            .thenAnswer(invocation -> {
-                List<TestAnswer> answers = invocation.getArgument(0);
-                Map<UUID, BehavioralIndicator> indicatorMap = new HashMap<>();
-                for (TestAnswer answer : answers) {
-                    if (answer != null && answer.getQuestion() != null
-                        && answer.getQuestion().getBehavioralIndicator() != null) {
-                        BehavioralIndicator ind = answer.getQuestion().getBehavioralIndicator();
-                        indicatorMap.put(ind.getId(), ind);
-                    }
-                }
-                return indicatorMap;
-            });
-
-        when(indicatorBatchLoader.extractIndicatorIdSafe(any(TestAnswer.class)))
-            .thenAnswer(invocation -> {
-                TestAnswer answer = invocation.getArgument(0);
-                if (answer == null || answer.getQuestion() == null
-                    || answer.getQuestion().getBehavioralIndicator() == null) {
-                    return Optional.empty();
-                }
-                return Optional.of(answer.getQuestion().getBehavioralIndicator().getId());
-            });
+        setupBatchLoaderMock(Map.of());
+    }
 
-        when(indicatorBatchLoader.getFromCache(any(), any()))
-            .thenAnswer(invocation -> {
-                Map<UUID, BehavioralIndicator> cache = invocation.getArgument(0);
-                UUID indicatorId = invocation.getArgument(1);
-                return cache != null ? cache.get(indicatorId) : null;
-            });
+    private static <T> Map<UUID, T> filter(Map<UUID, T> source, Set<UUID> ids) {
+        Map<UUID, T> result = new HashMap<>();
+        for (UUID id : ids) {
+            if (source.containsKey(id)) {
+                result.put(id, source.get(id));
+            }
+        }
+        return result;
     }
 
     @Nested
@@ -949,4 +915,61 @@ class OverviewScoringStrategyTest {
             assertThat(result.getPassed()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("Indicator Tally Tests")
+    class IndicatorTallyTests {
+
+        @Test
+        @DisplayName("Should produce the same result from tallies as from answers")
+        void shouldMatchAnswerBasedCalculation() {
+            // Given
+            BehavioralIndicator ind1 = createBehavioralIndicator(UUID.randomUUID(), competency1);
+            BehavioralIndicator ind2 = createBehavioralIndicator(UUID.randomUUID(), competency2);
+            AssessmentQuestion q1 = createQuestion(UUID.randomUUID(), ind1, QuestionType.LIKERT);
+            AssessmentQuestion q2 = createQuestion(UUID.randomUUID(), ind1, QuestionType.LIKERT);
+            AssessmentQuestion q3 = createQuestion(UUID.randomUUID(), ind2, QuestionType.SJT);
+
+            List<TestAnswer> answers = List.of(
+                    createAnswer(mockSession, q1, 5, null, false),
+                    createAnswer(mockSession, q2, 3, null, false),
+                    createAnswer(mockSession, q3, null, 0.4, false));
+
+            Map<UUID, Competency> competencies = Map.of(competencyId1, competency1, competencyId2, competency2);
+            setupBatchLoaderMock(competencies);
+            ScoringResult fromAnswers = scoringStrategy.calculate(mockSession, answers);
+
+            // The plan compiled for the answers already covers the tallied indicators
+
+            List<IndicatorTally> tallies = List.of(
+                    new IndicatorTally(ind1.getId(), 1.0 + 0.5, 2),
+                    new IndicatorTally(ind2.getId(), 0.4, 1));
+
+            // When
+            ScoringResult fromTallies = scoringStrategy.calculateFromTallies(mockSession, tallies);
+
+            // Then
+            assertThat(fromTallies.getOverallPercentage())
+                    .isCloseTo(fromAnswers.getOverallPercentage(), within(0.0001));
+            assertThat(fromTallies.getCompetencyScores()).hasSameSizeAs(fromAnswers.getCompetencyScores());
+            assertThat(fromTallies.getCompetencyScores())
+                    .extracting(CompetencyScoreDto::getPercentage)
+                    .containsExactlyInAnyOrderElementsOf(fromAnswers.getCompetencyScores().stream()
+                            .map(CompetencyScoreDto::getPercentage)
+                            .toList());
+            verify(indicatorBatchLoader, times(1)).loadIndicators(anySet());
+        }
+
+        @Test
+        @DisplayName("Should return zero score for no tallies")
+        void shouldReturnZeroScoreForNoTallies() {
+            // When
+            ScoringResult result = scoringStrategy.calculateFromTallies(mockSession, List.of());
+
+            // Then
+            assertThat(result.getOverallPercentage()).isEqualTo(0.0);
+            assertThat(result.getCompetencyScores()).isEmpty();
+            verifyNoInteractions(questionRepository, indicatorBatchLoader, competencyBatchLoader);
+        }
+    }
 }
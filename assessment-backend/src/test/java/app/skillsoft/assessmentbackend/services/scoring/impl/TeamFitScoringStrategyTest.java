@@ -5,9 +5,12 @@ import app.skillsoft.assessmentbackend.domain.dto.CompetencyScoreDto;
 import app.skillsoft.assessmentbackend.domain.dto.StandardCodesDto;
 import app.skillsoft.assessmentbackend.domain.dto.blueprint.TeamFitBlueprint;
 import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
 import app.skillsoft.assessmentbackend.services.scoring.CompetencyBatchLoader;
 import app.skillsoft.assessmentbackend.services.scoring.IndicatorBatchLoader;
 import app.skillsoft.assessmentbackend.services.scoring.ScoreNormalizer;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringKernel;
+import app.skillsoft.assessmentbackend.services.scoring.ScoringPlanCache;
 import app.skillsoft.assessmentbackend.services.scoring.ScoringResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,6 +47,9 @@ import static org.mockito.Mockito.*;
 @DisplayName("Team Fit Scoring Strategy Tests")
 class TeamFitScoringStrategyTest {
 
+    @Mock
+    private AssessmentQuestionRepository questionRepository;
+
     @Mock
     private CompetencyBatchLoader competencyBatchLoader;
 
@@ -56,6 +62,9 @@ class TeamFitScoringStrategyTest {
     private ScoringConfiguration scoringConfig;
     private TeamFitScoringStrategy scoringStrategy;
 
+    private final Map<UUID, AssessmentQuestion> questions = new HashMap<>();
+    private final Map<UUID, BehavioralIndicator> indicators = new HashMap<>();
+
     private TestSession mockSession;
     private TestTemplate mockTemplate;
     private UUID competencyId1;
@@ -72,10 +81,10 @@ class TeamFitScoringStrategyTest {
 
         // Create the strategy with all dependencies
         scoringStrategy = new TeamFitScoringStrategy(
-                competencyBatchLoader,
-                indicatorBatchLoader,
-                scoringConfig,
-                scoreNormalizer
+                new ScoringPlanCache(questionRepository, indicatorBatchLoader, competencyBatchLoader,
+                        scoringConfig, 100),
+                new ScoringKernel(scoreNormalizer),
+                scoringConfig
         );
 
         // Set up UUIDs
@@ -166,6 +175,7 @@ class TeamFitScoringStrategyTest {
         indicator.setWeight(1.0f);
         indicator.setActive(true);
         indicator.setApprovalStatus(ApprovalStatus.APPROVED);
+        indicators.put(id, indicator);
         return indicator;
     }
 
@@ -179,6 +189,7 @@ class TeamFitScoringStrategyTest {
         question.setDifficultyLevel(DifficultyLevel.INTERMEDIATE);
         question.setActive(true);
         question.setOrderIndex(1);
+        questions.put(id, question);
         return question;
     }
 
@@ -203,61 +214,40 @@ class TeamFitScoringStrategyTest {
     }
 
     /**
-     * Sets up the CompetencyBatchLoader, IndicatorBatchLoader, and ScoreNormalizer mocks.
+     * Sets up the AssessmentQuestionRepository, IndicatorBatchLoader and CompetencyBatchLoader
+     * mocks behind the real ScoringPlanCache, and the ScoreNormalizer mock.
      *
-     * The production code uses indicator-based aggregation:
-     * 1. indicatorBatchLoader.loadIndicatorsForAnswers() - batch load all indicators
-     * 2. indicatorBatchLoader.extractIndicatorIdSafe() - extract indicator ID from each answer
-     * 3. indicatorBatchLoader.getFromCache() - look up indicator in preloaded cache
-     * 4. competencyBatchLoader.loadCompetenciesForAnswers() - batch load all competencies
-     * 5. competencyBatchLoader.getFromCache() - look up competency in preloaded cache
+     * The production code compiles a scoring plan per template:
+     * 1. questionRepository.findScoringEntriesByIds() - resolve question indicator and type
+     * 2. indicatorBatchLoader.loadIndicators() - batch load the plan's indicators
+     * 3. competencyBatchLoader.loadCompetencies() - batch load the indicators' competencies
+     *
+     * Questions and indicators are served from the ones created by the create* helpers.
      */
     private void setupBatchLoaderMock(Map<UUID, Competency> competencyMap) {
-        // --- CompetencyBatchLoader mocks (still used for competency-level rollup) ---
-        when(competencyBatchLoader.loadCompetenciesForAnswers(anyList()))
-            .thenReturn(competencyMap);
-
-        when(competencyBatchLoader.getFromCache(any(), any()))
-            .thenAnswer(invocation -> {
-                Map<UUID, Competency> cache = invocation.getArgument(0);
-                UUID competencyId = invocation.getArgument(1);
-                return cache != null ? cache.get(competencyId) : null;
-            });
-
-        // --- IndicatorBatchLoader mocks (used for indicator-based aggregation) ---
-        when(indicatorBatchLoader.loadIndicatorsForAnswers(anyList()))
+        when(questionRepository.findScoringEntriesByIds(anyCollection()))
             .thenAnswer(invocation -> {
-                List<TestAnswer> answers = invocation.getArgument(0);
-                Map<UUID, BehavioralIndicator> indicatorMap = new HashMap<>();
-                for (TestAnswer answer : answers) {
-                    if (answer != null && answer.getQuestion() != null
-                        && answer.getQuestion().getBehavioralIndicator() != null) {
-                        BehavioralIndicator ind = answer.getQuestion().getBehavioralIndicator();
-                        indicatorMap.put(ind.getId(), ind);
+                Collection<UUID> questionIds = invocation.getArgument(0);
+                List<Object[]> rows = new ArrayList<>();
+                for (UUID questionId : questionIds) {
+                    AssessmentQuestion question = questions.get(questionId);
+                    if (question != null) {
+                        BehavioralIndicator indicator = question.getBehavioralIndicator();
+                        rows.add(new Object[]{question.getId(),
+                                indicator != null ? indicator.getId() : null, question.getQuestionType()});
                     }
                 }
-                return indicatorMap;
+                return rows;
             });
 
-        when(indicatorBatchLoader.extractIndicatorIdSafe(any(TestAnswer.class)))
-            .thenAnswer(invocation -> {
-                TestAnswer answer = invocation.getArgument(0);
-                if (answer == null || answer.getQuestion() == null
-                    || answer.getQuestion().getBehavioralIndicator() == null) {
-                    return Optional.empty();
-                }
-                return Optional.of(answer.getQuestion().getBehavioralIndicator().getId());
-            });
+        when(indicatorBatchLoader.loadIndicators(anySet()))
+            .thenAnswer(invocation -> filter(indicators, invocation.getArgument(0)));
 
-        when(indicatorBatchLoader.getFromCache(any(), any()))
-            .thenAnswer(invocation -> {
-                Map<UUID, BehavioralIndicator> cache = invocation.getArgument(0);
-                UUID indicatorId = invocation.getArgument(1);
-                return cache != null ? cache.get(indicatorId) : null;
-            });
+        when(competencyBatchLoader.loadCompetencies(anySet()))
+            .thenAnswer(invocation -> filter(competencyMap, invocation.getArgument(0)));
 
-        // Set up score normalizer to delegate to real normalization logic
-        when(scoreNormalizer.normalize(any(TestAnswer.class)))
+        // Score normalizer delegates to the real normalization rules
+        when(scoreNormalizer.normalize(any(TestAnswer.class), any()))
             .thenAnswer(invocation -> {
                 TestAnswer answer = invocation.getArgument(0);
                 if (answer == null || Boolean.TRUE.equals(answer.getIsSkipped())) {
@@ -276,62 +266,22 @@ class TeamFitScoringStrategyTest {
             });
     }
 
+    /**
+     * Sets up the mocks for tests where the competency is not found.
+     * Indicators still load correctly, but no competency does.
+     */
     private void setupBatchLoaderMockWithEmptyCache(UUID competencyId) {
-        // Competency cache is empty - simulates unknown/missing competency
-        when(competencyBatchLoader.loadCompetenciesForAnswers(anyList()))
-            .thenReturn(Map.of());
-
-        when(competencyBatchLoader.getFromCache(any(), any()))
-            .thenReturn(null);
-
-        // Indicator batch loader still works (indicators exist, but their competency is missing from competency cache)
-        when(indicatorBatchLoader.loadIndicatorsForAnswers(anyList()))
-            .thenAnswer(invocation -> {
-                List<TestAnswer> answers = invocation.getArgument(0);
-                Map<UUID, BehavioralIndicator> indicatorMap = new HashMap<>();
-                for (TestAnswer answer : answers) {
-                    if (answer != null && answer.getQuestion() != null
-                        && answer.getQuestion().getBehavioralIndicator() != null) {
-                        BehavioralIndicator ind = answer.getQuestion().getBehavioralIndicator();
-                        indicatorMap.put(ind.getId(), ind);
-                    }
-                }
-                return indicatorMap;
-            });
-
-        when(indicatorBatchLoader.extractIndicatorIdSafe(any(TestAnswer.class)))
-            .thenAnswer(invocation -> {
-                TestAnswer answer = invocation.getArgument(0);
-                if (answer == null || answer.getQuestion() == null
-                    || answer.getQuestion().getBehavioralIndicator() == null) {
-                    return Optional.empty();
-                }
-                return Optional.of(answer.getQuestion().getBehavioralIndicator().getId());
-            });
-
-        when(indicatorBatchLoader.getFromCache(any(), any()))
-            .thenAnswer(invocation -> {
-                Map<UUID, BehavioralIndicator> cache = invocation.getArgument(0);
-                UUID indicatorId = invocation.getArgument(1);
-                return cache != null ? cache.get(indicatorId) : null;
-            });
+        setupBatchLoaderMock(Map.of());
+    }
 
-        // Set up score normalizer
-        when(scoreNormalizer.normalize(any(TestAnswer.class)))
-            .thenAnswer(invocation -> {
-                TestAnswer answer = invocation.getArgument(0);
-                if (answer == null || Boolean.TRUE.equals(answer.getIsSkipped())) {
-                    return 0.0;
-                }
-                if (answer.getLikertValue() != null) {
-                    int likert = Math.max(1, Math.min(5, answer.getLikertValue()));
-                    return (likert - 1.0) / 4.0;
-                }
-                if (answer.getScore() != null) {
-                    return Math.max(0.0, Math.min(1.0, answer.getScore()));
-                }
-                return 0.0;
-            });
+    private static <T> Map<UUID, T> filter(Map<UUID, T> source, Set<UUID> ids) {
+        Map<UUID, T> result = new HashMap<>();
+        for (UUID id : ids) {
+            if (source.containsKey(id)) {
+                result.put(id, source.get(id));
+            }
+        }
+        return result;
     }
 
     @Nested
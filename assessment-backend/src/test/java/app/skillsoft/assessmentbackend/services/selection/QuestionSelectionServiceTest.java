@@ -11,9 +11,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
 import java.util.stream.IntStream;
@@ -51,9 +51,13 @@ class QuestionSelectionServiceTest {
     @Mock
     private PsychometricBlueprintValidator psychometricValidator;
 
-    @InjectMocks
     private QuestionSelectionServiceImpl service;
 
+    // Rows served to QuestionPoolIndex: [questionId, indicatorId, difficulty, validityStatus]
+    private List<Object[]> poolEntries;
+    // Rows served to QuestionPoolIndex: [indicatorId, competencyId, weight]
+    private List<Object[]> indicatorMappings;
+
     // Test data
     private UUID indicatorId1;
     private UUID indicatorId2;
@@ -70,6 +74,14 @@ class QuestionSelectionServiceTest {
         competencyId1 = UUID.randomUUID();
         competencyId2 = UUID.randomUUID();
         sampleQuestions = new ArrayList<>();
+
+        poolEntries = new ArrayList<>();
+        indicatorMappings = new ArrayList<>();
+        lenient().when(questionRepository.findAssemblyPoolEntries()).thenReturn(poolEntries);
+        lenient().when(indicatorRepository.findActiveIndicatorCompetencyMappings()).thenReturn(indicatorMappings);
+
+        service = new QuestionSelectionServiceImpl(
+                new QuestionPoolIndex(questionRepository, indicatorRepository), psychometricValidator);
     }
 
     // =====================================================================
@@ -83,8 +95,6 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should return empty list when no questions exist")
         void shouldReturnEmptyWhenNoQuestions() {
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(List.of());
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 5, DifficultyLevel.INTERMEDIATE, Set.of());
@@ -96,9 +106,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should return questions when available")
         void shouldReturnQuestionsWhenAvailable() {
             List<AssessmentQuestion> questions = createQuestions(3, DifficultyLevel.INTERMEDIATE);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 5, DifficultyLevel.INTERMEDIATE, Set.of());
@@ -110,9 +118,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should limit results to maxQuestions")
         void shouldLimitToMaxQuestions() {
             List<AssessmentQuestion> questions = createQuestions(10, DifficultyLevel.INTERMEDIATE);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 5, DifficultyLevel.INTERMEDIATE, Set.of());
@@ -124,9 +130,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should return partial results when insufficient questions")
         void shouldReturnPartialWhenInsufficient() {
             List<AssessmentQuestion> questions = createQuestions(2, DifficultyLevel.ADVANCED);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 10, DifficultyLevel.ADVANCED, Set.of());
@@ -140,9 +144,7 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questions = createQuestions(5, DifficultyLevel.INTERMEDIATE);
             Set<UUID> exclude = Set.of(questions.get(0).getId(), questions.get(1).getId());
 
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 10, DifficultyLevel.INTERMEDIATE, exclude);
@@ -155,9 +157,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should use overload without exclusions correctly")
         void shouldWorkWithoutExclusions() {
             List<AssessmentQuestion> questions = createQuestions(3, DifficultyLevel.FOUNDATIONAL);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 5, DifficultyLevel.FOUNDATIONAL);
@@ -169,9 +169,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should use overload without difficulty correctly")
         void shouldWorkWithoutDifficulty() {
             List<AssessmentQuestion> questions = createQuestionsWithMixedDifficulty(5);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(indicatorId1, 5);
 
@@ -195,9 +193,7 @@ class QuestionSelectionServiceTest {
             AssessmentQuestion twoAway = createQuestion(DifficultyLevel.EXPERT);
             List<AssessmentQuestion> questions = List.of(twoAway, oneAway, exactMatch);
 
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 1, DifficultyLevel.INTERMEDIATE, Set.of());
@@ -218,9 +214,7 @@ class QuestionSelectionServiceTest {
 
             List<AssessmentQuestion> questions = List.of(specialized, foundational, expert, intermediate, advanced);
 
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 3, DifficultyLevel.ADVANCED, Set.of());
@@ -231,14 +225,27 @@ class QuestionSelectionServiceTest {
             assertThat(result.subList(1, 3)).containsExactlyInAnyOrder(intermediate.getId(), expert.getId());
         }
 
+        @Test
+        @DisplayName("should order questions without difficulty after every difficulty level")
+        void shouldOrderMissingDifficultyLast() {
+            AssessmentQuestion unrated = createQuestion(null);
+            AssessmentQuestion specialized = createQuestion(DifficultyLevel.SPECIALIZED); // distance 4
+            AssessmentQuestion intermediate = createQuestion(DifficultyLevel.INTERMEDIATE); // distance 1
+
+            addPoolEntries(indicatorId1, List.of(unrated, specialized, intermediate));
+
+            List<UUID> result = service.selectQuestionsForIndicator(
+                    indicatorId1, 3, DifficultyLevel.FOUNDATIONAL, Set.of());
+
+            assertThat(result).containsExactly(intermediate.getId(), specialized.getId(), unrated.getId());
+        }
+
         @ParameterizedTest
         @EnumSource(DifficultyLevel.class)
         @DisplayName("should handle all difficulty levels as preference")
         void shouldHandleAllDifficultyLevels(DifficultyLevel preferred) {
             List<AssessmentQuestion> questions = createQuestionsWithMixedDifficulty(5);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 5, preferred, Set.of());
@@ -251,9 +258,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should shuffle when no difficulty preference")
         void shouldShuffleWhenNoDifficultyPreference() {
             List<AssessmentQuestion> questions = createQuestions(10, DifficultyLevel.INTERMEDIATE);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             // Multiple runs should potentially return different orders (shuffle)
             List<UUID> result1 = service.selectQuestionsForIndicator(
@@ -276,15 +281,12 @@ class QuestionSelectionServiceTest {
         @DisplayName("should exclude RETIRED questions")
         void shouldExcludeRetiredQuestions() {
             List<AssessmentQuestion> questions = createQuestions(5, DifficultyLevel.INTERMEDIATE);
-            // Mark 2 questions as ineligible (RETIRED)
-            when(psychometricValidator.isEligibleForAssembly(questions.get(0).getId())).thenReturn(false);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(1).getId())).thenReturn(false);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(2).getId())).thenReturn(true);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(3).getId())).thenReturn(true);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(4).getId())).thenReturn(true);
-
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
+            // Mark 2 questions as RETIRED
+            addPoolEntry(indicatorId1, questions.get(0), ItemValidityStatus.RETIRED);
+            addPoolEntry(indicatorId1, questions.get(1), ItemValidityStatus.RETIRED);
+            addPoolEntry(indicatorId1, questions.get(2), ItemValidityStatus.ACTIVE);
+            addPoolEntry(indicatorId1, questions.get(3), ItemValidityStatus.PROBATION);
+            addPoolEntry(indicatorId1, questions.get(4), null);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 10, DifficultyLevel.INTERMEDIATE, Set.of());
@@ -297,10 +299,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should return empty when all questions are RETIRED")
         void shouldReturnEmptyWhenAllRetired() {
             List<AssessmentQuestion> questions = createQuestions(3, DifficultyLevel.INTERMEDIATE);
-            questions.forEach(q -> when(psychometricValidator.isEligibleForAssembly(q.getId())).thenReturn(false));
-
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
+            questions.forEach(q -> addPoolEntry(indicatorId1, q, ItemValidityStatus.RETIRED));
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 10, DifficultyLevel.INTERMEDIATE, Set.of());
@@ -312,16 +311,32 @@ class QuestionSelectionServiceTest {
         @DisplayName("filterByValidity should exclude ineligible questions")
         void filterByValidityShouldExcludeIneligible() {
             List<AssessmentQuestion> questions = createQuestions(4, DifficultyLevel.INTERMEDIATE);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(0).getId())).thenReturn(true);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(1).getId())).thenReturn(false);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(2).getId())).thenReturn(true);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(3).getId())).thenReturn(false);
+            when(psychometricValidator.eligibleSubset(anyCollection()))
+                    .thenReturn(Set.of(questions.get(0).getId(), questions.get(2).getId()));
 
             List<AssessmentQuestion> result = service.filterByValidity(questions);
 
             assertThat(result).hasSize(2);
             assertThat(result).extracting(AssessmentQuestion::getId)
-                    .containsExactlyInAnyOrder(questions.get(0).getId(), questions.get(2).getId());
+                    .containsExactly(questions.get(0).getId(), questions.get(2).getId());
+            verify(psychometricValidator, times(1)).eligibleSubset(anyCollection());
+            verify(psychometricValidator, never()).isEligibleForAssembly(any());
+        }
+
+        @Test
+        @DisplayName("should keep RETIRED questions when psychometrics are disabled")
+        void shouldKeepRetiredWhenPsychometricsDisabled() {
+            QuestionPoolIndex poolIndex = new QuestionPoolIndex(questionRepository, indicatorRepository);
+            ReflectionTestUtils.setField(poolIndex, "psychometricsEnabled", false);
+            service = new QuestionSelectionServiceImpl(poolIndex, psychometricValidator);
+
+            List<AssessmentQuestion> questions = createQuestions(3, DifficultyLevel.INTERMEDIATE);
+            questions.forEach(q -> addPoolEntry(indicatorId1, q, ItemValidityStatus.RETIRED));
+
+            List<UUID> result = service.selectQuestionsForIndicator(
+                    indicatorId1, 10, DifficultyLevel.INTERMEDIATE, Set.of());
+
+            assertThat(result).hasSize(3);
         }
 
         @Test
@@ -348,27 +363,34 @@ class QuestionSelectionServiceTest {
     class IsEligibleForAssemblyTests {
 
         @Test
-        @DisplayName("should delegate to psychometric validator")
-        void shouldDelegateToValidator() {
-            UUID questionId = UUID.randomUUID();
-            when(psychometricValidator.isEligibleForAssembly(questionId)).thenReturn(true);
+        @DisplayName("should answer from the pool index")
+        void shouldAnswerFromPoolIndex() {
+            AssessmentQuestion question = createQuestion(DifficultyLevel.INTERMEDIATE);
+            addPoolEntry(indicatorId1, question, ItemValidityStatus.ACTIVE);
 
-            boolean result = service.isEligibleForAssembly(questionId);
+            boolean result = service.isEligibleForAssembly(question.getId());
 
             assertThat(result).isTrue();
-            verify(psychometricValidator).isEligibleForAssembly(questionId);
+            verify(questionRepository, times(1)).findAssemblyPoolEntries();
         }
 
         @Test
-        @DisplayName("should return false when validator returns false")
+        @DisplayName("should return false for RETIRED question")
         void shouldReturnFalseWhenNotEligible() {
-            UUID questionId = UUID.randomUUID();
-            when(psychometricValidator.isEligibleForAssembly(questionId)).thenReturn(false);
+            AssessmentQuestion question = createQuestion(DifficultyLevel.INTERMEDIATE);
+            addPoolEntry(indicatorId1, question, ItemValidityStatus.RETIRED);
 
-            boolean result = service.isEligibleForAssembly(questionId);
+            boolean result = service.isEligibleForAssembly(question.getId());
 
             assertThat(result).isFalse();
         }
+
+        @Test
+        @DisplayName("should return false for unknown question")
+        void shouldReturnFalseForUnknownQuestion() {
+            assertThat(service.isEligibleForAssembly(UUID.randomUUID())).isFalse();
+            assertThat(service.isEligibleForAssembly(null)).isFalse();
+        }
     }
 
     // =====================================================================
@@ -383,14 +405,12 @@ class QuestionSelectionServiceTest {
         @DisplayName("should count only eligible questions")
         void shouldCountOnlyEligibleQuestions() {
             List<AssessmentQuestion> questions = createQuestions(5, DifficultyLevel.INTERMEDIATE);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
             // 3 eligible, 2 not
-            when(psychometricValidator.isEligibleForAssembly(questions.get(0).getId())).thenReturn(true);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(1).getId())).thenReturn(true);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(2).getId())).thenReturn(false);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(3).getId())).thenReturn(true);
-            when(psychometricValidator.isEligibleForAssembly(questions.get(4).getId())).thenReturn(false);
+            addPoolEntry(indicatorId1, questions.get(0), ItemValidityStatus.ACTIVE);
+            addPoolEntry(indicatorId1, questions.get(1), ItemValidityStatus.ACTIVE);
+            addPoolEntry(indicatorId1, questions.get(2), ItemValidityStatus.RETIRED);
+            addPoolEntry(indicatorId1, questions.get(3), null);
+            addPoolEntry(indicatorId1, questions.get(4), ItemValidityStatus.RETIRED);
 
             int count = service.getEligibleQuestionCount(indicatorId1);
 
@@ -400,8 +420,6 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should return zero when no questions exist")
         void shouldReturnZeroWhenNoQuestions() {
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(List.of());
 
             int count = service.getEligibleQuestionCount(indicatorId1);
 
@@ -425,12 +443,9 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 2);
             List<AssessmentQuestion> questionsI3 = createQuestionsForIndicator(indicatorId3, 2);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockIndicatorQuestions(indicatorId3, questionsI3);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
-            mockAllQuestionsEligible(questionsI3);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
+            addPoolEntries(indicatorId3, questionsI3);
 
             List<UUID> result = service.selectQuestionsWithDistribution(
                     List.of(indicatorId1, indicatorId2, indicatorId3),
@@ -451,10 +466,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 5);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 5);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             // Request only 4 questions across 2 indicators
             List<UUID> result = service.selectQuestionsWithDistribution(
@@ -485,10 +498,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 5);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 3);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             List<UUID> result = service.selectQuestionsWithDistribution(
                     List.of(indicatorId1, indicatorId2),
@@ -543,10 +554,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 10);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 10);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             // Weight ratio 3:1 = 75%:25%
             Map<UUID, Double> weights = Map.of(
@@ -576,10 +585,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 10);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 10);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             // Weight ratio 9:1 with total 10 questions
             // I1 gets 9 * 10 / 10 = 9, I2 gets max(1, 1*10/10) = 1
@@ -637,10 +644,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 5);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 5);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             List<UUID> result = service.selectQuestionsWithDistribution(
                     List.of(indicatorId1, indicatorId2),
@@ -668,10 +673,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 5);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 5);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             // Request 6 questions with 3 per indicator
             // Priority order: I1 > I2 (I3 not needed)
@@ -702,8 +705,7 @@ class QuestionSelectionServiceTest {
         void shouldStopWhenBudgetExhausted() {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 10);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockAllQuestionsEligible(questionsI1);
+            addPoolEntries(indicatorId1, questionsI1);
 
             // Request 5 questions with 10 per indicator (but only 5 total)
             // Only I1 is needed since budget is 5 and I1 has 10
@@ -729,12 +731,9 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 3);
             List<AssessmentQuestion> questionsI3 = createQuestionsForIndicator(indicatorId3, 3);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockIndicatorQuestions(indicatorId3, questionsI3);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
-            mockAllQuestionsEligible(questionsI3);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
+            addPoolEntries(indicatorId3, questionsI3);
 
             // Request 7 questions with 3 per indicator
             List<UUID> result = service.selectQuestionsWithDistribution(
@@ -775,18 +774,14 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should get indicators for competency and select questions")
         void shouldSelectQuestionsViaIndicators() {
-            BehavioralIndicator indicator1 = createIndicator(indicatorId1, competencyId1, 1.0f);
-            BehavioralIndicator indicator2 = createIndicator(indicatorId2, competencyId1, 0.5f);
+            addIndicatorMapping(indicatorId1, competencyId1, 1.0f);
+            addIndicatorMapping(indicatorId2, competencyId1, 0.5f);
 
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 3);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 3);
 
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                    .thenReturn(List.of(indicator1, indicator2));
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             List<UUID> result = service.selectQuestionsForCompetency(
                     competencyId1, 6, 2, DifficultyLevel.INTERMEDIATE);
@@ -798,11 +793,9 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should return empty for competency with no active indicators")
         void shouldReturnEmptyForNoActiveIndicators() {
-            BehavioralIndicator inactiveIndicator = createIndicator(indicatorId1, competencyId1, 1.0f);
-            inactiveIndicator.setActive(false);
+            // Inactive indicators are not returned by the mapping query; only another competency has one
+            addIndicatorMapping(indicatorId2, competencyId2, 1.0f);
 
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                    .thenReturn(List.of(inactiveIndicator));
 
             List<UUID> result = service.selectQuestionsForCompetency(
                     competencyId1, 10, 2, DifficultyLevel.INTERMEDIATE);
@@ -813,8 +806,6 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should return empty when no indicators found")
         void shouldReturnEmptyWhenNoIndicators() {
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                    .thenReturn(List.of());
 
             List<UUID> result = service.selectQuestionsForCompetency(
                     competencyId1, 10, 2, DifficultyLevel.INTERMEDIATE);
@@ -825,23 +816,21 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should sort indicators by weight descending")
         void shouldSortIndicatorsByWeightDescending() {
-            BehavioralIndicator lowWeight = createIndicator(indicatorId1, competencyId1, 0.3f);
-            BehavioralIndicator highWeight = createIndicator(indicatorId2, competencyId1, 0.9f);
+            addIndicatorMapping(indicatorId1, competencyId1, 0.3f);
+            addIndicatorMapping(indicatorId2, competencyId1, 0.9f);
 
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 3);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 3);
 
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                    .thenReturn(List.of(lowWeight, highWeight));
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             List<UUID> result = service.selectQuestionsForCompetency(
                     competencyId1, 6, 2, DifficultyLevel.INTERMEDIATE);
 
             assertThat(result).isNotEmpty();
+            assertThat(service.getActiveIndicatorIds(competencyId1))
+                    .containsExactly(indicatorId2, indicatorId1);
         }
     }
 
@@ -856,20 +845,14 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should select questions across multiple competencies")
         void shouldSelectAcrossMultipleCompetencies() {
-            BehavioralIndicator indicator1 = createIndicator(indicatorId1, competencyId1, 1.0f);
-            BehavioralIndicator indicator2 = createIndicator(indicatorId2, competencyId2, 1.0f);
+            addIndicatorMapping(indicatorId1, competencyId1, 1.0f);
+            addIndicatorMapping(indicatorId2, competencyId2, 1.0f);
 
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 3);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 3);
 
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                    .thenReturn(List.of(indicator1));
-            when(indicatorRepository.findByCompetencyId(competencyId2))
-                    .thenReturn(List.of(indicator2));
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             List<UUID> result = service.selectQuestionsForCompetencies(
                     List.of(competencyId1, competencyId2),
@@ -884,13 +867,10 @@ class QuestionSelectionServiceTest {
         @Test
         @DisplayName("should shuffle when requested")
         void shouldShuffleWhenRequested() {
-            BehavioralIndicator indicator1 = createIndicator(indicatorId1, competencyId1, 1.0f);
+            addIndicatorMapping(indicatorId1, competencyId1, 1.0f);
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 10);
 
-            when(indicatorRepository.findByCompetencyId(competencyId1))
-                    .thenReturn(List.of(indicator1));
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockAllQuestionsEligible(questionsI1);
+            addPoolEntries(indicatorId1, questionsI1);
 
             List<UUID> result = service.selectQuestionsForCompetencies(
                     List.of(competencyId1),
@@ -1015,9 +995,7 @@ class QuestionSelectionServiceTest {
         @DisplayName("should never return duplicate question IDs in single selection")
         void shouldNeverReturnDuplicatesInSingleSelection() {
             List<AssessmentQuestion> questions = createQuestions(10, DifficultyLevel.INTERMEDIATE);
-            when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId1))
-                    .thenReturn(questions);
-            mockAllQuestionsEligible(questions);
+            addPoolEntries(indicatorId1, questions);
 
             List<UUID> result = service.selectQuestionsForIndicator(
                     indicatorId1, 10, DifficultyLevel.INTERMEDIATE, Set.of());
@@ -1032,10 +1010,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 5);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 5);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             List<UUID> result = service.selectQuestionsWithDistribution(
                     List.of(indicatorId1, indicatorId2),
@@ -1054,10 +1030,8 @@ class QuestionSelectionServiceTest {
             List<AssessmentQuestion> questionsI1 = createQuestionsForIndicator(indicatorId1, 5);
             List<AssessmentQuestion> questionsI2 = createQuestionsForIndicator(indicatorId2, 5);
 
-            mockIndicatorQuestions(indicatorId1, questionsI1);
-            mockIndicatorQuestions(indicatorId2, questionsI2);
-            mockAllQuestionsEligible(questionsI1);
-            mockAllQuestionsEligible(questionsI2);
+            addPoolEntries(indicatorId1, questionsI1);
+            addPoolEntries(indicatorId2, questionsI2);
 
             Map<UUID, Double> weights = Map.of(
                     indicatorId1, 2.0,
@@ -1118,25 +1092,17 @@ class QuestionSelectionServiceTest {
                 .toList();
     }
 
-    private BehavioralIndicator createIndicator(UUID id, UUID competencyId, float weight) {
-        BehavioralIndicator indicator = new BehavioralIndicator();
-        indicator.setId(id);
-        indicator.setWeight(weight);
-        indicator.setActive(true);
-        indicator.setTitle("Test Indicator");
-        Competency competency = new Competency();
-        competency.setId(competencyId);
-        indicator.setCompetency(competency);
-        return indicator;
+    private void addPoolEntries(UUID indicatorId, List<AssessmentQuestion> questions) {
+        questions.forEach(q -> addPoolEntry(indicatorId, q, null));
     }
 
-    private void mockIndicatorQuestions(UUID indicatorId, List<AssessmentQuestion> questions) {
-        when(questionRepository.findByBehavioralIndicator_IdAndIsActiveTrue(indicatorId))
-                .thenReturn(new ArrayList<>(questions));
+    private void addPoolEntry(UUID indicatorId, AssessmentQuestion question, ItemValidityStatus status) {
+        poolEntries.add(new Object[]{question.getId(), indicatorId, question.getDifficultyLevel(), status});
     }
 
-    private void mockAllQuestionsEligible(List<AssessmentQuestion> questions) {
-        questions.forEach(q ->
-            when(psychometricValidator.isEligibleForAssembly(q.getId())).thenReturn(true));
+    private void addIndicatorMapping(UUID indicatorId, UUID competencyId, float weight) {
+        indicatorMappings.add(new Object[]{indicatorId, competencyId, weight});
+        // Mirror the repository query ordering (weight descending)
+        indicatorMappings.sort((a, b) -> Float.compare((Float) b[2], (Float) a[2]));
     }
 }
@@ -0,0 +1,188 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.domain.entities.AssessmentQuestion;
+import app.skillsoft.assessmentbackend.domain.entities.QuestionType;
+import app.skillsoft.assessmentbackend.events.assembly.QuestionPoolChangedEvent;
+import app.skillsoft.assessmentbackend.exception.ResourceNotFoundException;
+import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CompiledQuestionCache and CompiledQuestion.
+ *
+ * Tests cover:
+ * - SJT option transformation (action → text, effectiveness → score, option → label)
+ * - Anonymous option normalization
+ * - Scoring lookup and max option score
+ * - Caching and invalidation on QuestionPoolChangedEvent
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompiledQuestionCache Tests")
+class CompiledQuestionCacheTest {
+
+    @Mock
+    private AssessmentQuestionRepository questionRepository;
+
+    private CompiledQuestionCache cache;
+
+    private UUID questionId;
+    private AssessmentQuestion sjtQuestion;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CompiledQuestionCache(questionRepository, 100);
+
+        questionId = UUID.randomUUID();
+        sjtQuestion = new AssessmentQuestion();
+        sjtQuestion.setId(questionId);
+        sjtQuestion.setQuestionText("How would you handle the conflict?");
+        sjtQuestion.setQuestionType(QuestionType.SJT);
+        sjtQuestion.setActive(true);
+        sjtQuestion.setAnswerOptions(List.of(
+                sjtOption("A", "Escalate immediately", 1),
+                sjtOption("B", "Talk to both parties", 4),
+                sjtOption("C", "Ignore it", 0)
+        ));
+    }
+
+    private Map<String, Object> sjtOption(String letter, String action, int effectiveness) {
+        Map<String, Object> option = new HashMap<>();
+        option.put("option", letter);
+        option.put("action", action);
+        option.put("effectiveness", effectiveness);
+        option.put("explanation", "Because " + letter);
+        return option;
+    }
+
+    @Nested
+    @DisplayName("Compilation Tests")
+    class CompilationTests {
+
+        @Test
+        @DisplayName("Should map SJT options to the frontend format")
+        void shouldTransformSjtOptions() {
+            CompiledQuestion compiled = CompiledQuestion.compile(sjtQuestion, 0);
+
+            Map<String, Object> first = compiled.questionDto().answerOptions().get(0);
+            assertThat(first)
+                    .containsEntry("id", "option-0")
+                    .containsEntry("text", "Escalate immediately")
+                    .containsEntry("score", 1)
+                    .containsEntry("label", "A")
+                    .containsEntry("explanation", "Because A")
+                    .doesNotContainKeys("action", "effectiveness", "option");
+        }
+
+        @Test
+        @DisplayName("Should reduce anonymous options to id/text/score/explanation")
+        void shouldNormalizeAnonymousOptions() {
+            CompiledQuestion compiled = CompiledQuestion.compile(sjtQuestion, 0);
+
+            assertThat(compiled.anonymousQuestionDto().answerOptions().get(1))
+                    .containsOnlyKeys("id", "text", "score", "explanation")
+                    .containsEntry("id", "option-1");
+        }
+
+        @Test
+        @DisplayName("Should keep fields and add IDs for non-SJT options")
+        void shouldAddIdsToOtherQuestionTypes() {
+            AssessmentQuestion mcq = new AssessmentQuestion();
+            mcq.setId(UUID.randomUUID());
+            mcq.setQuestionType(QuestionType.MCQ);
+            mcq.setAnswerOptions(List.of(
+                    new HashMap<>(Map.of("text", "Yes", "score", 1)),
+                    new HashMap<>(Map.of("id", "custom", "text", "No", "score", 0))
+            ));
+
+            CompiledQuestion compiled = CompiledQuestion.compile(mcq, 0);
+
+            assertThat(compiled.questionDto().answerOptions())
+                    .extracting(option -> option.get("id"))
+                    .containsExactly("option-0", "custom");
+            assertThat(compiled.optionIds()).containsExactly("option-0", "custom");
+        }
+
+        @Test
+        @DisplayName("Should precompute option scores and max option score")
+        void shouldPrecomputeScores() {
+            CompiledQuestion compiled = CompiledQuestion.compile(sjtQuestion, 0);
+
+            assertThat(compiled.optionScores()).containsExactly(1, 4, 0);
+            assertThat(compiled.maxOptionScore()).isEqualTo(4.0);
+            assertThat(compiled.indexOfOption("option-1")).isEqualTo(1);
+            assertThat(compiled.indexOfOption("missing")).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("Should return immutable options")
+        void shouldReturnImmutableOptions() {
+            CompiledQuestion compiled = CompiledQuestion.compile(sjtQuestion, 0);
+
+            assertThatThrownBy(() -> compiled.questionDto().answerOptions().get(0).put("id", "x"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Caching Tests")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should compile a question once")
+        void shouldCompileOnce() {
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(sjtQuestion));
+
+            CompiledQuestion first = cache.get(questionId);
+            CompiledQuestion second = cache.get(questionId);
+
+            assertThat(second).isSameAs(first);
+            verify(questionRepository, times(1)).findById(questionId);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for unknown question")
+        void shouldThrowForUnknownQuestion() {
+            when(questionRepository.findById(questionId)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> cache.get(questionId))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("Should recompile after the question changes")
+        void shouldRecompileAfterQuestionChanged() {
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(sjtQuestion));
+            CompiledQuestion before = cache.get(questionId);
+
+            cache.onQuestionPoolChanged(QuestionPoolChangedEvent.forQuestion(
+                    UUID.randomUUID(), questionId, "question updated"));
+            CompiledQuestion after = cache.get(questionId);
+
+            assertThat(after).isNotSameAs(before);
+            assertThat(after.version()).isGreaterThan(before.version());
+            verify(questionRepository, times(2)).findById(questionId);
+        }
+
+        @Test
+        @DisplayName("Should drop all snapshots on full rebuild event")
+        void shouldInvalidateAllOnFullRebuild() {
+            when(questionRepository.findById(questionId)).thenReturn(Optional.of(sjtQuestion));
+            cache.get(questionId);
+
+            cache.onQuestionPoolChanged(QuestionPoolChangedEvent.fullRebuild("indicator deleted"));
+
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
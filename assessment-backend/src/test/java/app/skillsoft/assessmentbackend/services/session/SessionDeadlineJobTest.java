@@ -0,0 +1,138 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.repository.TestSessionRepository;
+import app.skillsoft.assessmentbackend.services.TestSessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SessionDeadlineJob and SessionDeadlineQueue.
+ *
+ * Tests cover:
+ * - Draining only sessions whose deadline has passed
+ * - De-duplication of registrations
+ * - Batch expiry of due sessions
+ * - Refill from the database
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionDeadlineJob Tests")
+class SessionDeadlineJobTest {
+
+    @Mock
+    private TestSessionRepository sessionRepository;
+
+    @Mock
+    private TestSessionService testSessionService;
+
+    private SessionDeadlineQueue deadlineQueue;
+    private SessionDeadlineJob job;
+
+    @BeforeEach
+    void setUp() {
+        deadlineQueue = new SessionDeadlineQueue();
+        job = new SessionDeadlineJob(sessionRepository, testSessionService, deadlineQueue, 180);
+    }
+
+    @Nested
+    @DisplayName("Deadline Queue Tests")
+    class DeadlineQueueTests {
+
+        @Test
+        @DisplayName("Should drain only sessions past their deadline")
+        void shouldDrainOnlyExpired() {
+            UUID expiredId = UUID.randomUUID();
+            UUID runningId = UUID.randomUUID();
+            deadlineQueue.register(expiredId, LocalDateTime.now().minusSeconds(1));
+            deadlineQueue.register(runningId, LocalDateTime.now().plusMinutes(5));
+
+            assertThat(deadlineQueue.drainExpired()).containsExactly(expiredId);
+            assertThat(deadlineQueue.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should queue a session only once")
+        void shouldIgnoreDuplicateRegistration() {
+            UUID sessionId = UUID.randomUUID();
+            LocalDateTime deadline = LocalDateTime.now().minusSeconds(1);
+            deadlineQueue.register(sessionId, deadline);
+            deadlineQueue.register(sessionId, deadline);
+
+            assertThat(deadlineQueue.drainExpired()).containsExactly(sessionId);
+        }
+
+        @Test
+        @DisplayName("Should ignore sessions without deadline")
+        void shouldIgnoreMissingDeadline() {
+            deadlineQueue.register(UUID.randomUUID(), null);
+
+            assertThat(deadlineQueue.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiry Tests")
+    class ExpiryTests {
+
+        @Test
+        @DisplayName("Should expire due sessions as one batch and count the claimed ones")
+        void shouldExpireDueSessions() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            deadlineQueue.register(first, LocalDateTime.now().minusSeconds(2));
+            deadlineQueue.register(second, LocalDateTime.now().minusSeconds(1));
+            when(testSessionService.expireSessions(List.of(first, second))).thenReturn(List.of(first));
+
+            int expired = job.expireDueSessions();
+
+            assertThat(expired).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should do nothing when no deadline has passed")
+        void shouldSkipWhenNothingDue() {
+            deadlineQueue.register(UUID.randomUUID(), LocalDateTime.now().plusMinutes(1));
+
+            assertThat(job.expireDueSessions()).isZero();
+            verifyNoInteractions(testSessionService);
+        }
+
+        @Test
+        @DisplayName("Should expire nothing when the batch fails")
+        void shouldSurviveBatchFailure() {
+            deadlineQueue.register(UUID.randomUUID(), LocalDateTime.now().minusSeconds(1));
+            when(testSessionService.expireSessions(any())).thenThrow(new RuntimeException("database down"));
+
+            assertThat(job.expireDueSessions()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Refill Tests")
+    class RefillTests {
+
+        @Test
+        @DisplayName("Should queue deadlines loaded from the database")
+        void shouldQueueDeadlinesFromDatabase() {
+            UUID sessionId = UUID.randomUUID();
+            when(sessionRepository.findDeadlinesDueBefore(any(LocalDateTime.class)))
+                    .thenReturn(List.<Object[]>of(new Object[]{sessionId, LocalDateTime.now().minusSeconds(1)}));
+
+            job.refill();
+
+            assertThat(deadlineQueue.drainExpired()).containsExactly(sessionId);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package app.skillsoft.assessmentbackend.services.session;
+
+import app.skillsoft.assessmentbackend.services.TestSessionService;
+import app.skillsoft.assessmentbackend.services.TestSessionService.StaleSessionChunk;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StaleSessionSweeper.
+ *
+ * Tests cover:
+ * - Keyset paging through chunks until a short chunk
+ * - Throughput metrics
+ * - Failed chunks ending the sweep
+ * - Sweeper disabled by default
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StaleSessionSweeper Tests")
+class StaleSessionSweeperTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final UUID FIRST_SESSION_ID = new UUID(0L, 0L);
+
+    @Mock
+    private TestSessionService testSessionService;
+
+    @Mock
+    private SessionHotStateCache hotStateCache;
+
+    private SimpleMeterRegistry registry;
+    private StaleSessionSweeper sweeper;
+
+    private static StaleSessionChunk chunk(UUID... timedOut) {
+        return new StaleSessionChunk(timedOut[timedOut.length - 1], timedOut.length, List.of(timedOut));
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        sweeper = new StaleSessionSweeper(testSessionService, hotStateCache, registry, true, 30, CHUNK_SIZE);
+    }
+
+    @Nested
+    @DisplayName("Sweep Tests")
+    class SweepTests {
+
+        @Test
+        @DisplayName("Should page through chunks after the last session of each chunk")
+        void shouldPageThroughChunks() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            when(testSessionService.timeoutStaleSessions(any(LocalDateTime.class), eq(FIRST_SESSION_ID), eq(CHUNK_SIZE)))
+                    .thenReturn(chunk(first, second));
+            when(testSessionService.timeoutStaleSessions(any(LocalDateTime.class), eq(second), eq(CHUNK_SIZE)))
+                    .thenReturn(chunk(third));
+
+            assertThat(sweeper.sweep()).isEqualTo(3);
+
+            // Staleness is judged after cached activity is written
+            InOrder inOrder = inOrder(hotStateCache, testSessionService);
+            inOrder.verify(hotStateCache).flushDirty();
+            inOrder.verify(testSessionService, times(2)).timeoutStaleSessions(any(), any(), anyInt());
+            assertThat(registry.get("test.session.timeout.sweep.sessions").counter().count()).isEqualTo(3.0);
+            assertThat(registry.get("test.session.timeout.sweep.duration").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should use one cutoff for the whole sweep")
+        void shouldUseOneCutoff() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            when(testSessionService.timeoutStaleSessions(any(LocalDateTime.class), any(UUID.class), eq(CHUNK_SIZE)))
+                    .thenReturn(chunk(first, second), StaleSessionChunk.empty());
+
+            sweeper.sweep();
+
+            verify(testSessionService, times(2)).timeoutStaleSessions(
+                    argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusMinutes(29))),
+                    any(UUID.class), eq(CHUNK_SIZE));
+        }
+
+        @Test
+        @DisplayName("Should keep paging past a full chunk with sessions active since they were locked")
+        void shouldPagePastSkippedSessions() {
+            UUID first = UUID.randomUUID();
+            UUID active = UUID.randomUUID();
+            UUID third = UUID.randomUUID();
+            when(testSessionService.timeoutStaleSessions(any(LocalDateTime.class), eq(FIRST_SESSION_ID), eq(CHUNK_SIZE)))
+                    .thenReturn(new StaleSessionChunk(active, CHUNK_SIZE, List.of(first)));
+            when(testSessionService.timeoutStaleSessions(any(LocalDateTime.class), eq(active), eq(CHUNK_SIZE)))
+                    .thenReturn(chunk(third));
+
+            assertThat(sweeper.sweep()).isEqualTo(2);
+            assertThat(registry.get("test.session.timeout.sweep.sessions").counter().count()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("Should end the sweep on a failed chunk and still record the duration")
+        void shouldStopOnFailedChunk() {
+            when(testSessionService.timeoutStaleSessions(any(LocalDateTime.class), any(UUID.class), anyInt()))
+                    .thenThrow(new IllegalStateException("database down"));
+
+            assertThatThrownBy(() -> sweeper.sweep()).isInstanceOf(IllegalStateException.class);
+            assertThatCode(() -> sweeper.scheduledSweep()).doesNotThrowAnyException();
+            assertThat(registry.get("test.session.timeout.sweep.duration").timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should not sweep on schedule when disabled")
+        void shouldSkipWhenDisabled() {
+            StaleSessionSweeper disabled = new StaleSessionSweeper(
+                    testSessionService, hotStateCache, registry, false, 30, CHUNK_SIZE);
+
+            disabled.scheduledSweep();
+
+            verifyNoInteractions(testSessionService, hotStateCache);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import app.skillsoft.assessmentbackend.repository.AssessmentQuestionRepository;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssembler;
 import app.skillsoft.assessmentbackend.services.assembly.TestAssemblerFactory;
 import app.skillsoft.assessmentbackend.services.validation.InventoryHeatmapService;
+import app.skillsoft.assessmentbackend.services.validation.PsychometricBlueprintValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -46,6 +47,9 @@ class TestSimulatorServiceTest {
     @Mock
     private InventoryHeatmapService inventoryHeatmapService;
 
+    @Mock
+    private PsychometricBlueprintValidator psychometricValidator;
+
     @Mock
     private TestAssembler mockAssembler;
 
@@ -65,7 +69,8 @@ class TestSimulatorServiceTest {
         testSimulatorService = new TestSimulatorService(
             assemblerFactory,
             questionRepository,
-            inventoryHeatmapService
+            inventoryHeatmapService,
+            psychometricValidator
         );
 
         // Initialize test UUIDs
@@ -396,6 +401,33 @@ class TestSimulatorServiceTest {
             assertThat(result.warnings()).anyMatch(w ->
                 w.message().contains("Only 2 of 3 questions could be loaded"));
         }
+
+        @Test
+        @DisplayName("Should warn about ineligible questions using one batch eligibility check")
+        void shouldWarnAboutIneligibleQuestions() {
+            // Given
+            OverviewBlueprint blueprint = createValidBlueprint();
+            List<UUID> questionIds = List.of(questionId1, questionId2);
+            List<AssessmentQuestion> questions = List.of(
+                createQuestionWithId(questionId1, "Q1"),
+                createQuestionWithId(questionId2, "Q2")
+            );
+
+            when(assemblerFactory.getAssembler(any(TestBlueprintDto.class))).thenReturn(mockAssembler);
+            when(mockAssembler.assemble(any())).thenReturn(questionIds);
+            when(questionRepository.findAllById(questionIds)).thenReturn(questions);
+            when(psychometricValidator.eligibleSubset(questionIds)).thenReturn(Set.of(questionId1));
+            when(inventoryHeatmapService.generateHeatmapFor(any())).thenReturn(createHealthyHeatmap());
+
+            // When
+            SimulationResultDto result = testSimulatorService.simulate(blueprint, SimulationProfile.RANDOM_GUESSER);
+
+            // Then
+            assertThat(result.warnings()).anyMatch(w ->
+                w.message().contains("1 of 2 assembled questions are inactive or retired"));
+            verify(psychometricValidator, times(1)).eligibleSubset(questionIds);
+            verify(psychometricValidator, never()).isEligibleForAssembly(any());
+        }
     }
 
     @Nested
@@ -0,0 +1,164 @@
+package app.skillsoft.assessmentbackend.services.team;
+
+import app.skillsoft.assessmentbackend.services.external.TeamService;
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
+import app.skillsoft.assessmentbackend.services.team.TeamFitRankingService.Candidate;
+import app.skillsoft.assessmentbackend.services.team.TeamFitRankingService.GapContribution;
+import app.skillsoft.assessmentbackend.services.team.TeamFitRankingService.RankedCandidate;
+import app.skillsoft.assessmentbackend.services.team.TeamFitRankingService.Ranking;
+import app.skillsoft.assessmentbackend.testutils.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TeamFitRankingService.
+ *
+ * Tests cover:
+ * - Ranking order, ties and per-gap contributions
+ * - Loading candidates given by clerk ID with one query
+ * - Agreement with single-candidate fit scores
+ * - Teams without a profile and oversized shortlists
+ */
+@DisplayName("TeamFitRankingService Tests")
+class TeamFitRankingServiceTest extends BaseUnitTest {
+
+    private static final int MAX_CANDIDATES = 600;
+
+    @Mock
+    private TeamService teamService;
+
+    @Mock
+    private TeamProfileAggregationService aggregationService;
+
+    private TeamFitRankingService rankingService;
+    private UUID teamId;
+    private UUID leadershipId;
+    private UUID analysisId;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = new TeamFitRankingService(teamService, aggregationService, MAX_CANDIDATES);
+        teamId = UUID.randomUUID();
+        leadershipId = UUID.randomUUID();
+        analysisId = UUID.randomUUID();
+    }
+
+    private TeamProfile givenTeamWithGaps(UUID... gaps) {
+        TeamProfile profile = new TeamProfile(teamId, "Development Team / Команда разработки",
+                List.of(), Map.of(), Map.of(), List.of(gaps));
+        when(teamService.getTeamProfile(teamId)).thenReturn(Optional.of(profile));
+        return profile;
+    }
+
+    @Test
+    @DisplayName("Should rank candidates best first, keeping request order on ties")
+    void shouldRankCandidates() {
+        // Given
+        givenTeamWithGaps(leadershipId, analysisId);
+        List<Candidate> candidates = List.of(
+                new Candidate("anna", Map.of(leadershipId, 2.0)),
+                new Candidate("boris", Map.of(leadershipId, 4.0, analysisId, 5.0)),
+                new Candidate("vera", Map.of(analysisId, 1.0)));
+
+        // When
+        Optional<Ranking> ranking = rankingService.rankCandidates(teamId, candidates, null);
+
+        // Then
+        assertThat(ranking).isPresent();
+        assertThat(ranking.get().skillGaps()).containsExactly(leadershipId, analysisId);
+        assertThat(ranking.get().candidates())
+                .extracting(RankedCandidate::rank, RankedCandidate::candidateId)
+                .containsExactly(
+                        tuple(1, "boris"),
+                        tuple(2, "anna"),
+                        tuple(3, "vera"));
+
+        RankedCandidate best = ranking.get().candidates().get(0);
+        assertThat(best.fitScore()).isCloseTo(94.0, within(1e-9));
+        assertThat(best.contributions()).extracting(GapContribution::competencyId)
+                .containsExactly(leadershipId, analysisId);
+        assertThat(best.contributions().stream().mapToDouble(GapContribution::contribution).sum())
+                .isCloseTo(best.fitScore(), within(1e-9));
+        assertThat(ranking.get().candidates().get(1).contributions().get(1).candidateScore()).isNull();
+        verifyNoInteractions(aggregationService);
+    }
+
+    @Test
+    @DisplayName("Should load candidates given by clerk ID with a single query")
+    void shouldLoadClerkCandidatesOnce() {
+        // Given
+        givenTeamWithGaps(leadershipId);
+        when(aggregationService.latestCompetencyScoresByClerkUserId(Set.of("clerk_1", "clerk_2")))
+                .thenReturn(Map.of("clerk_2", Map.of(leadershipId, 5.0)));
+
+        // When
+        Ranking ranking = rankingService.rankCandidates(teamId,
+                List.of(new Candidate("external", Map.of(leadershipId, 3.0))),
+                List.of("clerk_1", "clerk_2", "clerk_1")).orElseThrow();
+
+        // Then - clerk_1 has no results and fills no gap
+        assertThat(ranking.candidates()).extracting(RankedCandidate::candidateId)
+                .containsExactly("clerk_2", "external", "clerk_1");
+        assertThat(ranking.candidates().get(2).fitScore()).isEqualTo(TeamFitScorer.NO_GAP_FILLED_SCORE);
+        verify(aggregationService, times(1)).latestCompetencyScoresByClerkUserId(any());
+    }
+
+    @Test
+    @DisplayName("Should score a large shortlist exactly like single-candidate fit scores")
+    void shouldMatchSingleCandidateScores() {
+        // Given
+        TeamFitScorer scorer = TeamFitScorer.forProfile(givenTeamWithGaps(leadershipId, analysisId));
+        Random random = new Random(42);
+        List<Candidate> candidates = IntStream.range(0, 500)
+                .mapToObj(i -> new Candidate("candidate-" + i, Map.of(
+                        leadershipId, 1.0 + random.nextInt(5),
+                        analysisId, 1.0 + random.nextInt(5))))
+                .toList();
+
+        // When
+        Ranking ranking = rankingService.rankCandidates(teamId, candidates, List.of()).orElseThrow();
+
+        // Then
+        assertThat(ranking.candidates()).hasSize(500);
+        Map<String, Map<UUID, Double>> scoresById = new HashMap<>();
+        candidates.forEach(c -> scoresById.put(c.candidateId(), c.competencyScores()));
+        double previous = Double.MAX_VALUE;
+        for (RankedCandidate candidate : ranking.candidates()) {
+            assertThat(candidate.fitScore()).isEqualTo(scorer.score(scoresById.get(candidate.candidateId())));
+            assertThat(candidate.fitScore()).isLessThanOrEqualTo(previous);
+            previous = candidate.fitScore();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return empty when the team has no profile")
+    void shouldReturnEmptyWithoutProfile() {
+        when(teamService.getTeamProfile(teamId)).thenReturn(Optional.empty());
+
+        assertThat(rankingService.rankCandidates(teamId, List.of(), List.of("clerk_1"))).isEmpty();
+        verifyNoInteractions(aggregationService);
+    }
+
+    @Test
+    @DisplayName("Should reject more than max-candidates candidates")
+    void shouldRejectOversizedShortlist() {
+        List<String> clerkUserIds = IntStream.range(0, MAX_CANDIDATES + 1).mapToObj(i -> "clerk_" + i).toList();
+
+        assertThatThrownBy(() -> rankingService.rankCandidates(teamId, List.of(), clerkUserIds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(MAX_CANDIDATES));
+        verifyNoInteractions(teamService, aggregationService);
+    }
+}
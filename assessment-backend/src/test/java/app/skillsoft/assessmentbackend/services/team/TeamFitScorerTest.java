@@ -0,0 +1,88 @@
+package app.skillsoft.assessmentbackend.services.team;
+
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for TeamFitScorer.
+ *
+ * Tests cover:
+ * - Neutral and flat scores for teams without gaps and candidates filling none
+ * - Fill and coverage weighting of filled gaps
+ * - Per-gap contributions adding up to the score
+ */
+@DisplayName("TeamFitScorer Tests")
+class TeamFitScorerTest {
+
+    private UUID leadershipId;
+    private UUID analysisId;
+    private TeamFitScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        leadershipId = UUID.randomUUID();
+        analysisId = UUID.randomUUID();
+        scorer = scorerFor(List.of(leadershipId, analysisId));
+    }
+
+    private static TeamFitScorer scorerFor(List<UUID> gaps) {
+        return TeamFitScorer.forProfile(new TeamProfile(UUID.randomUUID(), "Team / Команда",
+                List.of(), Map.of(), Map.of(), gaps));
+    }
+
+    @Test
+    @DisplayName("Should give a neutral score when the team has no gaps")
+    void shouldGiveNeutralScoreWithoutGaps() {
+        assertThat(scorerFor(List.of()).score(Map.of(leadershipId, 5.0))).isEqualTo(TeamFitScorer.NEUTRAL_SCORE);
+    }
+
+    @Test
+    @DisplayName("Should give a flat score when no gap is filled")
+    void shouldGiveFlatScoreWhenNoGapFilled() {
+        assertThat(scorer.score(Map.of(leadershipId, 2.9))).isEqualTo(TeamFitScorer.NO_GAP_FILLED_SCORE);
+        assertThat(scorer.score(Map.of())).isEqualTo(TeamFitScorer.NO_GAP_FILLED_SCORE);
+    }
+
+    @Test
+    @DisplayName("Should weight the average fill and the share of gaps filled")
+    void shouldWeightFillAndCoverage() {
+        // One of two gaps filled at 4.0: fill 80 * 0.6 + 0.5 * 40
+        assertThat(scorer.score(Map.of(leadershipId, 4.0, analysisId, 1.0))).isCloseTo(68.0, within(1e-9));
+
+        // Both gaps filled: average fill 90 * 0.6 + 1.0 * 40
+        assertThat(scorer.score(Map.of(leadershipId, 4.0, analysisId, 5.0))).isCloseTo(94.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should split each score into per-gap contributions that add up to it")
+    void shouldSplitScoreIntoContributions() {
+        // Given
+        List<Map<UUID, Double>> candidates = List.of(
+                Map.of(leadershipId, 4.0, analysisId, 5.0),
+                Map.of(leadershipId, 3.0),
+                Map.of(analysisId, 1.0));
+        double[] matrix = scorer.toMatrix(candidates);
+        double[] contributions = new double[matrix.length];
+
+        // When
+        double[] scores = scorer.scores(matrix, candidates.size(), contributions);
+
+        // Then
+        assertThat(scores[0]).isCloseTo(94.0, within(1e-9));
+        assertThat(contributions[0] + contributions[1]).isCloseTo(scores[0], within(1e-9));
+        assertThat(contributions[2]).isCloseTo(scores[1], within(1e-9));
+        assertThat(contributions[3]).isZero();
+        assertThat(scores[2]).isEqualTo(TeamFitScorer.NO_GAP_FILLED_SCORE);
+        assertThat(Arrays.copyOfRange(contributions, 4, 6)).containsOnly(0.0);
+    }
+}
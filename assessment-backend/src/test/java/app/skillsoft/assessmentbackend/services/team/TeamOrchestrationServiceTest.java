@@ -2,6 +2,7 @@ package app.skillsoft.assessmentbackend.services.team;
 
 import app.skillsoft.assessmentbackend.domain.dto.team.*;
 import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.events.team.TeamMembershipChangedEvent;
 import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
 import app.skillsoft.assessmentbackend.repository.TeamRepository;
 import app.skillsoft.assessmentbackend.repository.UserRepository;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.HashSet;
 import java.util.List;
@@ -50,6 +52,9 @@ class TeamOrchestrationServiceTest extends BaseUnitTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TeamOrchestrationServiceImpl orchestrationService;
 
@@ -498,6 +503,8 @@ class TeamOrchestrationServiceTest extends BaseUnitTest {
             assertThat(result.hasErrors()).isFalse();
 
             verify(teamMemberRepository, times(2)).save(any(TeamMember.class));
+            verify(eventPublisher).publishEvent(TeamMembershipChangedEvent.memberAdded(team.getId(), member1.getId()));
+            verify(eventPublisher).publishEvent(TeamMembershipChangedEvent.memberAdded(team.getId(), member2.getId()));
         }
 
         @Test
@@ -1092,6 +1099,7 @@ class TeamOrchestrationServiceTest extends BaseUnitTest {
             verify(teamMemberRepository, times(2)).save(any(TeamMember.class));
             assertThat(tm1.isActive()).isFalse();
             assertThat(tm2.isActive()).isFalse();
+            verify(eventPublisher).publishEvent(TeamMembershipChangedEvent.teamChanged(team.getId(), "team archived"));
         }
 
         @Test
@@ -21,7 +21,7 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 /**
@@ -66,10 +66,21 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
     private UUID competency2Id;
     private UUID competency3Id;
 
+    // Stored results served by the team-wide result query, newest first per member
+    private final List<TestResult> storedResults = new ArrayList<>();
+
     @BeforeEach
     void setUp() {
         TestDataFactory.resetCounter();
 
+        lenient().when(testResultRepository.findLatestCompletedByClerkUserIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<String> clerkUserIds = invocation.getArgument(0);
+                    return storedResults.stream()
+                            .filter(result -> clerkUserIds.contains(result.getClerkUserId()))
+                            .toList();
+                });
+
         // Create test users with bilingual names (EN/RU)
         leader = TestDataFactory.createUser(UserRole.USER);
         leader.setId(UUID.randomUUID());
@@ -229,8 +240,6 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
             when(teamMemberRepository.findByTeamIdAndIsActiveTrue(teamId)).thenReturn(members);
 
             // No test results for any member
-            when(testResultRepository.findByClerkUserIdOrderByCompletedAtDesc(anyString()))
-                    .thenReturn(List.of());
 
             // When
             Optional<TeamProfile> result = aggregationService.computeTeamProfile(teamId);
@@ -246,6 +255,31 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
             });
         }
 
+        @Test
+        @DisplayName("should load the results of all members with a single query")
+        void shouldLoadResultsOfAllMembersWithSingleQuery() {
+            // Given
+            setupActiveTeam();
+            List<TeamMember> members = createActiveMembers();
+            when(teamRepository.findById(teamId)).thenReturn(Optional.of(team));
+            when(teamMemberRepository.findByTeamIdAndIsActiveTrue(teamId)).thenReturn(members);
+
+            setupTestResultsForMember(leader.getClerkId(), List.of(
+                    createCompetencyScore(competency1Id, "Leadership / Лидерство", 80.0)
+            ), null);
+            setupTestResultsForMember(member1.getClerkId(), List.of(
+                    createCompetencyScore(competency1Id, "Leadership / Лидерство", 60.0)
+            ), null);
+
+            // When
+            aggregationService.computeTeamProfile(teamId);
+
+            // Then
+            verify(testResultRepository, times(1)).findLatestCompletedByClerkUserIds(
+                    Set.of(leader.getClerkId(), member1.getClerkId()));
+            verify(testResultRepository, never()).findByClerkUserIdOrderByCompletedAtDesc(any());
+        }
+
         @Test
         @DisplayName("should include team name in bilingual format")
         void shouldIncludeTeamNameInBilingualFormat() {
@@ -605,17 +639,13 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
             when(teamMemberRepository.findByTeamIdAndIsActiveTrue(teamId)).thenReturn(members);
 
             // Create multiple test results (first is latest due to DESC ordering)
-            List<TestResultWithRecordScores> results = new ArrayList<>();
-            results.add(createTestResult(leader.getClerkId(),
+            storedResults.add(createTestResult(leader.getClerkId(),
                     List.of(createCompetencyScore(competency1Id, "Latest / Последний", 90.0)),
                     LocalDateTime.now()));
-            results.add(createTestResult(leader.getClerkId(),
+            storedResults.add(createTestResult(leader.getClerkId(),
                     List.of(createCompetencyScore(competency1Id, "Older / Старый", 60.0)),
                     LocalDateTime.now().minusDays(7)));
 
-            when(testResultRepository.findByClerkUserIdOrderByCompletedAtDesc(leader.getClerkId()))
-                    .thenReturn(List.copyOf(results));
-
             // When
             Optional<TeamProfile> result = aggregationService.computeTeamProfile(teamId);
 
@@ -726,9 +756,9 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
             when(teamMemberRepository.findByTeamIdAndIsActiveTrue(teamId)).thenReturn(members);
 
             // Create result with null competency scores
-            TestResultWithRecordScores resultWithNull = createTestResult(leader.getClerkId(), null, LocalDateTime.now());
-            when(testResultRepository.findByClerkUserIdOrderByCompletedAtDesc(leader.getClerkId()))
-                    .thenReturn(List.of(resultWithNull));
+            TestResult resultWithNull = createTestResult(leader.getClerkId(), null, LocalDateTime.now());
+            resultWithNull.setCompetencyScores(null);
+            storedResults.add(resultWithNull);
 
             // When
             Optional<TeamProfile> result = aggregationService.computeTeamProfile(teamId);
@@ -821,21 +851,17 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
 
             // First result (latest) has comp1 and comp2
             // Second result (older) has comp2 and comp3
-            List<TestResultWithRecordScores> results = new ArrayList<>();
-            results.add(createTestResult(leader.getClerkId(),
+            storedResults.add(createTestResult(leader.getClerkId(),
                     List.of(
                             createCompetencyScore(competency1Id, "New1 / Новый1", 90.0),
                             createCompetencyScore(competency2Id, "New2 / Новый2", 85.0)
                     ), LocalDateTime.now()));
-            results.add(createTestResult(leader.getClerkId(),
+            storedResults.add(createTestResult(leader.getClerkId(),
                     List.of(
                             createCompetencyScore(competency2Id, "Old2 / Старый2", 70.0),
                             createCompetencyScore(competency3Id, "Old3 / Старый3", 75.0)
                     ), LocalDateTime.now().minusDays(30)));
 
-            when(testResultRepository.findByClerkUserIdOrderByCompletedAtDesc(leader.getClerkId()))
-                    .thenReturn(List.copyOf(results));
-
             // When
             Optional<TeamProfile> result = aggregationService.computeTeamProfile(teamId);
 
@@ -982,15 +1008,8 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
         return List.of(leaderMember);
     }
 
-    /**
-     * Record-style competency score that matches the reflection-based extraction in
-     * TeamProfileAggregationService. The service calls competencyId() and percentage()
-     * methods using reflection, so this record provides those accessor methods.
-     */
-    record CompetencyScoreRecord(UUID competencyId, String competencyName, Double percentage) {}
-
-    private CompetencyScoreRecord createCompetencyScore(UUID competencyId, String name, Double percentage) {
-        return new CompetencyScoreRecord(competencyId, name, percentage);
+    private CompetencyScoreDto createCompetencyScore(UUID competencyId, String name, Double percentage) {
+        return new CompetencyScoreDto(competencyId, name, percentage, 100.0, percentage);
     }
 
     private Map<String, Double> createBigFiveProfile(Double openness, Double conscientiousness,
@@ -1005,66 +1024,22 @@ class TeamProfileAggregationServiceTest extends BaseUnitTest {
         return profile;
     }
 
-    private void setupTestResultsForMember(String clerkUserId, List<CompetencyScoreRecord> competencyScores,
+    private void setupTestResultsForMember(String clerkUserId, List<CompetencyScoreDto> competencyScores,
                                            Map<String, Double> bigFiveProfile) {
-        TestResultWithRecordScores result = createTestResult(clerkUserId, competencyScores, LocalDateTime.now());
+        TestResult result = createTestResult(clerkUserId, competencyScores, LocalDateTime.now());
         result.setBigFiveProfile(bigFiveProfile);
-        when(testResultRepository.findByClerkUserIdOrderByCompletedAtDesc(clerkUserId))
-                .thenReturn(List.of(result));
+        storedResults.add(result);
     }
 
-    private TestResultWithRecordScores createTestResult(String clerkUserId, List<CompetencyScoreRecord> competencyScores,
-                                                         LocalDateTime completedAt) {
-        TestResultWithRecordScores result = new TestResultWithRecordScores();
+    private TestResult createTestResult(String clerkUserId, List<CompetencyScoreDto> competencyScores,
+                                        LocalDateTime completedAt) {
+        TestResult result = new TestResult();
         result.setId(UUID.randomUUID());
         result.setClerkUserId(clerkUserId);
-        result.setRecordScores(competencyScores != null ? competencyScores : new ArrayList<>());
+        result.setCompetencyScores(competencyScores != null ? new ArrayList<>(competencyScores) : new ArrayList<>());
         result.setCompletedAt(completedAt);
         result.setOverallPercentage(75.0);
         result.setPassed(true);
         return result;
     }
-
-    /**
-     * Test-specific extension of TestResult that holds CompetencyScoreRecord objects
-     * for compatibility with the service's reflection-based extraction.
-     *
-     * The service uses reflection to:
-     * 1. Call getCompetencyScores() on TestResult
-     * 2. Call competencyId() and percentage() on each score object
-     *
-     * Since getCompetencyScores() is declared to return List<CompetencyScoreDto>,
-     * but CompetencyScoreDto uses getter methods (getCompetencyId()) not record methods,
-     * the reflection fails. This class returns records disguised as raw objects.
-     */
-    static class TestResultWithRecordScores extends TestResult {
-        private List<CompetencyScoreRecord> recordScores = new ArrayList<>();
-        private Map<String, Double> bigFive;
-
-        public void setRecordScores(List<CompetencyScoreRecord> scores) {
-            this.recordScores = scores != null ? scores : new ArrayList<>();
-        }
-
-        /**
-         * Override to return the record-based scores for reflection.
-         * Note: Returns Object list cast for reflection compatibility.
-         * The actual return type erasure allows the records to be accessed
-         * via reflection calls to competencyId() and percentage().
-         */
-        @Override
-        @SuppressWarnings({"rawtypes", "unchecked"})
-        public List getCompetencyScores() {
-            return (List) recordScores;
-        }
-
-        @Override
-        public void setBigFiveProfile(Map<String, Double> bigFiveProfile) {
-            this.bigFive = bigFiveProfile;
-        }
-
-        @Override
-        public Map<String, Double> getBigFiveProfile() {
-            return bigFive;
-        }
-    }
 }
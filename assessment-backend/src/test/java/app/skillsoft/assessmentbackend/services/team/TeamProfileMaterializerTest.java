@@ -0,0 +1,244 @@
+package app.skillsoft.assessmentbackend.services.team;
+
+import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.domain.entities.TeamProfileSnapshot.Member;
+import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
+import app.skillsoft.assessmentbackend.repository.TeamProfileSnapshotRepository;
+import app.skillsoft.assessmentbackend.repository.UserRepository;
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamMemberProfile;
+import app.skillsoft.assessmentbackend.services.external.TeamService.TeamProfile;
+import app.skillsoft.assessmentbackend.testutils.BaseUnitTest;
+import app.skillsoft.assessmentbackend.testutils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TeamProfileMaterializer.
+ *
+ * Tests cover:
+ * - Deriving saturation, gaps and trait averages from stored sums
+ * - Building a missing snapshot once and dropping it for inactive teams
+ * - Patching one member's contribution without recomputing the team
+ * - Current member names instead of the names stored with the snapshot
+ */
+@DisplayName("TeamProfileMaterializer Tests")
+class TeamProfileMaterializerTest extends BaseUnitTest {
+
+    @Mock
+    private TeamProfileSnapshotRepository snapshotRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private TeamProfileAggregationService aggregationService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TeamProfileMaterializer materializer;
+
+    private UUID teamId;
+    private UUID leadershipId;
+    private UUID analysisId;
+    private UUID alexeyId;
+    private UUID mariaId;
+
+    @BeforeEach
+    void setUp() {
+        teamId = UUID.randomUUID();
+        leadershipId = UUID.randomUUID();
+        analysisId = UUID.randomUUID();
+        alexeyId = UUID.randomUUID();
+        mariaId = UUID.randomUUID();
+    }
+
+    private Member alexey(double leadership) {
+        return new Member(alexeyId, "Alexey / Алексей", "Member",
+                Map.of(leadershipId, leadership, analysisId, 1.0),
+                Map.of("OPENNESS", 80.0));
+    }
+
+    private Member maria() {
+        return new Member(mariaId, "Maria / Мария", "Leader",
+                Map.of(leadershipId, 3.0),
+                Map.of("OPENNESS", 60.0, "CONSCIENTIOUSNESS", 70.0));
+    }
+
+    private TeamProfileSnapshot snapshot(Member... members) {
+        TeamProfileSnapshot snapshot = new TeamProfileSnapshot(teamId);
+        snapshot.reset("Development Team / Команда разработки", List.of(members));
+        return snapshot;
+    }
+
+    private static TeamMemberProfile toProfile(Member member) {
+        return new TeamMemberProfile(member.userId(), member.name(), member.role(),
+                member.competencyScores(), member.personalityTraits());
+    }
+
+    @Nested
+    @DisplayName("Load Tests")
+    class LoadTests {
+
+        @Test
+        @DisplayName("Should derive the profile from the stored sums without recomputing")
+        void shouldDeriveProfileFromSnapshot() {
+            // Given
+            when(snapshotRepository.findById(teamId)).thenReturn(Optional.of(snapshot(alexey(4.0), maria())));
+
+            // When
+            Optional<TeamProfile> profile = materializer.load(teamId);
+
+            // Then - saturation = score sum / (team size * 5)
+            assertThat(profile).isPresent();
+            assertThat(profile.get().teamName()).isEqualTo("Development Team / Команда разработки");
+            assertThat(profile.get().members()).extracting(TeamMemberProfile::userId)
+                    .containsExactly(alexeyId, mariaId);
+            assertThat(profile.get().competencySaturation().get(leadershipId)).isCloseTo(0.7, within(1e-9));
+            assertThat(profile.get().competencySaturation().get(analysisId)).isCloseTo(0.1, within(1e-9));
+            assertThat(profile.get().skillGaps()).containsExactly(analysisId);
+            assertThat(profile.get().averagePersonality())
+                    .containsEntry("OPENNESS", 70.0)
+                    .containsEntry("CONSCIENTIOUSNESS", 70.0);
+            verifyNoInteractions(aggregationService);
+        }
+
+        @Test
+        @DisplayName("Should show the current name of a renamed member")
+        void shouldShowCurrentMemberNames() {
+            // Given
+            User renamed = TestDataFactory.createUser(UserRole.USER);
+            renamed.setId(alexeyId);
+            renamed.setFirstName("Alexei");
+            renamed.setLastName("Petrov");
+            when(snapshotRepository.findById(teamId)).thenReturn(Optional.of(snapshot(alexey(4.0), maria())));
+            when(userRepository.findAllById(List.of(alexeyId, mariaId))).thenReturn(List.of(renamed));
+
+            // When
+            TeamProfile profile = materializer.load(teamId).orElseThrow();
+
+            // Then - members without a user keep the stored name
+            assertThat(profile.members()).extracting(TeamMemberProfile::name)
+                    .containsExactly("Alexei Petrov", "Maria / Мария");
+        }
+
+        @Test
+        @DisplayName("Should build and save a missing snapshot")
+        void shouldBuildMissingSnapshot() {
+            // Given
+            when(snapshotRepository.findById(teamId)).thenReturn(Optional.empty());
+            when(aggregationService.computeTeamProfile(teamId)).thenReturn(Optional.of(new TeamProfile(
+                    teamId, "Development Team / Команда разработки",
+                    List.of(toProfile(alexey(4.0)), toProfile(maria())),
+                    Map.of(), Map.of(), List.of())));
+
+            // When
+            Optional<TeamProfile> profile = materializer.load(teamId);
+
+            // Then
+            ArgumentCaptor<TeamProfileSnapshot> saved = ArgumentCaptor.forClass(TeamProfileSnapshot.class);
+            verify(snapshotRepository).save(saved.capture());
+            assertThat(saved.getValue().getMemberCount()).isEqualTo(2);
+            assertThat(saved.getValue().getCompetencyStats().get(leadershipId))
+                    .isEqualTo(new TeamProfileSnapshot.Stat(2, 7.0));
+            assertThat(profile).isPresent();
+            assertThat(profile.get().competencySaturation().get(leadershipId)).isCloseTo(0.7, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("Should drop the snapshot of a team that is not active")
+        void shouldDropSnapshotOfInactiveTeam() {
+            // Given
+            when(aggregationService.computeTeamProfile(teamId)).thenReturn(Optional.empty());
+
+            // When
+            Optional<TeamProfile> profile = materializer.rebuild(teamId);
+
+            // Then
+            assertThat(profile).isEmpty();
+            verify(snapshotRepository).deleteById(teamId);
+            verify(snapshotRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh Member Tests")
+    class RefreshMemberTests {
+
+        @Test
+        @DisplayName("Should replace the contribution of a rescored member only")
+        void shouldReplaceMemberContribution() {
+            // Given
+            TeamProfileSnapshot snapshot = snapshot(alexey(4.0), maria());
+            User user = TestDataFactory.createUser(UserRole.USER);
+            user.setId(alexeyId);
+            TeamMember member = new TeamMember(new Team(), user, TeamMemberRole.MEMBER);
+            when(snapshotRepository.findById(teamId)).thenReturn(Optional.of(snapshot));
+            when(teamMemberRepository.findByTeamIdAndUserId(teamId, alexeyId)).thenReturn(Optional.of(member));
+            when(aggregationService.computeMemberProfile(member)).thenReturn(toProfile(alexey(5.0)));
+            when(snapshotRepository.save(snapshot)).thenReturn(snapshot);
+
+            // When
+            Optional<TeamProfile> profile = materializer.refreshMember(teamId, alexeyId);
+
+            // Then
+            assertThat(snapshot.getMemberCount()).isEqualTo(2);
+            assertThat(snapshot.getCompetencyStats().get(leadershipId))
+                    .isEqualTo(new TeamProfileSnapshot.Stat(2, 8.0));
+            assertThat(profile).isPresent();
+            assertThat(profile.get().competencySaturation().get(leadershipId)).isCloseTo(0.8, within(1e-9));
+            verify(aggregationService, never()).computeTeamProfile(any());
+        }
+
+        @Test
+        @DisplayName("Should remove the contribution of a member who left")
+        void shouldRemoveMemberWhoLeft() {
+            // Given
+            TeamProfileSnapshot snapshot = snapshot(alexey(4.0), maria());
+            when(snapshotRepository.findById(teamId)).thenReturn(Optional.of(snapshot));
+            when(teamMemberRepository.findByTeamIdAndUserId(teamId, alexeyId)).thenReturn(Optional.empty());
+            when(snapshotRepository.save(snapshot)).thenReturn(snapshot);
+
+            // When
+            Optional<TeamProfile> profile = materializer.refreshMember(teamId, alexeyId);
+
+            // Then - stats without contributing members are dropped
+            assertThat(snapshot.getMembers()).extracting(Member::userId).containsExactly(mariaId);
+            assertThat(snapshot.getCompetencyStats()).containsOnlyKeys(leadershipId);
+            assertThat(profile.get().competencySaturation().get(leadershipId)).isCloseTo(0.6, within(1e-9));
+            assertThat(profile.get().averagePersonality()).containsEntry("OPENNESS", 60.0);
+        }
+
+        @Test
+        @DisplayName("Should build the snapshot when the team has none yet")
+        void shouldBuildSnapshotWhenMissing() {
+            // Given
+            when(snapshotRepository.findById(teamId)).thenReturn(Optional.empty());
+            when(aggregationService.computeTeamProfile(teamId)).thenReturn(Optional.empty());
+
+            // When
+            Optional<TeamProfile> profile = materializer.refreshMember(teamId, alexeyId);
+
+            // Then
+            assertThat(profile).isEmpty();
+            verify(aggregationService, never()).computeMemberProfile(any());
+            verifyNoInteractions(teamMemberRepository);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package app.skillsoft.assessmentbackend.services.team;
 
 import app.skillsoft.assessmentbackend.domain.dto.team.*;
 import app.skillsoft.assessmentbackend.domain.entities.*;
+import app.skillsoft.assessmentbackend.events.team.TeamMembershipChangedEvent;
 import app.skillsoft.assessmentbackend.repository.TeamMemberRepository;
 import app.skillsoft.assessmentbackend.repository.TeamRepository;
 import app.skillsoft.assessmentbackend.testutils.BaseUnitTest;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -55,6 +57,9 @@ class TeamQueryServiceTest extends BaseUnitTest {
     @Mock
     private TeamMapper teamMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TeamQueryServiceImpl queryService;
 
@@ -749,6 +754,7 @@ class TeamQueryServiceTest extends BaseUnitTest {
             assertThat(teamMember2.isActive()).isFalse();
             assertThat(teamMember2.getLeftAt()).isNotNull();
             verify(teamMemberRepository).save(teamMember2);
+            verify(eventPublisher).publishEvent(TeamMembershipChangedEvent.memberRemoved(team.getId(), member2.getId()));
         }
 
         @Test
@@ -782,6 +788,7 @@ class TeamQueryServiceTest extends BaseUnitTest {
             // Then
             assertThat(result).isFalse();
             verify(teamMemberRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -17,6 +17,7 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.*;
  * - Selection priority: ACTIVE > PROBATION > FLAGGED > never RETIRED
  * - Probation percentage limiting (20% cap by default)
  * - isEligibleForAssembly() behavior
+ * - Batch eligibility (eligibleSubset, getValidityStatuses, per-competency counts)
  * - getAvailabilitySummary() counts per status
  * - hasSufficientQuestions() logic
  * - Missing statistics defaults to PROBATION status
@@ -883,6 +885,123 @@ class PsychometricBlueprintValidatorTest {
         }
     }
 
+    // ================================================================================
+    // Batch Eligibility Tests
+    // ================================================================================
+
+    @Nested
+    @DisplayName("Batch eligibility (eligibleSubset / getValidityStatuses)")
+    class BatchEligibilityTests {
+
+        @Test
+        @DisplayName("should resolve all questions with a single query")
+        void shouldResolveWithSingleQuery() {
+            // Given - q1 ACTIVE, q2 RETIRED, q3 without stats, q4 inactive (not returned)
+            List<UUID> ids = List.of(questionId1, questionId2, questionId3, questionId4);
+            when(questionRepository.findActiveValidityStatusesByIds(anyCollection())).thenReturn(List.of(
+                new Object[]{questionId1, ItemValidityStatus.ACTIVE},
+                new Object[]{questionId2, ItemValidityStatus.RETIRED},
+                new Object[]{questionId3, null}
+            ));
+
+            // When
+            Set<UUID> result = validator.eligibleSubset(ids);
+
+            // Then
+            assertThat(result).containsExactly(questionId1, questionId3);
+            verify(questionRepository, times(1)).findActiveValidityStatusesByIds(anyCollection());
+            verify(questionRepository, never()).findById(any());
+            verifyNoInteractions(itemStatsRepository);
+        }
+
+        @Test
+        @DisplayName("should report missing statistics as PROBATION in status map")
+        void shouldReportMissingStatsAsProbation() {
+            // Given
+            when(questionRepository.findActiveValidityStatusesByIds(anyCollection())).thenReturn(List.of(
+                new Object[]{questionId1, ItemValidityStatus.FLAGGED_FOR_REVIEW},
+                new Object[]{questionId2, null}
+            ));
+
+            // When
+            Map<UUID, ItemValidityStatus> statuses =
+                validator.getValidityStatuses(List.of(questionId1, questionId2, questionId5));
+
+            // Then
+            assertThat(statuses)
+                .hasSize(2)
+                .containsEntry(questionId1, ItemValidityStatus.FLAGGED_FOR_REVIEW)
+                .containsEntry(questionId2, ItemValidityStatus.PROBATION)
+                .doesNotContainKey(questionId5);
+        }
+
+        @Test
+        @DisplayName("should keep RETIRED questions when psychometrics disabled")
+        void shouldKeepRetiredWhenPsychometricsDisabled() {
+            // Given
+            ReflectionTestUtils.setField(validator, "psychometricsEnabled", false);
+            when(questionRepository.findActiveValidityStatusesByIds(anyCollection())).thenReturn(List.<Object[]>of(
+                new Object[]{questionId1, ItemValidityStatus.RETIRED}
+            ));
+
+            // When
+            Set<UUID> result = validator.eligibleSubset(List.of(questionId1));
+
+            // Then
+            assertThat(result).containsExactly(questionId1);
+        }
+
+        @Test
+        @DisplayName("should return empty without querying for empty input")
+        void shouldReturnEmptyForEmptyInput() {
+            assertThat(validator.eligibleSubset(List.of())).isEmpty();
+            assertThat(validator.getValidityStatuses(null)).isEmpty();
+            verifyNoInteractions(questionRepository);
+        }
+
+        @Test
+        @DisplayName("should chunk very large inputs")
+        void shouldChunkLargeInputs() {
+            // Given
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 2500; i++) {
+                ids.add(UUID.randomUUID());
+            }
+            when(questionRepository.findActiveValidityStatusesByIds(anyCollection())).thenReturn(List.of());
+
+            // When
+            validator.eligibleSubset(ids);
+
+            // Then
+            verify(questionRepository, times(3)).findActiveValidityStatusesByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("should count eligible questions per competency excluding RETIRED")
+        void shouldCountEligiblePerCompetency() {
+            // Given
+            UUID competencyA = UUID.randomUUID();
+            UUID competencyB = UUID.randomUUID();
+            UUID competencyC = UUID.randomUUID();
+            when(questionRepository.countActiveQuestionsByCompetencyAndValidityStatus(anyCollection())).thenReturn(List.of(
+                new Object[]{competencyA, ItemValidityStatus.ACTIVE, 4L},
+                new Object[]{competencyA, null, 2L},
+                new Object[]{competencyA, ItemValidityStatus.RETIRED, 3L},
+                new Object[]{competencyB, ItemValidityStatus.RETIRED, 5L}
+            ));
+
+            // When
+            Map<UUID, Integer> counts =
+                validator.getEligibleCountsByCompetency(List.of(competencyA, competencyB, competencyC));
+
+            // Then
+            assertThat(counts)
+                .containsEntry(competencyA, 6)
+                .containsEntry(competencyB, 0)
+                .containsEntry(competencyC, 0);
+        }
+    }
+
     // ================================================================================
     // Missing Statistics Tests (Default to PROBATION)
     // ================================================================================